@@ -0,0 +1,134 @@
+package co.edu.uco.backend.benchmark;
+
+import co.edu.uco.backend.businesslogic.assembler.cancha.dto.CanchaDTOAssembler;
+import co.edu.uco.backend.businesslogic.assembler.cancha.entity.CanchaEntityAssembler;
+import co.edu.uco.backend.businesslogic.assembler.cliente.dto.ClienteDTOAssembler;
+import co.edu.uco.backend.businesslogic.assembler.cliente.entity.ClienteEntityAssembler;
+import co.edu.uco.backend.businesslogic.assembler.reserva.dto.ReservaDTOAssembler;
+import co.edu.uco.backend.businesslogic.assembler.reserva.entity.ReservaEntityAssembler;
+import co.edu.uco.backend.crosscutting.constants.DiaSemana;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.dto.CanchaDTO;
+import co.edu.uco.backend.dto.ClienteDTO;
+import co.edu.uco.backend.dto.DepartamentoDTO;
+import co.edu.uco.backend.dto.DimensionDTO;
+import co.edu.uco.backend.dto.EstadoReservaDTO;
+import co.edu.uco.backend.dto.EstadoVerificacionDTO;
+import co.edu.uco.backend.dto.HorarioDisponibleDTO;
+import co.edu.uco.backend.dto.HorarioEspecialDTO;
+import co.edu.uco.backend.dto.MunicipioDTO;
+import co.edu.uco.backend.dto.OrganizacionDeportivaDTO;
+import co.edu.uco.backend.dto.ReservaDTO;
+import co.edu.uco.backend.dto.SuperficieDTO;
+import co.edu.uco.backend.dto.TipoCanchaDTO;
+import co.edu.uco.backend.dto.UbicacionPrecisaDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ida y vuelta por los assemblers tal como la hacen fachada y lógica de negocio:
+ * DTO → Domain → Entity (registrar) y Entity → Domain → DTO (consultar). La cancha es el grafo
+ * más profundo: tipo, dimensión, superficie, ubicación con municipio y departamento, organización
+ * y sus horarios. El listado mide una página de canchas completa.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssemblerBenchmark {
+
+    // Tamaño del listado; 50 es Paginacion.LIMITE_DEFECTO
+    @Param({"50"})
+    public int canchasPorPagina;
+
+    private CanchaDTO cancha;
+    private ClienteDTO cliente;
+    private ReservaDTO reserva;
+    private List<CanchaDTO> pagina;
+
+    @Setup(Level.Trial)
+    public void prepararGrafos() {
+        cancha = nuevaCancha();
+        cliente = new ClienteDTO(UtilUUID.generarNuevoUUID(), "Laura Gómez", "lgomez", "clave-segura-123", "+57", "3001234567");
+        reserva = new ReservaDTO(UtilUUID.generarNuevoUUID(), cliente, cancha, LocalDate.now(), LocalDate.now().plusDays(3),
+                LocalTime.of(18, 0), LocalTime.of(19, 0), new EstadoReservaDTO(UtilUUID.generarNuevoUUID(), "pendiente"));
+        pagina = new ArrayList<>(canchasPorPagina);
+        for (var i = 0; i < canchasPorPagina; i++) {
+            pagina.add(nuevaCancha());
+        }
+    }
+
+    @Benchmark
+    public CanchaDTO canchaRegistrarYConsultar() {
+        var domain = CanchaDTOAssembler.getInstance().toDomain(cancha);
+        var entity = CanchaEntityAssembler.getInstance().toEntity(domain);
+        return CanchaDTOAssembler.getInstance().toDTO(CanchaEntityAssembler.getInstance().toDomain(entity));
+    }
+
+    @Benchmark
+    public ClienteDTO clienteRegistrarYConsultar() {
+        var domain = ClienteDTOAssembler.getInstance().toDomain(cliente);
+        var entity = ClienteEntityAssembler.getInstance().toEntity(domain);
+        return ClienteDTOAssembler.getInstance().toDTO(ClienteEntityAssembler.getInstance().toDomain(entity));
+    }
+
+    @Benchmark
+    public ReservaDTO reservaRegistrarYConsultar() {
+        var domain = ReservaDTOAssembler.getInstance().toDomain(reserva);
+        var entity = ReservaEntityAssembler.getInstance().toEntity(domain);
+        return ReservaDTOAssembler.getInstance().toDTO(ReservaEntityAssembler.getInstance().toDomain(entity));
+    }
+
+    @Benchmark
+    public List<CanchaDTO> listadoCanchas() {
+        var domains = CanchaDTOAssembler.getInstance().toDomains(pagina);
+        var entities = CanchaEntityAssembler.getInstance().toEntity(domains);
+        return CanchaDTOAssembler.getInstance().toDTOs(CanchaEntityAssembler.getInstance().toDomain(entities));
+    }
+
+    private static CanchaDTO nuevaCancha() {
+        var departamento = new DepartamentoDTO(UtilUUID.generarNuevoUUID(), "Antioquia");
+        var municipio = new MunicipioDTO(UtilUUID.generarNuevoUUID(), "Rionegro", departamento);
+        var ubicacion = new UbicacionPrecisaDTO(UtilUUID.generarNuevoUUID(), "Calle 40 # 55-20", 6.1554, -75.3737,
+                municipio, "Frente al coliseo");
+        var organizacion = new OrganizacionDeportivaDTO(UtilUUID.generarNuevoUUID(), "Club Deportivo Oriente", "cdoriente",
+                "clave-segura-123", "+57", "6045612345", "DOC-123456", "contacto@cdoriente.co", "https://cdoriente.co",
+                List.of(), List.of(), new EstadoVerificacionDTO(UtilUUID.generarNuevoUUID(), "verificada"));
+
+        var horariosDisponibles = new ArrayList<HorarioDisponibleDTO>();
+        for (DiaSemana dia : DiaSemana.values()) {
+            horariosDisponibles.add(new HorarioDisponibleDTO(UtilUUID.generarNuevoUUID(), null, dia,
+                    LocalTime.of(6, 0), LocalTime.of(23, 0)));
+        }
+        var horariosEspeciales = new ArrayList<HorarioEspecialDTO>();
+        for (var i = 0; i < 3; i++) {
+            var fecha = LocalDate.now().plusWeeks(i + 1L);
+            horariosEspeciales.add(new HorarioEspecialDTO(UtilUUID.generarNuevoUUID(), null, fecha, fecha,
+                    LocalTime.of(8, 0), LocalTime.of(12, 0), "Mantenimiento del césped"));
+        }
+
+        return new CanchaDTO(UtilUUID.generarNuevoUUID(), "Cancha sintética 1",
+                new TipoCanchaDTO(UtilUUID.generarNuevoUUID(), "Fútbol 5", "10"),
+                new DimensionDTO(UtilUUID.generarNuevoUUID(), 40.0, 20.0),
+                new SuperficieDTO(UtilUUID.generarNuevoUUID(), "Sintética"),
+                120000.0, ubicacion, organizacion, true, false, horariosDisponibles, horariosEspeciales);
+    }
+}
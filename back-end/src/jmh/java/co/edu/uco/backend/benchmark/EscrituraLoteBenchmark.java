@@ -0,0 +1,98 @@
+package co.edu.uco.backend.benchmark;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.data.dao.entity.superficie.impl.postgresql.SuperficiePostgreSQLDAO;
+import co.edu.uco.backend.entity.SuperficieEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filas por segundo que registra SuperficiePostgreSQLDAO una a una (crear) frente a en lote
+ * (crearTodos), con y sin reWriteBatchedInserts en el driver. Cada operación inserta FILAS filas
+ * en doodb.superficie y deshace la transacción, así la tabla no crece entre iteraciones.
+ * Requiere una base PostgreSQL: BENCHMARK_JDBC_URL, BENCHMARK_JDBC_USUARIO y BENCHMARK_JDBC_CLAVE.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.incluir=EscrituraLoteBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class EscrituraLoteBenchmark {
+
+    private static final int FILAS = 1000;
+
+    @Param({"false", "true"})
+    public boolean reescribirInserts;
+
+    private Connection conexion;
+    private SuperficiePostgreSQLDAO dao;
+    private List<SuperficieEntity> superficies;
+
+    @Setup(Level.Trial)
+    public void conectar() throws SQLException {
+        var propiedades = new Properties();
+        propiedades.setProperty("user", System.getenv().getOrDefault("BENCHMARK_JDBC_USUARIO", "postgres"));
+        propiedades.setProperty("password", System.getenv().getOrDefault("BENCHMARK_JDBC_CLAVE", ""));
+        propiedades.setProperty("reWriteBatchedInserts", Boolean.toString(reescribirInserts));
+        conexion = DriverManager.getConnection(
+                System.getenv().getOrDefault("BENCHMARK_JDBC_URL", "jdbc:postgresql://localhost:5432/DOODB"), propiedades);
+        conexion.setAutoCommit(false);
+        dao = new SuperficiePostgreSQLDAO(conexion);
+    }
+
+    // Identificadores nuevos en cada invocación para no medir conflictos de llave
+    @Setup(Level.Invocation)
+    public void prepararFilas() {
+        superficies = new ArrayList<>(FILAS);
+        for (var i = 0; i < FILAS; i++) {
+            var id = UtilUUID.generarNuevoUUIDOrdenado();
+            superficies.add(new SuperficieEntity(id, "Superficie " + id));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILAS)
+    public void crearUnaAUna() throws BackEndException, SQLException {
+        for (var superficie : superficies) {
+            dao.crear(superficie);
+        }
+        conexion.rollback();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILAS)
+    public void crearEnLote() throws BackEndException, SQLException {
+        dao.crearTodos(superficies);
+        conexion.rollback();
+    }
+
+    @TearDown(Level.Trial)
+    public void desconectar() throws SQLException {
+        conexion.rollback();
+        conexion.close();
+    }
+}
@@ -0,0 +1,104 @@
+package co.edu.uco.backend.benchmark;
+
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserciones en una tabla con llave primaria UUID: identificadores aleatorios (v4) frente a
+ * ordenados por tiempo (v7, UtilUUID.generarNuevoUUIDOrdenado). Cada operación inserta y confirma
+ * un lote; al final de cada modo se imprime el tamaño del índice de la llave primaria.
+ * Requiere una base PostgreSQL: BENCHMARK_JDBC_URL, BENCHMARK_JDBC_USUARIO y BENCHMARK_JDBC_CLAVE.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.incluir=InsercionUUIDBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class InsercionUUIDBenchmark {
+
+    private static final int TAMANO_LOTE = 500;
+
+    @Param({"V4", "V7"})
+    public String modo;
+
+    // Filas previas para que el índice ya no quepa en unas pocas páginas cuando empieza la medición
+    @Param({"500000"})
+    public int filasIniciales;
+
+    private Connection conexion;
+    private String tabla;
+
+    @Setup(Level.Trial)
+    public void prepararTabla() throws SQLException {
+        var url = System.getenv().getOrDefault("BENCHMARK_JDBC_URL", "jdbc:postgresql://localhost:5432/DOODB");
+        var usuario = System.getenv().getOrDefault("BENCHMARK_JDBC_USUARIO", "postgres");
+        var clave = System.getenv("BENCHMARK_JDBC_CLAVE");
+        conexion = DriverManager.getConnection(url, usuario, clave);
+        conexion.setAutoCommit(false);
+
+        tabla = "benchmark_uuid_" + modo.toLowerCase();
+        try (var sentencia = conexion.createStatement()) {
+            sentencia.execute("DROP TABLE IF EXISTS " + tabla);
+            sentencia.execute("CREATE TABLE " + tabla
+                    + " (codigo uuid PRIMARY KEY, nombre varchar(100) NOT NULL, creado timestamptz NOT NULL DEFAULT now())");
+        }
+        conexion.commit();
+
+        for (var insertadas = 0; insertadas < filasIniciales; insertadas += TAMANO_LOTE) {
+            insertarLote();
+        }
+    }
+
+    @Benchmark
+    public void insertarLote() throws SQLException {
+        try (var sentencia = conexion.prepareStatement("INSERT INTO " + tabla + " (codigo, nombre) VALUES (?, ?)")) {
+            for (var i = 0; i < TAMANO_LOTE; i++) {
+                sentencia.setObject(1, nuevoIdentificador());
+                sentencia.setString(2, "Cancha sintética de prueba");
+                sentencia.addBatch();
+            }
+            sentencia.executeBatch();
+        }
+        conexion.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void reportarIndice() throws SQLException {
+        try (var sentencia = conexion.createStatement();
+             var resultado = sentencia.executeQuery("SELECT count(*), pg_relation_size('" + tabla + "_pkey') FROM " + tabla)) {
+            resultado.next();
+            var filas = resultado.getLong(1);
+            var bytesIndice = resultado.getLong(2);
+            System.out.printf("%n[%s] filas=%d, índice llave primaria=%.1f MB (%.1f bytes por fila)%n",
+                    modo, filas, bytesIndice / (1024.0 * 1024.0), (double) bytesIndice / filas);
+            sentencia.execute("DROP TABLE " + tabla);
+        }
+        conexion.commit();
+        conexion.close();
+    }
+
+    private UUID nuevoIdentificador() {
+        return "V7".equals(modo) ? UtilUUID.generarNuevoUUIDOrdenado() : UtilUUID.generarNuevoUUID();
+    }
+}
@@ -0,0 +1,111 @@
+package co.edu.uco.backend.benchmark;
+
+import co.edu.uco.backend.businesslogic.businesslogic.moderacion.ContenidoNoPermitido;
+import co.edu.uco.backend.businesslogic.businesslogic.moderacion.MotorModeracion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Costo por reseña de las políticas POL-REV-001/002/003: la implementación anterior de
+ * ResenaBusinessLogicImpl (patrones y listas construidos en cada llamada, dos normalizaciones)
+ * frente a MotorModeracion (patrones precompilados, una pasada con Aho-Corasick).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModeracionResenaBenchmark {
+
+    @Param({
+            "La cancha estaba en muy mal estado, el piso deficiente y los baños sucios. Pésimo servicio.",
+            "Excelente atención, la iluminación es muy buena y el césped sintético está como nuevo. Volveremos el próximo sábado con todo el equipo.",
+            "Qué cancha tan horrible, el encargado es un imbécil y no respetó el horario que habíamos reservado"
+    })
+    public String comentario;
+
+    @Benchmark
+    public int politicasAnteriores() {
+        var resultado = 0;
+        if (contieneNegativoAnterior(comentario)) {
+            resultado |= 1;
+        }
+        if (contieneContenidoNoPermitidoAnterior(comentario)) {
+            resultado |= 2;
+        }
+        if (contieneProhibidaAnterior(comentario)) {
+            resultado |= 4;
+        }
+        return resultado;
+    }
+
+    @Benchmark
+    public int politicasMotor() {
+        var motor = MotorModeracion.getInstance();
+        var vocabulario = motor.analizarVocabulario(comentario);
+        var resultado = 0;
+        if (vocabulario.contieneAspectoNegativo()) {
+            resultado |= 1;
+        }
+        if (motor.buscarContenidoNoPermitido(comentario) != ContenidoNoPermitido.NINGUNO) {
+            resultado |= 2;
+        }
+        if (vocabulario.contienePalabraProhibida()) {
+            resultado |= 4;
+        }
+        return resultado;
+    }
+
+    private static boolean contieneNegativoAnterior(final String comentario) {
+        String textoSinAcentos = Normalizer
+                .normalize(comentario.trim().toLowerCase(), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "");
+        List<String> negativos = List.of(
+                "mal", "deficiente", "sucio", "inadecuado", "cancelado",
+                "pesimo", "horrible", "desastroso", "negligente", "incompetente",
+                "lamentable", "pobre", "terrible", "decepcionante", "frustrante"
+        );
+        return negativos.stream().anyMatch(textoSinAcentos::contains);
+    }
+
+    private static boolean contieneContenidoNoPermitidoAnterior(final String comentario) {
+        String textoLower = comentario.toLowerCase();
+        return Pattern.compile("(https?://\\S+)").matcher(textoLower).find()
+                || Pattern.compile("(www\\.\\S+)").matcher(textoLower).find()
+                || Pattern.compile("\\b\\w+\\.(com|net|org|info|io|es|co)(/[^\\s]*)?\\b").matcher(textoLower).find()
+                || Pattern.compile("<[^>]+>").matcher(comentario).find();
+    }
+
+    private static boolean contieneProhibidaAnterior(final String comentario) {
+        String comentarioSinAcentos = Normalizer
+                .normalize(comentario.toLowerCase(), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "");
+        List<String> palabrasProhibidas = new ArrayList<>(Arrays.asList(
+                "imbecil", "estupido", "idiota", "basura", "mierda", "puta",
+                "gilipollas", "pendejo", "tarado", "cabron", "mierdas",
+                "malparido", "malparida", "zorra", "zorras"
+        ));
+        for (String palabra : palabrasProhibidas) {
+            if (comentarioSinAcentos.contains(palabra)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
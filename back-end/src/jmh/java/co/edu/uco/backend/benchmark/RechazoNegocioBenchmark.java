@@ -0,0 +1,88 @@
+package co.edu.uco.backend.benchmark;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
+import co.edu.uco.backend.crosscutting.exceptions.LayerException;
+import co.edu.uco.backend.crosscutting.registro.RegistroLimitado;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Solicitudes rechazadas por una regla de negocio por milisegundo: la excepción se lanza a cierta
+ * profundidad de pila (una petición de Spring MVC suele llegar a la lógica de negocio con más de
+ * cien marcos) y la atrapa el manejador global. Antes se capturaban dos trazas por rechazo (la de
+ * la excepción y la de su excepción raíz vacía) y el manejador las imprimía; ahora la excepción
+ * no tiene traza y el registro está limitado por ventana. La salida va a un flujo que descarta
+ * todo, así que se mide el formateo de la traza pero no la escritura en disco.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class RechazoNegocioBenchmark {
+
+    private static final String MENSAJE = "La calificación debe ser un número entero entre 1 y 5.";
+
+    private static final PrintStream DESCARTE = new PrintStream(OutputStream.nullOutputStream());
+
+    @Param({"20", "150"})
+    public int profundidad;
+
+    private final RegistroLimitado registro = new RegistroLimitado(20, TimeUnit.SECONDS.toNanos(1));
+
+    @Benchmark
+    public String rechazoAnterior() {
+        try {
+            lanzarA(profundidad, true);
+            return null;
+        } catch (BackEndException exception) {
+            exception.printStackTrace(DESCARTE);
+            return exception.getMensajeUsuario();
+        }
+    }
+
+    @Benchmark
+    public String rechazoSinTraza() {
+        try {
+            lanzarA(profundidad, false);
+            return null;
+        } catch (BackEndException exception) {
+            if (registro.intentar(exception.getCapa() + ":" + exception.getClass().getSimpleName()) != RegistroLimitado.OMITIR) {
+                DESCARTE.println(exception.getMensajeTecnico());
+            }
+            return exception.getMensajeUsuario();
+        }
+    }
+
+    private static void lanzarA(final int profundidad, final boolean conTraza) throws BackEndException {
+        if (profundidad > 0) {
+            lanzarA(profundidad - 1, conTraza);
+            return;
+        }
+        throw conTraza ? new RechazoConTraza(MENSAJE) : BusinessLogicBackEndException.reportar(MENSAJE);
+    }
+
+    // Como BusinessLogicBackEndException.reportar(mensaje) antes de este cambio
+    private static final class RechazoConTraza extends BackEndException {
+
+        private RechazoConTraza(final String mensaje) {
+            super(mensaje, mensaje, new Exception(), LayerException.BUSINESS_LOGIC);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package co.edu.uco.backend.benchmark;
+
+import co.edu.uco.backend.businesslogic.businesslogic.domain.ResenaDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.impl.ResenaBusinessLogicImpl;
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.data.dao.factory.Factory;
+import co.edu.uco.backend.entity.CanchaEntity;
+import co.edu.uco.backend.entity.ClienteEntity;
+import co.edu.uco.backend.entity.EstadoReservaEntity;
+import co.edu.uco.backend.entity.ResenaEntity;
+import co.edu.uco.backend.entity.ReservaEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResenaBusinessLogicImpl.modificarResenaExistente completo (integridad + POL-REV-001/002/003)
+ * sobre Factory.IN_MEMORY, para que el acceso a datos no tape el costo de las políticas. Los
+ * comentarios rechazados incluyen el costo de construir y lanzar la excepción de negocio.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResenaBusinessLogicBenchmark {
+
+    @Param({
+            "ACEPTADO",
+            "RECHAZADO_URL",
+            "RECHAZADO_OFENSIVO"
+    })
+    public String caso;
+
+    private DAOFactory factory;
+    private ResenaBusinessLogicImpl businessLogic;
+    private UUID reservaId;
+    private UUID resenaId;
+    private ResenaDomain cambios;
+
+    @Setup(Level.Trial)
+    public void prepararDatos() throws BackEndException {
+        factory = DAOFactory.getFactory(Factory.IN_MEMORY);
+        businessLogic = new ResenaBusinessLogicImpl(factory);
+
+        var estado = new EstadoReservaEntity(UtilUUID.generarNuevoUUIDOrdenado(), "finalizada");
+        var cliente = new ClienteEntity();
+        cliente.setId(UtilUUID.generarNuevoUUIDOrdenado());
+        reservaId = UtilUUID.generarNuevoUUIDOrdenado();
+        resenaId = UtilUUID.generarNuevoUUIDOrdenado();
+        var fecha = LocalDate.now().minusDays(1);
+
+        factory.abrirConexion();
+        try {
+            factory.getEstadoReservaDAO().crear(estado);
+            factory.getReservaDAO().crear(new ReservaEntity(reservaId, cliente, new CanchaEntity(UtilUUID.generarNuevoUUIDOrdenado()),
+                    fecha, fecha, LocalTime.of(18, 0), LocalTime.of(19, 0), new EstadoReservaEntity(estado.getId())));
+            factory.getResenaDAO().crear(new ResenaEntity(resenaId, new ReservaEntity(reservaId), 5,
+                    "Muy buena cancha", fecha));
+        } finally {
+            factory.cerrarConexion();
+        }
+
+        var comentario = switch (caso) {
+            case "RECHAZADO_URL" -> "Excelente cancha, reserven en www.canchasbaratas.com que sale mas barato todo el mes";
+            case "RECHAZADO_OFENSIVO" -> "Qué cancha tan horrible, el encargado es un imbécil y no respetó el horario reservado";
+            default -> "Excelente atención, la iluminación es muy buena y el césped sintético está como nuevo.";
+        };
+        cambios = new ResenaDomain(UtilUUID.obtenerValorDefecto(), null, 4, comentario, null);
+    }
+
+    // Igual que la fachada: abrir, ejecutar la lógica y cerrar en cada solicitud
+    @Benchmark
+    public boolean modificarResena() throws BackEndException {
+        factory.abrirConexion();
+        try {
+            businessLogic.modificarResenaExistente(reservaId, resenaId, cambios);
+            return true;
+        } catch (BackEndException exception) {
+            return false;
+        } finally {
+            factory.cerrarConexion();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package co.edu.uco.backend.benchmark;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilEncrypt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de PBKDF2 (UtilEncrypt) según las iteraciones: hash al registrar y matches al iniciar
+ * sesión. Con varios hilos se ve cuántos inicios de sesión por segundo aguanta la máquina, que es
+ * lo que se debe tener en cuenta al ajustar contrasenas.hash.iteraciones y contrasenas.hash.hilos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UtilEncryptBenchmark {
+
+    private static final String CONTRASENA = "Clave-Segura-2024";
+
+    @Param({"65536", "210000"})
+    public int iteraciones;
+
+    private String almacenado;
+
+    @Setup(Level.Trial)
+    public void prepararHash() throws BackEndException {
+        UtilEncrypt.configurarIteraciones(iteraciones);
+        almacenado = UtilEncrypt.hash(CONTRASENA);
+    }
+
+    @Benchmark
+    public String hash() throws BackEndException {
+        return UtilEncrypt.hash(CONTRASENA);
+    }
+
+    @Benchmark
+    public boolean matches() throws BackEndException {
+        return UtilEncrypt.matches(CONTRASENA, almacenado);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public boolean matchesConcurrente() throws BackEndException {
+        return UtilEncrypt.matches(CONTRASENA, almacenado);
+    }
+}
@@ -0,0 +1,94 @@
+package co.edu.uco.backend.benchmark;
+
+import co.edu.uco.backend.crosscutting.utilitarios.UtilTexto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Validaciones de formato de UtilTexto con los valores que llegan al registrar un cliente o una
+ * reseña, frente a la implementación anterior (String.matches, que compila la expresión en cada
+ * llamada) y al mismo patrón precompilado. Con el perfilador gc del perfil jmh,
+ * gc.alloc.rate.norm muestra los bytes asignados por validación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UtilTextoBenchmark {
+
+    private static final String PATRON_SOLO_LETRAS_ESPACIOS = "^[a-zA-ZáÁéÉíÍóÓúÚñÑ ]+$";
+    private static final String PATRON_ALFANUMERICO_ESPACIOS_ESPECIALES = "^[\\p{L}\\p{N}\\p{Punct}\\s]+$";
+    private static final String PATRON_SOLO_NUMEROS = "^[0-9]+$";
+
+    private static final Pattern SOLO_LETRAS_ESPACIOS = Pattern.compile(PATRON_SOLO_LETRAS_ESPACIOS);
+    private static final Pattern ALFANUMERICO_ESPACIOS_ESPECIALES = Pattern.compile(PATRON_ALFANUMERICO_ESPACIOS_ESPECIALES);
+    private static final Pattern SOLO_NUMEROS = Pattern.compile(PATRON_SOLO_NUMEROS);
+
+    public String nombre = "María José Peñaranda Gómez";
+    public String telefono = "3001234567";
+    public String comentario = "Excelente atención, la iluminación es muy buena y el césped sintético está como nuevo. "
+            + "Volveremos el próximo sábado con todo el equipo!";
+
+    @Benchmark
+    public boolean soloLetrasEspacios() {
+        return UtilTexto.getInstance().contieneSoloLetrasEspacios(nombre);
+    }
+
+    @Benchmark
+    public boolean soloLetrasEspaciosPrecompilado() {
+        return SOLO_LETRAS_ESPACIOS.matcher(nombre.trim()).matches();
+    }
+
+    @Benchmark
+    public boolean soloLetrasEspaciosAnterior() {
+        return nombre.trim().matches(PATRON_SOLO_LETRAS_ESPACIOS);
+    }
+
+    @Benchmark
+    public boolean soloNumeros() {
+        return UtilTexto.getInstance().contieneSoloNumeros(telefono);
+    }
+
+    @Benchmark
+    public boolean soloNumerosPrecompilado() {
+        return SOLO_NUMEROS.matcher(telefono.trim()).matches();
+    }
+
+    @Benchmark
+    public boolean soloNumerosAnterior() {
+        return telefono.trim().matches(PATRON_SOLO_NUMEROS);
+    }
+
+    @Benchmark
+    public boolean alfanumericoEspaciosEspeciales() {
+        return UtilTexto.getInstance().contieneSoloAlfanumericoEspaciosEspeciales(comentario);
+    }
+
+    @Benchmark
+    public boolean alfanumericoEspaciosEspecialesPrecompilado() {
+        return ALFANUMERICO_ESPACIOS_ESPECIALES.matcher(comentario.trim()).matches();
+    }
+
+    @Benchmark
+    public boolean alfanumericoEspaciosEspecialesAnterior() {
+        return comentario.trim().matches(PATRON_ALFANUMERICO_ESPACIOS_ESPECIALES);
+    }
+
+    // patronEsValido con un patrón arbitrario: se compila la primera vez y luego sale del registro
+    @Benchmark
+    public boolean patronEsValidoRegistrado() {
+        return UtilTexto.getInstance().patronEsValido(telefono, PATRON_SOLO_NUMEROS);
+    }
+}
@@ -0,0 +1,148 @@
+package co.edu.uco.backend.carga;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prueba de carga para comparar el modo de hilos de plataforma con el de hilos virtuales
+ * (spring.threads.virtual.enabled). Para cada nivel de concurrencia mantiene esa cantidad de
+ * clientes haciendo GET sin pausa durante la duración indicada y reporta throughput, p50, p99,
+ * máximo y tasa de error; al final, la mayor concurrencia que se sostuvo con menos de 1 % de errores
+ * y p99 por debajo del objetivo.
+ *
+ * Se corre dos veces contra la aplicación con PostgreSQL, una en cada modo. Solo usa el JDK, así
+ * que se ejecuta directo desde las clases de prueba (exec:java no sirve en el perfil jmh, que
+ * configura exec para lanzar JMH):
+ * <pre>
+ * mvn -Pjmh test-compile
+ * java -cp target/test-classes co.edu.uco.backend.carga.PruebaCargaHilos \
+ *     http://localhost:8082/api/v1/canchas 50,200,1000,4000 20 500
+ * </pre>
+ * Argumentos: URL, niveles de concurrencia separados por comas, segundos por nivel y p99 objetivo en ms.
+ * La primera corrida después de arrancar la aplicación incluye el calentamiento del JIT: se descarta.
+ */
+public final class PruebaCargaHilos {
+
+    private static final double ERROR_MAXIMO = 0.01;
+
+    private PruebaCargaHilos() {
+        super();
+    }
+
+    private record Resultado(int concurrencia, long exitosas, long fallidas, double segundos,
+                             double p50Ms, double p99Ms, double maximoMs) {
+
+        private double throughput() {
+            return exitosas / segundos;
+        }
+
+        private double tasaError() {
+            var total = exitosas + fallidas;
+            return total == 0 ? 1.0 : (double) fallidas / total;
+        }
+    }
+
+    public static void main(final String[] argumentos) throws InterruptedException {
+        if (argumentos.length < 4) {
+            System.err.println("Uso: PruebaCargaHilos <url> <concurrencias separadas por coma> <segundos por nivel> <p99 objetivo ms>");
+            return;
+        }
+        var uri = URI.create(argumentos[0]);
+        var concurrencias = Arrays.stream(argumentos[1].split(",")).mapToInt(valor -> Integer.parseInt(valor.trim())).toArray();
+        var duracion = Duration.ofSeconds(Long.parseLong(argumentos[2]));
+        var p99ObjetivoMs = Double.parseDouble(argumentos[3]);
+
+        var cliente = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        var solicitud = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+
+        System.out.printf(Locale.ROOT, "%-12s %12s %10s %10s %10s %10s%n", "concurrencia", "solicitudes/s", "p50 ms", "p99 ms", "max ms", "error %");
+        var maximaSostenida = 0;
+        for (var concurrencia : concurrencias) {
+            var resultado = medir(cliente, solicitud, concurrencia, duracion);
+            System.out.printf(Locale.ROOT, "%-12d %12.1f %10.1f %10.1f %10.1f %10.2f%n", concurrencia, resultado.throughput(),
+                    resultado.p50Ms(), resultado.p99Ms(), resultado.maximoMs(), resultado.tasaError() * 100);
+            if (resultado.tasaError() < ERROR_MAXIMO && resultado.p99Ms() <= p99ObjetivoMs) {
+                maximaSostenida = concurrencia;
+            }
+        }
+        System.out.printf(Locale.ROOT, "Mayor concurrencia sostenida (error < %.0f %%, p99 <= %.0f ms): %d%n",
+                ERROR_MAXIMO * 100, p99ObjetivoMs, maximaSostenida);
+    }
+
+    private static Resultado medir(final HttpClient cliente, final HttpRequest solicitud, final int concurrencia,
+                                   final Duration duracion) throws InterruptedException {
+        var latenciasPorCliente = new ArrayList<long[]>(concurrencia);
+        var fallidasPorCliente = new long[concurrencia];
+        var cantidadPorCliente = new int[concurrencia];
+        var fin = System.nanoTime() + duracion.toNanos();
+        var inicio = System.nanoTime();
+
+        try (var clientes = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var i = 0; i < concurrencia; i++) {
+                var indice = i;
+                var latencias = new long[1024];
+                latenciasPorCliente.add(latencias);
+                clientes.submit(() -> {
+                    var propias = latencias;
+                    while (System.nanoTime() < fin) {
+                        var antes = System.nanoTime();
+                        try {
+                            var respuesta = cliente.send(solicitud, HttpResponse.BodyHandlers.discarding());
+                            if (respuesta.statusCode() >= 400) {
+                                fallidasPorCliente[indice]++;
+                                continue;
+                            }
+                        } catch (Exception exception) {
+                            fallidasPorCliente[indice]++;
+                            continue;
+                        }
+                        if (cantidadPorCliente[indice] == propias.length) {
+                            propias = Arrays.copyOf(propias, propias.length * 2);
+                            latenciasPorCliente.set(indice, propias);
+                        }
+                        propias[cantidadPorCliente[indice]++] = System.nanoTime() - antes;
+                    }
+                });
+            }
+        }
+        var segundos = (System.nanoTime() - inicio) / 1e9;
+
+        var todas = unir(latenciasPorCliente, cantidadPorCliente);
+        var fallidas = Arrays.stream(fallidasPorCliente).sum();
+        return new Resultado(concurrencia, todas.length, fallidas, segundos,
+                percentilMs(todas, 0.50), percentilMs(todas, 0.99), todas.length == 0 ? 0 : todas[todas.length - 1] / 1e6);
+    }
+
+    private static long[] unir(final List<long[]> latenciasPorCliente, final int[] cantidadPorCliente) {
+        var total = Arrays.stream(cantidadPorCliente).asLongStream().sum();
+        var todas = new long[(int) total];
+        var posicion = 0;
+        for (var i = 0; i < cantidadPorCliente.length; i++) {
+            System.arraycopy(latenciasPorCliente.get(i), 0, todas, posicion, cantidadPorCliente[i]);
+            posicion += cantidadPorCliente[i];
+        }
+        Arrays.sort(todas);
+        return todas;
+    }
+
+    private static double percentilMs(final long[] ordenadas, final double percentil) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        var indice = (int) Math.ceil(percentil * ordenadas.length) - 1;
+        return ordenadas[Math.max(0, indice)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,64 @@
+package co.edu.uco.backend.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Escribe un arreglo JSON directamente sobre la respuesta, elemento por elemento, en el mismo hilo
+ * de la solicitud. Nada se escribe hasta que llega el primer elemento, es decir, hasta que la
+ * consulta ya se ejecutó y entregó su primera fila: si falla antes, {@link #descartar()} limpia lo
+ * que haya en el buffer y el controlador global de excepciones responde con el estado que corresponde.
+ * Si la falla llega con la respuesta ya confirmada, el arreglo queda sin cerrar y el cliente lo
+ * detecta como truncado.
+ */
+final class ArregloJsonDiferido {
+
+    private final ObjectMapper objectMapper;
+    private final HttpServletResponse respuesta;
+    private JsonGenerator generador;
+
+    ArregloJsonDiferido(final ObjectMapper objectMapper, final HttpServletResponse respuesta) {
+        this.objectMapper = objectMapper;
+        this.respuesta = respuesta;
+    }
+
+    /**
+     * Lanza {@link UncheckedIOException} si no se puede escribir, lo que en la práctica significa
+     * que el cliente cerró la conexión.
+     */
+    void escribir(final Object elemento) {
+        try {
+            if (generador == null) {
+                abrir();
+            }
+            generador.writeObject(elemento);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    void cerrar() throws IOException {
+        if (generador == null) {
+            abrir();
+        }
+        generador.writeEndArray();
+        generador.close();
+    }
+
+    void descartar() {
+        if (!respuesta.isCommitted()) {
+            respuesta.resetBuffer();
+        }
+    }
+
+    private void abrir() throws IOException {
+        respuesta.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        generador = objectMapper.createGenerator(respuesta.getOutputStream());
+        generador.writeStartArray();
+    }
+}
@@ -0,0 +1,34 @@
+package co.edu.uco.backend.api;
+
+import co.edu.uco.backend.businesslogic.businesslogic.calificacion.Calificacion;
+import co.edu.uco.backend.businesslogic.facade.ResenaFacade;
+import co.edu.uco.backend.businesslogic.facade.impl.ResenaFacadeImpl;
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/calificaciones")
+public class CalificacionController {
+
+    private final ResenaFacade resenaFacade;
+
+    public CalificacionController() throws BackEndException {
+        this.resenaFacade = new ResenaFacadeImpl();
+    }
+
+    @GetMapping("/canchas/{canchaId}")
+    public ResponseEntity<Calificacion> consultarPorCancha(@PathVariable UUID canchaId) throws BackEndException {
+        var calificacion = resenaFacade.consultarCalificacionCancha(canchaId);
+        return new ResponseEntity<>(calificacion, HttpStatus.OK);
+    }
+
+    @GetMapping("/organizaciones/{orgId}")
+    public ResponseEntity<Calificacion> consultarPorOrganizacion(@PathVariable UUID orgId) throws BackEndException {
+        var calificacion = resenaFacade.consultarCalificacionOrganizacion(orgId);
+        return new ResponseEntity<>(calificacion, HttpStatus.OK);
+    }
+}
@@ -1,13 +1,22 @@
 package co.edu.uco.backend.api;
 
+import co.edu.uco.backend.businesslogic.businesslogic.disponibilidad.DisponibilidadDia;
 import co.edu.uco.backend.businesslogic.facade.CanchaFacade;
 import co.edu.uco.backend.businesslogic.facade.impl.CanchaFacadeImpl;
+import co.edu.uco.backend.crosscutting.constants.Paginacion;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.busqueda.FiltroBusquedaCanchas;
+import co.edu.uco.backend.data.dao.busqueda.ResultadoBusquedaCanchas;
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
+import co.edu.uco.backend.data.dao.geo.CanchaCercana;
+import co.edu.uco.backend.data.dao.geo.IndiceGeograficoCanchas;
 import co.edu.uco.backend.dto.CanchaDTO;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,12 +37,53 @@ public class CanchaController {
         return new CanchaDTO();
     }
 
+    @GetMapping("/cercanas")
+    public ResponseEntity<List<CanchaCercana>> consultarCercanas(
+            @RequestParam("lat") double lat,
+            @RequestParam("lon") double lon,
+            @RequestParam(value = "radioKm", required = false) Double radioKm,
+            @RequestParam(value = "limit", required = false) Integer limit) throws BackEndException {
+        var radio = radioKm == null ? IndiceGeograficoCanchas.RADIO_DEFECTO_KM : radioKm;
+        var limite = limit == null ? Paginacion.LIMITE_DEFECTO : limit;
+        var cercanas = canchaFacade.consultarCanchasCercanas(lat, lon, radio, limite);
+        return new ResponseEntity<>(cercanas, HttpStatus.OK);
+    }
+
+    @GetMapping("/busqueda")
+    public ResponseEntity<ResultadoBusquedaCanchas> buscar(
+            @RequestParam(value = "tipo", required = false) UUID tipo,
+            @RequestParam(value = "superficie", required = false) UUID superficie,
+            @RequestParam(value = "municipio", required = false) UUID municipio,
+            @RequestParam(value = "iluminacion", required = false) Boolean iluminacion,
+            @RequestParam(value = "cubierta", required = false) Boolean cubierta,
+            @RequestParam(value = "costoMin", required = false) Double costoMin,
+            @RequestParam(value = "costoMax", required = false) Double costoMax,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "after", required = false) UUID after) throws BackEndException {
+        var filtro = new FiltroBusquedaCanchas(tipo, superficie, municipio, iluminacion, cubierta, costoMin, costoMax);
+        var limite = limit == null ? Paginacion.LIMITE_DEFECTO : limit;
+        var resultado = canchaFacade.buscarCanchas(filtro, after, limite);
+        return RespuestaPaginada.construir(resultado, resultado.siguienteCursor());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CanchaDTO> consultarPorId(@PathVariable("id") UUID id) throws BackEndException {
         var cancha = canchaFacade.consultarCanchaPorId(id);
         return new ResponseEntity<>(cancha, HttpStatus.OK);
     }
 
+    @GetMapping("/{id}/disponibilidad")
+    public ResponseEntity<List<DisponibilidadDia>> consultarDisponibilidad(
+            @PathVariable("id") UUID id,
+            @RequestParam(value = "desde", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(value = "hasta", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) throws BackEndException {
+        // Por defecto: la semana que inicia hoy
+        var fechaDesde = desde == null ? LocalDate.now() : desde;
+        var fechaHasta = hasta == null ? fechaDesde.plusDays(6) : hasta;
+        var disponibilidad = canchaFacade.consultarDisponibilidad(id, fechaDesde, fechaHasta);
+        return new ResponseEntity<>(disponibilidad, HttpStatus.OK);
+    }
+
     @GetMapping("/organizacion/{orgId}/{canchaId}")
     public ResponseEntity<CanchaDTO> consultarPorOrganizacion(
             @PathVariable("orgId") UUID orgId,
@@ -50,9 +100,12 @@ public class CanchaController {
     }
 
     @GetMapping
-    public ResponseEntity<List<CanchaDTO>> consultarTodas() throws BackEndException {
-        var lista = canchaFacade.consultarTodasCanchas(getDummy());
-        return new ResponseEntity<>(lista, HttpStatus.OK);
+    public ResponseEntity<List<CanchaDTO>> consultarTodas(
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "after", required = false) UUID after) throws BackEndException {
+        var limite = limit == null ? Paginacion.LIMITE_DEFECTO : limit;
+        return RespuestaCondicional.construir(VersionesRecursos.Recurso.CANCHA,
+                () -> RespuestaPaginada.construir(canchaFacade.consultarTodasCanchas(getDummy(), after, limite)));
     }
 
     @PostMapping("/organizacion/{orgId}")
@@ -2,8 +2,10 @@ package co.edu.uco.backend.api;
 
 import co.edu.uco.backend.businesslogic.facade.ClienteFacade;
 import co.edu.uco.backend.businesslogic.facade.impl.ClienteFacadeImpl;
+import co.edu.uco.backend.crosscutting.constants.Paginacion;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.dto.ClienteDTO;
+import co.edu.uco.backend.dto.SesionDTO;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -31,9 +33,12 @@ public class ClienteController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ClienteDTO>> consultarTodos() throws BackEndException {
-        var lista = clienteFacade.consultarClientes(getDummy());
-        return new ResponseEntity<>(lista, HttpStatus.OK);
+    public ResponseEntity<List<ClienteDTO>> consultarTodos(
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "after", required = false) UUID after) throws BackEndException {
+        var limite = limit == null ? Paginacion.LIMITE_DEFECTO : limit;
+        var pagina = clienteFacade.consultarClientes(getDummy(), after, limite);
+        return RespuestaPaginada.construir(pagina);
     }
 
     @PostMapping
@@ -51,6 +56,15 @@ public class ClienteController {
         return new ResponseEntity<>(mensajeExito,HttpStatus.OK);
     }
 
+    @PostMapping("/iniciar-sesion")
+    public ResponseEntity<SesionDTO> iniciarSesion(@RequestParam String username,
+                                                    @RequestParam String password,
+                                                    @RequestParam String ip,
+                                                    @RequestParam String userAgent) throws BackEndException {
+        var sesion = clienteFacade.iniciarSesion(username, password, ip, userAgent);
+        return new ResponseEntity<>(sesion, HttpStatus.OK);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<String> eliminar(@PathVariable("id") UUID id) throws BackEndException {
         var cliente = clienteFacade.consultarClientePorId(id);
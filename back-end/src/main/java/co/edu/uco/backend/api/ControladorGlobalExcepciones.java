@@ -1,22 +1,81 @@
 package co.edu.uco.backend.api;
 
+import co.edu.uco.backend.crosscutting.exceptions.AutorizacionBackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.registro.RegistroLimitado;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 
+import java.time.Duration;
+
+/**
+ * Traduce las excepciones a respuestas HTTP y las registra en formato llave=valor. Los rechazos
+ * esperados (reglas de negocio) se registran sin traza; los fallos inesperados, con ella. En ambos
+ * casos el registro se limita por capa, tipo de excepción y si es rechazo o fallo, para que una
+ * ráfaga de solicitudes inválidas no sature el log: lo omitido se informa en el siguiente registro
+ * que pasa.
+ */
 @ControllerAdvice
 public class ControladorGlobalExcepciones {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ControladorGlobalExcepciones.class);
+
+    private final RegistroLimitado registro;
+
+    public ControladorGlobalExcepciones(@Value("${errores.registro.maximo-por-ventana:20}") int maximoPorVentana,
+                                        @Value("${errores.registro.ventana:PT1S}") Duration ventana) {
+        this.registro = new RegistroLimitado(maximoPorVentana, ventana.toNanos());
+    }
+
     @ExceptionHandler(BackEndException.class)
-    public ResponseEntity<String> controlarBackendException(BackEndException exception) {
-        exception.printStackTrace();
+    public ResponseEntity<String> controlarBackendException(BackEndException exception, HttpServletRequest solicitud,
+                                                            HttpServletResponse respuesta) {
+        // Los rechazos y los fallos llevan cupos separados: una ráfaga de rechazos no puede ocultar un fallo
+        var omitidos = registro.intentar(exception.getCapa() + ":" + exception.getClass().getSimpleName()
+                + (exception.isEsperada() ? ":rechazo" : ":fallo"));
+        if (omitidos != RegistroLimitado.OMITIR) {
+            if (exception.isEsperada()) {
+                LOGGER.info("evento=solicitud_rechazada metodo={} ruta={} capa={} mensaje=\"{}\" omitidos={}",
+                        solicitud.getMethod(), solicitud.getRequestURI(), exception.getCapa(),
+                        exception.getMensajeTecnico(), omitidos);
+            } else {
+                LOGGER.warn("evento=fallo_backend metodo={} ruta={} capa={} mensaje=\"{}\" omitidos={}",
+                        solicitud.getMethod(), solicitud.getRequestURI(), exception.getCapa(),
+                        exception.getMensajeTecnico(), omitidos, exception);
+            }
+        }
+        if (respuesta.isCommitted()) {
+            // Una respuesta por partes ya envió su estado: agregarle el mensaje solo ensuciaría el cuerpo
+            return null;
+        }
         return new ResponseEntity<>(exception.getMensajeUsuario(), HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Sin sesión responde 401; con una sesión que no es dueña del recurso, 403. Se registra igual
+     * que cualquier rechazo esperado.
+     */
+    @ExceptionHandler(AutorizacionBackEndException.class)
+    public ResponseEntity<String> controlarAutorizacion(AutorizacionBackEndException exception, HttpServletRequest solicitud) {
+        var omitidos = registro.intentar(exception.getCapa() + ":" + exception.getClass().getSimpleName());
+        if (omitidos != RegistroLimitado.OMITIR) {
+            LOGGER.info("evento=acceso_rechazado metodo={} ruta={} mensaje=\"{}\" omitidos={}",
+                    solicitud.getMethod(), solicitud.getRequestURI(), exception.getMensajeTecnico(), omitidos);
+        }
+        var estado = exception.isAutenticado() ? HttpStatus.FORBIDDEN : HttpStatus.UNAUTHORIZED;
+        return new ResponseEntity<>(exception.getMensajeUsuario(), estado);
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<String> controlarFormatoEntero(HttpMessageNotReadableException ex) {
         Throwable root = ex.getMostSpecificCause();
@@ -38,9 +97,27 @@ public class ControladorGlobalExcepciones {
         );
     }
 
+    /**
+     * El cliente cerró la conexión mientras se le escribía, por ejemplo al cancelar una descarga.
+     * No es una falla del servidor: se registra en DEBUG y no se intenta responder.
+     */
+    @ExceptionHandler(AsyncRequestNotUsableException.class)
+    public void controlarClienteDesconectado(AsyncRequestNotUsableException exception, HttpServletRequest solicitud) {
+        LOGGER.debug("evento=cliente_desconectado metodo={} ruta={} mensaje=\"{}\"",
+                solicitud.getMethod(), solicitud.getRequestURI(), exception.getMessage());
+    }
+
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<String> controlarException(Exception exception) {
-        exception.printStackTrace();
+    public ResponseEntity<String> controlarException(Exception exception, HttpServletRequest solicitud,
+                                                     HttpServletResponse respuesta) {
+        var omitidos = registro.intentar(exception.getClass().getName());
+        if (omitidos != RegistroLimitado.OMITIR) {
+            LOGGER.error("evento=fallo_inesperado metodo={} ruta={} tipo={} omitidos={}",
+                    solicitud.getMethod(), solicitud.getRequestURI(), exception.getClass().getName(), omitidos, exception);
+        }
+        if (respuesta.isCommitted()) {
+            return null;
+        }
         return new ResponseEntity<>("Se ha presentado un problema tratando de llevar a cabo la operación deseada", HttpStatus.INTERNAL_SERVER_ERROR);
     }
 }
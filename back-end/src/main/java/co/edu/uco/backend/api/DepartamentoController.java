@@ -3,6 +3,7 @@ package co.edu.uco.backend.api;
 import co.edu.uco.backend.businesslogic.facade.DepartamentoFacade;
 import co.edu.uco.backend.businesslogic.facade.impl.DepartamentoFacadeImpl;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
 import co.edu.uco.backend.dto.DepartamentoDTO;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -28,14 +29,14 @@ public class DepartamentoController {
 
     @GetMapping("/{id}")
     public ResponseEntity<DepartamentoDTO> consultarPorId(@PathVariable("id") UUID id) throws BackEndException {
-        var departamento = departamentoFacade.consultarDepartamentoPorId(id);
-        return new ResponseEntity<>(departamento, HttpStatus.OK);
+        return RespuestaCondicional.construir(VersionesRecursos.Recurso.DEPARTAMENTO,
+                () -> new ResponseEntity<>(departamentoFacade.consultarDepartamentoPorId(id), HttpStatus.OK));
     }
 
     @GetMapping
     public ResponseEntity<List<DepartamentoDTO>> consultarTodos() throws BackEndException {
-        var lista = departamentoFacade.consultarDepartamentos(getDummy());
-        return new ResponseEntity<>(lista, HttpStatus.OK);
+        return RespuestaCondicional.construir(VersionesRecursos.Recurso.DEPARTAMENTO,
+                () -> new ResponseEntity<>(departamentoFacade.consultarDepartamentos(getDummy()), HttpStatus.OK));
     }
 
     @PostMapping
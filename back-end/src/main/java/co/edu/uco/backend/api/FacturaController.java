@@ -2,14 +2,21 @@ package co.edu.uco.backend.api;
 
 import co.edu.uco.backend.businesslogic.facade.FacturaFacade;
 import co.edu.uco.backend.businesslogic.facade.impl.FacturaFacadeImpl;
+import co.edu.uco.backend.config.SesionConfig;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.seguridad.SesionUsuario;
+import co.edu.uco.backend.data.dao.entity.factura.FacturaResumen;
 import co.edu.uco.backend.dto.FacturaDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,10 +24,23 @@ import java.util.UUID;
 @RequestMapping("/api/v1/facturas")
 public class FacturaController {
 
+    private static final List<RespuestaExportacion.Columna<FacturaResumen>> COLUMNAS = List.of(
+            new RespuestaExportacion.Columna<>("id", FacturaResumen::id),
+            new RespuestaExportacion.Columna<>("identificador", FacturaResumen::identificador),
+            new RespuestaExportacion.Columna<>("reserva", FacturaResumen::reserva),
+            new RespuestaExportacion.Columna<>("fechaGeneracion", FacturaResumen::fechaGeneracion),
+            new RespuestaExportacion.Columna<>("total", FacturaResumen::total),
+            new RespuestaExportacion.Columna<>("fechaUsoCancha", FacturaResumen::fechaUsoCancha),
+            new RespuestaExportacion.Columna<>("nombreCancha", FacturaResumen::nombreCancha),
+            new RespuestaExportacion.Columna<>("nombreCliente", FacturaResumen::nombreCliente)
+    );
+
     private final FacturaFacade facturaFacade;
+    private final ObjectMapper objectMapper;
 
-    public FacturaController() throws BackEndException {
+    public FacturaController(ObjectMapper objectMapper) throws BackEndException {
         this.facturaFacade = new FacturaFacadeImpl();
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/dummy")
@@ -28,6 +48,25 @@ public class FacturaController {
         return new FacturaDTO();
     }
 
+    /**
+     * Exporta las facturas de la organización generadas en [desde, hasta], una por línea en NDJSON
+     * (por defecto) o CSV, escritas a medida que llegan del cursor.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @RequestParam(value = "organizacionId", required = false) UUID organizacionId,
+            @RequestParam(value = "desde", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(value = "hasta", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+            @RequestParam(value = "formato", defaultValue = RespuestaExportacion.FORMATO_NDJSON) String formato,
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip,
+            @RequestAttribute(name = SesionConfig.ATRIBUTO_SESION, required = false) SesionUsuario sesion)
+            throws BackEndException {
+        VerificadorSesion.exigirPropietario(sesion, organizacionId);
+        var exportacion = facturaFacade.exportarFacturasPorOrganizacion(organizacionId, desde, hasta);
+        return RespuestaExportacion.construir("facturas_" + desde + "_" + hasta, formato, gzip, COLUMNAS,
+                exportacion, objectMapper);
+    }
+
     @GetMapping("/{reservaId}/{facturaId}")
     public ResponseEntity<FacturaDTO> consultarPorId(
             @PathVariable UUID reservaId,
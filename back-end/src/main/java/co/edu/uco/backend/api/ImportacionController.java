@@ -0,0 +1,67 @@
+package co.edu.uco.backend.api;
+
+import co.edu.uco.backend.businesslogic.businesslogic.importacion.ResultadoImportacion;
+import co.edu.uco.backend.businesslogic.facade.ImportacionFacade;
+import co.edu.uco.backend.businesslogic.facade.impl.ImportacionFacadeImpl;
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * Importación masiva de canchas y horarios de una organización. El cuerpo es el archivo, en CSV
+ * (text/csv, con encabezado) o NDJSON (application/x-ndjson). Todo o nada: 201 si se cargaron
+ * todas las filas; 400 con el motivo por línea si alguna se rechazó, en cuyo caso no se cargó ninguna.
+ *
+ * Columnas: canchas nombre, costoHora, iluminacion, cubierta, tipo, superficie; horarios
+ * disponibles cancha, dia, horaApertura, horaCierre; horarios especiales cancha, fechaInicio,
+ * fechaFin, horaInicio, horaFin, motivo. La cancha de un horario va por identificador o por nombre.
+ */
+@RestController
+@RequestMapping("/api/v1/organizaciones/{orgId}/importaciones")
+public class ImportacionController {
+
+    private final ImportacionFacade importacionFacade;
+    private final ObjectMapper objectMapper;
+
+    public ImportacionController(ObjectMapper objectMapper) throws BackEndException {
+        this.importacionFacade = new ImportacionFacadeImpl();
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping("/canchas")
+    public ResponseEntity<ResultadoImportacion> importarCanchas(
+            @PathVariable UUID orgId,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String tipoContenido,
+            InputStream cuerpo) throws BackEndException {
+        var filas = LectorImportacion.leer(tipoContenido, cuerpo, objectMapper);
+        return responder(importacionFacade.importarCanchas(orgId, filas));
+    }
+
+    @PostMapping("/horarios-disponibles")
+    public ResponseEntity<ResultadoImportacion> importarHorariosDisponibles(
+            @PathVariable UUID orgId,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String tipoContenido,
+            InputStream cuerpo) throws BackEndException {
+        var filas = LectorImportacion.leer(tipoContenido, cuerpo, objectMapper);
+        return responder(importacionFacade.importarHorariosDisponibles(orgId, filas));
+    }
+
+    @PostMapping("/horarios-especiales")
+    public ResponseEntity<ResultadoImportacion> importarHorariosEspeciales(
+            @PathVariable UUID orgId,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String tipoContenido,
+            InputStream cuerpo) throws BackEndException {
+        var filas = LectorImportacion.leer(tipoContenido, cuerpo, objectMapper);
+        return responder(importacionFacade.importarHorariosEspeciales(orgId, filas));
+    }
+
+    private static ResponseEntity<ResultadoImportacion> responder(ResultadoImportacion resultado) {
+        return new ResponseEntity<>(resultado, resultado.esExitoso() ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,191 @@
+package co.edu.uco.backend.api;
+
+import co.edu.uco.backend.businesslogic.businesslogic.importacion.FilaImportacion;
+import co.edu.uco.backend.crosscutting.constants.Importacion;
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Lee el cuerpo de una importación como filas de texto, sin validar su contenido. CSV según
+ * RFC 4180 con encabezado en la primera línea; NDJSON con un objeto JSON por línea. En ambos las
+ * columnas se comparan en minúscula. Se detiene al pasar del máximo de filas para no cargar en
+ * memoria un archivo que de todas formas se va a rechazar.
+ */
+final class LectorImportacion {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv");
+    private static final MediaType APPLICATION_X_NDJSON = new MediaType("application", "x-ndjson");
+    private static final char BOM = '\uFEFF';
+    private static final int TAMANO_BUFFER = 64 * 1024;
+
+    private LectorImportacion() {
+        super();
+    }
+
+    static List<FilaImportacion> leer(final String tipoContenido, final InputStream cuerpo,
+                                      final ObjectMapper objectMapper) throws BackEndException {
+        var tipo = interpretarTipo(tipoContenido);
+        try (var lector = new BufferedReader(new InputStreamReader(cuerpo, StandardCharsets.UTF_8), TAMANO_BUFFER)) {
+            lector.mark(1);
+            if (lector.read() != BOM) {
+                lector.reset();
+            }
+            return TEXT_CSV.isCompatibleWith(tipo) ? leerCsv(lector) : leerNdjson(lector, objectMapper);
+        } catch (IOException exception) {
+            throw BusinessLogicBackEndException.reportar("No fue posible leer el archivo de importación.",
+                    "Se presentó una IOException leyendo el cuerpo de la importación: " + exception.getMessage(), exception);
+        }
+    }
+
+    private static MediaType interpretarTipo(final String tipoContenido) throws BackEndException {
+        try {
+            var tipo = MediaType.parseMediaType(tipoContenido);
+            if (TEXT_CSV.isCompatibleWith(tipo) || MediaType.APPLICATION_NDJSON.isCompatibleWith(tipo)
+                    || APPLICATION_X_NDJSON.isCompatibleWith(tipo)) {
+                return tipo;
+            }
+        } catch (RuntimeException exception) {
+            // Sin encabezado o mal formado: se responde igual que un tipo no soportado
+        }
+        throw BusinessLogicBackEndException.reportar("El archivo de importación debe enviarse como text/csv o application/x-ndjson.");
+    }
+
+    private static List<FilaImportacion> leerCsv(final BufferedReader lector) throws IOException, BackEndException {
+        var registro = new LectorCsv(lector);
+        var encabezado = registro.siguiente();
+        if (encabezado == null) {
+            throw BusinessLogicBackEndException.reportar("El archivo CSV no trae la línea de encabezado.");
+        }
+        var columnas = encabezado.stream().map(columna -> columna.strip().toLowerCase(Locale.ROOT)).toList();
+
+        var filas = new ArrayList<FilaImportacion>();
+        List<String> valores;
+        while ((valores = registro.siguiente()) != null) {
+            if (valores.size() == 1 && valores.get(0).isBlank()) {
+                continue;
+            }
+            validarMaximo(filas.size());
+            var campos = new HashMap<String, String>(columnas.size() * 2);
+            for (var i = 0; i < columnas.size() && i < valores.size(); i++) {
+                campos.put(columnas.get(i), valores.get(i));
+            }
+            filas.add(new FilaImportacion(registro.lineaInicio, campos));
+        }
+        return filas;
+    }
+
+    private static List<FilaImportacion> leerNdjson(final BufferedReader lector, final ObjectMapper objectMapper) throws IOException, BackEndException {
+        var filas = new ArrayList<FilaImportacion>();
+        var numeroLinea = 0;
+        String linea;
+        while ((linea = lector.readLine()) != null) {
+            numeroLinea++;
+            if (linea.isBlank()) {
+                continue;
+            }
+            validarMaximo(filas.size());
+            filas.add(new FilaImportacion(numeroLinea, leerObjeto(linea, numeroLinea, objectMapper)));
+        }
+        return filas;
+    }
+
+    private static Map<String, String> leerObjeto(final String linea, final int numeroLinea,
+                                                  final ObjectMapper objectMapper) throws BackEndException {
+        try {
+            var nodo = objectMapper.readTree(linea);
+            if (!nodo.isObject()) {
+                throw BusinessLogicBackEndException.reportar("La línea " + numeroLinea + " del archivo no es un objeto JSON.");
+            }
+            var campos = new HashMap<String, String>();
+            nodo.fields().forEachRemaining(campo -> campos.put(campo.getKey().toLowerCase(Locale.ROOT),
+                    campo.getValue().isNull() ? null : campo.getValue().asText()));
+            return campos;
+        } catch (JsonProcessingException exception) {
+            throw BusinessLogicBackEndException.reportar("La línea " + numeroLinea + " del archivo no es un JSON válido.");
+        }
+    }
+
+    private static void validarMaximo(final int filasLeidas) throws BackEndException {
+        if (filasLeidas >= Importacion.MAXIMO_FILAS) {
+            throw BusinessLogicBackEndException.reportar("El archivo de importación supera el máximo de " + Importacion.MAXIMO_FILAS + " filas.");
+        }
+    }
+
+    /**
+     * Registros CSV de RFC 4180: un campo entre comillas puede traer separadores, comillas
+     * duplicadas y saltos de línea. Acepta fin de línea \r\n o \n.
+     */
+    private static final class LectorCsv {
+
+        private final BufferedReader lector;
+        private int linea = 1;
+        private int lineaInicio;
+
+        private LectorCsv(final BufferedReader lector) {
+            this.lector = lector;
+        }
+
+        private List<String> siguiente() throws IOException, BackEndException {
+            var caracter = lector.read();
+            if (caracter < 0) {
+                return null;
+            }
+            lineaInicio = linea;
+            var campos = new ArrayList<String>();
+            var campo = new StringBuilder();
+            var entreComillas = false;
+            while (true) {
+                if (caracter < 0) {
+                    if (entreComillas) {
+                        throw BusinessLogicBackEndException.reportar("El campo entre comillas que empieza en la línea " + lineaInicio + " no se cierra.");
+                    }
+                    campos.add(campo.toString());
+                    return campos;
+                }
+                var c = (char) caracter;
+                if (entreComillas) {
+                    if (c == '"') {
+                        lector.mark(1);
+                        if (lector.read() == '"') {
+                            campo.append('"');
+                        } else {
+                            lector.reset();
+                            entreComillas = false;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            linea++;
+                        }
+                        campo.append(c);
+                    }
+                } else if (c == '"' && campo.isEmpty()) {
+                    entreComillas = true;
+                } else if (c == ',') {
+                    campos.add(campo.toString());
+                    campo.setLength(0);
+                } else if (c == '\n') {
+                    linea++;
+                    campos.add(campo.toString());
+                    return campos;
+                } else if (c != '\r') {
+                    campo.append(c);
+                }
+                caracter = lector.read();
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package co.edu.uco.backend.api;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Acota cuántas exportaciones se escriben a la vez y cuánto puede durar cada una. Una exportación
+ * retiene una conexión de PoolConexionesPostgreSQL mientras el cliente descarga, así que sin un
+ * límite propio unas pocas descargas lentas dejarían sin conexiones al resto de la API. El límite
+ * no espera: si no hay cupo la solicitud se rechaza de inmediato y el cliente reintenta.
+ */
+public final class LimiteExportaciones {
+
+    private static final LimiteExportaciones instancia = new LimiteExportaciones();
+
+    public static final int SIMULTANEAS_DEFECTO = 2;
+    public static final long DURACION_MAXIMA_MS_DEFECTO = TimeUnit.MINUTES.toMillis(10);
+
+    private volatile Semaphore cupos = new Semaphore(SIMULTANEAS_DEFECTO);
+    private volatile long duracionMaximaNanos = TimeUnit.MILLISECONDS.toNanos(DURACION_MAXIMA_MS_DEFECTO);
+
+    private LimiteExportaciones() {
+        super();
+        Gauge.builder("exportaciones.cupos.disponibles", this, limite -> limite.cupos.availablePermits())
+                .description("Exportaciones que todavía pueden empezar sin ser rechazadas")
+                .register(Metrics.globalRegistry);
+    }
+
+    public static LimiteExportaciones getInstance() {
+        return instancia;
+    }
+
+    // Se llama al arrancar, antes de la primera exportación
+    public void configurar(final int simultaneas, final long duracionMaximaMs) {
+        this.cupos = new Semaphore(Math.max(1, simultaneas));
+        this.duracionMaximaNanos = TimeUnit.MILLISECONDS.toNanos(duracionMaximaMs);
+    }
+
+    /**
+     * Devuelve el cupo tomado, que se libera con {@link Cupo#liberar()}, o null si ya hay tantas
+     * exportaciones en curso como permite el límite.
+     */
+    Cupo tomar() {
+        var semaforo = cupos;
+        if (!semaforo.tryAcquire()) {
+            return null;
+        }
+        return new Cupo(semaforo, System.nanoTime() + duracionMaximaNanos);
+    }
+
+    static final class Cupo {
+
+        private final Semaphore semaforo;
+        private final long limiteNanos;
+        private boolean liberado;
+
+        private Cupo(final Semaphore semaforo, final long limiteNanos) {
+            this.semaforo = semaforo;
+            this.limiteNanos = limiteNanos;
+        }
+
+        boolean vencido() {
+            return System.nanoTime() - limiteNanos > 0;
+        }
+
+        // Se libera sobre el semáforo con que se tomó, aunque entre tanto se haya reconfigurado
+        synchronized void liberar() {
+            if (!liberado) {
+                liberado = true;
+                semaforo.release();
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package co.edu.uco.backend.api;
 import co.edu.uco.backend.businesslogic.facade.MunicipioFacade;
 import co.edu.uco.backend.businesslogic.facade.impl.MunicipioFacadeImpl;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
 import co.edu.uco.backend.dto.MunicipioDTO;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -31,16 +32,16 @@ public class MunicipioController {
             @PathVariable UUID departamentoId,
             @PathVariable UUID municipioId
     ) throws BackEndException {
-        var dto = municipioFacade.consultarMunicipioPorId(departamentoId, municipioId);
-        return new ResponseEntity<>(dto, HttpStatus.OK);
+        return RespuestaCondicional.construir(VersionesRecursos.Recurso.MUNICIPIO,
+                () -> new ResponseEntity<>(municipioFacade.consultarMunicipioPorId(departamentoId, municipioId), HttpStatus.OK));
     }
 
     @GetMapping("/{departamentoId}")
     public ResponseEntity<List<MunicipioDTO>> consultarTodos(
             @PathVariable UUID departamentoId
     ) throws BackEndException {
-        var lista = municipioFacade.consultarMunicipios(departamentoId, getDummy());
-        return new ResponseEntity<>(lista, HttpStatus.OK);
+        return RespuestaCondicional.construir(VersionesRecursos.Recurso.MUNICIPIO,
+                () -> new ResponseEntity<>(municipioFacade.consultarMunicipios(departamentoId, getDummy()), HttpStatus.OK));
     }
 
     @PostMapping("/{departamentoId}")
@@ -2,8 +2,11 @@ package co.edu.uco.backend.api;
 
 import co.edu.uco.backend.businesslogic.facade.OrganizacionDeportivaFacade;
 import co.edu.uco.backend.businesslogic.facade.impl.OrganizacionDeportivaFacadeImpl;
+import co.edu.uco.backend.config.SesionConfig;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.seguridad.SesionUsuario;
 import co.edu.uco.backend.dto.OrganizacionDeportivaDTO;
+import co.edu.uco.backend.dto.SesionDTO;
 import co.edu.uco.backend.dto.UsuarioDTO;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -71,16 +74,19 @@ public class OrganizacionDeportivaController {
 
     // Métodos relacionados a Usuario
     @PostMapping("/iniciar-sesion")
-    public ResponseEntity<UsuarioDTO> iniciarSesion(@RequestParam String username,
+    public ResponseEntity<SesionDTO> iniciarSesion(@RequestParam String username,
                                                     @RequestParam String password,
                                                     @RequestParam String ip,
-                                                    @RequestParam String userAgent) {
-        var usuario = organizacionDeportivaFacade.iniciarSesion(username, password, ip, userAgent);
-        return new ResponseEntity<>(usuario, HttpStatus.OK);
+                                                    @RequestParam String userAgent) throws BackEndException {
+        var sesion = organizacionDeportivaFacade.iniciarSesion(username, password, ip, userAgent);
+        return new ResponseEntity<>(sesion, HttpStatus.OK);
     }
 
     @PostMapping("/cerrar-sesion/{usuarioId}")
-    public ResponseEntity<String> cerrarSesion(@PathVariable UUID usuarioId) {
+    public ResponseEntity<String> cerrarSesion(@PathVariable UUID usuarioId,
+                                               @RequestAttribute(name = SesionConfig.ATRIBUTO_SESION, required = false) SesionUsuario sesion)
+            throws BackEndException {
+        VerificadorSesion.exigirPropietario(sesion, usuarioId);
         organizacionDeportivaFacade.cerrarSesion(usuarioId);
         return new ResponseEntity<>("Sesión cerrada correctamente.", HttpStatus.OK);
     }
@@ -0,0 +1,39 @@
+package co.edu.uco.backend.api;
+
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+
+/**
+ * Cache-Control de las respuestas con ETag, por tipo de recurso. Las canchas cambian de precio y
+ * de datos en cualquier momento, así que por defecto el cliente debe revalidar cada vez (no-cache,
+ * que con el ETag se resuelve en un 304); los catálogos casi no cambian y se pueden reutilizar
+ * durante su max-age, también en cachés compartidas. Revalidar pregunta a la instancia que atienda:
+ * una escritura hecha en otra se nota cuando la versión local se renueva (ver VersionesRecursos).
+ */
+public final class PoliticasCacheHttp {
+
+    private static final PoliticasCacheHttp INSTANCE = new PoliticasCacheHttp();
+
+    private volatile CacheControl canchas = CacheControl.noCache();
+    private volatile CacheControl catalogos = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
+    private PoliticasCacheHttp() {
+        super();
+    }
+
+    public static PoliticasCacheHttp getInstance() {
+        return INSTANCE;
+    }
+
+    // Un max-age de cero deja la respuesta guardada pero obliga a revalidarla antes de usarla
+    public void configurar(final Duration maxAgeCanchas, final Duration maxAgeCatalogos) {
+        canchas = maxAgeCanchas.isZero() ? CacheControl.noCache() : CacheControl.maxAge(maxAgeCanchas).mustRevalidate();
+        catalogos = maxAgeCatalogos.isZero() ? CacheControl.noCache().cachePublic() : CacheControl.maxAge(maxAgeCatalogos).cachePublic();
+    }
+
+    CacheControl obtener(final VersionesRecursos.Recurso recurso) {
+        return recurso == VersionesRecursos.Recurso.CANCHA ? canchas : catalogos;
+    }
+}
@@ -4,22 +4,30 @@ import co.edu.uco.backend.businesslogic.facade.ReservaFacade;
 import co.edu.uco.backend.businesslogic.facade.impl.ReservaFacadeImpl;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.dto.ReservaDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-import java.util.Map;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/clientes/{clienteId}/reservas")
 public class ReservaController {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReservaController.class);
+
     private final ReservaFacade reservaFacade;
+    private final ObjectMapper objectMapper;
 
-    public ReservaController() throws BackEndException {
+    public ReservaController(ObjectMapper objectMapper) throws BackEndException {
         this.reservaFacade = new ReservaFacadeImpl();
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/dummy")
@@ -30,7 +38,7 @@ public class ReservaController {
     @PostMapping
     public ResponseEntity<String> registrar(
             @PathVariable UUID clienteId,
-            @RequestBody ReservaDTO reserva) {
+            @RequestBody ReservaDTO reserva) throws BackEndException {
         reservaFacade.registrarNuevaReserva(clienteId, reserva);
         return new ResponseEntity<>("Reserva registrada exitosamente.", HttpStatus.CREATED);
     }
@@ -62,14 +70,28 @@ public class ReservaController {
     }
 
     /**
-     * Cambiamos aquí el tipo de retorno a List<Map<String,Object>>
-     * para que devuelva solamente los 8 campos solicitados.
+     * Devuelve el resumen de las reservas del cliente (8 campos) como un arreglo JSON que se
+     * escribe fila a fila a medida que llega del único SELECT con JOIN, sin armar la lista en memoria.
+     * Se escribe en el hilo de la solicitud para que un fallo de la consulta, que ocurre antes de la
+     * primera fila, todavía llegue al controlador global con su estado HTTP.
      */
     @GetMapping
-    public ResponseEntity<List<Map<String, Object>>> listar(
-            @PathVariable UUID clienteId) throws BackEndException {
-        var lista = reservaFacade.listarReservasPorCliente(clienteId, new ReservaDTO());
-        return new ResponseEntity<>(lista, HttpStatus.OK);
+    public void listar(
+            @PathVariable UUID clienteId,
+            HttpServletResponse respuesta) throws BackEndException, IOException {
+        var arreglo = new ArregloJsonDiferido(objectMapper, respuesta);
+        try {
+            reservaFacade.recorrerReservasPorCliente(clienteId, arreglo::escribir);
+        } catch (BackEndException exception) {
+            arreglo.descartar();
+            throw exception;
+        } catch (UncheckedIOException exception) {
+            // El cliente cerró la conexión: no es una falla del servidor y no hay a quién responderle
+            LOGGER.debug("evento=cliente_desconectado ruta=reservas_cliente clienteId={} mensaje=\"{}\"",
+                    clienteId, exception.getCause().getMessage());
+            return;
+        }
+        arreglo.cerrar();
     }
 
     @PutMapping("/{reservaId}/finalizar")
@@ -0,0 +1,60 @@
+package co.edu.uco.backend.api;
+
+import co.edu.uco.backend.businesslogic.facade.ReservaFacade;
+import co.edu.uco.backend.businesslogic.facade.impl.ReservaFacadeImpl;
+import co.edu.uco.backend.config.SesionConfig;
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.seguridad.SesionUsuario;
+import co.edu.uco.backend.data.dao.entity.reserva.ReservaResumen;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/organizaciones/{orgId}/reservas")
+public class ReservaOrganizacionController {
+
+    private static final List<RespuestaExportacion.Columna<ReservaResumen>> COLUMNAS = List.of(
+            new RespuestaExportacion.Columna<>("codigoreserva", ReservaResumen::codigoreserva),
+            new RespuestaExportacion.Columna<>("fechaReserva", ReservaResumen::fechaReserva),
+            new RespuestaExportacion.Columna<>("fechaUsoCancha", ReservaResumen::fechaUsoCancha),
+            new RespuestaExportacion.Columna<>("horaInicio", ReservaResumen::horaInicio),
+            new RespuestaExportacion.Columna<>("horaFin", ReservaResumen::horaFin),
+            new RespuestaExportacion.Columna<>("nombreCliente", ReservaResumen::nombreCliente),
+            new RespuestaExportacion.Columna<>("nombreCancha", ReservaResumen::nombreCancha),
+            new RespuestaExportacion.Columna<>("nombreEstado", ReservaResumen::nombreEstado)
+    );
+
+    private final ReservaFacade reservaFacade;
+    private final ObjectMapper objectMapper;
+
+    public ReservaOrganizacionController(ObjectMapper objectMapper) throws BackEndException {
+        this.reservaFacade = new ReservaFacadeImpl();
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Exporta las reservas de las canchas de la organización con fecha de uso en [desde, hasta],
+     * una por línea en NDJSON (por defecto) o CSV, escritas a medida que llegan del cursor.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @PathVariable UUID orgId,
+            @RequestParam(value = "desde", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(value = "hasta", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+            @RequestParam(value = "formato", defaultValue = RespuestaExportacion.FORMATO_NDJSON) String formato,
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip,
+            @RequestAttribute(name = SesionConfig.ATRIBUTO_SESION, required = false) SesionUsuario sesion)
+            throws BackEndException {
+        VerificadorSesion.exigirPropietario(sesion, orgId);
+        var exportacion = reservaFacade.exportarReservasPorOrganizacion(orgId, desde, hasta);
+        return RespuestaExportacion.construir("reservas_" + desde + "_" + hasta, formato, gzip, COLUMNAS,
+                exportacion, objectMapper);
+    }
+}
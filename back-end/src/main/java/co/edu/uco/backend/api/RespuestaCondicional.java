@@ -0,0 +1,91 @@
+package co.edu.uco.backend.api;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Arma la respuesta de un GET condicional. El ETag sale de la versión del recurso (VersionesRecursos)
+ * y no del cuerpo: si el If-None-Match trae la etiqueta vigente se responde 304 sin llamar a la
+ * fachada, es decir, sin consultar la base de datos ni serializar nada. En otro caso se consulta y
+ * la respuesta sale con su ETag y el Cache-Control de PoliticasCacheHttp.
+ *
+ * Expone http.condicional.respuestas{recurso, resultado=no_modificado|completa}.
+ */
+final class RespuestaCondicional {
+
+    @FunctionalInterface
+    interface Consulta<T> {
+        ResponseEntity<T> ejecutar() throws BackEndException;
+    }
+
+    private static final String PREFIJO_DEBIL = "W/";
+    private static final String CUALQUIERA = "*";
+    private static final Map<VersionesRecursos.Recurso, Counter> NO_MODIFICADAS = registrarContadores("no_modificado");
+    private static final Map<VersionesRecursos.Recurso, Counter> COMPLETAS = registrarContadores("completa");
+
+    private RespuestaCondicional() {
+        super();
+    }
+
+    static <T> ResponseEntity<T> construir(final VersionesRecursos.Recurso recurso, final Consulta<T> consulta) throws BackEndException {
+        // La versión se lee antes de consultar, ver VersionesRecursos.consultar
+        var etiqueta = "\"" + nombre(recurso) + "-" + VersionesRecursos.getInstance().consultar(recurso) + "\"";
+        var politica = PoliticasCacheHttp.getInstance().obtener(recurso);
+        if (coincide(etiqueta)) {
+            NO_MODIFICADAS.get(recurso).increment();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(PREFIJO_DEBIL + etiqueta).cacheControl(politica).build();
+        }
+
+        var respuesta = consulta.ejecutar();
+        COMPLETAS.get(recurso).increment();
+        return ResponseEntity.status(respuesta.getStatusCode())
+                .headers(respuesta.getHeaders())
+                .eTag(PREFIJO_DEBIL + etiqueta)
+                .cacheControl(politica)
+                .body(respuesta.getBody());
+    }
+
+    // Comparación débil, como pide RFC 9110 para If-None-Match: W/"x" y "x" coinciden
+    private static boolean coincide(final String etiqueta) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes atributos)) {
+            return false;
+        }
+        var encabezados = atributos.getRequest().getHeaders(HttpHeaders.IF_NONE_MATCH);
+        while (encabezados != null && encabezados.hasMoreElements()) {
+            for (String candidata : encabezados.nextElement().split(",")) {
+                var valor = candidata.trim();
+                if (valor.startsWith(PREFIJO_DEBIL)) {
+                    valor = valor.substring(PREFIJO_DEBIL.length());
+                }
+                if (CUALQUIERA.equals(valor) || etiqueta.equals(valor)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String nombre(final VersionesRecursos.Recurso recurso) {
+        return recurso.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<VersionesRecursos.Recurso, Counter> registrarContadores(final String resultado) {
+        var contadores = new EnumMap<VersionesRecursos.Recurso, Counter>(VersionesRecursos.Recurso.class);
+        for (VersionesRecursos.Recurso recurso : VersionesRecursos.Recurso.values()) {
+            contadores.put(recurso, Counter.builder("http.condicional.respuestas").tag("recurso", nombre(recurso))
+                    .tag("resultado", resultado).register(Metrics.globalRegistry));
+        }
+        return contadores;
+    }
+}
@@ -0,0 +1,172 @@
+package co.edu.uco.backend.api;
+
+import co.edu.uco.backend.businesslogic.facade.Exportacion;
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Arma la respuesta de una exportación: cada fila que entrega el cursor se escribe de inmediato
+ * como una línea NDJSON o CSV, opcionalmente comprimida con gzip, así la memoria usada no crece
+ * con la cantidad de filas. Si la base de datos falla a mitad de camino ya se enviaron los
+ * encabezados; la conexión se corta sin el cierre del cuerpo y el cliente ve la descarga incompleta.
+ * Cada exportación ocupa un cupo de {@link LimiteExportaciones} hasta terminar; sin cupo se responde
+ * 503 sin tocar la base de datos. Pasada la duración máxima se deja de leer el cursor aunque el
+ * cliente siga descargando, y un cliente que deja de leer hace fallar la escritura cuando vence
+ * server.tomcat.connection-timeout; en ambos casos se cancela la transacción y se libera el cupo.
+ */
+final class RespuestaExportacion {
+
+    static final String FORMATO_NDJSON = "ndjson";
+    static final String FORMATO_CSV = "csv";
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final int TAMANO_BUFFER = 64 * 1024;
+    private static final String FIN_LINEA_CSV = "\r\n";
+    private static final String SEGUNDOS_REINTENTO = "30";
+
+    private RespuestaExportacion() {
+        super();
+    }
+
+    record Columna<T>(String encabezado, Function<T, Object> valor) {
+    }
+
+    static <T> ResponseEntity<StreamingResponseBody> construir(final String nombreArchivo, final String formato,
+                                                               final boolean gzip, final List<Columna<T>> columnas,
+                                                               final Exportacion<T> exportacion,
+                                                               final ObjectMapper objectMapper) throws BackEndException {
+        var formatoNormalizado = formato == null ? FORMATO_NDJSON : formato.trim().toLowerCase(Locale.ROOT);
+        if (!FORMATO_NDJSON.equals(formatoNormalizado) && !FORMATO_CSV.equals(formatoNormalizado)) {
+            throw BusinessLogicBackEndException.reportar("El formato de exportación debe ser ndjson o csv.");
+        }
+        var csv = FORMATO_CSV.equals(formatoNormalizado);
+
+        var encabezados = new HttpHeaders();
+        encabezados.setContentType(csv ? TEXT_CSV : MediaType.APPLICATION_NDJSON);
+        encabezados.setContentDisposition(ContentDisposition.attachment()
+                .filename(nombreArchivo + "." + formatoNormalizado)
+                .build());
+        if (gzip) {
+            encabezados.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        var cupo = LimiteExportaciones.getInstance().tomar();
+        if (cupo == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, SEGUNDOS_REINTENTO)
+                    .build();
+        }
+        var acotada = acotar(exportacion, cupo);
+        StreamingResponseBody cuerpo = salida -> {
+            try (var escritor = abrirEscritor(salida, gzip)) {
+                if (csv) {
+                    escribirCsv(escritor, columnas, acotada);
+                } else {
+                    escribirNdjson(escritor, acotada, objectMapper);
+                }
+            } catch (BackEndException exception) {
+                throw new IOException(exception.getMensajeTecnico(), exception);
+            } finally {
+                cupo.liberar();
+            }
+        };
+        return ResponseEntity.ok().headers(encabezados).body(cuerpo);
+    }
+
+    private static <T> Exportacion<T> acotar(final Exportacion<T> exportacion, final LimiteExportaciones.Cupo cupo) {
+        return consumidor -> exportacion.recorrer(fila -> {
+            if (cupo.vencido()) {
+                throw new UncheckedIOException(new IOException(
+                        "La exportación superó su duración máxima y se interrumpió antes de terminar"));
+            }
+            consumidor.accept(fila);
+        });
+    }
+
+    private static Writer abrirEscritor(final OutputStream salida, final boolean gzip) throws IOException {
+        var destino = gzip ? new GZIPOutputStream(salida, TAMANO_BUFFER) : salida;
+        return new BufferedWriter(new OutputStreamWriter(destino, StandardCharsets.UTF_8), TAMANO_BUFFER);
+    }
+
+    private static <T> void escribirNdjson(final Writer escritor, final Exportacion<T> exportacion,
+                                           final ObjectMapper objectMapper) throws IOException, BackEndException {
+        var generador = objectMapper.createGenerator(escritor);
+        exportacion.recorrer(fila -> {
+            try {
+                generador.writeObject(fila);
+                generador.writeRaw('\n');
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+        generador.flush();
+    }
+
+    private static <T> void escribirCsv(final Writer escritor, final List<Columna<T>> columnas,
+                                        final Exportacion<T> exportacion) throws IOException, BackEndException {
+        for (var i = 0; i < columnas.size(); i++) {
+            if (i > 0) {
+                escritor.write(',');
+            }
+            escribirCampo(escritor, columnas.get(i).encabezado());
+        }
+        escritor.write(FIN_LINEA_CSV);
+
+        exportacion.recorrer(fila -> {
+            try {
+                for (var i = 0; i < columnas.size(); i++) {
+                    if (i > 0) {
+                        escritor.write(',');
+                    }
+                    escribirCampo(escritor, columnas.get(i).valor().apply(fila));
+                }
+                escritor.write(FIN_LINEA_CSV);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+    }
+
+    // RFC 4180: entre comillas si trae separador, comillas o saltos de línea. Los textos que empiezan
+    // como fórmula se prefijan con ' para que la hoja de cálculo no los evalúe al abrir el archivo
+    private static void escribirCampo(final Writer escritor, final Object valor) throws IOException {
+        if (valor == null) {
+            return;
+        }
+        if (valor instanceof Double numero) {
+            escritor.write(BigDecimal.valueOf(numero).toPlainString());
+            return;
+        }
+        var texto = valor.toString();
+        if (valor instanceof String && !texto.isEmpty() && "=+-@\t\r".indexOf(texto.charAt(0)) >= 0) {
+            texto = "'" + texto;
+        }
+        if (texto.indexOf(',') < 0 && texto.indexOf('"') < 0 && texto.indexOf('\n') < 0 && texto.indexOf('\r') < 0) {
+            escritor.write(texto);
+            return;
+        }
+        escritor.write('"');
+        escritor.write(texto.replace("\"", "\"\""));
+        escritor.write('"');
+    }
+}
@@ -0,0 +1,41 @@
+package co.edu.uco.backend.api;
+
+import co.edu.uco.backend.data.dao.entity.Pagina;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Arma la respuesta de un listado paginado: el cuerpo sigue siendo el arreglo de elementos y el
+ * cursor de la página siguiente viaja en encabezados (X-Siguiente-Cursor y Link rel="next").
+ */
+final class RespuestaPaginada {
+
+    static final String ENCABEZADO_SIGUIENTE_CURSOR = "X-Siguiente-Cursor";
+
+    private RespuestaPaginada() {
+        super();
+    }
+
+    static <T> ResponseEntity<List<T>> construir(final Pagina<T> pagina) {
+        return construir(pagina.elementos(), pagina.siguienteCursor());
+    }
+
+    // Para respuestas cuyo cuerpo no es solo el arreglo, como la búsqueda facetada con sus conteos
+    static <T> ResponseEntity<T> construir(final T cuerpo, final UUID siguienteCursor) {
+        var encabezados = new HttpHeaders();
+        if (siguienteCursor != null) {
+            var cursor = siguienteCursor.toString();
+            var siguiente = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", cursor)
+                    .toUriString();
+            encabezados.add(ENCABEZADO_SIGUIENTE_CURSOR, cursor);
+            encabezados.add(HttpHeaders.LINK, "<" + siguiente + ">; rel=\"next\"");
+        }
+        return new ResponseEntity<>(cuerpo, encabezados, HttpStatus.OK);
+    }
+}
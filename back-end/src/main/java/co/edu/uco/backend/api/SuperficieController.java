@@ -3,6 +3,7 @@ package co.edu.uco.backend.api;
 import co.edu.uco.backend.businesslogic.facade.SuperficieFacade;
 import co.edu.uco.backend.businesslogic.facade.impl.SuperficieFacadeImpl;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
 import co.edu.uco.backend.dto.SuperficieDTO;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -46,13 +47,17 @@ public class SuperficieController {
 
     @GetMapping("/{id}")
     public ResponseEntity<SuperficieDTO> consultarPorId(@PathVariable UUID id) throws BackEndException {
-        SuperficieDTO superficie = superficieFacade.consultarSuperficiePorId(id);
-        return new ResponseEntity<>(superficie, HttpStatus.OK);
+        return RespuestaCondicional.construir(VersionesRecursos.Recurso.SUPERFICIE,
+                () -> new ResponseEntity<>(superficieFacade.consultarSuperficiePorId(id), HttpStatus.OK));
     }
 
     @GetMapping
     public ResponseEntity<List<SuperficieDTO>> listar(@RequestBody(required = false) SuperficieDTO filtro) throws BackEndException {
-        List<SuperficieDTO> superficies = superficieFacade.consultarSuperficies(filtro != null ? filtro : new SuperficieDTO());
-        return new ResponseEntity<>(superficies, HttpStatus.OK);
+        // Con un filtro en el cuerpo la URL ya no identifica la respuesta, así que va sin ETag
+        if (filtro != null) {
+            return new ResponseEntity<>(superficieFacade.consultarSuperficies(filtro), HttpStatus.OK);
+        }
+        return RespuestaCondicional.construir(VersionesRecursos.Recurso.SUPERFICIE,
+                () -> new ResponseEntity<>(superficieFacade.consultarSuperficies(new SuperficieDTO()), HttpStatus.OK));
     }
 }
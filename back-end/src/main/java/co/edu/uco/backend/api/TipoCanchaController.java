@@ -3,6 +3,7 @@ package co.edu.uco.backend.api;
 import co.edu.uco.backend.businesslogic.facade.TipoCanchaFacade;
 import co.edu.uco.backend.businesslogic.facade.impl.TipoCanchaFacadeImpl;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
 import co.edu.uco.backend.dto.TipoCanchaDTO;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -46,13 +47,17 @@ public class TipoCanchaController {
 
     @GetMapping("/{id}")
     public ResponseEntity<TipoCanchaDTO> consultarPorId(@PathVariable UUID id) throws BackEndException {
-        TipoCanchaDTO tipoCancha = tipoCanchaFacade.consultarTipoCanchaPorId(id);
-        return new ResponseEntity<>(tipoCancha, HttpStatus.OK);
+        return RespuestaCondicional.construir(VersionesRecursos.Recurso.TIPO_CANCHA,
+                () -> new ResponseEntity<>(tipoCanchaFacade.consultarTipoCanchaPorId(id), HttpStatus.OK));
     }
 
     @GetMapping
     public ResponseEntity<List<TipoCanchaDTO>> listar(@RequestBody(required = false) TipoCanchaDTO filtro) throws BackEndException {
-        List<TipoCanchaDTO> tiposCanchas = tipoCanchaFacade.consultarTipoCanchas(filtro != null ? filtro : new TipoCanchaDTO());
-        return new ResponseEntity<>(tiposCanchas, HttpStatus.OK);
+        // Con un filtro en el cuerpo la URL ya no identifica la respuesta, así que va sin ETag
+        if (filtro != null) {
+            return new ResponseEntity<>(tipoCanchaFacade.consultarTipoCanchas(filtro), HttpStatus.OK);
+        }
+        return RespuestaCondicional.construir(VersionesRecursos.Recurso.TIPO_CANCHA,
+                () -> new ResponseEntity<>(tipoCanchaFacade.consultarTipoCanchas(new TipoCanchaDTO()), HttpStatus.OK));
     }
 }
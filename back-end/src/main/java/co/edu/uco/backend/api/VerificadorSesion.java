@@ -0,0 +1,31 @@
+package co.edu.uco.backend.api;
+
+import co.edu.uco.backend.crosscutting.exceptions.AutorizacionBackEndException;
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.seguridad.SesionUsuario;
+
+import java.util.UUID;
+
+/**
+ * Comprueba que la sesión que SesionConfig dejó en la solicitud pertenezca al usuario dueño del
+ * recurso. El interceptor ya rechazó los tokens inválidos o vencidos, así que aquí solo falta
+ * distinguir la solicitud anónima (401) de la que actúa sobre un recurso ajeno (403).
+ */
+final class VerificadorSesion {
+
+    private VerificadorSesion() {
+    }
+
+    static void exigirPropietario(final SesionUsuario sesion, final UUID propietarioId) throws BackEndException {
+        if (sesion == null) {
+            throw AutorizacionBackEndException.reportarSinSesion(
+                    "Debes iniciar sesión para realizar esta operación",
+                    "La solicitud no trae un token de sesión");
+        }
+        if (!sesion.usuarioId().equals(propietarioId)) {
+            throw AutorizacionBackEndException.reportarSinPermiso(
+                    "No tienes permiso para realizar esta operación",
+                    "La sesión del usuario " + sesion.usuarioId() + " intentó operar sobre el recurso de " + propietarioId);
+        }
+    }
+}
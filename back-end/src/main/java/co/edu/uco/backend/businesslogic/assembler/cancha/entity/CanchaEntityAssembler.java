@@ -72,7 +72,7 @@ public final class CanchaEntityAssembler implements EntityAssembler<CanchaEntity
         for (CanchaEntity entity : entityList) {
             listaResultados.add(toDomain(entity));
         }
-        return List.of();
+        return listaResultados;
     }
 
     @Override
@@ -81,7 +81,7 @@ public final class CanchaEntityAssembler implements EntityAssembler<CanchaEntity
         for (CanchaDomain domain : domainList) {
             listaResultados.add(toEntity(domain));
         }
-        return List.of();
+        return listaResultados;
     }
 
 
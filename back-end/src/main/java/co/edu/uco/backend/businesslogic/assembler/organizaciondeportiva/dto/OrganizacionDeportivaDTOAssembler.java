@@ -31,9 +31,9 @@ public final class OrganizacionDeportivaDTOAssembler implements DTOAssembler<Org
                 domain.getId(),
                 domain.getNombre(),
                 domain.getUsername(),
-                domain.getTelefono(),
-                domain.getPrefijoTelefono(),
                 domain.getContrasena(),
+                domain.getPrefijoTelefono(),
+                domain.getTelefono(),
                 domain.getDocumentoExistencia(),
                 domain.getCorreoAdministrativo(),
                 domain.getPaginaWeb(),
@@ -50,9 +50,9 @@ public final class OrganizacionDeportivaDTOAssembler implements DTOAssembler<Org
                 dtoAEnsamblar.getId(),
                 dtoAEnsamblar.getNombre(),
                 dtoAEnsamblar.getUsername(),
-                dtoAEnsamblar.getTelefono(),
-                dtoAEnsamblar.getPrefijoTelefono(),
                 dtoAEnsamblar.getContrasena(),
+                dtoAEnsamblar.getPrefijoTelefono(),
+                dtoAEnsamblar.getTelefono(),
                 dtoAEnsamblar.getDocumentoExistencia(),
                 dtoAEnsamblar.getCorreoAdministrativo(),
                 dtoAEnsamblar.getPaginaWeb(),
@@ -2,12 +2,23 @@ package co.edu.uco.backend.businesslogic.businesslogic;
 
 import co.edu.uco.backend.businesslogic.businesslogic.domain.ClienteDomain;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.entity.Pagina;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface ClienteBusinessLogic extends UsuarioBusinessLogic {
 
+    /**
+     * Valida la contraseña en claro y retorna el cliente con la contraseña cifrada; si viene vacía
+     * (modificación que no la cambia) lo retorna igual. No usa la conexión: la fachada lo llama antes
+     * de abrirla, así el cifrado no retiene una conexión ni una transacción.
+     */
+    ClienteDomain cifrarContrasena(ClienteDomain cliente) throws BackEndException;
+
+    /**
+     * Recibe la contraseña ya cifrada con cifrarContrasena.
+     */
     void registrarNuevoCliente(ClienteDomain cliente) throws BackEndException;
 
     void modificarClienteExistente(UUID clienteId, ClienteDomain cliente) throws BackEndException;
@@ -18,4 +29,6 @@ public interface ClienteBusinessLogic extends UsuarioBusinessLogic {
 
     List<ClienteDomain> consultarClientes(ClienteDomain filtro) throws BackEndException;
 
+    Pagina<ClienteDomain> consultarClientes(ClienteDomain filtro, UUID despuesDe, int limite) throws BackEndException;
+
 }
@@ -2,9 +2,12 @@ package co.edu.uco.backend.businesslogic.businesslogic;
 
 import co.edu.uco.backend.businesslogic.businesslogic.domain.FacturaDomain;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.entity.factura.FacturaResumen;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface FacturaBusinessLogic {
 
@@ -20,4 +23,9 @@ public interface FacturaBusinessLogic {
 
     byte[] generarPdfFactura(UUID reservaId, UUID facturaId);
 
+    void validarExportacionFacturas(UUID orgId, LocalDate desde, LocalDate hasta) throws BackEndException;
+
+    void exportarFacturasPorOrganizacion(UUID orgId, LocalDate desde, LocalDate hasta,
+                                         Consumer<FacturaResumen> consumidor) throws BackEndException;
+
 }
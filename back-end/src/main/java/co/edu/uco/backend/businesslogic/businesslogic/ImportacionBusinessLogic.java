@@ -0,0 +1,17 @@
+package co.edu.uco.backend.businesslogic.businesslogic;
+
+import co.edu.uco.backend.businesslogic.businesslogic.importacion.FilaImportacion;
+import co.edu.uco.backend.businesslogic.businesslogic.importacion.ResultadoImportacion;
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ImportacionBusinessLogic {
+
+    ResultadoImportacion importarCanchas(UUID orgId, List<FilaImportacion> filas) throws BackEndException;
+
+    ResultadoImportacion importarHorariosDisponibles(UUID orgId, List<FilaImportacion> filas) throws BackEndException;
+
+    ResultadoImportacion importarHorariosEspeciales(UUID orgId, List<FilaImportacion> filas) throws BackEndException;
+}
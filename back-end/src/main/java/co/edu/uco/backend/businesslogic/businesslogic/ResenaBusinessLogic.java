@@ -1,6 +1,7 @@
 package co.edu.uco.backend.businesslogic.businesslogic;
 
 import co.edu.uco.backend.businesslogic.businesslogic.domain.ResenaDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.calificacion.Calificacion;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 
 import java.util.List;
@@ -18,4 +19,8 @@ public interface ResenaBusinessLogic {
 
     List<ResenaDomain> consultarResenas(UUID reservaId, ResenaDomain filtro) throws BackEndException;
 
+    Calificacion consultarCalificacionCancha(UUID canchaId) throws BackEndException;
+
+    Calificacion consultarCalificacionOrganizacion(UUID orgId) throws BackEndException;
+
 }
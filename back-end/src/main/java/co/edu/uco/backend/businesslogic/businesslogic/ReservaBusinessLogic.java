@@ -1,9 +1,12 @@
 package co.edu.uco.backend.businesslogic.businesslogic;
 import co.edu.uco.backend.businesslogic.businesslogic.domain.ReservaDomain;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.entity.reserva.ReservaResumen;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface ReservaBusinessLogic {
 
@@ -17,6 +20,13 @@ public interface ReservaBusinessLogic {
 
     List<ReservaDomain> listarReservasPorCliente(UUID clienteId, ReservaDomain filtro) throws BackEndException;
 
+    void recorrerResumenReservasPorCliente(UUID clienteId, Consumer<ReservaResumen> consumidor) throws BackEndException;
+
+    void validarExportacionReservas(UUID orgId, LocalDate desde, LocalDate hasta) throws BackEndException;
+
+    void exportarReservasPorOrganizacion(UUID orgId, LocalDate desde, LocalDate hasta,
+                                         Consumer<ReservaResumen> consumidor) throws BackEndException;
+
     void finalizarReserva(UUID clienteId, UUID reservaId);
 
     void cancelarReservaPorOrganizacion(UUID orgId, UUID reservaId) throws BackEndException;
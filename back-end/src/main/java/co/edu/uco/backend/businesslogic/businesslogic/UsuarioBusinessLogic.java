@@ -7,7 +7,26 @@ import java.util.List;
 import java.util.UUID;
 
 public interface UsuarioBusinessLogic {
-    UsuarioDomain iniciarSesion(String username, String rawPassword, String ipAdress, String userAgent) throws BackEndException;
+    /**
+     * Busca al usuario por nombre de usuario junto con su contraseña almacenada, o retorna null si no
+     * existe. Es el único paso del inicio de sesión que usa la conexión.
+     */
+    UsuarioDomain consultarCredenciales(String username, String rawPassword) throws BackEndException;
+
+    /**
+     * Comprueba la contraseña contra las credenciales consultadas (null si el usuario no existe) y
+     * retorna el usuario sin su contraseña. No usa la conexión.
+     */
+    UsuarioDomain verificarCredenciales(UsuarioDomain credenciales, String rawPassword) throws BackEndException;
+
+    /**
+     * Retorna la contraseña cifrada de nuevo si la almacenada quedó desactualizada (menos iteraciones
+     * de las configuradas, o texto plano heredado), o null si no hace falta. No usa la conexión.
+     */
+    String recifrarContrasena(UsuarioDomain credenciales, String rawPassword) throws BackEndException;
+
+    void actualizarContrasenaCifrada(UUID usuarioId, String contrasenaCifrada) throws BackEndException;
+
     void cerrarSesion(UUID usuarioId);
     void recuperarContrasena(String username);
     void cambiarContrasena(UUID usuarioId, String rawPasswordActual, String rawPasswordNueva);
@@ -0,0 +1,22 @@
+package co.edu.uco.backend.businesslogic.businesslogic.calificacion;
+
+import co.edu.uco.backend.data.dao.entity.resumencalificacion.ResumenCalificacion;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Calificación de una cancha o de una organización tal como se muestra: cantidad de reseñas,
+ * promedio redondeado a dos decimales y cuántas reseñas dieron cada número de estrellas (1 a 5).
+ */
+public record Calificacion(UUID id, int cantidadResenas, double promedio, Map<Integer, Integer> estrellas) {
+
+    public static Calificacion desde(final ResumenCalificacion resumen) {
+        var estrellas = new LinkedHashMap<Integer, Integer>();
+        for (var numero = 1; numero <= 5; numero++) {
+            estrellas.put(numero, resumen.contarEstrellas(numero));
+        }
+        return new Calificacion(resumen.id(), resumen.cantidad(), Math.round(resumen.promedio() * 100.0) / 100.0, estrellas);
+    }
+}
@@ -0,0 +1,176 @@
+package co.edu.uco.backend.businesslogic.businesslogic.disponibilidad;
+
+import co.edu.uco.backend.businesslogic.businesslogic.domain.HorarioDisponibleDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.domain.HorarioEspecialDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.domain.ReservaDomain;
+import co.edu.uco.backend.crosscutting.constants.DiaSemana;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Agenda en memoria de una cancha. Cada día se representa con un mapa de bits de 1440 posiciones
+ * (un bit por minuto): horario semanal abierto, menos cierres especiales, menos minutos reservados.
+ * La ocupación solo se conoce para las fechas ya cargadas desde la base de datos.
+ */
+final class AgendaCancha {
+
+    static final int MINUTOS_DIA = 24 * 60;
+
+    private final EnumMap<DiaSemana, BitSet> horarioSemanal = new EnumMap<>(DiaSemana.class);
+    private final List<CierreEspecial> cierresEspeciales = new ArrayList<>();
+    private final Map<LocalDate, BitSet> ocupacion = new HashMap<>();
+    private final ReentrantReadWriteLock candado = new ReentrantReadWriteLock();
+    private long version;
+
+    private record CierreEspecial(LocalDate fechaInicio, LocalDate fechaFin, BitSet minutos) {
+    }
+
+    AgendaCancha(final List<HorarioDisponibleDomain> horariosDisponibles,
+                 final List<HorarioEspecialDomain> horariosEspeciales) {
+        for (DiaSemana dia : DiaSemana.values()) {
+            horarioSemanal.put(dia, new BitSet(MINUTOS_DIA));
+        }
+        for (HorarioDisponibleDomain horario : horariosDisponibles) {
+            marcar(horarioSemanal.get(horario.getDia()), horario.getHoraApertura(), horario.getHoraCierre());
+        }
+        for (HorarioEspecialDomain horario : horariosEspeciales) {
+            var minutos = new BitSet(MINUTOS_DIA);
+            marcar(minutos, horario.getHoraInicio(), horario.getHoraFin());
+            cierresEspeciales.add(new CierreEspecial(horario.getFechaInicio(), horario.getFechaFin(), minutos));
+        }
+    }
+
+    long obtenerVersion() {
+        candado.readLock().lock();
+        try {
+            return version;
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    /**
+     * Instala la ocupación leída de la base de datos, salvo que alguna reserva haya cambiado
+     * mientras se consultaba (la versión leída ya no coincide). En ese caso no se guarda nada.
+     */
+    void cargarOcupacion(final long versionLeida, final LocalDate desde, final LocalDate hasta,
+                            final Map<LocalDate, BitSet> ocupacionRango) {
+        candado.writeLock().lock();
+        try {
+            if (version != versionLeida) {
+                return;
+            }
+            ocupacion.keySet().removeIf(fecha -> fecha.isBefore(LocalDate.now().minusDays(1)));
+            for (var fecha = desde; !fecha.isAfter(hasta); fecha = fecha.plusDays(1)) {
+                ocupacion.put(fecha, ocupacionRango.getOrDefault(fecha, new BitSet(MINUTOS_DIA)));
+            }
+        } finally {
+            candado.writeLock().unlock();
+        }
+    }
+
+    void registrarReserva(final LocalDate fecha, final LocalTime horaInicio, final LocalTime horaFin) {
+        candado.writeLock().lock();
+        try {
+            version++;
+            var minutos = ocupacion.get(fecha);
+            if (minutos != null) {
+                marcar(minutos, horaInicio, horaFin);
+            }
+        } finally {
+            candado.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Al liberar una reserva no se limpian sus bits (podrían solaparse con otra), se descarta la fecha
+     * para que la siguiente consulta la vuelva a leer de la base de datos.
+     */
+    void liberarReserva(final LocalDate fecha) {
+        candado.writeLock().lock();
+        try {
+            version++;
+            ocupacion.remove(fecha);
+        } finally {
+            candado.writeLock().unlock();
+        }
+    }
+
+    List<DisponibilidadDia> calcularSiEstaCargada(final LocalDate desde, final LocalDate hasta) {
+        candado.readLock().lock();
+        try {
+            for (var fecha = desde; !fecha.isAfter(hasta); fecha = fecha.plusDays(1)) {
+                if (!ocupacion.containsKey(fecha)) {
+                    return null;
+                }
+            }
+            return calcular(desde, hasta, ocupacion);
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    List<DisponibilidadDia> calcular(final LocalDate desde, final LocalDate hasta,
+                                     final Map<LocalDate, BitSet> ocupacionRango) {
+        var resultado = new ArrayList<DisponibilidadDia>();
+        for (var fecha = desde; !fecha.isAfter(hasta); fecha = fecha.plusDays(1)) {
+            var dia = DiaSemana.values()[fecha.getDayOfWeek().getValue() - 1];
+            var libres = (BitSet) horarioSemanal.get(dia).clone();
+            for (CierreEspecial cierre : cierresEspeciales) {
+                if (!fecha.isBefore(cierre.fechaInicio()) && !fecha.isAfter(cierre.fechaFin())) {
+                    libres.andNot(cierre.minutos());
+                }
+            }
+            var ocupados = ocupacionRango.get(fecha);
+            if (ocupados != null) {
+                libres.andNot(ocupados);
+            }
+            resultado.add(new DisponibilidadDia(fecha, dia, aFranjas(libres)));
+        }
+        return resultado;
+    }
+
+    static Map<LocalDate, BitSet> agruparOcupacion(final List<ReservaDomain> reservas) {
+        var ocupacionRango = new HashMap<LocalDate, BitSet>();
+        for (ReservaDomain reserva : reservas) {
+            var minutos = ocupacionRango.computeIfAbsent(reserva.getFechaUsoCancha(), fecha -> new BitSet(MINUTOS_DIA));
+            marcar(minutos, reserva.getHoraInicio(), reserva.getHoraFin());
+        }
+        return ocupacionRango;
+    }
+
+    private static void marcar(final BitSet minutos, final LocalTime inicio, final LocalTime fin) {
+        var minutoInicio = aMinuto(inicio);
+        var minutoFin = LocalTime.MIDNIGHT.equals(fin) ? MINUTOS_DIA : aMinuto(fin);
+        if (minutoFin > minutoInicio) {
+            minutos.set(minutoInicio, minutoFin);
+        }
+    }
+
+    private static List<FranjaHoraria> aFranjas(final BitSet libres) {
+        var franjas = new ArrayList<FranjaHoraria>();
+        var inicio = libres.nextSetBit(0);
+        while (inicio >= 0 && inicio < MINUTOS_DIA) {
+            var fin = Math.min(libres.nextClearBit(inicio), MINUTOS_DIA);
+            franjas.add(new FranjaHoraria(aHora(inicio), aHora(fin)));
+            inicio = libres.nextSetBit(fin);
+        }
+        return franjas;
+    }
+
+    private static int aMinuto(final LocalTime hora) {
+        return hora.getHour() * 60 + hora.getMinute();
+    }
+
+    private static LocalTime aHora(final int minuto) {
+        return minuto >= MINUTOS_DIA ? LocalTime.MIDNIGHT : LocalTime.of(minuto / 60, minuto % 60);
+    }
+}
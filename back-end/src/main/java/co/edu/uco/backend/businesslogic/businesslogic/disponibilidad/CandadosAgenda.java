@@ -0,0 +1,37 @@
+package co.edu.uco.backend.businesslogic.businesslogic.disponibilidad;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Candados por franjas (lock striping) para la agenda de una cancha en una fecha.
+ * Dos reservas de la misma cancha y el mismo día siempre comparten candado; reservas de
+ * canchas o días distintos casi nunca lo hacen, así que no se serializa toda la tabla reserva.
+ * Solo protege dentro de esta instancia; entre instancias el bloqueo lo hace la base de datos.
+ */
+public final class CandadosAgenda {
+
+    private static final int NUMERO_FRANJAS = 1024;
+
+    private static final CandadosAgenda INSTANCE = new CandadosAgenda();
+
+    private final ReentrantLock[] franjas = new ReentrantLock[NUMERO_FRANJAS];
+
+    private CandadosAgenda() {
+        for (int i = 0; i < NUMERO_FRANJAS; i++) {
+            franjas[i] = new ReentrantLock();
+        }
+    }
+
+    public static CandadosAgenda getInstance() {
+        return INSTANCE;
+    }
+
+    public ReentrantLock obtenerCandado(final UUID canchaId, final LocalDate fecha) {
+        var hash = 31 * canchaId.hashCode() + fecha.hashCode();
+        // Se mezclan los bits altos para que fechas consecutivas no caigan en franjas vecinas
+        hash ^= (hash >>> 16);
+        return franjas[hash & (NUMERO_FRANJAS - 1)];
+    }
+}
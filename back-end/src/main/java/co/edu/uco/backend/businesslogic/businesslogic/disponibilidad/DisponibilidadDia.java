@@ -0,0 +1,9 @@
+package co.edu.uco.backend.businesslogic.businesslogic.disponibilidad;
+
+import co.edu.uco.backend.crosscutting.constants.DiaSemana;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record DisponibilidadDia(LocalDate fecha, DiaSemana dia, List<FranjaHoraria> franjasLibres) {
+}
@@ -0,0 +1,10 @@
+package co.edu.uco.backend.businesslogic.businesslogic.disponibilidad;
+
+import java.time.LocalTime;
+
+/**
+ * Intervalo libre [horaInicio, horaFin) dentro de un día.
+ * Una horaFin igual a 00:00 representa el fin del día (24:00).
+ */
+public record FranjaHoraria(LocalTime horaInicio, LocalTime horaFin) {
+}
@@ -0,0 +1,177 @@
+package co.edu.uco.backend.businesslogic.businesslogic.disponibilidad;
+
+import co.edu.uco.backend.businesslogic.businesslogic.domain.HorarioDisponibleDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.domain.HorarioEspecialDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.domain.ReservaDomain;
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Motor de disponibilidad de canchas. Mantiene una AgendaCancha por cancha; una vez cargados los
+ * horarios y la ocupación de un rango de fechas, las consultas se resuelven en memoria sin ir a la
+ * base de datos. Las reservas se aplican de forma incremental y los cambios de horario descartan
+ * la agenda de la cancha para reconstruirla en la siguiente consulta.
+ * <p>
+ * Igual que CacheCatalogo, la memoria está acotada: como máximo capacidadMaxima agendas, cada una
+ * vigente durante un tiempo fijo desde que se cargó. Al vencer se reconstruye desde la base de datos,
+ * lo que además recoge reservas hechas por otras instancias. El tamaño se expone en
+ * disponibilidad.agendas.tamano.
+ */
+public final class MotorDisponibilidad {
+
+    public static final int MAXIMO_DIAS_CONSULTA = 62;
+    public static final int CAPACIDAD_DEFECTO = 2_000;
+    public static final Duration VIGENCIA_DEFECTO = Duration.ofMinutes(5);
+
+    private static final MotorDisponibilidad INSTANCE = new MotorDisponibilidad();
+
+    private record Entrada(AgendaCancha agenda, long expiraEn) {
+
+        boolean vencida(final long ahora) {
+            return expiraEn - ahora <= 0;
+        }
+    }
+
+    private final ConcurrentHashMap<UUID, Entrada> agendas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Long> generaciones = new ConcurrentHashMap<>();
+    private volatile int capacidadMaxima = CAPACIDAD_DEFECTO;
+    private volatile long vigenciaNanos = VIGENCIA_DEFECTO.toNanos();
+
+    private MotorDisponibilidad() {
+        super();
+        Gauge.builder("disponibilidad.agendas.tamano", agendas, Map::size).register(Metrics.globalRegistry);
+    }
+
+    public static MotorDisponibilidad getInstance() {
+        return INSTANCE;
+    }
+
+    public void configurar(final int capacidadMaxima, final Duration vigencia) {
+        this.capacidadMaxima = capacidadMaxima;
+        this.vigenciaNanos = vigencia.toNanos();
+    }
+
+    /**
+     * Origen de los datos de una cancha; solo se invoca cuando la agenda en memoria no alcanza
+     * para responder la consulta.
+     */
+    public interface FuenteAgenda {
+
+        List<HorarioDisponibleDomain> consultarHorariosDisponibles() throws BackEndException;
+
+        List<HorarioEspecialDomain> consultarHorariosEspeciales() throws BackEndException;
+
+        List<ReservaDomain> consultarReservas(LocalDate desde, LocalDate hasta) throws BackEndException;
+    }
+
+    /**
+     * Responde solo con lo que ya está en memoria; retorna null si falta cargar algún dato
+     * (o el rango no es válido) y la consulta debe ir por la fuente de datos.
+     */
+    public List<DisponibilidadDia> consultarEnMemoria(final UUID canchaId, final LocalDate desde, final LocalDate hasta) {
+        if (canchaId == null || desde == null || hasta == null || desde.isAfter(hasta)
+                || ChronoUnit.DAYS.between(desde, hasta) >= MAXIMO_DIAS_CONSULTA) {
+            return null;
+        }
+        var agenda = obtenerVigente(canchaId);
+        return agenda == null ? null : agenda.calcularSiEstaCargada(desde, hasta);
+    }
+
+    public List<DisponibilidadDia> consultar(final UUID canchaId, final LocalDate desde, final LocalDate hasta,
+                                             final FuenteAgenda fuente) throws BackEndException {
+        var agenda = obtenerVigente(canchaId);
+        if (agenda == null) {
+            var generacion = generaciones.getOrDefault(canchaId, 0L);
+            var nueva = new AgendaCancha(fuente.consultarHorariosDisponibles(), fuente.consultarHorariosEspeciales());
+            agenda = instalar(canchaId, generacion, nueva);
+        }
+
+        var enMemoria = agenda.calcularSiEstaCargada(desde, hasta);
+        if (enMemoria != null) {
+            return enMemoria;
+        }
+
+        var version = agenda.obtenerVersion();
+        var ocupacion = AgendaCancha.agruparOcupacion(fuente.consultarReservas(desde, hasta));
+        agenda.cargarOcupacion(version, desde, hasta, ocupacion);
+        // Se responde con lo leído; si una reserva cambió durante la lectura la ocupación no queda en memoria
+        return agenda.calcular(desde, hasta, ocupacion);
+    }
+
+    public void registrarReserva(final UUID canchaId, final LocalDate fecha, final LocalTime horaInicio, final LocalTime horaFin) {
+        var agenda = obtenerVigente(canchaId);
+        if (agenda != null) {
+            agenda.registrarReserva(fecha, horaInicio, horaFin);
+        }
+    }
+
+    public void liberarReserva(final UUID canchaId, final LocalDate fecha) {
+        var agenda = obtenerVigente(canchaId);
+        if (agenda != null) {
+            agenda.liberarReserva(fecha);
+        }
+    }
+
+    public void invalidarHorarios(final UUID canchaId) {
+        generaciones.merge(canchaId, 1L, Long::sum);
+        agendas.remove(canchaId);
+    }
+
+    private AgendaCancha obtenerVigente(final UUID canchaId) {
+        var entrada = agendas.get(canchaId);
+        if (entrada == null) {
+            return null;
+        }
+        if (entrada.vencida(System.nanoTime())) {
+            agendas.remove(canchaId, entrada);
+            return null;
+        }
+        return entrada.agenda();
+    }
+
+    private AgendaCancha instalar(final UUID canchaId, final long generacion, final AgendaCancha nueva) {
+        if (agendas.size() >= capacidadMaxima && !agendas.containsKey(canchaId)) {
+            hacerEspacio();
+        }
+        var ahora = System.nanoTime();
+        // Si los horarios cambiaron mientras se leían, la agenda nueva se usa solo para esta consulta
+        var instalada = agendas.compute(canchaId, (id, actual) -> {
+            if (actual != null && !actual.vencida(ahora)) {
+                return actual;
+            }
+            return generaciones.getOrDefault(id, 0L) == generacion ? new Entrada(nueva, ahora + vigenciaNanos) : null;
+        });
+        return instalada != null ? instalada.agenda() : nueva;
+    }
+
+    private void hacerEspacio() {
+        var ahora = System.nanoTime();
+        agendas.values().removeIf(entrada -> entrada.vencida(ahora));
+
+        // Si todas siguen vigentes se descarta la más próxima a vencer
+        while (agendas.size() >= capacidadMaxima) {
+            UUID masAntigua = null;
+            var expiraPrimero = Long.MAX_VALUE;
+            for (var registro : agendas.entrySet()) {
+                if (masAntigua == null || registro.getValue().expiraEn() - expiraPrimero < 0) {
+                    masAntigua = registro.getKey();
+                    expiraPrimero = registro.getValue().expiraEn();
+                }
+            }
+            if (masAntigua == null) {
+                return;
+            }
+            agendas.remove(masAntigua);
+        }
+    }
+}
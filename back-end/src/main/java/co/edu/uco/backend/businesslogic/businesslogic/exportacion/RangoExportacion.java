@@ -0,0 +1,31 @@
+package co.edu.uco.backend.businesslogic.businesslogic.exportacion;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Reglas comunes a las exportaciones por organización. No se limita la amplitud del rango: la
+ * exportación recorre un cursor y su consumo de memoria no depende de cuántas filas devuelva.
+ */
+public final class RangoExportacion {
+
+    private RangoExportacion() {
+        super();
+    }
+
+    public static void validar(final UUID organizacionId, final LocalDate desde, final LocalDate hasta) throws BackEndException {
+        if (UtilUUID.esValorDefecto(organizacionId)) {
+            throw BusinessLogicBackEndException.reportar("El ID de la organización es obligatorio para exportar.");
+        }
+        if (desde == null || hasta == null) {
+            throw BusinessLogicBackEndException.reportar("Las fechas desde y hasta son obligatorias para exportar.");
+        }
+        if (desde.isAfter(hasta)) {
+            throw BusinessLogicBackEndException.reportar("La fecha desde no puede ser posterior a la fecha hasta.");
+        }
+    }
+}
@@ -1,16 +1,31 @@
 package co.edu.uco.backend.businesslogic.businesslogic.impl;
 
 import co.edu.uco.backend.businesslogic.assembler.cancha.entity.CanchaEntityAssembler;
+import co.edu.uco.backend.businesslogic.assembler.horariodisponible.entity.HorarioDisponibleEntityAssembler;
+import co.edu.uco.backend.businesslogic.assembler.horarioespecial.entity.HorarioEspecialEntityAssembler;
+import co.edu.uco.backend.businesslogic.assembler.reserva.entity.ReservaEntityAssembler;
 import co.edu.uco.backend.businesslogic.businesslogic.CanchaBusinessLogic;
+import co.edu.uco.backend.businesslogic.businesslogic.disponibilidad.DisponibilidadDia;
+import co.edu.uco.backend.businesslogic.businesslogic.disponibilidad.MotorDisponibilidad;
 import co.edu.uco.backend.businesslogic.businesslogic.domain.*;
+import co.edu.uco.backend.crosscutting.constants.Paginacion;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
 import co.edu.uco.backend.crosscutting.utilitarios.UtilDouble;
 import co.edu.uco.backend.crosscutting.utilitarios.UtilTexto;
 import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.data.dao.busqueda.FiltroBusquedaCanchas;
+import co.edu.uco.backend.data.dao.busqueda.IndiceFacetasCanchas;
+import co.edu.uco.backend.data.dao.busqueda.ResultadoBusquedaCanchas;
+import co.edu.uco.backend.data.dao.entity.Pagina;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.data.dao.geo.CanchaCercana;
+import co.edu.uco.backend.data.dao.geo.IndiceGeograficoCanchas;
 import co.edu.uco.backend.entity.CanchaEntity;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -44,11 +59,39 @@ public class CanchaBusinessLogicImpl implements CanchaBusinessLogic {
         //  6. Creamos la cancha siempre y cuando se cumplan todas las reglas
         CanchaEntity canchaEntity = CanchaEntityAssembler.getInstance().toEntity(canchaDomainACrear);
         factory.getCanchaDAO().crear(canchaEntity);
+
+        //  7. Los horarios que llegan con la cancha se registran en lote, cada uno con su propio id
+        registrarHorariosNuevaCancha(id, cancha);
+    }
+
+    private void registrarHorariosNuevaCancha(UUID canchaId, CanchaDomain cancha) throws BackEndException {
+        var horarioDisponibleBusinessLogic = new HorarioDisponibleBusinessLogicImpl(factory);
+        var horariosDisponibles = new ArrayList<HorarioDisponibleDomain>(cancha.getHorariosDisponibles().size());
+        for (var horario : cancha.getHorariosDisponibles()) {
+            horarioDisponibleBusinessLogic.validarIntegridadInformacionHorarioDisponible(horario);
+            horariosDisponibles.add(new HorarioDisponibleDomain(UtilUUID.generarNuevoUUIDOrdenado(), new CanchaDomain(canchaId),
+                    horario.getDia(), horario.getHoraApertura(), horario.getHoraCierre()));
+        }
+        if (!horariosDisponibles.isEmpty()) {
+            factory.getHorarioDisponibleDAO().crearTodos(HorarioDisponibleEntityAssembler.getInstance().toEntity(horariosDisponibles));
+        }
+
+        var horarioEspecialBusinessLogic = new HorarioEspecialBusinessLogicImpl(factory);
+        var horariosEspeciales = new ArrayList<HorarioEspecialDomain>(cancha.getHorariosEspeciales().size());
+        for (var horario : cancha.getHorariosEspeciales()) {
+            horarioEspecialBusinessLogic.validarIntegridadInformacionHorarioEspecial(horario);
+            horariosEspeciales.add(new HorarioEspecialDomain(UtilUUID.generarNuevoUUIDOrdenado(), new CanchaDomain(canchaId),
+                    horario.getFechaInicio(), horario.getFechaFin(), horario.getHoraInicio(), horario.getHoraFin(), horario.getMotivo()));
+        }
+        if (!horariosEspeciales.isEmpty()) {
+            factory.getHorarioEspecialDAO().crearTodos(HorarioEspecialEntityAssembler.getInstance().toEntity(horariosEspeciales));
+        }
     }
 
 
 
-    private void validarIntegridadInformacionRegistrarNuevaCancha(CanchaDomain cancha) throws BackEndException {
+    // También la usa la importación masiva, fila por fila y en paralelo: no debe tocar la base de datos
+    void validarIntegridadInformacionRegistrarNuevaCancha(CanchaDomain cancha) throws BackEndException {
         validarIntegridadNombreCancha(cancha.getNombreCancha());
         validarIntegridadTipoCancha(cancha.getTipo());
         validarIntegridadDimensiones(cancha.getDimensiones());
@@ -130,7 +173,7 @@ public class CanchaBusinessLogicImpl implements CanchaBusinessLogic {
     private void validarIntegridadDimensiones(DimensionDomain dimensiones) {
     }
 
-    private void validarNoExistaCanchaConMismoNombre(String nombreCancha) throws BackEndException {
+    void validarNoExistaCanchaConMismoNombre(String nombreCancha) throws BackEndException {
         var filtro = new CanchaEntity();
         filtro.setNombreCancha(nombreCancha);
 
@@ -141,17 +184,8 @@ public class CanchaBusinessLogicImpl implements CanchaBusinessLogic {
         }
     }
 
-    private UUID generarIdentificadorNuevaCancha() throws BackEndException {
-        UUID nuevoId;
-        var existeId = false;
-        do {
-            nuevoId = UtilUUID.generarNuevoUUID();
-            var cancha = factory.getCanchaDAO().consultarPorId(nuevoId);
-            existeId = !UtilUUID.esValorDefecto(cancha.getId());
-
-
-        }while (existeId);
-        return nuevoId;
+    private UUID generarIdentificadorNuevaCancha() {
+        return UtilUUID.generarNuevoUUIDOrdenado();
     }
 
 
@@ -192,9 +226,132 @@ public class CanchaBusinessLogicImpl implements CanchaBusinessLogic {
 
     @Override
     public List<CanchaDomain> consultarTodasCanchas(CanchaDomain filtro) throws BackEndException {
-        CanchaEntity canchaFilter = null;//CanchaEntityAssembler.getInstance().toEntity(filtro)
+        CanchaEntity canchaFilter = CanchaEntityAssembler.getInstance().toEntity(filtro);
         List<CanchaEntity> canchaEntities = factory.getCanchaDAO().consultar(canchaFilter);
-        return null; //CanchaEntityAssembler.getInstance().toDomain(canchaEntities)
+        return CanchaEntityAssembler.getInstance().toDomain(canchaEntities);
+    }
+
+    @Override
+    public Pagina<CanchaDomain> consultarTodasCanchas(CanchaDomain filtro, UUID despuesDe, int limite) throws BackEndException {
+        //  1. El tamaño de página debe estar entre 1 y el máximo permitido
+        if (limite < 1 || limite > Paginacion.LIMITE_MAXIMO) {
+            throw BusinessLogicBackEndException.reportar("El tamaño de página debe estar entre 1 y " + Paginacion.LIMITE_MAXIMO);
+        }
+
+        //  2. Consultar la página siguiente al cursor recibido
+        CanchaEntity canchaFilter = CanchaEntityAssembler.getInstance().toEntity(filtro);
+        Pagina<CanchaEntity> pagina = factory.getCanchaDAO().consultar(canchaFilter, despuesDe, limite);
+        return new Pagina<>(CanchaEntityAssembler.getInstance().toDomain(pagina.elementos()), pagina.siguienteCursor());
+    }
+
+    @Override
+    public List<DisponibilidadDia> consultarDisponibilidad(UUID canchaId, LocalDate desde, LocalDate hasta) throws BackEndException {
+        //  1. Validar la cancha y el rango de fechas solicitado
+        validarRangoDisponibilidad(canchaId, desde, hasta);
+
+        //  2. Resolver desde la agenda en memoria; la fuente solo se usa si faltan datos de la cancha
+        return MotorDisponibilidad.getInstance().consultar(canchaId, desde, hasta, new MotorDisponibilidad.FuenteAgenda() {
+
+            @Override
+            public List<HorarioDisponibleDomain> consultarHorariosDisponibles() throws BackEndException {
+                validarExistenciaCancha(canchaId);
+                return HorarioDisponibleEntityAssembler.getInstance().toDomain(factory.getHorarioDisponibleDAO().consultarPorCancha(canchaId));
+            }
+
+            @Override
+            public List<HorarioEspecialDomain> consultarHorariosEspeciales() throws BackEndException {
+                return HorarioEspecialEntityAssembler.getInstance().toDomain(factory.getHorarioEspecialDAO().consultarPorCancha(canchaId));
+            }
+
+            @Override
+            public List<ReservaDomain> consultarReservas(LocalDate fechaDesde, LocalDate fechaHasta) throws BackEndException {
+                return ReservaEntityAssembler.getInstance().toDomain(factory.getReservaDAO().consultarOcupacionPorCancha(canchaId, fechaDesde, fechaHasta));
+            }
+        });
+    }
+
+    @Override
+    public List<CanchaCercana> consultarCanchasCercanas(double latitud, double longitud, double radioKm, int limite) throws BackEndException {
+        //  1. Validar el punto de búsqueda, el radio y la cantidad de resultados
+        validarConsultaCanchasCercanas(latitud, longitud, radioKm, limite);
+
+        //  2. Si el índice no se alcanzó a precargar al arrancar, la primera consulta lo construye
+        //  (una sola, aunque lleguen varias a la vez)
+        var indice = IndiceGeograficoCanchas.getInstance();
+        indice.cargarSiHaceFalta(consumidor -> factory.getCanchaDAO().consultarGeolocalizadas(consumidor));
+
+        //  3. Resolver en memoria, de la más cercana a la más lejana
+        return indice.consultar(latitud, longitud, radioKm, limite);
+    }
+
+    @Override
+    public ResultadoBusquedaCanchas buscarCanchas(FiltroBusquedaCanchas filtro, UUID despuesDe, int limite) throws BackEndException {
+        //  1. Validar el rango de costo y la cantidad de resultados
+        validarBusquedaCanchas(filtro, limite);
+
+        //  2. Si el índice no se alcanzó a precargar al arrancar, la primera búsqueda lo construye
+        //  (una sola, aunque lleguen varias a la vez)
+        var indice = IndiceFacetasCanchas.getInstance();
+        indice.cargarSiHaceFalta(consumidor -> factory.getCanchaDAO().consultarFichas(consumidor));
+
+        //  3. Intersectar las facetas pedidas y contar las demás en memoria
+        return indice.buscar(filtro, despuesDe, limite);
+    }
+
+    private void validarBusquedaCanchas(FiltroBusquedaCanchas filtro, int limite) throws BackEndException {
+        if (filtro.costoMinimo() != null && filtro.costoMinimo() < 0) {
+            throw BusinessLogicBackEndException.reportar("El costo mínimo por hora no puede ser negativo");
+        }
+        if (filtro.costoMaximo() != null && filtro.costoMaximo() < 0) {
+            throw BusinessLogicBackEndException.reportar("El costo máximo por hora no puede ser negativo");
+        }
+        if (filtro.costoMinimo() != null && filtro.costoMaximo() != null && filtro.costoMinimo() > filtro.costoMaximo()) {
+            throw BusinessLogicBackEndException.reportar("El costo mínimo por hora no puede ser mayor que el costo máximo");
+        }
+        if (limite < 1 || limite > Paginacion.LIMITE_MAXIMO) {
+            throw BusinessLogicBackEndException.reportar("La cantidad de canchas debe estar entre 1 y " + Paginacion.LIMITE_MAXIMO);
+        }
+    }
+
+    private void validarConsultaCanchasCercanas(double latitud, double longitud, double radioKm, int limite) throws BackEndException {
+        if (!UtilDouble.estaEnRango(latitud, -90.0, 90.0)) {
+            throw BusinessLogicBackEndException.reportar("La latitud debe estar entre -90.0 y 90.0");
+        }
+        if (!UtilDouble.estaEnRango(longitud, -180.0, 180.0)) {
+            throw BusinessLogicBackEndException.reportar("La longitud debe estar entre -180.0 y 180.0");
+        }
+        if (!UtilDouble.esPositivo(radioKm) || radioKm > IndiceGeograficoCanchas.RADIO_MAXIMO_KM) {
+            throw BusinessLogicBackEndException.reportar(
+                    "El radio de búsqueda debe ser mayor que 0 y de máximo " + IndiceGeograficoCanchas.RADIO_MAXIMO_KM + " km"
+            );
+        }
+        if (limite < 1 || limite > Paginacion.LIMITE_MAXIMO) {
+            throw BusinessLogicBackEndException.reportar("La cantidad de canchas debe estar entre 1 y " + Paginacion.LIMITE_MAXIMO);
+        }
+    }
+
+    private void validarRangoDisponibilidad(UUID canchaId, LocalDate desde, LocalDate hasta) throws BackEndException {
+        if (UtilUUID.esValorDefecto(canchaId)) {
+            throw BusinessLogicBackEndException.reportar("El identificador de la cancha es obligatorio para consultar su disponibilidad");
+        }
+        if (desde == null || hasta == null) {
+            throw BusinessLogicBackEndException.reportar("Las fechas desde y hasta son obligatorias para consultar la disponibilidad");
+        }
+        if (desde.isAfter(hasta)) {
+            throw BusinessLogicBackEndException.reportar("La fecha desde no puede ser posterior a la fecha hasta");
+        }
+        if (ChronoUnit.DAYS.between(desde, hasta) >= MotorDisponibilidad.MAXIMO_DIAS_CONSULTA) {
+            throw BusinessLogicBackEndException.reportar(
+                    "Solo se puede consultar la disponibilidad de hasta " + MotorDisponibilidad.MAXIMO_DIAS_CONSULTA + " días"
+            );
+        }
+    }
+
+    private void validarExistenciaCancha(UUID canchaId) throws BackEndException {
+        var cancha = factory.getCanchaDAO().consultarPorId(canchaId);
+        if (UtilUUID.esValorDefecto(cancha.getId())) {
+            throw BusinessLogicBackEndException.reportar("La cancha consultada no existe");
+        }
     }
 
 }
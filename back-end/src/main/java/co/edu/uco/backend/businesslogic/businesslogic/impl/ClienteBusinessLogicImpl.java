@@ -4,10 +4,15 @@ import co.edu.uco.backend.businesslogic.assembler.cliente.entity.ClienteEntityAs
 import co.edu.uco.backend.businesslogic.businesslogic.ClienteBusinessLogic;
 import co.edu.uco.backend.businesslogic.businesslogic.domain.ClienteDomain;
 import co.edu.uco.backend.businesslogic.businesslogic.domain.UsuarioDomain;
+import co.edu.uco.backend.crosscutting.constants.Paginacion;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
+import co.edu.uco.backend.crosscutting.seguridad.AlmacenSesiones;
+import co.edu.uco.backend.crosscutting.seguridad.ServicioHashContrasenas;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilEncrypt;
 import co.edu.uco.backend.crosscutting.utilitarios.UtilTexto;
 import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.data.dao.entity.Pagina;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
 import co.edu.uco.backend.entity.ClienteEntity;
 
@@ -22,6 +27,24 @@ public class ClienteBusinessLogicImpl implements ClienteBusinessLogic {
         this.factory = factory;
     }
 
+    @Override
+    public ClienteDomain cifrarContrasena(ClienteDomain cliente) throws BackEndException {
+        if (UtilTexto.getInstance().estaVacia(cliente.getContrasena())) {
+            return cliente;
+        }
+
+        //  Cliente-POL-0003 y Cliente-POL-0004 se validan sobre la contraseña en claro, antes de cifrarla
+        validarIntegridadContrasena(cliente.getContrasena());
+        return new ClienteDomain(
+                cliente.getId(),
+                cliente.getNombre(),
+                cliente.getUsername(),
+                ServicioHashContrasenas.getInstance().hash(cliente.getContrasena()),
+                cliente.getPrefijoTelefono(),
+                cliente.getTelefono()
+        );
+    }
+
     @Override
     public void registrarNuevoCliente(ClienteDomain cliente) throws BackEndException {
         //  1. Cliente-POL-0001. Asegurar que el número de celular sea único en el sistema.
@@ -30,10 +53,10 @@ public class ClienteBusinessLogicImpl implements ClienteBusinessLogic {
         //  2. Cliente-POL-0002. Asegurar que no existe otro Cliente con el mismo nombre de usuario
         validarNoExistaClienteConMismoUsername(cliente.getUsername());
 
-        //  3. Cliente-POL-0003 y Cliente-POL-0004. Validar que la contraseña cumpla con los requisitos de seguridad.
-        //Asegurar que los datos requeridos para llevar a cabo la acción sean válidos a nivel de tipo de dato, longitud,
-        // obligatoriedad, formato y rango.
+        //  3. Asegurar que los datos requeridos para llevar a cabo la acción sean válidos a nivel de tipo de dato, longitud,
+        // obligatoriedad, formato y rango. La contraseña (Cliente-POL-0003 y Cliente-POL-0004) ya se validó al cifrarla.
         validarIntegridadInformacionRegistrarNuevoCliente(cliente);
+        validarContrasenaCifrada(cliente.getContrasena());
 
         // 4. Generar ID y recrear domain
         UUID id = generarIdentificadorNuevoCliente();
@@ -65,8 +88,11 @@ public class ClienteBusinessLogicImpl implements ClienteBusinessLogic {
         validarNoExistaClienteConMismoUsernameActualizar(clienteId, merged.getUsername());
 
         //  4. Cliente-POL-0015. Asegurar que los datos requeridos para llevar a cabo la acción sean válidos a nivel de tipo de dato,
-        //  longitud, obligatoriedad, formato y rango.
+        //  longitud, obligatoriedad, formato y rango. Sin contraseña nueva, el DAO conserva la almacenada.
         validarIntegridadInformacionRegistrarNuevoCliente(merged);
+        if (!UtilTexto.getInstance().estaVacia(merged.getContrasena())) {
+            validarContrasenaCifrada(merged.getContrasena());
+        }
 
         // Ejecutar update siempre y cuando se cumplan las políticas
         ClienteEntity entity = ClienteEntityAssembler.getInstance().toEntity(merged);
@@ -93,13 +119,66 @@ public class ClienteBusinessLogicImpl implements ClienteBusinessLogic {
     }
 
     @Override
-    public UsuarioDomain iniciarSesion(String username, String rawPassword, String ipAddress, String userAgent) {
-        // No implementado ...
-        return null;
+    public Pagina<ClienteDomain> consultarClientes(ClienteDomain filtro, UUID despuesDe, int limite) throws BackEndException {
+        //  1. El tamaño de página debe estar entre 1 y el máximo permitido
+        validarLimitePagina(limite);
+
+        //  2. Consultar la página siguiente al cursor recibido
+        ClienteEntity filterEntity = ClienteEntityAssembler.getInstance().toEntity(filtro);
+        Pagina<ClienteEntity> pagina = factory.getClienteDAO().consultar(filterEntity, despuesDe, limite);
+        return new Pagina<>(ClienteEntityAssembler.getInstance().toDomain(pagina.elementos()), pagina.siguienteCursor());
+    }
+
+    @Override
+    public UsuarioDomain consultarCredenciales(String username, String rawPassword) throws BackEndException {
+        //  1. Obligatoriedad de usuario y contraseña
+        if (UtilTexto.getInstance().estaVacia(username) || UtilTexto.getInstance().estaVacia(rawPassword)) {
+            throw BusinessLogicBackEndException.reportar("El nombre de usuario y la contraseña son obligatorios.");
+        }
+
+        //  2. Buscar el cliente por username; la comprobación de la contraseña se hace después, sin la conexión
+        ClienteEntity filtro = new ClienteEntity();
+        filtro.setUsername(username.trim());
+        List<ClienteEntity> encontrados = factory.getClienteDAO().consultar(filtro);
+        return encontrados.isEmpty() ? null : ClienteEntityAssembler.getInstance().toDomain(encontrados.get(0));
+    }
+
+    @Override
+    public UsuarioDomain verificarCredenciales(UsuarioDomain credenciales, String rawPassword) throws BackEndException {
+        //  1. Única comprobación PBKDF2 de la sesión; con usuario inexistente se compara contra un hash ficticio
+        var almacenada = credenciales == null ? null : credenciales.getContrasena();
+        if (!ServicioHashContrasenas.getInstance().matches(rawPassword, almacenada) || credenciales == null) {
+            throw BusinessLogicBackEndException.reportar("Usuario o contraseña incorrectos.");
+        }
+
+        //  2. El hash nunca sale de la capa de negocio
+        return new ClienteDomain(
+                credenciales.getId(),
+                credenciales.getNombre(),
+                credenciales.getUsername(),
+                UtilTexto.getInstance().obtenerValorDefecto(),
+                credenciales.getPrefijoTelefono(),
+                credenciales.getTelefono()
+        );
+    }
+
+    @Override
+    public String recifrarContrasena(UsuarioDomain credenciales, String rawPassword) throws BackEndException {
+        // Con la contraseña ya validada se recalcula el hash si tiene menos iteraciones de las configuradas
+        return UtilEncrypt.necesitaRehash(credenciales.getContrasena())
+                ? ServicioHashContrasenas.getInstance().hash(rawPassword)
+                : null;
+    }
+
+    @Override
+    public void actualizarContrasenaCifrada(UUID usuarioId, String contrasenaCifrada) throws BackEndException {
+        factory.getClienteDAO().actualizarContrasena(usuarioId, contrasenaCifrada);
     }
 
     @Override
-    public void cerrarSesion(UUID usuarioId) { /* no implementado */ }
+    public void cerrarSesion(UUID usuarioId) {
+        AlmacenSesiones.getInstance().cerrarSesionesUsuario(usuarioId);
+    }
 
     @Override
     public void recuperarContrasena(String username) { /* no implementado */ }
@@ -120,7 +199,6 @@ public class ClienteBusinessLogicImpl implements ClienteBusinessLogic {
     private void validarIntegridadInformacionRegistrarNuevoCliente(ClienteDomain cliente) throws BackEndException {
         validarIntegridadNombreCliente(cliente.getNombre());
         validarIntegridadUsernameCliente(cliente.getUsername());
-        validarIntegridadContrasena(cliente.getContrasena());
         validarIntegridadPrefijo(cliente.getPrefijoTelefono());
         validarIntegridadTelefono(cliente.getTelefono());
     }
@@ -179,6 +257,17 @@ public class ClienteBusinessLogicImpl implements ClienteBusinessLogic {
         }
     }
 
+    private void validarContrasenaCifrada(String contrasena) throws BackEndException {
+        if (UtilTexto.getInstance().estaVacia(contrasena)) {
+            throw BusinessLogicBackEndException.reportar("Error de obligatoriedad, la contraseña es un dato obligatorio que debe ingresar");
+        }
+        if (!UtilEncrypt.esHash(contrasena)) {
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de guardar la contraseña";
+            var mensajeTecnico = "La contraseña del cliente llegó sin cifrar a la capa de negocio; debe pasar antes por cifrarContrasena";
+            throw BusinessLogicBackEndException.reportarFallo(mensajeUsuario, mensajeTecnico);
+        }
+    }
+
     private void validarIntegridadPrefijo(String prefijo) throws BackEndException {
         //  1. Obligatoriedad: La contraseña del cliente debe ser un dato obligatorio
         if (UtilTexto.getInstance().estaVacia(prefijo)) {
@@ -215,12 +304,14 @@ public class ClienteBusinessLogicImpl implements ClienteBusinessLogic {
         }
     }
 
-    private UUID generarIdentificadorNuevoCliente() throws BackEndException {
-        UUID nuevoId;
-        do {
-            nuevoId = UtilUUID.generarNuevoUUID();
-        } while (!UtilUUID.esValorDefecto(factory.getClienteDAO().consultarPorId(nuevoId).getId()));
-        return nuevoId;
+    private void validarLimitePagina(int limite) throws BackEndException {
+        if (limite < 1 || limite > Paginacion.LIMITE_MAXIMO) {
+            throw BusinessLogicBackEndException.reportar("El tamaño de página debe estar entre 1 y " + Paginacion.LIMITE_MAXIMO);
+        }
+    }
+
+    private UUID generarIdentificadorNuevoCliente() {
+        return UtilUUID.generarNuevoUUIDOrdenado();
     }
 
     private ClienteDomain cargarClienteExistente(UUID clienteId) throws BackEndException {
@@ -236,8 +327,8 @@ public class ClienteBusinessLogicImpl implements ClienteBusinessLogic {
                 ? original.getNombre()   : actualizaciones.getNombre().trim();
         String username = UtilTexto.getInstance().estaVacia(actualizaciones.getUsername())
                 ? original.getUsername() : actualizaciones.getUsername().trim();
-        String contra   = UtilTexto.getInstance().estaVacia(actualizaciones.getContrasena())
-                ? original.getContrasena(): actualizaciones.getContrasena();
+        // La contraseña no se mezcla: vacía significa que no cambia y el DAO conserva la almacenada
+        String contra   = actualizaciones.getContrasena();
         String prefijo  = UtilTexto.getInstance().estaVacia(actualizaciones.getPrefijoTelefono())
                 ? original.getPrefijoTelefono() : actualizaciones.getPrefijoTelefono();
         String telefono = UtilTexto.getInstance().estaVacia(actualizaciones.getTelefono())
@@ -61,17 +61,8 @@ public class DimensionBusinessLogicImpl implements DimensionBusinessLogic {
         }
     }
 
-    private UUID generarIdentificadorNuevaDimension() throws BackEndException {
-        UUID nuevoId;
-        var existeId = false;
-        do {
-            nuevoId = UtilUUID.generarNuevoUUID();
-            var dimension = factory.getDimensionDAO().consultarPorId(nuevoId);
-            existeId = !UtilUUID.esValorDefecto(dimension.getId());
-
-
-        }while (existeId);
-        return nuevoId;
+    private UUID generarIdentificadorNuevaDimension() {
+        return UtilUUID.generarNuevoUUIDOrdenado();
     }
 
     public void modificarDimensionExistente(UUID canchaId, UUID dimensionId, DimensionDomain dimension) throws BackEndException {
@@ -67,10 +67,25 @@ public class EncargadoBusinessLogicImpl implements EncargadoBusinessLogic {
 
 
     @Override
-    public UsuarioDomain iniciarSesion(String username, String rawPassword, String ipAdress, String userAgent) {
+    public UsuarioDomain consultarCredenciales(String username, String rawPassword) {
         return null;
     }
 
+    @Override
+    public UsuarioDomain verificarCredenciales(UsuarioDomain credenciales, String rawPassword) {
+        return null;
+    }
+
+    @Override
+    public String recifrarContrasena(UsuarioDomain credenciales, String rawPassword) {
+        return null;
+    }
+
+    @Override
+    public void actualizarContrasenaCifrada(UUID usuarioId, String contrasenaCifrada) {
+
+    }
+
     @Override
     public void cerrarSesion(UUID usuarioId) {
 
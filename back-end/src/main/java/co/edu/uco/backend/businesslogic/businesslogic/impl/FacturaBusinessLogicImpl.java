@@ -2,13 +2,17 @@ package co.edu.uco.backend.businesslogic.businesslogic.impl;
 
 import co.edu.uco.backend.businesslogic.businesslogic.FacturaBusinessLogic;
 import co.edu.uco.backend.businesslogic.businesslogic.domain.FacturaDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.exportacion.RangoExportacion;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.entity.factura.FacturaResumen;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
 import co.edu.uco.backend.entity.FacturaEntity;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public class FacturaBusinessLogicImpl implements FacturaBusinessLogic {
 
@@ -62,4 +66,16 @@ public class FacturaBusinessLogicImpl implements FacturaBusinessLogic {
         //TODO: Logica para generar pdf de factura
         return new byte[0];
     }
+
+    @Override
+    public void validarExportacionFacturas(UUID orgId, LocalDate desde, LocalDate hasta) throws BackEndException {
+        RangoExportacion.validar(orgId, desde, hasta);
+    }
+
+    @Override
+    public void exportarFacturasPorOrganizacion(UUID orgId, LocalDate desde, LocalDate hasta,
+                                                Consumer<FacturaResumen> consumidor) throws BackEndException {
+        validarExportacionFacturas(orgId, desde, hasta);
+        factory.getFacturaDAO().exportarPorOrganizacion(orgId, desde, hasta, consumidor);
+    }
 }
@@ -3,9 +3,11 @@ package co.edu.uco.backend.businesslogic.businesslogic.impl;
 import co.edu.uco.backend.businesslogic.businesslogic.HorarioDisponibleBusinessLogic;
 import co.edu.uco.backend.businesslogic.businesslogic.domain.HorarioDisponibleDomain;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
 import co.edu.uco.backend.entity.HorarioDisponibleEntity;
 
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -57,4 +59,13 @@ public class HorarioDisponibleBusinessLogicImpl implements HorarioDisponibleBusi
     }
 
 
+    // Sin consultas a la base de datos: la importación masiva la aplica a cada fila en paralelo
+    void validarIntegridadInformacionHorarioDisponible(HorarioDisponibleDomain horarioDisponible) throws BackEndException {
+        //  1. La hora de cierre debe ser posterior a la de apertura; 00:00 como cierre es el fin del día
+        var cierre = horarioDisponible.getHoraCierre();
+        if (!LocalTime.MIDNIGHT.equals(cierre) && !cierre.isAfter(horarioDisponible.getHoraApertura())) {
+            throw BusinessLogicBackEndException.reportar("La hora de cierre debe ser posterior a la hora de apertura");
+        }
+    }
+
 }
@@ -1,16 +1,31 @@
 package co.edu.uco.backend.businesslogic.businesslogic.impl;
 
+import co.edu.uco.backend.businesslogic.assembler.horarioespecial.entity.HorarioEspecialEntityAssembler;
 import co.edu.uco.backend.businesslogic.businesslogic.HorarioEspecialBusinessLogic;
+import co.edu.uco.backend.businesslogic.businesslogic.domain.CanchaDomain;
 import co.edu.uco.backend.businesslogic.businesslogic.domain.HorarioEspecialDomain;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilTexto;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.data.dao.entity.reserva.RangoAgenda;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.entity.EstadoReservaEntity;
 import co.edu.uco.backend.entity.HorarioEspecialEntity;
+import co.edu.uco.backend.entity.ReservaEntity;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.UUID;
 
 public class HorarioEspecialBusinessLogicImpl implements HorarioEspecialBusinessLogic {
 
+    private static final String ESTADO_CANCELADA = "Cancelada";
+    private static final int MINUTOS_DIA = 24 * 60;
+
     private DAOFactory factory;
     public HorarioEspecialBusinessLogicImpl(DAOFactory factory) {
         this.factory = factory;
@@ -18,9 +33,107 @@ public class HorarioEspecialBusinessLogicImpl implements HorarioEspecialBusiness
 
     @Override
     public void registrarNuevoHorarioEspecial(UUID canchaId, HorarioEspecialDomain horarioEspecial) throws BackEndException {
-        HorarioEspecialEntity horarioEspecialEntity = null;
-        //TODO: Validar cancha
-        factory.getHorarioEspecialDAO().crear(horarioEspecialEntity);
+        //  1. Los datos del horario especial deben ser válidos
+        validarIntegridadInformacionHorarioEspecial(horarioEspecial);
+
+        //  2. La cancha debe existir
+        if (UtilUUID.esValorDefecto(factory.getCanchaDAO().consultarPorId(canchaId).getId())) {
+            throw BusinessLogicBackEndException.reportar("La cancha a la que se le quiere registrar el horario especial no existe");
+        }
+
+        //  3. Registrar el cierre con su propio identificador y cancelar las reservas que caen dentro
+        var horarioACrear = new HorarioEspecialDomain(UtilUUID.generarNuevoUUIDOrdenado(), new CanchaDomain(canchaId),
+                horarioEspecial.getFechaInicio(), horarioEspecial.getFechaFin(), horarioEspecial.getHoraInicio(),
+                horarioEspecial.getHoraFin(), horarioEspecial.getMotivo());
+        registrarCierres(List.of(horarioACrear));
+    }
+
+    /**
+     * Todo cierre se registra por aquí, uno solo o los de una importación, y cancela en la misma
+     * transacción las reservas activas que se cruzan con él. Primero bloquea la agenda de cada fecha
+     * afectada, el mismo bloqueo que toma una reserva antes de validar su horario: una reserva
+     * confirmada antes ya está en la consulta de reservas, y una que llega después espera a que el
+     * cierre confirme y lo encuentra al validar. Los cierres deben llegar validados y con su cancha.
+     */
+    void registrarCierres(List<HorarioEspecialDomain> cierres) throws BackEndException {
+        //  1. Bloquear las fechas que todavía admiten reservas, de hoy en adelante
+        var hoy = LocalDate.now();
+        var vigentes = cierres.stream().filter(cierre -> !cierre.getFechaFin().isBefore(hoy)).toList();
+        var rangos = vigentes.stream()
+                .map(cierre -> new RangoAgenda(cierre.getCancha().getId(),
+                        cierre.getFechaInicio().isBefore(hoy) ? hoy : cierre.getFechaInicio(), cierre.getFechaFin()))
+                .toList();
+        factory.getReservaDAO().bloquearAgendasCanchas(rangos);
+
+        //  2. Registrar los cierres; los de una importación van en una sola carga masiva
+        var entities = HorarioEspecialEntityAssembler.getInstance().toEntity(cierres);
+        if (entities.size() == 1) {
+            factory.getHorarioEspecialDAO().crear(entities.get(0));
+        } else {
+            factory.getHorarioEspecialDAO().importarTodos(entities);
+        }
+
+        //  3. Cancelar las reservas que caen dentro, todas con una sola escritura en lote
+        cancelarReservasDentroDeLosCierres(rangos, vigentes);
+    }
+
+    // rangos.get(i) son las fechas bloqueadas de cierres.get(i); se consulta una vez por cancha
+    private void cancelarReservasDentroDeLosCierres(List<RangoAgenda> rangos, List<HorarioEspecialDomain> cierres) throws BackEndException {
+        var indicesPorCancha = new LinkedHashMap<UUID, List<Integer>>();
+        for (var i = 0; i < rangos.size(); i++) {
+            indicesPorCancha.computeIfAbsent(rangos.get(i).canchaId(), clave -> new ArrayList<>()).add(i);
+        }
+
+        var canceladas = new LinkedHashMap<UUID, ReservaEntity>();
+        EstadoReservaEntity estadoCancelada = null;
+        for (var entrada : indicesPorCancha.entrySet()) {
+            var indices = entrada.getValue();
+            var desde = indices.stream().map(i -> rangos.get(i).desde()).min(LocalDate::compareTo).orElseThrow();
+            var hasta = indices.stream().map(i -> rangos.get(i).hasta()).max(LocalDate::compareTo).orElseThrow();
+            for (var reserva : factory.getReservaDAO().consultarActivasPorCanchaParaActualizar(entrada.getKey(), desde, hasta)) {
+                if (indices.stream().noneMatch(i -> estaDentro(reserva, rangos.get(i), cierres.get(i)))) {
+                    continue;
+                }
+                if (estadoCancelada == null) {
+                    estadoCancelada = obtenerEstadoCancelada();
+                }
+                reserva.setEstado(estadoCancelada);
+                canceladas.put(reserva.getId(), reserva);
+            }
+        }
+        if (!canceladas.isEmpty()) {
+            factory.getReservaDAO().modificarTodos(canceladas);
+        }
+    }
+
+    private static boolean estaDentro(ReservaEntity reserva, RangoAgenda rango, HorarioEspecialDomain cierre) {
+        var fecha = reserva.getFechaUsoCancha();
+        return !fecha.isBefore(rango.desde()) && !fecha.isAfter(rango.hasta())
+                && seTraslapan(reserva.getHoraInicio(), reserva.getHoraFin(), cierre.getHoraInicio(), cierre.getHoraFin());
+    }
+
+    private EstadoReservaEntity obtenerEstadoCancelada() throws BackEndException {
+        var filtro = new EstadoReservaEntity();
+        filtro.setNombre(ESTADO_CANCELADA);
+
+        var estados = factory.getEstadoReservaDAO().consultar(filtro);
+        if (estados.isEmpty()) {
+            throw BusinessLogicBackEndException.reportarFallo(
+                    "No fue posible registrar el horario especial en este momento",
+                    "No existe el estado de reserva '" + ESTADO_CANCELADA + "' en la tabla estadoreserva"
+            );
+        }
+        return estados.get(0);
+    }
+
+    // Intervalos semiabiertos [inicio, fin) en minutos del día; 00:00 como fin es el fin del día
+    private static boolean seTraslapan(LocalTime inicio, LocalTime fin, LocalTime otroInicio, LocalTime otroFin) {
+        return aMinuto(inicio, false) < aMinuto(otroFin, true) && aMinuto(otroInicio, false) < aMinuto(fin, true);
+    }
+
+    private static int aMinuto(LocalTime hora, boolean esFin) {
+        var valor = hora.getHour() * 60 + hora.getMinute();
+        return esFin && valor == 0 ? MINUTOS_DIA : valor;
     }
 
     @Override
@@ -54,4 +167,21 @@ public class HorarioEspecialBusinessLogicImpl implements HorarioEspecialBusiness
         return datosARetornar;
     }
 
+    // Sin consultas a la base de datos: la importación masiva la aplica a cada fila en paralelo
+    void validarIntegridadInformacionHorarioEspecial(HorarioEspecialDomain horarioEspecial) throws BackEndException {
+        //  1. El rango de fechas no puede estar invertido
+        if (horarioEspecial.getFechaFin().isBefore(horarioEspecial.getFechaInicio())) {
+            throw BusinessLogicBackEndException.reportar("La fecha de fin no puede ser anterior a la fecha de inicio");
+        }
+        //  2. La hora de fin debe ser posterior a la de inicio; 00:00 como fin es el fin del día
+        var fin = horarioEspecial.getHoraFin();
+        if (!LocalTime.MIDNIGHT.equals(fin) && !fin.isAfter(horarioEspecial.getHoraInicio())) {
+            throw BusinessLogicBackEndException.reportar("La hora de fin debe ser posterior a la hora de inicio");
+        }
+        //  3. Motivo de máximo 100 caracteres
+        if (UtilTexto.getInstance().quitarEspaciosEnBlancoInicioFin(horarioEspecial.getMotivo()).length() > 100) {
+            throw BusinessLogicBackEndException.reportar("El motivo del horario especial supera los 100 caracteres");
+        }
+    }
+
 }
@@ -0,0 +1,391 @@
+package co.edu.uco.backend.businesslogic.businesslogic.impl;
+
+import co.edu.uco.backend.businesslogic.assembler.cancha.entity.CanchaEntityAssembler;
+import co.edu.uco.backend.businesslogic.assembler.horariodisponible.entity.HorarioDisponibleEntityAssembler;
+import co.edu.uco.backend.businesslogic.businesslogic.ImportacionBusinessLogic;
+import co.edu.uco.backend.businesslogic.businesslogic.disponibilidad.MotorDisponibilidad;
+import co.edu.uco.backend.businesslogic.businesslogic.domain.CanchaDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.domain.HorarioDisponibleDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.domain.HorarioEspecialDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.domain.OrganizacionDeportivaDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.domain.SuperficieDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.domain.TipoCanchaDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.importacion.ErrorImportacion;
+import co.edu.uco.backend.businesslogic.businesslogic.importacion.FilaImportacion;
+import co.edu.uco.backend.businesslogic.businesslogic.importacion.ResultadoImportacion;
+import co.edu.uco.backend.crosscutting.constants.DiaSemana;
+import co.edu.uco.backend.crosscutting.constants.Importacion;
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.entity.CanchaEntity;
+import co.edu.uco.backend.entity.HorarioDisponibleEntity;
+import co.edu.uco.backend.entity.OrganizacionDeportivaEntity;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Importación masiva en dos fases. Primero cada fila se convierte y se valida con las reglas de
+ * integridad de su entidad, en paralelo porque esas reglas no tocan la base de datos. Después, en
+ * la conexión de la fachada y en orden, las reglas que sí consultan: existencia de las referencias,
+ * nombres repetidos y traslapes. Si ninguna fila falla se cargan todas con una sola operación del
+ * DAO; con una sola fila rechazada no se carga nada y el resultado trae el motivo de cada rechazo.
+ */
+public class ImportacionBusinessLogicImpl implements ImportacionBusinessLogic {
+
+    private static final int MINUTOS_DIA = 24 * 60;
+
+    private final DAOFactory factory;
+    private final CanchaBusinessLogicImpl canchaBusinessLogic;
+    private final HorarioDisponibleBusinessLogicImpl horarioDisponibleBusinessLogic;
+    private final HorarioEspecialBusinessLogicImpl horarioEspecialBusinessLogic;
+
+    public ImportacionBusinessLogicImpl(DAOFactory factory) {
+        this.factory = factory;
+        this.canchaBusinessLogic = new CanchaBusinessLogicImpl(factory);
+        this.horarioDisponibleBusinessLogic = new HorarioDisponibleBusinessLogicImpl(factory);
+        this.horarioEspecialBusinessLogic = new HorarioEspecialBusinessLogicImpl(factory);
+    }
+
+    @FunctionalInterface
+    private interface Conversion<T> {
+        T convertir(FilaImportacion fila) throws BackEndException;
+    }
+
+    // Resultado de la fase paralela para una fila: el valor convertido o el motivo del rechazo
+    private record FilaValidada<T>(int linea, T valor, String error) {
+    }
+
+    @Override
+    public ResultadoImportacion importarCanchas(UUID orgId, List<FilaImportacion> filas) throws BackEndException {
+        //  1. La organización debe existir y el archivo traer entre 1 y el máximo de filas
+        validarSolicitudImportacion(orgId, filas);
+
+        //  2. Convertir y validar la integridad de cada fila, en paralelo
+        var validadas = validarEnParalelo(filas, fila -> convertirCancha(orgId, fila));
+
+        //  3. Reglas con consultas, en orden: referencias existentes y nombres no repetidos. Los
+        //     nombres ya registrados se averiguan con una sola consulta para todo el archivo
+        var nombresRegistrados = consultarNombresRegistrados(validadas);
+        var errores = new ArrayList<ErrorImportacion>();
+        var canchas = new ArrayList<CanchaEntity>(validadas.size());
+        var tiposExistentes = new HashMap<UUID, Boolean>();
+        var superficiesExistentes = new HashMap<UUID, Boolean>();
+        var nombresArchivo = new HashMap<String, Integer>();
+        for (var validada : validadas) {
+            if (validada.error() != null) {
+                errores.add(new ErrorImportacion(validada.linea(), validada.error()));
+                continue;
+            }
+            var cancha = validada.valor();
+            try {
+                validarExistenciaTipoCancha(cancha.getTipo().getId(), tiposExistentes);
+                validarExistenciaSuperficie(cancha.getSuperficie().getId(), superficiesExistentes);
+                var lineaAnterior = nombresArchivo.putIfAbsent(normalizarNombre(cancha.getNombreCancha()), validada.linea());
+                if (lineaAnterior != null) {
+                    throw BusinessLogicBackEndException.reportar("El nombre de la cancha se repite en la línea " + lineaAnterior + " del archivo");
+                }
+                if (nombresRegistrados.contains(normalizarNombre(cancha.getNombreCancha()))) {
+                    throw BusinessLogicBackEndException.reportar("Ya existe una cancha con ese nombre");
+                }
+                canchas.add(CanchaEntityAssembler.getInstance().toEntity(cancha));
+            } catch (BackEndException exception) {
+                errores.add(new ErrorImportacion(validada.linea(), exception.getMensajeUsuario()));
+            }
+        }
+
+        //  4. Todo o nada: con un rechazo no se carga ninguna fila
+        if (!errores.isEmpty()) {
+            return ResultadoImportacion.rechazado(filas.size(), errores);
+        }
+        factory.getCanchaDAO().importarTodos(canchas);
+        return ResultadoImportacion.exitoso(filas.size());
+    }
+
+    @Override
+    public ResultadoImportacion importarHorariosDisponibles(UUID orgId, List<FilaImportacion> filas) throws BackEndException {
+        //  1. La organización debe existir y el archivo traer entre 1 y el máximo de filas
+        validarSolicitudImportacion(orgId, filas);
+
+        //  2. Convertir y validar la integridad de cada fila, en paralelo; la cancha se resuelve después
+        var validadas = validarEnParalelo(filas, this::convertirHorarioDisponible);
+
+        //  3. Resolver la cancha dentro de la organización y rechazar traslapes con lo ya registrado
+        //     y con las demás filas del archivo, para la misma cancha y el mismo día
+        var canchasOrganizacion = new CanchasOrganizacion(consultarCanchasOrganizacion(orgId));
+        var registrados = new HashMap<UUID, List<HorarioDisponibleEntity>>();
+        var delArchivo = new HashMap<UUID, List<FilaValidada<HorarioDisponibleDomain>>>();
+        var errores = new ArrayList<ErrorImportacion>();
+        var horarios = new ArrayList<HorarioDisponibleDomain>(validadas.size());
+        for (var i = 0; i < validadas.size(); i++) {
+            var validada = validadas.get(i);
+            if (validada.error() != null) {
+                errores.add(new ErrorImportacion(validada.linea(), validada.error()));
+                continue;
+            }
+            try {
+                var canchaId = canchasOrganizacion.resolver(filas.get(i).texto("cancha", true));
+                var horario = validada.valor();
+                var existentes = registrados.get(canchaId);
+                if (existentes == null) {
+                    existentes = factory.getHorarioDisponibleDAO().consultarPorCancha(canchaId);
+                    registrados.put(canchaId, existentes);
+                }
+                for (var existente : existentes) {
+                    if (seTraslapan(horario.getDia(), horario.getHoraApertura(), horario.getHoraCierre(),
+                            existente.getDia(), existente.getHoraApertura(), existente.getHoraCierre())) {
+                        throw BusinessLogicBackEndException.reportar("El horario se traslapa con uno ya registrado para la cancha el " + describirDia(existente.getDia()));
+                    }
+                }
+                var mismaCancha = delArchivo.computeIfAbsent(canchaId, clave -> new ArrayList<>());
+                for (var otra : mismaCancha) {
+                    var otroHorario = otra.valor();
+                    if (seTraslapan(horario.getDia(), horario.getHoraApertura(), horario.getHoraCierre(),
+                            otroHorario.getDia(), otroHorario.getHoraApertura(), otroHorario.getHoraCierre())) {
+                        throw BusinessLogicBackEndException.reportar("El horario se traslapa con el de la línea " + otra.linea() + " del archivo");
+                    }
+                }
+                var conCancha = new HorarioDisponibleDomain(horario.getId(), new CanchaDomain(canchaId),
+                        horario.getDia(), horario.getHoraApertura(), horario.getHoraCierre());
+                mismaCancha.add(new FilaValidada<>(validada.linea(), conCancha, null));
+                horarios.add(conCancha);
+            } catch (BackEndException exception) {
+                errores.add(new ErrorImportacion(validada.linea(), exception.getMensajeUsuario()));
+            }
+        }
+
+        //  4. Todo o nada; la agenda en memoria se recalcula solo si la transacción confirma
+        if (!errores.isEmpty()) {
+            return ResultadoImportacion.rechazado(filas.size(), errores);
+        }
+        factory.getHorarioDisponibleDAO().importarTodos(HorarioDisponibleEntityAssembler.getInstance().toEntity(horarios));
+        invalidarAgendasAlConfirmar(delArchivo.keySet());
+        return ResultadoImportacion.exitoso(filas.size());
+    }
+
+    @Override
+    public ResultadoImportacion importarHorariosEspeciales(UUID orgId, List<FilaImportacion> filas) throws BackEndException {
+        //  1. La organización debe existir y el archivo traer entre 1 y el máximo de filas
+        validarSolicitudImportacion(orgId, filas);
+
+        //  2. Convertir y validar la integridad de cada fila, en paralelo; la cancha se resuelve después
+        var validadas = validarEnParalelo(filas, this::convertirHorarioEspecial);
+
+        //  3. Resolver la cancha dentro de la organización. Los horarios especiales sí pueden
+        //     superponerse: cada uno marca un cierre o una excepción sobre la agenda base
+        var canchasOrganizacion = new CanchasOrganizacion(consultarCanchasOrganizacion(orgId));
+        var canchasAfectadas = new LinkedHashSet<UUID>();
+        var errores = new ArrayList<ErrorImportacion>();
+        var horarios = new ArrayList<HorarioEspecialDomain>(validadas.size());
+        for (var i = 0; i < validadas.size(); i++) {
+            var validada = validadas.get(i);
+            if (validada.error() != null) {
+                errores.add(new ErrorImportacion(validada.linea(), validada.error()));
+                continue;
+            }
+            try {
+                var canchaId = canchasOrganizacion.resolver(filas.get(i).texto("cancha", true));
+                var horario = validada.valor();
+                horarios.add(new HorarioEspecialDomain(horario.getId(), new CanchaDomain(canchaId), horario.getFechaInicio(),
+                        horario.getFechaFin(), horario.getHoraInicio(), horario.getHoraFin(), horario.getMotivo()));
+                canchasAfectadas.add(canchaId);
+            } catch (BackEndException exception) {
+                errores.add(new ErrorImportacion(validada.linea(), exception.getMensajeUsuario()));
+            }
+        }
+
+        //  4. Todo o nada; la agenda en memoria se recalcula solo si la transacción confirma. Como un
+        //     cierre registrado uno a uno, cancela las reservas activas que quedan dentro
+        if (!errores.isEmpty()) {
+            return ResultadoImportacion.rechazado(filas.size(), errores);
+        }
+        horarioEspecialBusinessLogic.registrarCierres(horarios);
+        invalidarAgendasAlConfirmar(canchasAfectadas);
+        return ResultadoImportacion.exitoso(filas.size());
+    }
+
+    private void validarSolicitudImportacion(UUID orgId, List<FilaImportacion> filas) throws BackEndException {
+        if (UtilUUID.esValorDefecto(orgId)) {
+            throw BusinessLogicBackEndException.reportar("El ID de la organización es obligatorio para importar.");
+        }
+        if (filas == null || filas.isEmpty()) {
+            throw BusinessLogicBackEndException.reportar("El archivo de importación no trae filas de datos.");
+        }
+        if (filas.size() > Importacion.MAXIMO_FILAS) {
+            throw BusinessLogicBackEndException.reportar("El archivo de importación supera el máximo de " + Importacion.MAXIMO_FILAS + " filas.");
+        }
+        var organizacion = factory.getOrganizacionDeportivaDAO().consultarPorId(orgId);
+        if (UtilUUID.esValorDefecto(organizacion.getId())) {
+            throw BusinessLogicBackEndException.reportar("La organización deportiva indicada no existe.");
+        }
+    }
+
+    // El stream paralelo conserva el orden de las filas al recolectar, así el reporte sale por línea
+    private <T> List<FilaValidada<T>> validarEnParalelo(List<FilaImportacion> filas, Conversion<T> conversion) {
+        return filas.parallelStream()
+                .map(fila -> {
+                    try {
+                        return new FilaValidada<>(fila.linea(), conversion.convertir(fila), null);
+                    } catch (BackEndException exception) {
+                        return new FilaValidada<T>(fila.linea(), null, exception.getMensajeUsuario());
+                    }
+                })
+                .toList();
+    }
+
+    private CanchaDomain convertirCancha(UUID orgId, FilaImportacion fila) throws BackEndException {
+        var cancha = new CanchaDomain(
+                UtilUUID.generarNuevoUUIDOrdenado(),
+                fila.texto("nombre", true),
+                new TipoCanchaDomain(fila.uuid("tipo")),
+                null,
+                new SuperficieDomain(fila.uuid("superficie")),
+                fila.decimal("costohora"),
+                null,
+                new OrganizacionDeportivaDomain(orgId),
+                fila.booleano("iluminacion"),
+                fila.booleano("cubierta"),
+                List.of(),
+                List.of());
+        canchaBusinessLogic.validarIntegridadInformacionRegistrarNuevaCancha(cancha);
+        return cancha;
+    }
+
+    private HorarioDisponibleDomain convertirHorarioDisponible(FilaImportacion fila) throws BackEndException {
+        fila.texto("cancha", true);
+        var horario = new HorarioDisponibleDomain(
+                UtilUUID.generarNuevoUUIDOrdenado(),
+                null,
+                fila.dia("dia"),
+                fila.hora("horaapertura"),
+                fila.hora("horacierre"));
+        horarioDisponibleBusinessLogic.validarIntegridadInformacionHorarioDisponible(horario);
+        return horario;
+    }
+
+    private HorarioEspecialDomain convertirHorarioEspecial(FilaImportacion fila) throws BackEndException {
+        fila.texto("cancha", true);
+        var horario = new HorarioEspecialDomain(
+                UtilUUID.generarNuevoUUIDOrdenado(),
+                null,
+                fila.fecha("fechainicio"),
+                fila.fecha("fechafin"),
+                fila.hora("horainicio"),
+                fila.hora("horafin"),
+                fila.texto("motivo", false));
+        horarioEspecialBusinessLogic.validarIntegridadInformacionHorarioEspecial(horario);
+        return horario;
+    }
+
+    private Set<String> consultarNombresRegistrados(List<FilaValidada<CanchaDomain>> validadas) throws BackEndException {
+        var nombres = new LinkedHashSet<String>();
+        for (var validada : validadas) {
+            if (validada.error() == null) {
+                nombres.add(normalizarNombre(validada.valor().getNombreCancha()));
+            }
+        }
+        var registrados = new HashSet<String>();
+        if (!nombres.isEmpty()) {
+            factory.getCanchaDAO().consultarNombresExistentes(nombres).forEach(nombre -> registrados.add(normalizarNombre(nombre)));
+        }
+        return registrados;
+    }
+
+    // Cada tipo y superficie distinto se consulta una sola vez por archivo
+    private void validarExistenciaTipoCancha(UUID tipoId, Map<UUID, Boolean> existentes) throws BackEndException {
+        Boolean existe = existentes.get(tipoId);
+        if (existe == null) {
+            existe = !UtilUUID.esValorDefecto(factory.getTipoCanchaDAO().consultarPorId(tipoId).getId());
+            existentes.put(tipoId, existe);
+        }
+        if (!existe) {
+            throw BusinessLogicBackEndException.reportar("El tipo de cancha indicado no existe");
+        }
+    }
+
+    private void validarExistenciaSuperficie(UUID superficieId, Map<UUID, Boolean> existentes) throws BackEndException {
+        Boolean existe = existentes.get(superficieId);
+        if (existe == null) {
+            existe = !UtilUUID.esValorDefecto(factory.getSuperficieDAO().consultarPorId(superficieId).getId());
+            existentes.put(superficieId, existe);
+        }
+        if (!existe) {
+            throw BusinessLogicBackEndException.reportar("La superficie indicada no existe");
+        }
+    }
+
+    private List<CanchaEntity> consultarCanchasOrganizacion(UUID orgId) throws BackEndException {
+        var filtro = new CanchaEntity();
+        filtro.setOrganizacion(new OrganizacionDeportivaEntity(orgId));
+        return factory.getCanchaDAO().consultar(filtro);
+    }
+
+    private void invalidarAgendasAlConfirmar(Set<UUID> canchas) throws BackEndException {
+        var afectadas = List.copyOf(canchas);
+        factory.alConfirmarTransaccion(() -> afectadas.forEach(MotorDisponibilidad.getInstance()::invalidarHorarios));
+    }
+
+    // Intervalos semiabiertos [apertura, cierre) en minutos del día; 00:00 como cierre es el fin del día
+    private static boolean seTraslapan(DiaSemana dia, LocalTime apertura, LocalTime cierre,
+                                       DiaSemana otroDia, LocalTime otraApertura, LocalTime otroCierre) {
+        return dia == otroDia
+                && minutos(apertura, false) < minutos(otroCierre, true)
+                && minutos(otraApertura, false) < minutos(cierre, true);
+    }
+
+    private static int minutos(LocalTime hora, boolean esCierre) {
+        var valor = hora.getHour() * 60 + hora.getMinute();
+        return esCierre && valor == 0 ? MINUTOS_DIA : valor;
+    }
+
+    private static String describirDia(DiaSemana dia) {
+        return dia.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalizarNombre(String nombre) {
+        return nombre.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Las canchas de la organización por identificador y por nombre; la columna cancha del archivo
+     * acepta cualquiera de los dos. Una cancha de otra organización no se resuelve.
+     */
+    private static final class CanchasOrganizacion {
+
+        private final Set<UUID> identificadores = new HashSet<>();
+        private final Map<String, UUID> porNombre = new HashMap<>();
+
+        private CanchasOrganizacion(List<CanchaEntity> canchas) {
+            canchas.stream()
+                    .sorted(Comparator.comparing(CanchaEntity::getId))
+                    .forEach(cancha -> {
+                        identificadores.add(cancha.getId());
+                        porNombre.putIfAbsent(normalizarNombre(cancha.getNombreCancha()), cancha.getId());
+                    });
+        }
+
+        private UUID resolver(String referencia) throws BackEndException {
+            UUID canchaId = null;
+            try {
+                canchaId = UUID.fromString(referencia);
+            } catch (IllegalArgumentException exception) {
+                canchaId = porNombre.get(normalizarNombre(referencia));
+            }
+            if (canchaId == null || !identificadores.contains(canchaId)) {
+                throw BusinessLogicBackEndException.reportar("La cancha " + referencia + " no existe en la organización");
+            }
+            return canchaId;
+        }
+    }
+}
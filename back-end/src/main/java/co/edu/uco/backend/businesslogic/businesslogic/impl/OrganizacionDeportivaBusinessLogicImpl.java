@@ -1,10 +1,16 @@
 package co.edu.uco.backend.businesslogic.businesslogic.impl;
 
+import co.edu.uco.backend.businesslogic.assembler.organizaciondeportiva.entity.OrganizacionDeportivaEntityAssembler;
 import co.edu.uco.backend.businesslogic.businesslogic.OrganizacionDeportivaBusinessLogic;
 import co.edu.uco.backend.businesslogic.businesslogic.domain.CanchaDomain;
 import co.edu.uco.backend.businesslogic.businesslogic.domain.OrganizacionDeportivaDomain;
 import co.edu.uco.backend.businesslogic.businesslogic.domain.UsuarioDomain;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
+import co.edu.uco.backend.crosscutting.seguridad.AlmacenSesiones;
+import co.edu.uco.backend.crosscutting.seguridad.ServicioHashContrasenas;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilEncrypt;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilTexto;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
 import co.edu.uco.backend.entity.OrganizacionDeportivaEntity;
 
@@ -62,13 +68,49 @@ public class OrganizacionDeportivaBusinessLogicImpl implements OrganizacionDepor
     }
 
     @Override
-    public UsuarioDomain iniciarSesion(String username, String rawPassword, String ipAdress, String agentUser) {
-        return null;
+    public UsuarioDomain consultarCredenciales(String username, String rawPassword) throws BackEndException {
+        //  1. Obligatoriedad de usuario y contraseña
+        if (UtilTexto.getInstance().estaVacia(username) || UtilTexto.getInstance().estaVacia(rawPassword)) {
+            throw BusinessLogicBackEndException.reportar("El nombre de usuario y la contraseña son obligatorios.");
+        }
+
+        //  2. Buscar la organización por usuario; la comprobación de la contraseña se hace después, sin la conexión
+        OrganizacionDeportivaEntity filtro = new OrganizacionDeportivaEntity();
+        filtro.setUsername(username.trim());
+        List<OrganizacionDeportivaEntity> encontradas = factory.getOrganizacionDeportivaDAO().consultar(filtro);
+        return encontradas.isEmpty() ? null : OrganizacionDeportivaEntityAssembler.getInstance().toDomain(encontradas.get(0));
     }
 
     @Override
-    public void cerrarSesion(UUID usuarioId) {
+    public UsuarioDomain verificarCredenciales(UsuarioDomain credenciales, String rawPassword) throws BackEndException {
+        //  1. Única comprobación PBKDF2 de la sesión. Las contraseñas de organización guardadas en texto
+        //  plano antes de cifrarlas también se aceptan y recifrarContrasena las cifra en este mismo inicio
+        var almacenada = credenciales == null ? null : credenciales.getContrasena();
+        if (!ServicioHashContrasenas.getInstance().matches(rawPassword, almacenada) || credenciales == null) {
+            throw BusinessLogicBackEndException.reportar("Usuario o contraseña incorrectos.");
+        }
+
+        //  2. El hash nunca sale de la capa de negocio
+        var organizacion = OrganizacionDeportivaEntityAssembler.getInstance().toEntity((OrganizacionDeportivaDomain) credenciales);
+        organizacion.setContrasena(UtilTexto.getInstance().obtenerValorDefecto());
+        return OrganizacionDeportivaEntityAssembler.getInstance().toDomain(organizacion);
+    }
+
+    @Override
+    public String recifrarContrasena(UsuarioDomain credenciales, String rawPassword) throws BackEndException {
+        return UtilEncrypt.necesitaRehash(credenciales.getContrasena())
+                ? ServicioHashContrasenas.getInstance().hash(rawPassword)
+                : null;
+    }
 
+    @Override
+    public void actualizarContrasenaCifrada(UUID usuarioId, String contrasenaCifrada) throws BackEndException {
+        factory.getOrganizacionDeportivaDAO().actualizarContrasena(usuarioId, contrasenaCifrada);
+    }
+
+    @Override
+    public void cerrarSesion(UUID usuarioId) {
+        AlmacenSesiones.getInstance().cerrarSesionesUsuario(usuarioId);
     }
 
     @Override
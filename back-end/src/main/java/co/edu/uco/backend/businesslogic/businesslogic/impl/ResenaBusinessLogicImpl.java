@@ -3,24 +3,24 @@ package co.edu.uco.backend.businesslogic.businesslogic.impl;
 import co.edu.uco.backend.businesslogic.assembler.resena.entity.ResenaEntityAssembler;
 import co.edu.uco.backend.businesslogic.assembler.reserva.entity.ReservaEntityAssembler;
 import co.edu.uco.backend.businesslogic.businesslogic.ResenaBusinessLogic;
+import co.edu.uco.backend.businesslogic.businesslogic.calificacion.Calificacion;
 import co.edu.uco.backend.businesslogic.businesslogic.domain.ResenaDomain;
 import co.edu.uco.backend.businesslogic.businesslogic.domain.ReservaDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.moderacion.AnalisisVocabulario;
+import co.edu.uco.backend.businesslogic.businesslogic.moderacion.MotorModeracion;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
 import co.edu.uco.backend.crosscutting.utilitarios.UtilEntero;
 import co.edu.uco.backend.crosscutting.utilitarios.UtilTexto;
 import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.data.dao.cache.CacheResumenesCalificacion;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
 import co.edu.uco.backend.entity.EstadoReservaEntity;
 import co.edu.uco.backend.entity.ResenaEntity;
 
-import java.text.Normalizer;
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
-import java.util.regex.Pattern;
 
 public class ResenaBusinessLogicImpl implements ResenaBusinessLogic {
 
@@ -49,11 +49,12 @@ public class ResenaBusinessLogicImpl implements ResenaBusinessLogic {
         validarIntegridadFecha(fechaValida);
         //  4. Reseña-POL-0001. Si el cliente ingresa una puntuación menor o igual a 2, el cuerpo del comentario debe tener al menos 50 caracteres
         //  y mencionar al menos un aspecto negativo concreto (por ejemplo, incluir palabras como “mal”, “inadecuado”, “deficiente”, etc.).
-        validacionPoliticaNro1(resena);
+        AnalisisVocabulario vocabulario = MotorModeracion.getInstance().analizarVocabulario(resena.getComentario());
+        validacionPoliticaNro1(resena, vocabulario);
         //  5. Reseña-POL-0002. El campo comentario no puede contener URLs (p. ej. “http://” o “www.”) ni etiquetas HTML (p. ej. <a>, <script>, <img>, etc.).
         validacionPoliticaNro2(resena);
         //  6. Reseña-POL-0003. El comentario no puede contener palabras ofensivas (una lista predefinida de “palabras prohibidas#”, p. ej. insultos o groserías).
-        validacionPoliticaNro3(resena);
+        validacionPoliticaNro3(vocabulario);
 
         //  7. Generar UUID y recrear domain
         UUID id = generarIdentificadorNuevaResena();
@@ -67,14 +68,17 @@ public class ResenaBusinessLogicImpl implements ResenaBusinessLogic {
         //  8. Registrar la nueva reseña siempre y cuando se cumplan todas las políticas
         ResenaEntity resenaEntity = ResenaEntityAssembler.getInstance().toEntity(toCreate);
         factory.getResenaDAO().crear(resenaEntity);
+        //  9. Sumar la calificación a los resúmenes de la cancha y de su organización
+        actualizarResumenesCalificacion(reservaDomain.getCancha().getId(), 0, toCreate.getCalificacion());
     }
 
     @Override
     public void modificarResenaExistente(UUID reservaId, UUID resenaId, ResenaDomain resena) throws BackEndException {
         //  1. Verificar nuevamente que la reserva asociada a la reseña efectivamente exista
         ReservaDomain reservaDomain = obtenerReservaDomain(reservaId);
-        //  2. Verificar que el UUID de resenaId proporcionado realmente exista en la base de datos
-        ResenaDomain existente = cargarResenaExistente(resenaId);
+        //  2. Verificar que el UUID de resenaId proporcionado realmente exista en la base de datos.
+        //     Se bloquea: la calificación anterior es la base del cambio en los resúmenes
+        ResenaDomain existente = cargarResenaParaActualizar(resenaId);
         if (!existente.getReserva().getId().equals(reservaId)) {
             throw BusinessLogicBackEndException.reportar(
                     "La reseña con id " + resenaId + " no pertenece a la reserva con id " + reservaId
@@ -104,19 +108,22 @@ public class ResenaBusinessLogicImpl implements ResenaBusinessLogic {
 
 
         //  6. Reseña-POL-0006. Incluye lo mismo de las politicas 0001,0002,0003 y la politica de negocio
-        validacionPoliticaNro1(merged); // si ≤ 2, longitud ≥ 50 y debe mencionar aspecto negativo
+        AnalisisVocabulario vocabulario = MotorModeracion.getInstance().analizarVocabulario(merged.getComentario());
+        validacionPoliticaNro1(merged, vocabulario); // si ≤ 2, longitud ≥ 50 y debe mencionar aspecto negativo
         validacionPoliticaNro2(merged); // no URLs ni etiquetas HTML
-        validacionPoliticaNro3(merged); // no palabras ofensivas
+        validacionPoliticaNro3(vocabulario); // no palabras ofensivas
 
         //  7. Ejecutar update siempre y cuando se cumplan todas las politicas
         ResenaEntity resenaEntity = ResenaEntityAssembler.getInstance().toEntity(merged);
         factory.getResenaDAO().modificar(resenaId, resenaEntity);
+        //  8. Cambiar la calificación en los resúmenes de la cancha y de su organización
+        actualizarResumenesCalificacion(reservaDomain.getCancha().getId(), existente.getCalificacion(), nuevaCalificacion);
     }
 
     @Override
     public void darBajaDefinitivamenteResenaExistente(UUID reservaId, UUID resenaId) throws BackEndException {
-        // 1) Traer entity y validar su existencia
-        ResenaDomain existente = cargarResenaExistente(resenaId);
+        // 1) Traer entity bloqueada y validar su existencia; un segundo borrado concurrente espera y ya no la encuentra
+        ResenaDomain existente = cargarResenaParaActualizar(resenaId);
         // 2) Verificar que la reseña que vino pertenezca a la reservaId
         if (!existente.getReserva().getId().equals(reservaId)) {
             throw BusinessLogicBackEndException.reportar(
@@ -125,6 +132,9 @@ public class ResenaBusinessLogicImpl implements ResenaBusinessLogic {
         }
         // 3) Borrado definitivo
         factory.getResenaDAO().eliminar(resenaId);
+        // 4) Quitar la calificación de los resúmenes de la cancha y de su organización
+        var canchaId = factory.getReservaDAO().consultarPorId(reservaId).getCancha().getId();
+        actualizarResumenesCalificacion(canchaId, existente.getCalificacion(), 0);
     }
 
     @Override
@@ -154,6 +164,34 @@ public class ResenaBusinessLogicImpl implements ResenaBusinessLogic {
         return ResenaEntityAssembler.getInstance().toDomain(entities);
     }
 
+    @Override
+    public Calificacion consultarCalificacionCancha(UUID canchaId) throws BackEndException {
+        if (UtilUUID.esValorDefecto(canchaId)) {
+            throw BusinessLogicBackEndException.reportar("El identificador de la cancha es obligatorio para consultar su calificación");
+        }
+        var cache = CacheResumenesCalificacion.deCanchas();
+        var resumen = cache.buscar(canchaId);
+        if (resumen == null) {
+            resumen = factory.getResumenCalificacionCanchaDAO().consultarPorId(canchaId);
+            cache.actualizar(resumen);
+        }
+        return Calificacion.desde(resumen);
+    }
+
+    @Override
+    public Calificacion consultarCalificacionOrganizacion(UUID orgId) throws BackEndException {
+        if (UtilUUID.esValorDefecto(orgId)) {
+            throw BusinessLogicBackEndException.reportar("El identificador de la organización es obligatorio para consultar su calificación");
+        }
+        var cache = CacheResumenesCalificacion.deOrganizaciones();
+        var resumen = cache.buscar(orgId);
+        if (resumen == null) {
+            resumen = factory.getResumenCalificacionOrganizacionDAO().consultarPorId(orgId);
+            cache.actualizar(resumen);
+        }
+        return Calificacion.desde(resumen);
+    }
+
     // ———————————————————————————————————————————
     // Métodos privados auxiliares
     // ———————————————————————————————————————————
@@ -229,17 +267,37 @@ public class ResenaBusinessLogicImpl implements ResenaBusinessLogic {
         }
     }
 
-    private UUID generarIdentificadorNuevaResena() throws BackEndException {
-        UUID nuevoId;
-        do {
-            nuevoId = UtilUUID.generarNuevoUUID();
-        } while (!UtilUUID.esValorDefecto(factory.getResenaDAO().consultarPorId(nuevoId).getId()));
-        return nuevoId;
+    private UUID generarIdentificadorNuevaResena() {
+        return UtilUUID.generarNuevoUUIDOrdenado();
     }
 
-    private ResenaDomain cargarResenaExistente(UUID resenaId) throws BackEndException {
-        //Para utilizar en consultas, modificaciones y eliminaciones
-        var entity = factory.getResenaDAO().consultarPorId(resenaId);
+    /**
+     * Los resúmenes se actualizan en la misma transacción que la reseña, siempre primero el de la
+     * cancha y luego el de la organización para que dos transacciones no se bloqueen en cruz.
+     * La caché solo recibe los resúmenes nuevos si la transacción confirma.
+     */
+    private void actualizarResumenesCalificacion(UUID canchaId, int calificacionAnterior, int calificacionNueva) throws BackEndException {
+        if (calificacionAnterior == calificacionNueva || UtilUUID.esValorDefecto(canchaId)) {
+            return;
+        }
+        var organizacionId = factory.getCanchaDAO().consultarPorId(canchaId).getOrganizacion().getId();
+
+        var resumenCancha = factory.getResumenCalificacionCanchaDAO()
+                .registrarCambio(canchaId, calificacionAnterior, calificacionNueva);
+        var resumenOrganizacion = UtilUUID.esValorDefecto(organizacionId) ? null
+                : factory.getResumenCalificacionOrganizacionDAO().registrarCambio(organizacionId, calificacionAnterior, calificacionNueva);
+
+        factory.alConfirmarTransaccion(() -> {
+            CacheResumenesCalificacion.deCanchas().actualizar(resumenCancha);
+            if (resumenOrganizacion != null) {
+                CacheResumenesCalificacion.deOrganizaciones().actualizar(resumenOrganizacion);
+            }
+        });
+    }
+
+    private ResenaDomain cargarResenaParaActualizar(UUID resenaId) throws BackEndException {
+        //Para utilizar en modificaciones y eliminaciones
+        var entity = factory.getResenaDAO().consultarPorIdParaActualizar(resenaId);
         if (UtilUUID.esValorDefecto(entity.getId())) {
             throw BusinessLogicBackEndException.reportar("No existe la reseña con id: " + resenaId);
         }
@@ -251,7 +309,7 @@ public class ResenaBusinessLogicImpl implements ResenaBusinessLogic {
      * Si la calificación ≤ 2, el comentario debe tener al menos 50 caracteres
      * y mencionar al menos un aspecto negativo (“mal”, “deficiente”, etc.).
      */
-    private void validacionPoliticaNro1(ResenaDomain resena) throws BackEndException {
+    private void validacionPoliticaNro1(ResenaDomain resena, AnalisisVocabulario vocabulario) throws BackEndException {
         int calificacion = resena.getCalificacion();
         if (calificacion <= 2) {
             String comentario = resena.getComentario().trim();
@@ -263,21 +321,8 @@ public class ResenaBusinessLogicImpl implements ResenaBusinessLogic {
                 );
             }
 
-            // b) al menos una palabra negativa (normalizando tildes)
-            String textoSinAcentos = Normalizer
-                    .normalize(comentario.toLowerCase(), Normalizer.Form.NFD)
-                    .replaceAll("\\p{M}", "");
-
-            List<String> negativos = List.of(
-                    "mal", "deficiente", "sucio", "inadecuado", "cancelado",
-                    "pesimo", "horrible", "desastroso", "negligente", "incompetente",
-                    "lamentable", "pobre", "terrible", "decepcionante", "frustrante"
-            );
-
-            boolean contieneAspectoNegativo = negativos.stream()
-                    .anyMatch(p -> textoSinAcentos.contains(p));
-
-            if (!contieneAspectoNegativo) {
+            // b) al menos una palabra negativa (el motor ya normalizó tildes y mayúsculas)
+            if (!vocabulario.contieneAspectoNegativo()) {
                 throw BusinessLogicBackEndException.reportar(
                         "POL-REV-001: Con calificación ≤ 2, debes mencionar al menos un aspecto negativo "
                                 + "(ej.: “mal”, “deficiente”, “pésimo”, “horrible”, etc.)."
@@ -291,67 +336,34 @@ public class ResenaBusinessLogicImpl implements ResenaBusinessLogic {
      * El comentario no puede contener URLs (“http://”, “https://”, “www.”) ni etiquetas HTML (<a>, <script>, etc.).
      */
     private void validacionPoliticaNro2(ResenaDomain resena) throws BackEndException {
-        String comentario = resena.getComentario();
-        String textoLower = comentario.toLowerCase();
-
-        // 1) Detectar URLs con protocolo: http:// ó https://
-        Pattern urlProtocolPattern = Pattern.compile("(https?://\\S+)");
-        if (urlProtocolPattern.matcher(textoLower).find()) {
-            throw BusinessLogicBackEndException.reportar(
+        switch (MotorModeracion.getInstance().buscarContenidoNoPermitido(resena.getComentario())) {
+            case URL_CON_PROTOCOLO -> throw BusinessLogicBackEndException.reportar(
                     "POL-REV-002: El comentario no puede contener URLs con protocolo (http:// o https://)."
             );
-        }
-
-        // 2) Detectar URLs tipo "www."
-        Pattern urlWwwPattern = Pattern.compile("(www\\.\\S+)");
-        if (urlWwwPattern.matcher(textoLower).find()) {
-            throw BusinessLogicBackEndException.reportar(
+            case URL_WWW -> throw BusinessLogicBackEndException.reportar(
                     "POL-REV-002: El comentario no puede contener URLs que empiecen con 'www.'."
             );
-        }
-
-        // 3) Detectar menciones a dominios sin protocolo: ejemplo.com, ejemplo.net, etc.
-        Pattern urlSimplePattern = Pattern.compile("\\b\\w+\\.(com|net|org|info|io|es|co)(/[^\\s]*)?\\b");
-        if (urlSimplePattern.matcher(textoLower).find()) {
-            throw BusinessLogicBackEndException.reportar(
+            case DOMINIO -> throw BusinessLogicBackEndException.reportar(
                     "POL-REV-002: El comentario no puede contener referencias a dominios (.com, .net, .org, etc.)."
             );
-        }
-
-        // 4) Bloquear cualquier etiqueta HTML de la forma <…>
-        Pattern htmlTagPattern = Pattern.compile("<[^>]+>");
-        if (htmlTagPattern.matcher(comentario).find()) {
-            throw BusinessLogicBackEndException.reportar(
+            case ETIQUETA_HTML -> throw BusinessLogicBackEndException.reportar(
                     "POL-REV-002: El comentario no puede contener etiquetas HTML (p.ej. <a>, <script>, etc.)."
             );
+            case NINGUNO -> {
+            }
         }
     }
 
     /**
      * POL-REV-003:
      * El comentario no puede contener palabras ofensivas (“imbécil”, “estúpido”, “mierda”, etc.).
+     * La lista de palabras prohibidas vive en MotorModeracion y se puede recargar desde configuración.
      */
-    private void validacionPoliticaNro3(ResenaDomain resena) throws BackEndException {
-        String comentario = resena.getComentario().toLowerCase();
-
-        // Normalizar para quitar tildes/acentos
-        String comentarioSinAcentos = Normalizer
-                .normalize(comentario, Normalizer.Form.NFD)
-                .replaceAll("\\p{M}", "");
-
-        // Lista ampliada de palabras prohibidas (todas sin tildes, minúsculas)
-        List<String> palabrasProhibidas = new ArrayList<>(Arrays.asList(
-                "imbecil", "estupido", "idiota", "basura", "mierda", "puta",
-                "gilipollas", "pendejo", "tarado", "cabron", "mierdas",
-                "malparido", "malparida", "zorra", "zorras"
-        ));
-
-        for (String palabra : palabrasProhibidas) {
-            if (comentarioSinAcentos.contains(palabra)) {
-                throw BusinessLogicBackEndException.reportar(
-                        "POL-REV-003: El comentario contiene palabras ofensivas. Por favor, mantén un lenguaje respetuoso."
-                );
-            }
+    private void validacionPoliticaNro3(AnalisisVocabulario vocabulario) throws BackEndException {
+        if (vocabulario.contienePalabraProhibida()) {
+            throw BusinessLogicBackEndException.reportar(
+                    "POL-REV-003: El comentario contiene palabras ofensivas. Por favor, mantén un lenguaje respetuoso."
+            );
         }
     }
 
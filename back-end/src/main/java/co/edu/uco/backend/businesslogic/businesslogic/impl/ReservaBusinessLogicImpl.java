@@ -1,19 +1,36 @@
 package co.edu.uco.backend.businesslogic.businesslogic.impl;
 
+import co.edu.uco.backend.businesslogic.assembler.cliente.entity.ClienteEntityAssembler;
+import co.edu.uco.backend.businesslogic.assembler.estadoreserva.entity.EstadoReservaEntityAssembler;
 import co.edu.uco.backend.businesslogic.assembler.reserva.entity.ReservaEntityAssembler;
 import co.edu.uco.backend.businesslogic.businesslogic.ReservaBusinessLogic;
+import co.edu.uco.backend.businesslogic.businesslogic.disponibilidad.FranjaHoraria;
+import co.edu.uco.backend.businesslogic.businesslogic.exportacion.RangoExportacion;
+import co.edu.uco.backend.businesslogic.businesslogic.domain.ClienteDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.domain.EstadoReservaDomain;
 import co.edu.uco.backend.businesslogic.businesslogic.domain.ReservaDomain;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilFecha;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.data.dao.entity.reserva.ReservaResumen;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.entity.EstadoReservaEntity;
+import co.edu.uco.backend.entity.HorarioEspecialEntity;
 import co.edu.uco.backend.entity.ReservaEntity;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class ReservaBusinessLogicImpl implements ReservaBusinessLogic {
 
+    private static final String ESTADO_INICIAL = "Pendiente";
+    private static final int MINUTOS_DIA = 24 * 60;
+
     private final DAOFactory factory;
     public ReservaBusinessLogicImpl(DAOFactory factory) {
         this.factory = factory;
@@ -21,11 +38,127 @@ public class ReservaBusinessLogicImpl implements ReservaBusinessLogic {
 
     @Override
     public void registrarNuevaReserva(UUID clienteID, ReservaDomain reserva) throws BackEndException {
-        // Validar cliente
-        ReservaEntity reservaEntity = null;
+        //  1. Reserva-POL-0001. Asegurar que los datos sean válidos a nivel de tipo de dato, longitud,
+        //  obligatoriedad, formato y rango
+        validarIntegridadInformacionRegistrarNuevaReserva(clienteID, reserva);
+        var canchaId = reserva.getCancha().getId();
+        var fecha = reserva.getFechaUsoCancha();
+
+        //  2. Reserva-POL-0002. El cliente y la cancha deben existir
+        var cliente = cargarClienteExistente(clienteID);
+
+        //  3. Reserva-POL-0003. Bloquear la agenda de la cancha en esa fecha hasta que termine la transacción,
+        //  así otra instancia del backend no puede validar el mismo horario al mismo tiempo
+        factory.getReservaDAO().bloquearAgendaCancha(canchaId, fecha);
+
+        //  4. Reserva-POL-0004. El horario debe estar dentro de las franjas libres de la cancha
+        //  (horario semanal, sin cierres especiales)
+        validarHorarioDisponible(canchaId, fecha, reserva.getHoraInicio(), reserva.getHoraFin());
+        validarSinCierreEspecial(canchaId, fecha, reserva.getHoraInicio(), reserva.getHoraFin());
+
+        //  5. Reserva-POL-0005. No se puede cruzar con otra reserva activa de la misma cancha
+        if (factory.getReservaDAO().existeReservaSolapada(canchaId, fecha, reserva.getHoraInicio(), reserva.getHoraFin())) {
+            throw BusinessLogicBackEndException.reportar("El horario seleccionado ya fue reservado, por favor elija otro");
+        }
+
+        //  6. Generar identificador y recrear el domain con el estado inicial
+        var id = generarIdentificadorNuevaReserva();
+        var reservaACrear = new ReservaDomain(id, cliente, reserva.getCancha(), LocalDate.now(), fecha,
+                reserva.getHoraInicio(), reserva.getHoraFin(), obtenerEstadoInicial());
+
+        //  7. Registrar la reserva siempre y cuando se cumplan todas las políticas
+        ReservaEntity reservaEntity = ReservaEntityAssembler.getInstance().toEntity(reservaACrear);
         factory.getReservaDAO().crear(reservaEntity);
     }
 
+    private void validarIntegridadInformacionRegistrarNuevaReserva(UUID clienteId, ReservaDomain reserva) throws BackEndException {
+        if (UtilUUID.esValorDefecto(clienteId)) {
+            throw BusinessLogicBackEndException.reportar("El cliente que realiza la reserva es un dato obligatorio");
+        }
+        if (UtilUUID.esValorDefecto(reserva.getCancha().getId())) {
+            throw BusinessLogicBackEndException.reportar("La cancha a reservar es un dato obligatorio");
+        }
+
+        var fecha = reserva.getFechaUsoCancha();
+        if (UtilFecha.obtenerValorDefecto().equals(fecha)) {
+            throw BusinessLogicBackEndException.reportar("La fecha de uso de la cancha es un dato obligatorio");
+        }
+        if (fecha.isBefore(LocalDate.now())) {
+            throw BusinessLogicBackEndException.reportar("No se puede reservar una cancha en una fecha que ya pasó");
+        }
+
+        var minutoInicio = aMinuto(reserva.getHoraInicio(), false);
+        var minutoFin = aMinuto(reserva.getHoraFin(), true);
+        if (minutoFin <= minutoInicio) {
+            throw BusinessLogicBackEndException.reportar("La hora de fin de la reserva debe ser posterior a la hora de inicio");
+        }
+        if (fecha.equals(LocalDate.now()) && reserva.getHoraInicio().isBefore(LocalTime.now())) {
+            throw BusinessLogicBackEndException.reportar("No se puede reservar una hora que ya pasó");
+        }
+    }
+
+    private ClienteDomain cargarClienteExistente(UUID clienteId) throws BackEndException {
+        var cliente = factory.getClienteDAO().consultarPorId(clienteId);
+        if (UtilUUID.esValorDefecto(cliente.getId())) {
+            throw BusinessLogicBackEndException.reportar("El cliente que intenta realizar la reserva no existe");
+        }
+        return ClienteEntityAssembler.getInstance().toDomain(cliente);
+    }
+
+    private void validarHorarioDisponible(UUID canchaId, LocalDate fecha, LocalTime horaInicio, LocalTime horaFin) throws BackEndException {
+        // La consulta de disponibilidad también valida que la cancha exista
+        var disponibilidad = new CanchaBusinessLogicImpl(factory).consultarDisponibilidad(canchaId, fecha, fecha);
+        var minutoInicio = aMinuto(horaInicio, false);
+        var minutoFin = aMinuto(horaFin, true);
+
+        for (FranjaHoraria franja : disponibilidad.get(0).franjasLibres()) {
+            if (aMinuto(franja.horaInicio(), false) <= minutoInicio && minutoFin <= aMinuto(franja.horaFin(), true)) {
+                return;
+            }
+        }
+        throw BusinessLogicBackEndException.reportar("La cancha no está disponible en el horario seleccionado");
+    }
+
+    // La agenda en memoria pudo calcularse antes de que otra transacción, o la otra instancia, confirmara
+    // un cierre de esta fecha. Ese cierre tomó el mismo bloqueo que esta reserva ya tiene, así que
+    // leído ahora desde la base de datos está completo
+    private void validarSinCierreEspecial(UUID canchaId, LocalDate fecha, LocalTime horaInicio, LocalTime horaFin) throws BackEndException {
+        var minutoInicio = aMinuto(horaInicio, false);
+        var minutoFin = aMinuto(horaFin, true);
+        for (HorarioEspecialEntity cierre : factory.getHorarioEspecialDAO().consultarPorCancha(canchaId)) {
+            if (!fecha.isBefore(cierre.getFechaInicio()) && !fecha.isAfter(cierre.getFechaFin())
+                    && minutoInicio < aMinuto(cierre.getHoraFin(), true) && aMinuto(cierre.getHoraInicio(), false) < minutoFin) {
+                throw BusinessLogicBackEndException.reportar("La cancha no está disponible en el horario seleccionado");
+            }
+        }
+    }
+
+    private EstadoReservaDomain obtenerEstadoInicial() throws BackEndException {
+        var filtro = new EstadoReservaEntity();
+        filtro.setNombre(ESTADO_INICIAL);
+
+        var estados = factory.getEstadoReservaDAO().consultar(filtro);
+        if (estados.isEmpty()) {
+            throw BusinessLogicBackEndException.reportarFallo(
+                    "No fue posible registrar la reserva en este momento",
+                    "No existe el estado de reserva '" + ESTADO_INICIAL + "' en la tabla estadoreserva"
+            );
+        }
+        return EstadoReservaEntityAssembler.getInstance().toDomain(estados.get(0));
+    }
+
+    private UUID generarIdentificadorNuevaReserva() {
+        return UtilUUID.generarNuevoUUIDOrdenado();
+    }
+
+    // Una hora de fin 00:00 se interpreta como el fin del día (24:00)
+    private static int aMinuto(LocalTime hora, boolean esHoraFin) {
+        if (esHoraFin && LocalTime.MIDNIGHT.equals(hora)) {
+            return MINUTOS_DIA;
+        }
+        return hora.getHour() * 60 + hora.getMinute();
+    }
+
     @Override
     public void confirmarReserva(UUID clienteId, UUID idReserva, ReservaDomain reserva) throws BackEndException {
         //Validar cliente
@@ -61,6 +194,27 @@ public class ReservaBusinessLogicImpl implements ReservaBusinessLogic {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public void recorrerResumenReservasPorCliente(UUID clienteId, Consumer<ReservaResumen> consumidor) throws BackEndException {
+        if (clienteId == null) {
+            throw BusinessLogicBackEndException.reportar("El ID de cliente no puede ser nulo.");
+        }
+        // Un solo SELECT con JOIN: los nombres de cliente, cancha y estado ya vienen en cada fila
+        factory.getReservaDAO().consultarResumenPorCliente(clienteId, consumidor);
+    }
+
+    @Override
+    public void validarExportacionReservas(UUID orgId, LocalDate desde, LocalDate hasta) throws BackEndException {
+        RangoExportacion.validar(orgId, desde, hasta);
+    }
+
+    @Override
+    public void exportarReservasPorOrganizacion(UUID orgId, LocalDate desde, LocalDate hasta,
+                                                Consumer<ReservaResumen> consumidor) throws BackEndException {
+        validarExportacionReservas(orgId, desde, hasta);
+        factory.getReservaDAO().exportarPorOrganizacion(orgId, desde, hasta, consumidor);
+    }
+
     @Override
     public void finalizarReserva(UUID clienteId, UUID reservaId) {
         //Implementar logica
@@ -106,17 +106,8 @@ public class UbicacionPrecisaBusinessLogicImpl implements UbicacionPrecisaBusine
         }
     }
 
-    private UUID generarIdentificadorNuevaUbicacion() throws BackEndException {
-        UUID nuevoId;
-        var existeId = false;
-        do {
-            nuevoId = UtilUUID.generarNuevoUUID();
-            var ubicacion = factory.getUbicacionPrecisaDAO().consultarPorId(nuevoId);
-            existeId = !UtilUUID.esValorDefecto(ubicacion.getId());
-
-
-        }while (existeId);
-        return nuevoId;
+    private UUID generarIdentificadorNuevaUbicacion() {
+        return UtilUUID.generarNuevoUUIDOrdenado();
     }
 
     @Override
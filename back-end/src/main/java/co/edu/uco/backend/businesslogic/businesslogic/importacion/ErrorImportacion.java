@@ -0,0 +1,7 @@
+package co.edu.uco.backend.businesslogic.businesslogic.importacion;
+
+/**
+ * Motivo por el que se rechazó una fila; linea es la línea del archivo (1 es el encabezado en CSV).
+ */
+public record ErrorImportacion(int linea, String mensaje) {
+}
@@ -0,0 +1,94 @@
+package co.edu.uco.backend.businesslogic.businesslogic.importacion;
+
+import co.edu.uco.backend.crosscutting.constants.DiaSemana;
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Una fila del archivo de importación tal como llegó: línea de origen y campos como texto, con las
+ * columnas en minúscula. Los métodos de lectura convierten un campo al tipo esperado y rechazan la
+ * fila con un mensaje que nombra la columna cuando falta o no tiene el formato correcto.
+ */
+public record FilaImportacion(int linea, Map<String, String> campos) {
+
+    public String texto(final String columna, final boolean obligatorio) throws BackEndException {
+        var valor = campos.get(columna);
+        var recortado = valor == null ? null : valor.strip();
+        if (recortado == null || recortado.isEmpty()) {
+            if (obligatorio) {
+                throw BusinessLogicBackEndException.reportar("La columna " + columna + " es obligatoria");
+            }
+            return null;
+        }
+        return recortado;
+    }
+
+    public UUID uuid(final String columna) throws BackEndException {
+        var valor = texto(columna, true);
+        try {
+            return UUID.fromString(valor);
+        } catch (IllegalArgumentException exception) {
+            throw BusinessLogicBackEndException.reportar("La columna " + columna + " debe ser un identificador UUID válido");
+        }
+    }
+
+    public double decimal(final String columna) throws BackEndException {
+        var valor = texto(columna, true);
+        try {
+            return Double.parseDouble(valor);
+        } catch (NumberFormatException exception) {
+            throw BusinessLogicBackEndException.reportar("La columna " + columna + " debe ser un número, con punto como separador decimal");
+        }
+    }
+
+    // SI/NO como en el formulario de la cancha; también true/false. Sin valor, NO
+    public boolean booleano(final String columna) throws BackEndException {
+        var valor = texto(columna, false);
+        if (valor == null) {
+            return false;
+        }
+        return switch (valor.toUpperCase(Locale.ROOT)) {
+            case "SI", "SÍ", "TRUE" -> true;
+            case "NO", "FALSE" -> false;
+            default -> throw BusinessLogicBackEndException.reportar("La columna " + columna + " solo admite SI o NO");
+        };
+    }
+
+    public LocalTime hora(final String columna) throws BackEndException {
+        var valor = texto(columna, true);
+        try {
+            return LocalTime.parse(valor);
+        } catch (DateTimeParseException exception) {
+            throw BusinessLogicBackEndException.reportar("La columna " + columna + " debe ser una hora con formato HH:mm");
+        }
+    }
+
+    public LocalDate fecha(final String columna) throws BackEndException {
+        var valor = texto(columna, true);
+        try {
+            return LocalDate.parse(valor);
+        } catch (DateTimeParseException exception) {
+            throw BusinessLogicBackEndException.reportar("La columna " + columna + " debe ser una fecha con formato AAAA-MM-DD");
+        }
+    }
+
+    // Sin tildes ni distinción de mayúsculas: "miércoles" y "MIERCOLES" son el mismo día
+    public DiaSemana dia(final String columna) throws BackEndException {
+        var valor = Normalizer.normalize(texto(columna, true), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toUpperCase(Locale.ROOT);
+        try {
+            return DiaSemana.valueOf(valor);
+        } catch (IllegalArgumentException exception) {
+            throw BusinessLogicBackEndException.reportar("La columna " + columna + " debe ser un día de la semana, de LUNES a DOMINGO");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package co.edu.uco.backend.businesslogic.businesslogic.importacion;
+
+import java.util.List;
+
+/**
+ * Resultado de una importación. Es todo o nada: con al menos un error no se carga ninguna fila
+ * (importadas = 0) y errores trae el motivo de cada fila rechazada.
+ */
+public record ResultadoImportacion(int filas, int importadas, List<ErrorImportacion> errores) {
+
+    public static ResultadoImportacion exitoso(final int filas) {
+        return new ResultadoImportacion(filas, filas, List.of());
+    }
+
+    public static ResultadoImportacion rechazado(final int filas, final List<ErrorImportacion> errores) {
+        return new ResultadoImportacion(filas, 0, List.copyOf(errores));
+    }
+
+    public boolean esExitoso() {
+        return errores.isEmpty();
+    }
+}
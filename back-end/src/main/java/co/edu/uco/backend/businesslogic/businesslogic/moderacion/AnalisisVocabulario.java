@@ -0,0 +1,4 @@
+package co.edu.uco.backend.businesslogic.businesslogic.moderacion;
+
+public record AnalisisVocabulario(boolean contieneAspectoNegativo, boolean contienePalabraProhibida) {
+}
@@ -0,0 +1,116 @@
+package co.edu.uco.backend.businesslogic.businesslogic.moderacion;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Autómata Aho-Corasick sobre un vocabulario ya plegado (minúsculas, sin tildes). Busca todas las
+ * palabras en una sola pasada por el texto, con la misma semántica que String.contains: una palabra
+ * coincide aunque aparezca dentro de otra. Es inmutable y se comparte entre hilos.
+ */
+final class AutomataPalabras {
+
+    private static final int SIN_TRANSICION = -1;
+
+    // Clase de cada carácter del alfabeto; la clase 0 agrupa todo carácter que no aparece en el vocabulario
+    private final short[] clases;
+    private final int numeroClases;
+    private final int[] transiciones;
+    private final boolean[] coincidencias;
+
+    private AutomataPalabras(final short[] clases, final int numeroClases, final int[] transiciones,
+                             final boolean[] coincidencias) {
+        this.clases = clases;
+        this.numeroClases = numeroClases;
+        this.transiciones = transiciones;
+        this.coincidencias = coincidencias;
+    }
+
+    static AutomataPalabras construir(final Collection<String> palabras) {
+        var maximo = 0;
+        for (String palabra : palabras) {
+            for (int i = 0; i < palabra.length(); i++) {
+                maximo = Math.max(maximo, palabra.charAt(i));
+            }
+        }
+        var clases = new short[maximo + 1];
+        var numeroClases = 1;
+        for (String palabra : palabras) {
+            for (int i = 0; i < palabra.length(); i++) {
+                if (clases[palabra.charAt(i)] == 0) {
+                    clases[palabra.charAt(i)] = (short) numeroClases++;
+                }
+            }
+        }
+
+        // 1) Trie de las palabras
+        var trie = new ArrayList<int[]>();
+        var finales = new ArrayList<Boolean>();
+        trie.add(nuevoNodo(numeroClases));
+        finales.add(Boolean.FALSE);
+        for (String palabra : palabras) {
+            if (palabra.isEmpty()) {
+                continue;
+            }
+            var estado = 0;
+            for (int i = 0; i < palabra.length(); i++) {
+                var clase = clases[palabra.charAt(i)];
+                if (trie.get(estado)[clase] == SIN_TRANSICION) {
+                    trie.get(estado)[clase] = trie.size();
+                    trie.add(nuevoNodo(numeroClases));
+                    finales.add(Boolean.FALSE);
+                }
+                estado = trie.get(estado)[clase];
+            }
+            finales.set(estado, Boolean.TRUE);
+        }
+
+        // 2) Enlaces de falla por niveles; se completan las transiciones para obtener un autómata determinista
+        var estados = trie.size();
+        var transiciones = new int[estados * numeroClases];
+        var coincidencias = new boolean[estados];
+        var fallas = new int[estados];
+        var pendientes = new ArrayDeque<Integer>();
+        for (int clase = 0; clase < numeroClases; clase++) {
+            var siguiente = trie.get(0)[clase];
+            transiciones[clase] = siguiente == SIN_TRANSICION ? 0 : siguiente;
+            if (siguiente != SIN_TRANSICION) {
+                pendientes.add(siguiente);
+            }
+        }
+        coincidencias[0] = finales.get(0);
+        while (!pendientes.isEmpty()) {
+            int estado = pendientes.poll();
+            coincidencias[estado] = finales.get(estado) || coincidencias[fallas[estado]];
+            for (int clase = 0; clase < numeroClases; clase++) {
+                var siguiente = trie.get(estado)[clase];
+                var porFalla = transiciones[fallas[estado] * numeroClases + clase];
+                if (siguiente == SIN_TRANSICION) {
+                    transiciones[estado * numeroClases + clase] = porFalla;
+                } else {
+                    transiciones[estado * numeroClases + clase] = siguiente;
+                    fallas[siguiente] = porFalla;
+                    pendientes.add(siguiente);
+                }
+            }
+        }
+        return new AutomataPalabras(clases, numeroClases, transiciones, coincidencias);
+    }
+
+    int avanzar(final int estado, final char caracter) {
+        var clase = caracter < clases.length ? clases[caracter] : 0;
+        return transiciones[estado * numeroClases + clase];
+    }
+
+    boolean esCoincidencia(final int estado) {
+        return coincidencias[estado];
+    }
+
+    private static int[] nuevoNodo(final int numeroClases) {
+        var nodo = new int[numeroClases];
+        Arrays.fill(nodo, SIN_TRANSICION);
+        return nodo;
+    }
+}
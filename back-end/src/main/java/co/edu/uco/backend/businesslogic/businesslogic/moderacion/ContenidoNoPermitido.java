@@ -0,0 +1,9 @@
+package co.edu.uco.backend.businesslogic.businesslogic.moderacion;
+
+public enum ContenidoNoPermitido {
+    NINGUNO,
+    URL_CON_PROTOCOLO,
+    URL_WWW,
+    DOMINIO,
+    ETIQUETA_HTML
+}
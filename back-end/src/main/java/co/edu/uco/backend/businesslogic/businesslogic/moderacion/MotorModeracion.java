@@ -0,0 +1,168 @@
+package co.edu.uco.backend.businesslogic.businesslogic.moderacion;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Pattern;
+
+/**
+ * Motor de moderación de reseñas. Los patrones se compilan una sola vez y los vocabularios
+ * (aspectos negativos y palabras prohibidas) se buscan con autómatas Aho-Corasick en una única
+ * pasada que pliega mayúsculas y tildes carácter a carácter, sin construir cadenas intermedias.
+ * Los vocabularios se pueden reemplazar en caliente con recargar(...).
+ */
+public final class MotorModeracion {
+
+    public static final List<String> PALABRAS_NEGATIVAS_DEFECTO = List.of(
+            "mal", "deficiente", "sucio", "inadecuado", "cancelado",
+            "pesimo", "horrible", "desastroso", "negligente", "incompetente",
+            "lamentable", "pobre", "terrible", "decepcionante", "frustrante"
+    );
+
+    public static final List<String> PALABRAS_PROHIBIDAS_DEFECTO = List.of(
+            "imbecil", "estupido", "idiota", "basura", "mierda", "puta",
+            "gilipollas", "pendejo", "tarado", "cabron", "mierdas",
+            "malparido", "malparida", "zorra", "zorras"
+    );
+
+    // Sin UNICODE_CASE el plegado solo sería ASCII; antes se comparaba contra comentario.toLowerCase()
+    private static final Pattern URL_CON_PROTOCOLO = Pattern.compile("(https?://\\S+)",
+            Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    private static final Pattern URL_WWW = Pattern.compile("(www\\.\\S+)",
+            Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    // \w++ es posesivo: como \w no incluye el punto el resultado es el mismo, pero sin retroceso en palabras largas
+    private static final Pattern DOMINIO = Pattern.compile("\\b\\w++\\.(?:com|net|org|info|io|es|co)(?:/[^\\s]*)?\\b",
+            Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    private static final Pattern ETIQUETA_HTML = Pattern.compile("<[^>]+>");
+
+    // Plegado de cada carácter: minúscula y sin marcas diacríticas (0 = se omite). Se calcula por bloques
+    // de 256 caracteres la primera vez que aparece uno del bloque; las reseñas en español solo tocan los primeros
+    private static final int BITS_BLOQUE = 8;
+    private static final AtomicReferenceArray<char[]> BLOQUES_PLEGADO =
+            new AtomicReferenceArray<>((Character.MAX_VALUE + 1) >> BITS_BLOQUE);
+
+    private static final MotorModeracion INSTANCE = new MotorModeracion();
+
+    private record Vocabulario(AutomataPalabras negativas, AutomataPalabras prohibidas) {
+    }
+
+    private volatile Vocabulario vocabulario;
+
+    private MotorModeracion() {
+        recargar(PALABRAS_NEGATIVAS_DEFECTO, PALABRAS_PROHIBIDAS_DEFECTO);
+    }
+
+    public static MotorModeracion getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Reemplaza los vocabularios de forma atómica; las validaciones en curso terminan con los anteriores.
+     */
+    public void recargar(final Collection<String> palabrasNegativas, final Collection<String> palabrasProhibidas) {
+        vocabulario = new Vocabulario(
+                AutomataPalabras.construir(plegarTodas(palabrasNegativas)),
+                AutomataPalabras.construir(plegarTodas(palabrasProhibidas)));
+    }
+
+    /**
+     * Recorre el comentario una sola vez buscando a la vez aspectos negativos y palabras prohibidas.
+     */
+    public AnalisisVocabulario analizarVocabulario(final String comentario) {
+        var actual = vocabulario;
+        var estadoNegativas = 0;
+        var estadoProhibidas = 0;
+        var contieneNegativa = false;
+        var contieneProhibida = false;
+
+        for (int i = 0; i < comentario.length(); i++) {
+            var caracter = plegar(comentario.charAt(i));
+            if (caracter == 0) {
+                continue;
+            }
+            estadoNegativas = actual.negativas().avanzar(estadoNegativas, caracter);
+            estadoProhibidas = actual.prohibidas().avanzar(estadoProhibidas, caracter);
+            contieneNegativa |= actual.negativas().esCoincidencia(estadoNegativas);
+            contieneProhibida |= actual.prohibidas().esCoincidencia(estadoProhibidas);
+        }
+        return new AnalisisVocabulario(contieneNegativa, contieneProhibida);
+    }
+
+    /**
+     * Los patrones solo se evalúan si el comentario tiene el carácter que todos ellos exigen
+     * ("://", "." o "<"); la mayoría de reseñas no pasa de estas búsquedas.
+     */
+    public ContenidoNoPermitido buscarContenidoNoPermitido(final String comentario) {
+        if (comentario.contains("://") && URL_CON_PROTOCOLO.matcher(comentario).find()) {
+            return ContenidoNoPermitido.URL_CON_PROTOCOLO;
+        }
+        var tienePunto = comentario.indexOf('.') >= 0;
+        if (tienePunto && URL_WWW.matcher(comentario).find()) {
+            return ContenidoNoPermitido.URL_WWW;
+        }
+        if (tienePunto && DOMINIO.matcher(comentario).find()) {
+            return ContenidoNoPermitido.DOMINIO;
+        }
+        if (comentario.indexOf('<') >= 0 && ETIQUETA_HTML.matcher(comentario).find()) {
+            return ContenidoNoPermitido.ETIQUETA_HTML;
+        }
+        return ContenidoNoPermitido.NINGUNO;
+    }
+
+    static char plegar(final char caracter) {
+        var bloque = BLOQUES_PLEGADO.get(caracter >> BITS_BLOQUE);
+        if (bloque == null) {
+            bloque = calcularBloque(caracter >> BITS_BLOQUE);
+        }
+        return bloque[caracter & ((1 << BITS_BLOQUE) - 1)];
+    }
+
+    // Mismo resultado que toLowerCase + NFD + quitar \p{M} aplicado al carácter; si dos hilos calculan
+    // el mismo bloque a la vez, ambos obtienen el mismo contenido y se conserva el primero
+    private static char[] calcularBloque(final int indice) {
+        var bloque = new char[1 << BITS_BLOQUE];
+        for (int i = 0; i < bloque.length; i++) {
+            var minuscula = Character.toLowerCase((char) ((indice << BITS_BLOQUE) | i));
+            if (esMarca(minuscula)) {
+                continue;
+            }
+            var texto = String.valueOf(minuscula);
+            if (Normalizer.isNormalized(texto, Normalizer.Form.NFD)) {
+                bloque[i] = minuscula;
+                continue;
+            }
+            var base = new StringBuilder(2);
+            Normalizer.normalize(texto, Normalizer.Form.NFD).chars()
+                    .filter(descompuesto -> !esMarca((char) descompuesto))
+                    .forEach(descompuesto -> base.append((char) descompuesto));
+            bloque[i] = base.length() == 1 ? base.charAt(0) : base.isEmpty() ? 0 : minuscula;
+        }
+        return BLOQUES_PLEGADO.compareAndSet(indice, null, bloque) ? bloque : BLOQUES_PLEGADO.get(indice);
+    }
+
+    private static boolean esMarca(final char caracter) {
+        var tipo = Character.getType(caracter);
+        return tipo == Character.NON_SPACING_MARK || tipo == Character.ENCLOSING_MARK
+                || tipo == Character.COMBINING_SPACING_MARK;
+    }
+
+    private static List<String> plegarTodas(final Collection<String> palabras) {
+        return palabras.stream()
+                .map(MotorModeracion::plegarPalabra)
+                .filter(palabra -> !palabra.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private static String plegarPalabra(final String palabra) {
+        var resultado = new StringBuilder(palabra.length());
+        for (int i = 0; i < palabra.length(); i++) {
+            var caracter = plegar(palabra.charAt(i));
+            if (caracter != 0) {
+                resultado.append(caracter);
+            }
+        }
+        return resultado.toString().trim();
+    }
+}
@@ -1,8 +1,14 @@
 package co.edu.uco.backend.businesslogic.facade;
 
+import co.edu.uco.backend.businesslogic.businesslogic.disponibilidad.DisponibilidadDia;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.busqueda.FiltroBusquedaCanchas;
+import co.edu.uco.backend.data.dao.busqueda.ResultadoBusquedaCanchas;
+import co.edu.uco.backend.data.dao.entity.Pagina;
+import co.edu.uco.backend.data.dao.geo.CanchaCercana;
 import co.edu.uco.backend.dto.CanchaDTO;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,4 +28,12 @@ public interface CanchaFacade {
 
     List<CanchaDTO> consultarTodasCanchas(CanchaDTO filtro) throws BackEndException;
 
+    Pagina<CanchaDTO> consultarTodasCanchas(CanchaDTO filtro, UUID despuesDe, int limite) throws BackEndException;
+
+    List<DisponibilidadDia> consultarDisponibilidad(UUID canchaId, LocalDate desde, LocalDate hasta) throws BackEndException;
+
+    List<CanchaCercana> consultarCanchasCercanas(double latitud, double longitud, double radioKm, int limite) throws BackEndException;
+
+    ResultadoBusquedaCanchas buscarCanchas(FiltroBusquedaCanchas filtro, UUID despuesDe, int limite) throws BackEndException;
+
 }
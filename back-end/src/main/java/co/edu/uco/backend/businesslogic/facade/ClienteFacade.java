@@ -1,6 +1,7 @@
 package co.edu.uco.backend.businesslogic.facade;
 
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.entity.Pagina;
 import co.edu.uco.backend.dto.ClienteDTO;
 
 import java.util.List;
@@ -18,4 +19,6 @@ public interface ClienteFacade extends UsuarioFacade {
 
     List<ClienteDTO> consultarClientes(ClienteDTO filtro) throws BackEndException;
 
+    Pagina<ClienteDTO> consultarClientes(ClienteDTO filtro, UUID despuesDe, int limite) throws BackEndException;
+
 }
@@ -0,0 +1,16 @@
+package co.edu.uco.backend.businesslogic.facade;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+
+import java.util.function.Consumer;
+
+/**
+ * Exportación ya validada que todavía no ha tocado la base de datos. recorrer() abre la conexión,
+ * entrega las filas al consumidor a medida que llegan del cursor y la cierra al terminar; así el
+ * controlador puede rechazar la solicitud antes de empezar a escribir la respuesta.
+ */
+@FunctionalInterface
+public interface Exportacion<T> {
+
+    void recorrer(Consumer<T> consumidor) throws BackEndException;
+}
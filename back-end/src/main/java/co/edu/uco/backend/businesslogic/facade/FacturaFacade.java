@@ -1,7 +1,10 @@
 package co.edu.uco.backend.businesslogic.facade;
 
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.entity.factura.FacturaResumen;
 import co.edu.uco.backend.dto.FacturaDTO;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,4 +22,7 @@ public interface FacturaFacade {
 
     byte[] generarPdfFactura(UUID reservaId, UUID facturaId);
 
+    // Valida de inmediato; la conexión se abre cuando se recorre la exportación devuelta
+    Exportacion<FacturaResumen> exportarFacturasPorOrganizacion(UUID orgId, LocalDate desde, LocalDate hasta) throws BackEndException;
+
 }
@@ -1,5 +1,6 @@
 package co.edu.uco.backend.businesslogic.facade;
 
+import co.edu.uco.backend.businesslogic.businesslogic.calificacion.Calificacion;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.dto.ResenaDTO;
 
@@ -18,4 +19,8 @@ public interface ResenaFacade {
 
     List<ResenaDTO> consultarResenas(UUID reservaId, ResenaDTO filtro) throws BackEndException;
 
+    Calificacion consultarCalificacionCancha(UUID canchaId) throws BackEndException;
+
+    Calificacion consultarCalificacionOrganizacion(UUID orgId) throws BackEndException;
+
 }
@@ -1,15 +1,17 @@
 package co.edu.uco.backend.businesslogic.facade;
 
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.entity.reserva.ReservaResumen;
 import co.edu.uco.backend.dto.ReservaDTO;
 
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface ReservaFacade {
 
-    void registrarNuevaReserva(UUID clienteID, ReservaDTO reserva);
+    void registrarNuevaReserva(UUID clienteID, ReservaDTO reserva) throws BackEndException;
 
     void confirmarReserva(UUID clienteId, UUID idReserva, ReservaDTO reserva);
 
@@ -17,7 +19,12 @@ public interface ReservaFacade {
 
     ReservaDTO consultarReservaPorCliente(UUID clienteId, UUID reservaId);
 
-    List<Map<String,Object>> listarReservasPorCliente(UUID clienteId, ReservaDTO filtro) throws BackEndException;
+    List<ReservaResumen> listarReservasPorCliente(UUID clienteId, ReservaDTO filtro) throws BackEndException;
+
+    void recorrerReservasPorCliente(UUID clienteId, Consumer<ReservaResumen> consumidor) throws BackEndException;
+
+    // Valida de inmediato; la conexión se abre cuando se recorre la exportación devuelta
+    Exportacion<ReservaResumen> exportarReservasPorOrganizacion(UUID orgId, LocalDate desde, LocalDate hasta) throws BackEndException;
 
     void finalizarReserva(UUID clienteId, UUID reservaId);
 
@@ -1,12 +1,14 @@
 package co.edu.uco.backend.businesslogic.facade;
 
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.dto.SesionDTO;
 import co.edu.uco.backend.dto.UsuarioDTO;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface UsuarioFacade {
-    UsuarioDTO iniciarSesion(String username, String rawPassword, String ipAdress, String userAgent);
+    SesionDTO iniciarSesion(String username, String rawPassword, String ipAdress, String userAgent) throws BackEndException;
     void cerrarSesion(UUID usuarioId);
     void recuperarContrasena(String username);
     void cambiarContrasena(UUID usuarioId, String rawPasswordActual, String rawPasswordNueva);
@@ -1,15 +1,24 @@
 package co.edu.uco.backend.businesslogic.facade.impl;
 
+import co.edu.uco.backend.businesslogic.assembler.cancha.dto.CanchaDTOAssembler;
+import co.edu.uco.backend.businesslogic.businesslogic.disponibilidad.DisponibilidadDia;
+import co.edu.uco.backend.businesslogic.businesslogic.disponibilidad.MotorDisponibilidad;
 import co.edu.uco.backend.businesslogic.businesslogic.domain.CanchaDomain;
 import co.edu.uco.backend.businesslogic.businesslogic.impl.CanchaBusinessLogicImpl;
 import co.edu.uco.backend.businesslogic.businesslogic.CanchaBusinessLogic;
 import co.edu.uco.backend.businesslogic.facade.CanchaFacade;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
+import co.edu.uco.backend.data.dao.busqueda.FiltroBusquedaCanchas;
+import co.edu.uco.backend.data.dao.busqueda.IndiceFacetasCanchas;
+import co.edu.uco.backend.data.dao.busqueda.ResultadoBusquedaCanchas;
+import co.edu.uco.backend.data.dao.entity.Pagina;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
-import co.edu.uco.backend.data.dao.factory.Factory;
+import co.edu.uco.backend.data.dao.geo.CanchaCercana;
+import co.edu.uco.backend.data.dao.geo.IndiceGeograficoCanchas;
 import co.edu.uco.backend.dto.CanchaDTO;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,13 +28,14 @@ public class CanchaFacadeImpl implements CanchaFacade {
     private CanchaBusinessLogic canchaBusinessLogic;
 
     public CanchaFacadeImpl() throws BackEndException {
-        daoFactory = DAOFactory.getFactory(Factory.POSTGRE_SQL);
+        daoFactory = DAOFactory.getFactory();
         canchaBusinessLogic = new CanchaBusinessLogicImpl(daoFactory);
     }
 
 
     @Override
     public void registrarNuevaCancha(UUID orgId, CanchaDTO cancha) throws BackEndException {
+        daoFactory.abrirConexion();
         try {
             daoFactory.iniciarTransaccion();
 
@@ -50,6 +60,7 @@ public class CanchaFacadeImpl implements CanchaFacade {
 
     @Override
     public void modificarCanchaExistente(UUID orgId, UUID canchaId, CanchaDTO cancha) throws BackEndException {
+        daoFactory.abrirConexion();
         try {
             daoFactory.iniciarTransaccion();
 
@@ -74,6 +85,7 @@ public class CanchaFacadeImpl implements CanchaFacade {
 
     @Override
     public void darBajaDefinitivamenteCanchaExistente(UUID orgId, UUID canchaId) throws BackEndException {
+        daoFactory.abrirConexion();
         try {
             daoFactory.iniciarTransaccion();
 
@@ -81,6 +93,7 @@ public class CanchaFacadeImpl implements CanchaFacade {
             canchaBusinessLogic.darBajaDefinitivamenteCanchaExistente(orgId, canchaId);
 
             daoFactory.confirmarTransaccion();
+            MotorDisponibilidad.getInstance().invalidarHorarios(canchaId);
         } catch (BackEndException exception) {
             daoFactory.cancelarTransaccion();
             throw exception;
@@ -97,6 +110,7 @@ public class CanchaFacadeImpl implements CanchaFacade {
 
     @Override
     public CanchaDTO consultarCanchaPorOrganizacion(UUID orgId, UUID canchaId) throws BackEndException {
+        daoFactory.abrirConexion();
         try {
             // 1. Consultar el domain
             CanchaDomain canchaDomain = canchaBusinessLogic.consultarCanchaPorOrganizacion(orgId, canchaId);
@@ -116,6 +130,7 @@ public class CanchaFacadeImpl implements CanchaFacade {
 
     @Override
     public List<CanchaDTO> listarCanchasPorOrganizacion(UUID orgId, CanchaDTO filtro) throws BackEndException {
+        daoFactory.abrirConexion();
         try {
             // 1. TODO: convertir DTO(filtro) -> Domain
             // CanchaDomain filtroDomain = CanchaAssembler.toDomain(filtro);
@@ -138,6 +153,7 @@ public class CanchaFacadeImpl implements CanchaFacade {
 
     @Override
     public CanchaDTO consultarCanchaPorId(UUID canchaId) throws BackEndException {
+        daoFactory.abrirConexion();
         try {
             var canchaDomainResultado = canchaBusinessLogic.consultarCanchaPorId(canchaId);;
             //TODO: Magia de convertir de domain a DTO de respuesta
@@ -157,18 +173,22 @@ public class CanchaFacadeImpl implements CanchaFacade {
 
     @Override
     public List<CanchaDTO> consultarTodasCanchas(CanchaDTO filtro) throws BackEndException {
+        daoFactory.abrirConexion();
         try {
-            // 1. TODO: convertir DTO(filtro) -> Domain
-            // CanchaDomain filtroDomain = CanchaAssembler.toDomain(filtro);
-            CanchaDomain filtroDomain = null;
+            // Solo lectura en transacción: con autocommit PostgreSQL ignora setFetchSize y trae todo de una vez
+            daoFactory.iniciarTransaccion();
+            // 1. Convertir DTO(filtro) -> Domain
+            CanchaDomain filtroDomain = CanchaDTOAssembler.getInstance().toDomain(filtro);
             // 2. Consultar lista global de canchas
             List<CanchaDomain> dominios = canchaBusinessLogic.consultarTodasCanchas(filtroDomain);
-            // 3. TODO: convertir cada Domain -> DTO
-            // return dominios.stream().map(CanchaAssembler::toDto).collect(Collectors.toList());
-            return List.of();
+            daoFactory.confirmarTransaccion();
+            // 3. Convertir cada Domain -> DTO
+            return CanchaDTOAssembler.getInstance().toDTOs(dominios);
         } catch (BackEndException ex) {
+            daoFactory.cancelarTransaccion();
             throw ex;
         } catch (Exception ex) {
+            daoFactory.cancelarTransaccion();
             var mensajeUsuario = "Se ha presentado un problema inesperado al consultar todas las canchas";
             var mensajeTecnico = "Excepción inesperada listando todas las canchas";
             throw BusinessLogicBackEndException.reportar(mensajeUsuario, mensajeTecnico, ex);
@@ -177,5 +197,96 @@ public class CanchaFacadeImpl implements CanchaFacade {
         }
     }
 
+    @Override
+    public Pagina<CanchaDTO> consultarTodasCanchas(CanchaDTO filtro, UUID despuesDe, int limite) throws BackEndException {
+        daoFactory.abrirConexion();
+        try {
+            // En transacción, como el listado completo, para que setFetchSize tenga efecto
+            daoFactory.iniciarTransaccion();
+            CanchaDomain filtroDomain = CanchaDTOAssembler.getInstance().toDomain(filtro);
+            Pagina<CanchaDomain> pagina = canchaBusinessLogic.consultarTodasCanchas(filtroDomain, despuesDe, limite);
+            daoFactory.confirmarTransaccion();
+            return new Pagina<>(CanchaDTOAssembler.getInstance().toDTOs(pagina.elementos()), pagina.siguienteCursor());
+        } catch (BackEndException ex) {
+            daoFactory.cancelarTransaccion();
+            throw ex;
+        } catch (Exception ex) {
+            daoFactory.cancelarTransaccion();
+            var mensajeUsuario = "Se ha presentado un problema inesperado al consultar las canchas";
+            var mensajeTecnico = "Excepción inesperada consultando una página de canchas";
+            throw BusinessLogicBackEndException.reportar(mensajeUsuario, mensajeTecnico, ex);
+        } finally {
+            daoFactory.cerrarConexion();
+        }
+    }
+
+    @Override
+    public List<DisponibilidadDia> consultarDisponibilidad(UUID canchaId, LocalDate desde, LocalDate hasta) throws BackEndException {
+        // Con la agenda de la cancha ya en memoria no se toma ninguna conexión del pool
+        var disponibilidadEnMemoria = MotorDisponibilidad.getInstance().consultarEnMemoria(canchaId, desde, hasta);
+        if (disponibilidadEnMemoria != null) {
+            return disponibilidadEnMemoria;
+        }
+
+        daoFactory.abrirConexion();
+        try {
+            return canchaBusinessLogic.consultarDisponibilidad(canchaId, desde, hasta);
+        } catch (BackEndException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción inesperada de tipo Exception tratando de consultar la disponibilidad de la cancha " + canchaId + ", para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de consultar la disponibilidad de la cancha";
+
+            throw BusinessLogicBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } finally {
+            daoFactory.cerrarConexion();
+        }
+    }
+
+    @Override
+    public List<CanchaCercana> consultarCanchasCercanas(double latitud, double longitud, double radioKm, int limite) throws BackEndException {
+        // Con el índice geográfico ya cargado no se toma ninguna conexión del pool
+        if (IndiceGeograficoCanchas.getInstance().estaCargado()) {
+            return canchaBusinessLogic.consultarCanchasCercanas(latitud, longitud, radioKm, limite);
+        }
+
+        daoFactory.abrirConexion();
+        try {
+            return canchaBusinessLogic.consultarCanchasCercanas(latitud, longitud, radioKm, limite);
+        } catch (BackEndException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción inesperada de tipo Exception tratando de consultar las canchas cercanas a ("
+                    + latitud + ", " + longitud + "), para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de consultar las canchas cercanas";
+
+            throw BusinessLogicBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } finally {
+            daoFactory.cerrarConexion();
+        }
+    }
+
+    @Override
+    public ResultadoBusquedaCanchas buscarCanchas(FiltroBusquedaCanchas filtro, UUID despuesDe, int limite) throws BackEndException {
+        // Con el índice de facetas ya cargado no se toma ninguna conexión del pool
+        if (IndiceFacetasCanchas.getInstance().estaCargado()) {
+            return canchaBusinessLogic.buscarCanchas(filtro, despuesDe, limite);
+        }
+
+        daoFactory.abrirConexion();
+        try {
+            return canchaBusinessLogic.buscarCanchas(filtro, despuesDe, limite);
+        } catch (BackEndException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción inesperada de tipo Exception tratando de buscar canchas con el filtro "
+                    + filtro + ", para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de buscar canchas";
+
+            throw BusinessLogicBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } finally {
+            daoFactory.cerrarConexion();
+        }
+    }
 
 }
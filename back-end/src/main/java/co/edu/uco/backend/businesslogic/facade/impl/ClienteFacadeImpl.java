@@ -2,14 +2,18 @@ package co.edu.uco.backend.businesslogic.facade.impl;
 
 import co.edu.uco.backend.businesslogic.assembler.cliente.dto.ClienteDTOAssembler;
 import co.edu.uco.backend.businesslogic.businesslogic.domain.ClienteDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.domain.UsuarioDomain;
 import co.edu.uco.backend.businesslogic.businesslogic.impl.ClienteBusinessLogicImpl;
 import co.edu.uco.backend.businesslogic.businesslogic.ClienteBusinessLogic;
 import co.edu.uco.backend.businesslogic.facade.ClienteFacade;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.constants.TipoUsuario;
 import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
+import co.edu.uco.backend.crosscutting.seguridad.AlmacenSesiones;
+import co.edu.uco.backend.data.dao.entity.Pagina;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
-import co.edu.uco.backend.data.dao.factory.Factory;
 import co.edu.uco.backend.dto.ClienteDTO;
+import co.edu.uco.backend.dto.SesionDTO;
 import co.edu.uco.backend.dto.UsuarioDTO;
 
 import java.util.List;
@@ -21,17 +25,19 @@ public class ClienteFacadeImpl implements ClienteFacade {
     private final ClienteBusinessLogic clienteBusinessLogic;
 
     public ClienteFacadeImpl() throws BackEndException {
-        daoFactory = DAOFactory.getFactory(Factory.POSTGRE_SQL);
+        daoFactory = DAOFactory.getFactory();
         clienteBusinessLogic = new ClienteBusinessLogicImpl(daoFactory);
     }
 
     @Override
     public void registrarNuevoCliente(ClienteDTO cliente) throws BackEndException {
+        // El cifrado (PBKDF2) va antes de abrir la conexión para no retenerla mientras dura
+        ClienteDomain clienteDomain = clienteBusinessLogic.cifrarContrasena(ClienteDTOAssembler.getInstance().toDomain(cliente));
+
         daoFactory.abrirConexion();
         try {
             daoFactory.iniciarTransaccion();
 
-            ClienteDomain clienteDomain = ClienteDTOAssembler.getInstance().toDomain(cliente);
             clienteBusinessLogic.registrarNuevoCliente(clienteDomain);
 
             daoFactory.confirmarTransaccion();
@@ -51,11 +57,13 @@ public class ClienteFacadeImpl implements ClienteFacade {
 
     @Override
     public void modificarClienteExistente(UUID clienteId, ClienteDTO cliente) throws BackEndException {
+        // Solo se cifra si trae contraseña nueva; si no, se conserva la almacenada sin recalcularla
+        ClienteDomain clienteDomain = clienteBusinessLogic.cifrarContrasena(ClienteDTOAssembler.getInstance().toDomain(cliente));
+
         daoFactory.abrirConexion();
         try {
             daoFactory.iniciarTransaccion();
 
-            ClienteDomain clienteDomain = ClienteDTOAssembler.getInstance().toDomain(cliente);
             clienteBusinessLogic.modificarClienteExistente(clienteId, clienteDomain);
 
             daoFactory.confirmarTransaccion();
@@ -118,13 +126,18 @@ public class ClienteFacadeImpl implements ClienteFacade {
     public List<ClienteDTO> consultarClientes(ClienteDTO filtro) throws BackEndException {
         daoFactory.abrirConexion();
         try {
+            // Solo lectura en transacción: con autocommit PostgreSQL ignora setFetchSize y trae todo de una vez
+            daoFactory.iniciarTransaccion();
 
             ClienteDomain filtroDomain = ClienteDTOAssembler.getInstance().toDomain(filtro);
             List<ClienteDomain> dominios = clienteBusinessLogic.consultarClientes(filtroDomain);
+            daoFactory.confirmarTransaccion();
             return ClienteDTOAssembler.getInstance().toDTOs(dominios);
         } catch (BackEndException ex) {
+            daoFactory.cancelarTransaccion();
             throw ex;
         } catch (Exception ex) {
+            daoFactory.cancelarTransaccion();
             var mensajeUsuario = "Se ha presentado un problema inesperado al consultar todos los clientes";
             var mensajeTecnico = "Excepción inesperada listando todas los clientes";
             throw BusinessLogicBackEndException.reportar(mensajeUsuario, mensajeTecnico, ex);
@@ -134,13 +147,87 @@ public class ClienteFacadeImpl implements ClienteFacade {
     }
 
     @Override
-    public UsuarioDTO iniciarSesion(String username, String rawPassword, String ipAdress, String agentUser) {
-        return null;
+    public Pagina<ClienteDTO> consultarClientes(ClienteDTO filtro, UUID despuesDe, int limite) throws BackEndException {
+        daoFactory.abrirConexion();
+        try {
+            // En transacción, como el listado completo, para que setFetchSize tenga efecto
+            daoFactory.iniciarTransaccion();
+
+            ClienteDomain filtroDomain = ClienteDTOAssembler.getInstance().toDomain(filtro);
+            Pagina<ClienteDomain> pagina = clienteBusinessLogic.consultarClientes(filtroDomain, despuesDe, limite);
+            daoFactory.confirmarTransaccion();
+            return new Pagina<>(ClienteDTOAssembler.getInstance().toDTOs(pagina.elementos()), pagina.siguienteCursor());
+        } catch (BackEndException ex) {
+            daoFactory.cancelarTransaccion();
+            throw ex;
+        } catch (Exception ex) {
+            daoFactory.cancelarTransaccion();
+            var mensajeUsuario = "Se ha presentado un problema inesperado al consultar los clientes";
+            var mensajeTecnico = "Excepción inesperada consultando una página de clientes";
+            throw BusinessLogicBackEndException.reportar(mensajeUsuario, mensajeTecnico, ex);
+        } finally {
+            daoFactory.cerrarConexion();
+        }
+    }
+
+    @Override
+    public SesionDTO iniciarSesion(String username, String rawPassword, String ipAdress, String agentUser) throws BackEndException {
+        // Solo la consulta y la eventual actualización del hash usan la conexión; la comprobación PBKDF2
+        // corre entre ambas sin retenerla
+        var credenciales = consultarCredenciales(username, rawPassword);
+        var usuario = clienteBusinessLogic.verificarCredenciales(credenciales, rawPassword);
+
+        var recifrada = clienteBusinessLogic.recifrarContrasena(credenciales, rawPassword);
+        if (recifrada != null) {
+            actualizarContrasenaCifrada(usuario.getId(), recifrada);
+        }
+
+        // A partir de aquí las solicitudes se autentican con el token, sin volver a comprobar la contraseña
+        var sesion = AlmacenSesiones.getInstance().crear(usuario.getId(), TipoUsuario.CLIENTE, ipAdress, agentUser);
+        return new SesionDTO(sesion.token(), sesion.tipoUsuario().name(), sesion.expiraEn(), ClienteDTOAssembler.getInstance().toDTO((ClienteDomain) usuario));
+    }
+
+    private UsuarioDomain consultarCredenciales(String username, String rawPassword) throws BackEndException {
+        daoFactory.abrirConexion();
+        try {
+            return clienteBusinessLogic.consultarCredenciales(username, rawPassword);
+        } catch (BackEndException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción inesperada de tipo Exception tratando de consultar las credenciales del cliente, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de iniciar sesión";
+
+            throw BusinessLogicBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } finally {
+            daoFactory.cerrarConexion();
+        }
+    }
+
+    private void actualizarContrasenaCifrada(UUID clienteId, String contrasenaCifrada) throws BackEndException {
+        daoFactory.abrirConexion();
+        try {
+            daoFactory.iniciarTransaccion();
+
+            clienteBusinessLogic.actualizarContrasenaCifrada(clienteId, contrasenaCifrada);
+
+            daoFactory.confirmarTransaccion();
+        } catch (BackEndException exception) {
+            daoFactory.cancelarTransaccion();
+            throw exception;
+        } catch (Exception exception) {
+            daoFactory.cancelarTransaccion();
+            var mensajeTecnico = "Se presentó una excepción inesperada de tipo Exception tratando de actualizar el hash de la contraseña del cliente, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de iniciar sesión";
+
+            throw BusinessLogicBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } finally {
+            daoFactory.cerrarConexion();
+        }
     }
 
     @Override
     public void cerrarSesion(UUID usuarioId) {
-        //Sin implementar
+        clienteBusinessLogic.cerrarSesion(usuarioId);
     }
 
     @Override
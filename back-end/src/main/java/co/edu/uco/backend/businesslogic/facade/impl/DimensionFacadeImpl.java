@@ -7,7 +7,6 @@ import co.edu.uco.backend.businesslogic.facade.DimensionFacade;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
-import co.edu.uco.backend.data.dao.factory.Factory;
 import co.edu.uco.backend.dto.DimensionDTO;
 
 
@@ -19,7 +18,7 @@ public class DimensionFacadeImpl implements DimensionFacade {
     private DimensionBusinessLogic dimensionBusinessLogic;
 
     public DimensionFacadeImpl() throws BackEndException {
-        daoFactory = DAOFactory.getFactory(Factory.POSTGRE_SQL);
+        daoFactory = DAOFactory.getFactory();
         dimensionBusinessLogic = new DimensionBusinessLogicImpl(daoFactory);
     }
 
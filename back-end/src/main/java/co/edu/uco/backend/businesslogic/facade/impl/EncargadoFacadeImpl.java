@@ -7,8 +7,8 @@ import co.edu.uco.backend.businesslogic.facade.EncargadoFacade;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
-import co.edu.uco.backend.data.dao.factory.Factory;
 import co.edu.uco.backend.dto.EncargadoDTO;
+import co.edu.uco.backend.dto.SesionDTO;
 import co.edu.uco.backend.dto.UsuarioDTO;
 
 import java.util.List;
@@ -20,7 +20,7 @@ public class EncargadoFacadeImpl implements EncargadoFacade {
     private EncargadoBusinessLogic encargadoBusinessLogic;
 
     public EncargadoFacadeImpl() throws BackEndException {
-        daoFactory = DAOFactory.getFactory(Factory.POSTGRE_SQL);
+        daoFactory = DAOFactory.getFactory();
         encargadoBusinessLogic = new EncargadoBusinessLogicImpl(daoFactory);
     }
 
@@ -143,7 +143,7 @@ public class EncargadoFacadeImpl implements EncargadoFacade {
     }
 
     @Override
-    public UsuarioDTO iniciarSesion(String username, String rawPassword,String ipAdress, String userAgent) {
+    public SesionDTO iniciarSesion(String username, String rawPassword,String ipAdress, String userAgent) {
         return null;
     }
 
@@ -5,7 +5,6 @@ import co.edu.uco.backend.businesslogic.businesslogic.EstadoReservaBusinessLogic
 import co.edu.uco.backend.businesslogic.facade.EstadoReservaFacade;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
-import co.edu.uco.backend.data.dao.factory.Factory;
 import co.edu.uco.backend.dto.EstadoReservaDTO;
 
 import java.util.List;
@@ -17,7 +16,7 @@ public class EstadoReservaFacadeImpl implements EstadoReservaFacade {
     private EstadoReservaBusinessLogic estadoReservaBusinessLogic;
 
     public EstadoReservaFacadeImpl() throws BackEndException {
-        daoFactory = DAOFactory.getFactory(Factory.POSTGRE_SQL);
+        daoFactory = DAOFactory.getFactory();
         estadoReservaBusinessLogic = new EstadoReservaBusinessLogicImpl(daoFactory);
     }
 
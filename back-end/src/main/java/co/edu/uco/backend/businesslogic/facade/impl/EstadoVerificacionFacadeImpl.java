@@ -5,7 +5,6 @@ import co.edu.uco.backend.businesslogic.businesslogic.EstadoVerificacionBusiness
 import co.edu.uco.backend.businesslogic.facade.EstadoVerificacionFacade;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
-import co.edu.uco.backend.data.dao.factory.Factory;
 import co.edu.uco.backend.dto.EstadoVerificacionDTO;
 
 import java.util.List;
@@ -17,7 +16,7 @@ public class EstadoVerificacionFacadeImpl implements EstadoVerificacionFacade {
     private EstadoVerificacionBusinessLogic estadoVerificacionBusinessLogic;
 
     public EstadoVerificacionFacadeImpl() throws BackEndException {
-        daoFactory = DAOFactory.getFactory(Factory.POSTGRE_SQL);
+        daoFactory = DAOFactory.getFactory();
         estadoVerificacionBusinessLogic = new EstadoVerificacionBusinessLogicImpl(daoFactory);
     }
 
@@ -2,12 +2,15 @@ package co.edu.uco.backend.businesslogic.facade.impl;
 
 import co.edu.uco.backend.businesslogic.businesslogic.impl.FacturaBusinessLogicImpl;
 import co.edu.uco.backend.businesslogic.businesslogic.FacturaBusinessLogic;
+import co.edu.uco.backend.businesslogic.facade.Exportacion;
 import co.edu.uco.backend.businesslogic.facade.FacturaFacade;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
+import co.edu.uco.backend.data.dao.entity.factura.FacturaResumen;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
-import co.edu.uco.backend.data.dao.factory.Factory;
 import co.edu.uco.backend.dto.FacturaDTO;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,7 +20,7 @@ public class FacturaFacadeImpl implements FacturaFacade {
     private FacturaBusinessLogic facturaBusinessLogic;
 
     public FacturaFacadeImpl() throws BackEndException {
-        daoFactory = DAOFactory.getFactory(Factory.POSTGRE_SQL);
+        daoFactory = DAOFactory.getFactory();
         facturaBusinessLogic = new FacturaBusinessLogicImpl(daoFactory);
     }
 
@@ -51,4 +54,29 @@ public class FacturaFacadeImpl implements FacturaFacade {
     public byte[] generarPdfFactura(UUID reservaId, UUID facturaId) {
         return new byte[0];
     }
+
+    @Override
+    public Exportacion<FacturaResumen> exportarFacturasPorOrganizacion(UUID orgId, LocalDate desde, LocalDate hasta) throws BackEndException {
+        facturaBusinessLogic.validarExportacionFacturas(orgId, desde, hasta);
+        return consumidor -> {
+            daoFactory.abrirConexion();
+            try {
+                // Solo lectura, pero con autocommit apagado: así PostgreSQL entrega el resultado por
+                // lotes desde un cursor en lugar de enviarlo completo antes de la primera fila
+                daoFactory.iniciarTransaccion();
+                facturaBusinessLogic.exportarFacturasPorOrganizacion(orgId, desde, hasta, consumidor);
+                daoFactory.confirmarTransaccion();
+            } catch (BackEndException ex) {
+                daoFactory.cancelarTransaccion();
+                throw ex;
+            } catch (Exception ex) {
+                daoFactory.cancelarTransaccion();
+                var mensajeUsuario  = "Se ha presentado un problema inesperado al exportar las facturas";
+                var mensajeTecnico  = "Excepción inesperada exportando las facturas por organización";
+                throw BusinessLogicBackEndException.reportar(mensajeUsuario, mensajeTecnico, ex);
+            } finally {
+                daoFactory.cerrarConexion();
+            }
+        };
+    }
 }
@@ -1,5 +1,6 @@
 package co.edu.uco.backend.businesslogic.facade.impl;
 
+import co.edu.uco.backend.businesslogic.businesslogic.disponibilidad.MotorDisponibilidad;
 import co.edu.uco.backend.businesslogic.businesslogic.domain.HorarioDisponibleDomain;
 import co.edu.uco.backend.businesslogic.businesslogic.impl.HorarioDisponibleBusinessLogicImpl;
 import co.edu.uco.backend.businesslogic.businesslogic.HorarioDisponibleBusinessLogic;
@@ -7,7 +8,6 @@ import co.edu.uco.backend.businesslogic.facade.HorarioDisponibleFacade;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
-import co.edu.uco.backend.data.dao.factory.Factory;
 import co.edu.uco.backend.dto.HorarioDisponibleDTO;
 
 import java.util.List;
@@ -19,13 +19,14 @@ public class HorarioDisponibleFacadeImpl implements HorarioDisponibleFacade {
     private HorarioDisponibleBusinessLogic horarioDisponibleBusinessLogic;
 
     public HorarioDisponibleFacadeImpl() throws BackEndException {
-        daoFactory = DAOFactory.getFactory(Factory.POSTGRE_SQL);
+        daoFactory = DAOFactory.getFactory();
         horarioDisponibleBusinessLogic = new HorarioDisponibleBusinessLogicImpl(daoFactory);
     }
 
 
     @Override
     public void registrarNuevoHorarioDisponible(UUID canchaId, HorarioDisponibleDTO horarioDisponible) throws BackEndException {
+        daoFactory.abrirConexion();
         try {
             daoFactory.iniciarTransaccion();
 
@@ -33,6 +34,7 @@ public class HorarioDisponibleFacadeImpl implements HorarioDisponibleFacade {
             horarioDisponibleBusinessLogic.registrarNuevoHorarioDisponible(canchaId,horarioDisponibleDomain);
 
             daoFactory.confirmarTransaccion();
+            MotorDisponibilidad.getInstance().invalidarHorarios(canchaId);
         } catch (BackEndException exception) {
             daoFactory.cancelarTransaccion();
             throw exception;
@@ -49,6 +51,7 @@ public class HorarioDisponibleFacadeImpl implements HorarioDisponibleFacade {
 
     @Override
     public void modificarHorarioDisponibleExistente(UUID canchaId, UUID horarioDisponinbleID, HorarioDisponibleDTO horarioDisponible) throws BackEndException {
+        daoFactory.abrirConexion();
         try {
             daoFactory.iniciarTransaccion();
 
@@ -56,6 +59,7 @@ public class HorarioDisponibleFacadeImpl implements HorarioDisponibleFacade {
             horarioDisponibleBusinessLogic.modificarHorarioDisponibleExistente(canchaId,horarioDisponinbleID,horarioDisponibleDomain);
 
             daoFactory.confirmarTransaccion();
+            MotorDisponibilidad.getInstance().invalidarHorarios(canchaId);
         } catch (BackEndException exception) {
             daoFactory.cancelarTransaccion();
             throw exception;
@@ -72,6 +76,7 @@ public class HorarioDisponibleFacadeImpl implements HorarioDisponibleFacade {
 
     @Override
     public void darBajaDefinitivamenteHorarioDisponibleExistente(UUID canchaId, UUID horarioDisponibleId) throws BackEndException {
+        daoFactory.abrirConexion();
         try {
             daoFactory.iniciarTransaccion();
 
@@ -79,6 +84,7 @@ public class HorarioDisponibleFacadeImpl implements HorarioDisponibleFacade {
             horarioDisponibleBusinessLogic.darBajaDefinitivamenteHorarioDisponibleExistente(canchaId,horarioDisponibleId);
 
             daoFactory.confirmarTransaccion();
+            MotorDisponibilidad.getInstance().invalidarHorarios(canchaId);
         } catch (BackEndException exception) {
             daoFactory.cancelarTransaccion();
             throw exception;
@@ -95,6 +101,7 @@ public class HorarioDisponibleFacadeImpl implements HorarioDisponibleFacade {
 
     @Override
     public HorarioDisponibleDTO consultarHorarioDisponiblePorId(UUID canchaId, UUID horarioDisponibleId) throws BackEndException {
+        daoFactory.abrirConexion();
         try {
             var horarioDisponibleDomainResultado = horarioDisponibleBusinessLogic.consultarHorarioDisponiblePorId(canchaId,horarioDisponibleId);;
             //TODO: Magia de convertir de domain a DTO de respuesta
@@ -113,6 +120,7 @@ public class HorarioDisponibleFacadeImpl implements HorarioDisponibleFacade {
 
     @Override
     public List<HorarioDisponibleDTO> consultarHorariosDisponiblesPorCancha(UUID canchaId, HorarioDisponibleDTO filtro) throws BackEndException {
+        daoFactory.abrirConexion();
         try {
             // 1. TODO: convertir DTO(filtro) -> Domain
             // CanchaDomain filtroDomain = CanchaAssembler.toDomain(filtro);
@@ -1,5 +1,6 @@
 package co.edu.uco.backend.businesslogic.facade.impl;
 
+import co.edu.uco.backend.businesslogic.businesslogic.disponibilidad.MotorDisponibilidad;
 import co.edu.uco.backend.businesslogic.businesslogic.domain.HorarioEspecialDomain;
 import co.edu.uco.backend.businesslogic.businesslogic.impl.HorarioEspecialBusinessLogicImpl;
 import co.edu.uco.backend.businesslogic.businesslogic.HorarioEspecialBusinessLogic;
@@ -7,7 +8,6 @@ import co.edu.uco.backend.businesslogic.facade.HorarioEspecialFacade;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
-import co.edu.uco.backend.data.dao.factory.Factory;
 import co.edu.uco.backend.dto.HorarioEspecialDTO;
 
 import java.util.List;
@@ -19,13 +19,14 @@ public class HorarioEspecialFacadeImpl implements HorarioEspecialFacade {
     private HorarioEspecialBusinessLogic horarioEspecialBusinessLogic;
 
     public HorarioEspecialFacadeImpl() throws BackEndException {
-        daoFactory = DAOFactory.getFactory(Factory.POSTGRE_SQL);
+        daoFactory = DAOFactory.getFactory();
         horarioEspecialBusinessLogic = new HorarioEspecialBusinessLogicImpl(daoFactory);
     }
 
 
     @Override
     public void registrarNuevoHorarioEspecial(UUID canchaId, HorarioEspecialDTO horarioEspecial) throws BackEndException {
+        daoFactory.abrirConexion();
         try {
             daoFactory.iniciarTransaccion();
 
@@ -33,6 +34,7 @@ public class HorarioEspecialFacadeImpl implements HorarioEspecialFacade {
             horarioEspecialBusinessLogic.registrarNuevoHorarioEspecial(canchaId,horarioEspecialDomain);
 
             daoFactory.confirmarTransaccion();
+            MotorDisponibilidad.getInstance().invalidarHorarios(canchaId);
         } catch (BackEndException exception) {
             daoFactory.cancelarTransaccion();
             throw exception;
@@ -49,6 +51,7 @@ public class HorarioEspecialFacadeImpl implements HorarioEspecialFacade {
 
     @Override
     public void modificarHorarioEspecialExistente(UUID canchaId, UUID horarioEspecialId, HorarioEspecialDTO horarioEspecial) throws BackEndException {
+        daoFactory.abrirConexion();
         try {
             daoFactory.iniciarTransaccion();
 
@@ -56,6 +59,7 @@ public class HorarioEspecialFacadeImpl implements HorarioEspecialFacade {
             horarioEspecialBusinessLogic.modificarHorarioEspecialExistente(canchaId,horarioEspecialId,horarioEspecialDomain);
 
             daoFactory.confirmarTransaccion();
+            MotorDisponibilidad.getInstance().invalidarHorarios(canchaId);
         } catch (BackEndException exception) {
             daoFactory.cancelarTransaccion();
             throw exception;
@@ -72,6 +76,7 @@ public class HorarioEspecialFacadeImpl implements HorarioEspecialFacade {
 
     @Override
     public void darBajaDefinitivamenteHorarioEspecialExistente(UUID canchaId, UUID horarioEspecialId) throws BackEndException {
+        daoFactory.abrirConexion();
         try {
             daoFactory.iniciarTransaccion();
 
@@ -79,6 +84,7 @@ public class HorarioEspecialFacadeImpl implements HorarioEspecialFacade {
             horarioEspecialBusinessLogic.darBajaDefinitivamenteHorarioEspecialExistente(canchaId,horarioEspecialId);
 
             daoFactory.confirmarTransaccion();
+            MotorDisponibilidad.getInstance().invalidarHorarios(canchaId);
         } catch (BackEndException exception) {
             daoFactory.cancelarTransaccion();
             throw exception;
@@ -95,6 +101,7 @@ public class HorarioEspecialFacadeImpl implements HorarioEspecialFacade {
 
     @Override
     public HorarioEspecialDTO consultarHorarioEspecialPorId(UUID canchaId, UUID horarioEspecialId) throws BackEndException {
+        daoFactory.abrirConexion();
         try {
             var horarioEspecialDomainResultado = horarioEspecialBusinessLogic.consultarHorarioEspecialPorId(canchaId,horarioEspecialId);
             //TODO: Magia de convertir de domain a DTO de respuesta
@@ -113,6 +120,7 @@ public class HorarioEspecialFacadeImpl implements HorarioEspecialFacade {
 
     @Override
     public List<HorarioEspecialDTO> consultarHorariosEspecialesPorCancha(UUID canchaId, HorarioEspecialDTO horarioEspecial) throws BackEndException {
+        daoFactory.abrirConexion();
         try {
             // 1. TODO: convertir DTO(filtro) -> Domain
             // CanchaDomain filtroDomain = CanchaAssembler.toDomain(filtro);
@@ -0,0 +1,72 @@
+package co.edu.uco.backend.businesslogic.facade.impl;
+
+import co.edu.uco.backend.businesslogic.businesslogic.ImportacionBusinessLogic;
+import co.edu.uco.backend.businesslogic.businesslogic.impl.ImportacionBusinessLogicImpl;
+import co.edu.uco.backend.businesslogic.businesslogic.importacion.FilaImportacion;
+import co.edu.uco.backend.businesslogic.businesslogic.importacion.ResultadoImportacion;
+import co.edu.uco.backend.businesslogic.facade.ImportacionFacade;
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+
+import java.util.List;
+import java.util.UUID;
+
+public class ImportacionFacadeImpl implements ImportacionFacade {
+
+    private DAOFactory daoFactory;
+    private ImportacionBusinessLogic importacionBusinessLogic;
+
+    public ImportacionFacadeImpl() throws BackEndException {
+        daoFactory = DAOFactory.getFactory();
+        importacionBusinessLogic = new ImportacionBusinessLogicImpl(daoFactory);
+    }
+
+    @FunctionalInterface
+    private interface OperacionImportacion {
+        ResultadoImportacion ejecutar() throws BackEndException;
+    }
+
+    @Override
+    public ResultadoImportacion importarCanchas(UUID orgId, List<FilaImportacion> filas) throws BackEndException {
+        return importar(() -> importacionBusinessLogic.importarCanchas(orgId, filas), "las canchas");
+    }
+
+    @Override
+    public ResultadoImportacion importarHorariosDisponibles(UUID orgId, List<FilaImportacion> filas) throws BackEndException {
+        return importar(() -> importacionBusinessLogic.importarHorariosDisponibles(orgId, filas), "los horarios disponibles");
+    }
+
+    @Override
+    public ResultadoImportacion importarHorariosEspeciales(UUID orgId, List<FilaImportacion> filas) throws BackEndException {
+        return importar(() -> importacionBusinessLogic.importarHorariosEspeciales(orgId, filas), "los horarios especiales");
+    }
+
+    private ResultadoImportacion importar(OperacionImportacion operacion, String descripcion) throws BackEndException {
+        daoFactory.abrirConexion();
+        try {
+            daoFactory.iniciarTransaccion();
+
+            var resultado = operacion.ejecutar();
+
+            // Con filas rechazadas no se cargó nada, pero se deshace igual por las consultas de validación
+            if (resultado.esExitoso()) {
+                daoFactory.confirmarTransaccion();
+            } else {
+                daoFactory.cancelarTransaccion();
+            }
+            return resultado;
+        } catch (BackEndException exception) {
+            daoFactory.cancelarTransaccion();
+            throw exception;
+        } catch (Exception exception) {
+            daoFactory.cancelarTransaccion();
+            var mensajeTecnico = "Se presentó una excepción inesperada de tipo Exception tratando de importar " + descripcion + " de la organización, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de importar " + descripcion + " de la organización";
+
+            throw BusinessLogicBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } finally {
+            daoFactory.cerrarConexion();
+        }
+    }
+}
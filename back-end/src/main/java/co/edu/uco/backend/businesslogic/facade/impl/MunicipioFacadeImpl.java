@@ -7,7 +7,6 @@ import co.edu.uco.backend.businesslogic.facade.MunicipioFacade;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
-import co.edu.uco.backend.data.dao.factory.Factory;
 import co.edu.uco.backend.dto.MunicipioDTO;
 
 import java.util.List;
@@ -19,7 +18,7 @@ public class MunicipioFacadeImpl implements MunicipioFacade {
     private MunicipioBusinessLogic municipioBusinessLogic;
 
     public MunicipioFacadeImpl() throws BackEndException {
-        daoFactory = DAOFactory.getFactory(Factory.POSTGRE_SQL);
+        daoFactory = DAOFactory.getFactory();
         municipioBusinessLogic = new MunicipioBusinessLogicImpl(daoFactory);
     }
 
@@ -1,14 +1,18 @@
 package co.edu.uco.backend.businesslogic.facade.impl;
 
+import co.edu.uco.backend.businesslogic.assembler.usuario.dto.UsuarioDTOAssembler;
 import co.edu.uco.backend.businesslogic.businesslogic.domain.OrganizacionDeportivaDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.domain.UsuarioDomain;
 import co.edu.uco.backend.businesslogic.businesslogic.impl.OrganizacionDeportivaBusinessLogicImpl;
 import co.edu.uco.backend.businesslogic.businesslogic.OrganizacionDeportivaBusinessLogic;
 import co.edu.uco.backend.businesslogic.facade.OrganizacionDeportivaFacade;
+import co.edu.uco.backend.crosscutting.constants.TipoUsuario;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
+import co.edu.uco.backend.crosscutting.seguridad.AlmacenSesiones;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
-import co.edu.uco.backend.data.dao.factory.Factory;
 import co.edu.uco.backend.dto.OrganizacionDeportivaDTO;
+import co.edu.uco.backend.dto.SesionDTO;
 import co.edu.uco.backend.dto.UsuarioDTO;
 
 import java.util.List;
@@ -20,7 +24,7 @@ public class OrganizacionDeportivaFacadeImpl implements OrganizacionDeportivaFac
     private OrganizacionDeportivaBusinessLogic organizacionDeportivaBusinessLogic;
 
     public OrganizacionDeportivaFacadeImpl() throws BackEndException {
-        daoFactory = DAOFactory.getFactory(Factory.POSTGRE_SQL);
+        daoFactory = DAOFactory.getFactory();
         organizacionDeportivaBusinessLogic = new OrganizacionDeportivaBusinessLogicImpl(daoFactory);
     }
 
@@ -145,13 +149,63 @@ public class OrganizacionDeportivaFacadeImpl implements OrganizacionDeportivaFac
     }
 
     @Override
-    public UsuarioDTO iniciarSesion(String username, String rawPassword, String ipAdress, String userAgent) {
-        return null;
+    public SesionDTO iniciarSesion(String username, String rawPassword, String ipAdress, String userAgent) throws BackEndException {
+        // Como en ClienteFacadeImpl: la comprobación PBKDF2 corre sin retener la conexión
+        var credenciales = consultarCredenciales(username, rawPassword);
+        var usuario = organizacionDeportivaBusinessLogic.verificarCredenciales(credenciales, rawPassword);
+
+        // También cifra las contraseñas heredadas en texto plano la primera vez que se usan
+        var recifrada = organizacionDeportivaBusinessLogic.recifrarContrasena(credenciales, rawPassword);
+        if (recifrada != null) {
+            actualizarContrasenaCifrada(usuario.getId(), recifrada);
+        }
+
+        // A partir de aquí las solicitudes se autentican con el token, sin volver a comprobar la contraseña
+        var sesion = AlmacenSesiones.getInstance().crear(usuario.getId(), TipoUsuario.ORGANIZACION_DEPORTIVA, ipAdress, userAgent);
+        return new SesionDTO(sesion.token(), sesion.tipoUsuario().name(), sesion.expiraEn(), UsuarioDTOAssembler.getInstance().toDTO(usuario));
+    }
+
+    private UsuarioDomain consultarCredenciales(String username, String rawPassword) throws BackEndException {
+        daoFactory.abrirConexion();
+        try {
+            return organizacionDeportivaBusinessLogic.consultarCredenciales(username, rawPassword);
+        } catch (BackEndException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción inesperada de tipo Exception tratando de consultar las credenciales de la organizacion deportiva, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de iniciar sesión";
+
+            throw BusinessLogicBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } finally {
+            daoFactory.cerrarConexion();
+        }
+    }
+
+    private void actualizarContrasenaCifrada(UUID organizacionId, String contrasenaCifrada) throws BackEndException {
+        daoFactory.abrirConexion();
+        try {
+            daoFactory.iniciarTransaccion();
+
+            organizacionDeportivaBusinessLogic.actualizarContrasenaCifrada(organizacionId, contrasenaCifrada);
+
+            daoFactory.confirmarTransaccion();
+        } catch (BackEndException exception) {
+            daoFactory.cancelarTransaccion();
+            throw exception;
+        } catch (Exception exception) {
+            daoFactory.cancelarTransaccion();
+            var mensajeTecnico = "Se presentó una excepción inesperada de tipo Exception tratando de actualizar el hash de la contraseña de la organizacion deportiva, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de iniciar sesión";
+
+            throw BusinessLogicBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } finally {
+            daoFactory.cerrarConexion();
+        }
     }
 
     @Override
     public void cerrarSesion(UUID usuarioId) {
-
+        organizacionDeportivaBusinessLogic.cerrarSesion(usuarioId);
     }
 
     @Override
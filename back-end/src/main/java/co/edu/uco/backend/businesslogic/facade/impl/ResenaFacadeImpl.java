@@ -4,11 +4,12 @@ import co.edu.uco.backend.businesslogic.assembler.resena.dto.ResenaDTOAssembler;
 import co.edu.uco.backend.businesslogic.businesslogic.domain.ResenaDomain;
 import co.edu.uco.backend.businesslogic.businesslogic.impl.ResenaBusinessLogicImpl;
 import co.edu.uco.backend.businesslogic.businesslogic.ResenaBusinessLogic;
+import co.edu.uco.backend.businesslogic.businesslogic.calificacion.Calificacion;
 import co.edu.uco.backend.businesslogic.facade.ResenaFacade;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
+import co.edu.uco.backend.data.dao.cache.CacheResumenesCalificacion;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
-import co.edu.uco.backend.data.dao.factory.Factory;
 import co.edu.uco.backend.dto.ResenaDTO;
 
 import java.util.List;
@@ -20,7 +21,7 @@ public class ResenaFacadeImpl implements ResenaFacade {
     private final ResenaBusinessLogic resenaBusinessLogic;
 
     public ResenaFacadeImpl() throws BackEndException {
-        daoFactory = DAOFactory.getFactory(Factory.POSTGRE_SQL);
+        daoFactory = DAOFactory.getFactory();
         resenaBusinessLogic = new ResenaBusinessLogicImpl(daoFactory);
     }
 
@@ -132,4 +133,47 @@ public class ResenaFacadeImpl implements ResenaFacade {
             daoFactory.cerrarConexion();
         }
     }
+
+    @Override
+    public Calificacion consultarCalificacionCancha(UUID canchaId) throws BackEndException {
+        // Con los resúmenes ya cargados en memoria no se toma ninguna conexión del pool
+        if (CacheResumenesCalificacion.deCanchas().estaCargada()) {
+            return resenaBusinessLogic.consultarCalificacionCancha(canchaId);
+        }
+
+        daoFactory.abrirConexion();
+        try {
+            return resenaBusinessLogic.consultarCalificacionCancha(canchaId);
+        } catch (BackEndException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción inesperada de tipo Exception tratando de consultar la calificación de la cancha " + canchaId + ", para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de consultar la calificación de la cancha";
+
+            throw BusinessLogicBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } finally {
+            daoFactory.cerrarConexion();
+        }
+    }
+
+    @Override
+    public Calificacion consultarCalificacionOrganizacion(UUID orgId) throws BackEndException {
+        if (CacheResumenesCalificacion.deOrganizaciones().estaCargada()) {
+            return resenaBusinessLogic.consultarCalificacionOrganizacion(orgId);
+        }
+
+        daoFactory.abrirConexion();
+        try {
+            return resenaBusinessLogic.consultarCalificacionOrganizacion(orgId);
+        } catch (BackEndException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción inesperada de tipo Exception tratando de consultar la calificación de la organización " + orgId + ", para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de consultar la calificación de la organización";
+
+            throw BusinessLogicBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } finally {
+            daoFactory.cerrarConexion();
+        }
+    }
 }
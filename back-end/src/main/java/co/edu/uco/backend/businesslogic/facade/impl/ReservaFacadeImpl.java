@@ -1,35 +1,107 @@
 package co.edu.uco.backend.businesslogic.facade.impl;
 
 import co.edu.uco.backend.businesslogic.assembler.reserva.dto.ReservaDTOAssembler;
-import co.edu.uco.backend.businesslogic.businesslogic.domain.ReservaDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.disponibilidad.CandadosAgenda;
+import co.edu.uco.backend.businesslogic.businesslogic.disponibilidad.MotorDisponibilidad;
 import co.edu.uco.backend.businesslogic.businesslogic.impl.ReservaBusinessLogicImpl;
 import co.edu.uco.backend.businesslogic.businesslogic.ReservaBusinessLogic;
+import co.edu.uco.backend.businesslogic.facade.Exportacion;
 import co.edu.uco.backend.businesslogic.facade.ReservaFacade;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
+import co.edu.uco.backend.data.dao.entity.reserva.ReservaResumen;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
-import co.edu.uco.backend.data.dao.factory.Factory;
 import co.edu.uco.backend.dto.ReservaDTO;
-import co.edu.uco.backend.entity.CanchaEntity;
-import co.edu.uco.backend.entity.ClienteEntity;
-import co.edu.uco.backend.entity.EstadoReservaEntity;
-
-import java.util.*;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
 
 public class ReservaFacadeImpl implements ReservaFacade {
 
+    // Tiempo máximo que una solicitud espera su turno en la agenda de la cancha antes de rendirse
+    private static final long ESPERA_MAXIMA_CANDADO_MS = 5_000;
+
     private final DAOFactory daoFactory;
     private final ReservaBusinessLogic reservaBusinessLogic;
 
     public ReservaFacadeImpl() throws BackEndException {
-        daoFactory = DAOFactory.getFactory(Factory.POSTGRE_SQL);
+        daoFactory = DAOFactory.getFactory();
         reservaBusinessLogic = new ReservaBusinessLogicImpl(daoFactory);
     }
 
 
     @Override
-    public void registrarNuevaReserva(UUID clienteID, ReservaDTO reserva) {
-        //Sin implementar
+    public void registrarNuevaReserva(UUID clienteID, ReservaDTO reserva) throws BackEndException {
+        var reservaDomain = ReservaDTOAssembler.getInstance().toDomain(reserva);
+        var canchaId = reservaDomain.getCancha().getId();
+        var fecha = reservaDomain.getFechaUsoCancha();
+
+        // Las solicitudes de la misma cancha y fecha esperan aquí, sin ocupar una conexión del pool
+        var inicio = System.nanoTime();
+        var candado = CandadosAgenda.getInstance().obtenerCandado(canchaId, fecha);
+        adquirirCandado(candado);
+        Timer.builder("reservas.candado.espera")
+                .description("Tiempo esperando el candado de la agenda de la cancha")
+                .register(Metrics.globalRegistry)
+                .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+
+        var resultado = "error";
+        try {
+            daoFactory.abrirConexion();
+            try {
+                daoFactory.iniciarTransaccion();
+
+                reservaBusinessLogic.registrarNuevaReserva(clienteID, reservaDomain);
+
+                daoFactory.confirmarTransaccion();
+                MotorDisponibilidad.getInstance().registrarReserva(canchaId, fecha, reservaDomain.getHoraInicio(), reservaDomain.getHoraFin());
+                resultado = "exitosa";
+            } catch (BackEndException exception) {
+                daoFactory.cancelarTransaccion();
+                // Un rechazo (horario ocupado, fuera del horario, cierre) no es un error del servicio
+                resultado = exception.isEsperada() ? "rechazada" : "error";
+                throw exception;
+            } catch (Exception exception) {
+                daoFactory.cancelarTransaccion();
+                var mensajeTecnico = "Se presentó una excepción inesperada de tipo Exception tratando de registrar la nueva reserva, para más detalles revise el log de errores";
+                var mensajeUsuario = "Se ha presentado un problema inesperado tratando de registrar la nueva reserva";
+
+                throw BusinessLogicBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+            } finally {
+                daoFactory.cerrarConexion();
+            }
+        } finally {
+            candado.unlock();
+            // El conteo por resultado sobre el tiempo da el throughput de reservas bajo contención
+            Timer.builder("reservas.registro")
+                    .description("Registro de reservas, desde la espera del candado hasta el commit")
+                    .tag("resultado", resultado)
+                    .register(Metrics.globalRegistry)
+                    .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void adquirirCandado(Lock candado) throws BackEndException {
+        try {
+            if (!candado.tryLock(ESPERA_MAXIMA_CANDADO_MS, TimeUnit.MILLISECONDS)) {
+                var mensajeUsuario = "Hay muchas solicitudes para esta cancha en este momento, intente de nuevo en unos segundos";
+                var mensajeTecnico = "No se obtuvo el candado de la agenda de la cancha en " + ESPERA_MAXIMA_CANDADO_MS + " ms";
+                throw BusinessLogicBackEndException.reportarFallo(mensajeUsuario, mensajeTecnico);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de registrar la nueva reserva";
+            var mensajeTecnico = "El hilo fue interrumpido mientras esperaba el candado de la agenda de la cancha";
+            throw BusinessLogicBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
     }
 
     @Override
@@ -48,51 +120,29 @@ public class ReservaFacadeImpl implements ReservaFacade {
     }
 
     @Override
-    public List<Map<String,Object>> listarReservasPorCliente(UUID clienteId, ReservaDTO filtro) throws BackEndException {
+    public List<ReservaResumen> listarReservasPorCliente(UUID clienteId, ReservaDTO filtro) throws BackEndException {
+        var salida = new ArrayList<ReservaResumen>();
+        recorrerReservasPorCliente(clienteId, salida::add);
+        return salida;
+    }
+
+    @Override
+    public void recorrerReservasPorCliente(UUID clienteId, Consumer<ReservaResumen> consumidor) throws BackEndException {
         daoFactory.abrirConexion();
         try {
-            // 1) Convertir el filtro DTO a domain (para pasar a la BL)
-            ReservaDomain filtroDomain = ReservaDTOAssembler.getInstance().toDomain(filtro);
-
-            // 2) Invocar al business logic para que traiga la lista de dominios
-            List<ReservaDomain> dominios = reservaBusinessLogic.listarReservasPorCliente(clienteId, filtroDomain);
-
-            // 3) Construir salida “ligera”: un Map<String,Object> por cada reserva
-            List<Map<String, Object>> salida = new ArrayList<>();
-
-            for (ReservaDomain dom : dominios) {
-                Map<String, Object> fila = new HashMap<>();
-
-                // a) Campos básicos que vienen en-domain:
-                fila.put("codigoreserva", dom.getId());
-                fila.put("fechaReserva", dom.getFechaReserva());
-                fila.put("fechaUsoCancha", dom.getFechaUsoCancha());
-                fila.put("horaInicio", dom.getHoraInicio());
-                fila.put("horaFin", dom.getHoraFin());
-
-                // b) Inyectar “nombreCliente” mediante DAO
-                UUID clienteUUID = dom.getCliente().getId();
-                ClienteEntity clienteEntity = daoFactory.getClienteDAO().consultarPorId(clienteUUID);
-                fila.put("nombreCliente", clienteEntity.getNombre());
-
-                // c) Inyectar “nombreCancha” mediante DAO
-                UUID canchaUUID = dom.getCancha().getId();
-                CanchaEntity canchaEntity = daoFactory.getCanchaDAO().consultarPorId(canchaUUID);
-                fila.put("nombreCancha", canchaEntity.getNombreCancha());
-
-                // d) Inyectar “nombreEstado” mediante DAO
-                UUID estadoUUID = dom.getEstado().getId();
-                EstadoReservaEntity estadoEntity = daoFactory.getEstadoReservaDAO().consultarPorId(estadoUUID);
-                fila.put("nombreEstado", estadoEntity.getNombre());
-
-                salida.add(fila);
-            }
-
-            return salida;
-
+            // Solo lectura en transacción, como la exportación, para que el resumen llegue por lotes
+            daoFactory.iniciarTransaccion();
+            reservaBusinessLogic.recorrerResumenReservasPorCliente(clienteId, consumidor);
+            daoFactory.confirmarTransaccion();
         } catch (BackEndException ex) {
+            daoFactory.cancelarTransaccion();
+            throw ex;
+        } catch (UncheckedIOException ex) {
+            // El consumidor no pudo escribir (cliente desconectado): se propaga tal cual al controlador
+            daoFactory.cancelarTransaccion();
             throw ex;
         } catch (Exception ex) {
+            daoFactory.cancelarTransaccion();
             var mensajeUsuario  = "Se ha presentado un problema inesperado al listar reservas por cliente";
             var mensajeTecnico  = "Excepción inesperada listando reservas por cliente";
             throw BusinessLogicBackEndException.reportar(mensajeUsuario, mensajeTecnico, ex);
@@ -101,6 +151,34 @@ public class ReservaFacadeImpl implements ReservaFacade {
         }
     }
 
+    @Override
+    public Exportacion<ReservaResumen> exportarReservasPorOrganizacion(UUID orgId, LocalDate desde, LocalDate hasta) throws BackEndException {
+        reservaBusinessLogic.validarExportacionReservas(orgId, desde, hasta);
+        return consumidor -> {
+            daoFactory.abrirConexion();
+            try {
+                // Solo lectura, pero con autocommit apagado: así PostgreSQL entrega el resultado por
+                // lotes desde un cursor en lugar de enviarlo completo antes de la primera fila
+                daoFactory.iniciarTransaccion();
+                reservaBusinessLogic.exportarReservasPorOrganizacion(orgId, desde, hasta, consumidor);
+                daoFactory.confirmarTransaccion();
+            } catch (BackEndException ex) {
+                daoFactory.cancelarTransaccion();
+                throw ex;
+            } catch (UncheckedIOException ex) {
+                daoFactory.cancelarTransaccion();
+                throw ex;
+            } catch (Exception ex) {
+                daoFactory.cancelarTransaccion();
+                var mensajeUsuario  = "Se ha presentado un problema inesperado al exportar las reservas";
+                var mensajeTecnico  = "Excepción inesperada exportando las reservas por organización";
+                throw BusinessLogicBackEndException.reportar(mensajeUsuario, mensajeTecnico, ex);
+            } finally {
+                daoFactory.cerrarConexion();
+            }
+        };
+    }
+
     @Override
     public void finalizarReserva(UUID clienteId, UUID reservaId) {
         //Sin implementar
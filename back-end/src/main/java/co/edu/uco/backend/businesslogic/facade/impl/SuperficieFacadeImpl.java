@@ -8,7 +8,6 @@ import co.edu.uco.backend.businesslogic.facade.SuperficieFacade;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
-import co.edu.uco.backend.data.dao.factory.Factory;
 import co.edu.uco.backend.dto.SuperficieDTO;
 
 import java.util.List;
@@ -20,7 +19,7 @@ public class SuperficieFacadeImpl implements SuperficieFacade {
     private SuperficieBusinessLogic superficieBusinessLogic;
 
     public SuperficieFacadeImpl() throws BackEndException {
-        daoFactory = DAOFactory.getFactory(Factory.POSTGRE_SQL);
+        daoFactory = DAOFactory.getFactory();
         superficieBusinessLogic = new SuperficieBusinessLogicImpl(daoFactory);
     }
 
@@ -7,7 +7,6 @@ import co.edu.uco.backend.businesslogic.facade.UbicacionPrecisaFacade;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
-import co.edu.uco.backend.data.dao.factory.Factory;
 import co.edu.uco.backend.dto.UbicacionPrecisaDTO;
 
 import java.util.UUID;
@@ -18,7 +17,7 @@ public class UbicacionPrecisaFacadeImpl implements UbicacionPrecisaFacade {
     private UbicacionPrecisaBusinessLogic ubicacionPrecisaBusinessLogic;
 
     public UbicacionPrecisaFacadeImpl() throws BackEndException {
-        daoFactory = DAOFactory.getFactory(Factory.POSTGRE_SQL);
+        daoFactory = DAOFactory.getFactory();
         ubicacionPrecisaBusinessLogic = new UbicacionPrecisaBusinessLogicImpl(daoFactory);
     }
 
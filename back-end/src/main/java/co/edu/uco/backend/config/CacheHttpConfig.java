@@ -0,0 +1,21 @@
+package co.edu.uco.backend.config;
+
+import co.edu.uco.backend.api.PoliticasCacheHttp;
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheHttpConfig {
+
+    public CacheHttpConfig(@Value("${respuestas.cache.canchas.max-age:PT0S}") Duration maxAgeCanchas,
+                           @Value("${respuestas.cache.catalogos.max-age:PT5M}") Duration maxAgeCatalogos,
+                           @Value("${respuestas.cache.vigencia-versiones:PT10M}") Duration vigenciaVersiones,
+                           @Value("${respuestas.cache.canchas.vigencia-version:PT15S}") Duration vigenciaVersionCanchas) {
+        PoliticasCacheHttp.getInstance().configurar(maxAgeCanchas, maxAgeCatalogos);
+        VersionesRecursos.getInstance().configurar(vigenciaVersiones);
+        VersionesRecursos.getInstance().configurar(VersionesRecursos.Recurso.CANCHA, vigenciaVersionCanchas);
+    }
+}
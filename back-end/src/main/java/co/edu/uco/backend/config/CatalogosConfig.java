@@ -0,0 +1,34 @@
+package co.edu.uco.backend.config;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.cache.CachesCatalogo;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+
+@Configuration
+public class CatalogosConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CatalogosConfig.class);
+
+    public CatalogosConfig(@Value("${catalogos.cache.capacidad:1000}") int capacidad,
+                           @Value("${catalogos.cache.ttl:PT10M}") Duration ttl) {
+        CachesCatalogo.getInstance().configurar(capacidad, ttl);
+    }
+
+    // Si la base de datos no está disponible al arrancar, las cachés se llenan con las primeras consultas
+    @EventListener(ApplicationReadyEvent.class)
+    public void precargarCatalogos() {
+        try {
+            CachesCatalogo.getInstance().precargar(DAOFactory.getFactory());
+        } catch (BackEndException exception) {
+            LOGGER.warn("No fue posible precargar la caché de catálogos: {}", exception.getMensajeTecnico());
+        }
+    }
+}
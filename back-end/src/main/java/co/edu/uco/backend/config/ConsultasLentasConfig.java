@@ -0,0 +1,75 @@
+package co.edu.uco.backend.config;
+
+import co.edu.uco.backend.data.dao.sql.RegistroConsultasLentas;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+
+@Configuration
+public class ConsultasLentasConfig {
+
+    static final String ENCABEZADO_TOKEN = "X-Token-Administracion";
+
+    private final String tokenAdministracion;
+
+    public ConsultasLentasConfig(@Value("${consultas.lentas.habilitado:true}") boolean habilitado,
+                                 @Value("${consultas.lentas.umbral:PT0.2S}") Duration umbral,
+                                 @Value("${consultas.lentas.maximo-huellas:2000}") int maximoHuellas,
+                                 @Value("${consultas.lentas.muestreo-parametros:10}") int muestreoParametros,
+                                 @Value("${consultas.lentas.explain:false}") boolean capturarPlan,
+                                 @Value("${consultas.lentas.token-administracion:}") String tokenAdministracion) {
+        RegistroConsultasLentas.getInstance().configurar(habilitado, umbral.toNanos(), maximoHuellas,
+                muestreoParametros, capturarPlan);
+        this.tokenAdministracion = tokenAdministracion.trim();
+    }
+
+    @Bean
+    public ConsultasLentasEndpoint consultasLentasEndpoint() {
+        return new ConsultasLentasEndpoint(RegistroConsultasLentas.getInstance());
+    }
+
+    /**
+     * El endpoint revela la forma de todas las consultas y sus tiempos, así que solo responde a
+     * quien envíe el token de administración en X-Token-Administracion. Sin token configurado no
+     * responde a nadie.
+     */
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> filtroConsultasLentas() {
+        var registro = new FilterRegistrationBean<OncePerRequestFilter>(new FiltroTokenAdministracion(tokenAdministracion));
+        registro.addUrlPatterns("/actuator/consultaslentas", "/actuator/consultaslentas/*");
+        return registro;
+    }
+
+    private static final class FiltroTokenAdministracion extends OncePerRequestFilter {
+
+        private final byte[] tokenEsperado;
+
+        private FiltroTokenAdministracion(final String tokenAdministracion) {
+            this.tokenEsperado = tokenAdministracion.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+                throws ServletException, IOException {
+            var tokenRecibido = request.getHeader(ENCABEZADO_TOKEN);
+            if (tokenEsperado.length == 0 || tokenRecibido == null
+                    || !MessageDigest.isEqual(tokenEsperado, tokenRecibido.trim().getBytes(StandardCharsets.UTF_8))) {
+                response.setStatus(HttpStatus.FORBIDDEN.value());
+                return;
+            }
+            filterChain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package co.edu.uco.backend.config;
+
+import co.edu.uco.backend.data.dao.sql.EstadisticaConsulta;
+import co.edu.uco.backend.data.dao.sql.RegistroConsultasLentas;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /actuator/consultaslentas: las huellas de SQL con más tiempo total (?top=N, 20 por defecto).
+ * DELETE reinicia los acumulados, por ejemplo antes de una prueba de carga; está apagado salvo que
+ * management.endpoint.consultaslentas.access sea unrestricted. Ambos exigen el token de administración.
+ */
+@Endpoint(id = "consultaslentas")
+public class ConsultasLentasEndpoint {
+
+    private static final int TOP_DEFECTO = 20;
+
+    private final RegistroConsultasLentas registro;
+
+    public ConsultasLentasEndpoint(RegistroConsultasLentas registro) {
+        this.registro = registro;
+    }
+
+    public record Reporte(long umbralMs, int huellas, long descartadas, List<EstadisticaConsulta> masCostosas) {
+    }
+
+    @ReadOperation
+    public Reporte consultar(@Nullable Integer top) {
+        return new Reporte(TimeUnit.NANOSECONDS.toMillis(registro.getUmbralNanos()), registro.cantidadHuellas(),
+                registro.cantidadDescartadas(), registro.consultarMasCostosas(top == null ? TOP_DEFECTO : top));
+    }
+
+    @DeleteOperation
+    public void reiniciar() {
+        registro.reiniciar();
+    }
+}
@@ -17,6 +17,7 @@ public class CorsConfig {
                         .allowedOrigins("http://localhost:4200") // Tu frontend
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                         .allowedHeaders("*")
+                        .exposedHeaders("X-Siguiente-Cursor", "Link") // Cursor de la página siguiente en los listados
                         .allowCredentials(true);
             }
         };
@@ -0,0 +1,16 @@
+package co.edu.uco.backend.config;
+
+import co.edu.uco.backend.businesslogic.businesslogic.disponibilidad.MotorDisponibilidad;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class DisponibilidadConfig {
+
+    public DisponibilidadConfig(@Value("${disponibilidad.agendas.capacidad:2000}") int capacidad,
+                                @Value("${disponibilidad.agendas.vigencia:PT5M}") Duration vigencia) {
+        MotorDisponibilidad.getInstance().configurar(capacidad, vigencia);
+    }
+}
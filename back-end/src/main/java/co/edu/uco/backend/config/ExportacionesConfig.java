@@ -0,0 +1,16 @@
+package co.edu.uco.backend.config;
+
+import co.edu.uco.backend.api.LimiteExportaciones;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ExportacionesConfig {
+
+    public ExportacionesConfig(@Value("${exportaciones.simultaneas:2}") int simultaneas,
+                               @Value("${exportaciones.duracion-maxima:PT10M}") Duration duracionMaxima) {
+        LimiteExportaciones.getInstance().configurar(simultaneas, duracionMaxima.toMillis());
+    }
+}
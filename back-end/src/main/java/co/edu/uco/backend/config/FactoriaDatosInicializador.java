@@ -0,0 +1,20 @@
+package co.edu.uco.backend.config;
+
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.data.dao.factory.Factory;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Elige la factoría de las fachadas (datos.factoria) antes de crear cualquier bean: los
+ * controladores construyen sus fachadas en el constructor, antes que las clases de config.
+ * Se registra en META-INF/spring.factories.
+ */
+public class FactoriaDatosInicializador implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    @Override
+    public void initialize(final ConfigurableApplicationContext contexto) {
+        var factoria = contexto.getEnvironment().getProperty("datos.factoria", Factory.class, Factory.POSTGRE_SQL);
+        DAOFactory.configurarFactoriaPorDefecto(factoria);
+    }
+}
@@ -0,0 +1,22 @@
+package co.edu.uco.backend.config;
+
+import co.edu.uco.backend.data.dao.factory.postgresql.PoolConexionesPostgreSQL;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+public class FuenteDatosConfig {
+
+    // El DataSource es el HikariDataSource que Spring Boot construye a partir de spring.datasource.*;
+    // no existe cuando se arranca con datos.factoria=IN_MEMORY y la autoconfiguración excluida.
+    // Sin datos.conexiones.permisos se deja pasar una solicitud por cada conexión del pool
+    public FuenteDatosConfig(ObjectProvider<DataSource> dataSource,
+                             @Value("${datos.conexiones.permisos:${spring.datasource.hikari.maximum-pool-size:10}}") int permisos,
+                             @Value("${datos.conexiones.espera-maxima:PT3S}") Duration esperaMaxima) {
+        dataSource.ifAvailable(fuente -> PoolConexionesPostgreSQL.getInstance().configurar(fuente, permisos, esperaMaxima.toMillis()));
+    }
+}
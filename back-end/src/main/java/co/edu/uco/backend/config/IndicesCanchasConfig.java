@@ -0,0 +1,36 @@
+package co.edu.uco.backend.config;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.busqueda.IndiceFacetasCanchas;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.data.dao.geo.IndiceGeograficoCanchas;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+@Configuration
+public class IndicesCanchasConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IndicesCanchasConfig.class);
+
+    // Si la base de datos no está disponible al arrancar, cada índice se construye con la primera búsqueda que lo necesite
+    @EventListener(ApplicationReadyEvent.class)
+    public void precargarIndicesCanchas() {
+        try {
+            var factory = DAOFactory.getFactory();
+            factory.abrirConexion();
+            try {
+                IndiceGeograficoCanchas.getInstance().cargar(consumidor -> factory.getCanchaDAO().consultarGeolocalizadas(consumidor));
+                LOGGER.info("Índice geográfico cargado con {} canchas", IndiceGeograficoCanchas.getInstance().tamano());
+                IndiceFacetasCanchas.getInstance().cargar(consumidor -> factory.getCanchaDAO().consultarFichas(consumidor));
+                LOGGER.info("Índice de facetas cargado con {} canchas", IndiceFacetasCanchas.getInstance().tamano());
+            } finally {
+                factory.cerrarConexion();
+            }
+        } catch (BackEndException exception) {
+            LOGGER.warn("No fue posible precargar los índices de canchas: {}", exception.getMensajeTecnico());
+        }
+    }
+}
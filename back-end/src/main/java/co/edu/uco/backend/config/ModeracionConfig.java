@@ -0,0 +1,81 @@
+package co.edu.uco.backend.config;
+
+import co.edu.uco.backend.businesslogic.businesslogic.moderacion.MotorModeracion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Recarga en caliente los vocabularios de moderación de reseñas. Si resenas.moderacion.archivo apunta
+ * a un archivo .properties con las claves palabras-negativas y/o palabras-prohibidas (separadas por
+ * comas), se revisa periódicamente y, cuando cambia, se reconstruyen los autómatas sin reiniciar.
+ */
+@Configuration
+@EnableScheduling
+public class ModeracionConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ModeracionConfig.class);
+
+    private final String archivo;
+    private FileTime ultimaModificacion;
+
+    public ModeracionConfig(@Value("${resenas.moderacion.archivo:}") String archivo) {
+        this.archivo = archivo.trim();
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${resenas.moderacion.intervalo-recarga-ms:30000}")
+    public void recargarVocabulariosSiCambiaron() {
+        if (archivo.isEmpty()) {
+            return;
+        }
+
+        var ruta = Path.of(archivo);
+        try {
+            if (!Files.isRegularFile(ruta)) {
+                return;
+            }
+            var modificacion = Files.getLastModifiedTime(ruta);
+            if (modificacion.equals(ultimaModificacion)) {
+                return;
+            }
+
+            var propiedades = new Properties();
+            try (Reader lector = Files.newBufferedReader(ruta, StandardCharsets.UTF_8)) {
+                propiedades.load(lector);
+            }
+            var negativas = leerLista(propiedades, "palabras-negativas", MotorModeracion.PALABRAS_NEGATIVAS_DEFECTO);
+            var prohibidas = leerLista(propiedades, "palabras-prohibidas", MotorModeracion.PALABRAS_PROHIBIDAS_DEFECTO);
+            MotorModeracion.getInstance().recargar(negativas, prohibidas);
+            ultimaModificacion = modificacion;
+            LOGGER.info("Vocabularios de moderación recargados desde {}: {} negativas, {} prohibidas",
+                    ruta, negativas.size(), prohibidas.size());
+        } catch (IOException | RuntimeException exception) {
+            // Se conservan los vocabularios vigentes y se reintenta en la siguiente revisión
+            LOGGER.warn("No fue posible recargar los vocabularios de moderación desde {}", ruta, exception);
+        }
+    }
+
+    private static List<String> leerLista(final Properties propiedades, final String clave, final List<String> defecto) {
+        var valor = propiedades.getProperty(clave);
+        if (valor == null) {
+            return defecto;
+        }
+        return Arrays.stream(valor.split(","))
+                .map(String::trim)
+                .filter(palabra -> !palabra.isEmpty())
+                .toList();
+    }
+}
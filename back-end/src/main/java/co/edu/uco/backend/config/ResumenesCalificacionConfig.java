@@ -0,0 +1,35 @@
+package co.edu.uco.backend.config;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.cache.CacheResumenesCalificacion;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+@Configuration
+public class ResumenesCalificacionConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResumenesCalificacionConfig.class);
+
+    // Sin precarga la caché se llena con cada consulta; solo deja de ir a la base de datos cuando está completa
+    @EventListener(ApplicationReadyEvent.class)
+    public void precargarResumenesCalificacion() {
+        try {
+            var factory = DAOFactory.getFactory();
+            factory.abrirConexion();
+            try {
+                CacheResumenesCalificacion.deCanchas().cargar(consumidor -> factory.getResumenCalificacionCanchaDAO().consultarTodos(consumidor));
+                CacheResumenesCalificacion.deOrganizaciones().cargar(consumidor -> factory.getResumenCalificacionOrganizacionDAO().consultarTodos(consumidor));
+            } finally {
+                factory.cerrarConexion();
+            }
+            LOGGER.info("Resúmenes de calificación cargados: {} canchas y {} organizaciones",
+                    CacheResumenesCalificacion.deCanchas().tamano(), CacheResumenesCalificacion.deOrganizaciones().tamano());
+        } catch (BackEndException exception) {
+            LOGGER.warn("No fue posible precargar los resúmenes de calificación: {}", exception.getMensajeTecnico());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package co.edu.uco.backend.config;
+
+import co.edu.uco.backend.crosscutting.seguridad.ServicioHashContrasenas;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilEncrypt;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SeguridadConfig {
+
+    // Subir contrasenas.hash.iteraciones no invalida los hashes existentes: se recalculan al iniciar sesión
+    public SeguridadConfig(@Value("${contrasenas.hash.iteraciones:65536}") int iteraciones,
+                           @Value("${contrasenas.hash.hilos:0}") int hilos,
+                           @Value("${contrasenas.hash.capacidad-cola:64}") int capacidadCola,
+                           @Value("${contrasenas.hash.espera-maxima-ms:10000}") long esperaMaximaMs) {
+        UtilEncrypt.configurarIteraciones(iteraciones);
+        ServicioHashContrasenas.getInstance().configurar(
+                hilos > 0 ? hilos : ServicioHashContrasenas.HILOS_DEFECTO, capacidadCola, esperaMaximaMs);
+    }
+}
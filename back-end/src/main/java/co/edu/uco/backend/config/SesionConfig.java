@@ -0,0 +1,57 @@
+package co.edu.uco.backend.config;
+
+import co.edu.uco.backend.crosscutting.seguridad.AlmacenSesiones;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * Autenticación por token de sesión. Si la solicitud trae "Authorization: Bearer <token>", el token
+ * se valida contra AlmacenSesiones (búsqueda en memoria, sin PBKDF2) y la sesión queda disponible
+ * en el atributo ATRIBUTO_SESION; un token inválido o vencido responde 401.
+ */
+@Configuration
+public class SesionConfig implements WebMvcConfigurer {
+
+    public static final String ATRIBUTO_SESION = "sesionUsuario";
+
+    private static final String PREFIJO_BEARER = "Bearer ";
+
+    public SesionConfig(@Value("${sesiones.capacidad-maxima:100000}") int capacidadMaxima,
+                        @Value("${sesiones.duracion:PT8H}") Duration duracion) {
+        AlmacenSesiones.getInstance().configurar(capacidadMaxima, duracion);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+                var autorizacion = request.getHeader(HttpHeaders.AUTHORIZATION);
+                if (autorizacion == null || !autorizacion.startsWith(PREFIJO_BEARER)) {
+                    return true;
+                }
+
+                var sesion = AlmacenSesiones.getInstance().validar(autorizacion.substring(PREFIJO_BEARER.length()).trim());
+                if (sesion == null) {
+                    response.setStatus(HttpStatus.UNAUTHORIZED.value());
+                    response.setContentType("text/plain");
+                    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+                    response.getWriter().write("La sesión no es válida o ha expirado, por favor inicia sesión nuevamente");
+                    return false;
+                }
+                request.setAttribute(ATRIBUTO_SESION, sesion);
+                return true;
+            }
+        });
+    }
+}
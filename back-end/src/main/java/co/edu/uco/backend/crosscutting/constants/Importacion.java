@@ -0,0 +1,11 @@
+package co.edu.uco.backend.crosscutting.constants;
+
+public final class Importacion {
+
+    // Filas de datos por archivo; la importación es una sola transacción y el lote completo se valida en memoria
+    public static final int MAXIMO_FILAS = 10_000;
+
+    private Importacion() {
+        super();
+    }
+}
@@ -0,0 +1,11 @@
+package co.edu.uco.backend.crosscutting.constants;
+
+public final class Paginacion {
+
+    public static final int LIMITE_DEFECTO = 50;
+    public static final int LIMITE_MAXIMO = 500;
+
+    private Paginacion() {
+        super();
+    }
+}
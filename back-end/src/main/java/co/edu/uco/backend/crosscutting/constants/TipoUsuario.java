@@ -0,0 +1,7 @@
+package co.edu.uco.backend.crosscutting.constants;
+
+public enum TipoUsuario {
+    CLIENTE,
+    ORGANIZACION_DEPORTIVA,
+    ENCARGADO
+}
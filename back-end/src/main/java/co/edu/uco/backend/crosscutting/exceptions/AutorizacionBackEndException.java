@@ -0,0 +1,32 @@
+package co.edu.uco.backend.crosscutting.exceptions;
+
+import java.io.Serial;
+
+/**
+ * Rechazo de acceso a un recurso: sin sesión (401) o con una sesión que no es dueña del recurso (403).
+ * Es un rechazo esperado, así que se reporta sin traza.
+ */
+public class AutorizacionBackEndException extends BackEndException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final boolean autenticado;
+
+    private AutorizacionBackEndException(String mensajeUsuario, String mensajeTecnico, boolean autenticado) {
+        super(mensajeUsuario, mensajeTecnico, LayerException.API);
+        this.autenticado = autenticado;
+    }
+
+    public static BackEndException reportarSinSesion(String mensajeUsuario, String mensajeTecnico) {
+        return new AutorizacionBackEndException(mensajeUsuario, mensajeTecnico, false);
+    }
+
+    public static BackEndException reportarSinPermiso(String mensajeUsuario, String mensajeTecnico) {
+        return new AutorizacionBackEndException(mensajeUsuario, mensajeTecnico, true);
+    }
+
+    public boolean isAutenticado() {
+        return autenticado;
+    }
+}
@@ -11,6 +11,7 @@ public class BackEndException extends Exception{
     private static final long serialVersionUID = 1L;
     private String mensajeUsuario;
     private LayerException capa;
+    private boolean esperada;
 
     protected BackEndException(String mensajeUsuario, String mensajeTecnico, Exception excepcionRaiz, LayerException capa) {
         super(mensajeTecnico, excepcionRaiz);
@@ -18,6 +19,17 @@ public class BackEndException extends Exception{
         setCapa(capa);
     }
 
+    /**
+     * Rechazo esperado (una regla de negocio que no se cumple): no captura la traza de la pila,
+     * que es lo más costoso de crear la excepción y no dice nada sobre una validación fallida.
+     */
+    protected BackEndException(String mensajeUsuario, String mensajeTecnico, LayerException capa) {
+        super(mensajeTecnico, null, true, false);
+        setMensajeUsuario(mensajeUsuario);
+        setCapa(capa);
+        esperada = true;
+    }
+
     public String getMensajeUsuario() {
         return mensajeUsuario;
     }
@@ -35,6 +47,10 @@ public class BackEndException extends Exception{
     }
 
 
+    public boolean isEsperada() {
+        return esperada;
+    }
+
     public LayerException getCapa() {
         return capa;
     }
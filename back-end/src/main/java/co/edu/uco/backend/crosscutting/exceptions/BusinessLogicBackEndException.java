@@ -10,17 +10,29 @@ public class BusinessLogicBackEndException extends BackEndException {
     private BusinessLogicBackEndException(String mensajeUsuario, String mensajeTecnico, Exception excepcionRaiz) {
         super(mensajeUsuario, mensajeTecnico, excepcionRaiz, LayerException.BUSINESS_LOGIC);
     }
+
+    private BusinessLogicBackEndException(String mensajeUsuario, String mensajeTecnico) {
+        super(mensajeUsuario, mensajeTecnico, LayerException.BUSINESS_LOGIC);
+    }
+
+    // Sin excepción raíz es un rechazo de una regla de negocio: se reporta sin traza
     public static BackEndException reportar(String mensajeUsuario) {
-        return new BusinessLogicBackEndException(mensajeUsuario, mensajeUsuario,new Exception());
+        return new BusinessLogicBackEndException(mensajeUsuario, mensajeUsuario);
     }
 
     public static BackEndException reportar(String mensajeUsuario, String mensajeTecnico) {
-        return new BusinessLogicBackEndException(mensajeUsuario, mensajeTecnico,new Exception());
+        return new BusinessLogicBackEndException(mensajeUsuario, mensajeTecnico);
     }
 
     public static BackEndException reportar(String mensajeUsuario, String mensajeTecnico, Exception excepcionRaiz) {
         return new BusinessLogicBackEndException(mensajeUsuario, mensajeTecnico, excepcionRaiz);
     }
 
+    // Falla sin excepción raíz que no es culpa de la solicitud (datos semilla ausentes, una espera
+    // agotada, un error de programación): se reporta como inesperada, con traza
+    public static BackEndException reportarFallo(String mensajeUsuario, String mensajeTecnico) {
+        return new BusinessLogicBackEndException(mensajeUsuario, mensajeTecnico, null);
+    }
+
 
 }
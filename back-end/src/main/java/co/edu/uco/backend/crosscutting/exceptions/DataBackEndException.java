@@ -12,6 +12,10 @@ public class DataBackEndException extends BackEndException {
         super(mensajeUsuario, mensajeTecnico, excepcionRaiz, LayerException.DATA);
     }
 
+    private DataBackEndException(String mensajeUsuario, String mensajeTecnico) {
+        super(mensajeUsuario, mensajeTecnico, LayerException.DATA);
+    }
+
 
 
     public static BackEndException reportar(String mensajeUsuario) {
@@ -26,6 +30,12 @@ public class DataBackEndException extends BackEndException {
         return new DataBackEndException(mensajeUsuario, mensajeTecnico, excepcionRaiz);
     }
 
+    // Una restricción de la base de datos que rechaza la solicitud es una regla de negocio que se
+    // cumple allí, no una falla: se reporta como rechazo esperado, sin traza
+    public static BackEndException reportarRechazo(String mensajeUsuario, String mensajeTecnico) {
+        return new DataBackEndException(mensajeUsuario, mensajeTecnico);
+    }
+
 
 
 
@@ -0,0 +1,65 @@
+package co.edu.uco.backend.crosscutting.registro;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limita cuántas veces por ventana de tiempo se registra un mismo tipo de evento (la llave), para
+ * que una ráfaga de solicitudes rechazadas no convierta el log en el cuello de botella. Dentro de
+ * cada ventana pasan los primeros maximoPorVentana eventos de cada llave; el resto solo se cuenta y
+ * la cantidad omitida se informa con el primer evento que pasa en una ventana posterior.
+ * Las llaves deben venir de un conjunto acotado (capa y tipo de excepción, por ejemplo).
+ */
+public final class RegistroLimitado {
+
+    public static final long OMITIR = -1;
+
+    private final int maximoPorVentana;
+    private final long ventanaNanos;
+    private final ConcurrentHashMap<String, Ventana> ventanas = new ConcurrentHashMap<>();
+
+    public RegistroLimitado(final int maximoPorVentana, final long ventanaNanos) {
+        this.maximoPorVentana = Math.max(1, maximoPorVentana);
+        this.ventanaNanos = Math.max(1, ventanaNanos);
+    }
+
+    /**
+     * OMITIR si el evento no se debe registrar; si no, cuántos eventos de la misma llave se omitieron
+     * desde el último que se registró (normalmente 0).
+     */
+    public long intentar(final String llave) {
+        var ahora = System.nanoTime();
+        var ventana = ventanas.computeIfAbsent(llave, clave -> new Ventana(ahora));
+        if (ahora - ventana.inicio >= ventanaNanos) {
+            ventana.reiniciar(ahora, ventanaNanos);
+        }
+        if (ventana.registrados.incrementAndGet() > maximoPorVentana) {
+            ventana.omitidos.incrementAndGet();
+            return OMITIR;
+        }
+        return ventana.omitidosPendientes.getAndSet(0);
+    }
+
+    private static final class Ventana {
+
+        private volatile long inicio;
+        private final AtomicInteger registrados = new AtomicInteger();
+        private final AtomicInteger omitidos = new AtomicInteger();
+        // Omitidos de ventanas anteriores que aún no se han informado
+        private final AtomicInteger omitidosPendientes = new AtomicInteger();
+
+        private Ventana(final long inicio) {
+            this.inicio = inicio;
+        }
+
+        private synchronized void reiniciar(final long ahora, final long ventanaNanos) {
+            // Otro hilo pudo abrir la ventana nueva mientras este esperaba el candado
+            if (ahora - inicio < ventanaNanos) {
+                return;
+            }
+            omitidosPendientes.addAndGet(omitidos.getAndSet(0));
+            registrados.set(0);
+            inicio = ahora;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package co.edu.uco.backend.crosscutting.seguridad;
+
+import co.edu.uco.backend.crosscutting.constants.TipoUsuario;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sesiones activas en memoria. Tras un inicio de sesión (única comprobación PBKDF2) el usuario
+ * recibe un token opaco; validarlo es una búsqueda O(1) en el segmento que le corresponde, así que
+ * las solicitudes autenticadas no vuelven a pagar el cifrado.
+ * El almacén está dividido en segmentos con candado propio; cada segmento está acotado y, al
+ * llenarse, descarta la sesión más antigua. Las sesiones vencidas se eliminan al consultarlas.
+ */
+public final class AlmacenSesiones {
+
+    public static final int CAPACIDAD_DEFECTO = 100_000;
+    public static final Duration DURACION_DEFECTO = Duration.ofHours(8);
+
+    static final int NUMERO_SEGMENTOS = 32;
+    private static final int BYTES_TOKEN = 32;
+
+    private static final AlmacenSesiones INSTANCE = new AlmacenSesiones();
+
+    private final Segmento[] segmentos = new Segmento[NUMERO_SEGMENTOS];
+    private final SecureRandom aleatorio = new SecureRandom();
+    private volatile Duration duracion = DURACION_DEFECTO;
+
+    private static final class Segmento {
+
+        private final ReentrantLock candado = new ReentrantLock();
+        private volatile int capacidad;
+        // En orden de creación: con duración fija, la primera sesión es también la primera en vencer
+        private final LinkedHashMap<String, SesionUsuario> sesiones = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, SesionUsuario> masAntigua) {
+                return size() > capacidad;
+            }
+        };
+    }
+
+    private AlmacenSesiones() {
+        for (int i = 0; i < NUMERO_SEGMENTOS; i++) {
+            segmentos[i] = new Segmento();
+        }
+        configurar(CAPACIDAD_DEFECTO, DURACION_DEFECTO);
+        Gauge.builder("sesiones.activas", this, AlmacenSesiones::contarSesiones).register(Metrics.globalRegistry);
+    }
+
+    public static AlmacenSesiones getInstance() {
+        return INSTANCE;
+    }
+
+    public void configurar(final int capacidadMaxima, final Duration duracion) {
+        var capacidadSegmento = Math.max(1, capacidadMaxima / NUMERO_SEGMENTOS);
+        for (Segmento segmento : segmentos) {
+            segmento.capacidad = capacidadSegmento;
+        }
+        this.duracion = duracion;
+    }
+
+    public SesionUsuario crear(final UUID usuarioId, final TipoUsuario tipoUsuario, final String ip, final String userAgent) {
+        var bytes = new byte[BYTES_TOKEN];
+        aleatorio.nextBytes(bytes);
+        var token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        var sesion = new SesionUsuario(token, usuarioId, tipoUsuario, ip, userAgent, Instant.now().plus(duracion));
+
+        var segmento = segmentoDe(token);
+        segmento.candado.lock();
+        try {
+            segmento.sesiones.put(token, sesion);
+        } finally {
+            segmento.candado.unlock();
+        }
+        return sesion;
+    }
+
+    /**
+     * Retorna la sesión del token, o null si no existe o ya venció.
+     */
+    public SesionUsuario validar(final String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        var segmento = segmentoDe(token);
+        segmento.candado.lock();
+        try {
+            var sesion = segmento.sesiones.get(token);
+            if (sesion != null && sesion.estaVencida(Instant.now())) {
+                segmento.sesiones.remove(token);
+                return null;
+            }
+            return sesion;
+        } finally {
+            segmento.candado.unlock();
+        }
+    }
+
+    /**
+     * Cierra todas las sesiones de un usuario. Recorre los segmentos uno a uno, así que no bloquea
+     * el almacén completo.
+     */
+    public void cerrarSesionesUsuario(final UUID usuarioId) {
+        var ahora = Instant.now();
+        for (Segmento segmento : segmentos) {
+            segmento.candado.lock();
+            try {
+                segmento.sesiones.values().removeIf(sesion -> sesion.usuarioId().equals(usuarioId) || sesion.estaVencida(ahora));
+            } finally {
+                segmento.candado.unlock();
+            }
+        }
+    }
+
+    private int contarSesiones() {
+        var total = 0;
+        for (Segmento segmento : segmentos) {
+            // LinkedHashMap no es seguro para lecturas concurrentes con escrituras, ni siquiera size()
+            segmento.candado.lock();
+            try {
+                total += segmento.sesiones.size();
+            } finally {
+                segmento.candado.unlock();
+            }
+        }
+        return total;
+    }
+
+    private Segmento segmentoDe(final String token) {
+        return segmentos[indiceSegmento(token)];
+    }
+
+    static int indiceSegmento(final String token) {
+        var hash = token.hashCode();
+        hash ^= (hash >>> 16);
+        return hash & (NUMERO_SEGMENTOS - 1);
+    }
+}
@@ -0,0 +1,124 @@
+package co.edu.uco.backend.crosscutting.seguridad;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.exceptions.CrossCuttingBackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilEncrypt;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ejecuta el cifrado y la comprobación de contraseñas (PBKDF2, decenas de milisegundos de CPU) en
+ * un grupo de hilos propio y acotado. Una ráfaga de inicios de sesión o registros ocupa a lo sumo
+ * esos hilos; si además la cola está llena, la solicitud se rechaza de inmediato en lugar de
+ * acumularse y dejar sin hilos a Tomcat.
+ * Con hilos virtuales (spring.threads.virtual.enabled) este grupo sigue siendo de hilos de
+ * plataforma: el trabajo es de CPU y el hilo virtual de la solicitud solo se suspende en
+ * Future.get, sin bloquear un hilo portador.
+ */
+public final class ServicioHashContrasenas {
+
+    public static final int HILOS_DEFECTO = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    public static final int CAPACIDAD_COLA_DEFECTO = 64;
+    public static final long ESPERA_MAXIMA_MS_DEFECTO = 10_000;
+
+    private static final ServicioHashContrasenas INSTANCE = new ServicioHashContrasenas();
+
+    private final Counter rechazos = Counter.builder("contrasenas.hash.rechazos").register(Metrics.globalRegistry);
+    private volatile ThreadPoolExecutor ejecutor;
+    private volatile long esperaMaximaMs;
+
+    private ServicioHashContrasenas() {
+        configurar(HILOS_DEFECTO, CAPACIDAD_COLA_DEFECTO, ESPERA_MAXIMA_MS_DEFECTO);
+        Gauge.builder("contrasenas.hash.cola", this, servicio -> servicio.ejecutor.getQueue().size())
+                .register(Metrics.globalRegistry);
+    }
+
+    public static ServicioHashContrasenas getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Reemplaza el grupo de hilos; las tareas ya encoladas en el anterior terminan normalmente.
+     */
+    public synchronized void configurar(final int hilos, final int capacidadCola, final long esperaMaximaMs) {
+        var contador = new AtomicInteger();
+        var nuevo = new ThreadPoolExecutor(hilos, hilos, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadCola),
+                tarea -> {
+                    var hilo = new Thread(tarea, "hash-contrasenas-" + contador.incrementAndGet());
+                    hilo.setDaemon(true);
+                    return hilo;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        var anterior = ejecutor;
+        ejecutor = nuevo;
+        this.esperaMaximaMs = esperaMaximaMs;
+        if (anterior != null) {
+            anterior.shutdown();
+        }
+    }
+
+    public String hash(final String contrasena) throws BackEndException {
+        return ejecutar(() -> UtilEncrypt.hash(contrasena));
+    }
+
+    /**
+     * Comprueba la contraseña contra la almacenada. Si no hay almacenada (el usuario no existe) o es
+     * una contraseña heredada en texto plano, igual se deriva un hash ficticio para que la respuesta
+     * tarde lo mismo en todos los casos.
+     */
+    public boolean matches(final String contrasena, final String almacenada) throws BackEndException {
+        return ejecutar(() -> {
+            if (UtilEncrypt.esHash(almacenada)) {
+                return UtilEncrypt.matches(contrasena, almacenada);
+            }
+            UtilEncrypt.matches(contrasena, UtilEncrypt.obtenerHashFicticio());
+            return almacenada != null && !almacenada.isEmpty() && UtilEncrypt.coincideTextoPlano(contrasena, almacenada);
+        });
+    }
+
+    private <T> T ejecutar(final Callable<T> tarea) throws BackEndException {
+        Future<T> resultado;
+        try {
+            resultado = ejecutor.submit(tarea);
+        } catch (RejectedExecutionException exception) {
+            rechazos.increment();
+            var mensajeUsuario = "En este momento hay demasiadas solicitudes de acceso, por favor intenta de nuevo en unos segundos";
+            var mensajeTecnico = "La cola del servicio de cifrado de contraseñas está llena, se rechazó la solicitud sin esperar";
+            throw CrossCuttingBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+
+        try {
+            return resultado.get(esperaMaximaMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof BackEndException backEndException) {
+                throw backEndException;
+            }
+            var mensajeUsuario = "Se ha presentado un problema inesperado procesando la contraseña";
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA cifrando o comprobando una contraseña";
+            throw CrossCuttingBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (TimeoutException exception) {
+            resultado.cancel(true);
+            var mensajeUsuario = "En este momento hay demasiadas solicitudes de acceso, por favor intenta de nuevo en unos segundos";
+            var mensajeTecnico = "El cifrado de la contraseña superó la espera máxima de " + esperaMaximaMs + " ms";
+            throw CrossCuttingBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            resultado.cancel(true);
+            var mensajeUsuario = "Se ha presentado un problema inesperado procesando la contraseña";
+            var mensajeTecnico = "El hilo de la solicitud fue interrumpido mientras esperaba el cifrado de la contraseña";
+            throw CrossCuttingBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+}
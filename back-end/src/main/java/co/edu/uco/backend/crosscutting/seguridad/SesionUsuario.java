@@ -0,0 +1,14 @@
+package co.edu.uco.backend.crosscutting.seguridad;
+
+import co.edu.uco.backend.crosscutting.constants.TipoUsuario;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record SesionUsuario(String token, UUID usuarioId, TipoUsuario tipoUsuario, String ip, String userAgent,
+                            Instant expiraEn) {
+
+    public boolean estaVencida(final Instant ahora) {
+        return !ahora.isBefore(expiraEn);
+    }
+}
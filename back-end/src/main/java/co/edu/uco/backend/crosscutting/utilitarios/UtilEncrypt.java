@@ -4,43 +4,68 @@ import co.edu.uco.backend.crosscutting.exceptions.CrossCuttingBackEndException;
 
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.spec.InvalidKeySpecException;
 import java.util.Base64;
+import java.util.regex.Pattern;
 
 public class UtilEncrypt {
-    private static final int ITERATIONS = 65536;
+    private static final String ALGORITMO = "PBKDF2WithHmacSHA256";
+    // Iteraciones de los hashes antiguos "salt:hash", que no guardan el número de iteraciones
+    private static final int ITERATIONS_LEGADO = 65536;
     private static final int KEY_LENGTH = 256;
+    // [iteraciones:]salt:hash con salt de 16 bytes y hash de 32 bytes en Base64
+    private static final Pattern FORMATO_HASH = Pattern.compile("^(\\d+:)?[A-Za-z0-9+/]{22}==:[A-Za-z0-9+/]{43}=$");
+    // Contraseña fija contra la que se compara cuando el usuario no existe
+    private static final String CONTRASENA_FICTICIA = "usuario-inexistente";
+
+    // SecretKeyFactory no es seguro entre hilos y SecureRandom se bloquea si muchos hilos lo comparten
+    private static final ThreadLocal<SecretKeyFactory> FABRICA = ThreadLocal.withInitial(UtilEncrypt::crearFabrica);
+    private static final ThreadLocal<SecureRandom> ALEATORIO = ThreadLocal.withInitial(SecureRandom::new);
+
+    private static volatile int iterations = ITERATIONS_LEGADO;
+    private static volatile String hashFicticio;
+
+    /**
+     * Cambia las iteraciones de los hashes nuevos. Los existentes siguen validando con las suyas y
+     * necesitaRehash(...) indica cuáles conviene recalcular en el siguiente inicio de sesión.
+     */
+    public static void configurarIteraciones(int iteraciones) {
+        if (iteraciones < 1) {
+            throw new IllegalArgumentException("Las iteraciones de PBKDF2 deben ser positivas: " + iteraciones);
+        }
+        iterations = iteraciones;
+    }
+
+    public static int obtenerIteraciones() {
+        return iterations;
+    }
 
     /**
      * Genera un hash PBKDF2 del password dado, con salt aleatorio.
      * @param password claro
-     * @return salt:hash en Base64
+     * @return iteraciones:salt:hash (salt y hash en Base64)
      * @throws BackEndException si falla el algoritmo
      */
     public static String hash(String password) throws BackEndException {
         try {
             // 1. Generar salt
             byte[] salt = new byte[16];
-            new SecureRandom().nextBytes(salt);
+            ALEATORIO.get().nextBytes(salt);
 
             // 2. Derivar la clave
-            PBEKeySpec spec = new PBEKeySpec(
-                    password.toCharArray(), salt, ITERATIONS, KEY_LENGTH
-            );
-            byte[] hash = SecretKeyFactory
-                    .getInstance("PBKDF2WithHmacSHA256")
-                    .generateSecret(spec)
-                    .getEncoded();
+            int iteraciones = iterations;
+            byte[] hash = derivar(password, salt, iteraciones);
 
-            // 3. Devolver salt y hash en un único string
+            // 3. Devolver iteraciones, salt y hash en un único string
             String saltB64 = Base64.getEncoder().encodeToString(salt);
             String hashB64 = Base64.getEncoder().encodeToString(hash);
-            return saltB64 + ":" + hashB64;
+            return iteraciones + ":" + saltB64 + ":" + hashB64;
 
-        } catch (NoSuchAlgorithmException | InvalidKeySpecException ex) {
-            // Usamos tu excepción de crosscutting
+        } catch (InvalidKeySpecException ex) {
             throw CrossCuttingBackEndException.reportar(
                     "Error al encriptar la contraseña","Error generando hash PBKDF2", ex
             );
@@ -50,43 +75,95 @@ public class UtilEncrypt {
     /**
      * Comprueba si un password en claro coincide con el hash almacenado.
      * @param password claro
-     * @param stored salt:hash en Base64
+     * @param stored iteraciones:salt:hash, o salt:hash para los hashes antiguos
      * @return true si coincide
      * @throws BackEndException si falla la comprobación
      */
     public static boolean matches(String password, String stored) throws BackEndException {
         try {
             String[] parts = stored.split(":");
-            if (parts.length != 2) {
+            if (parts.length != 2 && parts.length != 3) {
                 throw CrossCuttingBackEndException.reportar("Formato de hash inválido: " + stored);
             }
 
-            byte[] salt = Base64.getDecoder().decode(parts[0]);
-            byte[] hash = Base64.getDecoder().decode(parts[1]);
+            int iteraciones = parts.length == 3 ? Integer.parseInt(parts[0]) : ITERATIONS_LEGADO;
+            byte[] salt = Base64.getDecoder().decode(parts[parts.length - 2]);
+            byte[] hash = Base64.getDecoder().decode(parts[parts.length - 1]);
 
-            PBEKeySpec spec = new PBEKeySpec(
-                    password.toCharArray(), salt, ITERATIONS, KEY_LENGTH
-            );
-            byte[] testHash = SecretKeyFactory
-                    .getInstance("PBKDF2WithHmacSHA256")
-                    .generateSecret(spec)
-                    .getEncoded();
+            byte[] testHash = derivar(password, salt, iteraciones);
 
-            if (testHash.length != hash.length) {
-                return false;
-            }
-            for (int i = 0; i < hash.length; i++) {
-                if (testHash[i] != hash[i]) {
-                    return false;
-                }
-            }
-            return true;
+            // Comparación en tiempo constante
+            return MessageDigest.isEqual(testHash, hash);
 
-        } catch (NoSuchAlgorithmException | InvalidKeySpecException ex) {
+        } catch (InvalidKeySpecException | IllegalArgumentException ex) {
             throw CrossCuttingBackEndException.reportar(
                     "Error al comprobar la encriptacion","Error comprobando hash PBKDF2" ,ex
             );
         }
     }
 
+    /**
+     * Indica si el valor almacenado tiene el formato de un hash de esta clase. Las contraseñas que
+     * se guardaron en texto plano antes de cifrarlas no lo tienen.
+     */
+    public static boolean esHash(String stored) {
+        return stored != null && FORMATO_HASH.matcher(stored).matches();
+    }
+
+    /**
+     * Compara en tiempo constante con una contraseña heredada en texto plano.
+     */
+    public static boolean coincideTextoPlano(String password, String stored) {
+        return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8), stored.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Hash con las iteraciones configuradas de una contraseña que nadie usa. Comprobar contra él
+     * cuando el usuario no existe cuesta lo mismo que una comprobación real, así el tiempo de
+     * respuesta no revela qué nombres de usuario existen.
+     */
+    public static String obtenerHashFicticio() throws BackEndException {
+        var actual = hashFicticio;
+        if (actual == null || necesitaRehash(actual)) {
+            actual = hash(CONTRASENA_FICTICIA);
+            hashFicticio = actual;
+        }
+        return actual;
+    }
+
+    /**
+     * Indica si el valor almacenado se generó con menos iteraciones de las configuradas, o si es
+     * una contraseña heredada en texto plano.
+     */
+    public static boolean necesitaRehash(String stored) {
+        if (!esHash(stored)) {
+            return true;
+        }
+        String[] parts = stored.split(":");
+        try {
+            int iteraciones = parts.length == 3 ? Integer.parseInt(parts[0]) : ITERATIONS_LEGADO;
+            return iteraciones < iterations;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    private static byte[] derivar(String password, byte[] salt, int iteraciones) throws InvalidKeySpecException {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iteraciones, KEY_LENGTH);
+        try {
+            return FABRICA.get().generateSecret(spec).getEncoded();
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    private static SecretKeyFactory crearFabrica() {
+        try {
+            return SecretKeyFactory.getInstance(ALGORITMO);
+        } catch (NoSuchAlgorithmException ex) {
+            // Todo JRE 8+ incluye PBKDF2WithHmacSHA256
+            throw new IllegalStateException("El algoritmo " + ALGORITMO + " no está disponible", ex);
+        }
+    }
+
 }
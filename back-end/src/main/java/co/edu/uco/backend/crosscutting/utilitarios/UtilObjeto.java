@@ -2,16 +2,14 @@ package co.edu.uco.backend.crosscutting.utilitarios;
 
 public final class UtilObjeto {
 
-    private static UtilObjeto instancia;
+    // Se crea al cargar la clase: getInstance() está en cada validación y no debe sincronizar
+    private static final UtilObjeto instancia = new UtilObjeto();
 
     private UtilObjeto() {
         super();
     }
 
-    public static synchronized UtilObjeto getInstance() {
-        if (instancia == null) {
-            instancia = new UtilObjeto();
-        }
+    public static UtilObjeto getInstance() {
         return instancia;
     }
 
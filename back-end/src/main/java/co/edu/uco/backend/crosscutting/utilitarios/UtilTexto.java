@@ -1,40 +1,53 @@
 package co.edu.uco.backend.crosscutting.utilitarios;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
 public final class UtilTexto {
 
     private static final UtilTexto instancia = new UtilTexto();
 
-    private static final String PATRON_SOLO_LETRAS_ESPACIOS             = "^[a-zA-ZáÁéÉíÍóÓúÚñÑ ]+$";
-    private static final String PATRON_ALFANUMERICO_ESPACIOS             = "^[a-zA-ZáÁéÉíÍóÓúÚñÑ0-9 ]+$";
-    private static final String PATRON_ALFANUMERICO_ESPACIOS_ESPECIALES  = "^[\\p{L}\\p{N}\\p{Punct}\\s]+$";
-    private static final String PATRON_SOLO_NUMEROS = "^[0-9]+$";
-    private static final String PATRON_PREFIJO_TELEFONO                  = "^\\+?[0-9]+$";
     public final static String VACIO = "";
 
+    // Patrones ya compilados por patronEsValido; el tope evita crecer sin límite si llegan patrones dinámicos
+    private static final int MAXIMO_PATRONES_REGISTRADOS = 256;
+    private static final Map<String, Pattern> PATRONES_COMPILADOS = new ConcurrentHashMap<>();
+
     private UtilTexto() {}
 
     public static UtilTexto getInstance() {
         return instancia;
     }
 
+    /**
+     * Igual que String.matches (el patrón debe cubrir todo el valor), pero cada patrón se compila
+     * una sola vez y se reutiliza en las siguientes llamadas.
+     */
     public boolean patronEsValido(final String valor, final String patron) {
-        return obtenerValorDefecto(valor).matches(obtenerValorDefecto(patron));
+        return obtenerPatron(obtenerValorDefecto(patron)).matcher(obtenerValorDefecto(valor)).matches();
     }
 
+    // Los validadores de abajo recorren el texto directamente, sin regex; UtilTextoTest los compara con
+    // los patrones que reemplazan
+
     public boolean contieneSoloLetrasEspacios(final String valor) {
-        return patronEsValido(quitarEspaciosEnBlancoInicioFin(valor), PATRON_SOLO_LETRAS_ESPACIOS);
+        return todosLosCaracteresCumplen(quitarEspaciosEnBlancoInicioFin(valor),
+                caracter -> esLetraPermitida(caracter) || caracter == ' ');
     }
 
     public boolean contieneSoloLetrasNumerosEspacios(final String valor) {
-        return patronEsValido(quitarEspaciosEnBlancoInicioFin(valor), PATRON_ALFANUMERICO_ESPACIOS);
+        return todosLosCaracteresCumplen(quitarEspaciosEnBlancoInicioFin(valor),
+                caracter -> esLetraPermitida(caracter) || esDigito(caracter) || caracter == ' ');
     }
 
     public boolean contieneSoloAlfanumericoEspaciosEspeciales(final String valor) {
-        return patronEsValido(quitarEspaciosEnBlancoInicioFin(valor), PATRON_ALFANUMERICO_ESPACIOS_ESPECIALES);
+        return todosLosCaracteresCumplen(quitarEspaciosEnBlancoInicioFin(valor), UtilTexto::esAlfanumericoEspacioEspecial);
     }
 
     public boolean contieneSoloNumeros(final String valor) {
-        return patronEsValido(quitarEspaciosEnBlancoInicioFin(valor), PATRON_SOLO_NUMEROS);
+        return todosLosCaracteresCumplen(quitarEspaciosEnBlancoInicioFin(valor), UtilTexto::esDigito);
     }
 
     /**
@@ -42,7 +55,8 @@ public final class UtilTexto {
      * Ejemplos válidos: "+57", "1", "12345"
      */
     public boolean contieneSoloNumerosYMas(final String valor) {
-        return patronEsValido(quitarEspaciosEnBlancoInicioFin(valor), PATRON_PREFIJO_TELEFONO);
+        var texto = quitarEspaciosEnBlancoInicioFin(valor);
+        return todosLosCaracteresCumplen(texto, texto.startsWith("+") ? 1 : 0, UtilTexto::esDigito);
     }
 
     public Boolean esNula(final String valor) {
@@ -68,4 +82,68 @@ public final class UtilTexto {
     public String quitarEspaciosEnBlancoInicioFin(final String valor) {
         return obtenerValorDefecto(valor).trim();
     }
+
+    private static Pattern obtenerPatron(final String patron) {
+        var compilado = PATRONES_COMPILADOS.get(patron);
+        if (compilado != null) {
+            return compilado;
+        }
+        if (PATRONES_COMPILADOS.size() >= MAXIMO_PATRONES_REGISTRADOS) {
+            return Pattern.compile(patron);
+        }
+        return PATRONES_COMPILADOS.computeIfAbsent(patron, Pattern::compile);
+    }
+
+    // Como el "+" de los patrones: el texto vacío no es válido
+    private static boolean todosLosCaracteresCumplen(final String texto, final IntPredicate permitido) {
+        return todosLosCaracteresCumplen(texto, 0, permitido);
+    }
+
+    private static boolean todosLosCaracteresCumplen(final String texto, final int desde, final IntPredicate permitido) {
+        if (texto.length() <= desde) {
+            return false;
+        }
+        for (int i = desde; i < texto.length(); ) {
+            var caracter = texto.codePointAt(i);
+            if (!permitido.test(caracter)) {
+                return false;
+            }
+            i += Character.charCount(caracter);
+        }
+        return true;
+    }
+
+    // [a-zA-ZáÁéÉíÍóÓúÚñÑ]
+    private static boolean esLetraPermitida(final int caracter) {
+        if ((caracter >= 'a' && caracter <= 'z') || (caracter >= 'A' && caracter <= 'Z')) {
+            return true;
+        }
+        return switch (caracter) {
+            case 'á', 'Á', 'é', 'É', 'í', 'Í', 'ó', 'Ó', 'ú', 'Ú', 'ñ', 'Ñ' -> true;
+            default -> false;
+        };
+    }
+
+    // [0-9]
+    private static boolean esDigito(final int caracter) {
+        return caracter >= '0' && caracter <= '9';
+    }
+
+    // [\p{L}\p{N}\p{Punct}\s]: letras y números Unicode, puntuación ASCII y espacios ASCII
+    private static boolean esAlfanumericoEspacioEspecial(final int caracter) {
+        if (caracter < 128) {
+            return (caracter >= 'a' && caracter <= 'z') || (caracter >= 'A' && caracter <= 'Z')
+                    || esDigito(caracter)
+                    || (caracter >= '!' && caracter <= '/') || (caracter >= ':' && caracter <= '@')
+                    || (caracter >= '[' && caracter <= '`') || (caracter >= '{' && caracter <= '~')
+                    || caracter == ' ' || (caracter >= '\t' && caracter <= '\r');
+        }
+        if (Character.isLetter(caracter)) {
+            return true;
+        }
+        return switch (Character.getType(caracter)) {
+            case Character.DECIMAL_DIGIT_NUMBER, Character.LETTER_NUMBER, Character.OTHER_NUMBER -> true;
+            default -> false;
+        };
+    }
 }
@@ -1,11 +1,18 @@
 package co.edu.uco.backend.crosscutting.utilitarios;
 
+import java.security.SecureRandom;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 public final class UtilUUID {
 
     private static final String UUID_DEFECTO_TEXTO = "00000000-0000-0000-0000-000000000000";
 
+    // SecureRandom es seguro entre hilos; una instancia por hilo se multiplicaría con hilos virtuales
+    private static final SecureRandom ALEATORIO = new SecureRandom();
+    // Último valor entregado: milisegundos (48 bits) seguidos de un contador de 12 bits
+    private static final AtomicLong ULTIMO_INSTANTE_ORDENADO = new AtomicLong();
+
     private UtilUUID() {
         super();
     }
@@ -34,6 +41,28 @@ public final class UtilUUID {
         return UUID.randomUUID();
     }
 
+    /**
+     * UUID versión 7 (RFC 9562): 48 bits de milisegundos, un contador de 12 bits y 62 bits
+     * aleatorios. Los valores generados en esta instancia son estrictamente crecientes, incluso
+     * dentro del mismo milisegundo o si el reloj retrocede, así que las inserciones caen al final
+     * del índice de la llave primaria. No se consulta si el valor ya existe: una colisión es
+     * prácticamente imposible y, si ocurre, la rechaza la restricción de llave primaria.
+     */
+    public static UUID generarNuevoUUIDOrdenado() {
+        long anterior;
+        long siguiente;
+        do {
+            anterior = ULTIMO_INSTANTE_ORDENADO.get();
+            var ahora = System.currentTimeMillis() << 12;
+            // Si se agota el contador dentro del mismo milisegundo se toma prestado el siguiente
+            siguiente = Math.max(ahora, anterior + 1);
+        } while (!ULTIMO_INSTANTE_ORDENADO.compareAndSet(anterior, siguiente));
+
+        var masSignificativos = ((siguiente >>> 12) << 16) | 0x7000L | (siguiente & 0x0FFFL);
+        var menosSignificativos = (ALEATORIO.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(masSignificativos, menosSignificativos);
+    }
+
     public static String generarNuevoUUIDComoTexto() {
         return generarNuevoUUID().toString();
     }
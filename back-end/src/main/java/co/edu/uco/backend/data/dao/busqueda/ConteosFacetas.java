@@ -0,0 +1,18 @@
+package co.edu.uco.backend.data.dao.busqueda;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Cuántas canchas hay por cada valor de faceta. El conteo de una faceta aplica todos los demás
+ * criterios de la búsqueda pero no el suyo, para que el usuario vea a qué otros valores puede
+ * cambiar; los valores sin canchas no aparecen.
+ */
+public record ConteosFacetas(
+        Map<UUID, Integer> tipos,
+        Map<UUID, Integer> superficies,
+        Map<UUID, Integer> municipios,
+        Map<Boolean, Integer> iluminacion,
+        Map<Boolean, Integer> cubierta
+) {
+}
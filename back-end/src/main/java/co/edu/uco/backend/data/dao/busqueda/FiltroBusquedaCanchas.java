@@ -0,0 +1,25 @@
+package co.edu.uco.backend.data.dao.busqueda;
+
+import java.util.UUID;
+
+/**
+ * Criterios de la búsqueda facetada de canchas; un criterio en null no filtra.
+ */
+public record FiltroBusquedaCanchas(
+        UUID tipoId,
+        UUID superficieId,
+        UUID municipioId,
+        Boolean iluminacion,
+        Boolean cubierta,
+        Double costoMinimo,
+        Double costoMaximo
+) {
+
+    public boolean filtraPorCosto() {
+        return costoMinimo != null || costoMaximo != null;
+    }
+
+    public boolean cumpleCosto(final double costoHora) {
+        return (costoMinimo == null || costoHora >= costoMinimo) && (costoMaximo == null || costoHora <= costoMaximo);
+    }
+}
@@ -0,0 +1,243 @@
+package co.edu.uco.backend.data.dao.busqueda;
+
+import co.edu.uco.backend.data.dao.entity.cancha.FichaCancha;
+import co.edu.uco.backend.data.dao.indice.IndiceEnMemoria;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Índice en memoria para la búsqueda facetada de canchas. Cada cancha recibe un ordinal y cada
+ * valor de faceta (tipo, superficie, municipio, iluminación, cubierta) guarda en un MapaBits los
+ * ordinales de las canchas que lo tienen; una búsqueda intersecta los mapas de los criterios
+ * pedidos y cuenta cada faceta sin volver a la base de datos. El rango de costo por hora se
+ * resuelve recorriendo las fichas, porque es continuo y no tiene valores que indexar.
+ * Las páginas avanzan en orden de llave de la cancha, no de ordinal: el ordinal depende del orden en
+ * que se cargó cada instancia, así que un cursor sigue siendo válido aunque el índice se recargue,
+ * la cancha del cursor se elimine o la página siguiente la atienda otra instancia.
+ * Los DAO de cancha y de ubicación precisa le publican cada escritura después del COMMIT.
+ */
+public final class IndiceFacetasCanchas extends IndiceEnMemoria<FichaCancha, IndiceFacetasCanchas.Facetas> {
+
+    private static final IndiceFacetasCanchas INSTANCE = new IndiceFacetasCanchas();
+
+    private IndiceFacetasCanchas() {
+        super(Facetas::new);
+    }
+
+    public static IndiceFacetasCanchas getInstance() {
+        return INSTANCE;
+    }
+
+    public int tamano() {
+        return leer(facetas -> facetas.todas.cardinalidad());
+    }
+
+    /**
+     * Hasta limite canchas que cumplen todos los criterios, en orden de llave y a partir de la
+     * siguiente a despuesDe (null = desde el inicio), con el total y los conteos por faceta.
+     */
+    public ResultadoBusquedaCanchas buscar(final FiltroBusquedaCanchas filtro, final UUID despuesDe, final int limite) {
+        return leer(facetas -> facetas.buscar(filtro, despuesDe, limite));
+    }
+
+    @Override
+    protected UUID obtenerId(final FichaCancha ficha) {
+        return ficha.canchaId();
+    }
+
+    @Override
+    protected void registrar(final Facetas facetas, final FichaCancha ficha) {
+        facetas.registrar(ficha);
+    }
+
+    @Override
+    protected void eliminar(final Facetas facetas, final UUID canchaId) {
+        facetas.eliminar(canchaId);
+    }
+
+    static final class Faceta<K> {
+
+        private static final MapaBits SIN_CANCHAS = new MapaBits();
+
+        private final Map<K, MapaBits> valores = new HashMap<>();
+
+        private void agregar(final K valor, final int ordinal) {
+            if (valor != null) {
+                valores.computeIfAbsent(valor, llave -> new MapaBits()).agregar(ordinal);
+            }
+        }
+
+        private void quitar(final K valor, final int ordinal) {
+            var canchas = valor == null ? null : valores.get(valor);
+            if (canchas != null) {
+                canchas.quitar(ordinal);
+                if (canchas.estaVacio()) {
+                    valores.remove(valor);
+                }
+            }
+        }
+
+        // null cuando el criterio no se pidió
+        private MapaBits filtrar(final K valor) {
+            return valor == null ? null : valores.getOrDefault(valor, SIN_CANCHAS);
+        }
+
+        private Map<K, Integer> contar(final MapaBits base) {
+            var conteos = new HashMap<K, Integer>();
+            valores.forEach((valor, canchas) -> {
+                var cantidad = base.cardinalidadInterseccion(canchas);
+                if (cantidad > 0) {
+                    conteos.put(valor, cantidad);
+                }
+            });
+            return conteos;
+        }
+    }
+
+    static final class Facetas {
+
+        // Con menos coincidencias que esta fracción del índice sale más barato ordenarlas que recorrer las llaves
+        private static final int FRACCION_ORDENAR_COINCIDENCIAS = 8;
+
+        // Ordenados por llave para paginar; el ordinal se conserva aunque la cancha se elimine
+        private final TreeMap<UUID, Integer> ordinales = new TreeMap<>();
+        private final List<FichaCancha> fichas = new ArrayList<>();
+        private final MapaBits todas = new MapaBits();
+        private final Faceta<UUID> tipos = new Faceta<>();
+        private final Faceta<UUID> superficies = new Faceta<>();
+        private final Faceta<UUID> municipios = new Faceta<>();
+        private final Faceta<Boolean> iluminacion = new Faceta<>();
+        private final Faceta<Boolean> cubierta = new Faceta<>();
+
+        private void registrar(final FichaCancha ficha) {
+            var ordinal = ordinales.get(ficha.canchaId());
+            if (ordinal == null) {
+                ordinal = fichas.size();
+                ordinales.put(ficha.canchaId(), ordinal);
+                fichas.add(null);
+            } else {
+                quitarDeFacetas(ordinal);
+            }
+            fichas.set(ordinal, ficha);
+            todas.agregar(ordinal);
+            tipos.agregar(ficha.tipoId(), ordinal);
+            superficies.agregar(ficha.superficieId(), ordinal);
+            municipios.agregar(ficha.municipioId(), ordinal);
+            iluminacion.agregar(ficha.iluminacion(), ordinal);
+            cubierta.agregar(ficha.cubierta(), ordinal);
+        }
+
+        private void eliminar(final UUID canchaId) {
+            var ordinal = ordinales.get(canchaId);
+            if (ordinal != null) {
+                quitarDeFacetas(ordinal);
+                fichas.set(ordinal, null);
+                todas.quitar(ordinal);
+            }
+        }
+
+        private void quitarDeFacetas(final int ordinal) {
+            var anterior = fichas.get(ordinal);
+            if (anterior != null) {
+                tipos.quitar(anterior.tipoId(), ordinal);
+                superficies.quitar(anterior.superficieId(), ordinal);
+                municipios.quitar(anterior.municipioId(), ordinal);
+                iluminacion.quitar(anterior.iluminacion(), ordinal);
+                cubierta.quitar(anterior.cubierta(), ordinal);
+            }
+        }
+
+        private ResultadoBusquedaCanchas buscar(final FiltroBusquedaCanchas filtro, final UUID despuesDe, final int limite) {
+            var porTipo = tipos.filtrar(filtro.tipoId());
+            var porSuperficie = superficies.filtrar(filtro.superficieId());
+            var porMunicipio = municipios.filtrar(filtro.municipioId());
+            var porIluminacion = iluminacion.filtrar(filtro.iluminacion());
+            var porCubierta = cubierta.filtrar(filtro.cubierta());
+            var porCosto = filtro.filtraPorCosto() ? filtrarPorCosto(filtro) : null;
+
+            var coincidencias = intersectar(porTipo, porSuperficie, porMunicipio, porIluminacion, porCubierta, porCosto);
+            var conteos = new ConteosFacetas(
+                    tipos.contar(intersectar(porSuperficie, porMunicipio, porIluminacion, porCubierta, porCosto)),
+                    superficies.contar(intersectar(porTipo, porMunicipio, porIluminacion, porCubierta, porCosto)),
+                    municipios.contar(intersectar(porTipo, porSuperficie, porIluminacion, porCubierta, porCosto)),
+                    iluminacion.contar(intersectar(porTipo, porSuperficie, porMunicipio, porCubierta, porCosto)),
+                    cubierta.contar(intersectar(porTipo, porSuperficie, porMunicipio, porIluminacion, porCosto))
+            );
+
+            // Se toma una cancha de más solo para saber si existe una página siguiente
+            var pagina = paginar(coincidencias, despuesDe, limite + 1);
+
+            UUID siguienteCursor = null;
+            if (pagina.size() > limite) {
+                pagina.remove(limite);
+                siguienteCursor = pagina.get(limite - 1).canchaId();
+            }
+            return new ResultadoBusquedaCanchas(pagina, coincidencias.cardinalidad(), conteos, siguienteCursor);
+        }
+
+        // Sin criterios son todas las canchas; con criterios se empieza por el mapa más pequeño
+        private MapaBits intersectar(final MapaBits... filtros) {
+            var pedidos = Stream.of(filtros)
+                    .filter(Objects::nonNull)
+                    .sorted(Comparator.comparingInt(MapaBits::cardinalidad))
+                    .toList();
+            if (pedidos.isEmpty()) {
+                return todas;
+            }
+            var resultado = pedidos.get(0);
+            for (var i = 1; i < pedidos.size() && !resultado.estaVacio(); i++) {
+                resultado = resultado.interseccion(pedidos.get(i));
+            }
+            return resultado;
+        }
+
+        private MapaBits filtrarPorCosto(final FiltroBusquedaCanchas filtro) {
+            var enRango = new MapaBits();
+            todas.recorrer(0, ordinal -> {
+                if (filtro.cumpleCosto(fichas.get(ordinal).costoHora())) {
+                    enRango.agregar(ordinal);
+                }
+                return true;
+            });
+            return enRango;
+        }
+
+        /**
+         * Las primeras cantidad coincidencias con llave mayor que despuesDe. El cursor no tiene que
+         * estar en el índice: basta con compararlo con las llaves.
+         */
+        private List<FichaCancha> paginar(final MapaBits coincidencias, final UUID despuesDe, final int cantidad) {
+            var pagina = new ArrayList<FichaCancha>();
+            if (coincidencias.cardinalidad() * FRACCION_ORDENAR_COINCIDENCIAS < ordinales.size()) {
+                coincidencias.recorrer(0, ordinal -> {
+                    var ficha = fichas.get(ordinal);
+                    if (despuesDe == null || ficha.canchaId().compareTo(despuesDe) > 0) {
+                        pagina.add(ficha);
+                    }
+                    return true;
+                });
+                pagina.sort(Comparator.comparing(FichaCancha::canchaId));
+                return new ArrayList<>(pagina.subList(0, Math.min(cantidad, pagina.size())));
+            }
+
+            var siguientes = despuesDe == null ? ordinales : ordinales.tailMap(despuesDe, false);
+            for (int ordinal : siguientes.values()) {
+                if (coincidencias.contiene(ordinal)) {
+                    pagina.add(fichas.get(ordinal));
+                    if (pagina.size() == cantidad) {
+                        break;
+                    }
+                }
+            }
+            return pagina;
+        }
+    }
+}
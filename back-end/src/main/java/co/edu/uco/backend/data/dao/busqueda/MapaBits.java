@@ -0,0 +1,368 @@
+package co.edu.uco.backend.data.dao.busqueda;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Conjunto de enteros no negativos comprimido al estilo Roaring: los 16 bits altos eligen un
+ * contenedor y los 16 bajos se guardan en él, como arreglo ordenado mientras tenga pocas
+ * posiciones (hasta 4096) o como mapa de 65536 bits cuando se llena. Así un valor de faceta raro
+ * ocupa unos cuantos bytes y uno común se intersecta palabra a palabra.
+ * No es seguro para hilos; quien lo usa lo protege con su propio candado.
+ */
+public final class MapaBits {
+
+    private static final int MAXIMO_ARREGLO = 4096;
+    private static final int PALABRAS = 1024;
+
+    private char[] altos = new char[4];
+    private Contenedor[] contenedores = new Contenedor[4];
+    private int cantidad;
+
+    public void agregar(final int valor) {
+        var alto = (char) (valor >>> 16);
+        var posicion = buscar(alto);
+        if (posicion >= 0) {
+            contenedores[posicion] = contenedores[posicion].agregar((char) valor);
+            return;
+        }
+        insertar(-posicion - 1, alto, new ContenedorArreglo().agregar((char) valor));
+    }
+
+    public void quitar(final int valor) {
+        var posicion = buscar((char) (valor >>> 16));
+        if (posicion < 0) {
+            return;
+        }
+        var contenedor = contenedores[posicion].quitar((char) valor);
+        if (contenedor.cardinalidad == 0) {
+            System.arraycopy(altos, posicion + 1, altos, posicion, cantidad - posicion - 1);
+            System.arraycopy(contenedores, posicion + 1, contenedores, posicion, cantidad - posicion - 1);
+            contenedores[--cantidad] = null;
+        } else {
+            contenedores[posicion] = contenedor;
+        }
+    }
+
+    public boolean contiene(final int valor) {
+        var posicion = buscar((char) (valor >>> 16));
+        return posicion >= 0 && contenedores[posicion].contiene((char) valor);
+    }
+
+    public int cardinalidad() {
+        var total = 0;
+        for (var i = 0; i < cantidad; i++) {
+            total += contenedores[i].cardinalidad;
+        }
+        return total;
+    }
+
+    public boolean estaVacio() {
+        return cantidad == 0;
+    }
+
+    public MapaBits interseccion(final MapaBits otro) {
+        var resultado = new MapaBits();
+        var i = 0;
+        var j = 0;
+        while (i < cantidad && j < otro.cantidad) {
+            if (altos[i] < otro.altos[j]) {
+                i++;
+            } else if (altos[i] > otro.altos[j]) {
+                j++;
+            } else {
+                var contenedor = contenedores[i].interseccion(otro.contenedores[j]);
+                if (contenedor.cardinalidad > 0) {
+                    resultado.insertar(resultado.cantidad, altos[i], contenedor);
+                }
+                i++;
+                j++;
+            }
+        }
+        return resultado;
+    }
+
+    // |this ∩ otro| sin construir la intersección; es lo que se usa para los conteos de facetas
+    public int cardinalidadInterseccion(final MapaBits otro) {
+        var total = 0;
+        var i = 0;
+        var j = 0;
+        while (i < cantidad && j < otro.cantidad) {
+            if (altos[i] < otro.altos[j]) {
+                i++;
+            } else if (altos[i] > otro.altos[j]) {
+                j++;
+            } else {
+                total += contenedores[i].cardinalidadInterseccion(otro.contenedores[j]);
+                i++;
+                j++;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Recorre en orden ascendente los valores mayores o iguales a desde, mientras el consumidor
+     * retorne true.
+     */
+    public void recorrer(final int desde, final IntPredicate consumidor) {
+        var altoDesde = (char) (desde >>> 16);
+        for (var i = 0; i < cantidad; i++) {
+            if (altos[i] < altoDesde) {
+                continue;
+            }
+            var bajoDesde = altos[i] == altoDesde ? desde & 0xFFFF : 0;
+            if (!contenedores[i].recorrer(altos[i] << 16, bajoDesde, consumidor)) {
+                return;
+            }
+        }
+    }
+
+    private int buscar(final char alto) {
+        return Arrays.binarySearch(altos, 0, cantidad, alto);
+    }
+
+    private void insertar(final int posicion, final char alto, final Contenedor contenedor) {
+        if (cantidad == altos.length) {
+            altos = Arrays.copyOf(altos, cantidad * 2);
+            contenedores = Arrays.copyOf(contenedores, cantidad * 2);
+        }
+        System.arraycopy(altos, posicion, altos, posicion + 1, cantidad - posicion);
+        System.arraycopy(contenedores, posicion, contenedores, posicion + 1, cantidad - posicion);
+        altos[posicion] = alto;
+        contenedores[posicion] = contenedor;
+        cantidad++;
+    }
+
+    private abstract static class Contenedor {
+
+        int cardinalidad;
+
+        abstract Contenedor agregar(char valor);
+
+        abstract Contenedor quitar(char valor);
+
+        abstract boolean contiene(char valor);
+
+        abstract Contenedor interseccion(Contenedor otro);
+
+        abstract int cardinalidadInterseccion(Contenedor otro);
+
+        abstract boolean recorrer(int base, int desde, IntPredicate consumidor);
+    }
+
+    private static final class ContenedorArreglo extends Contenedor {
+
+        private char[] valores;
+
+        private ContenedorArreglo() {
+            this(new char[4], 0);
+        }
+
+        private ContenedorArreglo(final char[] valores, final int cardinalidad) {
+            this.valores = valores;
+            this.cardinalidad = cardinalidad;
+        }
+
+        @Override
+        Contenedor agregar(final char valor) {
+            var posicion = Arrays.binarySearch(valores, 0, cardinalidad, valor);
+            if (posicion >= 0) {
+                return this;
+            }
+            if (cardinalidad == MAXIMO_ARREGLO) {
+                return aBits().agregar(valor);
+            }
+            posicion = -posicion - 1;
+            if (cardinalidad == valores.length) {
+                valores = Arrays.copyOf(valores, Math.min(MAXIMO_ARREGLO, Math.max(4, cardinalidad * 2)));
+            }
+            System.arraycopy(valores, posicion, valores, posicion + 1, cardinalidad - posicion);
+            valores[posicion] = valor;
+            cardinalidad++;
+            return this;
+        }
+
+        @Override
+        Contenedor quitar(final char valor) {
+            var posicion = Arrays.binarySearch(valores, 0, cardinalidad, valor);
+            if (posicion >= 0) {
+                System.arraycopy(valores, posicion + 1, valores, posicion, cardinalidad - posicion - 1);
+                cardinalidad--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contiene(final char valor) {
+            return Arrays.binarySearch(valores, 0, cardinalidad, valor) >= 0;
+        }
+
+        @Override
+        Contenedor interseccion(final Contenedor otro) {
+            var resultado = new char[cardinalidad];
+            var total = 0;
+            if (otro instanceof ContenedorBits bits) {
+                for (var i = 0; i < cardinalidad; i++) {
+                    if (bits.contiene(valores[i])) {
+                        resultado[total++] = valores[i];
+                    }
+                }
+            } else {
+                var arreglo = (ContenedorArreglo) otro;
+                var i = 0;
+                var j = 0;
+                while (i < cardinalidad && j < arreglo.cardinalidad) {
+                    if (valores[i] < arreglo.valores[j]) {
+                        i++;
+                    } else if (valores[i] > arreglo.valores[j]) {
+                        j++;
+                    } else {
+                        resultado[total++] = valores[i];
+                        i++;
+                        j++;
+                    }
+                }
+            }
+            return new ContenedorArreglo(resultado, total);
+        }
+
+        @Override
+        int cardinalidadInterseccion(final Contenedor otro) {
+            var total = 0;
+            if (otro instanceof ContenedorBits bits) {
+                for (var i = 0; i < cardinalidad; i++) {
+                    if (bits.contiene(valores[i])) {
+                        total++;
+                    }
+                }
+                return total;
+            }
+            var arreglo = (ContenedorArreglo) otro;
+            var i = 0;
+            var j = 0;
+            while (i < cardinalidad && j < arreglo.cardinalidad) {
+                if (valores[i] < arreglo.valores[j]) {
+                    i++;
+                } else if (valores[i] > arreglo.valores[j]) {
+                    j++;
+                } else {
+                    total++;
+                    i++;
+                    j++;
+                }
+            }
+            return total;
+        }
+
+        @Override
+        boolean recorrer(final int base, final int desde, final IntPredicate consumidor) {
+            var inicio = Arrays.binarySearch(valores, 0, cardinalidad, (char) desde);
+            for (var i = inicio >= 0 ? inicio : -inicio - 1; i < cardinalidad; i++) {
+                if (!consumidor.test(base | valores[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private ContenedorBits aBits() {
+            var bits = new ContenedorBits();
+            for (var i = 0; i < cardinalidad; i++) {
+                bits.palabras[valores[i] >>> 6] |= 1L << valores[i];
+            }
+            bits.cardinalidad = cardinalidad;
+            return bits;
+        }
+    }
+
+    private static final class ContenedorBits extends Contenedor {
+
+        private final long[] palabras = new long[PALABRAS];
+
+        @Override
+        Contenedor agregar(final char valor) {
+            var antes = palabras[valor >>> 6];
+            var despues = antes | (1L << valor);
+            if (antes != despues) {
+                palabras[valor >>> 6] = despues;
+                cardinalidad++;
+            }
+            return this;
+        }
+
+        @Override
+        Contenedor quitar(final char valor) {
+            var antes = palabras[valor >>> 6];
+            var despues = antes & ~(1L << valor);
+            if (antes == despues) {
+                return this;
+            }
+            palabras[valor >>> 6] = despues;
+            cardinalidad--;
+            return cardinalidad <= MAXIMO_ARREGLO ? aArreglo() : this;
+        }
+
+        @Override
+        boolean contiene(final char valor) {
+            return (palabras[valor >>> 6] & (1L << valor)) != 0;
+        }
+
+        @Override
+        Contenedor interseccion(final Contenedor otro) {
+            if (otro instanceof ContenedorArreglo arreglo) {
+                return arreglo.interseccion(this);
+            }
+            var bits = (ContenedorBits) otro;
+            var resultado = new ContenedorBits();
+            var total = 0;
+            for (var i = 0; i < PALABRAS; i++) {
+                resultado.palabras[i] = palabras[i] & bits.palabras[i];
+                total += Long.bitCount(resultado.palabras[i]);
+            }
+            resultado.cardinalidad = total;
+            return total <= MAXIMO_ARREGLO ? resultado.aArreglo() : resultado;
+        }
+
+        @Override
+        int cardinalidadInterseccion(final Contenedor otro) {
+            if (otro instanceof ContenedorArreglo arreglo) {
+                return arreglo.cardinalidadInterseccion(this);
+            }
+            var bits = (ContenedorBits) otro;
+            var total = 0;
+            for (var i = 0; i < PALABRAS; i++) {
+                total += Long.bitCount(palabras[i] & bits.palabras[i]);
+            }
+            return total;
+        }
+
+        @Override
+        boolean recorrer(final int base, final int desde, final IntPredicate consumidor) {
+            for (var i = desde >>> 6; i < PALABRAS; i++) {
+                var palabra = i == desde >>> 6 ? palabras[i] & (-1L << desde) : palabras[i];
+                while (palabra != 0) {
+                    var bajo = (i << 6) + Long.numberOfTrailingZeros(palabra);
+                    if (!consumidor.test(base | bajo)) {
+                        return false;
+                    }
+                    palabra &= palabra - 1;
+                }
+            }
+            return true;
+        }
+
+        private ContenedorArreglo aArreglo() {
+            var valores = new char[cardinalidad];
+            var total = 0;
+            for (var i = 0; i < PALABRAS; i++) {
+                var palabra = palabras[i];
+                while (palabra != 0) {
+                    valores[total++] = (char) ((i << 6) + Long.numberOfTrailingZeros(palabra));
+                    palabra &= palabra - 1;
+                }
+            }
+            return new ContenedorArreglo(valores, total);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package co.edu.uco.backend.data.dao.busqueda;
+
+import co.edu.uco.backend.data.dao.entity.cancha.FichaCancha;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Una página de la búsqueda facetada: las canchas, el total que cumple todos los criterios, los
+ * conteos por faceta y el cursor de la página siguiente (null si es la última).
+ */
+public record ResultadoBusquedaCanchas(
+        List<FichaCancha> canchas,
+        int total,
+        ConteosFacetas facetas,
+        UUID siguienteCursor
+) {
+}
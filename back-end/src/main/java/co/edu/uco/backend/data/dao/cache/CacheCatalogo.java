@@ -0,0 +1,93 @@
+package co.edu.uco.backend.data.dao.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Caché acotada con expiración (TTL) para tablas de catálogo. Guarda y entrega copias de los
+ * valores, así quien los modifique no altera lo que ven las demás solicitudes.
+ * Expone en Micrometer los aciertos/fallos (catalogo.cache.consultas) y el tamaño (catalogo.cache.tamano).
+ */
+public final class CacheCatalogo<K, V> {
+
+    private record Entrada<V>(V valor, long expiraEn) {
+    }
+
+    private final ConcurrentHashMap<K, Entrada<V>> entradas = new ConcurrentHashMap<>();
+    private final UnaryOperator<V> copiador;
+    private final Counter aciertos;
+    private final Counter fallos;
+    private volatile int capacidadMaxima;
+    private volatile long ttlNanos;
+
+    public CacheCatalogo(final String catalogo, final int capacidadMaxima, final Duration ttl, final UnaryOperator<V> copiador) {
+        this.copiador = copiador;
+        configurar(capacidadMaxima, ttl);
+        aciertos = Counter.builder("catalogo.cache.consultas").tag("catalogo", catalogo).tag("resultado", "acierto")
+                .register(Metrics.globalRegistry);
+        fallos = Counter.builder("catalogo.cache.consultas").tag("catalogo", catalogo).tag("resultado", "fallo")
+                .register(Metrics.globalRegistry);
+        Gauge.builder("catalogo.cache.tamano", entradas, Map::size).tag("catalogo", catalogo)
+                .register(Metrics.globalRegistry);
+    }
+
+    public void configurar(final int capacidadMaxima, final Duration ttl) {
+        this.capacidadMaxima = capacidadMaxima;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Retorna una copia del valor en caché, o null si no está o ya expiró.
+     */
+    public V buscar(final K llave) {
+        var entrada = entradas.get(llave);
+        if (entrada == null || entrada.expiraEn() - System.nanoTime() <= 0) {
+            fallos.increment();
+            return null;
+        }
+        aciertos.increment();
+        return copiador.apply(entrada.valor());
+    }
+
+    public void guardar(final K llave, final V valor) {
+        if (entradas.size() >= capacidadMaxima && !entradas.containsKey(llave)) {
+            hacerEspacio();
+        }
+        entradas.put(llave, new Entrada<>(copiador.apply(valor), System.nanoTime() + ttlNanos));
+    }
+
+    public void invalidar(final K llave) {
+        entradas.remove(llave);
+    }
+
+    public void invalidarTodo() {
+        entradas.clear();
+    }
+
+    private void hacerEspacio() {
+        var ahora = System.nanoTime();
+        entradas.values().removeIf(entrada -> entrada.expiraEn() - ahora <= 0);
+
+        // Si todo sigue vigente se descarta la entrada más próxima a expirar
+        while (entradas.size() >= capacidadMaxima) {
+            K masAntigua = null;
+            var expiraPrimero = Long.MAX_VALUE;
+            for (var registro : entradas.entrySet()) {
+                if (masAntigua == null || registro.getValue().expiraEn() - expiraPrimero < 0) {
+                    masAntigua = registro.getKey();
+                    expiraPrimero = registro.getValue().expiraEn();
+                }
+            }
+            if (masAntigua == null) {
+                return;
+            }
+            entradas.remove(masAntigua);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package co.edu.uco.backend.data.dao.cache;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.entity.resumencalificacion.ResumenCalificacion;
+import co.edu.uco.backend.data.dao.indice.IndiceEnMemoria;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resúmenes de calificación en memoria, uno por cancha o por organización, para mostrar la
+ * calificación sin consultar la base de datos. ResenaBusinessLogicImpl publica cada resumen
+ * después del COMMIT; como las publicaciones de transacciones simultáneas pueden llegar en
+ * desorden, siempre se conserva el de mayor versión. Una vez cargada completa, una llave que no
+ * está significa que no hay reseñas.
+ */
+public final class CacheResumenesCalificacion {
+
+    private static final CacheResumenesCalificacion CANCHAS = new CacheResumenesCalificacion();
+    private static final CacheResumenesCalificacion ORGANIZACIONES = new CacheResumenesCalificacion();
+
+    private final ConcurrentHashMap<UUID, ResumenCalificacion> resumenes = new ConcurrentHashMap<>();
+    private volatile boolean cargada;
+
+    private CacheResumenesCalificacion() {
+        super();
+    }
+
+    public static CacheResumenesCalificacion deCanchas() {
+        return CANCHAS;
+    }
+
+    public static CacheResumenesCalificacion deOrganizaciones() {
+        return ORGANIZACIONES;
+    }
+
+    public boolean estaCargada() {
+        return cargada;
+    }
+
+    // Se carga sobre el mismo mapa: lo que se publique mientras tanto no se pierde porque gana la versión mayor
+    public void cargar(final IndiceEnMemoria.Fuente<ResumenCalificacion> fuente) throws BackEndException {
+        fuente.recorrer(this::actualizar);
+        cargada = true;
+    }
+
+    /**
+     * El resumen en memoria; con la caché cargada uno vacío si no hay reseñas, y sin cargar null
+     * cuando hay que leerlo de la base de datos.
+     */
+    public ResumenCalificacion buscar(final UUID id) {
+        var resumen = resumenes.get(id);
+        if (resumen == null && cargada) {
+            return ResumenCalificacion.vacio(id);
+        }
+        return resumen;
+    }
+
+    public void actualizar(final ResumenCalificacion resumen) {
+        if (resumen.version() > 0) {
+            resumenes.merge(resumen.id(), resumen,
+                    (actual, nuevo) -> nuevo.version() > actual.version() ? nuevo : actual);
+        }
+    }
+
+    public int tamano() {
+        return resumenes.size();
+    }
+}
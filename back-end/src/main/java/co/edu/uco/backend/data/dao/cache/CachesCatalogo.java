@@ -0,0 +1,114 @@
+package co.edu.uco.backend.data.dao.cache;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.entity.DepartamentoEntity;
+import co.edu.uco.backend.entity.DimensionEntity;
+import co.edu.uco.backend.entity.EstadoReservaEntity;
+import co.edu.uco.backend.entity.MunicipioEntity;
+import co.edu.uco.backend.entity.SuperficieEntity;
+import co.edu.uco.backend.entity.TipoCanchaEntity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Registro de las cachés de catálogos compartidas por todas las solicitudes. Los DAO de caché
+ * (impl/cache) leen de aquí y las invalidan cuando se crea, modifica o elimina un registro.
+ */
+public final class CachesCatalogo {
+
+    public static final int CAPACIDAD_DEFECTO = 1000;
+    public static final Duration TTL_DEFECTO = Duration.ofMinutes(10);
+
+    private static final CachesCatalogo INSTANCE = new CachesCatalogo();
+
+    private final CacheCatalogo<UUID, EstadoReservaEntity> estadosReserva = new CacheCatalogo<>("estadoreserva",
+            CAPACIDAD_DEFECTO, TTL_DEFECTO, CachesCatalogo::copiar);
+    private final CacheCatalogo<String, List<EstadoReservaEntity>> consultasEstadoReserva = new CacheCatalogo<>(
+            "estadoreserva.consulta", CAPACIDAD_DEFECTO, TTL_DEFECTO,
+            estados -> estados.stream().map(CachesCatalogo::copiar).toList());
+    private final CacheCatalogo<UUID, TipoCanchaEntity> tiposCancha = new CacheCatalogo<>("tipocancha",
+            CAPACIDAD_DEFECTO, TTL_DEFECTO,
+            tipo -> new TipoCanchaEntity(tipo.getId(), tipo.getNombre(), tipo.getJugadoresRecomendados()));
+    private final CacheCatalogo<UUID, SuperficieEntity> superficies = new CacheCatalogo<>("superficie",
+            CAPACIDAD_DEFECTO, TTL_DEFECTO, superficie -> new SuperficieEntity(superficie.getId(), superficie.getNombre()));
+    private final CacheCatalogo<UUID, DimensionEntity> dimensiones = new CacheCatalogo<>("dimension",
+            CAPACIDAD_DEFECTO, TTL_DEFECTO,
+            dimension -> new DimensionEntity(dimension.getId(), dimension.getLargo(), dimension.getAncho()));
+    private final CacheCatalogo<UUID, DepartamentoEntity> departamentos = new CacheCatalogo<>("departamento",
+            CAPACIDAD_DEFECTO, TTL_DEFECTO, CachesCatalogo::copiar);
+    private final CacheCatalogo<UUID, MunicipioEntity> municipios = new CacheCatalogo<>("municipio",
+            CAPACIDAD_DEFECTO, TTL_DEFECTO,
+            municipio -> new MunicipioEntity(municipio.getId(), municipio.getNombre(), copiar(municipio.getDepartamento())));
+
+    private CachesCatalogo() {
+        super();
+    }
+
+    public static CachesCatalogo getInstance() {
+        return INSTANCE;
+    }
+
+    public void configurar(final int capacidadMaxima, final Duration ttl) {
+        for (CacheCatalogo<?, ?> cache : List.of(estadosReserva, consultasEstadoReserva, tiposCancha, superficies,
+                dimensiones, departamentos, municipios)) {
+            cache.configurar(capacidadMaxima, ttl);
+        }
+    }
+
+    /**
+     * Carga todos los catálogos en una sola conexión; se usa al arrancar la aplicación para que
+     * las primeras solicitudes no paguen la consulta.
+     */
+    public void precargar(final DAOFactory factory) throws BackEndException {
+        factory.abrirConexion();
+        try {
+            factory.getEstadoReservaDAO().consultar(null).forEach(estado -> estadosReserva.guardar(estado.getId(), estado));
+            factory.getTipoCanchaDAO().consultar(null).forEach(tipo -> tiposCancha.guardar(tipo.getId(), tipo));
+            factory.getSuperficieDAO().consultar(null).forEach(superficie -> superficies.guardar(superficie.getId(), superficie));
+            factory.getDimensionDAO().consultar(null).forEach(dimension -> dimensiones.guardar(dimension.getId(), dimension));
+            factory.getDepartamentoDAO().consultar(null).forEach(departamento -> departamentos.guardar(departamento.getId(), departamento));
+            factory.getMunicipioDAO().consultar(null).forEach(municipio -> municipios.guardar(municipio.getId(), municipio));
+        } finally {
+            factory.cerrarConexion();
+        }
+    }
+
+    public CacheCatalogo<UUID, EstadoReservaEntity> getEstadosReserva() {
+        return estadosReserva;
+    }
+
+    public CacheCatalogo<String, List<EstadoReservaEntity>> getConsultasEstadoReserva() {
+        return consultasEstadoReserva;
+    }
+
+    public CacheCatalogo<UUID, TipoCanchaEntity> getTiposCancha() {
+        return tiposCancha;
+    }
+
+    public CacheCatalogo<UUID, SuperficieEntity> getSuperficies() {
+        return superficies;
+    }
+
+    public CacheCatalogo<UUID, DimensionEntity> getDimensiones() {
+        return dimensiones;
+    }
+
+    public CacheCatalogo<UUID, DepartamentoEntity> getDepartamentos() {
+        return departamentos;
+    }
+
+    public CacheCatalogo<UUID, MunicipioEntity> getMunicipios() {
+        return municipios;
+    }
+
+    private static EstadoReservaEntity copiar(final EstadoReservaEntity estado) {
+        return new EstadoReservaEntity(estado.getId(), estado.getNombre());
+    }
+
+    private static DepartamentoEntity copiar(final DepartamentoEntity departamento) {
+        return departamento == null ? null : new DepartamentoEntity(departamento.getId(), departamento.getNombre());
+    }
+}
@@ -0,0 +1,105 @@
+package co.edu.uco.backend.data.dao.cache;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.data.dao.entity.CreateDAO;
+import co.edu.uco.backend.data.dao.entity.DeleteDAO;
+import co.edu.uco.backend.data.dao.entity.RetrieveDAO;
+import co.edu.uco.backend.data.dao.entity.UpdateDAO;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Decorador de lectura a través de caché para los DAO de catálogos. consultarPorId se resuelve
+ * en memoria cuando es posible; toda escritura pasa al DAO real y la entrada se invalida cuando
+ * la transacción se confirma. Invalidar antes dejaría que otra solicitud vuelva a guardar el valor
+ * anterior, aún confirmado, entre la escritura y el COMMIT; si la transacción se revierte, la entrada
+ * sigue siendo válida. Al confirmar incrementa además la versión del recurso (VersionesRecursos) con
+ * la que el API arma los ETag.
+ */
+public abstract class CatalogoCacheDAO<E, D extends CreateDAO<E> & RetrieveDAO<E, UUID> & UpdateDAO<E, UUID> & DeleteDAO<UUID>> {
+
+    protected final D delegado;
+    protected final CacheCatalogo<UUID, E> cache;
+    protected final DAOFactory factory;
+    private final VersionesRecursos.Recurso recurso;
+
+    protected CatalogoCacheDAO(final D delegado, final CacheCatalogo<UUID, E> cache, final DAOFactory factory,
+                               final VersionesRecursos.Recurso recurso) {
+        this.delegado = delegado;
+        this.cache = cache;
+        this.factory = factory;
+        this.recurso = recurso;
+    }
+
+    protected abstract UUID obtenerId(E entity);
+
+    public void crear(final E entity) throws BackEndException {
+        delegado.crear(entity);
+        var id = obtenerId(entity);
+        invalidarAlConfirmar(() -> cache.invalidar(id));
+        registrarCambio(recurso);
+    }
+
+    public void eliminar(final UUID id) throws BackEndException {
+        delegado.eliminar(id);
+        invalidarAlConfirmar(() -> cache.invalidar(id));
+        registrarCambio(recurso);
+    }
+
+    public List<E> consultar(final E filtro) throws BackEndException {
+        return delegado.consultar(filtro);
+    }
+
+    public E consultarPorId(final UUID id) throws BackEndException {
+        var enCache = cache.buscar(id);
+        if (enCache != null) {
+            return enCache;
+        }
+
+        var entity = delegado.consultarPorId(id);
+        // Los "no encontrado" no se guardan, así un registro recién creado en otra instancia aparece de inmediato
+        if (!UtilUUID.esValorDefecto(obtenerId(entity))) {
+            cache.guardar(id, entity);
+        }
+        return entity;
+    }
+
+    public void modificar(final UUID id, final E entity) throws BackEndException {
+        delegado.modificar(id, entity);
+        invalidarAlConfirmar(() -> cache.invalidar(id));
+        registrarCambio(recurso);
+    }
+
+    public void crearTodos(final List<E> entities) throws BackEndException {
+        delegado.crearTodos(entities);
+        var ids = entities.stream().map(this::obtenerId).toList();
+        invalidarAlConfirmar(() -> ids.forEach(cache::invalidar));
+        registrarCambio(recurso);
+    }
+
+    public void modificarTodos(final Map<UUID, E> entities) throws BackEndException {
+        delegado.modificarTodos(entities);
+        var ids = List.copyOf(entities.keySet());
+        invalidarAlConfirmar(() -> ids.forEach(cache::invalidar));
+        registrarCambio(recurso);
+    }
+
+    public void eliminarTodos(final List<UUID> ids) throws BackEndException {
+        delegado.eliminarTodos(ids);
+        var eliminados = List.copyOf(ids);
+        invalidarAlConfirmar(() -> eliminados.forEach(cache::invalidar));
+        registrarCambio(recurso);
+    }
+
+    protected void invalidarAlConfirmar(final Runnable invalidacion) throws BackEndException {
+        factory.alConfirmarTransaccion(invalidacion);
+    }
+
+    protected void registrarCambio(final VersionesRecursos.Recurso recursoModificado) throws BackEndException {
+        factory.alConfirmarTransaccion(() -> VersionesRecursos.getInstance().incrementar(recursoModificado));
+    }
+}
@@ -0,0 +1,59 @@
+package co.edu.uco.backend.data.dao.cache;
+
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+/**
+ * Envuelve un DAO en un proxy de su interfaz que, después de cada escritura (crear, modificar,
+ * eliminar o importar, uno o varios), incrementa al confirmar la versión de los recursos que se
+ * arman con sus datos. Es para las tablas que no tienen ETag propio pero aparecen dentro de otro
+ * recurso: una cancha se sirve con su tipo, superficie, dimensión, ubicación, organización y horarios,
+ * así que escribir cualquiera de ellos debe cambiar la versión de CANCHA.
+ */
+public final class DAOVersionado implements InvocationHandler {
+
+    private static final List<String> ESCRITURAS = List.of("crear", "modificar", "eliminar", "importar");
+
+    private final Object delegado;
+    private final DAOFactory factory;
+    private final VersionesRecursos.Recurso[] recursos;
+
+    private DAOVersionado(final Object delegado, final DAOFactory factory, final VersionesRecursos.Recurso[] recursos) {
+        this.delegado = delegado;
+        this.factory = factory;
+        this.recursos = recursos.clone();
+    }
+
+    public static <T> T versionar(final Class<T> interfaz, final T delegado, final DAOFactory factory,
+                                  final VersionesRecursos.Recurso... recursos) {
+        return interfaz.cast(Proxy.newProxyInstance(interfaz.getClassLoader(), new Class<?>[]{interfaz},
+                new DAOVersionado(delegado, factory, recursos)));
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method metodo, final Object[] argumentos) throws Throwable {
+        Object resultado;
+        try {
+            resultado = metodo.invoke(delegado, argumentos);
+        } catch (InvocationTargetException excepcion) {
+            throw excepcion.getCause();
+        }
+
+        // Solo si la escritura no falló: si la transacción se revierte, la acción nunca corre
+        if (metodo.getDeclaringClass() != Object.class && esEscritura(metodo.getName())) {
+            for (VersionesRecursos.Recurso recurso : recursos) {
+                factory.alConfirmarTransaccion(() -> VersionesRecursos.getInstance().incrementar(recurso));
+            }
+        }
+        return resultado;
+    }
+
+    private static boolean esEscritura(final String metodo) {
+        return ESCRITURAS.stream().anyMatch(metodo::startsWith);
+    }
+}
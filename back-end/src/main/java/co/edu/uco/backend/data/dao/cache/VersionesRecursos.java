@@ -0,0 +1,81 @@
+package co.edu.uco.backend.data.dao.cache;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Versión de cada tipo de recurso que se sirve con ETag. Los decoradores de escritura (CatalogoCacheDAO,
+ * CanchaIndicesDAO) la incrementan cuando la factoría confirma la transacción, así una versión nunca
+ * se asocia a datos sin confirmar.
+ *
+ * El contador es de esta instancia: la época aleatoria evita repetir etiquetas tras un reinicio, y una
+ * versión con más de la vigencia configurada se renueva sola, igual que el TTL de las cachés de
+ * catálogo acota lo que tarda en verse una escritura hecha en otra instancia. Hasta entonces esta
+ * instancia puede seguir respondiendo 304 a una etiqueta que ya no corresponde a la base de datos,
+ * por eso cada recurso puede tener su propia vigencia: más corta para los que se revalidan siempre.
+ */
+public final class VersionesRecursos {
+
+    public enum Recurso {
+        CANCHA, TIPO_CANCHA, SUPERFICIE, DIMENSION, ESTADO_RESERVA, DEPARTAMENTO, MUNICIPIO
+    }
+
+    private record Version(long numero, long desde) {
+    }
+
+    private static final VersionesRecursos INSTANCE = new VersionesRecursos();
+
+    private final String epoca = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final Map<Recurso, AtomicReference<Version>> versiones = new EnumMap<>(Recurso.class);
+    private volatile Map<Recurso, Long> vigenciasNanos = new EnumMap<>(Recurso.class);
+
+    private VersionesRecursos() {
+        var ahora = System.nanoTime();
+        for (Recurso recurso : Recurso.values()) {
+            versiones.put(recurso, new AtomicReference<>(new Version(0, ahora)));
+            vigenciasNanos.put(recurso, Duration.ofMinutes(10).toNanos());
+        }
+    }
+
+    public static VersionesRecursos getInstance() {
+        return INSTANCE;
+    }
+
+    public void configurar(final Duration vigencia) {
+        for (Recurso recurso : Recurso.values()) {
+            configurar(recurso, vigencia);
+        }
+    }
+
+    // Se reemplaza el mapa completo para que quien lo lee vea siempre uno terminado
+    public synchronized void configurar(final Recurso recurso, final Duration vigencia) {
+        var vigencias = new EnumMap<>(vigenciasNanos);
+        vigencias.put(recurso, vigencia.toNanos());
+        vigenciasNanos = vigencias;
+    }
+
+    public void incrementar(final Recurso recurso) {
+        var ahora = System.nanoTime();
+        versiones.get(recurso).updateAndGet(version -> new Version(version.numero() + 1, ahora));
+    }
+
+    /**
+     * Retorna la versión vigente como texto opaco (época y número). Quien arma una respuesta debe
+     * leerla antes de consultar los datos: si una escritura confirma en medio, la respuesta queda
+     * con la versión anterior y el siguiente sondeo la descarta.
+     */
+    public String consultar(final Recurso recurso) {
+        var referencia = versiones.get(recurso);
+        var version = referencia.get();
+        var ahora = System.nanoTime();
+        if (ahora - version.desde() > vigenciasNanos.get(recurso)) {
+            // Si otra solicitud la renovó primero, se usa la suya
+            referencia.compareAndSet(version, new Version(version.numero() + 1, ahora));
+            version = referencia.get();
+        }
+        return epoca + "." + version.numero();
+    }
+}
@@ -2,6 +2,15 @@ package co.edu.uco.backend.data.dao.entity;
 
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 
+import java.util.List;
+
 public interface CreateDAO<E> {
     void crear(E entity) throws BackEndException;
+
+    // Los DAO PostgreSQL lo envían como lote (addBatch/executeBatch); por defecto, uno a uno
+    default void crearTodos(List<E> entities) throws BackEndException {
+        for (E entity : entities) {
+            crear(entity);
+        }
+    }
 }
@@ -2,6 +2,14 @@ package co.edu.uco.backend.data.dao.entity;
 
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 
+import java.util.List;
+
 public interface DeleteDAO<ID> {
     void eliminar(ID id) throws BackEndException;
+
+    default void eliminarTodos(List<ID> ids) throws BackEndException {
+        for (ID id : ids) {
+            eliminar(id);
+        }
+    }
 }
@@ -0,0 +1,19 @@
+package co.edu.uco.backend.data.dao.entity;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado de una consulta paginada por llave (keyset). siguienteCursor es la llave del último
+ * elemento entregado y es null cuando ya no hay más registros por consultar.
+ */
+public record Pagina<E>(List<E> elementos, UUID siguienteCursor) {
+
+    public Pagina {
+        elementos = elementos == null ? List.of() : List.copyOf(elementos);
+    }
+
+    public boolean tieneSiguiente() {
+        return siguienteCursor != null;
+    }
+}
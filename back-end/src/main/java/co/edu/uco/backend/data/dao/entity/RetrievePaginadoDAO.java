@@ -0,0 +1,12 @@
+package co.edu.uco.backend.data.dao.entity;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+
+/**
+ * Consulta por páginas usando la llave primaria como cursor: cada página continúa después de la
+ * última llave entregada (WHERE llave > despuesDe ORDER BY llave LIMIT limite), así el costo no
+ * crece con el número de página como sucede con OFFSET.
+ */
+public interface RetrievePaginadoDAO<E, ID> {
+    Pagina<E> consultar(E filtro, ID despuesDe, int limite) throws BackEndException;
+}
@@ -2,6 +2,15 @@ package co.edu.uco.backend.data.dao.entity;
 
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 
+import java.util.Map;
+
 public interface UpdateDAO<E, ID> {
     void modificar(ID id, E entity) throws BackEndException;
+
+    // Las filas se modifican en el orden de iteración del mapa; LinkedHashMap para fijarlo
+    default void modificarTodos(Map<ID, E> entities) throws BackEndException {
+        for (Map.Entry<ID, E> entry : entities.entrySet()) {
+            modificar(entry.getKey(), entry.getValue());
+        }
+    }
 }
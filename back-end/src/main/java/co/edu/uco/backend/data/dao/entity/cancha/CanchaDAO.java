@@ -1,17 +1,49 @@
 package co.edu.uco.backend.data.dao.entity.cancha;
 
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.data.dao.entity.CreateDAO;
 import co.edu.uco.backend.data.dao.entity.DeleteDAO;
 import co.edu.uco.backend.data.dao.entity.RetrieveDAO;
+import co.edu.uco.backend.data.dao.entity.RetrievePaginadoDAO;
 import co.edu.uco.backend.data.dao.entity.UpdateDAO;
 import co.edu.uco.backend.entity.CanchaEntity;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface CanchaDAO extends
         CreateDAO<CanchaEntity>,
         RetrieveDAO<CanchaEntity, UUID>,
+        RetrievePaginadoDAO<CanchaEntity, UUID>,
         UpdateDAO<CanchaEntity, UUID>,
         DeleteDAO<UUID> {
 
+    // Todas las canchas que tienen ubicación precisa, entregadas al consumidor a medida que se leen
+    void consultarGeolocalizadas(Consumer<CanchaGeolocalizada> consumidor) throws BackEndException;
+
+    // null si la cancha no existe o todavía no tiene ubicación precisa
+    CanchaGeolocalizada consultarGeolocalizadaPorId(UUID canchaId) throws BackEndException;
+
+    List<CanchaGeolocalizada> consultarGeolocalizadasPorUbicacion(UUID ubicacionId) throws BackEndException;
+
+    // Todas las canchas, en orden de codigocancha, entregadas al consumidor a medida que se leen
+    void consultarFichas(Consumer<FichaCancha> consumidor) throws BackEndException;
+
+    // null si la cancha no existe
+    FichaCancha consultarFichaPorId(UUID canchaId) throws BackEndException;
+
+    List<FichaCancha> consultarFichasPorUbicacion(UUID ubicacionId) throws BackEndException;
+
+    // Las proyecciones de varias canchas en una sola consulta; las que no existen o no aplican se omiten
+    List<CanchaGeolocalizada> consultarGeolocalizadasPorIds(Collection<UUID> canchaIds) throws BackEndException;
+
+    List<FichaCancha> consultarFichasPorIds(Collection<UUID> canchaIds) throws BackEndException;
+
+    // De los nombres recibidos, los que ya usa alguna cancha; la comparación ignora mayúsculas
+    List<String> consultarNombresExistentes(Collection<String> nombres) throws BackEndException;
+
+    // Carga masiva en la transacción actual (COPY en PostgreSQL); las filas deben llegar ya validadas
+    void importarTodos(List<CanchaEntity> canchas) throws BackEndException;
 }
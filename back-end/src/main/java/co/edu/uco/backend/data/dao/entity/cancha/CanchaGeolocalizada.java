@@ -0,0 +1,16 @@
+package co.edu.uco.backend.data.dao.entity.cancha;
+
+import java.util.UUID;
+
+/**
+ * Proyección de solo lectura de una cancha con las coordenadas de su ubicación precisa ya
+ * resueltas por el JOIN; es lo que necesita el índice geográfico de canchas.
+ */
+public record CanchaGeolocalizada(
+        UUID canchaId,
+        String nombre,
+        UUID ubicacionId,
+        double latitud,
+        double longitud
+) {
+}
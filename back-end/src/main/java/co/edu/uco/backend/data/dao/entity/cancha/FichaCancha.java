@@ -0,0 +1,19 @@
+package co.edu.uco.backend.data.dao.entity.cancha;
+
+import java.util.UUID;
+
+/**
+ * Proyección de solo lectura de una cancha con los atributos por los que se filtra la búsqueda;
+ * el municipio sale del JOIN con la ubicación precisa y es null si la cancha todavía no la tiene.
+ */
+public record FichaCancha(
+        UUID canchaId,
+        String nombre,
+        UUID tipoId,
+        UUID superficieId,
+        UUID municipioId,
+        double costoHora,
+        boolean iluminacion,
+        boolean cubierta
+) {
+}
@@ -0,0 +1,199 @@
+package co.edu.uco.backend.data.dao.entity.cancha.impl.indice;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.busqueda.IndiceFacetasCanchas;
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
+import co.edu.uco.backend.data.dao.entity.Pagina;
+import co.edu.uco.backend.data.dao.entity.cancha.CanchaDAO;
+import co.edu.uco.backend.data.dao.entity.cancha.CanchaGeolocalizada;
+import co.edu.uco.backend.data.dao.entity.cancha.FichaCancha;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.data.dao.geo.IndiceGeograficoCanchas;
+import co.edu.uco.backend.entity.CanchaEntity;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Decorador que mantiene IndiceGeograficoCanchas e IndiceFacetasCanchas al día con las escrituras
+ * de canchas. La posición y la ficha se releen dentro de la misma transacción y se aplican a los
+ * índices solo cuando la factoría confirma, junto con la versión de canchas que usan los ETag.
+ */
+public class CanchaIndicesDAO implements CanchaDAO {
+
+    private final CanchaDAO delegado;
+    private final DAOFactory factory;
+
+    public CanchaIndicesDAO(final CanchaDAO delegado, final DAOFactory factory) {
+        this.delegado = delegado;
+        this.factory = factory;
+    }
+
+    @Override
+    public void crear(final CanchaEntity entity) throws BackEndException {
+        delegado.crear(entity);
+        actualizarIndices(entity.getId());
+        registrarCambio();
+    }
+
+    @Override
+    public void modificar(final UUID id, final CanchaEntity entity) throws BackEndException {
+        delegado.modificar(id, entity);
+        actualizarIndices(id);
+        registrarCambio();
+    }
+
+    @Override
+    public void importarTodos(final List<CanchaEntity> canchas) throws BackEndException {
+        delegado.importarTodos(canchas);
+        actualizarIndices(canchas.stream().map(CanchaEntity::getId).toList());
+        registrarCambio();
+    }
+
+    @Override
+    public void eliminar(final UUID id) throws BackEndException {
+        delegado.eliminar(id);
+        factory.alConfirmarTransaccion(() -> {
+            IndiceGeograficoCanchas.getInstance().eliminar(id);
+            IndiceFacetasCanchas.getInstance().eliminar(id);
+        });
+        registrarCambio();
+    }
+
+    @Override
+    public void crearTodos(final List<CanchaEntity> canchas) throws BackEndException {
+        delegado.crearTodos(canchas);
+        actualizarIndices(canchas.stream().map(CanchaEntity::getId).toList());
+        registrarCambio();
+    }
+
+    @Override
+    public void modificarTodos(final Map<UUID, CanchaEntity> canchas) throws BackEndException {
+        delegado.modificarTodos(canchas);
+        actualizarIndices(List.copyOf(canchas.keySet()));
+        registrarCambio();
+    }
+
+    @Override
+    public void eliminarTodos(final List<UUID> ids) throws BackEndException {
+        delegado.eliminarTodos(ids);
+        factory.alConfirmarTransaccion(() -> ids.forEach(id -> {
+            IndiceGeograficoCanchas.getInstance().eliminar(id);
+            IndiceFacetasCanchas.getInstance().eliminar(id);
+        }));
+        registrarCambio();
+    }
+
+    @Override
+    public List<CanchaGeolocalizada> consultarGeolocalizadasPorIds(final Collection<UUID> canchaIds) throws BackEndException {
+        return delegado.consultarGeolocalizadasPorIds(canchaIds);
+    }
+
+    @Override
+    public List<FichaCancha> consultarFichasPorIds(final Collection<UUID> canchaIds) throws BackEndException {
+        return delegado.consultarFichasPorIds(canchaIds);
+    }
+
+    @Override
+    public List<String> consultarNombresExistentes(final Collection<String> nombres) throws BackEndException {
+        return delegado.consultarNombresExistentes(nombres);
+    }
+
+    @Override
+    public List<CanchaEntity> consultar(final CanchaEntity filtro) throws BackEndException {
+        return delegado.consultar(filtro);
+    }
+
+    @Override
+    public Pagina<CanchaEntity> consultar(final CanchaEntity filtro, final UUID despuesDe, final int limite) throws BackEndException {
+        return delegado.consultar(filtro, despuesDe, limite);
+    }
+
+    @Override
+    public CanchaEntity consultarPorId(final UUID id) throws BackEndException {
+        return delegado.consultarPorId(id);
+    }
+
+    @Override
+    public void consultarGeolocalizadas(final Consumer<CanchaGeolocalizada> consumidor) throws BackEndException {
+        delegado.consultarGeolocalizadas(consumidor);
+    }
+
+    @Override
+    public CanchaGeolocalizada consultarGeolocalizadaPorId(final UUID canchaId) throws BackEndException {
+        return delegado.consultarGeolocalizadaPorId(canchaId);
+    }
+
+    @Override
+    public List<CanchaGeolocalizada> consultarGeolocalizadasPorUbicacion(final UUID ubicacionId) throws BackEndException {
+        return delegado.consultarGeolocalizadasPorUbicacion(ubicacionId);
+    }
+
+    @Override
+    public void consultarFichas(final Consumer<FichaCancha> consumidor) throws BackEndException {
+        delegado.consultarFichas(consumidor);
+    }
+
+    @Override
+    public FichaCancha consultarFichaPorId(final UUID canchaId) throws BackEndException {
+        return delegado.consultarFichaPorId(canchaId);
+    }
+
+    @Override
+    public List<FichaCancha> consultarFichasPorUbicacion(final UUID ubicacionId) throws BackEndException {
+        return delegado.consultarFichasPorUbicacion(ubicacionId);
+    }
+
+    // Una cancha que se queda sin ubicación precisa sale del índice geográfico, pero no del de facetas
+    private void actualizarIndices(final UUID canchaId) throws BackEndException {
+        var geolocalizada = delegado.consultarGeolocalizadaPorId(canchaId);
+        var ficha = delegado.consultarFichaPorId(canchaId);
+        factory.alConfirmarTransaccion(() -> {
+            if (geolocalizada == null) {
+                IndiceGeograficoCanchas.getInstance().eliminar(canchaId);
+            } else {
+                IndiceGeograficoCanchas.getInstance().actualizar(geolocalizada);
+            }
+            if (ficha == null) {
+                IndiceFacetasCanchas.getInstance().eliminar(canchaId);
+            } else {
+                IndiceFacetasCanchas.getInstance().actualizar(ficha);
+            }
+        });
+    }
+
+    // Las escrituras en lote releen sus proyecciones con dos consultas en total, no dos por cancha
+    private void actualizarIndices(final List<UUID> canchaIds) throws BackEndException {
+        if (canchaIds.isEmpty()) {
+            return;
+        }
+        var geolocalizadas = new HashMap<UUID, CanchaGeolocalizada>();
+        delegado.consultarGeolocalizadasPorIds(canchaIds).forEach(cancha -> geolocalizadas.put(cancha.canchaId(), cancha));
+        var fichas = new HashMap<UUID, FichaCancha>();
+        delegado.consultarFichasPorIds(canchaIds).forEach(ficha -> fichas.put(ficha.canchaId(), ficha));
+        factory.alConfirmarTransaccion(() -> {
+            for (UUID canchaId : canchaIds) {
+                var geolocalizada = geolocalizadas.get(canchaId);
+                if (geolocalizada == null) {
+                    IndiceGeograficoCanchas.getInstance().eliminar(canchaId);
+                } else {
+                    IndiceGeograficoCanchas.getInstance().actualizar(geolocalizada);
+                }
+                var ficha = fichas.get(canchaId);
+                if (ficha == null) {
+                    IndiceFacetasCanchas.getInstance().eliminar(canchaId);
+                } else {
+                    IndiceFacetasCanchas.getInstance().actualizar(ficha);
+                }
+            }
+        });
+    }
+
+    private void registrarCambio() throws BackEndException {
+        factory.alConfirmarTransaccion(() -> VersionesRecursos.getInstance().incrementar(VersionesRecursos.Recurso.CANCHA));
+    }
+}
@@ -0,0 +1,168 @@
+package co.edu.uco.backend.data.dao.entity.cancha.impl.memoria;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilObjeto;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.data.dao.entity.Pagina;
+import co.edu.uco.backend.data.dao.entity.cancha.CanchaDAO;
+import co.edu.uco.backend.data.dao.entity.cancha.CanchaGeolocalizada;
+import co.edu.uco.backend.data.dao.entity.cancha.FichaCancha;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.data.dao.memoria.MemoriaDAO;
+import co.edu.uco.backend.data.dao.memoria.SesionMemoria;
+import co.edu.uco.backend.data.dao.memoria.TablaMemoria;
+import co.edu.uco.backend.entity.CanchaEntity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public class CanchaMemoriaDAO extends MemoriaDAO<CanchaEntity> implements CanchaDAO {
+
+    private final BaseDatosMemoria baseDatos = BaseDatosMemoria.getInstance();
+
+    public CanchaMemoriaDAO(final SesionMemoria sesion) {
+        super(sesion, BaseDatosMemoria.getInstance().getCanchas());
+    }
+
+    // Filtrar por organización es el caso común (canchas de una organización): se resuelve con el índice
+    @Override
+    public List<CanchaEntity> consultar(final CanchaEntity filtro) throws BackEndException {
+        if (UtilObjeto.getInstance().esNulo(filtro) || UtilUUID.esValorDefecto(filtro.getOrganizacion().getId())) {
+            return super.consultar(filtro);
+        }
+        return sesion.consultarPorIndice(tabla, BaseDatosMemoria.INDICE_CANCHA_POR_ORGANIZACION,
+                filtro.getOrganizacion().getId(), fila -> cumpleFiltro(filtro, fila));
+    }
+
+    @Override
+    public void importarTodos(final List<CanchaEntity> canchas) throws BackEndException {
+        for (CanchaEntity cancha : canchas) {
+            crear(cancha);
+        }
+    }
+
+    @Override
+    public Pagina<CanchaEntity> consultar(final CanchaEntity filtro, final UUID despuesDe, final int limite) throws BackEndException {
+        return consultarPagina(filtro, despuesDe, limite);
+    }
+
+    @Override
+    public void consultarGeolocalizadas(final Consumer<CanchaGeolocalizada> consumidor) throws BackEndException {
+        for (CanchaEntity cancha : sesion.consultar(tabla, fila -> true)) {
+            var geolocalizada = geolocalizar(cancha);
+            if (geolocalizada != null) {
+                consumidor.accept(geolocalizada);
+            }
+        }
+    }
+
+    @Override
+    public CanchaGeolocalizada consultarGeolocalizadaPorId(final UUID canchaId) throws BackEndException {
+        var cancha = sesion.consultarPorId(tabla, canchaId);
+        return cancha == null ? null : geolocalizar(cancha);
+    }
+
+    @Override
+    public List<CanchaGeolocalizada> consultarGeolocalizadasPorUbicacion(final UUID ubicacionId) throws BackEndException {
+        var canchas = new ArrayList<CanchaGeolocalizada>();
+        for (CanchaEntity cancha : sesion.consultar(tabla, fila -> ubicacionId.equals(fila.getUbicacion().getId()))) {
+            var geolocalizada = geolocalizar(cancha);
+            if (geolocalizada != null) {
+                canchas.add(geolocalizada);
+            }
+        }
+        return canchas;
+    }
+
+    @Override
+    public void consultarFichas(final Consumer<FichaCancha> consumidor) throws BackEndException {
+        var canchas = sesion.consultar(tabla, fila -> true);
+        canchas.sort(Comparator.comparing(CanchaEntity::getId, TablaMemoria.ORDEN_LLAVE));
+        for (CanchaEntity cancha : canchas) {
+            consumidor.accept(fichar(cancha));
+        }
+    }
+
+    @Override
+    public FichaCancha consultarFichaPorId(final UUID canchaId) throws BackEndException {
+        var cancha = sesion.consultarPorId(tabla, canchaId);
+        return cancha == null ? null : fichar(cancha);
+    }
+
+    @Override
+    public List<FichaCancha> consultarFichasPorUbicacion(final UUID ubicacionId) throws BackEndException {
+        var fichas = new ArrayList<FichaCancha>();
+        for (CanchaEntity cancha : sesion.consultar(tabla, fila -> ubicacionId.equals(fila.getUbicacion().getId()))) {
+            fichas.add(fichar(cancha));
+        }
+        return fichas;
+    }
+
+    @Override
+    public List<CanchaGeolocalizada> consultarGeolocalizadasPorIds(final Collection<UUID> canchaIds) throws BackEndException {
+        var canchas = new ArrayList<CanchaGeolocalizada>(canchaIds.size());
+        for (UUID canchaId : canchaIds) {
+            var geolocalizada = consultarGeolocalizadaPorId(canchaId);
+            if (geolocalizada != null) {
+                canchas.add(geolocalizada);
+            }
+        }
+        return canchas;
+    }
+
+    @Override
+    public List<FichaCancha> consultarFichasPorIds(final Collection<UUID> canchaIds) throws BackEndException {
+        var fichas = new ArrayList<FichaCancha>(canchaIds.size());
+        for (UUID canchaId : canchaIds) {
+            var ficha = consultarFichaPorId(canchaId);
+            if (ficha != null) {
+                fichas.add(ficha);
+            }
+        }
+        return fichas;
+    }
+
+    @Override
+    public List<String> consultarNombresExistentes(final Collection<String> nombres) throws BackEndException {
+        var buscados = new HashSet<String>();
+        nombres.forEach(nombre -> buscados.add(nombre.toLowerCase(Locale.ROOT)));
+        var existentes = new ArrayList<String>();
+        for (CanchaEntity cancha : sesion.consultar(tabla, fila -> buscados.contains(fila.getNombreCancha().toLowerCase(Locale.ROOT)))) {
+            existentes.add(cancha.getNombreCancha());
+        }
+        return existentes;
+    }
+
+    @Override
+    protected boolean cumpleFiltro(final CanchaEntity filtro, final CanchaEntity fila) {
+        return coincideId(filtro.getId(), fila.getId())
+                && contieneTexto(filtro.getNombreCancha(), fila.getNombreCancha())
+                && coincideId(filtro.getTipo().getId(), fila.getTipo().getId())
+                && coincideId(filtro.getSuperficie().getId(), fila.getSuperficie().getId())
+                && coincideId(filtro.getOrganizacion().getId(), fila.getOrganizacion().getId());
+    }
+
+    // Como el JOIN de PostgreSQL: sin ubicación precisa registrada la cancha no tiene coordenadas
+    private CanchaGeolocalizada geolocalizar(final CanchaEntity cancha) {
+        var ubicacion = sesion.consultarPorId(baseDatos.getUbicaciones(), cancha.getUbicacion().getId());
+        if (ubicacion == null) {
+            return null;
+        }
+        return new CanchaGeolocalizada(cancha.getId(), cancha.getNombreCancha(), ubicacion.getId(),
+                ubicacion.getLatitud(), ubicacion.getLongitud());
+    }
+
+    // Como el LEFT JOIN de PostgreSQL: sin ubicación precisa la ficha queda sin municipio
+    private FichaCancha fichar(final CanchaEntity cancha) {
+        var ubicacion = sesion.consultarPorId(baseDatos.getUbicaciones(), cancha.getUbicacion().getId());
+        return new FichaCancha(cancha.getId(), cancha.getNombreCancha(), cancha.getTipo().getId(),
+                cancha.getSuperficie().getId(), ubicacion == null ? null : ubicacion.getMunicipio().getId(),
+                cancha.getCostoHora(), cancha.isIluminacion(), cancha.isCubierta());
+    }
+}
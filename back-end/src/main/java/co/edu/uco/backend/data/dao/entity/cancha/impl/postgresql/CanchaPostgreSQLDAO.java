@@ -1,20 +1,90 @@
 package co.edu.uco.backend.data.dao.entity.cancha.impl.postgresql;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilTexto;
 import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.data.dao.entity.Pagina;
 import co.edu.uco.backend.data.dao.entity.cancha.CanchaDAO;
+import co.edu.uco.backend.data.dao.entity.cancha.CanchaGeolocalizada;
+import co.edu.uco.backend.data.dao.entity.cancha.FichaCancha;
+import co.edu.uco.backend.data.dao.sql.CargaMasivaPostgreSQL;
+import co.edu.uco.backend.data.dao.sql.LotePostgreSQL;
 import co.edu.uco.backend.entity.CanchaEntity;
 import co.edu.uco.backend.entity.OrganizacionDeportivaEntity;
 import co.edu.uco.backend.entity.SuperficieEntity;
 import co.edu.uco.backend.entity.TipoCanchaEntity;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public class CanchaPostgreSQLDAO implements CanchaDAO {
 
+    // Filas que el driver trae por viaje; solo aplica con autocommit apagado (dentro de una transacción)
+    private static final int TAMANO_LOTE_LECTURA = 500;
+
+    private static final String COLUMNAS_CANCHA = """
+        SELECT codigocancha
+             , nombre
+             , costoporhora
+             , iluminacion
+             , cubierta
+             , codigotipocancha
+             , superficieid
+             , codigoorganizacion
+        FROM doodb.cancha
+        WHERE 1=1
+        """;
+
+    // La cancha apunta a su ubicación precisa por codigoubicacion; las que no tienen ubicación no aparecen
+    private static final String COLUMNAS_CANCHA_GEOLOCALIZADA = """
+        SELECT c.codigocancha
+             , c.nombre
+             , u.codigoubicacion
+             , u.latitud
+             , u.longitud
+        FROM doodb.cancha c
+        JOIN doodb.ubicacionprecisa u ON u.codigoubicacion = c.codigoubicacion
+        """;
+
+    // LEFT JOIN: una cancha sin ubicación precisa también se busca, solo que sin municipio
+    private static final String COLUMNAS_FICHA_CANCHA = """
+        SELECT c.codigocancha
+             , c.nombre
+             , c.codigotipocancha
+             , c.superficieid
+             , u.codigomunicipio
+             , c.costoporhora
+             , c.iluminacion
+             , c.cubierta
+        FROM doodb.cancha c
+        LEFT JOIN doodb.ubicacionprecisa u ON u.codigoubicacion = c.codigoubicacion
+        """;
+
+    private static final String SQL_CREAR = "INSERT INTO doodb.cancha(codigocancha, nombre, costoporhora, iluminacion, cubierta, codigotipocancha, superficieid, codigoorganizacion, codigoubicacion) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SQL_MODIFICAR = "UPDATE doodb.cancha SET nombre = ?, costoporhora = ?, iluminacion = ?, cubierta = ?, codigotipocancha = ?, superficieid = ?, codigoorganizacion = ?, codigoubicacion = ? WHERE codigocancha = ?";
+    private static final String SQL_ELIMINAR = "DELETE FROM doodb.cancha WHERE codigocancha = ?";
+    private static final String SQL_CONSULTAR_NOMBRES_EXISTENTES = "SELECT nombre FROM doodb.cancha WHERE lower(nombre) = ANY(?)";
+    private static final String SQL_CONSULTAR_POR_ID = "SELECT "
+            +   "codigocancha, "
+            +   "nombre, "
+            +   "costoporhora, "
+            +   "iluminacion, "
+            +   "cubierta, "
+            +   "codigotipocancha, "
+            +   "superficieid, "
+            +   "codigoorganizacion "
+            + "FROM doodb.cancha "
+            + "WHERE codigocancha = ?";
+
     private final Connection connection;
 
     public CanchaPostgreSQLDAO(Connection connection) {
@@ -23,10 +93,8 @@ public class CanchaPostgreSQLDAO implements CanchaDAO {
 
     @Override
     public void eliminar(UUID codigocancha) throws BackEndException{
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("DELETE FROM cancha WHERE codigocancha = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,codigocancha);
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_ELIMINAR)) {
+            sentenciaPreparada.setObject(1, codigocancha);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -49,32 +117,80 @@ public class CanchaPostgreSQLDAO implements CanchaDAO {
 
 
     @Override
-    public List<CanchaEntity> consultar(CanchaEntity filtro) {
-        return List.of();
+    public List<CanchaEntity> consultar(CanchaEntity filtro) throws BackEndException {
+        var listaCanchas = new ArrayList<CanchaEntity>();
+        var sql = new StringBuilder(COLUMNAS_CANCHA);
+        agregarFiltros(sql, filtro);
+
+        try (var ps = connection.prepareStatement(sql.toString())) {
+            ps.setFetchSize(TAMANO_LOTE_LECTURA);
+            asignarFiltros(ps, filtro, 1);
+
+            try (var rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    listaCanchas.add(mapear(rs));
+                }
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de consultar la información de las canchas. Para más detalles, revise el log de errores.";
+            var mensajeUsuario = "No se pudo consultar la información de las canchas en este momento.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Excepción NO CONTROLADA al consultar la información de las canchas.";
+            var mensajeUsuario = "Ha ocurrido un problema inesperado al consultar la información de las canchas.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+
+        return listaCanchas;
+    }
+
+    @Override
+    public Pagina<CanchaEntity> consultar(CanchaEntity filtro, UUID despuesDe, int limite) throws BackEndException {
+        var listaCanchas = new ArrayList<CanchaEntity>(limite + 1);
+        var sql = new StringBuilder(COLUMNAS_CANCHA);
+        agregarFiltros(sql, filtro);
+        var continuar = !UtilUUID.esValorDefecto(despuesDe);
+        if (continuar) {
+            sql.append(" AND codigocancha > ?");
+        }
+        // Se pide una fila de más solo para saber si existe una página siguiente
+        sql.append(" ORDER BY codigocancha LIMIT ?");
+
+        try (var ps = connection.prepareStatement(sql.toString())) {
+            ps.setFetchSize(limite + 1);
+            var idx = asignarFiltros(ps, filtro, 1);
+            if (continuar) {
+                ps.setObject(idx++, despuesDe);
+            }
+            ps.setInt(idx, limite + 1);
+
+            try (var rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    listaCanchas.add(mapear(rs));
+                }
+            }
+
+            if (listaCanchas.size() <= limite) {
+                return new Pagina<>(listaCanchas, null);
+            }
+            listaCanchas.remove(limite);
+            return new Pagina<>(listaCanchas, listaCanchas.get(limite - 1).getId());
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de consultar una página de canchas. Para más detalles, revise el log de errores.";
+            var mensajeUsuario = "No se pudo consultar la información de las canchas en este momento.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Excepción NO CONTROLADA al consultar una página de canchas.";
+            var mensajeUsuario = "Ha ocurrido un problema inesperado al consultar la información de las canchas.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
     }
 
     @Override
     public CanchaEntity consultarPorId(UUID id) throws BackEndException {
 
         var canchaRetorno = new CanchaEntity();
-        var sql = new StringBuilder();
-
-        // Corregimos la lista de columnas según el esquema:
-        sql.append(
-                "SELECT "
-                        +   "codigocancha, "
-                        +   "nombre, "
-                        +   "costoporhora, "
-                        +   "iluminacion, "
-                        +   "cubierta, "
-                        +   "codigotipocancha, "
-                        +   "superficieid, "
-                        +   "codigoorganizacion "
-                        + "FROM doodb.cancha "
-                        + "WHERE codigocancha = ?"
-        );
-
-        try (var ps = connection.prepareStatement(sql.toString())) {
+        try (var ps = connection.prepareStatement(SQL_CONSULTAR_POR_ID)) {
             ps.setObject(1, id);
 
             try (var rs = ps.executeQuery()) {
@@ -148,22 +264,8 @@ public class CanchaPostgreSQLDAO implements CanchaDAO {
 
     @Override
     public void crear(CanchaEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("INSERT INTO cancha(codigocancha, nombreCancha, tipo, dimensiones, superficie, costoHora, ubicacion, organizacion, iluminacion, cubierta, HorariosDisponibles, HorariosEspeciales)" +
-                " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,entity.getId());
-            sentenciaPreparada.setString(2,entity.getNombreCancha());
-            sentenciaPreparada.setObject(3,entity.getTipo());
-            sentenciaPreparada.setObject(4,entity.getSuperficie());
-            sentenciaPreparada.setObject(5,entity.getDimensiones());
-            sentenciaPreparada.setDouble(6,entity.getCostoHora());
-            sentenciaPreparada.setObject(7,entity.getUbicacion());
-            sentenciaPreparada.setObject(8,entity.getOrganizacion());
-            sentenciaPreparada.setBoolean(9,entity.isIluminacion());
-            sentenciaPreparada.setBoolean(10,entity.isCubierta());
-            sentenciaPreparada.setObject(11,entity.getHorariosDisponibles());
-            sentenciaPreparada.setObject(12,entity.getHorariosEspeciales());
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_CREAR)) {
+            asignarParametrosCreacion(sentenciaPreparada, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -182,21 +284,8 @@ public class CanchaPostgreSQLDAO implements CanchaDAO {
 
     @Override
     public void modificar(UUID codigocancha, CanchaEntity entity) throws BackEndException{
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("UPDATE cancha SET nombreCancha = ?, tipo = ?, dimensiones = ?, superficie = ?, costoHora = ?, ubicacion = ?, iluminacion = ?, cubierta = ?, HorariosDisponibles = ?, HorariosEspeciales = ? WHERE codigocancha = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,codigocancha);
-            sentenciaPreparada.setString(2,entity.getNombreCancha());
-            sentenciaPreparada.setObject(3,entity.getTipo());
-            sentenciaPreparada.setObject(4,entity.getSuperficie());
-            sentenciaPreparada.setObject(5,entity.getDimensiones());
-            sentenciaPreparada.setDouble(6,entity.getCostoHora());
-            sentenciaPreparada.setObject(7,entity.getUbicacion());
-            sentenciaPreparada.setObject(8,entity.getOrganizacion());
-            sentenciaPreparada.setBoolean(9,entity.isIluminacion());
-            sentenciaPreparada.setBoolean(10,entity.isCubierta());
-            sentenciaPreparada.setObject(11,entity.getHorariosDisponibles());
-            sentenciaPreparada.setObject(12,entity.getHorariosEspeciales());
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_MODIFICAR)) {
+            asignarParametrosModificacion(sentenciaPreparada, codigocancha, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -212,9 +301,313 @@ public class CanchaPostgreSQLDAO implements CanchaDAO {
             throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
         }
     }
-}
 
+    @Override
+    public void consultarGeolocalizadas(Consumer<CanchaGeolocalizada> consumidor) throws BackEndException {
+        consultarGeolocalizadas("", null, consumidor);
+    }
 
+    @Override
+    public CanchaGeolocalizada consultarGeolocalizadaPorId(UUID canchaId) throws BackEndException {
+        var canchas = new ArrayList<CanchaGeolocalizada>(1);
+        consultarGeolocalizadas(" WHERE c.codigocancha = ?", canchaId, canchas::add);
+        return canchas.isEmpty() ? null : canchas.get(0);
+    }
 
+    @Override
+    public List<CanchaGeolocalizada> consultarGeolocalizadasPorUbicacion(UUID ubicacionId) throws BackEndException {
+        var canchas = new ArrayList<CanchaGeolocalizada>();
+        consultarGeolocalizadas(" WHERE u.codigoubicacion = ?", ubicacionId, canchas::add);
+        return canchas;
+    }
 
+    @Override
+    public List<CanchaGeolocalizada> consultarGeolocalizadasPorIds(Collection<UUID> canchaIds) throws BackEndException {
+        var canchas = new ArrayList<CanchaGeolocalizada>(canchaIds.size());
+        consultarGeolocalizadas(" WHERE c.codigocancha = ANY(?)", canchaIds.toArray(UUID[]::new), canchas::add);
+        return canchas;
+    }
+
+    private void consultarGeolocalizadas(final String condicion, final Object parametro,
+                                         final Consumer<CanchaGeolocalizada> consumidor) throws BackEndException {
+        try (var ps = connection.prepareStatement(COLUMNAS_CANCHA_GEOLOCALIZADA + condicion)) {
+            ps.setFetchSize(TAMANO_LOTE_LECTURA);
+            asignarParametro(ps, parametro);
+
+            try (var rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    consumidor.accept(new CanchaGeolocalizada(
+                            UtilUUID.convertirAUUID(rs.getString("codigocancha")),
+                            rs.getString("nombre"),
+                            UtilUUID.convertirAUUID(rs.getString("codigoubicacion")),
+                            rs.getDouble("latitud"),
+                            rs.getDouble("longitud")
+                    ));
+                }
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de consultar la ubicación de las canchas. Para más detalles, revise el log de errores.";
+            var mensajeUsuario = "No se pudo consultar la ubicación de las canchas en este momento.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Excepción NO CONTROLADA al consultar la ubicación de las canchas.";
+            var mensajeUsuario = "Ha ocurrido un problema inesperado al consultar la ubicación de las canchas.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void consultarFichas(Consumer<FichaCancha> consumidor) throws BackEndException {
+        consultarFichas(" ORDER BY c.codigocancha", null, consumidor);
+    }
 
+    @Override
+    public FichaCancha consultarFichaPorId(UUID canchaId) throws BackEndException {
+        var fichas = new ArrayList<FichaCancha>(1);
+        consultarFichas(" WHERE c.codigocancha = ?", canchaId, fichas::add);
+        return fichas.isEmpty() ? null : fichas.get(0);
+    }
+
+    @Override
+    public List<FichaCancha> consultarFichasPorUbicacion(UUID ubicacionId) throws BackEndException {
+        var fichas = new ArrayList<FichaCancha>();
+        consultarFichas(" WHERE c.codigoubicacion = ?", ubicacionId, fichas::add);
+        return fichas;
+    }
+
+    @Override
+    public List<FichaCancha> consultarFichasPorIds(Collection<UUID> canchaIds) throws BackEndException {
+        var fichas = new ArrayList<FichaCancha>(canchaIds.size());
+        consultarFichas(" WHERE c.codigocancha = ANY(?)", canchaIds.toArray(UUID[]::new), fichas::add);
+        return fichas;
+    }
+
+    private void consultarFichas(final String condicion, final Object parametro,
+                                 final Consumer<FichaCancha> consumidor) throws BackEndException {
+        try (var ps = connection.prepareStatement(COLUMNAS_FICHA_CANCHA + condicion)) {
+            ps.setFetchSize(TAMANO_LOTE_LECTURA);
+            asignarParametro(ps, parametro);
+
+            try (var rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    var municipio = rs.getString("codigomunicipio");
+                    consumidor.accept(new FichaCancha(
+                            UtilUUID.convertirAUUID(rs.getString("codigocancha")),
+                            rs.getString("nombre"),
+                            UtilUUID.convertirAUUID(rs.getString("codigotipocancha")),
+                            UtilUUID.convertirAUUID(rs.getString("superficieid")),
+                            municipio == null ? null : UtilUUID.convertirAUUID(municipio),
+                            rs.getDouble("costoporhora"),
+                            rs.getBoolean("iluminacion"),
+                            rs.getBoolean("cubierta")
+                    ));
+                }
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de consultar las fichas de búsqueda de las canchas. Para más detalles, revise el log de errores.";
+            var mensajeUsuario = "No se pudo consultar la información de las canchas en este momento.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Excepción NO CONTROLADA al consultar las fichas de búsqueda de las canchas.";
+            var mensajeUsuario = "Ha ocurrido un problema inesperado al consultar la información de las canchas.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public List<String> consultarNombresExistentes(Collection<String> nombres) throws BackEndException {
+        var existentes = new ArrayList<String>();
+        var buscados = nombres.stream().map(nombre -> nombre.toLowerCase(Locale.ROOT)).toArray(String[]::new);
+        try (var ps = connection.prepareStatement(SQL_CONSULTAR_NOMBRES_EXISTENTES)) {
+            ps.setArray(1, connection.createArrayOf("text", buscados));
+
+            try (var rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    existentes.add(rs.getString("nombre"));
+                }
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de consultar los nombres de cancha ya registrados. Para más detalles, revise el log de errores.";
+            var mensajeUsuario = "No se pudo consultar la información de las canchas en este momento.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Excepción NO CONTROLADA al consultar los nombres de cancha ya registrados.";
+            var mensajeUsuario = "Ha ocurrido un problema inesperado al consultar la información de las canchas.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+        return existentes;
+    }
+
+    // Un arreglo de UUID se envía como uuid[] para las condiciones "= ANY(?)"
+    private void asignarParametro(final PreparedStatement ps, final Object parametro) throws SQLException {
+        if (parametro instanceof UUID[] ids) {
+            ps.setArray(1, connection.createArrayOf("uuid", ids));
+        } else if (parametro != null) {
+            ps.setObject(1, parametro);
+        }
+    }
+
+    private void agregarFiltros(final StringBuilder sql, final CanchaEntity filtro) {
+        if (!UtilUUID.esValorDefecto(filtro.getId())) {
+            sql.append(" AND codigocancha = ?");
+        }
+        if (!UtilTexto.getInstance().estaVacia(filtro.getNombreCancha())) {
+            sql.append(" AND nombre ILIKE ?");
+        }
+        if (!UtilUUID.esValorDefecto(filtro.getTipo().getId())) {
+            sql.append(" AND codigotipocancha = ?");
+        }
+        if (!UtilUUID.esValorDefecto(filtro.getSuperficie().getId())) {
+            sql.append(" AND superficieid = ?");
+        }
+        if (!UtilUUID.esValorDefecto(filtro.getOrganizacion().getId())) {
+            sql.append(" AND codigoorganizacion = ?");
+        }
+    }
+
+    private int asignarFiltros(final PreparedStatement ps, final CanchaEntity filtro, int idx) throws SQLException {
+        if (!UtilUUID.esValorDefecto(filtro.getId())) {
+            ps.setObject(idx++, filtro.getId());
+        }
+        if (!UtilTexto.getInstance().estaVacia(filtro.getNombreCancha())) {
+            ps.setString(idx++, "%" + filtro.getNombreCancha() + "%");
+        }
+        if (!UtilUUID.esValorDefecto(filtro.getTipo().getId())) {
+            ps.setObject(idx++, filtro.getTipo().getId());
+        }
+        if (!UtilUUID.esValorDefecto(filtro.getSuperficie().getId())) {
+            ps.setObject(idx++, filtro.getSuperficie().getId());
+        }
+        if (!UtilUUID.esValorDefecto(filtro.getOrganizacion().getId())) {
+            ps.setObject(idx++, filtro.getOrganizacion().getId());
+        }
+        return idx;
+    }
+
+    private CanchaEntity mapear(final ResultSet rs) throws SQLException {
+        var cancha = new CanchaEntity(UtilUUID.convertirAUUID(rs.getString("codigocancha")));
+        cancha.setNombreCancha(rs.getString("nombre"));
+        cancha.setCostoHora(rs.getDouble("costoporhora"));
+        cancha.setIluminacion(rs.getBoolean("iluminacion"));
+        cancha.setCubierta(rs.getBoolean("cubierta"));
+
+        // De las llaves foráneas solo se asigna el ID, igual que en consultarPorId
+        var tipo = new TipoCanchaEntity();
+        tipo.setId(UtilUUID.convertirAUUID(rs.getString("codigotipocancha")));
+        cancha.setTipo(tipo);
+
+        var superficie = new SuperficieEntity();
+        superficie.setId(UtilUUID.convertirAUUID(rs.getString("superficieid")));
+        cancha.setSuperficie(superficie);
+
+        var organizacion = new OrganizacionDeportivaEntity();
+        organizacion.setId(UtilUUID.convertirAUUID(rs.getString("codigoorganizacion")));
+        cancha.setOrganizacion(organizacion);
+        return cancha;
+    }
+
+    @Override
+    public void importarTodos(List<CanchaEntity> canchas) throws BackEndException {
+        try {
+            CargaMasivaPostgreSQL.copiar(connection, "doodb.cancha (codigocancha, nombre, costoporhora, iluminacion, cubierta, codigotipocancha, superficieid, codigoorganizacion)", canchas,
+                    cancha -> new Object[]{cancha.getId(), cancha.getNombreCancha(), cancha.getCostoHora(), cancha.isIluminacion(),
+                            cancha.isCubierta(), cancha.getTipo().getId(), cancha.getSuperficie().getId(), cancha.getOrganizacion().getId()});
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de cargar masivamente las canchas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de importar las canchas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de cargar masivamente las canchas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de importar las canchas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void crearTodos(List<CanchaEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_CREAR, entities, CanchaPostgreSQLDAO::asignarParametrosCreacion);
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de registrar en lote las canchas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de registrar las canchas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de registrar en lote las canchas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de registrar las canchas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void modificarTodos(Map<UUID, CanchaEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_MODIFICAR, entities.entrySet(),
+                    (sentencia, cambio) -> asignarParametrosModificacion(sentencia, cambio.getKey(), cambio.getValue()));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de modificar en lote las canchas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de modificar las canchas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de modificar en lote las canchas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de modificar las canchas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void eliminarTodos(List<UUID> ids) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_ELIMINAR, ids, (sentencia, id) -> sentencia.setObject(1, id));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de eliminar en lote las canchas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de eliminar las canchas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de eliminar en lote las canchas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de eliminar las canchas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private static void asignarParametrosCreacion(PreparedStatement sentencia, CanchaEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getId());
+        sentencia.setString(2, entity.getNombreCancha());
+        sentencia.setDouble(3, entity.getCostoHora());
+        sentencia.setBoolean(4, entity.isIluminacion());
+        sentencia.setBoolean(5, entity.isCubierta());
+        sentencia.setObject(6, entity.getTipo().getId());
+        sentencia.setObject(7, entity.getSuperficie().getId());
+        sentencia.setObject(8, entity.getOrganizacion().getId());
+        sentencia.setObject(9, codigoUbicacion(entity));
+    }
+
+    private static void asignarParametrosModificacion(PreparedStatement sentencia, UUID id, CanchaEntity entity) throws SQLException {
+        sentencia.setString(1, entity.getNombreCancha());
+        sentencia.setDouble(2, entity.getCostoHora());
+        sentencia.setBoolean(3, entity.isIluminacion());
+        sentencia.setBoolean(4, entity.isCubierta());
+        sentencia.setObject(5, entity.getTipo().getId());
+        sentencia.setObject(6, entity.getSuperficie().getId());
+        sentencia.setObject(7, entity.getOrganizacion().getId());
+        sentencia.setObject(8, codigoUbicacion(entity));
+        sentencia.setObject(9, id);
+    }
+
+    // Sin ubicación precisa registrada la columna queda en NULL, no con el UUID por defecto
+    private static UUID codigoUbicacion(CanchaEntity entity) {
+        var ubicacionId = entity.getUbicacion().getId();
+        return UtilUUID.esValorDefecto(ubicacionId) ? null : ubicacionId;
+    }
+}
@@ -4,6 +4,7 @@ import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.data.dao.entity.CreateDAO;
 import co.edu.uco.backend.data.dao.entity.DeleteDAO;
 import co.edu.uco.backend.data.dao.entity.RetrieveDAO;
+import co.edu.uco.backend.data.dao.entity.RetrievePaginadoDAO;
 import co.edu.uco.backend.data.dao.entity.UpdateDAO;
 import co.edu.uco.backend.entity.ClienteEntity;
 
@@ -13,8 +14,11 @@ import java.util.UUID;
 public interface ClienteDAO extends
         CreateDAO<ClienteEntity>,
         RetrieveDAO<ClienteEntity, UUID>,
+        RetrievePaginadoDAO<ClienteEntity, UUID>,
         UpdateDAO<ClienteEntity, UUID>,
         DeleteDAO<UUID> {
 
     List<ClienteEntity> listAll() throws BackEndException;
+
+    void actualizarContrasena(UUID clienteId, String contrasenaCifrada) throws BackEndException;
 }
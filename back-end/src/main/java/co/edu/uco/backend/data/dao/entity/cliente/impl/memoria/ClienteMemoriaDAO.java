@@ -0,0 +1,79 @@
+package co.edu.uco.backend.data.dao.entity.cliente.impl.memoria;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilTexto;
+import co.edu.uco.backend.data.dao.entity.Pagina;
+import co.edu.uco.backend.data.dao.entity.cliente.ClienteDAO;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.data.dao.memoria.MemoriaDAO;
+import co.edu.uco.backend.data.dao.memoria.SesionMemoria;
+import co.edu.uco.backend.entity.ClienteEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+public class ClienteMemoriaDAO extends MemoriaDAO<ClienteEntity> implements ClienteDAO {
+
+    public ClienteMemoriaDAO(final SesionMemoria sesion) {
+        super(sesion, BaseDatosMemoria.getInstance().getClientes());
+    }
+
+    @Override
+    public void modificar(final UUID id, final ClienteEntity entity) throws BackEndException {
+        super.modificar(id, conContrasenaConservada(id, entity));
+    }
+
+    // Como en PostgreSQL, la consulta por id y las páginas no traen la contraseña
+    @Override
+    public ClienteEntity consultarPorId(final UUID id) throws BackEndException {
+        return sinContrasena(super.consultarPorId(id));
+    }
+
+    @Override
+    public Pagina<ClienteEntity> consultar(final ClienteEntity filtro, final UUID despuesDe, final int limite) throws BackEndException {
+        var pagina = consultarPagina(filtro, despuesDe, limite);
+        pagina.elementos().forEach(ClienteMemoriaDAO::sinContrasena);
+        return pagina;
+    }
+
+    @Override
+    public List<ClienteEntity> listAll() throws BackEndException {
+        return consultar(null);
+    }
+
+    @Override
+    public void actualizarContrasena(final UUID clienteId, final String contrasenaCifrada) throws BackEndException {
+        var cliente = sesion.consultarPorId(tabla, clienteId);
+        if (cliente != null) {
+            cliente.setContrasena(contrasenaCifrada);
+            sesion.modificar(tabla, clienteId, cliente);
+        }
+    }
+
+    @Override
+    protected boolean cumpleFiltro(final ClienteEntity filtro, final ClienteEntity fila) {
+        return coincideId(filtro.getId(), fila.getId())
+                && contieneTexto(filtro.getNombre(), fila.getNombre())
+                && coincideExacto(filtro.getUsername(), fila.getUsername())
+                && coincideExacto(filtro.getPrefijoTelefono(), fila.getPrefijoTelefono())
+                && coincideExacto(filtro.getTelefono(), fila.getTelefono());
+    }
+
+    // Como el COALESCE de PostgreSQL: la contraseña llega ya cifrada y, si viene vacía, se conserva la almacenada
+    private ClienteEntity conContrasenaConservada(final UUID id, final ClienteEntity entity) {
+        if (!UtilTexto.getInstance().estaVacia(entity.getContrasena())) {
+            return entity;
+        }
+        var copia = tabla.copiar(entity);
+        var actual = sesion.consultarPorId(tabla, id);
+        if (actual != null) {
+            copia.setContrasena(actual.getContrasena());
+        }
+        return copia;
+    }
+
+    private static ClienteEntity sinContrasena(final ClienteEntity cliente) {
+        cliente.setContrasena(null);
+        return cliente;
+    }
+}
@@ -1,21 +1,34 @@
 package co.edu.uco.backend.data.dao.entity.cliente.impl.postgresql;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
-import co.edu.uco.backend.crosscutting.utilitarios.UtilEncrypt;
 import co.edu.uco.backend.crosscutting.utilitarios.UtilTexto;
 import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.data.dao.entity.Pagina;
 import co.edu.uco.backend.data.dao.entity.cliente.ClienteDAO;
+import co.edu.uco.backend.data.dao.sql.LotePostgreSQL;
 import co.edu.uco.backend.entity.ClienteEntity;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 
 public class ClientePostgreSQLDAO implements ClienteDAO {
 
+    // Filas que el driver trae por viaje; solo aplica con autocommit apagado (dentro de una transacción)
+    private static final int TAMANO_LOTE_LECTURA = 500;
+
+    private static final String SQL_CREAR = "INSERT INTO doodb.cliente(codigocliente, nombre, username, contrasena, prefijotelefono, telefono) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String SQL_MODIFICAR = "UPDATE doodb.cliente SET nombre = ?, username = ?, contrasena = COALESCE(?, contrasena), prefijotelefono = ?, telefono = ? WHERE codigocliente = ?";
+    private static final String SQL_ELIMINAR = "DELETE FROM doodb.cliente WHERE codigocliente = ?";
+    private static final String SQL_CONSULTAR_TODOS = "SELECT codigocliente, nombre, username, contrasena, prefijotelefono, telefono FROM doodb.cliente";
+    private static final String SQL_CONSULTAR_POR_ID = "SELECT codigocliente, nombre, username, prefijotelefono, telefono FROM doodb.cliente WHERE codigocliente = ?";
+    private static final String SQL_ACTUALIZAR_CONTRASENA = "UPDATE doodb.cliente SET contrasena = ? WHERE codigocliente = ?";
+
     private final Connection connection;
 
     public ClientePostgreSQLDAO(Connection connection) {
@@ -24,18 +37,8 @@ public class ClientePostgreSQLDAO implements ClienteDAO {
 
     @Override
     public void crear(ClienteEntity entity) throws BackEndException {
-
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("INSERT INTO doodb.cliente(codigocliente, nombre, username, contrasena, prefijotelefono, telefono) " +
-                " VALUES (?, ?, ?, ?, ?, ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())) {
-            sentenciaPreparada.setObject(1, entity.getId());
-            sentenciaPreparada.setString(2, entity.getNombre());
-            sentenciaPreparada.setString(3, entity.getUsername());
-            String hashed = UtilEncrypt.hash(entity.getContrasena());
-            sentenciaPreparada.setString(4, hashed);
-            sentenciaPreparada.setString(5, entity.getPrefijoTelefono());
-            sentenciaPreparada.setString(6, entity.getTelefono());
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_CREAR)) {
+            asignarParametrosCreacion(sentenciaPreparada, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -54,9 +57,7 @@ public class ClientePostgreSQLDAO implements ClienteDAO {
 
     @Override
     public void eliminar(UUID codigocliente) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("DELETE FROM doodb.cliente WHERE codigocliente = ?");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())) {
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_ELIMINAR)) {
             sentenciaPreparada.setObject(1, codigocliente);
 
             sentenciaPreparada.executeUpdate();
@@ -88,36 +89,11 @@ public class ClientePostgreSQLDAO implements ClienteDAO {
         WHERE 1=1
         """);
 
-        boolean filtrarId       = !UtilUUID.esValorDefecto(entity.getId());
-        boolean filtrarNombre   = !UtilTexto.getInstance().estaVacia(entity.getNombre());
-        boolean filtrarUsername = !UtilTexto.getInstance().estaVacia(entity.getUsername());
-        boolean filtrarPrefijo  = !UtilTexto.getInstance().estaVacia(entity.getPrefijoTelefono());
-        boolean filtrarTelefono = !UtilTexto.getInstance().estaVacia(entity.getTelefono());
-
-        // Construcción dinámica del WHERE
-        if (filtrarId)       sql.append(" AND codigocliente = ?");
-        if (filtrarNombre)   sql.append(" AND nombre ILIKE ?");
-        if (filtrarUsername) sql.append(" AND username = ?");
-        if (filtrarPrefijo)  sql.append(" AND prefijotelefono = ?");
-        if (filtrarTelefono) sql.append(" AND telefono = ?");
+        agregarFiltros(sql, entity);
 
         try (var ps = connection.prepareStatement(sql.toString())) {
-            int idx = 1;
-            if (filtrarId) {
-                ps.setObject(idx++, entity.getId());
-            }
-            if (filtrarNombre) {
-                ps.setString(idx++, "%" + entity.getNombre().trim() + "%");
-            }
-            if (filtrarUsername) {
-                ps.setString(idx++, entity.getUsername().trim());
-            }
-            if (filtrarPrefijo) {
-                ps.setString(idx++, entity.getPrefijoTelefono().trim());
-            }
-            if (filtrarTelefono) {
-                ps.setString(idx++, entity.getTelefono().trim());
-            }
+            ps.setFetchSize(TAMANO_LOTE_LECTURA);
+            asignarFiltros(ps, entity, 1);
 
             try (var rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -149,23 +125,82 @@ public class ClientePostgreSQLDAO implements ClienteDAO {
         return listaClientes;
     }
 
+    @Override
+    public Pagina<ClienteEntity> consultar(ClienteEntity filtro, UUID despuesDe, int limite) throws BackEndException {
+        var listaClientes = new ArrayList<ClienteEntity>(limite + 1);
+        var sql = new StringBuilder("""
+        SELECT codigocliente
+             , nombre
+             , username
+             , prefijotelefono
+             , telefono
+        FROM doodb.cliente
+        WHERE 1=1
+        """);
+
+        agregarFiltros(sql, filtro);
+        var continuar = !UtilUUID.esValorDefecto(despuesDe);
+        if (continuar) sql.append(" AND codigocliente > ?");
+        // Se pide una fila de más solo para saber si existe una página siguiente
+        sql.append(" ORDER BY codigocliente LIMIT ?");
+
+        try (var ps = connection.prepareStatement(sql.toString())) {
+            ps.setFetchSize(limite + 1);
+            int idx = asignarFiltros(ps, filtro, 1);
+            if (continuar) {
+                ps.setObject(idx++, despuesDe);
+            }
+            ps.setInt(idx, limite + 1);
+
+            try (var rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    var c = new ClienteEntity();
+                    c.setId(UtilUUID.convertirAUUID(rs.getString("codigocliente")));
+                    c.setNombre(rs.getString("nombre"));
+                    c.setUsername(rs.getString("username"));
+                    c.setPrefijoTelefono(rs.getString("prefijotelefono"));
+                    c.setTelefono(rs.getString("telefono"));
+                    listaClientes.add(c);
+                }
+            }
+
+            if (listaClientes.size() <= limite) {
+                return new Pagina<>(listaClientes, null);
+            }
+            listaClientes.remove(limite);
+            return new Pagina<>(listaClientes, listaClientes.get(limite - 1).getId());
+
+        } catch (SQLException ex) {
+            throw DataBackEndException.reportar(
+                    "Se ha presentado un problema tratando de consultar la información de clientes en la base de datos",
+                    "SQLException al ejecutar SELECT paginado en tabla cliente",
+                    ex
+            );
+        } catch (Exception ex) {
+            throw DataBackEndException.reportar(
+                    "Se ha presentado un problema inesperado al consultar la información de clientes",
+                    "Excepción NO CONTROLADA al ejecutar SELECT paginado en tabla cliente",
+                    ex
+            );
+        }
+    }
+
     @Override
     public List<ClienteEntity> listAll() throws BackEndException {
         var listaClientes = new ArrayList<ClienteEntity>();
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("SELECT codigocliente, nombre, username, contrasena, prefijotelefono, telefono FROM doodb.cliente");
-
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString());
-             var cursorResultado = sentenciaPreparada.executeQuery()) {
-            while (cursorResultado.next()) {
-                var cliente = new ClienteEntity();
-                cliente.setId(UtilUUID.convertirAUUID(cursorResultado.getString("codigocliente")));
-                cliente.setNombre(cursorResultado.getString("nombre"));
-                cliente.setUsername(cursorResultado.getString("username"));
-                cliente.setContrasena(cursorResultado.getString("contrasena"));
-                cliente.setPrefijoTelefono(cursorResultado.getString("prefijotelefono"));
-                cliente.setTelefono(cursorResultado.getString("telefono"));
-                listaClientes.add(cliente);
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_CONSULTAR_TODOS)) {
+            sentenciaPreparada.setFetchSize(TAMANO_LOTE_LECTURA);
+            try (var cursorResultado = sentenciaPreparada.executeQuery()) {
+                while (cursorResultado.next()) {
+                    var cliente = new ClienteEntity();
+                    cliente.setId(UtilUUID.convertirAUUID(cursorResultado.getString("codigocliente")));
+                    cliente.setNombre(cursorResultado.getString("nombre"));
+                    cliente.setUsername(cursorResultado.getString("username"));
+                    cliente.setContrasena(cursorResultado.getString("contrasena"));
+                    cliente.setPrefijoTelefono(cursorResultado.getString("prefijotelefono"));
+                    cliente.setTelefono(cursorResultado.getString("telefono"));
+                    listaClientes.add(cliente);
+                }
             }
         } catch (SQLException exception) {
             var mensajeTecnico = "Se presentó una SQLException al listar todos los clientes.";
@@ -182,10 +217,7 @@ public class ClientePostgreSQLDAO implements ClienteDAO {
     @Override
     public ClienteEntity consultarPorId(UUID codigocliente) throws BackEndException {
         var clienteEntityRetorno = new ClienteEntity();
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("SELECT codigocliente, nombre, username, prefijotelefono, telefono FROM doodb.cliente WHERE codigocliente = ?");
-
-        try(var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
+        try(var sentenciaPreparada = connection.prepareStatement(SQL_CONSULTAR_POR_ID)){
 
             sentenciaPreparada.setObject(1, codigocliente);
 
@@ -216,17 +248,8 @@ public class ClientePostgreSQLDAO implements ClienteDAO {
 
     @Override
     public void modificar(UUID codigocliente, ClienteEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("UPDATE doodb.cliente SET nombre = ?, username = ?, contrasena = ?,prefijotelefono = ?, telefono = ? WHERE codigocliente = ?");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setString(1,entity.getNombre());
-            sentenciaPreparada.setString(2,entity.getUsername());
-            String hashed = UtilEncrypt.hash(entity.getContrasena());
-            sentenciaPreparada.setString(3, hashed);
-            sentenciaPreparada.setString(4,entity.getPrefijoTelefono());
-            sentenciaPreparada.setString(5,entity.getTelefono());
-
-            sentenciaPreparada.setObject(6,codigocliente);
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_MODIFICAR)) {
+            asignarParametrosModificacion(sentenciaPreparada, codigocliente, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -243,6 +266,130 @@ public class ClientePostgreSQLDAO implements ClienteDAO {
         }
 
     }
-}
 
+    @Override
+    public void actualizarContrasena(UUID codigocliente, String contrasenaCifrada) throws BackEndException {
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_ACTUALIZAR_CONTRASENA)) {
+            sentenciaPreparada.setString(1, contrasenaCifrada);
+            sentenciaPreparada.setObject(2, codigocliente);
 
+            sentenciaPreparada.executeUpdate();
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de actualizar la contraseña cifrada del cliente en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de actualizar la contraseña del cliente en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de actualizar la contraseña cifrada del cliente en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de actualizar la contraseña del cliente en la base de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private void agregarFiltros(StringBuilder sql, ClienteEntity entity) {
+        if (!UtilUUID.esValorDefecto(entity.getId()))                       sql.append(" AND codigocliente = ?");
+        if (!UtilTexto.getInstance().estaVacia(entity.getNombre()))          sql.append(" AND nombre ILIKE ?");
+        if (!UtilTexto.getInstance().estaVacia(entity.getUsername()))        sql.append(" AND username = ?");
+        if (!UtilTexto.getInstance().estaVacia(entity.getPrefijoTelefono())) sql.append(" AND prefijotelefono = ?");
+        if (!UtilTexto.getInstance().estaVacia(entity.getTelefono()))        sql.append(" AND telefono = ?");
+    }
+
+    private int asignarFiltros(PreparedStatement ps, ClienteEntity entity, int idx) throws SQLException {
+        if (!UtilUUID.esValorDefecto(entity.getId())) {
+            ps.setObject(idx++, entity.getId());
+        }
+        if (!UtilTexto.getInstance().estaVacia(entity.getNombre())) {
+            ps.setString(idx++, "%" + entity.getNombre().trim() + "%");
+        }
+        if (!UtilTexto.getInstance().estaVacia(entity.getUsername())) {
+            ps.setString(idx++, entity.getUsername().trim());
+        }
+        if (!UtilTexto.getInstance().estaVacia(entity.getPrefijoTelefono())) {
+            ps.setString(idx++, entity.getPrefijoTelefono().trim());
+        }
+        if (!UtilTexto.getInstance().estaVacia(entity.getTelefono())) {
+            ps.setString(idx++, entity.getTelefono().trim());
+        }
+        return idx;
+    }
+
+    @Override
+    public void crearTodos(List<ClienteEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_CREAR, entities, ClientePostgreSQLDAO::asignarParametrosCreacion);
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de registrar en lote los clientes en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de registrar los clientes en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de registrar en lote los clientes en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de registrar los clientes en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void modificarTodos(Map<UUID, ClienteEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_MODIFICAR, entities.entrySet(),
+                    (sentencia, cambio) -> asignarParametrosModificacion(sentencia, cambio.getKey(), cambio.getValue()));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de modificar en lote los clientes en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de modificar los clientes en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de modificar en lote los clientes en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de modificar los clientes en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void eliminarTodos(List<UUID> ids) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_ELIMINAR, ids, (sentencia, id) -> sentencia.setObject(1, id));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de eliminar en lote los clientes en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de eliminar los clientes en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de eliminar en lote los clientes en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de eliminar los clientes en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private static void asignarParametrosCreacion(PreparedStatement sentencia, ClienteEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getId());
+        sentencia.setString(2, entity.getNombre());
+        sentencia.setString(3, entity.getUsername());
+        sentencia.setString(4, entity.getContrasena());
+        sentencia.setString(5, entity.getPrefijoTelefono());
+        sentencia.setString(6, entity.getTelefono());
+    }
+
+    private static void asignarParametrosModificacion(PreparedStatement sentencia, UUID id, ClienteEntity entity) throws SQLException {
+        sentencia.setString(1, entity.getNombre());
+        sentencia.setString(2, entity.getUsername());
+        sentencia.setString(3, contrasenaNuevaONula(entity.getContrasena()));
+        sentencia.setString(4, entity.getPrefijoTelefono());
+        sentencia.setString(5, entity.getTelefono());
+        sentencia.setObject(6, id);
+    }
+
+    // La contraseña llega ya cifrada desde la capa de negocio; vacía significa que no cambia y el
+    // COALESCE de SQL_MODIFICAR conserva la almacenada
+    private static String contrasenaNuevaONula(String contrasena) {
+        return UtilTexto.getInstance().estaVacia(contrasena) ? null : contrasena;
+    }
+}
@@ -0,0 +1,54 @@
+package co.edu.uco.backend.data.dao.entity.departamento.impl.cache;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.cache.CachesCatalogo;
+import co.edu.uco.backend.data.dao.cache.CatalogoCacheDAO;
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
+import co.edu.uco.backend.data.dao.entity.departamento.DepartamentoDAO;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.entity.DepartamentoEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class DepartamentoCacheDAO extends CatalogoCacheDAO<DepartamentoEntity, DepartamentoDAO> implements DepartamentoDAO {
+
+    public DepartamentoCacheDAO(final DepartamentoDAO delegado, final DAOFactory factory) {
+        super(delegado, CachesCatalogo.getInstance().getDepartamentos(), factory, VersionesRecursos.Recurso.DEPARTAMENTO);
+    }
+
+    @Override
+    protected UUID obtenerId(final DepartamentoEntity entity) {
+        return entity.getId();
+    }
+
+    // Los municipios en caché llevan una copia de su departamento, por eso también se descartan y cambia su versión
+    @Override
+    public void eliminar(final UUID id) throws BackEndException {
+        super.eliminar(id);
+        invalidarAlConfirmar(CachesCatalogo.getInstance().getMunicipios()::invalidarTodo);
+        registrarCambio(VersionesRecursos.Recurso.MUNICIPIO);
+    }
+
+    @Override
+    public void modificar(final UUID id, final DepartamentoEntity entity) throws BackEndException {
+        super.modificar(id, entity);
+        invalidarAlConfirmar(CachesCatalogo.getInstance().getMunicipios()::invalidarTodo);
+        registrarCambio(VersionesRecursos.Recurso.MUNICIPIO);
+    }
+
+    @Override
+    public void modificarTodos(final Map<UUID, DepartamentoEntity> entities) throws BackEndException {
+        super.modificarTodos(entities);
+        invalidarAlConfirmar(CachesCatalogo.getInstance().getMunicipios()::invalidarTodo);
+        registrarCambio(VersionesRecursos.Recurso.MUNICIPIO);
+    }
+
+    @Override
+    public void eliminarTodos(final List<UUID> ids) throws BackEndException {
+        super.eliminarTodos(ids);
+        invalidarAlConfirmar(CachesCatalogo.getInstance().getMunicipios()::invalidarTodo);
+        registrarCambio(VersionesRecursos.Recurso.MUNICIPIO);
+    }
+}
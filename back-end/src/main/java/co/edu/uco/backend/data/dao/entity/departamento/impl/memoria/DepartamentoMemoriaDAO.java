@@ -0,0 +1,20 @@
+package co.edu.uco.backend.data.dao.entity.departamento.impl.memoria;
+
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
+import co.edu.uco.backend.data.dao.entity.departamento.DepartamentoDAO;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.data.dao.memoria.MemoriaDAO;
+import co.edu.uco.backend.data.dao.memoria.SesionMemoria;
+import co.edu.uco.backend.entity.DepartamentoEntity;
+
+public class DepartamentoMemoriaDAO extends MemoriaDAO<DepartamentoEntity> implements DepartamentoDAO {
+
+    public DepartamentoMemoriaDAO(final SesionMemoria sesion) {
+        super(sesion, BaseDatosMemoria.getInstance().getDepartamentos(), VersionesRecursos.Recurso.DEPARTAMENTO);
+    }
+
+    @Override
+    protected boolean cumpleFiltro(final DepartamentoEntity filtro, final DepartamentoEntity fila) {
+        return coincideTexto(filtro.getNombre(), fila.getNombre());
+    }
+}
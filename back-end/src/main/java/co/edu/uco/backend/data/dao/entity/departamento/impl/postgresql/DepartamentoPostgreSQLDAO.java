@@ -2,16 +2,29 @@ package co.edu.uco.backend.data.dao.entity.departamento.impl.postgresql;
 
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilObjeto;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilTexto;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
 import co.edu.uco.backend.data.dao.entity.departamento.DepartamentoDAO;
+import co.edu.uco.backend.data.dao.sql.LotePostgreSQL;
 import co.edu.uco.backend.entity.DepartamentoEntity;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class DepartamentoPostgreSQLDAO implements DepartamentoDAO {
 
+    private static final String SQL_CREAR = "INSERT INTO doodb.departamento(id, nombre) VALUES (?, ?)";
+    private static final String SQL_MODIFICAR = "UPDATE doodb.departamento SET nombre = ? WHERE id = ?";
+    private static final String SQL_ELIMINAR = "DELETE FROM doodb.departamento WHERE id = ?";
+    private static final String SQL_CONSULTAR_POR_ID = "SELECT id, nombre FROM doodb.departamento WHERE id = ?";
+
     private final Connection connection;
 
     public DepartamentoPostgreSQLDAO(Connection connection) {
@@ -20,12 +33,8 @@ public class DepartamentoPostgreSQLDAO implements DepartamentoDAO {
 
     @Override
     public void crear(DepartamentoEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("INSERT INTO departamento(id, nombre)" +
-                " VALUES (?, ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,entity.getId());
-            sentenciaPreparada.setString(2,entity.getNombre());
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_CREAR)) {
+            asignarParametrosCreacion(sentenciaPreparada, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -44,10 +53,8 @@ public class DepartamentoPostgreSQLDAO implements DepartamentoDAO {
 
     @Override
     public void eliminar(UUID id) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("DELETE FROM departamento WHERE id = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,id);
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_ELIMINAR)) {
+            sentenciaPreparada.setObject(1, id);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -65,23 +72,75 @@ public class DepartamentoPostgreSQLDAO implements DepartamentoDAO {
     }
 
     @Override
-    public List<DepartamentoEntity> consultar(DepartamentoEntity entity) {
-        return List.of();
+    public List<DepartamentoEntity> consultar(DepartamentoEntity filtro) throws BackEndException {
+        var resultados = new ArrayList<DepartamentoEntity>();
+
+        var filtrarPorNombre = !UtilObjeto.getInstance().esNulo(filtro) && !UtilTexto.getInstance().estaVacia(filtro.getNombre());
+
+        var condiciones = new ArrayList<String>();
+        if (filtrarPorNombre) {
+            condiciones.add("LOWER(nombre) = LOWER(?)");
+        }
+        var sql = new StringBuilder("SELECT id, nombre FROM doodb.departamento");
+        if (!condiciones.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", condiciones));
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+            var indice = 1;
+            if (filtrarPorNombre) {
+                ps.setString(indice++, UtilTexto.getInstance().quitarEspaciosEnBlancoInicioFin(filtro.getNombre()));
+            }
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    resultados.add(mapear(rs));
+                }
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de consultar los departamentos en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de consultar los departamentos";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de consultar los departamentos en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de consultar los departamentos";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+
+        return resultados;
     }
 
     @Override
-    public DepartamentoEntity consultarPorId(UUID id) {
-        return null;
+    public DepartamentoEntity consultarPorId(UUID id) throws BackEndException {
+        try (PreparedStatement ps = connection.prepareStatement(SQL_CONSULTAR_POR_ID)) {
+            ps.setObject(1, id);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? mapear(rs) : new DepartamentoEntity();
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de consultar el departamento por id en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de consultar el departamento";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de consultar el departamento por id en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de consultar el departamento";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private DepartamentoEntity mapear(ResultSet rs) throws SQLException {
+        return new DepartamentoEntity(
+                UtilUUID.convertirAUUID(rs.getString("id")),
+                rs.getString("nombre")
+        );
     }
 
 
     @Override
     public void modificar(UUID id, DepartamentoEntity entity) throws BackEndException{
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("UPDATE cancha SET nombre = ? WHERE id = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,id);
-            sentenciaPreparada.setString(2,entity.getNombre());
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_MODIFICAR)) {
+            asignarParametrosModificacion(sentenciaPreparada, id, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -97,4 +156,69 @@ public class DepartamentoPostgreSQLDAO implements DepartamentoDAO {
             throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
         }
     }
+
+    @Override
+    public void crearTodos(List<DepartamentoEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_CREAR, entities, DepartamentoPostgreSQLDAO::asignarParametrosCreacion);
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de registrar en lote los departamentos en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de registrar los departamentos en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de registrar en lote los departamentos en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de registrar los departamentos en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void modificarTodos(Map<UUID, DepartamentoEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_MODIFICAR, entities.entrySet(),
+                    (sentencia, cambio) -> asignarParametrosModificacion(sentencia, cambio.getKey(), cambio.getValue()));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de modificar en lote los departamentos en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de modificar los departamentos en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de modificar en lote los departamentos en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de modificar los departamentos en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void eliminarTodos(List<UUID> ids) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_ELIMINAR, ids, (sentencia, id) -> sentencia.setObject(1, id));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de eliminar en lote los departamentos en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de eliminar los departamentos en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de eliminar en lote los departamentos en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de eliminar los departamentos en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private static void asignarParametrosCreacion(PreparedStatement sentencia, DepartamentoEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getId());
+        sentencia.setString(2, entity.getNombre());
+    }
+
+    private static void asignarParametrosModificacion(PreparedStatement sentencia, UUID id, DepartamentoEntity entity) throws SQLException {
+        sentencia.setString(1, entity.getNombre());
+        sentencia.setObject(2, id);
+    }
 }
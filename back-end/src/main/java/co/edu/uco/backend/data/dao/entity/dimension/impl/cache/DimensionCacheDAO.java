@@ -0,0 +1,22 @@
+package co.edu.uco.backend.data.dao.entity.dimension.impl.cache;
+
+import co.edu.uco.backend.data.dao.cache.CachesCatalogo;
+import co.edu.uco.backend.data.dao.cache.CatalogoCacheDAO;
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
+import co.edu.uco.backend.data.dao.entity.dimension.DimensionDAO;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.entity.DimensionEntity;
+
+import java.util.UUID;
+
+public class DimensionCacheDAO extends CatalogoCacheDAO<DimensionEntity, DimensionDAO> implements DimensionDAO {
+
+    public DimensionCacheDAO(final DimensionDAO delegado, final DAOFactory factory) {
+        super(delegado, CachesCatalogo.getInstance().getDimensiones(), factory, VersionesRecursos.Recurso.DIMENSION);
+    }
+
+    @Override
+    protected UUID obtenerId(final DimensionEntity entity) {
+        return entity.getId();
+    }
+}
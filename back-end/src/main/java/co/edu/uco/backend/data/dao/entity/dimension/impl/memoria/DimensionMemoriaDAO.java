@@ -0,0 +1,21 @@
+package co.edu.uco.backend.data.dao.entity.dimension.impl.memoria;
+
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
+import co.edu.uco.backend.data.dao.entity.dimension.DimensionDAO;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.data.dao.memoria.MemoriaDAO;
+import co.edu.uco.backend.data.dao.memoria.SesionMemoria;
+import co.edu.uco.backend.entity.DimensionEntity;
+
+public class DimensionMemoriaDAO extends MemoriaDAO<DimensionEntity> implements DimensionDAO {
+
+    public DimensionMemoriaDAO(final SesionMemoria sesion) {
+        super(sesion, BaseDatosMemoria.getInstance().getDimensiones(), VersionesRecursos.Recurso.DIMENSION);
+    }
+
+    @Override
+    protected boolean cumpleFiltro(final DimensionEntity filtro, final DimensionEntity fila) {
+        return (filtro.getLargo() <= 0 || filtro.getLargo() == fila.getLargo())
+                && (filtro.getAncho() <= 0 || filtro.getAncho() == fila.getAncho());
+    }
+}
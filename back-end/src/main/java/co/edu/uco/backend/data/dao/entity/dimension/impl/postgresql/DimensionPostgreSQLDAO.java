@@ -2,17 +2,29 @@ package co.edu.uco.backend.data.dao.entity.dimension.impl.postgresql;
 
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilObjeto;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
 import co.edu.uco.backend.data.dao.entity.dimension.DimensionDAO;
+import co.edu.uco.backend.data.dao.sql.LotePostgreSQL;
 import co.edu.uco.backend.entity.CanchaEntity;
 import co.edu.uco.backend.entity.DimensionEntity;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class DimensionPostgreSQLDAO implements DimensionDAO {
 
+    private static final String SQL_CREAR = "INSERT INTO doodb.dimension(id, largo, ancho) VALUES (?, ?, ?)";
+    private static final String SQL_MODIFICAR = "UPDATE doodb.dimension SET largo = ?, ancho = ? WHERE id = ?";
+    private static final String SQL_ELIMINAR = "DELETE FROM doodb.dimension WHERE id = ?";
+    private static final String SQL_CONSULTAR_POR_ID = "SELECT id, largo, ancho FROM doodb.dimension WHERE id = ?";
+
     private final Connection connection;
 
     public DimensionPostgreSQLDAO(Connection connection) {
@@ -21,14 +33,8 @@ public class DimensionPostgreSQLDAO implements DimensionDAO {
 
     @Override
     public void crear(DimensionEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("INSERT INTO dimension(id, largo, ancho)" +
-                " VALUES (?, ?, ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,entity.getId());
-            sentenciaPreparada.setDouble(2,entity.getLargo());
-            sentenciaPreparada.setDouble(3,entity.getAncho());
-
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_CREAR)) {
+            asignarParametrosCreacion(sentenciaPreparada, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -47,10 +53,8 @@ public class DimensionPostgreSQLDAO implements DimensionDAO {
 
     @Override
     public void eliminar(UUID id) throws BackEndException{
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("DELETE FROM cancha WHERE id = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,id);
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_ELIMINAR)) {
+            sentenciaPreparada.setObject(1, id);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -68,24 +72,83 @@ public class DimensionPostgreSQLDAO implements DimensionDAO {
     }
 
     @Override
-    public List<DimensionEntity> consultar(DimensionEntity entity) {
-        return List.of();
+    public List<DimensionEntity> consultar(DimensionEntity filtro) throws BackEndException {
+        var resultados = new ArrayList<DimensionEntity>();
+
+        var filtrarPorLargo = !UtilObjeto.getInstance().esNulo(filtro) && filtro.getLargo() > 0;
+        var filtrarPorAncho = !UtilObjeto.getInstance().esNulo(filtro) && filtro.getAncho() > 0;
+
+        var condiciones = new ArrayList<String>();
+        if (filtrarPorLargo) {
+            condiciones.add("largo = ?");
+        }
+        if (filtrarPorAncho) {
+            condiciones.add("ancho = ?");
+        }
+        var sql = new StringBuilder("SELECT id, largo, ancho FROM doodb.dimension");
+        if (!condiciones.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", condiciones));
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+            var indice = 1;
+            if (filtrarPorLargo) {
+                ps.setDouble(indice++, filtro.getLargo());
+            }
+            if (filtrarPorAncho) {
+                ps.setDouble(indice++, filtro.getAncho());
+            }
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    resultados.add(mapear(rs));
+                }
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de consultar las dimensiones en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de consultar las dimensiones";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de consultar las dimensiones en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de consultar las dimensiones";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+
+        return resultados;
     }
 
     @Override
-    public DimensionEntity consultarPorId(UUID id) {
-        return null;
+    public DimensionEntity consultarPorId(UUID id) throws BackEndException {
+        try (PreparedStatement ps = connection.prepareStatement(SQL_CONSULTAR_POR_ID)) {
+            ps.setObject(1, id);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? mapear(rs) : new DimensionEntity();
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de consultar la dimensión por id en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de consultar la dimensión";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de consultar la dimensión por id en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de consultar la dimensión";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private DimensionEntity mapear(ResultSet rs) throws SQLException {
+        return new DimensionEntity(
+                UtilUUID.convertirAUUID(rs.getString("id")),
+                rs.getDouble("largo"),
+                rs.getDouble("ancho")
+        );
     }
 
 
     @Override
     public void modificar(UUID id, DimensionEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("UPDATE dimension SET largo = ?, ancho = ? WHERE id = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1, id);
-            sentenciaPreparada.setDouble(2,entity.getLargo());
-            sentenciaPreparada.setDouble(3,entity.getAncho());
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_MODIFICAR)) {
+            asignarParametrosModificacion(sentenciaPreparada, id, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -101,4 +164,71 @@ public class DimensionPostgreSQLDAO implements DimensionDAO {
             throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
         }
     }
+
+    @Override
+    public void crearTodos(List<DimensionEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_CREAR, entities, DimensionPostgreSQLDAO::asignarParametrosCreacion);
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de registrar en lote las dimensiones en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de registrar las dimensiones en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de registrar en lote las dimensiones en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de registrar las dimensiones en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void modificarTodos(Map<UUID, DimensionEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_MODIFICAR, entities.entrySet(),
+                    (sentencia, cambio) -> asignarParametrosModificacion(sentencia, cambio.getKey(), cambio.getValue()));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de modificar en lote las dimensiones en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de modificar las dimensiones en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de modificar en lote las dimensiones en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de modificar las dimensiones en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void eliminarTodos(List<UUID> ids) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_ELIMINAR, ids, (sentencia, id) -> sentencia.setObject(1, id));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de eliminar en lote las dimensiones en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de eliminar las dimensiones en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de eliminar en lote las dimensiones en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de eliminar las dimensiones en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private static void asignarParametrosCreacion(PreparedStatement sentencia, DimensionEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getId());
+        sentencia.setDouble(2, entity.getLargo());
+        sentencia.setDouble(3, entity.getAncho());
+    }
+
+    private static void asignarParametrosModificacion(PreparedStatement sentencia, UUID id, DimensionEntity entity) throws SQLException {
+        sentencia.setDouble(1, entity.getLargo());
+        sentencia.setDouble(2, entity.getAncho());
+        sentencia.setObject(3, id);
+    }
 }
@@ -0,0 +1,21 @@
+package co.edu.uco.backend.data.dao.entity.encargado.impl.memoria;
+
+import co.edu.uco.backend.data.dao.entity.encargado.EncargadoDAO;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.data.dao.memoria.MemoriaDAO;
+import co.edu.uco.backend.data.dao.memoria.SesionMemoria;
+import co.edu.uco.backend.entity.EncargadoEntity;
+
+public class EncargadoMemoriaDAO extends MemoriaDAO<EncargadoEntity> implements EncargadoDAO {
+
+    public EncargadoMemoriaDAO(final SesionMemoria sesion) {
+        super(sesion, BaseDatosMemoria.getInstance().getEncargados());
+    }
+
+    @Override
+    protected boolean cumpleFiltro(final EncargadoEntity filtro, final EncargadoEntity fila) {
+        return coincideId(filtro.getId(), fila.getId())
+                && coincideExacto(filtro.getUsername(), fila.getUsername())
+                && coincideId(filtro.getOrganizacion().getId(), fila.getOrganizacion().getId());
+    }
+}
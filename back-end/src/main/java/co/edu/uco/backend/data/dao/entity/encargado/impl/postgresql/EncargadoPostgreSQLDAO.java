@@ -3,17 +3,24 @@ package co.edu.uco.backend.data.dao.entity.encargado.impl.postgresql;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
 import co.edu.uco.backend.data.dao.entity.encargado.EncargadoDAO;
+import co.edu.uco.backend.data.dao.sql.LotePostgreSQL;
 import co.edu.uco.backend.entity.EncargadoEntity;
 import co.edu.uco.backend.entity.OrganizacionDeportivaEntity;
 import co.edu.uco.backend.entity.UsuarioEntity;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class EncargadoPostgreSQLDAO implements EncargadoDAO {
 
+    private static final String SQL_CREAR = "INSERT INTO encargado(encargadoid, nombre, usuario, contrasena, prefijo, telefono, correo, tipodocumento, documento, codigoorganizacion) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SQL_MODIFICAR = "UPDATE encargado SET nombre = ?, usuario = ?, contrasena = ?, prefijo = ?, telefono = ?, correo = ?, tipodocumento = ?, documento = ?, codigoorganizacion = ? WHERE encargadoid = ?";
+    private static final String SQL_ELIMINAR = "DELETE FROM encargado WHERE encargadoid = ?";
+
     private final Connection connection;
 
     public EncargadoPostgreSQLDAO(Connection connection) {
@@ -22,21 +29,8 @@ public class EncargadoPostgreSQLDAO implements EncargadoDAO {
 
     @Override
     public void crear(EncargadoEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("INSERT INTO encargado(encargadoId, nombre, usuario, contrasena, prefijo, telefono, correo, tipodocumento, documento, codigoorganizacion)" +
-                " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,entity.getId());
-            sentenciaPreparada.setString(2,entity.getNombre());
-            sentenciaPreparada.setString(3,entity.getUsername());
-            sentenciaPreparada.setString(4,entity.getContrasena());
-            sentenciaPreparada.setString(5,entity.getPrefijoTelefono());
-            sentenciaPreparada.setString(6,entity.getTelefono());
-            sentenciaPreparada.setString(7,entity.getCorreo());
-            sentenciaPreparada.setString(8,entity.getTipoDocumento());
-            sentenciaPreparada.setString(9,entity.getDocumento());
-            sentenciaPreparada.setObject(10,entity.getOrganizacion());
-
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_CREAR)) {
+            asignarParametrosCreacion(sentenciaPreparada, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -55,10 +49,8 @@ public class EncargadoPostgreSQLDAO implements EncargadoDAO {
 
     @Override
     public void eliminar(UUID encargadoId) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("DELETE FROM encargado WHERE encargadoid = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,encargadoId);
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_ELIMINAR)) {
+            sentenciaPreparada.setObject(1, encargadoId);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -89,19 +81,8 @@ public class EncargadoPostgreSQLDAO implements EncargadoDAO {
 
     @Override
     public void modificar(UUID encargadoId, EncargadoEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("UPDATE encargado SET nombre = ?, usuario = ?, contrasena = ?,prefijo = ?, telefono = ?, correo = ?, tipodocumento = ?, documento = ?, codigoorganizacion = ? WHERE encargadoId = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,encargadoId);
-            sentenciaPreparada.setString(2,entity.getNombre());
-            sentenciaPreparada.setString(3,entity.getUsername());
-            sentenciaPreparada.setString(4,entity.getContrasena());
-            sentenciaPreparada.setString(5,entity.getPrefijoTelefono());
-            sentenciaPreparada.setString(6,entity.getTelefono());
-            sentenciaPreparada.setString(7,entity.getCorreo());
-            sentenciaPreparada.setString(8,entity.getTipoDocumento());
-            sentenciaPreparada.setString(9,entity.getDocumento());
-            sentenciaPreparada.setObject(10,entity.getOrganizacion());
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_MODIFICAR)) {
+            asignarParametrosModificacion(sentenciaPreparada, encargadoId, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -118,4 +99,85 @@ public class EncargadoPostgreSQLDAO implements EncargadoDAO {
         }
 
     }
+
+    @Override
+    public void crearTodos(List<EncargadoEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_CREAR, entities, EncargadoPostgreSQLDAO::asignarParametrosCreacion);
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de registrar en lote los encargados en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de registrar los encargados en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de registrar en lote los encargados en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de registrar los encargados en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void modificarTodos(Map<UUID, EncargadoEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_MODIFICAR, entities.entrySet(),
+                    (sentencia, cambio) -> asignarParametrosModificacion(sentencia, cambio.getKey(), cambio.getValue()));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de modificar en lote los encargados en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de modificar los encargados en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de modificar en lote los encargados en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de modificar los encargados en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void eliminarTodos(List<UUID> ids) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_ELIMINAR, ids, (sentencia, id) -> sentencia.setObject(1, id));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de eliminar en lote los encargados en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de eliminar los encargados en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de eliminar en lote los encargados en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de eliminar los encargados en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private static void asignarParametrosCreacion(PreparedStatement sentencia, EncargadoEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getId());
+        sentencia.setString(2, entity.getNombre());
+        sentencia.setString(3, entity.getUsername());
+        sentencia.setString(4, entity.getContrasena());
+        sentencia.setString(5, entity.getPrefijoTelefono());
+        sentencia.setString(6, entity.getTelefono());
+        sentencia.setString(7, entity.getCorreo());
+        sentencia.setString(8, entity.getTipoDocumento());
+        sentencia.setString(9, entity.getDocumento());
+        sentencia.setObject(10, entity.getOrganizacion().getId());
+    }
+
+    private static void asignarParametrosModificacion(PreparedStatement sentencia, UUID id, EncargadoEntity entity) throws SQLException {
+        sentencia.setString(1, entity.getNombre());
+        sentencia.setString(2, entity.getUsername());
+        sentencia.setString(3, entity.getContrasena());
+        sentencia.setString(4, entity.getPrefijoTelefono());
+        sentencia.setString(5, entity.getTelefono());
+        sentencia.setString(6, entity.getCorreo());
+        sentencia.setString(7, entity.getTipoDocumento());
+        sentencia.setString(8, entity.getDocumento());
+        sentencia.setObject(9, entity.getOrganizacion().getId());
+        sentencia.setObject(10, id);
+    }
 }
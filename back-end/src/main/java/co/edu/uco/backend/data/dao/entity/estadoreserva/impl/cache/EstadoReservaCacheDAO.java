@@ -0,0 +1,89 @@
+package co.edu.uco.backend.data.dao.entity.estadoreserva.impl.cache;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilObjeto;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilTexto;
+import co.edu.uco.backend.data.dao.cache.CacheCatalogo;
+import co.edu.uco.backend.data.dao.cache.CachesCatalogo;
+import co.edu.uco.backend.data.dao.cache.CatalogoCacheDAO;
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
+import co.edu.uco.backend.data.dao.entity.estadoreserva.EstadoReservaDAO;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.entity.EstadoReservaEntity;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Además de consultarPorId, guarda en caché las consultas por nombre ("Pendiente", "Cancelada"...),
+ * que se hacen en cada registro de reserva.
+ */
+public class EstadoReservaCacheDAO extends CatalogoCacheDAO<EstadoReservaEntity, EstadoReservaDAO> implements EstadoReservaDAO {
+
+    private final CacheCatalogo<String, List<EstadoReservaEntity>> consultas = CachesCatalogo.getInstance().getConsultasEstadoReserva();
+
+    public EstadoReservaCacheDAO(final EstadoReservaDAO delegado, final DAOFactory factory) {
+        super(delegado, CachesCatalogo.getInstance().getEstadosReserva(), factory, VersionesRecursos.Recurso.ESTADO_RESERVA);
+    }
+
+    @Override
+    protected UUID obtenerId(final EstadoReservaEntity entity) {
+        return entity.getId();
+    }
+
+    @Override
+    public void crear(final EstadoReservaEntity entity) throws BackEndException {
+        super.crear(entity);
+        invalidarAlConfirmar(consultas::invalidarTodo);
+    }
+
+    @Override
+    public void eliminar(final UUID id) throws BackEndException {
+        super.eliminar(id);
+        invalidarAlConfirmar(consultas::invalidarTodo);
+    }
+
+    @Override
+    public void modificar(final UUID id, final EstadoReservaEntity entity) throws BackEndException {
+        super.modificar(id, entity);
+        invalidarAlConfirmar(consultas::invalidarTodo);
+    }
+
+    @Override
+    public void crearTodos(final List<EstadoReservaEntity> entities) throws BackEndException {
+        super.crearTodos(entities);
+        invalidarAlConfirmar(consultas::invalidarTodo);
+    }
+
+    @Override
+    public void modificarTodos(final Map<UUID, EstadoReservaEntity> entities) throws BackEndException {
+        super.modificarTodos(entities);
+        invalidarAlConfirmar(consultas::invalidarTodo);
+    }
+
+    @Override
+    public void eliminarTodos(final List<UUID> ids) throws BackEndException {
+        super.eliminarTodos(ids);
+        invalidarAlConfirmar(consultas::invalidarTodo);
+    }
+
+    @Override
+    public List<EstadoReservaEntity> consultar(final EstadoReservaEntity filtro) throws BackEndException {
+        var nombre = UtilObjeto.getInstance().esNulo(filtro) ? UtilTexto.VACIO
+                : UtilTexto.getInstance().quitarEspaciosEnBlancoInicioFin(filtro.getNombre());
+        var llave = nombre.toLowerCase(Locale.ROOT);
+        var enCache = consultas.buscar(llave);
+        if (enCache != null) {
+            return enCache;
+        }
+
+        var resultado = delegado.consultar(filtro);
+        // Igual que en consultarPorId, un nombre sin resultados no se guarda
+        if (!resultado.isEmpty()) {
+            consultas.guardar(llave, resultado);
+        }
+        return resultado;
+    }
+}
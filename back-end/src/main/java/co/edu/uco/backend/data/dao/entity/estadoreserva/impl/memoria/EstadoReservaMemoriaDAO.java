@@ -0,0 +1,20 @@
+package co.edu.uco.backend.data.dao.entity.estadoreserva.impl.memoria;
+
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
+import co.edu.uco.backend.data.dao.entity.estadoreserva.EstadoReservaDAO;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.data.dao.memoria.MemoriaDAO;
+import co.edu.uco.backend.data.dao.memoria.SesionMemoria;
+import co.edu.uco.backend.entity.EstadoReservaEntity;
+
+public class EstadoReservaMemoriaDAO extends MemoriaDAO<EstadoReservaEntity> implements EstadoReservaDAO {
+
+    public EstadoReservaMemoriaDAO(final SesionMemoria sesion) {
+        super(sesion, BaseDatosMemoria.getInstance().getEstadosReserva(), VersionesRecursos.Recurso.ESTADO_RESERVA);
+    }
+
+    @Override
+    protected boolean cumpleFiltro(final EstadoReservaEntity filtro, final EstadoReservaEntity fila) {
+        return coincideTexto(filtro.getNombre(), fila.getNombre());
+    }
+}
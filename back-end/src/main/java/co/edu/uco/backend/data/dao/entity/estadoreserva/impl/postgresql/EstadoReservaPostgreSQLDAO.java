@@ -2,19 +2,31 @@ package co.edu.uco.backend.data.dao.entity.estadoreserva.impl.postgresql;
 
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilObjeto;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilTexto;
 import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
 import co.edu.uco.backend.data.dao.entity.estadoreserva.EstadoReservaDAO;
+import co.edu.uco.backend.data.dao.sql.LotePostgreSQL;
 import co.edu.uco.backend.entity.EstadoReservaEntity;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class EstadoReservaPostgreSQLDAO implements EstadoReservaDAO {
 
+    private static final String SQL_CREAR = "INSERT INTO doodb.estadoreserva(codigoestadores, nombre) VALUES (?, ?)";
+    private static final String SQL_MODIFICAR = "UPDATE doodb.estadoreserva SET nombre = ? WHERE codigoestadores = ?";
+    private static final String SQL_ELIMINAR = "DELETE FROM doodb.estadoreserva WHERE codigoestadores = ?";
+    private static final String SQL_CONSULTAR = "SELECT codigoestadores, nombre FROM doodb.estadoreserva";
+    private static final String SQL_CONSULTAR_POR_NOMBRE = SQL_CONSULTAR + " WHERE LOWER(nombre) = LOWER(?)";
+    private static final String SQL_CONSULTAR_POR_ID = SQL_CONSULTAR + " WHERE codigoestadores = ?";
+
     private final Connection connection;
 
     public EstadoReservaPostgreSQLDAO(Connection connection) {
@@ -23,12 +35,8 @@ public class EstadoReservaPostgreSQLDAO implements EstadoReservaDAO {
 
     @Override
     public void crear(EstadoReservaEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("INSERT INTO cancha(id, nombre)" +
-                " VALUES (?, ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,entity.getId());
-            sentenciaPreparada.setString(2,entity.getNombre());
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_CREAR)) {
+            asignarParametrosCreacion(sentenciaPreparada, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -47,10 +55,8 @@ public class EstadoReservaPostgreSQLDAO implements EstadoReservaDAO {
 
     @Override
     public void eliminar(UUID id) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("DELETE FROM EstadoReserva WHERE id = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,id);
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_ELIMINAR)) {
+            sentenciaPreparada.setObject(1, id);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -67,20 +73,42 @@ public class EstadoReservaPostgreSQLDAO implements EstadoReservaDAO {
         }
     }
     @Override
-    public List<EstadoReservaEntity> consultar(EstadoReservaEntity entity) {
-        return List.of();
+    public List<EstadoReservaEntity> consultar(EstadoReservaEntity filtro) throws BackEndException {
+        var listaEstados = new ArrayList<EstadoReservaEntity>();
+        var filtrarPorNombre = !UtilObjeto.getInstance().esNulo(filtro)
+                && !UtilTexto.getInstance().estaVacia(filtro.getNombre());
+
+        try (PreparedStatement ps = connection.prepareStatement(filtrarPorNombre ? SQL_CONSULTAR_POR_NOMBRE : SQL_CONSULTAR)) {
+            if (filtrarPorNombre) {
+                ps.setString(1, UtilTexto.getInstance().quitarEspaciosEnBlancoInicioFin(filtro.getNombre()));
+            }
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    listaEstados.add(new EstadoReservaEntity(
+                            UtilUUID.convertirAUUID(rs.getString("codigoestadores")),
+                            rs.getString("nombre")
+                    ));
+                }
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico   = "Se presentó una SQLException tratando de consultar los estados de reserva en la base de datos.";
+            var mensajeUsuario   = "No fue posible consultar los estados de reserva en este momento.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico   = "Se presentó una excepción NO CONTROLADA tratando de consultar los estados de reserva.";
+            var mensajeUsuario   = "Ha ocurrido un problema inesperado al consultar los estados de reserva.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+
+        return listaEstados;
     }
 
     @Override
     public EstadoReservaEntity consultarPorId(UUID id) throws BackEndException {
-        var sql = new StringBuilder();
-        sql.append("SELECT codigoestadores, nombre ")
-                .append("FROM doodb.estadoreserva ")
-                .append("WHERE codigoestadores = ?");
-
         var estadoEntity = new EstadoReservaEntity();
 
-        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+        try (PreparedStatement ps = connection.prepareStatement(SQL_CONSULTAR_POR_ID)) {
             ps.setObject(1, id);
 
             try (ResultSet rs = ps.executeQuery()) {
@@ -110,12 +138,8 @@ public class EstadoReservaPostgreSQLDAO implements EstadoReservaDAO {
 
     @Override
     public void modificar(UUID id, EstadoReservaEntity entity) throws BackEndException{
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("UPDATE cancha SET nombre = ? WHERE id = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1, id);
-            sentenciaPreparada.setString(2,entity.getNombre());
-
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_MODIFICAR)) {
+            asignarParametrosModificacion(sentenciaPreparada, id, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -131,4 +155,69 @@ public class EstadoReservaPostgreSQLDAO implements EstadoReservaDAO {
             throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
         }
     }
+
+    @Override
+    public void crearTodos(List<EstadoReservaEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_CREAR, entities, EstadoReservaPostgreSQLDAO::asignarParametrosCreacion);
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de registrar en lote los estados de reserva en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de registrar los estados de reserva en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de registrar en lote los estados de reserva en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de registrar los estados de reserva en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void modificarTodos(Map<UUID, EstadoReservaEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_MODIFICAR, entities.entrySet(),
+                    (sentencia, cambio) -> asignarParametrosModificacion(sentencia, cambio.getKey(), cambio.getValue()));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de modificar en lote los estados de reserva en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de modificar los estados de reserva en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de modificar en lote los estados de reserva en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de modificar los estados de reserva en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void eliminarTodos(List<UUID> ids) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_ELIMINAR, ids, (sentencia, id) -> sentencia.setObject(1, id));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de eliminar en lote los estados de reserva en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de eliminar los estados de reserva en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de eliminar en lote los estados de reserva en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de eliminar los estados de reserva en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private static void asignarParametrosCreacion(PreparedStatement sentencia, EstadoReservaEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getId());
+        sentencia.setString(2, entity.getNombre());
+    }
+
+    private static void asignarParametrosModificacion(PreparedStatement sentencia, UUID id, EstadoReservaEntity entity) throws SQLException {
+        sentencia.setString(1, entity.getNombre());
+        sentencia.setObject(2, id);
+    }
 }
@@ -0,0 +1,19 @@
+package co.edu.uco.backend.data.dao.entity.estadoverificacion.impl.memoria;
+
+import co.edu.uco.backend.data.dao.entity.estadoverificacion.EstadoVerificacionDAO;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.data.dao.memoria.MemoriaDAO;
+import co.edu.uco.backend.data.dao.memoria.SesionMemoria;
+import co.edu.uco.backend.entity.EstadoVerificacionEntity;
+
+public class EstadoVerificacionMemoriaDAO extends MemoriaDAO<EstadoVerificacionEntity> implements EstadoVerificacionDAO {
+
+    public EstadoVerificacionMemoriaDAO(final SesionMemoria sesion) {
+        super(sesion, BaseDatosMemoria.getInstance().getEstadosVerificacion());
+    }
+
+    @Override
+    protected boolean cumpleFiltro(final EstadoVerificacionEntity filtro, final EstadoVerificacionEntity fila) {
+        return coincideTexto(filtro.getNombre(), fila.getNombre());
+    }
+}
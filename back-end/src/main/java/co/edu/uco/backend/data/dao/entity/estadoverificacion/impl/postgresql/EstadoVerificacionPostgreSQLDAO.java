@@ -3,16 +3,23 @@ package co.edu.uco.backend.data.dao.entity.estadoverificacion.impl.postgresql;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
 import co.edu.uco.backend.data.dao.entity.estadoverificacion.EstadoVerificacionDAO;
+import co.edu.uco.backend.data.dao.sql.LotePostgreSQL;
 import co.edu.uco.backend.entity.CanchaEntity;
 import co.edu.uco.backend.entity.EstadoVerificacionEntity;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class EstadoVerificacionPostgreSQLDAO implements EstadoVerificacionDAO {
 
+    private static final String SQL_CREAR = "INSERT INTO EstadoVerificacion(id, nombre) VALUES (?, ?)";
+    private static final String SQL_MODIFICAR = "UPDATE EstadoVerificacion SET nombre = ? WHERE id = ?";
+    private static final String SQL_ELIMINAR = "DELETE FROM EstadoVerificacion WHERE id = ?";
+
     private final Connection connection;
 
     public EstadoVerificacionPostgreSQLDAO(Connection connection) {
@@ -21,13 +28,8 @@ public class EstadoVerificacionPostgreSQLDAO implements EstadoVerificacionDAO {
 
     @Override
     public void crear(EstadoVerificacionEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("INSERT INTO EstadoVerificacion(id, nombre)" +
-                " VALUES (?, ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,entity.getId());
-            sentenciaPreparada.setString(2,entity.getNombre());
-
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_CREAR)) {
+            asignarParametrosCreacion(sentenciaPreparada, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -46,10 +48,8 @@ public class EstadoVerificacionPostgreSQLDAO implements EstadoVerificacionDAO {
 
     @Override
     public void eliminar(UUID id) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("DELETE FROM EstadoVerificacion WHERE id = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,id);
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_ELIMINAR)) {
+            sentenciaPreparada.setObject(1, id);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -79,12 +79,8 @@ public class EstadoVerificacionPostgreSQLDAO implements EstadoVerificacionDAO {
 
     @Override
     public void modificar(UUID id, EstadoVerificacionEntity entity) throws BackEndException{
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("UPDATE EstadoVerficacion SET nombre = ?  WHERE id = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1, id);
-            sentenciaPreparada.setString(2,entity.getNombre());
-
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_MODIFICAR)) {
+            asignarParametrosModificacion(sentenciaPreparada, id, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -100,4 +96,69 @@ public class EstadoVerificacionPostgreSQLDAO implements EstadoVerificacionDAO {
             throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
         }
     }
+
+    @Override
+    public void crearTodos(List<EstadoVerificacionEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_CREAR, entities, EstadoVerificacionPostgreSQLDAO::asignarParametrosCreacion);
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de registrar en lote los estados de verificación en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de registrar los estados de verificación en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de registrar en lote los estados de verificación en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de registrar los estados de verificación en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void modificarTodos(Map<UUID, EstadoVerificacionEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_MODIFICAR, entities.entrySet(),
+                    (sentencia, cambio) -> asignarParametrosModificacion(sentencia, cambio.getKey(), cambio.getValue()));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de modificar en lote los estados de verificación en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de modificar los estados de verificación en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de modificar en lote los estados de verificación en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de modificar los estados de verificación en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void eliminarTodos(List<UUID> ids) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_ELIMINAR, ids, (sentencia, id) -> sentencia.setObject(1, id));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de eliminar en lote los estados de verificación en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de eliminar los estados de verificación en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de eliminar en lote los estados de verificación en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de eliminar los estados de verificación en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private static void asignarParametrosCreacion(PreparedStatement sentencia, EstadoVerificacionEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getId());
+        sentencia.setString(2, entity.getNombre());
+    }
+
+    private static void asignarParametrosModificacion(PreparedStatement sentencia, UUID id, EstadoVerificacionEntity entity) throws SQLException {
+        sentencia.setString(1, entity.getNombre());
+        sentencia.setObject(2, id);
+    }
 }
@@ -1,12 +1,15 @@
 package co.edu.uco.backend.data.dao.entity.factura;
 
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.data.dao.entity.CreateDAO;
 import co.edu.uco.backend.data.dao.entity.DeleteDAO;
 import co.edu.uco.backend.data.dao.entity.RetrieveDAO;
 import co.edu.uco.backend.data.dao.entity.UpdateDAO;
 import co.edu.uco.backend.entity.FacturaEntity;
 
+import java.time.LocalDate;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface FacturaDAO extends
         CreateDAO<FacturaEntity>,
@@ -14,4 +17,8 @@ public interface FacturaDAO extends
         UpdateDAO<FacturaEntity, UUID>,
         DeleteDAO<UUID> {
 
+    // Facturas de reservas en canchas de la organización, generadas entre las fechas indicadas (ambas
+    // inclusive) y entregadas fila a fila desde un cursor; requiere una transacción iniciada
+    void exportarPorOrganizacion(UUID organizacionId, LocalDate desde, LocalDate hasta,
+                                 Consumer<FacturaResumen> consumidor) throws BackEndException;
 }
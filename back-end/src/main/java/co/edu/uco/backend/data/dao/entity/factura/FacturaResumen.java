@@ -0,0 +1,20 @@
+package co.edu.uco.backend.data.dao.entity.factura;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Proyección de solo lectura de una factura con la reserva, la cancha y el cliente ya resueltos
+ * por el JOIN, pensada para exportar sin armar las entidades completas.
+ */
+public record FacturaResumen(
+        UUID id,
+        String identificador,
+        UUID reserva,
+        LocalDate fechaGeneracion,
+        double total,
+        LocalDate fechaUsoCancha,
+        String nombreCancha,
+        String nombreCliente
+) {
+}
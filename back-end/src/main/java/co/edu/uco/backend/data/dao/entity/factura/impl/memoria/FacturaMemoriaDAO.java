@@ -0,0 +1,64 @@
+package co.edu.uco.backend.data.dao.entity.factura.impl.memoria;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.entity.factura.FacturaDAO;
+import co.edu.uco.backend.data.dao.entity.factura.FacturaResumen;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.data.dao.memoria.MemoriaDAO;
+import co.edu.uco.backend.data.dao.memoria.SesionMemoria;
+import co.edu.uco.backend.entity.FacturaEntity;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public class FacturaMemoriaDAO extends MemoriaDAO<FacturaEntity> implements FacturaDAO {
+
+    private static final Comparator<FacturaResumen> POR_FECHA_DE_GENERACION = Comparator
+            .comparing(FacturaResumen::fechaGeneracion)
+            .thenComparing(FacturaResumen::identificador, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(FacturaResumen::id);
+
+    private final BaseDatosMemoria baseDatos = BaseDatosMemoria.getInstance();
+
+    public FacturaMemoriaDAO(final SesionMemoria sesion) {
+        super(sesion, BaseDatosMemoria.getInstance().getFacturas());
+    }
+
+    @Override
+    protected boolean cumpleFiltro(final FacturaEntity filtro, final FacturaEntity fila) {
+        return coincideId(filtro.getId(), fila.getId())
+                && coincideId(filtro.getReserva().getId(), fila.getReserva().getId());
+    }
+
+    // Como el JOIN de PostgreSQL: organización -> canchas -> reservas -> facturas, por índices
+    @Override
+    public void exportarPorOrganizacion(final UUID organizacionId, final LocalDate desde, final LocalDate hasta,
+                                        final Consumer<FacturaResumen> consumidor) throws BackEndException {
+        var facturas = new ArrayList<FacturaResumen>();
+        for (var cancha : sesion.consultarPorIndice(baseDatos.getCanchas(), BaseDatosMemoria.INDICE_CANCHA_POR_ORGANIZACION,
+                organizacionId, fila -> true)) {
+            for (var reserva : sesion.consultarPorIndice(baseDatos.getReservas(), BaseDatosMemoria.INDICE_RESERVA_POR_CANCHA,
+                    cancha.getId(), fila -> true)) {
+                var cliente = sesion.consultarPorId(baseDatos.getClientes(), reserva.getCliente().getId());
+                for (var factura : sesion.consultarPorIndice(tabla, BaseDatosMemoria.INDICE_FACTURA_POR_RESERVA, reserva.getId(),
+                        fila -> !fila.getFechaGeneracion().isBefore(desde) && !fila.getFechaGeneracion().isAfter(hasta))) {
+                    facturas.add(new FacturaResumen(
+                            factura.getId(),
+                            factura.getIdentificador(),
+                            reserva.getId(),
+                            factura.getFechaGeneracion(),
+                            factura.getTotal(),
+                            reserva.getFechaUsoCancha(),
+                            cancha.getNombreCancha(),
+                            cliente == null ? null : cliente.getNombre()
+                    ));
+                }
+            }
+        }
+        facturas.sort(POR_FECHA_DE_GENERACION);
+        facturas.forEach(consumidor);
+    }
+}
@@ -2,17 +2,48 @@ package co.edu.uco.backend.data.dao.entity.factura.impl.postgresql;
 
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
 import co.edu.uco.backend.data.dao.entity.factura.FacturaDAO;
+import co.edu.uco.backend.data.dao.entity.factura.FacturaResumen;
+import co.edu.uco.backend.data.dao.sql.LotePostgreSQL;
 import co.edu.uco.backend.entity.CanchaEntity;
 import co.edu.uco.backend.entity.FacturaEntity;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public class FacturaPostgreSQLDAO implements FacturaDAO {
 
+    // Filas que el driver trae por viaje cuando recorre un cursor de exportación
+    private static final int FILAS_POR_LOTE = 500;
+
+    private static final String SQL_CREAR = "INSERT INTO factura(id, identificador, reserva, fechageneracion, total) VALUES (?, ?, ?, ?, ?)";
+    private static final String SQL_MODIFICAR = "UPDATE factura SET identificador = ?, reserva = ?, fechageneracion = ?, total = ? WHERE id = ?";
+    private static final String SQL_ELIMINAR = "DELETE FROM factura WHERE id = ?";
+    private static final String SQL_EXPORTAR_POR_ORGANIZACION = "SELECT "
+            +   "f.id, "
+            +   "f.identificador, "
+            +   "f.reserva, "
+            +   "f.fechageneracion, "
+            +   "f.total, "
+            +   "r.fechausocancha, "
+            +   "ch.nombre           AS cancha_nombre, "
+            +   "c.nombre            AS cliente_nombre "
+            + "FROM factura f "
+            + "JOIN doodb.reserva r        ON f.reserva         = r.codigoreserva "
+            + "JOIN doodb.cancha ch        ON r.codigocancha    = ch.codigocancha "
+            + "LEFT JOIN doodb.cliente c   ON r.codigocliente   = c.codigocliente "
+            + "WHERE ch.codigoorganizacion = ? "
+            +   "AND f.fechageneracion BETWEEN ? AND ? "
+            + "ORDER BY f.fechageneracion, f.identificador, f.id";
+
     private final Connection connection;
 
     public FacturaPostgreSQLDAO(Connection connection) {
@@ -21,16 +52,8 @@ public class FacturaPostgreSQLDAO implements FacturaDAO {
 
     @Override
     public void crear(FacturaEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("INSERT INTO Factura(id, identificador, reserva, fechaGeneracion, total)" +
-                " VALUES (?, ?, ?, ?, ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,entity.getId());
-            sentenciaPreparada.setString(2,entity.getIdentificador());
-            sentenciaPreparada.setObject(3,entity.getReserva());
-            sentenciaPreparada.setObject(4,entity.getFechaGeneracion());
-            sentenciaPreparada.setDouble(5,entity.getTotal());
-
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_CREAR)) {
+            asignarParametrosCreacion(sentenciaPreparada, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -49,10 +72,8 @@ public class FacturaPostgreSQLDAO implements FacturaDAO {
 
     @Override
     public void eliminar(UUID id) throws BackEndException{
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("DELETE FROM Factura WHERE id = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,id);
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_ELIMINAR)) {
+            sentenciaPreparada.setObject(1, id);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -80,16 +101,49 @@ public class FacturaPostgreSQLDAO implements FacturaDAO {
     }
 
 
+    @Override
+    public void exportarPorOrganizacion(UUID organizacionId, LocalDate desde, LocalDate hasta,
+                                        Consumer<FacturaResumen> consumidor) throws BackEndException {
+        // Con autocommit apagado y fetchSize, el driver abre un cursor en vez de traer todo el resultado
+        try (PreparedStatement ps = connection.prepareStatement(SQL_EXPORTAR_POR_ORGANIZACION,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            ps.setFetchSize(FILAS_POR_LOTE);
+            ps.setObject(1, organizacionId);
+            ps.setObject(2, desde);
+            ps.setObject(3, hasta);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    consumidor.accept(new FacturaResumen(
+                            UtilUUID.convertirAUUID(rs.getString("id")),
+                            rs.getString("identificador"),
+                            UtilUUID.convertirAUUID(rs.getString("reserva")),
+                            rs.getObject("fechageneracion", LocalDate.class),
+                            rs.getDouble("total"),
+                            rs.getObject("fechausocancha", LocalDate.class),
+                            rs.getString("cancha_nombre"),
+                            rs.getString("cliente_nombre")
+                    ));
+                }
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de exportar las facturas de la organización, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de exportar las facturas de la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de exportar las facturas de la organización, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de exportar las facturas de la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
     @Override
     public void modificar(UUID id, FacturaEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("UPDATE factura SET identificador = ?, reserva = ?, fechageneracion = ?, total = ? WHERE id = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,id);
-            sentenciaPreparada.setString(2,entity.getIdentificador());
-            sentenciaPreparada.setObject(3,entity.getReserva());
-            sentenciaPreparada.setObject(4,entity.getFechaGeneracion());
-            sentenciaPreparada.setDouble(5,entity.getTotal());
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_MODIFICAR)) {
+            asignarParametrosModificacion(sentenciaPreparada, id, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -105,4 +159,75 @@ public class FacturaPostgreSQLDAO implements FacturaDAO {
             throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
         }
     }
+
+    @Override
+    public void crearTodos(List<FacturaEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_CREAR, entities, FacturaPostgreSQLDAO::asignarParametrosCreacion);
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de registrar en lote las facturas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de registrar las facturas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de registrar en lote las facturas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de registrar las facturas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void modificarTodos(Map<UUID, FacturaEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_MODIFICAR, entities.entrySet(),
+                    (sentencia, cambio) -> asignarParametrosModificacion(sentencia, cambio.getKey(), cambio.getValue()));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de modificar en lote las facturas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de modificar las facturas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de modificar en lote las facturas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de modificar las facturas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void eliminarTodos(List<UUID> ids) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_ELIMINAR, ids, (sentencia, id) -> sentencia.setObject(1, id));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de eliminar en lote las facturas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de eliminar las facturas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de eliminar en lote las facturas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de eliminar las facturas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private static void asignarParametrosCreacion(PreparedStatement sentencia, FacturaEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getId());
+        sentencia.setString(2, entity.getIdentificador());
+        sentencia.setObject(3, entity.getReserva().getId());
+        sentencia.setObject(4, entity.getFechaGeneracion());
+        sentencia.setDouble(5, entity.getTotal());
+    }
+
+    private static void asignarParametrosModificacion(PreparedStatement sentencia, UUID id, FacturaEntity entity) throws SQLException {
+        sentencia.setString(1, entity.getIdentificador());
+        sentencia.setObject(2, entity.getReserva().getId());
+        sentencia.setObject(3, entity.getFechaGeneracion());
+        sentencia.setDouble(4, entity.getTotal());
+        sentencia.setObject(5, id);
+    }
 }
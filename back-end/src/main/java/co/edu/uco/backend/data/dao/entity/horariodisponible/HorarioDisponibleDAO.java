@@ -1,11 +1,13 @@
 package co.edu.uco.backend.data.dao.entity.horariodisponible;
 
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.data.dao.entity.CreateDAO;
 import co.edu.uco.backend.data.dao.entity.DeleteDAO;
 import co.edu.uco.backend.data.dao.entity.RetrieveDAO;
 import co.edu.uco.backend.data.dao.entity.UpdateDAO;
 import co.edu.uco.backend.entity.HorarioDisponibleEntity;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface HorarioDisponibleDAO extends
@@ -14,4 +16,8 @@ public interface HorarioDisponibleDAO extends
         UpdateDAO<HorarioDisponibleEntity, UUID>,
         DeleteDAO<UUID> {
 
+    List<HorarioDisponibleEntity> consultarPorCancha(UUID canchaId) throws BackEndException;
+
+    // Carga masiva en la transacción actual (COPY en PostgreSQL); las filas deben llegar ya validadas
+    void importarTodos(List<HorarioDisponibleEntity> horarios) throws BackEndException;
 }
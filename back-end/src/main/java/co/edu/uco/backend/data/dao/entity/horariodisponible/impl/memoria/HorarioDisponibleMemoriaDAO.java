@@ -0,0 +1,36 @@
+package co.edu.uco.backend.data.dao.entity.horariodisponible.impl.memoria;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.entity.horariodisponible.HorarioDisponibleDAO;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.data.dao.memoria.MemoriaDAO;
+import co.edu.uco.backend.data.dao.memoria.SesionMemoria;
+import co.edu.uco.backend.entity.HorarioDisponibleEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+public class HorarioDisponibleMemoriaDAO extends MemoriaDAO<HorarioDisponibleEntity> implements HorarioDisponibleDAO {
+
+    public HorarioDisponibleMemoriaDAO(final SesionMemoria sesion) {
+        super(sesion, BaseDatosMemoria.getInstance().getHorariosDisponibles());
+    }
+
+    @Override
+    public List<HorarioDisponibleEntity> consultarPorCancha(final UUID canchaId) throws BackEndException {
+        return sesion.consultarPorIndice(tabla, BaseDatosMemoria.INDICE_HORARIO_DISPONIBLE_POR_CANCHA, canchaId, fila -> true);
+    }
+
+    @Override
+    public void importarTodos(final List<HorarioDisponibleEntity> horarios) throws BackEndException {
+        for (HorarioDisponibleEntity horario : horarios) {
+            crear(horario);
+        }
+    }
+
+    @Override
+    protected boolean cumpleFiltro(final HorarioDisponibleEntity filtro, final HorarioDisponibleEntity fila) {
+        return coincideId(filtro.getId(), fila.getId())
+                && coincideId(filtro.getCancha().getId(), fila.getCancha().getId());
+    }
+}
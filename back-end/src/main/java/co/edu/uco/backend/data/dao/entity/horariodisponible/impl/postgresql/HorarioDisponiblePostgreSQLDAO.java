@@ -1,17 +1,33 @@
 package co.edu.uco.backend.data.dao.entity.horariodisponible.impl.postgresql;
 
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.constants.DiaSemana;
 import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilTexto;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
 import co.edu.uco.backend.data.dao.entity.horariodisponible.HorarioDisponibleDAO;
+import co.edu.uco.backend.data.dao.sql.CargaMasivaPostgreSQL;
+import co.edu.uco.backend.data.dao.sql.LotePostgreSQL;
+import co.edu.uco.backend.entity.CanchaEntity;
 import co.edu.uco.backend.entity.HorarioDisponibleEntity;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class HorarioDisponiblePostgreSQLDAO implements HorarioDisponibleDAO {
 
+    private static final String SQL_CREAR = "INSERT INTO HorarioDisponible(id, cancha, dia, horaapertura, horacierre) VALUES (?, ?, ?, ?, ?)";
+    private static final String SQL_MODIFICAR = "UPDATE HorarioDisponible SET cancha = ?, dia = ?, horaapertura = ?, horacierre = ? WHERE id = ?";
+    private static final String SQL_ELIMINAR = "DELETE FROM HorarioDisponible WHERE id = ?";
+    private static final String SQL_CONSULTAR_POR_CANCHA = "SELECT id, dia, horaapertura, horacierre FROM HorarioDisponible WHERE cancha = ?";
+
     private final Connection connection;
 
     public HorarioDisponiblePostgreSQLDAO(Connection connection) {
@@ -20,15 +36,9 @@ public class HorarioDisponiblePostgreSQLDAO implements HorarioDisponibleDAO {
 
     @Override
     public void crear(HorarioDisponibleEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("INSERT INTO cancha(id, cancha, dia, horaApertura, horaCierre)" +
-                " VALUES (?, ?, ?, ?, ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,entity.getId());
-            sentenciaPreparada.setObject(2,entity.getCancha());
-            sentenciaPreparada.setObject(3,entity.getDia());
-            sentenciaPreparada.setObject(4,entity.getHoraApertura());
-            sentenciaPreparada.setObject(5,entity.getHoraCierre());
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_CREAR)) {
+            asignarParametrosCreacion(sentenciaPreparada, entity);
+
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
             var mensajeTecnico = "Se presentó una SQLException tratando de registrar la nueva informacion de la cancha en la base de datos, para más detalles revise el log de errores";
@@ -46,10 +56,8 @@ public class HorarioDisponiblePostgreSQLDAO implements HorarioDisponibleDAO {
 
     @Override
     public void eliminar(UUID id) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("DELETE FROM HorarioDisponible WHERE id = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,id);
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_ELIMINAR)) {
+            sentenciaPreparada.setObject(1, id);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -76,18 +84,45 @@ public class HorarioDisponiblePostgreSQLDAO implements HorarioDisponibleDAO {
         return null;
     }
 
+    @Override
+    public List<HorarioDisponibleEntity> consultarPorCancha(UUID canchaId) throws BackEndException {
+        var listaHorarios = new ArrayList<HorarioDisponibleEntity>();
+
+        try (PreparedStatement ps = connection.prepareStatement(SQL_CONSULTAR_POR_CANCHA)) {
+            ps.setObject(1, canchaId);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                var cancha = new CanchaEntity();
+                cancha.setId(canchaId);
+                while (rs.next()) {
+                    var dia = DiaSemana.valueOf(UtilTexto.getInstance().quitarEspaciosEnBlancoInicioFin(rs.getString("dia")).toUpperCase());
+                    listaHorarios.add(new HorarioDisponibleEntity(
+                            UtilUUID.convertirAUUID(rs.getString("id")),
+                            cancha,
+                            dia,
+                            rs.getObject("horaapertura", LocalTime.class),
+                            rs.getObject("horacierre", LocalTime.class)
+                    ));
+                }
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de consultar los horarios disponibles de la cancha en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de consultar los horarios disponibles de la cancha";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de consultar los horarios disponibles de la cancha en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de consultar los horarios disponibles de la cancha";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+
+        return listaHorarios;
+    }
+
 
     @Override
     public void modificar(UUID id, HorarioDisponibleEntity entity) throws BackEndException{
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("UPDATE HorarioDisponible SET cancha = ?, dia = ?, horaApertura = ?, horaCierre = ? WHERE id = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,id);
-            sentenciaPreparada.setObject(2,entity.getCancha());
-            sentenciaPreparada.setObject(3,entity.getDia());
-            sentenciaPreparada.setObject(4,entity.getHoraApertura());
-            sentenciaPreparada.setObject(5,entity.getHoraCierre());
-
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_MODIFICAR)) {
+            asignarParametrosModificacion(sentenciaPreparada, id, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -103,4 +138,94 @@ public class HorarioDisponiblePostgreSQLDAO implements HorarioDisponibleDAO {
             throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
         }
     }
+
+    @Override
+    public void importarTodos(List<HorarioDisponibleEntity> horarios) throws BackEndException {
+        try {
+            CargaMasivaPostgreSQL.copiar(connection, "HorarioDisponible (id, cancha, dia, horaapertura, horacierre)", horarios,
+                    horario -> new Object[]{horario.getId(), horario.getCancha().getId(), horario.getDia(), horario.getHoraApertura(), horario.getHoraCierre()});
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de cargar masivamente los horarios disponibles en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de importar los horarios disponibles en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de cargar masivamente los horarios disponibles en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de importar los horarios disponibles en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void crearTodos(List<HorarioDisponibleEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_CREAR, entities, HorarioDisponiblePostgreSQLDAO::asignarParametrosCreacion);
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de registrar en lote los horarios disponibles en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de registrar los horarios disponibles en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de registrar en lote los horarios disponibles en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de registrar los horarios disponibles en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void modificarTodos(Map<UUID, HorarioDisponibleEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_MODIFICAR, entities.entrySet(),
+                    (sentencia, cambio) -> asignarParametrosModificacion(sentencia, cambio.getKey(), cambio.getValue()));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de modificar en lote los horarios disponibles en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de modificar los horarios disponibles en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de modificar en lote los horarios disponibles en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de modificar los horarios disponibles en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void eliminarTodos(List<UUID> ids) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_ELIMINAR, ids, (sentencia, id) -> sentencia.setObject(1, id));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de eliminar en lote los horarios disponibles en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de eliminar los horarios disponibles en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de eliminar en lote los horarios disponibles en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de eliminar los horarios disponibles en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private static void asignarParametrosCreacion(PreparedStatement sentencia, HorarioDisponibleEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getId());
+        sentencia.setObject(2, entity.getCancha().getId());
+        sentencia.setString(3, entity.getDia().name());
+        sentencia.setObject(4, entity.getHoraApertura());
+        sentencia.setObject(5, entity.getHoraCierre());
+    }
+
+    private static void asignarParametrosModificacion(PreparedStatement sentencia, UUID id, HorarioDisponibleEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getCancha().getId());
+        sentencia.setString(2, entity.getDia().name());
+        sentencia.setObject(3, entity.getHoraApertura());
+        sentencia.setObject(4, entity.getHoraCierre());
+        sentencia.setObject(5, id);
+    }
 }
@@ -0,0 +1,36 @@
+package co.edu.uco.backend.data.dao.entity.horarioespecial.impl.memoria;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.entity.horarioespecial.HorarioEspecialDAO;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.data.dao.memoria.MemoriaDAO;
+import co.edu.uco.backend.data.dao.memoria.SesionMemoria;
+import co.edu.uco.backend.entity.HorarioEspecialEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+public class HorarioEspecialMemoriaDAO extends MemoriaDAO<HorarioEspecialEntity> implements HorarioEspecialDAO {
+
+    public HorarioEspecialMemoriaDAO(final SesionMemoria sesion) {
+        super(sesion, BaseDatosMemoria.getInstance().getHorariosEspeciales());
+    }
+
+    @Override
+    public List<HorarioEspecialEntity> consultarPorCancha(final UUID canchaId) throws BackEndException {
+        return sesion.consultarPorIndice(tabla, BaseDatosMemoria.INDICE_HORARIO_ESPECIAL_POR_CANCHA, canchaId, fila -> true);
+    }
+
+    @Override
+    public void importarTodos(final List<HorarioEspecialEntity> horarios) throws BackEndException {
+        for (HorarioEspecialEntity horario : horarios) {
+            crear(horario);
+        }
+    }
+
+    @Override
+    protected boolean cumpleFiltro(final HorarioEspecialEntity filtro, final HorarioEspecialEntity fila) {
+        return coincideId(filtro.getId(), fila.getId())
+                && coincideId(filtro.getCancha().getId(), fila.getCancha().getId());
+    }
+}
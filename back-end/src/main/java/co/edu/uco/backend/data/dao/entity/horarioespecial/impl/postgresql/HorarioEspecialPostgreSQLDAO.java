@@ -1,14 +1,32 @@
 package co.edu.uco.backend.data.dao.entity.horarioespecial.impl.postgresql;
 
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
 import co.edu.uco.backend.data.dao.entity.horarioespecial.HorarioEspecialDAO;
+import co.edu.uco.backend.data.dao.sql.CargaMasivaPostgreSQL;
+import co.edu.uco.backend.data.dao.sql.LotePostgreSQL;
+import co.edu.uco.backend.entity.CanchaEntity;
 import co.edu.uco.backend.entity.HorarioEspecialEntity;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class HorarioEspecialPostgreSQLDAO implements HorarioEspecialDAO {
 
+    private static final String SQL_CREAR = "INSERT INTO HorarioEspecial(id, cancha, fechainicio, fechafin, horainicio, horafin, motivo) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String SQL_MODIFICAR = "UPDATE HorarioEspecial SET cancha = ?, fechainicio = ?, fechafin = ?, horainicio = ?, horafin = ?, motivo = ? WHERE id = ?";
+    private static final String SQL_ELIMINAR = "DELETE FROM HorarioEspecial WHERE id = ?";
+    private static final String SQL_CONSULTAR_POR_CANCHA = "SELECT id, fechainicio, fechafin, horainicio, horafin, motivo FROM HorarioEspecial WHERE cancha = ?";
+
     private final Connection connection;
 
     public HorarioEspecialPostgreSQLDAO(Connection connection) {
@@ -16,13 +34,43 @@ public class HorarioEspecialPostgreSQLDAO implements HorarioEspecialDAO {
     }
 
     @Override
-    public void crear(HorarioEspecialEntity entity) {
+    public void crear(HorarioEspecialEntity entity) throws BackEndException {
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_CREAR)) {
+            asignarParametrosCreacion(sentenciaPreparada, entity);
+
+            sentenciaPreparada.executeUpdate();
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de registrar el horario especial en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de registrar el horario especial en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
 
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de registrar el horario especial en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de registrar el horario especial en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
     }
 
     @Override
-    public void eliminar(UUID id) {
+    public void eliminar(UUID id) throws BackEndException {
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_ELIMINAR)) {
+            sentenciaPreparada.setObject(1, id);
+
+            sentenciaPreparada.executeUpdate();
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de eliminar el horario especial en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de eliminar el horario especial en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
 
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de eliminar el horario especial en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de eliminar el horario especial en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
     }
 
     @Override
@@ -35,9 +83,154 @@ public class HorarioEspecialPostgreSQLDAO implements HorarioEspecialDAO {
         return null;
     }
 
+    @Override
+    public List<HorarioEspecialEntity> consultarPorCancha(UUID canchaId) throws BackEndException {
+        var listaHorarios = new ArrayList<HorarioEspecialEntity>();
+
+        try (PreparedStatement ps = connection.prepareStatement(SQL_CONSULTAR_POR_CANCHA)) {
+            ps.setObject(1, canchaId);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                var cancha = new CanchaEntity();
+                cancha.setId(canchaId);
+                while (rs.next()) {
+                    listaHorarios.add(new HorarioEspecialEntity(
+                            UtilUUID.convertirAUUID(rs.getString("id")),
+                            cancha,
+                            rs.getObject("fechainicio", LocalDate.class),
+                            rs.getObject("fechafin", LocalDate.class),
+                            rs.getObject("horainicio", LocalTime.class),
+                            rs.getObject("horafin", LocalTime.class),
+                            rs.getString("motivo")
+                    ));
+                }
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de consultar los horarios especiales de la cancha en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de consultar los horarios especiales de la cancha";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de consultar los horarios especiales de la cancha en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de consultar los horarios especiales de la cancha";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+
+        return listaHorarios;
+    }
+
+
+    @Override
+    public void modificar(UUID uuid, HorarioEspecialEntity entity) throws BackEndException {
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_MODIFICAR)) {
+            asignarParametrosModificacion(sentenciaPreparada, uuid, entity);
+
+            sentenciaPreparada.executeUpdate();
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de modificar el horario especial en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de modificar el horario especial en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de modificar el horario especial en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de modificar el horario especial en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void importarTodos(List<HorarioEspecialEntity> horarios) throws BackEndException {
+        try {
+            CargaMasivaPostgreSQL.copiar(connection, "HorarioEspecial (id, cancha, fechainicio, fechafin, horainicio, horafin, motivo)", horarios,
+                    horario -> new Object[]{horario.getId(), horario.getCancha().getId(), horario.getFechaInicio(), horario.getFechaFin(),
+                            horario.getHoraInicio(), horario.getHoraFin(), horario.getMotivo()});
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de cargar masivamente los horarios especiales en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de importar los horarios especiales en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de cargar masivamente los horarios especiales en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de importar los horarios especiales en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void crearTodos(List<HorarioEspecialEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_CREAR, entities, HorarioEspecialPostgreSQLDAO::asignarParametrosCreacion);
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de registrar en lote los horarios especiales en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de registrar los horarios especiales en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de registrar en lote los horarios especiales en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de registrar los horarios especiales en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void modificarTodos(Map<UUID, HorarioEspecialEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_MODIFICAR, entities.entrySet(),
+                    (sentencia, cambio) -> asignarParametrosModificacion(sentencia, cambio.getKey(), cambio.getValue()));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de modificar en lote los horarios especiales en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de modificar los horarios especiales en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de modificar en lote los horarios especiales en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de modificar los horarios especiales en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
 
     @Override
-    public void modificar(UUID uuid, HorarioEspecialEntity entity) {
+    public void eliminarTodos(List<UUID> ids) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_ELIMINAR, ids, (sentencia, id) -> sentencia.setObject(1, id));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de eliminar en lote los horarios especiales en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de eliminar los horarios especiales en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de eliminar en lote los horarios especiales en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de eliminar los horarios especiales en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private static void asignarParametrosCreacion(PreparedStatement sentencia, HorarioEspecialEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getId());
+        sentencia.setObject(2, entity.getCancha().getId());
+        sentencia.setObject(3, entity.getFechaInicio());
+        sentencia.setObject(4, entity.getFechaFin());
+        sentencia.setObject(5, entity.getHoraInicio());
+        sentencia.setObject(6, entity.getHoraFin());
+        sentencia.setString(7, entity.getMotivo());
+    }
 
+    private static void asignarParametrosModificacion(PreparedStatement sentencia, UUID id, HorarioEspecialEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getCancha().getId());
+        sentencia.setObject(2, entity.getFechaInicio());
+        sentencia.setObject(3, entity.getFechaFin());
+        sentencia.setObject(4, entity.getHoraInicio());
+        sentencia.setObject(5, entity.getHoraFin());
+        sentencia.setString(6, entity.getMotivo());
+        sentencia.setObject(7, id);
     }
 }
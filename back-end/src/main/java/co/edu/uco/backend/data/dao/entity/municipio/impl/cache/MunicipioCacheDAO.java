@@ -0,0 +1,22 @@
+package co.edu.uco.backend.data.dao.entity.municipio.impl.cache;
+
+import co.edu.uco.backend.data.dao.cache.CachesCatalogo;
+import co.edu.uco.backend.data.dao.cache.CatalogoCacheDAO;
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
+import co.edu.uco.backend.data.dao.entity.municipio.MunicipioDAO;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.entity.MunicipioEntity;
+
+import java.util.UUID;
+
+public class MunicipioCacheDAO extends CatalogoCacheDAO<MunicipioEntity, MunicipioDAO> implements MunicipioDAO {
+
+    public MunicipioCacheDAO(final MunicipioDAO delegado, final DAOFactory factory) {
+        super(delegado, CachesCatalogo.getInstance().getMunicipios(), factory, VersionesRecursos.Recurso.MUNICIPIO);
+    }
+
+    @Override
+    protected UUID obtenerId(final MunicipioEntity entity) {
+        return entity.getId();
+    }
+}
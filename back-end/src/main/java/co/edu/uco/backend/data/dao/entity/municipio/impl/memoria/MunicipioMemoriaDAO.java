@@ -0,0 +1,21 @@
+package co.edu.uco.backend.data.dao.entity.municipio.impl.memoria;
+
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
+import co.edu.uco.backend.data.dao.entity.municipio.MunicipioDAO;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.data.dao.memoria.MemoriaDAO;
+import co.edu.uco.backend.data.dao.memoria.SesionMemoria;
+import co.edu.uco.backend.entity.MunicipioEntity;
+
+public class MunicipioMemoriaDAO extends MemoriaDAO<MunicipioEntity> implements MunicipioDAO {
+
+    public MunicipioMemoriaDAO(final SesionMemoria sesion) {
+        super(sesion, BaseDatosMemoria.getInstance().getMunicipios(), VersionesRecursos.Recurso.MUNICIPIO);
+    }
+
+    @Override
+    protected boolean cumpleFiltro(final MunicipioEntity filtro, final MunicipioEntity fila) {
+        return coincideTexto(filtro.getNombre(), fila.getNombre())
+                && coincideId(filtro.getDepartamento().getId(), fila.getDepartamento().getId());
+    }
+}
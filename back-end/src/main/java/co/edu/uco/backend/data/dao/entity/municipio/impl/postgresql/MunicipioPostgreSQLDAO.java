@@ -2,16 +2,30 @@ package co.edu.uco.backend.data.dao.entity.municipio.impl.postgresql;
 
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilObjeto;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilTexto;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
 import co.edu.uco.backend.data.dao.entity.municipio.MunicipioDAO;
+import co.edu.uco.backend.data.dao.sql.LotePostgreSQL;
+import co.edu.uco.backend.entity.DepartamentoEntity;
 import co.edu.uco.backend.entity.MunicipioEntity;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class MunicipioPostgreSQLDAO implements MunicipioDAO {
 
+    private static final String SQL_CREAR = "INSERT INTO doodb.municipio(codigomunicipio, nombre, codigodepartamento) VALUES (?, ?, ?)";
+    private static final String SQL_MODIFICAR = "UPDATE doodb.municipio SET nombre = ?, codigodepartamento = ? WHERE codigomunicipio = ?";
+    private static final String SQL_ELIMINAR = "DELETE FROM doodb.municipio WHERE codigomunicipio = ?";
+    private static final String SQL_CONSULTAR_POR_ID = "SELECT codigomunicipio, nombre, codigodepartamento FROM doodb.municipio WHERE codigomunicipio = ?";
+
     private final Connection connection;
 
     public MunicipioPostgreSQLDAO(Connection connection) {
@@ -20,14 +34,8 @@ public class MunicipioPostgreSQLDAO implements MunicipioDAO {
 
     @Override
     public void crear(MunicipioEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("INSERT INTO municipio(codigomunicipio, nombre, codigodepartamento)" +
-                " VALUES (?, ?, ?");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,entity.getId());
-            sentenciaPreparada.setString(2,entity.getNombre());
-            sentenciaPreparada.setObject(3,entity.getDepartamento());
-
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_CREAR)) {
+            asignarParametrosCreacion(sentenciaPreparada, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -46,10 +54,8 @@ public class MunicipioPostgreSQLDAO implements MunicipioDAO {
 
     @Override
     public void eliminar(UUID municipioId) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("DELETE FROM municipio WHERE codigomunicipio = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,municipioId);
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_ELIMINAR)) {
+            sentenciaPreparada.setObject(1, municipioId);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -67,23 +73,82 @@ public class MunicipioPostgreSQLDAO implements MunicipioDAO {
     }
 
     @Override
-    public List<MunicipioEntity> consultar(MunicipioEntity entity) {
-        return List.of();
+    public List<MunicipioEntity> consultar(MunicipioEntity filtro) throws BackEndException {
+        var resultados = new ArrayList<MunicipioEntity>();
+
+        var filtrarPorNombre = !UtilObjeto.getInstance().esNulo(filtro) && !UtilTexto.getInstance().estaVacia(filtro.getNombre());
+        var filtrarPorDepartamento = !UtilObjeto.getInstance().esNulo(filtro) && !UtilUUID.esValorDefecto(filtro.getDepartamento().getId());
+
+        var condiciones = new ArrayList<String>();
+        if (filtrarPorNombre) {
+            condiciones.add("LOWER(nombre) = LOWER(?)");
+        }
+        if (filtrarPorDepartamento) {
+            condiciones.add("codigodepartamento = ?");
+        }
+        var sql = new StringBuilder("SELECT codigomunicipio, nombre, codigodepartamento FROM doodb.municipio");
+        if (!condiciones.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", condiciones));
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+            var indice = 1;
+            if (filtrarPorNombre) {
+                ps.setString(indice++, UtilTexto.getInstance().quitarEspaciosEnBlancoInicioFin(filtro.getNombre()));
+            }
+            if (filtrarPorDepartamento) {
+                ps.setObject(indice++, filtro.getDepartamento().getId());
+            }
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    resultados.add(mapear(rs));
+                }
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de consultar los municipios en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de consultar los municipios";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de consultar los municipios en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de consultar los municipios";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+
+        return resultados;
     }
 
     @Override
-    public MunicipioEntity consultarPorId(UUID id) {
-        return null;
+    public MunicipioEntity consultarPorId(UUID id) throws BackEndException {
+        try (PreparedStatement ps = connection.prepareStatement(SQL_CONSULTAR_POR_ID)) {
+            ps.setObject(1, id);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? mapear(rs) : new MunicipioEntity();
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de consultar el municipio por id en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de consultar el municipio";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de consultar el municipio por id en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de consultar el municipio";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private MunicipioEntity mapear(ResultSet rs) throws SQLException {
+        return new MunicipioEntity(
+                UtilUUID.convertirAUUID(rs.getString("codigomunicipio")),
+                rs.getString("nombre"),
+                new DepartamentoEntity(UtilUUID.convertirAUUID(rs.getString("codigodepartamento")))
+        );
     }
 
     @Override
     public void modificar(UUID municipioId, MunicipioEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("UPDATE municipio SET nombre = ?, codigodepartamento = ? WHERE codigomunicipio = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,municipioId);
-            sentenciaPreparada.setString(2,entity.getNombre());
-            sentenciaPreparada.setObject(3,entity.getDepartamento());
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_MODIFICAR)) {
+            asignarParametrosModificacion(sentenciaPreparada, municipioId, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -100,4 +165,71 @@ public class MunicipioPostgreSQLDAO implements MunicipioDAO {
         }
 
     }
+
+    @Override
+    public void crearTodos(List<MunicipioEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_CREAR, entities, MunicipioPostgreSQLDAO::asignarParametrosCreacion);
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de registrar en lote los municipios en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de registrar los municipios en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de registrar en lote los municipios en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de registrar los municipios en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void modificarTodos(Map<UUID, MunicipioEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_MODIFICAR, entities.entrySet(),
+                    (sentencia, cambio) -> asignarParametrosModificacion(sentencia, cambio.getKey(), cambio.getValue()));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de modificar en lote los municipios en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de modificar los municipios en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de modificar en lote los municipios en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de modificar los municipios en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void eliminarTodos(List<UUID> ids) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_ELIMINAR, ids, (sentencia, id) -> sentencia.setObject(1, id));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de eliminar en lote los municipios en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de eliminar los municipios en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de eliminar en lote los municipios en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de eliminar los municipios en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private static void asignarParametrosCreacion(PreparedStatement sentencia, MunicipioEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getId());
+        sentencia.setString(2, entity.getNombre());
+        sentencia.setObject(3, entity.getDepartamento().getId());
+    }
+
+    private static void asignarParametrosModificacion(PreparedStatement sentencia, UUID id, MunicipioEntity entity) throws SQLException {
+        sentencia.setString(1, entity.getNombre());
+        sentencia.setObject(2, entity.getDepartamento().getId());
+        sentencia.setObject(3, id);
+    }
 }
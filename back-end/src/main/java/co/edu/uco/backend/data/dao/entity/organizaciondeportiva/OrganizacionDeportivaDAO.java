@@ -1,5 +1,6 @@
 package co.edu.uco.backend.data.dao.entity.organizaciondeportiva;
 
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.data.dao.entity.CreateDAO;
 import co.edu.uco.backend.data.dao.entity.DeleteDAO;
 import co.edu.uco.backend.data.dao.entity.RetrieveDAO;
@@ -14,4 +15,5 @@ public interface OrganizacionDeportivaDAO extends
         UpdateDAO<OrganizacionDeportivaEntity, UUID>,
         DeleteDAO<UUID> {
 
+    void actualizarContrasena(UUID organizacionDeportivaId, String contrasenaCifrada) throws BackEndException;
 }
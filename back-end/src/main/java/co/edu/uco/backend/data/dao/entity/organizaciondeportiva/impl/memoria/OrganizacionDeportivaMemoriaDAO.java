@@ -0,0 +1,52 @@
+package co.edu.uco.backend.data.dao.entity.organizaciondeportiva.impl.memoria;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilTexto;
+import co.edu.uco.backend.data.dao.entity.organizaciondeportiva.OrganizacionDeportivaDAO;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.data.dao.memoria.MemoriaDAO;
+import co.edu.uco.backend.data.dao.memoria.SesionMemoria;
+import co.edu.uco.backend.entity.OrganizacionDeportivaEntity;
+
+import java.util.UUID;
+
+public class OrganizacionDeportivaMemoriaDAO extends MemoriaDAO<OrganizacionDeportivaEntity> implements OrganizacionDeportivaDAO {
+
+    public OrganizacionDeportivaMemoriaDAO(final SesionMemoria sesion) {
+        super(sesion, BaseDatosMemoria.getInstance().getOrganizaciones());
+    }
+
+    @Override
+    public void modificar(final UUID id, final OrganizacionDeportivaEntity entity) throws BackEndException {
+        super.modificar(id, conContrasenaConservada(id, entity));
+    }
+
+    @Override
+    public void actualizarContrasena(final UUID organizacionDeportivaId, final String contrasenaCifrada) throws BackEndException {
+        var organizacion = sesion.consultarPorId(tabla, organizacionDeportivaId);
+        if (organizacion != null) {
+            organizacion.setContrasena(contrasenaCifrada);
+            sesion.modificar(tabla, organizacionDeportivaId, organizacion);
+        }
+    }
+
+    @Override
+    protected boolean cumpleFiltro(final OrganizacionDeportivaEntity filtro, final OrganizacionDeportivaEntity fila) {
+        return coincideId(filtro.getId(), fila.getId())
+                && contieneTexto(filtro.getNombre(), fila.getNombre())
+                && coincideExacto(filtro.getUsername(), fila.getUsername());
+    }
+
+    // Como el COALESCE de PostgreSQL: la contraseña llega ya cifrada y, si viene vacía, se conserva la almacenada
+    private OrganizacionDeportivaEntity conContrasenaConservada(final UUID id, final OrganizacionDeportivaEntity entity) {
+        if (!UtilTexto.getInstance().estaVacia(entity.getContrasena())) {
+            return entity;
+        }
+        var copia = tabla.copiar(entity);
+        var actual = sesion.consultarPorId(tabla, id);
+        if (actual != null) {
+            copia.setContrasena(actual.getContrasena());
+        }
+        return copia;
+    }
+}
@@ -2,17 +2,31 @@ package co.edu.uco.backend.data.dao.entity.organizaciondeportiva.impl.postgresql
 
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilObjeto;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilTexto;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
 import co.edu.uco.backend.data.dao.entity.organizaciondeportiva.OrganizacionDeportivaDAO;
+import co.edu.uco.backend.data.dao.sql.LotePostgreSQL;
+import co.edu.uco.backend.entity.EstadoVerificacionEntity;
 import co.edu.uco.backend.entity.OrganizacionDeportivaEntity;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class OrganizacionDeportivaPostgreSQLDAO implements OrganizacionDeportivaDAO {
 
-    private Connection connection;
+    private static final String SQL_CREAR = "INSERT INTO doodb.organizaciondeportiva(codigoorganizacion, nombre, usuario, contrasena, prefijo, telefono, documentoexistencia, correo, paginaweb, codigoestadover) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SQL_MODIFICAR = "UPDATE doodb.organizaciondeportiva SET nombre = ?, usuario = ?, contrasena = COALESCE(?, contrasena), prefijo = ?, telefono = ?, documentoexistencia = ?, correo = ?, paginaweb = ?, codigoestadover = ? WHERE codigoorganizacion = ?";
+    private static final String SQL_ELIMINAR = "DELETE FROM doodb.organizaciondeportiva WHERE codigoorganizacion = ?";
+    private static final String SQL_ACTUALIZAR_CONTRASENA = "UPDATE doodb.organizaciondeportiva SET contrasena = ? WHERE codigoorganizacion = ?";
+
+    private final Connection connection;
 
     public OrganizacionDeportivaPostgreSQLDAO(Connection connection) {
         this.connection = connection;
@@ -20,21 +34,8 @@ public class OrganizacionDeportivaPostgreSQLDAO implements OrganizacionDeportiva
 
     @Override
     public void crear(OrganizacionDeportivaEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("INSERT INTO organizaciondeportiva(codigoorganizacion, nombre, usuario, contrasena, prefijo, telefono, documentoexistencia, correo, paginaweb, codigoestadover)" +
-                " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,entity.getId());
-            sentenciaPreparada.setString(2,entity.getNombre());
-            sentenciaPreparada.setString(3,entity.getUsername());
-            sentenciaPreparada.setString(4,entity.getContrasena());
-            sentenciaPreparada.setString(5,entity.getPrefijoTelefono());
-            sentenciaPreparada.setString(6,entity.getTelefono());
-            sentenciaPreparada.setString(7,entity.getDocumentoExistencia());
-            sentenciaPreparada.setString(8,entity.getCorreoAdministrativo());
-            sentenciaPreparada.setString(9,entity.getPaginaWeb());
-            sentenciaPreparada.setObject(10,entity.getEstadoVerificacion());
-
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_CREAR)) {
+            asignarParametrosCreacion(sentenciaPreparada, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -53,10 +54,8 @@ public class OrganizacionDeportivaPostgreSQLDAO implements OrganizacionDeportiva
 
     @Override
     public void eliminar(UUID organizacionDeportivaId) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("DELETE FROM organizaciondeportiva WHERE codigoorganizacion = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,organizacionDeportivaId);
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_ELIMINAR)) {
+            sentenciaPreparada.setObject(1, organizacionDeportivaId);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -74,31 +73,99 @@ public class OrganizacionDeportivaPostgreSQLDAO implements OrganizacionDeportiva
     }
 
     @Override
-    public List<OrganizacionDeportivaEntity> consultar(OrganizacionDeportivaEntity entity) {
-        return List.of();
+    public List<OrganizacionDeportivaEntity> consultar(OrganizacionDeportivaEntity entity) throws BackEndException {
+        var listaOrganizaciones = new ArrayList<OrganizacionDeportivaEntity>();
+        var sql = new StringBuilder("""
+        SELECT codigoorganizacion, nombre, usuario, contrasena, prefijo, telefono,
+               documentoexistencia, correo, paginaweb, codigoestadover
+        FROM doodb.organizaciondeportiva
+        WHERE 1=1
+        """);
+
+        boolean filtrarId      = !UtilObjeto.getInstance().esNulo(entity) && !UtilUUID.esValorDefecto(entity.getId());
+        boolean filtrarNombre  = !UtilObjeto.getInstance().esNulo(entity) && !UtilTexto.getInstance().estaVacia(entity.getNombre());
+        boolean filtrarUsuario = !UtilObjeto.getInstance().esNulo(entity) && !UtilTexto.getInstance().estaVacia(entity.getUsername());
+
+        if (filtrarId)      sql.append(" AND codigoorganizacion = ?");
+        if (filtrarNombre)  sql.append(" AND nombre ILIKE ?");
+        if (filtrarUsuario) sql.append(" AND usuario = ?");
+
+        try (var sentenciaPreparada = connection.prepareStatement(sql.toString())) {
+            int indice = 1;
+            if (filtrarId) {
+                sentenciaPreparada.setObject(indice++, entity.getId());
+            }
+            if (filtrarNombre) {
+                sentenciaPreparada.setString(indice++, "%" + entity.getNombre().trim() + "%");
+            }
+            if (filtrarUsuario) {
+                sentenciaPreparada.setString(indice++, entity.getUsername().trim());
+            }
+
+            try (var cursorResultados = sentenciaPreparada.executeQuery()) {
+                while (cursorResultados.next()) {
+                    listaOrganizaciones.add(mapear(cursorResultados));
+                }
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de hacer un SELECT en la tabla de organizacion deportiva en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de consultar la informacion de las organizaciones deportivas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de hacer un SELECT en la tabla de organizacion deportiva en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema INESPERADO tratando de consultar la informacion de las organizaciones deportivas";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+        return listaOrganizaciones;
     }
 
     @Override
-    public OrganizacionDeportivaEntity consultarPorId(UUID id) {
-        return null;
+    public OrganizacionDeportivaEntity consultarPorId(UUID id) throws BackEndException {
+        var encontradas = consultar(new OrganizacionDeportivaEntity(id));
+        return encontradas.isEmpty() ? new OrganizacionDeportivaEntity() : encontradas.get(0);
+    }
+
+    @Override
+    public void actualizarContrasena(UUID organizacionDeportivaId, String contrasenaCifrada) throws BackEndException {
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_ACTUALIZAR_CONTRASENA)) {
+            sentenciaPreparada.setString(1, contrasenaCifrada);
+            sentenciaPreparada.setObject(2, organizacionDeportivaId);
+
+            sentenciaPreparada.executeUpdate();
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de actualizar la contraseña cifrada de la organizacion deportiva en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de actualizar la contraseña de la organizacion deportiva en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de actualizar la contraseña cifrada de la organizacion deportiva en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de actualizar la contraseña de la organizacion deportiva en la base de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private OrganizacionDeportivaEntity mapear(ResultSet cursorResultados) throws SQLException {
+        var organizacion = new OrganizacionDeportivaEntity(UtilUUID.convertirAUUID(cursorResultados.getString("codigoorganizacion")));
+        organizacion.setNombre(cursorResultados.getString("nombre"));
+        organizacion.setUsername(cursorResultados.getString("usuario"));
+        organizacion.setContrasena(cursorResultados.getString("contrasena"));
+        organizacion.setPrefijoTelefono(cursorResultados.getString("prefijo"));
+        organizacion.setTelefono(cursorResultados.getString("telefono"));
+        organizacion.setDocumentoExistencia(cursorResultados.getString("documentoexistencia"));
+        organizacion.setCorreoAdministrativo(cursorResultados.getString("correo"));
+        organizacion.setPaginaWeb(cursorResultados.getString("paginaweb"));
+        organizacion.setEstadoVerificacion(new EstadoVerificacionEntity(UtilUUID.convertirAUUID(cursorResultados.getString("codigoestadover"))));
+        return organizacion;
     }
 
 
     @Override
     public void modificar(UUID organizacionDeportivaId, OrganizacionDeportivaEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("UPDATE organizaciondeportiva SET nombre = ?, usuario = ?, contrasena = ?,prefijo = ?, telefono = ?, documentoexistencia = ?, correo = ?, paginaweb = ?, codigoestadover = ? WHERE codigoorganizacion = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,organizacionDeportivaId);
-            sentenciaPreparada.setString(2,entity.getNombre());
-            sentenciaPreparada.setString(3,entity.getUsername());
-            sentenciaPreparada.setString(4,entity.getContrasena());
-            sentenciaPreparada.setString(5,entity.getPrefijoTelefono());
-            sentenciaPreparada.setString(6,entity.getTelefono());
-            sentenciaPreparada.setString(7,entity.getDocumentoExistencia());
-            sentenciaPreparada.setString(8,entity.getCorreoAdministrativo());
-            sentenciaPreparada.setString(9,entity.getPaginaWeb());
-            sentenciaPreparada.setObject(10,entity.getEstadoVerificacion());
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_MODIFICAR)) {
+            asignarParametrosModificacion(sentenciaPreparada, organizacionDeportivaId, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -115,4 +182,90 @@ public class OrganizacionDeportivaPostgreSQLDAO implements OrganizacionDeportiva
         }
 
     }
+
+    @Override
+    public void crearTodos(List<OrganizacionDeportivaEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_CREAR, entities, OrganizacionDeportivaPostgreSQLDAO::asignarParametrosCreacion);
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de registrar en lote las organizaciones deportivas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de registrar las organizaciones deportivas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de registrar en lote las organizaciones deportivas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de registrar las organizaciones deportivas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void modificarTodos(Map<UUID, OrganizacionDeportivaEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_MODIFICAR, entities.entrySet(),
+                    (sentencia, cambio) -> asignarParametrosModificacion(sentencia, cambio.getKey(), cambio.getValue()));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de modificar en lote las organizaciones deportivas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de modificar las organizaciones deportivas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de modificar en lote las organizaciones deportivas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de modificar las organizaciones deportivas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void eliminarTodos(List<UUID> ids) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_ELIMINAR, ids, (sentencia, id) -> sentencia.setObject(1, id));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de eliminar en lote las organizaciones deportivas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de eliminar las organizaciones deportivas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de eliminar en lote las organizaciones deportivas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de eliminar las organizaciones deportivas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private static void asignarParametrosCreacion(PreparedStatement sentencia, OrganizacionDeportivaEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getId());
+        sentencia.setString(2, entity.getNombre());
+        sentencia.setString(3, entity.getUsername());
+        sentencia.setString(4, entity.getContrasena());
+        sentencia.setString(5, entity.getPrefijoTelefono());
+        sentencia.setString(6, entity.getTelefono());
+        sentencia.setString(7, entity.getDocumentoExistencia());
+        sentencia.setString(8, entity.getCorreoAdministrativo());
+        sentencia.setString(9, entity.getPaginaWeb());
+        sentencia.setObject(10, entity.getEstadoVerificacion().getId());
+    }
+
+    private static void asignarParametrosModificacion(PreparedStatement sentencia, UUID id, OrganizacionDeportivaEntity entity) throws SQLException {
+        sentencia.setString(1, entity.getNombre());
+        sentencia.setString(2, entity.getUsername());
+        sentencia.setString(3, contrasenaNuevaONula(entity.getContrasena()));
+        sentencia.setString(4, entity.getPrefijoTelefono());
+        sentencia.setString(5, entity.getTelefono());
+        sentencia.setString(6, entity.getDocumentoExistencia());
+        sentencia.setString(7, entity.getCorreoAdministrativo());
+        sentencia.setString(8, entity.getPaginaWeb());
+        sentencia.setObject(9, entity.getEstadoVerificacion().getId());
+        sentencia.setObject(10, id);
+    }
+
+    // Igual que en ClientePostgreSQLDAO: llega cifrada, y vacía conserva la almacenada
+    private static String contrasenaNuevaONula(String contrasena) {
+        return UtilTexto.getInstance().estaVacia(contrasena) ? null : contrasena;
+    }
 }
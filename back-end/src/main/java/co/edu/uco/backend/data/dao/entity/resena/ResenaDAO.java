@@ -16,4 +16,10 @@ public interface ResenaDAO extends
         UpdateDAO<ResenaEntity, UUID>,
         DeleteDAO<UUID> {
     List<ResenaEntity> consultarPorReserva(UUID reservaId) throws BackEndException;
+
+    /**
+     * Igual que consultarPorId, pero bloquea la reseña hasta el fin de la transacción: quien la
+     * modifique o la elimine después espera y lee la calificación ya confirmada, no una anterior.
+     */
+    ResenaEntity consultarPorIdParaActualizar(UUID id) throws BackEndException;
 }
@@ -0,0 +1,35 @@
+package co.edu.uco.backend.data.dao.entity.resena.impl.memoria;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.entity.resena.ResenaDAO;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.data.dao.memoria.MemoriaDAO;
+import co.edu.uco.backend.data.dao.memoria.SesionMemoria;
+import co.edu.uco.backend.entity.ResenaEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+public class ResenaMemoriaDAO extends MemoriaDAO<ResenaEntity> implements ResenaDAO {
+
+    public ResenaMemoriaDAO(final SesionMemoria sesion) {
+        super(sesion, BaseDatosMemoria.getInstance().getResenas());
+    }
+
+    @Override
+    public List<ResenaEntity> consultarPorReserva(final UUID reservaId) throws BackEndException {
+        return sesion.consultarPorIndice(tabla, BaseDatosMemoria.INDICE_RESENA_POR_RESERVA, reservaId, fila -> true);
+    }
+
+    @Override
+    public ResenaEntity consultarPorIdParaActualizar(final UUID id) throws BackEndException {
+        sesion.bloquearFila(tabla, id);
+        return consultarPorId(id);
+    }
+
+    @Override
+    protected boolean cumpleFiltro(final ResenaEntity filtro, final ResenaEntity fila) {
+        return coincideId(filtro.getId(), fila.getId())
+                && coincideId(filtro.getReserva().getId(), fila.getReserva().getId());
+    }
+}
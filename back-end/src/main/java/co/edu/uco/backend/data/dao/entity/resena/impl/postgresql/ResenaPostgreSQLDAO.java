@@ -4,6 +4,7 @@ import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
 import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
 import co.edu.uco.backend.data.dao.entity.resena.ResenaDAO;
+import co.edu.uco.backend.data.dao.sql.LotePostgreSQL;
 import co.edu.uco.backend.entity.ResenaEntity;
 import co.edu.uco.backend.entity.ReservaEntity;
 
@@ -14,10 +15,22 @@ import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class ResenaPostgreSQLDAO implements ResenaDAO {
 
+    private static final String SQL_CREAR = "INSERT INTO doodb.resena(codigoresena, codigoreserva, calificacion, comentario, fecha) VALUES (?, ?, ?, ?, ?)";
+    private static final String SQL_MODIFICAR = "UPDATE doodb.resena SET codigoreserva = ?, calificacion = ?, comentario = ?, fecha = ? WHERE codigoresena = ?";
+    private static final String SQL_ELIMINAR = "DELETE FROM doodb.resena WHERE codigoresena = ?";
+    private static final String SQL_CONSULTAR_POR_ID = "SELECT " +
+            "codigoresena, codigoreserva, calificacion, comentario, fecha " +
+            "FROM doodb.resena " +
+            "WHERE codigoresena = ?";
+    private static final String SQL_CONSULTAR_POR_ID_PARA_ACTUALIZAR = SQL_CONSULTAR_POR_ID + " FOR UPDATE";
+    private static final String SQL_CONSULTAR_POR_RESERVA = "SELECT codigoresena, codigoreserva, calificacion, comentario, fecha " +
+            "FROM doodb.resena WHERE codigoreserva = ?";
+
     private final Connection connection;
 
     public ResenaPostgreSQLDAO(Connection connection) {
@@ -26,30 +39,10 @@ public class ResenaPostgreSQLDAO implements ResenaDAO {
 
     @Override
     public void crear(ResenaEntity entity) throws BackEndException {
-        var sql = new StringBuilder();
-        sql.append(
-                "INSERT INTO doodb.resena(" +
-                        "codigoresena, codigoreserva, calificacion, comentario, fecha" +
-                        ") VALUES (?, ?, ?, ?, ?)"
-        );
-
-        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
-            // 1) codigoresena
-            ps.setObject(1, entity.getId());
-
-            // 2) codigoreserva (solo el UUID de la reserva)
-            ps.setObject(2, entity.getReserva().getId());
-
-            // 3) calificacion
-            ps.setInt(3, entity.getCalificacion());
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_CREAR)) {
+            asignarParametrosCreacion(sentenciaPreparada, entity);
 
-            // 4) comentario
-            ps.setString(4, entity.getComentario());
-
-            // 5) fecha (LocalDate)
-            ps.setObject(5, entity.getFecha());
-
-            ps.executeUpdate();
+            sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
             var mensajeTecnico = "Se presentó una SQLException tratando de registrar la nueva información de la reseña en la base de datos";
             var mensajeUsuario = "No se pudo registrar la reseña en este momento";
@@ -63,12 +56,10 @@ public class ResenaPostgreSQLDAO implements ResenaDAO {
 
     @Override
     public void eliminar(UUID resenaId) throws BackEndException {
-        var sql = new StringBuilder();
-        sql.append("DELETE FROM doodb.resena WHERE codigoresena = ?");
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_ELIMINAR)) {
+            sentenciaPreparada.setObject(1, resenaId);
 
-        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
-            ps.setObject(1, resenaId);
-            ps.executeUpdate();
+            sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
             var mensajeTecnico = "Se presentó una SQLException tratando de eliminar la reseña de la base de datos";
             var mensajeUsuario = "No se pudo eliminar la reseña en este momento";
@@ -88,16 +79,17 @@ public class ResenaPostgreSQLDAO implements ResenaDAO {
 
     @Override
     public ResenaEntity consultarPorId(UUID id) throws BackEndException {
+        return consultarPorId(SQL_CONSULTAR_POR_ID, id);
+    }
+
+    @Override
+    public ResenaEntity consultarPorIdParaActualizar(UUID id) throws BackEndException {
+        return consultarPorId(SQL_CONSULTAR_POR_ID_PARA_ACTUALIZAR, id);
+    }
+
+    private ResenaEntity consultarPorId(String sql, UUID id) throws BackEndException {
         var resenaEntityRetorno = new ResenaEntity();
-        var sql = new StringBuilder();
-        sql.append(
-                "SELECT " +
-                        "codigoresena, codigoreserva, calificacion, comentario, fecha " +
-                        "FROM doodb.resena " +
-                        "WHERE codigoresena = ?"
-        );
-
-        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setObject(1, id);
 
             try (ResultSet rs = ps.executeQuery()) {
@@ -138,30 +130,10 @@ public class ResenaPostgreSQLDAO implements ResenaDAO {
 
     @Override
     public void modificar(UUID resenaId, ResenaEntity entity) throws BackEndException {
-        var sql = new StringBuilder();
-        sql.append(
-                "UPDATE doodb.resena SET " +
-                        "codigoreserva = ?, calificacion = ?, comentario = ?, fecha = ? " +
-                        "WHERE codigoresena = ?"
-        );
-
-        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
-            // 1) codigoreserva (UUID de la reserva asociada)
-            ps.setObject(1, entity.getReserva().getId());
-
-            // 2) calificacion
-            ps.setInt(2, entity.getCalificacion());
-
-            // 3) comentario
-            ps.setString(3, entity.getComentario());
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_MODIFICAR)) {
+            asignarParametrosModificacion(sentenciaPreparada, resenaId, entity);
 
-            // 4) fecha
-            ps.setObject(4, entity.getFecha());
-
-            // 5) WHERE codigoresena = resenaId
-            ps.setObject(5, resenaId);
-
-            ps.executeUpdate();
+            sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
             var mensajeTecnico = "Se presentó una SQLException tratando de modificar la reseña en la base de datos";
             var mensajeUsuario = "No se pudo actualizar la reseña en este momento";
@@ -176,12 +148,7 @@ public class ResenaPostgreSQLDAO implements ResenaDAO {
     @Override
     public List<ResenaEntity> consultarPorReserva(UUID reservaId) throws BackEndException {
         var listaResultados = new ArrayList<ResenaEntity>();
-        var sql = new StringBuilder();
-        sql.append(
-                "SELECT codigoresena, codigoreserva, calificacion, comentario, fecha " +
-                        "FROM doodb.resena WHERE codigoreserva = ?"
-        );
-        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+        try (PreparedStatement ps = connection.prepareStatement(SQL_CONSULTAR_POR_RESERVA)) {
             ps.setObject(1, reservaId);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -204,5 +171,75 @@ public class ResenaPostgreSQLDAO implements ResenaDAO {
         }
         return listaResultados;
     }
-}
 
+    @Override
+    public void crearTodos(List<ResenaEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_CREAR, entities, ResenaPostgreSQLDAO::asignarParametrosCreacion);
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de registrar en lote las reseñas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de registrar las reseñas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de registrar en lote las reseñas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de registrar las reseñas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void modificarTodos(Map<UUID, ResenaEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_MODIFICAR, entities.entrySet(),
+                    (sentencia, cambio) -> asignarParametrosModificacion(sentencia, cambio.getKey(), cambio.getValue()));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de modificar en lote las reseñas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de modificar las reseñas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de modificar en lote las reseñas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de modificar las reseñas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void eliminarTodos(List<UUID> ids) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_ELIMINAR, ids, (sentencia, id) -> sentencia.setObject(1, id));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de eliminar en lote las reseñas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de eliminar las reseñas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de eliminar en lote las reseñas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de eliminar las reseñas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private static void asignarParametrosCreacion(PreparedStatement sentencia, ResenaEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getId());
+        sentencia.setObject(2, entity.getReserva().getId());
+        sentencia.setInt(3, entity.getCalificacion());
+        sentencia.setString(4, entity.getComentario());
+        sentencia.setObject(5, entity.getFecha());
+    }
+
+    private static void asignarParametrosModificacion(PreparedStatement sentencia, UUID id, ResenaEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getReserva().getId());
+        sentencia.setInt(2, entity.getCalificacion());
+        sentencia.setString(3, entity.getComentario());
+        sentencia.setObject(4, entity.getFecha());
+        sentencia.setObject(5, id);
+    }
+}
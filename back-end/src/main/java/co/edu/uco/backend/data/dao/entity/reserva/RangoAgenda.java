@@ -0,0 +1,14 @@
+package co.edu.uco.backend.data.dao.entity.reserva;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Fechas consecutivas (ambas inclusive) de la agenda de una cancha, para bloquearlas juntas.
+ */
+public record RangoAgenda(
+        UUID canchaId,
+        LocalDate desde,
+        LocalDate hasta
+) {
+}
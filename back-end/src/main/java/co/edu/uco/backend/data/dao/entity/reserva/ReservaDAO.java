@@ -7,8 +7,11 @@ import co.edu.uco.backend.data.dao.entity.RetrieveDAO;
 import co.edu.uco.backend.data.dao.entity.UpdateDAO;
 import co.edu.uco.backend.entity.ReservaEntity;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface ReservaDAO extends
         CreateDAO<ReservaEntity>,
@@ -16,4 +19,31 @@ public interface ReservaDAO extends
         UpdateDAO<ReservaEntity, UUID>,
         DeleteDAO<UUID> {
     List<ReservaEntity> consultarPorCliente(UUID clienteId) throws BackEndException;
+
+    void consultarResumenPorCliente(UUID clienteId, Consumer<ReservaResumen> consumidor) throws BackEndException;
+
+    // Reservas de las canchas de la organización con uso entre las fechas indicadas (ambas inclusive),
+    // entregadas fila a fila desde un cursor; requiere una transacción iniciada para no traer todo el resultado
+    void exportarPorOrganizacion(UUID organizacionId, LocalDate desde, LocalDate hasta,
+                                 Consumer<ReservaResumen> consumidor) throws BackEndException;
+
+    // Reservas que ocupan la cancha entre las fechas indicadas (ambas inclusive), sin las canceladas
+    List<ReservaEntity> consultarOcupacionPorCancha(UUID canchaId, LocalDate desde, LocalDate hasta) throws BackEndException;
+
+    /**
+     * Las reservas completas que ocupan la cancha entre las fechas indicadas (ambas inclusive), sin
+     * las canceladas, bloqueadas hasta el fin de la transacción para modificarlas en lote.
+     */
+    List<ReservaEntity> consultarActivasPorCanchaParaActualizar(UUID canchaId, LocalDate desde, LocalDate hasta) throws BackEndException;
+
+    // Bloquea la agenda de la cancha en esa fecha hasta que termine la transacción actual
+    void bloquearAgendaCancha(UUID canchaId, LocalDate fecha) throws BackEndException;
+
+    /**
+     * Bloquea, como bloquearAgendaCancha, cada fecha de cada rango. Los candados se toman siempre en
+     * el mismo orden, así dos transacciones que bloquean rangos que se cruzan no se esperan en círculo.
+     */
+    void bloquearAgendasCanchas(List<RangoAgenda> rangos) throws BackEndException;
+
+    boolean existeReservaSolapada(UUID canchaId, LocalDate fecha, LocalTime horaInicio, LocalTime horaFin) throws BackEndException;
 }
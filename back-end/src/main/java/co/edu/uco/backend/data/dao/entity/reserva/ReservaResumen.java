@@ -0,0 +1,21 @@
+package co.edu.uco.backend.data.dao.entity.reserva;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Proyección de solo lectura de una reserva con los nombres de cliente, cancha y estado
+ * ya resueltos por el JOIN, de modo que el listado se arma con una sola consulta.
+ */
+public record ReservaResumen(
+        UUID codigoreserva,
+        LocalDate fechaReserva,
+        LocalDate fechaUsoCancha,
+        LocalTime horaInicio,
+        LocalTime horaFin,
+        String nombreCliente,
+        String nombreCancha,
+        String nombreEstado
+) {
+}
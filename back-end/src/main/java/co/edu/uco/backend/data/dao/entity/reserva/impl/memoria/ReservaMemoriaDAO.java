@@ -0,0 +1,167 @@
+package co.edu.uco.backend.data.dao.entity.reserva.impl.memoria;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.entity.reserva.RangoAgenda;
+import co.edu.uco.backend.data.dao.entity.reserva.ReservaDAO;
+import co.edu.uco.backend.data.dao.entity.reserva.ReservaResumen;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.data.dao.memoria.MemoriaDAO;
+import co.edu.uco.backend.data.dao.memoria.SesionMemoria;
+import co.edu.uco.backend.entity.ReservaEntity;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public class ReservaMemoriaDAO extends MemoriaDAO<ReservaEntity> implements ReservaDAO {
+
+    private static final Comparator<ReservaEntity> MAS_RECIENTE_PRIMERO = Comparator
+            .comparing(ReservaEntity::getFechaUsoCancha)
+            .thenComparing(ReservaEntity::getHoraInicio)
+            .reversed();
+
+    private static final Comparator<ReservaEntity> POR_FECHA_DE_USO = Comparator
+            .comparing(ReservaEntity::getFechaUsoCancha)
+            .thenComparing(ReservaEntity::getHoraInicio)
+            .thenComparing(ReservaEntity::getId);
+
+    private final BaseDatosMemoria baseDatos = BaseDatosMemoria.getInstance();
+
+    public ReservaMemoriaDAO(final SesionMemoria sesion) {
+        super(sesion, BaseDatosMemoria.getInstance().getReservas());
+    }
+
+    // Como el LEFT JOIN de PostgreSQL: la reserva trae los nombres de cliente, cancha y estado
+    @Override
+    public List<ReservaEntity> consultarPorCliente(final UUID clienteId) throws BackEndException {
+        var reservas = sesion.consultarPorIndice(tabla, BaseDatosMemoria.INDICE_RESERVA_POR_CLIENTE, clienteId, fila -> true);
+        for (ReservaEntity reserva : reservas) {
+            reserva.getCliente().setNombre(nombreCliente(reserva));
+            reserva.getCancha().setNombreCancha(nombreCancha(reserva));
+            reserva.getEstado().setNombre(nombreEstado(reserva));
+        }
+        return reservas;
+    }
+
+    @Override
+    public void consultarResumenPorCliente(final UUID clienteId, final Consumer<ReservaResumen> consumidor) throws BackEndException {
+        var reservas = sesion.consultarPorIndice(tabla, BaseDatosMemoria.INDICE_RESERVA_POR_CLIENTE, clienteId, fila -> true);
+        reservas.sort(MAS_RECIENTE_PRIMERO);
+        for (ReservaEntity reserva : reservas) {
+            consumidor.accept(new ReservaResumen(
+                    reserva.getId(),
+                    reserva.getFechaReserva(),
+                    reserva.getFechaUsoCancha(),
+                    reserva.getHoraInicio(),
+                    reserva.getHoraFin(),
+                    nombreCliente(reserva),
+                    nombreCancha(reserva),
+                    nombreEstado(reserva)
+            ));
+        }
+    }
+
+    @Override
+    public void exportarPorOrganizacion(final UUID organizacionId, final LocalDate desde, final LocalDate hasta,
+                                        final Consumer<ReservaResumen> consumidor) throws BackEndException {
+        var reservas = new ArrayList<ReservaEntity>();
+        for (var cancha : sesion.consultarPorIndice(baseDatos.getCanchas(), BaseDatosMemoria.INDICE_CANCHA_POR_ORGANIZACION,
+                organizacionId, fila -> true)) {
+            reservas.addAll(sesion.consultarPorIndice(tabla, BaseDatosMemoria.INDICE_RESERVA_POR_CANCHA, cancha.getId(),
+                    fila -> !fila.getFechaUsoCancha().isBefore(desde) && !fila.getFechaUsoCancha().isAfter(hasta)));
+        }
+        reservas.sort(POR_FECHA_DE_USO);
+        for (ReservaEntity reserva : reservas) {
+            consumidor.accept(new ReservaResumen(
+                    reserva.getId(),
+                    reserva.getFechaReserva(),
+                    reserva.getFechaUsoCancha(),
+                    reserva.getHoraInicio(),
+                    reserva.getHoraFin(),
+                    nombreCliente(reserva),
+                    nombreCancha(reserva),
+                    nombreEstado(reserva)
+            ));
+        }
+    }
+
+    @Override
+    public List<ReservaEntity> consultarOcupacionPorCancha(final UUID canchaId, final LocalDate desde, final LocalDate hasta) throws BackEndException {
+        return sesion.consultarPorIndice(tabla, BaseDatosMemoria.INDICE_RESERVA_POR_CANCHA, canchaId,
+                fila -> !fila.getFechaUsoCancha().isBefore(desde) && !fila.getFechaUsoCancha().isAfter(hasta)
+                        && !estaCancelada(fila));
+    }
+
+    // Bloquea cada fila y la vuelve a leer: una reserva cancelada mientras se esperaba ya no se entrega
+    @Override
+    public List<ReservaEntity> consultarActivasPorCanchaParaActualizar(final UUID canchaId, final LocalDate desde,
+                                                                        final LocalDate hasta) throws BackEndException {
+        var activas = new ArrayList<ReservaEntity>();
+        for (ReservaEntity candidata : consultarOcupacionPorCancha(canchaId, desde, hasta)) {
+            sesion.bloquearFila(tabla, candidata.getId());
+            var reserva = sesion.consultarPorId(tabla, candidata.getId());
+            if (reserva != null && !estaCancelada(reserva)) {
+                activas.add(reserva);
+            }
+        }
+        return activas;
+    }
+
+    @Override
+    public void bloquearAgendaCancha(final UUID canchaId, final LocalDate fecha) throws BackEndException {
+        sesion.bloquear(canchaId, fecha);
+    }
+
+    @Override
+    public void bloquearAgendasCanchas(final List<RangoAgenda> rangos) throws BackEndException {
+        var fechasPorCancha = new HashMap<UUID, List<LocalDate>>();
+        for (RangoAgenda rango : rangos) {
+            var fechas = fechasPorCancha.computeIfAbsent(rango.canchaId(), clave -> new ArrayList<>());
+            rango.desde().datesUntil(rango.hasta().plusDays(1)).forEach(fechas::add);
+        }
+        sesion.bloquear(fechasPorCancha);
+    }
+
+    @Override
+    public boolean existeReservaSolapada(final UUID canchaId, final LocalDate fecha, final LocalTime horaInicio,
+                                         final LocalTime horaFin) throws BackEndException {
+        // Intervalos [horainicio, horafin); una horafin 00:00 representa el fin del día
+        return !sesion.consultarPorIndice(tabla, BaseDatosMemoria.INDICE_RESERVA_POR_CANCHA, canchaId,
+                fila -> fecha.equals(fila.getFechaUsoCancha())
+                        && !estaCancelada(fila)
+                        && (LocalTime.MIDNIGHT.equals(horaFin) || fila.getHoraInicio().isBefore(horaFin))
+                        && (LocalTime.MIDNIGHT.equals(fila.getHoraFin()) || fila.getHoraFin().isAfter(horaInicio))).isEmpty();
+    }
+
+    @Override
+    protected boolean cumpleFiltro(final ReservaEntity filtro, final ReservaEntity fila) {
+        return coincideId(filtro.getId(), fila.getId())
+                && coincideId(filtro.getCliente().getId(), fila.getCliente().getId())
+                && coincideId(filtro.getCancha().getId(), fila.getCancha().getId())
+                && coincideId(filtro.getEstado().getId(), fila.getEstado().getId());
+    }
+
+    private boolean estaCancelada(final ReservaEntity reserva) {
+        return "cancelada".equalsIgnoreCase(nombreEstado(reserva));
+    }
+
+    private String nombreCliente(final ReservaEntity reserva) {
+        var cliente = sesion.consultarPorId(baseDatos.getClientes(), reserva.getCliente().getId());
+        return cliente == null ? null : cliente.getNombre();
+    }
+
+    private String nombreCancha(final ReservaEntity reserva) {
+        var cancha = sesion.consultarPorId(baseDatos.getCanchas(), reserva.getCancha().getId());
+        return cancha == null ? null : cancha.getNombreCancha();
+    }
+
+    private String nombreEstado(final ReservaEntity reserva) {
+        var estado = sesion.consultarPorId(baseDatos.getEstadosReserva(), reserva.getEstado().getId());
+        return estado == null ? null : estado.getNombre();
+    }
+}
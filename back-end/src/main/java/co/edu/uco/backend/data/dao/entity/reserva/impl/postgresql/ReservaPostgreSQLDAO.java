@@ -3,12 +3,16 @@ package co.edu.uco.backend.data.dao.entity.reserva.impl.postgresql;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
 import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.data.dao.entity.reserva.RangoAgenda;
 import co.edu.uco.backend.data.dao.entity.reserva.ReservaDAO;
+import co.edu.uco.backend.data.dao.entity.reserva.ReservaResumen;
+import co.edu.uco.backend.data.dao.sql.LotePostgreSQL;
 import co.edu.uco.backend.entity.CanchaEntity;
 import co.edu.uco.backend.entity.ClienteEntity;
 import co.edu.uco.backend.entity.EstadoReservaEntity;
 import co.edu.uco.backend.entity.ReservaEntity;
 
+import java.io.UncheckedIOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -16,11 +20,123 @@ import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public class ReservaPostgreSQLDAO implements ReservaDAO {
 
+    // SQLState de PostgreSQL para una violación de restricción de exclusión (reserva_sin_solapamiento)
+    private static final String VIOLACION_EXCLUSION = "23P01";
+    // Filas que el driver trae por viaje cuando recorre un cursor de exportación
+    private static final int FILAS_POR_LOTE = 500;
+
+    private static final String SQL_CREAR = "INSERT INTO doodb.reserva(codigoreserva, codigocliente, codigocancha, fechareserva, fechausocancha, horainicio, horafin, codigoestadores) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SQL_MODIFICAR = "UPDATE doodb.reserva SET codigocliente = ?, codigocancha = ?, fechareserva = ?, fechausocancha = ?, horainicio = ?, horafin = ?, codigoestadores = ? WHERE codigoreserva = ?";
+    private static final String SQL_ELIMINAR = "DELETE FROM doodb.reserva WHERE codigoreserva = ?";
+    private static final String SQL_BLOQUEAR_AGENDA = "SELECT pg_advisory_xact_lock(?, ?)";
+    // Las mismas llaves que SQL_BLOQUEAR_AGENDA, una por fecha de cada rango. Con ORDER BY, PostgreSQL
+    // evalúa las funciones volátiles de la lista de salida después de ordenar: se toman en ese orden
+    private static final String SQL_BLOQUEAR_AGENDAS = "SELECT pg_advisory_xact_lock(r.llave, d) "
+            + "FROM unnest(?::int[], ?::int[], ?::int[]) WITH ORDINALITY AS r(llave, desde, hasta, orden) "
+            + "CROSS JOIN LATERAL generate_series(r.desde, r.hasta) AS d "
+            + "ORDER BY r.orden, d";
+    private static final String SQL_CONSULTAR_POR_ID = "SELECT "
+            +   "r.codigoreserva, "
+            +   "r.codigocliente, c.nombre AS cliente_nombre, "
+            +   "r.codigocancha, ch.nombre AS cancha_nombre, "
+            +   "r.fechareserva, r.fechausocancha, r.horainicio, r.horafin, "
+            +   "r.codigoestadores, er.nombre AS estado_nombre "
+            + "FROM doodb.reserva r "
+            + "LEFT JOIN doodb.cliente c      ON r.codigocliente   = c.codigocliente "
+            + "LEFT JOIN doodb.cancha ch       ON r.codigocancha    = ch.codigocancha "
+            + "LEFT JOIN doodb.estadoreserva er ON r.codigoestadores = er.codigoestadores "
+            + "WHERE r.codigoreserva = ?";
+    private static final String SQL_CONSULTAR_POR_CLIENTE = "SELECT "
+            +   "r.codigoreserva, "
+            +   "r.codigocliente, "
+            +   "c.nombre            AS cliente_nombre, "
+            +   "r.codigocancha, "
+            +   "ch.nombre           AS cancha_nombre, "
+            +   "r.fechareserva, "
+            +   "r.fechausocancha, "
+            +   "r.horainicio, "
+            +   "r.horafin, "
+            +   "r.codigoestadores, "
+            +   "er.nombre           AS estado_nombre "
+            + "FROM doodb.reserva r "
+            + "LEFT JOIN doodb.cliente c       ON r.codigocliente   = c.codigocliente "
+            + "LEFT JOIN doodb.cancha ch        ON r.codigocancha    = ch.codigocancha "
+            + "LEFT JOIN doodb.estadoreserva er ON r.codigoestadores = er.codigoestadores "
+            + "WHERE r.codigocliente = ?";
+    private static final String SQL_CONSULTAR_RESUMEN_POR_CLIENTE = "SELECT "
+            +   "r.codigoreserva, "
+            +   "r.fechareserva, "
+            +   "r.fechausocancha, "
+            +   "r.horainicio, "
+            +   "r.horafin, "
+            +   "c.nombre            AS cliente_nombre, "
+            +   "ch.nombre           AS cancha_nombre, "
+            +   "er.nombre           AS estado_nombre "
+            + "FROM doodb.reserva r "
+            + "LEFT JOIN doodb.cliente c       ON r.codigocliente   = c.codigocliente "
+            + "LEFT JOIN doodb.cancha ch        ON r.codigocancha    = ch.codigocancha "
+            + "LEFT JOIN doodb.estadoreserva er ON r.codigoestadores = er.codigoestadores "
+            + "WHERE r.codigocliente = ? "
+            + "ORDER BY r.fechausocancha DESC, r.horainicio DESC";
+    private static final String SQL_EXPORTAR_POR_ORGANIZACION = "SELECT "
+            +   "r.codigoreserva, "
+            +   "r.fechareserva, "
+            +   "r.fechausocancha, "
+            +   "r.horainicio, "
+            +   "r.horafin, "
+            +   "c.nombre            AS cliente_nombre, "
+            +   "ch.nombre           AS cancha_nombre, "
+            +   "er.nombre           AS estado_nombre "
+            + "FROM doodb.reserva r "
+            + "JOIN doodb.cancha ch             ON r.codigocancha    = ch.codigocancha "
+            + "LEFT JOIN doodb.cliente c        ON r.codigocliente   = c.codigocliente "
+            + "LEFT JOIN doodb.estadoreserva er ON r.codigoestadores = er.codigoestadores "
+            + "WHERE ch.codigoorganizacion = ? "
+            +   "AND r.fechausocancha BETWEEN ? AND ? "
+            + "ORDER BY r.fechausocancha, r.horainicio, r.codigoreserva";
+    private static final String SQL_CONSULTAR_OCUPACION_POR_CANCHA = "SELECT "
+            +   "r.codigoreserva, "
+            +   "r.fechausocancha, "
+            +   "r.horainicio, "
+            +   "r.horafin "
+            + "FROM doodb.reserva r "
+            + "LEFT JOIN doodb.estadoreserva er ON r.codigoestadores = er.codigoestadores "
+            + "WHERE r.codigocancha = ? "
+            +   "AND r.fechausocancha BETWEEN ? AND ? "
+            +   "AND (er.nombre IS NULL OR LOWER(er.nombre) <> 'cancelada')";
+    private static final String SQL_CONSULTAR_ACTIVAS_POR_CANCHA_PARA_ACTUALIZAR = "SELECT "
+            +   "r.codigoreserva, "
+            +   "r.codigocliente, "
+            +   "r.codigocancha, "
+            +   "r.fechareserva, "
+            +   "r.fechausocancha, "
+            +   "r.horainicio, "
+            +   "r.horafin, "
+            +   "r.codigoestadores "
+            + "FROM doodb.reserva r "
+            + "LEFT JOIN doodb.estadoreserva er ON r.codigoestadores = er.codigoestadores "
+            + "WHERE r.codigocancha = ? "
+            +   "AND r.fechausocancha BETWEEN ? AND ? "
+            +   "AND (er.nombre IS NULL OR LOWER(er.nombre) <> 'cancelada') "
+            + "FOR UPDATE OF r";
+    private static final String SQL_EXISTE_RESERVA_SOLAPADA = "SELECT 1 "
+            + "FROM doodb.reserva r "
+            + "LEFT JOIN doodb.estadoreserva er ON r.codigoestadores = er.codigoestadores "
+            + "WHERE r.codigocancha = ? "
+            +   "AND r.fechausocancha = ? "
+            +   "AND (er.nombre IS NULL OR LOWER(er.nombre) <> 'cancelada') "
+            +   "AND (? OR r.horainicio < ?) "
+            +   "AND (r.horafin = TIME '00:00' OR r.horafin > ?) "
+            + "LIMIT 1";
+
     private final Connection connection;
 
     public ReservaPostgreSQLDAO(Connection connection) {
@@ -29,23 +145,16 @@ public class ReservaPostgreSQLDAO implements ReservaDAO {
 
     @Override
     public void crear(ReservaEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("INSERT INTO reserva(codigoreserva,codigocliente, codigocancha, fechareserva, fechausocancha, horainicio, horafin, codigoestadores)" +
-                " VALUES (?, ?, ?, ?, ?, ?, ?, ?)"
-        );
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,entity.getId());
-            sentenciaPreparada.setObject(2,entity.getCliente().getId());
-            sentenciaPreparada.setObject(3,entity.getCancha().getId());
-            sentenciaPreparada.setObject(4,entity.getFechaReserva());
-            sentenciaPreparada.setObject(5,entity.getFechaUsoCancha());
-            sentenciaPreparada.setObject(6,entity.getHoraInicio());
-            sentenciaPreparada.setObject(7,entity.getHoraFin());
-            sentenciaPreparada.setObject(8,entity.getEstado().getId());
-
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_CREAR)) {
+            asignarParametrosCreacion(sentenciaPreparada, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
+            if (VIOLACION_EXCLUSION.equals(exception.getSQLState())) {
+                var mensajeTecnico = "La restricción reserva_sin_solapamiento rechazó el INSERT: ya existe una reserva activa que se cruza con ese horario";
+                var mensajeUsuario = "El horario seleccionado ya fue reservado, por favor elija otro";
+                throw DataBackEndException.reportarRechazo(mensajeUsuario, mensajeTecnico);
+            }
             var mensajeTecnico = "Se presentó una SQLException tratando de registrar la nueva informacion de la reserva en la base de datos, para más detalles revise el log de errores";
             var mensajeUsuario = "Se ha presentado un problema tratando de registrar la nueva informacion de la reserva en la fuente de datos";
 
@@ -61,10 +170,8 @@ public class ReservaPostgreSQLDAO implements ReservaDAO {
 
     @Override
     public void eliminar(UUID reservaId) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("DELETE FROM reserva WHERE codigoreserva = ?");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,reservaId);
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_ELIMINAR)) {
+            sentenciaPreparada.setObject(1, reservaId);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -91,23 +198,7 @@ public class ReservaPostgreSQLDAO implements ReservaDAO {
         // Creamos una ReservaEntity "vacía" que rellenaremos si existe la fila
         var reservaEntityRetorno = new ReservaEntity();
 
-        // Construimos la sentencia SQL
-        var sql = new StringBuilder();
-        sql.append(
-                "SELECT "
-                        +   "r.codigoreserva, "
-                        +   "r.codigocliente, c.nombre AS cliente_nombre, "
-                        +   "r.codigocancha, ch.nombre AS cancha_nombre, "
-                        +   "r.fechareserva, r.fechausocancha, r.horainicio, r.horafin, "
-                        +   "r.codigoestadores, er.nombre AS estado_nombre "
-                        + "FROM doodb.reserva r "
-                        + "LEFT JOIN doodb.cliente c      ON r.codigocliente   = c.codigocliente "
-                        + "LEFT JOIN doodb.cancha ch       ON r.codigocancha    = ch.codigocancha "
-                        + "LEFT JOIN doodb.estadoreserva er ON r.codigoestadores = er.codigoestadores "
-                        + "WHERE r.codigoreserva = ?"
-        );
-
-        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+        try (PreparedStatement ps = connection.prepareStatement(SQL_CONSULTAR_POR_ID)) {
             // 1) Asignar el parámetro del WHERE
             ps.setObject(1, id);
 
@@ -168,17 +259,8 @@ public class ReservaPostgreSQLDAO implements ReservaDAO {
 
     @Override
     public void modificar(UUID reservaId, ReservaEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("UPDATE reserva SET codigocliente = ?, codigocancha = ?, fechareserva = ?, fechausocancha = ?, horainicio = ?, horafin = ?, codigoestadores = ? WHERE codigoreserva = ?");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,entity.getCliente().getId());
-            sentenciaPreparada.setObject(2,entity.getCancha().getId());
-            sentenciaPreparada.setObject(3,entity.getFechaReserva());
-            sentenciaPreparada.setObject(4,entity.getFechaUsoCancha());
-            sentenciaPreparada.setObject(5,entity.getHoraInicio());
-            sentenciaPreparada.setObject(6,entity.getHoraFin());
-            sentenciaPreparada.setObject(7,entity.getEstado());
-            sentenciaPreparada.setObject(8,reservaId);
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_MODIFICAR)) {
+            asignarParametrosModificacion(sentenciaPreparada, reservaId, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -200,28 +282,7 @@ public class ReservaPostgreSQLDAO implements ReservaDAO {
     public List<ReservaEntity> consultarPorCliente(UUID clienteId) throws BackEndException {
         var listaReservas = new ArrayList<ReservaEntity>();
 
-        var sql = new StringBuilder();
-        sql.append(
-                "SELECT "
-                        +   "r.codigoreserva, "
-                        +   "r.codigocliente, "
-                        +   "c.nombre            AS cliente_nombre, "
-                        +   "r.codigocancha, "
-                        +   "ch.nombre           AS cancha_nombre, "
-                        +   "r.fechareserva, "
-                        +   "r.fechausocancha, "
-                        +   "r.horainicio, "
-                        +   "r.horafin, "
-                        +   "r.codigoestadores, "
-                        +   "er.nombre           AS estado_nombre "
-                        + "FROM doodb.reserva r "
-                        + "LEFT JOIN doodb.cliente c       ON r.codigocliente   = c.codigocliente "
-                        + "LEFT JOIN doodb.cancha ch        ON r.codigocancha    = ch.codigocancha "
-                        + "LEFT JOIN doodb.estadoreserva er ON r.codigoestadores = er.codigoestadores "
-                        + "WHERE r.codigocliente = ?"
-        );
-
-        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+        try (PreparedStatement ps = connection.prepareStatement(SQL_CONSULTAR_POR_CLIENTE)) {
             ps.setObject(1, clienteId);
 
             try (ResultSet rs = ps.executeQuery()) {
@@ -300,4 +361,309 @@ public class ReservaPostgreSQLDAO implements ReservaDAO {
 
         return listaReservas;
     }
+
+    @Override
+    public void consultarResumenPorCliente(UUID clienteId, Consumer<ReservaResumen> consumidor) throws BackEndException {
+        // Igual que la exportación: dentro de una transacción el driver trae el resultado por lotes
+        try (PreparedStatement ps = connection.prepareStatement(SQL_CONSULTAR_RESUMEN_POR_CLIENTE,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            ps.setFetchSize(FILAS_POR_LOTE);
+            ps.setObject(1, clienteId);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    // Cada fila se entrega al consumidor apenas se lee, sin acumular la lista en memoria
+                    consumidor.accept(new ReservaResumen(
+                            UtilUUID.convertirAUUID(rs.getString("codigoreserva")),
+                            rs.getObject("fechareserva", LocalDate.class),
+                            rs.getObject("fechausocancha", LocalDate.class),
+                            rs.getObject("horainicio", LocalTime.class),
+                            rs.getObject("horafin", LocalTime.class),
+                            rs.getString("cliente_nombre"),
+                            rs.getString("cancha_nombre"),
+                            rs.getString("estado_nombre")
+                    ));
+                }
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico  = "Se presentó una SQLException intentando listar el resumen de reservas por cliente";
+            var mensajeUsuario  = "No se pudo obtener las reservas en este momento.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (UncheckedIOException exception) {
+            // Falla de escritura del consumidor (p. ej. el cliente cerró la conexión), no de la base de datos
+            throw exception;
+        } catch (Exception exception) {
+            var mensajeTecnico = "Excepción NO CONTROLADA al listar el resumen de reservas por cliente";
+            var mensajeUsuario = "Ha ocurrido un problema inesperado al obtener las reservas.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void exportarPorOrganizacion(UUID organizacionId, LocalDate desde, LocalDate hasta,
+                                        Consumer<ReservaResumen> consumidor) throws BackEndException {
+        // Con autocommit apagado y fetchSize, el driver abre un cursor y trae FILAS_POR_LOTE filas
+        // por viaje; sin eso materializa el resultado completo antes de entregar la primera fila
+        try (PreparedStatement ps = connection.prepareStatement(SQL_EXPORTAR_POR_ORGANIZACION,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            ps.setFetchSize(FILAS_POR_LOTE);
+            ps.setObject(1, organizacionId);
+            ps.setObject(2, desde);
+            ps.setObject(3, hasta);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    consumidor.accept(new ReservaResumen(
+                            UtilUUID.convertirAUUID(rs.getString("codigoreserva")),
+                            rs.getObject("fechareserva", LocalDate.class),
+                            rs.getObject("fechausocancha", LocalDate.class),
+                            rs.getObject("horainicio", LocalTime.class),
+                            rs.getObject("horafin", LocalTime.class),
+                            rs.getString("cliente_nombre"),
+                            rs.getString("cancha_nombre"),
+                            rs.getString("estado_nombre")
+                    ));
+                }
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico  = "Se presentó una SQLException intentando exportar las reservas de la organización";
+            var mensajeUsuario  = "No se pudo exportar las reservas en este momento.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (UncheckedIOException exception) {
+            // Falla de escritura del consumidor (p. ej. el cliente cerró la conexión), no de la base de datos
+            throw exception;
+        } catch (Exception exception) {
+            var mensajeTecnico = "Excepción NO CONTROLADA al exportar las reservas de la organización";
+            var mensajeUsuario = "Ha ocurrido un problema inesperado al exportar las reservas.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public List<ReservaEntity> consultarOcupacionPorCancha(UUID canchaId, LocalDate desde, LocalDate hasta) throws BackEndException {
+        var listaReservas = new ArrayList<ReservaEntity>();
+
+        try (PreparedStatement ps = connection.prepareStatement(SQL_CONSULTAR_OCUPACION_POR_CANCHA)) {
+            ps.setObject(1, canchaId);
+            ps.setObject(2, desde);
+            ps.setObject(3, hasta);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                var cancha = new CanchaEntity();
+                cancha.setId(canchaId);
+                while (rs.next()) {
+                    var entity = new ReservaEntity();
+                    entity.setId(UtilUUID.convertirAUUID(rs.getString("codigoreserva")));
+                    entity.setCancha(cancha);
+                    entity.setFechaUsoCancha(rs.getObject("fechausocancha", LocalDate.class));
+                    entity.setHoraInicio(rs.getObject("horainicio", LocalTime.class));
+                    entity.setHoraFin(rs.getObject("horafin", LocalTime.class));
+                    listaReservas.add(entity);
+                }
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico  = "Se presentó una SQLException intentando consultar la ocupación de la cancha en el rango de fechas";
+            var mensajeUsuario  = "No se pudo obtener la ocupación de la cancha en este momento.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Excepción NO CONTROLADA al consultar la ocupación de la cancha en el rango de fechas";
+            var mensajeUsuario = "Ha ocurrido un problema inesperado al obtener la ocupación de la cancha.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+
+        return listaReservas;
+    }
+
+    @Override
+    public List<ReservaEntity> consultarActivasPorCanchaParaActualizar(UUID canchaId, LocalDate desde, LocalDate hasta) throws BackEndException {
+        var listaReservas = new ArrayList<ReservaEntity>();
+
+        try (PreparedStatement ps = connection.prepareStatement(SQL_CONSULTAR_ACTIVAS_POR_CANCHA_PARA_ACTUALIZAR)) {
+            ps.setObject(1, canchaId);
+            ps.setObject(2, desde);
+            ps.setObject(3, hasta);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    // De las llaves foráneas solo se asigna el ID, igual que en consultarPorId
+                    var entity = new ReservaEntity();
+                    entity.setId(UtilUUID.convertirAUUID(rs.getString("codigoreserva")));
+                    var cliente = new ClienteEntity();
+                    cliente.setId(UtilUUID.convertirAUUID(rs.getString("codigocliente")));
+                    entity.setCliente(cliente);
+                    entity.setCancha(new CanchaEntity(UtilUUID.convertirAUUID(rs.getString("codigocancha"))));
+                    entity.setFechaReserva(rs.getObject("fechareserva", LocalDate.class));
+                    entity.setFechaUsoCancha(rs.getObject("fechausocancha", LocalDate.class));
+                    entity.setHoraInicio(rs.getObject("horainicio", LocalTime.class));
+                    entity.setHoraFin(rs.getObject("horafin", LocalTime.class));
+                    entity.setEstado(new EstadoReservaEntity(UtilUUID.convertirAUUID(rs.getString("codigoestadores"))));
+                    listaReservas.add(entity);
+                }
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico  = "Se presentó una SQLException intentando consultar y bloquear las reservas activas de la cancha en el rango de fechas";
+            var mensajeUsuario  = "No se pudo consultar las reservas de la cancha en este momento.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Excepción NO CONTROLADA al consultar y bloquear las reservas activas de la cancha en el rango de fechas";
+            var mensajeUsuario = "Ha ocurrido un problema inesperado al consultar las reservas de la cancha.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+
+        return listaReservas;
+    }
+
+    @Override
+    public void bloquearAgendaCancha(UUID canchaId, LocalDate fecha) throws BackEndException {
+        // Advisory lock de transacción: lo libera PostgreSQL al hacer COMMIT o ROLLBACK
+        try (PreparedStatement ps = connection.prepareStatement(SQL_BLOQUEAR_AGENDA)) {
+            ps.setInt(1, canchaId.hashCode());
+            ps.setInt(2, (int) fecha.toEpochDay());
+            ps.execute();
+        } catch (SQLException exception) {
+            var mensajeTecnico  = "Se presentó una SQLException intentando bloquear la agenda de la cancha con pg_advisory_xact_lock";
+            var mensajeUsuario  = "No se pudo registrar la reserva en este momento, intente de nuevo.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Excepción NO CONTROLADA al bloquear la agenda de la cancha";
+            var mensajeUsuario = "Ha ocurrido un problema inesperado al registrar la reserva.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void bloquearAgendasCanchas(List<RangoAgenda> rangos) throws BackEndException {
+        if (rangos.isEmpty()) {
+            return;
+        }
+        // Orden por llave y fecha de inicio: toda transacción recorre las llaves en la misma secuencia
+        var ordenados = rangos.stream()
+                .sorted(Comparator.comparingInt((RangoAgenda rango) -> rango.canchaId().hashCode())
+                        .thenComparing(RangoAgenda::desde))
+                .toList();
+        var llaves = new Integer[ordenados.size()];
+        var desdes = new Integer[ordenados.size()];
+        var hastas = new Integer[ordenados.size()];
+        for (var i = 0; i < ordenados.size(); i++) {
+            llaves[i] = ordenados.get(i).canchaId().hashCode();
+            desdes[i] = (int) ordenados.get(i).desde().toEpochDay();
+            hastas[i] = (int) ordenados.get(i).hasta().toEpochDay();
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement(SQL_BLOQUEAR_AGENDAS)) {
+            ps.setArray(1, connection.createArrayOf("integer", llaves));
+            ps.setArray(2, connection.createArrayOf("integer", desdes));
+            ps.setArray(3, connection.createArrayOf("integer", hastas));
+            ps.execute();
+        } catch (SQLException exception) {
+            var mensajeTecnico  = "Se presentó una SQLException intentando bloquear las agendas de las canchas con pg_advisory_xact_lock";
+            var mensajeUsuario  = "No se pudo registrar el horario especial en este momento, intente de nuevo.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Excepción NO CONTROLADA al bloquear las agendas de las canchas";
+            var mensajeUsuario = "Ha ocurrido un problema inesperado al registrar el horario especial.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public boolean existeReservaSolapada(UUID canchaId, LocalDate fecha, LocalTime horaInicio, LocalTime horaFin) throws BackEndException {
+        // Intervalos [horainicio, horafin); una horafin 00:00 representa el fin del día
+        try (PreparedStatement ps = connection.prepareStatement(SQL_EXISTE_RESERVA_SOLAPADA)) {
+            ps.setObject(1, canchaId);
+            ps.setObject(2, fecha);
+            ps.setBoolean(3, LocalTime.MIDNIGHT.equals(horaFin));
+            ps.setObject(4, horaFin);
+            ps.setObject(5, horaInicio);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico  = "Se presentó una SQLException intentando verificar si existe una reserva solapada para la cancha";
+            var mensajeUsuario  = "No se pudo verificar la disponibilidad del horario en este momento.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Excepción NO CONTROLADA al verificar si existe una reserva solapada para la cancha";
+            var mensajeUsuario = "Ha ocurrido un problema inesperado al verificar la disponibilidad del horario.";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void crearTodos(List<ReservaEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_CREAR, entities, ReservaPostgreSQLDAO::asignarParametrosCreacion);
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de registrar en lote las reservas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de registrar las reservas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de registrar en lote las reservas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de registrar las reservas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void modificarTodos(Map<UUID, ReservaEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_MODIFICAR, entities.entrySet(),
+                    (sentencia, cambio) -> asignarParametrosModificacion(sentencia, cambio.getKey(), cambio.getValue()));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de modificar en lote las reservas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de modificar las reservas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de modificar en lote las reservas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de modificar las reservas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void eliminarTodos(List<UUID> ids) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_ELIMINAR, ids, (sentencia, id) -> sentencia.setObject(1, id));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de eliminar en lote las reservas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de eliminar las reservas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de eliminar en lote las reservas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de eliminar las reservas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private static void asignarParametrosCreacion(PreparedStatement sentencia, ReservaEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getId());
+        sentencia.setObject(2, entity.getCliente().getId());
+        sentencia.setObject(3, entity.getCancha().getId());
+        sentencia.setObject(4, entity.getFechaReserva());
+        sentencia.setObject(5, entity.getFechaUsoCancha());
+        sentencia.setObject(6, entity.getHoraInicio());
+        sentencia.setObject(7, entity.getHoraFin());
+        sentencia.setObject(8, entity.getEstado().getId());
+    }
+
+    private static void asignarParametrosModificacion(PreparedStatement sentencia, UUID id, ReservaEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getCliente().getId());
+        sentencia.setObject(2, entity.getCancha().getId());
+        sentencia.setObject(3, entity.getFechaReserva());
+        sentencia.setObject(4, entity.getFechaUsoCancha());
+        sentencia.setObject(5, entity.getHoraInicio());
+        sentencia.setObject(6, entity.getHoraFin());
+        sentencia.setObject(7, entity.getEstado().getId());
+        sentencia.setObject(8, id);
+    }
 }
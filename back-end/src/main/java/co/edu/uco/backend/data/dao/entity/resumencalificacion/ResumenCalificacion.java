@@ -0,0 +1,71 @@
+package co.edu.uco.backend.data.dao.entity.resumencalificacion;
+
+import java.util.UUID;
+
+/**
+ * Agregado de las calificaciones de una cancha o de una organización: cuántas reseñas hay, la suma
+ * de sus calificaciones y el histograma de 1 a 5 estrellas. version sube con cada cambio
+ * confirmado, así la caché descarta un resumen que llegue más viejo que el que ya tiene.
+ */
+public record ResumenCalificacion(
+        UUID id,
+        int cantidad,
+        long suma,
+        int unaEstrella,
+        int dosEstrellas,
+        int tresEstrellas,
+        int cuatroEstrellas,
+        int cincoEstrellas,
+        long version
+) {
+
+    public static ResumenCalificacion vacio(final UUID id) {
+        return new ResumenCalificacion(id, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    public double promedio() {
+        return cantidad == 0 ? 0.0 : (double) suma / cantidad;
+    }
+
+    public int contarEstrellas(final int estrellas) {
+        return switch (estrellas) {
+            case 1 -> unaEstrella;
+            case 2 -> dosEstrellas;
+            case 3 -> tresEstrellas;
+            case 4 -> cuatroEstrellas;
+            case 5 -> cincoEstrellas;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Resumen después de quitar calificacionAnterior y agregar calificacionNueva; un 0 en
+     * cualquiera de las dos significa que no hay (reseña nueva o eliminada).
+     */
+    public ResumenCalificacion aplicar(final int calificacionAnterior, final int calificacionNueva) {
+        return new ResumenCalificacion(
+                id,
+                cantidad + presente(calificacionNueva) - presente(calificacionAnterior),
+                suma + calificacionNueva - calificacionAnterior,
+                unaEstrella + cambio(1, calificacionAnterior, calificacionNueva),
+                dosEstrellas + cambio(2, calificacionAnterior, calificacionNueva),
+                tresEstrellas + cambio(3, calificacionAnterior, calificacionNueva),
+                cuatroEstrellas + cambio(4, calificacionAnterior, calificacionNueva),
+                cincoEstrellas + cambio(5, calificacionAnterior, calificacionNueva),
+                version + 1
+        );
+    }
+
+    public ResumenCalificacion conId(final UUID nuevoId) {
+        return new ResumenCalificacion(nuevoId, cantidad, suma, unaEstrella, dosEstrellas, tresEstrellas,
+                cuatroEstrellas, cincoEstrellas, version);
+    }
+
+    private static int presente(final int calificacion) {
+        return calificacion == 0 ? 0 : 1;
+    }
+
+    private static int cambio(final int estrellas, final int calificacionAnterior, final int calificacionNueva) {
+        return (calificacionNueva == estrellas ? 1 : 0) - (calificacionAnterior == estrellas ? 1 : 0);
+    }
+}
@@ -0,0 +1,24 @@
+package co.edu.uco.backend.data.dao.entity.resumencalificacion;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Resúmenes de calificación guardados por llave (la cancha o la organización). Hay una tabla por
+ * cada uno; la factoría entrega el DAO de la que corresponda.
+ */
+public interface ResumenCalificacionDAO {
+
+    /**
+     * Aplica el cambio de forma atómica (la fila queda bloqueada hasta el final de la transacción)
+     * y retorna el resumen resultante. Si el resumen no existía se crea.
+     */
+    ResumenCalificacion registrarCambio(UUID id, int calificacionAnterior, int calificacionNueva) throws BackEndException;
+
+    // Resumen vacío (versión 0) si todavía no hay reseñas
+    ResumenCalificacion consultarPorId(UUID id) throws BackEndException;
+
+    void consultarTodos(Consumer<ResumenCalificacion> consumidor) throws BackEndException;
+}
@@ -0,0 +1,48 @@
+package co.edu.uco.backend.data.dao.entity.resumencalificacion.impl.memoria;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.entity.resumencalificacion.ResumenCalificacion;
+import co.edu.uco.backend.data.dao.entity.resumencalificacion.ResumenCalificacionDAO;
+import co.edu.uco.backend.data.dao.memoria.SesionMemoria;
+import co.edu.uco.backend.data.dao.memoria.TablaMemoria;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public class ResumenCalificacionMemoriaDAO implements ResumenCalificacionDAO {
+
+    private final SesionMemoria sesion;
+    private final TablaMemoria<ResumenCalificacion> tabla;
+
+    public ResumenCalificacionMemoriaDAO(final SesionMemoria sesion, final TablaMemoria<ResumenCalificacion> tabla) {
+        this.sesion = sesion;
+        this.tabla = tabla;
+    }
+
+    // El bloqueo de la fila hace el papel del UPDATE atómico de PostgreSQL entre transacciones
+    @Override
+    public ResumenCalificacion registrarCambio(final UUID id, final int calificacionAnterior, final int calificacionNueva)
+            throws BackEndException {
+        sesion.bloquearFila(tabla, id);
+        var actual = sesion.consultarPorId(tabla, id);
+        if (actual == null) {
+            var nuevo = ResumenCalificacion.vacio(id).aplicar(calificacionAnterior, calificacionNueva);
+            sesion.crear(tabla, nuevo);
+            return nuevo;
+        }
+        var nuevo = actual.aplicar(calificacionAnterior, calificacionNueva);
+        sesion.modificar(tabla, id, nuevo);
+        return nuevo;
+    }
+
+    @Override
+    public ResumenCalificacion consultarPorId(final UUID id) throws BackEndException {
+        var fila = sesion.consultarPorId(tabla, id);
+        return fila == null ? ResumenCalificacion.vacio(id) : fila;
+    }
+
+    @Override
+    public void consultarTodos(final Consumer<ResumenCalificacion> consumidor) throws BackEndException {
+        sesion.consultar(tabla, fila -> true).forEach(consumidor);
+    }
+}
@@ -0,0 +1,170 @@
+package co.edu.uco.backend.data.dao.entity.resumencalificacion.impl.postgresql;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.data.dao.entity.resumencalificacion.ResumenCalificacion;
+import co.edu.uco.backend.data.dao.entity.resumencalificacion.ResumenCalificacionDAO;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Resúmenes de calificación en doodb.resumencalificacioncancha y doodb.resumencalificacionorganizacion
+ * (ver db/resumen_calificacion.sql). Las dos tablas tienen las mismas columnas salvo la llave.
+ * El cambio se aplica con un único INSERT ... ON CONFLICT DO UPDATE que suma los deltas sobre la
+ * fila, así dos reseñas simultáneas de la misma cancha no se pisan.
+ */
+public class ResumenCalificacionPostgreSQLDAO implements ResumenCalificacionDAO {
+
+    // Filas que el driver trae por viaje; solo aplica con autocommit apagado (dentro de una transacción)
+    private static final int TAMANO_LOTE_LECTURA = 500;
+
+    private static final String COLUMNAS_HISTOGRAMA = "cantidad, suma, unaestrella, dosestrellas, tresestrellas, cuatroestrellas, cincoestrellas, version";
+
+    private static final Sentencias CANCHAS = new Sentencias("doodb.resumencalificacioncancha", "codigocancha", "la cancha");
+    private static final Sentencias ORGANIZACIONES = new Sentencias("doodb.resumencalificacionorganizacion", "codigoorganizacion",
+            "la organización");
+
+    private final Connection connection;
+    private final String columnaLlave;
+    private final String sentenciaRegistrarCambio;
+    private final String sentenciaConsultar;
+    private final String sentenciaConsultarPorId;
+    private final String entidad;
+
+    private ResumenCalificacionPostgreSQLDAO(final Connection connection, final Sentencias sentencias) {
+        this.connection = connection;
+        this.columnaLlave = sentencias.columnaLlave;
+        this.entidad = sentencias.entidad;
+        this.sentenciaRegistrarCambio = sentencias.registrarCambio;
+        this.sentenciaConsultar = sentencias.consultar;
+        this.sentenciaConsultarPorId = sentencias.consultarPorId;
+    }
+
+    public static ResumenCalificacionPostgreSQLDAO deCanchas(final Connection connection) {
+        return new ResumenCalificacionPostgreSQLDAO(connection, CANCHAS);
+    }
+
+    public static ResumenCalificacionPostgreSQLDAO deOrganizaciones(final Connection connection) {
+        return new ResumenCalificacionPostgreSQLDAO(connection, ORGANIZACIONES);
+    }
+
+    @Override
+    public ResumenCalificacion registrarCambio(final UUID id, final int calificacionAnterior, final int calificacionNueva)
+            throws BackEndException {
+        // Aplicado sobre un resumen vacío, el cambio queda expresado como deltas
+        var deltas = ResumenCalificacion.vacio(id).aplicar(calificacionAnterior, calificacionNueva);
+
+        try (var ps = connection.prepareStatement(sentenciaRegistrarCambio)) {
+            ps.setObject(1, id);
+            ps.setInt(2, deltas.cantidad());
+            ps.setLong(3, deltas.suma());
+            ps.setInt(4, deltas.unaEstrella());
+            ps.setInt(5, deltas.dosEstrellas());
+            ps.setInt(6, deltas.tresEstrellas());
+            ps.setInt(7, deltas.cuatroEstrellas());
+            ps.setInt(8, deltas.cincoEstrellas());
+
+            try (var rs = ps.executeQuery()) {
+                rs.next();
+                return leerResumen(rs);
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de actualizar el resumen de calificaciones de " + entidad + " " + id;
+            var mensajeUsuario = "No se pudo actualizar la calificación de " + entidad + " en este momento";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de actualizar el resumen de calificaciones de " + entidad + " " + id;
+            var mensajeUsuario = "Ha ocurrido un problema inesperado al actualizar la calificación de " + entidad;
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public ResumenCalificacion consultarPorId(final UUID id) throws BackEndException {
+        try (var ps = connection.prepareStatement(sentenciaConsultarPorId)) {
+            ps.setObject(1, id);
+
+            try (var rs = ps.executeQuery()) {
+                return rs.next() ? leerResumen(rs) : ResumenCalificacion.vacio(id);
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de consultar el resumen de calificaciones de " + entidad + " " + id;
+            var mensajeUsuario = "No se pudo consultar la calificación de " + entidad + " en este momento";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de consultar el resumen de calificaciones de " + entidad + " " + id;
+            var mensajeUsuario = "Ha ocurrido un problema inesperado al consultar la calificación de " + entidad;
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void consultarTodos(final Consumer<ResumenCalificacion> consumidor) throws BackEndException {
+        try (var ps = connection.prepareStatement(sentenciaConsultar)) {
+            ps.setFetchSize(TAMANO_LOTE_LECTURA);
+
+            try (var rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    consumidor.accept(leerResumen(rs));
+                }
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de consultar los resúmenes de calificaciones de " + entidad;
+            var mensajeUsuario = "No se pudo consultar las calificaciones en este momento";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de consultar los resúmenes de calificaciones de " + entidad;
+            var mensajeUsuario = "Ha ocurrido un problema inesperado al consultar las calificaciones";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private ResumenCalificacion leerResumen(final ResultSet rs) throws SQLException {
+        return new ResumenCalificacion(
+                UtilUUID.convertirAUUID(rs.getString(columnaLlave)),
+                rs.getInt("cantidad"),
+                rs.getLong("suma"),
+                rs.getInt("unaestrella"),
+                rs.getInt("dosestrellas"),
+                rs.getInt("tresestrellas"),
+                rs.getInt("cuatroestrellas"),
+                rs.getInt("cincoestrellas"),
+                rs.getLong("version")
+        );
+    }
+
+    // Se arman una sola vez por tabla: cada consulta envía exactamente el mismo texto y el driver
+    // reutiliza la sentencia que ya preparó en el servidor para esa conexión
+    private static final class Sentencias {
+
+        private final String columnaLlave;
+        private final String entidad;
+        private final String registrarCambio;
+        private final String consultar;
+        private final String consultarPorId;
+
+        private Sentencias(final String tabla, final String columnaLlave, final String entidad) {
+            this.columnaLlave = columnaLlave;
+            this.entidad = entidad;
+            this.registrarCambio = "INSERT INTO " + tabla + " AS r (" + columnaLlave + ", " + COLUMNAS_HISTOGRAMA + ") "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 1) "
+                    + "ON CONFLICT (" + columnaLlave + ") DO UPDATE SET "
+                    + "cantidad = r.cantidad + EXCLUDED.cantidad, "
+                    + "suma = r.suma + EXCLUDED.suma, "
+                    + "unaestrella = r.unaestrella + EXCLUDED.unaestrella, "
+                    + "dosestrellas = r.dosestrellas + EXCLUDED.dosestrellas, "
+                    + "tresestrellas = r.tresestrellas + EXCLUDED.tresestrellas, "
+                    + "cuatroestrellas = r.cuatroestrellas + EXCLUDED.cuatroestrellas, "
+                    + "cincoestrellas = r.cincoestrellas + EXCLUDED.cincoestrellas, "
+                    + "version = r.version + 1 "
+                    + "RETURNING " + columnaLlave + ", " + COLUMNAS_HISTOGRAMA;
+            this.consultar = "SELECT " + columnaLlave + ", " + COLUMNAS_HISTOGRAMA + " FROM " + tabla;
+            this.consultarPorId = consultar + " WHERE " + columnaLlave + " = ?";
+        }
+    }
+}
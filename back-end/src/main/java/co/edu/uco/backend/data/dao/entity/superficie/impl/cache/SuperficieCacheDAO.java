@@ -0,0 +1,22 @@
+package co.edu.uco.backend.data.dao.entity.superficie.impl.cache;
+
+import co.edu.uco.backend.data.dao.cache.CachesCatalogo;
+import co.edu.uco.backend.data.dao.cache.CatalogoCacheDAO;
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
+import co.edu.uco.backend.data.dao.entity.superficie.SuperficieDAO;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.entity.SuperficieEntity;
+
+import java.util.UUID;
+
+public class SuperficieCacheDAO extends CatalogoCacheDAO<SuperficieEntity, SuperficieDAO> implements SuperficieDAO {
+
+    public SuperficieCacheDAO(final SuperficieDAO delegado, final DAOFactory factory) {
+        super(delegado, CachesCatalogo.getInstance().getSuperficies(), factory, VersionesRecursos.Recurso.SUPERFICIE);
+    }
+
+    @Override
+    protected UUID obtenerId(final SuperficieEntity entity) {
+        return entity.getId();
+    }
+}
@@ -0,0 +1,20 @@
+package co.edu.uco.backend.data.dao.entity.superficie.impl.memoria;
+
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
+import co.edu.uco.backend.data.dao.entity.superficie.SuperficieDAO;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.data.dao.memoria.MemoriaDAO;
+import co.edu.uco.backend.data.dao.memoria.SesionMemoria;
+import co.edu.uco.backend.entity.SuperficieEntity;
+
+public class SuperficieMemoriaDAO extends MemoriaDAO<SuperficieEntity> implements SuperficieDAO {
+
+    public SuperficieMemoriaDAO(final SesionMemoria sesion) {
+        super(sesion, BaseDatosMemoria.getInstance().getSuperficies(), VersionesRecursos.Recurso.SUPERFICIE);
+    }
+
+    @Override
+    protected boolean cumpleFiltro(final SuperficieEntity filtro, final SuperficieEntity fila) {
+        return coincideTexto(filtro.getNombre(), fila.getNombre());
+    }
+}
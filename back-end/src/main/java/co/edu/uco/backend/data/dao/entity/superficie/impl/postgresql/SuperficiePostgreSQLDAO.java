@@ -2,16 +2,29 @@ package co.edu.uco.backend.data.dao.entity.superficie.impl.postgresql;
 
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilObjeto;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilTexto;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
 import co.edu.uco.backend.data.dao.entity.superficie.SuperficieDAO;
+import co.edu.uco.backend.data.dao.sql.LotePostgreSQL;
 import co.edu.uco.backend.entity.SuperficieEntity;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class SuperficiePostgreSQLDAO implements SuperficieDAO {
 
+    private static final String SQL_CREAR = "INSERT INTO doodb.superficie(superficieid, superficie) VALUES (?, ?)";
+    private static final String SQL_MODIFICAR = "UPDATE doodb.superficie SET superficie = ? WHERE superficieid = ?";
+    private static final String SQL_ELIMINAR = "DELETE FROM doodb.superficie WHERE superficieid = ?";
+    private static final String SQL_CONSULTAR_POR_ID = "SELECT superficieid, superficie FROM doodb.superficie WHERE superficieid = ?";
+
     private final Connection connection;
 
     public SuperficiePostgreSQLDAO(Connection connection) {
@@ -20,12 +33,8 @@ public class SuperficiePostgreSQLDAO implements SuperficieDAO {
 
     @Override
     public void crear(SuperficieEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("INSERT INTO superficie(superficieid, superficie)" +
-                " VALUES (?, ?");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,entity.getId());
-            sentenciaPreparada.setString(2,entity.getNombre());
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_CREAR)) {
+            asignarParametrosCreacion(sentenciaPreparada, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -44,10 +53,8 @@ public class SuperficiePostgreSQLDAO implements SuperficieDAO {
 
     @Override
     public void eliminar(UUID superficieId) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("DELETE FROM superficie WHERE superficieid = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,superficieId);
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_ELIMINAR)) {
+            sentenciaPreparada.setObject(1, superficieId);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -65,24 +72,75 @@ public class SuperficiePostgreSQLDAO implements SuperficieDAO {
     }
 
     @Override
-    public List<SuperficieEntity> consultar(SuperficieEntity entity) {
-        return List.of();
+    public List<SuperficieEntity> consultar(SuperficieEntity filtro) throws BackEndException {
+        var resultados = new ArrayList<SuperficieEntity>();
+
+        var filtrarPorNombre = !UtilObjeto.getInstance().esNulo(filtro) && !UtilTexto.getInstance().estaVacia(filtro.getNombre());
+
+        var condiciones = new ArrayList<String>();
+        if (filtrarPorNombre) {
+            condiciones.add("LOWER(superficie) = LOWER(?)");
+        }
+        var sql = new StringBuilder("SELECT superficieid, superficie FROM doodb.superficie");
+        if (!condiciones.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", condiciones));
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+            var indice = 1;
+            if (filtrarPorNombre) {
+                ps.setString(indice++, UtilTexto.getInstance().quitarEspaciosEnBlancoInicioFin(filtro.getNombre()));
+            }
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    resultados.add(mapear(rs));
+                }
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de consultar las superficies en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de consultar las superficies";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de consultar las superficies en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de consultar las superficies";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+
+        return resultados;
     }
 
     @Override
-    public SuperficieEntity consultarPorId(UUID id) {
-        return null;
+    public SuperficieEntity consultarPorId(UUID id) throws BackEndException {
+        try (PreparedStatement ps = connection.prepareStatement(SQL_CONSULTAR_POR_ID)) {
+            ps.setObject(1, id);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? mapear(rs) : new SuperficieEntity();
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de consultar la superficie por id en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de consultar la superficie";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de consultar la superficie por id en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de consultar la superficie";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private SuperficieEntity mapear(ResultSet rs) throws SQLException {
+        return new SuperficieEntity(
+                UtilUUID.convertirAUUID(rs.getString("superficieid")),
+                rs.getString("superficie")
+        );
     }
 
 
     @Override
     public void modificar(UUID superficieId, SuperficieEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("UPDATE superficie SET superficie = ? WHERE superficieid = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,superficieId);
-            sentenciaPreparada.setString(2,entity.getNombre());
-
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_MODIFICAR)) {
+            asignarParametrosModificacion(sentenciaPreparada, superficieId, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -99,4 +157,69 @@ public class SuperficiePostgreSQLDAO implements SuperficieDAO {
         }
 
     }
+
+    @Override
+    public void crearTodos(List<SuperficieEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_CREAR, entities, SuperficiePostgreSQLDAO::asignarParametrosCreacion);
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de registrar en lote las superficies en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de registrar las superficies en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de registrar en lote las superficies en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de registrar las superficies en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void modificarTodos(Map<UUID, SuperficieEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_MODIFICAR, entities.entrySet(),
+                    (sentencia, cambio) -> asignarParametrosModificacion(sentencia, cambio.getKey(), cambio.getValue()));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de modificar en lote las superficies en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de modificar las superficies en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de modificar en lote las superficies en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de modificar las superficies en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void eliminarTodos(List<UUID> ids) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_ELIMINAR, ids, (sentencia, id) -> sentencia.setObject(1, id));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de eliminar en lote las superficies en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de eliminar las superficies en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de eliminar en lote las superficies en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de eliminar las superficies en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private static void asignarParametrosCreacion(PreparedStatement sentencia, SuperficieEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getId());
+        sentencia.setString(2, entity.getNombre());
+    }
+
+    private static void asignarParametrosModificacion(PreparedStatement sentencia, UUID id, SuperficieEntity entity) throws SQLException {
+        sentencia.setString(1, entity.getNombre());
+        sentencia.setObject(2, id);
+    }
 }
@@ -0,0 +1,22 @@
+package co.edu.uco.backend.data.dao.entity.tipocancha.impl.cache;
+
+import co.edu.uco.backend.data.dao.cache.CachesCatalogo;
+import co.edu.uco.backend.data.dao.cache.CatalogoCacheDAO;
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
+import co.edu.uco.backend.data.dao.entity.tipocancha.TipoCanchaDAO;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.entity.TipoCanchaEntity;
+
+import java.util.UUID;
+
+public class TipoCanchaCacheDAO extends CatalogoCacheDAO<TipoCanchaEntity, TipoCanchaDAO> implements TipoCanchaDAO {
+
+    public TipoCanchaCacheDAO(final TipoCanchaDAO delegado, final DAOFactory factory) {
+        super(delegado, CachesCatalogo.getInstance().getTiposCancha(), factory, VersionesRecursos.Recurso.TIPO_CANCHA);
+    }
+
+    @Override
+    protected UUID obtenerId(final TipoCanchaEntity entity) {
+        return entity.getId();
+    }
+}
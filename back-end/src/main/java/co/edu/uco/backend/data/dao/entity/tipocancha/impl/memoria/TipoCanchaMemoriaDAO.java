@@ -0,0 +1,20 @@
+package co.edu.uco.backend.data.dao.entity.tipocancha.impl.memoria;
+
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
+import co.edu.uco.backend.data.dao.entity.tipocancha.TipoCanchaDAO;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.data.dao.memoria.MemoriaDAO;
+import co.edu.uco.backend.data.dao.memoria.SesionMemoria;
+import co.edu.uco.backend.entity.TipoCanchaEntity;
+
+public class TipoCanchaMemoriaDAO extends MemoriaDAO<TipoCanchaEntity> implements TipoCanchaDAO {
+
+    public TipoCanchaMemoriaDAO(final SesionMemoria sesion) {
+        super(sesion, BaseDatosMemoria.getInstance().getTiposCancha(), VersionesRecursos.Recurso.TIPO_CANCHA);
+    }
+
+    @Override
+    protected boolean cumpleFiltro(final TipoCanchaEntity filtro, final TipoCanchaEntity fila) {
+        return coincideTexto(filtro.getNombre(), fila.getNombre());
+    }
+}
@@ -2,16 +2,29 @@ package co.edu.uco.backend.data.dao.entity.tipocancha.impl.postgresql;
 
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilObjeto;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilTexto;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
 import co.edu.uco.backend.data.dao.entity.tipocancha.TipoCanchaDAO;
+import co.edu.uco.backend.data.dao.sql.LotePostgreSQL;
 import co.edu.uco.backend.entity.TipoCanchaEntity;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class TipoCanchaPostgreSQLDAO implements TipoCanchaDAO {
 
+    private static final String SQL_CREAR = "INSERT INTO doodb.tipocancha(codigotipocancha, nombre, jugadoresrecomendados) VALUES (?, ?, ?)";
+    private static final String SQL_MODIFICAR = "UPDATE doodb.tipocancha SET nombre = ?, jugadoresrecomendados = ? WHERE codigotipocancha = ?";
+    private static final String SQL_ELIMINAR = "DELETE FROM doodb.tipocancha WHERE codigotipocancha = ?";
+    private static final String SQL_CONSULTAR_POR_ID = "SELECT codigotipocancha, nombre, jugadoresrecomendados FROM doodb.tipocancha WHERE codigotipocancha = ?";
+
     private final Connection connection;
 
     public TipoCanchaPostgreSQLDAO(Connection connection) {
@@ -20,14 +33,8 @@ public class TipoCanchaPostgreSQLDAO implements TipoCanchaDAO {
 
     @Override
     public void crear(TipoCanchaEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("INSERT INTO tipocancha(codigotipocancha, nombre, jugadoresrecomendados)" +
-                " VALUES (?, ?, ?");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,entity.getId());
-            sentenciaPreparada.setString(2,entity.getNombre());
-            sentenciaPreparada.setString(3,entity.getJugadoresRecomendados());
-
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_CREAR)) {
+            asignarParametrosCreacion(sentenciaPreparada, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -46,10 +53,8 @@ public class TipoCanchaPostgreSQLDAO implements TipoCanchaDAO {
 
     @Override
     public void eliminar(UUID tipoCanchaId) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("DELETE FROM tipocancha WHERE codigotipocancha = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,tipoCanchaId);
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_ELIMINAR)) {
+            sentenciaPreparada.setObject(1, tipoCanchaId);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -67,25 +72,76 @@ public class TipoCanchaPostgreSQLDAO implements TipoCanchaDAO {
     }
 
     @Override
-    public List<TipoCanchaEntity> consultar(TipoCanchaEntity entity) {
-        return List.of();
+    public List<TipoCanchaEntity> consultar(TipoCanchaEntity filtro) throws BackEndException {
+        var resultados = new ArrayList<TipoCanchaEntity>();
+
+        var filtrarPorNombre = !UtilObjeto.getInstance().esNulo(filtro) && !UtilTexto.getInstance().estaVacia(filtro.getNombre());
+
+        var condiciones = new ArrayList<String>();
+        if (filtrarPorNombre) {
+            condiciones.add("LOWER(nombre) = LOWER(?)");
+        }
+        var sql = new StringBuilder("SELECT codigotipocancha, nombre, jugadoresrecomendados FROM doodb.tipocancha");
+        if (!condiciones.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", condiciones));
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+            var indice = 1;
+            if (filtrarPorNombre) {
+                ps.setString(indice++, UtilTexto.getInstance().quitarEspaciosEnBlancoInicioFin(filtro.getNombre()));
+            }
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    resultados.add(mapear(rs));
+                }
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de consultar los tipos de cancha en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de consultar los tipos de cancha";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de consultar los tipos de cancha en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de consultar los tipos de cancha";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+
+        return resultados;
     }
 
     @Override
-    public TipoCanchaEntity consultarPorId(UUID id) {
-        return null;
+    public TipoCanchaEntity consultarPorId(UUID id) throws BackEndException {
+        try (PreparedStatement ps = connection.prepareStatement(SQL_CONSULTAR_POR_ID)) {
+            ps.setObject(1, id);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? mapear(rs) : new TipoCanchaEntity();
+            }
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de consultar el tipo de cancha por id en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de consultar el tipo de cancha";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de consultar el tipo de cancha por id en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de consultar el tipo de cancha";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private TipoCanchaEntity mapear(ResultSet rs) throws SQLException {
+        return new TipoCanchaEntity(
+                UtilUUID.convertirAUUID(rs.getString("codigotipocancha")),
+                rs.getString("nombre"),
+                rs.getString("jugadoresrecomendados")
+        );
     }
 
 
     @Override
     public void modificar(UUID tipoCanchaId, TipoCanchaEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("UPDATE tipocancha SET nombre = ?, jugadoresrecomendados = ? WHERE codigocancha = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,tipoCanchaId);
-            sentenciaPreparada.setString(2,entity.getNombre());
-            sentenciaPreparada.setObject(3,entity.getJugadoresRecomendados());
-
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_MODIFICAR)) {
+            asignarParametrosModificacion(sentenciaPreparada, tipoCanchaId, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -102,4 +158,71 @@ public class TipoCanchaPostgreSQLDAO implements TipoCanchaDAO {
         }
 
     }
+
+    @Override
+    public void crearTodos(List<TipoCanchaEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_CREAR, entities, TipoCanchaPostgreSQLDAO::asignarParametrosCreacion);
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de registrar en lote los tipos de cancha en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de registrar los tipos de cancha en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de registrar en lote los tipos de cancha en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de registrar los tipos de cancha en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void modificarTodos(Map<UUID, TipoCanchaEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_MODIFICAR, entities.entrySet(),
+                    (sentencia, cambio) -> asignarParametrosModificacion(sentencia, cambio.getKey(), cambio.getValue()));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de modificar en lote los tipos de cancha en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de modificar los tipos de cancha en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de modificar en lote los tipos de cancha en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de modificar los tipos de cancha en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void eliminarTodos(List<UUID> ids) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_ELIMINAR, ids, (sentencia, id) -> sentencia.setObject(1, id));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de eliminar en lote los tipos de cancha en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de eliminar los tipos de cancha en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de eliminar en lote los tipos de cancha en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de eliminar los tipos de cancha en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private static void asignarParametrosCreacion(PreparedStatement sentencia, TipoCanchaEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getId());
+        sentencia.setString(2, entity.getNombre());
+        sentencia.setString(3, entity.getJugadoresRecomendados());
+    }
+
+    private static void asignarParametrosModificacion(PreparedStatement sentencia, UUID id, TipoCanchaEntity entity) throws SQLException {
+        sentencia.setString(1, entity.getNombre());
+        sentencia.setString(2, entity.getJugadoresRecomendados());
+        sentencia.setObject(3, id);
+    }
 }
@@ -0,0 +1,119 @@
+package co.edu.uco.backend.data.dao.entity.ubicacionprecisa.impl.indice;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.busqueda.IndiceFacetasCanchas;
+import co.edu.uco.backend.data.dao.entity.cancha.CanchaDAO;
+import co.edu.uco.backend.data.dao.entity.cancha.CanchaGeolocalizada;
+import co.edu.uco.backend.data.dao.entity.cancha.FichaCancha;
+import co.edu.uco.backend.data.dao.entity.ubicacionprecisa.UbicacionPrecisaDAO;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.data.dao.geo.IndiceGeograficoCanchas;
+import co.edu.uco.backend.entity.UbicacionPrecisaEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Decorador que lleva a los índices de canchas cada escritura de una ubicación precisa: las
+ * canchas que apuntan a ella se releen con las coordenadas y el municipio nuevos en la misma
+ * transacción y los índices se actualizan cuando la factoría confirma.
+ */
+public class UbicacionPrecisaIndicesDAO implements UbicacionPrecisaDAO {
+
+    private final UbicacionPrecisaDAO delegado;
+    private final CanchaDAO canchaDAO;
+    private final DAOFactory factory;
+
+    public UbicacionPrecisaIndicesDAO(final UbicacionPrecisaDAO delegado, final CanchaDAO canchaDAO,
+                                      final DAOFactory factory) {
+        this.delegado = delegado;
+        this.canchaDAO = canchaDAO;
+        this.factory = factory;
+    }
+
+    @Override
+    public void crear(final UbicacionPrecisaEntity entity) throws BackEndException {
+        delegado.crear(entity);
+        actualizarIndices(canchaDAO.consultarGeolocalizadasPorUbicacion(entity.getId()),
+                canchaDAO.consultarFichasPorUbicacion(entity.getId()));
+    }
+
+    @Override
+    public void modificar(final UUID id, final UbicacionPrecisaEntity entity) throws BackEndException {
+        delegado.modificar(id, entity);
+        actualizarIndices(canchaDAO.consultarGeolocalizadasPorUbicacion(id), canchaDAO.consultarFichasPorUbicacion(id));
+    }
+
+    @Override
+    public void eliminar(final UUID id) throws BackEndException {
+        // Después del DELETE ya no hay JOIN que diga qué canchas estaban en esta ubicación
+        var afectadas = canchaDAO.consultarGeolocalizadasPorUbicacion(id);
+        delegado.eliminar(id);
+        // Las fichas sí se releen: el LEFT JOIN las deja sin municipio
+        var fichas = canchaDAO.consultarFichasPorUbicacion(id);
+        factory.alConfirmarTransaccion(() -> {
+            afectadas.forEach(cancha -> IndiceGeograficoCanchas.getInstance().eliminar(cancha.canchaId()));
+            fichas.forEach(IndiceFacetasCanchas.getInstance()::actualizar);
+        });
+    }
+
+    @Override
+    public void crearTodos(final List<UbicacionPrecisaEntity> entities) throws BackEndException {
+        delegado.crearTodos(entities);
+        actualizarIndicesUbicaciones(entities.stream().map(UbicacionPrecisaEntity::getId).toList());
+    }
+
+    @Override
+    public void modificarTodos(final Map<UUID, UbicacionPrecisaEntity> entities) throws BackEndException {
+        delegado.modificarTodos(entities);
+        actualizarIndicesUbicaciones(entities.keySet());
+    }
+
+    @Override
+    public void eliminarTodos(final List<UUID> ids) throws BackEndException {
+        var afectadas = new ArrayList<CanchaGeolocalizada>();
+        for (UUID id : ids) {
+            afectadas.addAll(canchaDAO.consultarGeolocalizadasPorUbicacion(id));
+        }
+        delegado.eliminarTodos(ids);
+        var fichas = new ArrayList<FichaCancha>();
+        for (UUID id : ids) {
+            fichas.addAll(canchaDAO.consultarFichasPorUbicacion(id));
+        }
+        factory.alConfirmarTransaccion(() -> {
+            afectadas.forEach(cancha -> IndiceGeograficoCanchas.getInstance().eliminar(cancha.canchaId()));
+            fichas.forEach(IndiceFacetasCanchas.getInstance()::actualizar);
+        });
+    }
+
+    @Override
+    public List<UbicacionPrecisaEntity> consultar(final UbicacionPrecisaEntity filtro) throws BackEndException {
+        return delegado.consultar(filtro);
+    }
+
+    @Override
+    public UbicacionPrecisaEntity consultarPorId(final UUID id) throws BackEndException {
+        return delegado.consultarPorId(id);
+    }
+
+    private void actualizarIndicesUbicaciones(final Iterable<UUID> ids) throws BackEndException {
+        var canchas = new ArrayList<CanchaGeolocalizada>();
+        var fichas = new ArrayList<FichaCancha>();
+        for (UUID id : ids) {
+            canchas.addAll(canchaDAO.consultarGeolocalizadasPorUbicacion(id));
+            fichas.addAll(canchaDAO.consultarFichasPorUbicacion(id));
+        }
+        actualizarIndices(canchas, fichas);
+    }
+
+    private void actualizarIndices(final List<CanchaGeolocalizada> canchas, final List<FichaCancha> fichas) throws BackEndException {
+        if (!canchas.isEmpty() || !fichas.isEmpty()) {
+            factory.alConfirmarTransaccion(() -> {
+                canchas.forEach(IndiceGeograficoCanchas.getInstance()::actualizar);
+                fichas.forEach(IndiceFacetasCanchas.getInstance()::actualizar);
+            });
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package co.edu.uco.backend.data.dao.entity.ubicacionprecisa.impl.memoria;
+
+import co.edu.uco.backend.data.dao.entity.ubicacionprecisa.UbicacionPrecisaDAO;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.data.dao.memoria.MemoriaDAO;
+import co.edu.uco.backend.data.dao.memoria.SesionMemoria;
+import co.edu.uco.backend.entity.UbicacionPrecisaEntity;
+
+public class UbicacionPrecisaMemoriaDAO extends MemoriaDAO<UbicacionPrecisaEntity> implements UbicacionPrecisaDAO {
+
+    public UbicacionPrecisaMemoriaDAO(final SesionMemoria sesion) {
+        super(sesion, BaseDatosMemoria.getInstance().getUbicaciones());
+    }
+
+    @Override
+    protected boolean cumpleFiltro(final UbicacionPrecisaEntity filtro, final UbicacionPrecisaEntity fila) {
+        return coincideId(filtro.getId(), fila.getId())
+                && coincideId(filtro.getMunicipio().getId(), fila.getMunicipio().getId());
+    }
+}
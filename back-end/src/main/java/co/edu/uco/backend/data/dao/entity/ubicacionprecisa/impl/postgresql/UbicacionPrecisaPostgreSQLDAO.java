@@ -3,15 +3,22 @@ package co.edu.uco.backend.data.dao.entity.ubicacionprecisa.impl.postgresql;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
 import co.edu.uco.backend.data.dao.entity.ubicacionprecisa.UbicacionPrecisaDAO;
+import co.edu.uco.backend.data.dao.sql.LotePostgreSQL;
 import co.edu.uco.backend.entity.UbicacionPrecisaEntity;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class UbicacionPrecisaPostgreSQLDAO implements UbicacionPrecisaDAO {
 
+    private static final String SQL_CREAR = "INSERT INTO doodb.ubicacionprecisa(codigoubicacion, direccion, latitud, longitud, codigomunicipio, informacion) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String SQL_MODIFICAR = "UPDATE doodb.ubicacionprecisa SET direccion = ?, latitud = ?, longitud = ?, codigomunicipio = ?, informacion = ? WHERE codigoubicacion = ?";
+    private static final String SQL_ELIMINAR = "DELETE FROM doodb.ubicacionprecisa WHERE codigoubicacion = ?";
+
     private final Connection connection;
 
     public UbicacionPrecisaPostgreSQLDAO(Connection connection) {
@@ -20,16 +27,8 @@ public class UbicacionPrecisaPostgreSQLDAO implements UbicacionPrecisaDAO {
 
     @Override
     public void crear(UbicacionPrecisaEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("INSERT INTO ubicacionprecisa(codigoubicacion, direccion, latitud, longitud, codigomunicipio,informacion)" +
-                " VALUES (?, ?, ?, ?, ?, ?,?");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,entity.getId());
-            sentenciaPreparada.setString(2,entity.getDireccion());
-            sentenciaPreparada.setDouble(3,entity.getLatitud());
-            sentenciaPreparada.setDouble(4,entity.getLongitud());
-            sentenciaPreparada.setObject(5,entity.getMunicipio());
-            sentenciaPreparada.setString(6,entity.getInformacionAdicional());
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_CREAR)) {
+            asignarParametrosCreacion(sentenciaPreparada, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -48,10 +47,8 @@ public class UbicacionPrecisaPostgreSQLDAO implements UbicacionPrecisaDAO {
 
     @Override
     public void eliminar(UUID ubicacionPrecisaId) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("DELETE FROM ubicacionprecisa WHERE codigoubicacion = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,ubicacionPrecisaId);
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_ELIMINAR)) {
+            sentenciaPreparada.setObject(1, ubicacionPrecisaId);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -81,17 +78,8 @@ public class UbicacionPrecisaPostgreSQLDAO implements UbicacionPrecisaDAO {
 
     @Override
     public void modificar(UUID ubicacionPrecisaId, UbicacionPrecisaEntity entity) throws BackEndException {
-        var sentenciaSQL = new StringBuilder();
-        sentenciaSQL.append("UPDATE ubicacionprecisa SET direccion = ?, latitud = ?, longitud = ?, codigomunicipio = ?, informacion = ? WHERE codigoubicacion = ?)");
-        try (var sentenciaPreparada = connection.prepareStatement(sentenciaSQL.toString())){
-            sentenciaPreparada.setObject(1,ubicacionPrecisaId);
-            sentenciaPreparada.setString(2,entity.getDireccion());
-            sentenciaPreparada.setDouble(3,entity.getLatitud());
-            sentenciaPreparada.setDouble(4,entity.getLongitud());
-            sentenciaPreparada.setObject(5,entity.getMunicipio());
-            sentenciaPreparada.setString(6,entity.getInformacionAdicional());
-
-
+        try (var sentenciaPreparada = connection.prepareStatement(SQL_MODIFICAR)) {
+            asignarParametrosModificacion(sentenciaPreparada, ubicacionPrecisaId, entity);
 
             sentenciaPreparada.executeUpdate();
         } catch (SQLException exception) {
@@ -108,4 +96,77 @@ public class UbicacionPrecisaPostgreSQLDAO implements UbicacionPrecisaDAO {
         }
 
     }
+
+    @Override
+    public void crearTodos(List<UbicacionPrecisaEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_CREAR, entities, UbicacionPrecisaPostgreSQLDAO::asignarParametrosCreacion);
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de registrar en lote las ubicaciones precisas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de registrar las ubicaciones precisas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de registrar en lote las ubicaciones precisas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de registrar las ubicaciones precisas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void modificarTodos(Map<UUID, UbicacionPrecisaEntity> entities) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_MODIFICAR, entities.entrySet(),
+                    (sentencia, cambio) -> asignarParametrosModificacion(sentencia, cambio.getKey(), cambio.getValue()));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de modificar en lote las ubicaciones precisas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de modificar las ubicaciones precisas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de modificar en lote las ubicaciones precisas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de modificar las ubicaciones precisas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    @Override
+    public void eliminarTodos(List<UUID> ids) throws BackEndException {
+        try {
+            LotePostgreSQL.ejecutar(connection, SQL_ELIMINAR, ids, (sentencia, id) -> sentencia.setObject(1, id));
+        } catch (SQLException exception) {
+            var mensajeTecnico = "Se presentó una SQLException tratando de eliminar en lote las ubicaciones precisas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema tratando de eliminar las ubicaciones precisas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+
+        } catch (Exception exception) {
+            var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de eliminar en lote las ubicaciones precisas en la base de datos, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de eliminar las ubicaciones precisas en la fuente de datos";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    private static void asignarParametrosCreacion(PreparedStatement sentencia, UbicacionPrecisaEntity entity) throws SQLException {
+        sentencia.setObject(1, entity.getId());
+        sentencia.setString(2, entity.getDireccion());
+        sentencia.setDouble(3, entity.getLatitud());
+        sentencia.setDouble(4, entity.getLongitud());
+        sentencia.setObject(5, entity.getMunicipio().getId());
+        sentencia.setString(6, entity.getInformacionAdicional());
+    }
+
+    private static void asignarParametrosModificacion(PreparedStatement sentencia, UUID id, UbicacionPrecisaEntity entity) throws SQLException {
+        sentencia.setString(1, entity.getDireccion());
+        sentencia.setDouble(2, entity.getLatitud());
+        sentencia.setDouble(3, entity.getLongitud());
+        sentencia.setObject(4, entity.getMunicipio().getId());
+        sentencia.setString(5, entity.getInformacionAdicional());
+        sentencia.setObject(6, id);
+    }
 }
@@ -19,17 +19,36 @@ import co.edu.uco.backend.data.dao.entity.resena.ResenaDAO;
 import co.edu.uco.backend.data.dao.entity.factura.FacturaDAO;
 import co.edu.uco.backend.data.dao.entity.superficie.SuperficieDAO;
 import co.edu.uco.backend.data.dao.entity.dimension.DimensionDAO;
+import co.edu.uco.backend.data.dao.entity.resumencalificacion.ResumenCalificacionDAO;
+import co.edu.uco.backend.data.dao.factory.memoria.MemoriaDAOFactory;
 import co.edu.uco.backend.data.dao.factory.postgresql.PostgreSQLDAOFactory;
 
 
 public abstract class DAOFactory{
 
+    // Fuente de datos de las fachadas; se cambia al arrancar según la propiedad datos.factoria
+    private static volatile Factory factoriaPorDefecto = Factory.POSTGRE_SQL;
+
+    public static void configurarFactoriaPorDefecto(final Factory factory) {
+        factoriaPorDefecto = factory;
+    }
+
+    public static Factory getFactoriaPorDefecto() {
+        return factoriaPorDefecto;
+    }
+
+    public static DAOFactory getFactory() throws BackEndException {
+        return getFactory(factoriaPorDefecto);
+    }
 
     public static DAOFactory getFactory(Factory factory) throws BackEndException {
         switch (factory) {
             case POSTGRE_SQL: {
                 return new PostgreSQLDAOFactory();
             }
+            case IN_MEMORY: {
+                return new MemoriaDAOFactory();
+            }
             default:
                 var mensajeUsuario = "Se ha presentado un problema tratando de obtener la informacion de la fuente de datos contra la cual se llevaran a cabo las operaciones";
                 var mensajeTecnico = "Se solicitó la factoría " + factory + " pero no está implementada...";
@@ -47,6 +66,13 @@ public abstract class DAOFactory{
 
     public abstract void cerrarConexion() throws BackEndException;
 
+    /**
+     * Ejecuta la acción cuando lo escrito en la conexión actual quede confirmado: de inmediato si no
+     * hay transacción iniciada (autocommit), o después del COMMIT si la hay; el ROLLBACK la descarta.
+     * Es para mantener estructuras en memoria sin que vean datos que luego se revierten.
+     */
+    public abstract void alConfirmarTransaccion(Runnable accion) throws BackEndException;
+
 
 
 
@@ -67,5 +93,7 @@ public abstract class DAOFactory{
     public abstract FacturaDAO getFacturaDAO() throws BackEndException;
     public abstract SuperficieDAO getSuperficieDAO() throws BackEndException;
     public abstract DimensionDAO getDimensionDAO() throws BackEndException;
+    public abstract ResumenCalificacionDAO getResumenCalificacionCanchaDAO() throws BackEndException;
+    public abstract ResumenCalificacionDAO getResumenCalificacionOrganizacionDAO() throws BackEndException;
 
 }
@@ -1,5 +1,5 @@
 package co.edu.uco.backend.data.dao.factory;
 
 public enum Factory {
-    POSTGRE_SQL, AZURE_SQL
+    POSTGRE_SQL, AZURE_SQL, IN_MEMORY
 }
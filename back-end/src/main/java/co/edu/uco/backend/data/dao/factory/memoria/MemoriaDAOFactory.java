@@ -0,0 +1,222 @@
+package co.edu.uco.backend.data.dao.factory.memoria;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
+import co.edu.uco.backend.data.dao.cache.DAOVersionado;
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
+import co.edu.uco.backend.data.dao.entity.cancha.CanchaDAO;
+import co.edu.uco.backend.data.dao.entity.cancha.impl.indice.CanchaIndicesDAO;
+import co.edu.uco.backend.data.dao.entity.cancha.impl.memoria.CanchaMemoriaDAO;
+import co.edu.uco.backend.data.dao.entity.cliente.ClienteDAO;
+import co.edu.uco.backend.data.dao.entity.cliente.impl.memoria.ClienteMemoriaDAO;
+import co.edu.uco.backend.data.dao.entity.departamento.DepartamentoDAO;
+import co.edu.uco.backend.data.dao.entity.departamento.impl.memoria.DepartamentoMemoriaDAO;
+import co.edu.uco.backend.data.dao.entity.dimension.DimensionDAO;
+import co.edu.uco.backend.data.dao.entity.dimension.impl.memoria.DimensionMemoriaDAO;
+import co.edu.uco.backend.data.dao.entity.encargado.EncargadoDAO;
+import co.edu.uco.backend.data.dao.entity.encargado.impl.memoria.EncargadoMemoriaDAO;
+import co.edu.uco.backend.data.dao.entity.estadoreserva.EstadoReservaDAO;
+import co.edu.uco.backend.data.dao.entity.estadoreserva.impl.memoria.EstadoReservaMemoriaDAO;
+import co.edu.uco.backend.data.dao.entity.estadoverificacion.EstadoVerificacionDAO;
+import co.edu.uco.backend.data.dao.entity.estadoverificacion.impl.memoria.EstadoVerificacionMemoriaDAO;
+import co.edu.uco.backend.data.dao.entity.factura.FacturaDAO;
+import co.edu.uco.backend.data.dao.entity.factura.impl.memoria.FacturaMemoriaDAO;
+import co.edu.uco.backend.data.dao.entity.horariodisponible.HorarioDisponibleDAO;
+import co.edu.uco.backend.data.dao.entity.horariodisponible.impl.memoria.HorarioDisponibleMemoriaDAO;
+import co.edu.uco.backend.data.dao.entity.horarioespecial.HorarioEspecialDAO;
+import co.edu.uco.backend.data.dao.entity.horarioespecial.impl.memoria.HorarioEspecialMemoriaDAO;
+import co.edu.uco.backend.data.dao.entity.municipio.MunicipioDAO;
+import co.edu.uco.backend.data.dao.entity.municipio.impl.memoria.MunicipioMemoriaDAO;
+import co.edu.uco.backend.data.dao.entity.organizaciondeportiva.OrganizacionDeportivaDAO;
+import co.edu.uco.backend.data.dao.entity.organizaciondeportiva.impl.memoria.OrganizacionDeportivaMemoriaDAO;
+import co.edu.uco.backend.data.dao.entity.resena.ResenaDAO;
+import co.edu.uco.backend.data.dao.entity.resena.impl.memoria.ResenaMemoriaDAO;
+import co.edu.uco.backend.data.dao.entity.reserva.ReservaDAO;
+import co.edu.uco.backend.data.dao.entity.reserva.impl.memoria.ReservaMemoriaDAO;
+import co.edu.uco.backend.data.dao.entity.resumencalificacion.ResumenCalificacionDAO;
+import co.edu.uco.backend.data.dao.entity.resumencalificacion.impl.memoria.ResumenCalificacionMemoriaDAO;
+import co.edu.uco.backend.data.dao.entity.superficie.SuperficieDAO;
+import co.edu.uco.backend.data.dao.entity.superficie.impl.memoria.SuperficieMemoriaDAO;
+import co.edu.uco.backend.data.dao.entity.tipocancha.TipoCanchaDAO;
+import co.edu.uco.backend.data.dao.entity.tipocancha.impl.memoria.TipoCanchaMemoriaDAO;
+import co.edu.uco.backend.data.dao.entity.ubicacionprecisa.UbicacionPrecisaDAO;
+import co.edu.uco.backend.data.dao.entity.ubicacionprecisa.impl.indice.UbicacionPrecisaIndicesDAO;
+import co.edu.uco.backend.data.dao.entity.ubicacionprecisa.impl.memoria.UbicacionPrecisaMemoriaDAO;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.data.dao.memoria.SesionMemoria;
+
+/**
+ * Factoría sobre BaseDatosMemoria, para pruebas de carga y de integración sin PostgreSQL.
+ * Se comporta como PostgreSQLDAOFactory: una sesión por hilo en lugar de una conexión, y las
+ * mismas validaciones de conexión cerrada y de transacción no iniciada. Los catálogos no se
+ * envuelven en los DAO de caché porque la lectura en memoria ya no tiene ida y vuelta a la base
+ * (la versión de sus ETag la incrementa MemoriaDAO); cancha y ubicación precisa sí pasan por los
+ * de los índices de canchas, que no tienen otra fuente.
+ */
+public class MemoriaDAOFactory extends DAOFactory {
+
+    private final ThreadLocal<SesionMemoria> sesion = new ThreadLocal<>();
+
+    public MemoriaDAOFactory() throws BackEndException {
+        super();
+    }
+
+    @Override
+    public void abrirConexion() throws BackEndException {
+        sesion.set(BaseDatosMemoria.getInstance().abrirSesion());
+    }
+
+    @Override
+    public void iniciarTransaccion() throws BackEndException {
+        obtenerSesion().iniciarTransaccion();
+    }
+
+    @Override
+    public void confirmarTransaccion() throws BackEndException {
+        var sesionActual = obtenerSesion();
+        asegurarTransaccionIniciada(sesionActual);
+        sesionActual.confirmarTransaccion();
+    }
+
+    @Override
+    public void cancelarTransaccion() throws BackEndException {
+        var sesionActual = obtenerSesion();
+        asegurarTransaccionIniciada(sesionActual);
+        sesionActual.cancelarTransaccion();
+    }
+
+    @Override
+    public void cerrarConexion() throws BackEndException {
+        var sesionActual = obtenerSesion();
+        sesion.remove();
+        sesionActual.cerrar();
+    }
+
+    @Override
+    public void alConfirmarTransaccion(final Runnable accion) throws BackEndException {
+        obtenerSesion().alConfirmar(accion);
+    }
+
+    private void asegurarTransaccionIniciada(final SesionMemoria sesionActual) throws BackEndException {
+        if (!sesionActual.transaccionEstaIniciada()) {
+            var mensajeTecnico = "Se presentó una excepción tratando de gestionar(COMMIT,ROLLBACK) la sesión con la base de datos en memoria, para más detalles revise el log de errores";
+            var mensajeUsuario = "Se ha presentado un problema inesperado tratando de gestionar la conexión con la fuente de datos luego de realizar la operación";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico);
+        }
+    }
+
+    private SesionMemoria obtenerSesion() throws BackEndException {
+        var sesionActual = sesion.get();
+        if (sesionActual == null) {
+            var mensajeTecnico = "Se intentó llevar a cabo una operación que requería una sesión abierta con la base de datos en memoria, pero al momento de validarla esta cerrada";
+            var mensajeUsuario = "Se presentó una excepción tratando de llevar a cabo operación deseada con la conexión cerrada";
+
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico);
+        }
+        return sesionActual;
+    }
+
+    // Tablas que viajan dentro de una cancha: escribirlas cambia la versión de CANCHA (ver DAOVersionado)
+    private <T> T versionarCancha(final Class<T> interfaz, final T dao) {
+        return DAOVersionado.versionar(interfaz, dao, this, VersionesRecursos.Recurso.CANCHA);
+    }
+
+    @Override
+    public DepartamentoDAO getDepartamentoDAO() throws BackEndException {
+        return new DepartamentoMemoriaDAO(obtenerSesion());
+    }
+
+    @Override
+    public MunicipioDAO getMunicipioDAO() throws BackEndException {
+        return new MunicipioMemoriaDAO(obtenerSesion());
+    }
+
+    @Override
+    public UbicacionPrecisaDAO getUbicacionPrecisaDAO() throws BackEndException {
+        var sesionActual = obtenerSesion();
+        return versionarCancha(UbicacionPrecisaDAO.class, new UbicacionPrecisaIndicesDAO(new UbicacionPrecisaMemoriaDAO(sesionActual),
+                new CanchaMemoriaDAO(sesionActual), this));
+    }
+
+    @Override
+    public TipoCanchaDAO getTipoCanchaDAO() throws BackEndException {
+        return versionarCancha(TipoCanchaDAO.class, new TipoCanchaMemoriaDAO(obtenerSesion()));
+    }
+
+    @Override
+    public HorarioDisponibleDAO getHorarioDisponibleDAO() throws BackEndException {
+        return versionarCancha(HorarioDisponibleDAO.class, new HorarioDisponibleMemoriaDAO(obtenerSesion()));
+    }
+
+    @Override
+    public HorarioEspecialDAO getHorarioEspecialDAO() throws BackEndException {
+        return versionarCancha(HorarioEspecialDAO.class, new HorarioEspecialMemoriaDAO(obtenerSesion()));
+    }
+
+    @Override
+    public EstadoVerificacionDAO getEstadoVerificacionDAO() throws BackEndException {
+        return new EstadoVerificacionMemoriaDAO(obtenerSesion());
+    }
+
+    @Override
+    public OrganizacionDeportivaDAO getOrganizacionDeportivaDAO() throws BackEndException {
+        return versionarCancha(OrganizacionDeportivaDAO.class, new OrganizacionDeportivaMemoriaDAO(obtenerSesion()));
+    }
+
+    @Override
+    public EncargadoDAO getEncargadoDAO() throws BackEndException {
+        return new EncargadoMemoriaDAO(obtenerSesion());
+    }
+
+    @Override
+    public CanchaDAO getCanchaDAO() throws BackEndException {
+        return new CanchaIndicesDAO(new CanchaMemoriaDAO(obtenerSesion()), this);
+    }
+
+    @Override
+    public EstadoReservaDAO getEstadoReservaDAO() throws BackEndException {
+        return new EstadoReservaMemoriaDAO(obtenerSesion());
+    }
+
+    @Override
+    public ClienteDAO getClienteDAO() throws BackEndException {
+        return new ClienteMemoriaDAO(obtenerSesion());
+    }
+
+    @Override
+    public ReservaDAO getReservaDAO() throws BackEndException {
+        return new ReservaMemoriaDAO(obtenerSesion());
+    }
+
+    @Override
+    public ResenaDAO getResenaDAO() throws BackEndException {
+        return new ResenaMemoriaDAO(obtenerSesion());
+    }
+
+    @Override
+    public FacturaDAO getFacturaDAO() throws BackEndException {
+        return new FacturaMemoriaDAO(obtenerSesion());
+    }
+
+    @Override
+    public SuperficieDAO getSuperficieDAO() throws BackEndException {
+        return versionarCancha(SuperficieDAO.class, new SuperficieMemoriaDAO(obtenerSesion()));
+    }
+
+    @Override
+    public DimensionDAO getDimensionDAO() throws BackEndException {
+        return versionarCancha(DimensionDAO.class, new DimensionMemoriaDAO(obtenerSesion()));
+    }
+
+    @Override
+    public ResumenCalificacionDAO getResumenCalificacionCanchaDAO() throws BackEndException {
+        return new ResumenCalificacionMemoriaDAO(obtenerSesion(), BaseDatosMemoria.getInstance().getResumenesCalificacionCancha());
+    }
+
+    @Override
+    public ResumenCalificacionDAO getResumenCalificacionOrganizacionDAO() throws BackEndException {
+        return new ResumenCalificacionMemoriaDAO(obtenerSesion(), BaseDatosMemoria.getInstance().getResumenesCalificacionOrganizacion());
+    }
+}
@@ -0,0 +1,105 @@
+package co.edu.uco.backend.data.dao.factory.postgresql;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilObjeto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Punto de acceso al pool de conexiones (HikariCP) administrado por Spring.
+ * Las fachadas se construyen con "new", por eso el DataSource se registra aquí
+ * al arrancar la aplicación y PostgreSQLDAOFactory lo consulta en cada abrirConexion().
+ * Un semáforo con tantos permisos como conexiones tiene el pool deja pasar a lo sumo esa cantidad
+ * de solicitudes hacia HikariCP; las demás esperan en orden de llegada y, pasada la espera máxima,
+ * se rechazan. Con hilos virtuales puede haber miles de solicitudes a la vez y sin este límite
+ * todas se agolparían sobre el pool.
+ */
+public final class PoolConexionesPostgreSQL {
+
+    private static final PoolConexionesPostgreSQL instancia = new PoolConexionesPostgreSQL();
+
+    public static final int PERMISOS_DEFECTO = 10;
+    public static final long ESPERA_MAXIMA_MS_DEFECTO = 3_000;
+
+    private volatile DataSource dataSource;
+    private volatile Semaphore permisos = new Semaphore(PERMISOS_DEFECTO, true);
+    private volatile long esperaMaximaMs = ESPERA_MAXIMA_MS_DEFECTO;
+
+    private PoolConexionesPostgreSQL() {
+        super();
+        Gauge.builder("datos.conexiones.espera", this, pool -> pool.permisos.getQueueLength())
+                .description("Solicitudes esperando un permiso para pedir una conexión al pool")
+                .register(Metrics.globalRegistry);
+    }
+
+    public static PoolConexionesPostgreSQL getInstance() {
+        return instancia;
+    }
+
+    // Se llama al arrancar, antes de que se pida la primera conexión
+    public void configurar(final DataSource dataSource, final int permisos, final long esperaMaximaMs) {
+        this.permisos = new Semaphore(Math.max(1, permisos), true);
+        this.esperaMaximaMs = esperaMaximaMs;
+        this.dataSource = dataSource;
+    }
+
+    public boolean estaConfigurado() {
+        return !UtilObjeto.getInstance().esNulo(dataSource);
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public Connection obtenerConexion() throws BackEndException {
+        if (!estaConfigurado()) {
+            var mensajeUsuario = "Se ha presentado un problema tratando de obtener la conexión con la fuente de datos";
+            var mensajeTecnico = "Se solicitó una conexión del pool, pero el DataSource aún no ha sido registrado en PoolConexionesPostgreSQL";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico);
+        }
+
+        tomarPermiso();
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException exception) {
+            permisos.release();
+            var mensajeUsuario = "Se ha presentado un problema tratando de obtener la conexión con la fuente de datos";
+            var mensajeTecnico = "Se presentó una SQLException tratando de obtener una conexión del pool, es posible que el pool esté saturado, para más detalles revise el log de errores";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+
+    /**
+     * Devuelve la conexión al pool y libera el permiso que se tomó al obtenerla.
+     */
+    public void devolverConexion(final Connection conexion) throws SQLException {
+        try {
+            conexion.close();
+        } finally {
+            permisos.release();
+        }
+    }
+
+    private void tomarPermiso() throws BackEndException {
+        try {
+            if (!permisos.tryAcquire(esperaMaximaMs, TimeUnit.MILLISECONDS)) {
+                var mensajeUsuario = "En este momento hay demasiadas solicitudes, por favor intenta de nuevo en unos segundos";
+                var mensajeTecnico = "No se obtuvo un permiso para pedir una conexión al pool en " + esperaMaximaMs
+                        + " ms; todas las conexiones están en uso";
+                throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            var mensajeUsuario = "Se ha presentado un problema tratando de obtener la conexión con la fuente de datos";
+            var mensajeTecnico = "El hilo fue interrumpido mientras esperaba un permiso para pedir una conexión al pool";
+            throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
+        }
+    }
+}
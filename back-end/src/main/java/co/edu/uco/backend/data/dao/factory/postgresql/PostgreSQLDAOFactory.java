@@ -1,27 +1,46 @@
 package co.edu.uco.backend.data.dao.factory.postgresql;
 import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
 import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
+import co.edu.uco.backend.data.dao.cache.DAOVersionado;
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
+import co.edu.uco.backend.data.dao.entity.cancha.impl.indice.CanchaIndicesDAO;
 import co.edu.uco.backend.data.dao.entity.cancha.impl.postgresql.CanchaPostgreSQLDAO;
 import co.edu.uco.backend.data.dao.entity.cliente.impl.postgresql.ClientePostgreSQLDAO;
+import co.edu.uco.backend.data.dao.entity.departamento.impl.cache.DepartamentoCacheDAO;
 import co.edu.uco.backend.data.dao.entity.departamento.impl.postgresql.DepartamentoPostgreSQLDAO;
+import co.edu.uco.backend.data.dao.entity.dimension.impl.cache.DimensionCacheDAO;
 import co.edu.uco.backend.data.dao.entity.dimension.impl.postgresql.DimensionPostgreSQLDAO;
 import co.edu.uco.backend.data.dao.entity.encargado.impl.postgresql.EncargadoPostgreSQLDAO;
+import co.edu.uco.backend.data.dao.entity.estadoreserva.impl.cache.EstadoReservaCacheDAO;
 import co.edu.uco.backend.data.dao.entity.estadoreserva.impl.postgresql.EstadoReservaPostgreSQLDAO;
 import co.edu.uco.backend.data.dao.entity.estadoverificacion.impl.postgresql.EstadoVerificacionPostgreSQLDAO;
 import co.edu.uco.backend.data.dao.entity.factura.impl.postgresql.FacturaPostgreSQLDAO;
 import co.edu.uco.backend.data.dao.entity.horariodisponible.impl.postgresql.HorarioDisponiblePostgreSQLDAO;
 import co.edu.uco.backend.data.dao.entity.horarioespecial.impl.postgresql.HorarioEspecialPostgreSQLDAO;
+import co.edu.uco.backend.data.dao.entity.municipio.impl.cache.MunicipioCacheDAO;
 import co.edu.uco.backend.data.dao.entity.municipio.impl.postgresql.MunicipioPostgreSQLDAO;
 import co.edu.uco.backend.data.dao.entity.organizaciondeportiva.impl.postgresql.OrganizacionDeportivaPostgreSQLDAO;
 import co.edu.uco.backend.data.dao.entity.resena.impl.postgresql.ResenaPostgreSQLDAO;
 import co.edu.uco.backend.data.dao.entity.reserva.impl.postgresql.ReservaPostgreSQLDAO;
+import co.edu.uco.backend.data.dao.entity.resumencalificacion.impl.postgresql.ResumenCalificacionPostgreSQLDAO;
+import co.edu.uco.backend.data.dao.entity.superficie.impl.cache.SuperficieCacheDAO;
 import co.edu.uco.backend.data.dao.entity.superficie.impl.postgresql.SuperficiePostgreSQLDAO;
+import co.edu.uco.backend.data.dao.entity.tipocancha.impl.cache.TipoCanchaCacheDAO;
 import co.edu.uco.backend.data.dao.entity.tipocancha.impl.postgresql.TipoCanchaPostgreSQLDAO;
+import co.edu.uco.backend.data.dao.entity.ubicacionprecisa.impl.indice.UbicacionPrecisaIndicesDAO;
 import co.edu.uco.backend.data.dao.entity.ubicacionprecisa.impl.postgresql.UbicacionPrecisaPostgreSQLDAO;
 import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.data.dao.metricas.DAOInstrumentado;
+import co.edu.uco.backend.data.dao.sql.ConexionMedida;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import co.edu.uco.backend.data.dao.entity.departamento.DepartamentoDAO;
 import co.edu.uco.backend.data.dao.entity.municipio.MunicipioDAO;
@@ -38,6 +57,7 @@ import co.edu.uco.backend.data.dao.entity.estadoreserva.EstadoReservaDAO;
 import co.edu.uco.backend.data.dao.entity.cliente.ClienteDAO;
 import co.edu.uco.backend.data.dao.entity.reserva.ReservaDAO;
 import co.edu.uco.backend.data.dao.entity.resena.ResenaDAO;
+import co.edu.uco.backend.data.dao.entity.resumencalificacion.ResumenCalificacionDAO;
 import co.edu.uco.backend.data.dao.entity.factura.FacturaDAO;
 import co.edu.uco.backend.data.dao.entity.superficie.SuperficieDAO;
 import co.edu.uco.backend.data.dao.entity.dimension.DimensionDAO;
@@ -46,33 +66,62 @@ import co.edu.uco.backend.data.dao.entity.dimension.DimensionDAO;
 
 public class PostgreSQLDAOFactory extends DAOFactory {
 
-    private Connection conexion;
-    private boolean transaccionEstaIniciada;
-    private boolean connexionEstaAbierta;
+    private static final String BASE_DATOS = "DOODB";
+    private static final String SERVIDOR = "localhost:5432";
+
+    // Espera por una conexión del pool y duración del COMMIT; las llamadas a cada DAO las mide DAOInstrumentado
+    private static final Timer APERTURA_CONEXION = Timer.builder("dao.conexion.apertura")
+            .description("Tiempo obteniendo una conexión con la base de datos")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(Metrics.globalRegistry);
+    private static final Timer CONFIRMACION_TRANSACCION = Timer.builder("dao.transaccion.confirmacion")
+            .description("Duración del COMMIT de una transacción")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(Metrics.globalRegistry);
+
+    /**
+     * Cada hilo de petición trabaja con su propia conexión y su propio estado transaccional,
+     * aunque la fachada (y por lo tanto esta factoría) sea compartida entre peticiones. Es de la
+     * clase y no de la instancia: una fachada que llama a otra en el mismo hilo abre su conexión
+     * sobre la misma unidad de trabajo en lugar de tomar un segundo permiso del pool.
+     */
+    private static final ThreadLocal<UnidadTrabajo> UNIDAD_TRABAJO = new ThreadLocal<>();
 
     public PostgreSQLDAOFactory() throws BackEndException {
-        transaccionEstaIniciada = false;
-        connexionEstaAbierta = false;
+        super();
     }
 
     @Override
     public void abrirConexion() throws BackEndException {
-        var baseDatos = "DOODB";
-        var servidor = "localhost:5432";
+        var actual = UNIDAD_TRABAJO.get();
+        if (actual != null) {
+            actual.aperturas++;
+            return;
+        }
 
         try {
-            conexion=DriverManager.getConnection("jdbc:postgresql://" + servidor + "/" + baseDatos, "postgres", "S18.ldserv");
-            connexionEstaAbierta = true;
+            var inicio = System.nanoTime();
+            var desdePool = PoolConexionesPostgreSQL.getInstance().estaConfigurado();
+            var conexion = desdePool
+                    ? PoolConexionesPostgreSQL.getInstance().obtenerConexion()
+                    : DriverManager.getConnection("jdbc:postgresql://" + SERVIDOR + "/" + BASE_DATOS, "postgres", "S18.ldserv");
+            APERTURA_CONEXION.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            UNIDAD_TRABAJO.set(new UnidadTrabajo(conexion, desdePool));
+        } catch (BackEndException exception) {
+            throw exception;
+
         } catch (SQLException exception) {
             var mensajeTecnico = "Se presentó una SQLException tratando de obtener la conexión con la base de datos "
-                    + baseDatos + " en el servidor " + servidor + ", para más detalles revise el log de errores";
+                    + BASE_DATOS + " en el servidor " + SERVIDOR + ", para más detalles revise el log de errores";
             var mensajeUsuario = "Se ha presentado un problema tratando de obtener la conexión con la fuente de datos";
 
             throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
 
         } catch (Exception exception) {
             var mensajeTecnico = "Se presentó una excepción NO CONTROLADA tratando de obtener la conexión con la base de datos "
-                    + baseDatos + " en el servidor " + servidor + ", para más detalles revise el log de errores";
+                    + BASE_DATOS + " en el servidor " + SERVIDOR + ", para más detalles revise el log de errores";
             var mensajeUsuario = "Se ha presentado un problema inesperado tratando de obtener la conexión con la fuente de datos";
 
             throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico, exception);
@@ -82,9 +131,14 @@ public class PostgreSQLDAOFactory extends DAOFactory {
     @Override
     public void iniciarTransaccion() throws BackEndException {
         try {
-            asegurarConexionAbierta();
-            conexion.setAutoCommit(false);
-            transaccionEstaIniciada =true;
+            var unidad = obtenerUnidadTrabajo();
+            // Una transacción anidada se une a la que ya está abierta; solo la más externa confirma
+            if (unidad.transaccionEstaIniciada) {
+                unidad.transaccionesAnidadas++;
+                return;
+            }
+            unidad.conexion.setAutoCommit(false);
+            unidad.transaccionEstaIniciada = true;
 
         } catch (BackEndException exception) {
             throw exception;
@@ -107,11 +161,25 @@ public class PostgreSQLDAOFactory extends DAOFactory {
     public void confirmarTransaccion() throws BackEndException {
         try {
 
-            asegurarConexionAbierta();
-            asegurarTransaccionIniciada();
-            conexion.commit();
-            conexion.setAutoCommit(true);
-            transaccionEstaIniciada = false;
+            var unidad = obtenerUnidadTrabajo();
+            asegurarTransaccionIniciada(unidad);
+            if (unidad.transaccionesAnidadas > 0) {
+                unidad.transaccionesAnidadas--;
+                return;
+            }
+            // Queda abierta para que la fachada la cancele como con cualquier otro error
+            if (unidad.soloDeshacer) {
+                var mensajeTecnico = "No se confirmó la transacción porque una operación anidada sobre la misma conexión la canceló";
+                var mensajeUsuario = "Se ha presentado un problema tratando de confirmar la transacción con la fuente de datos";
+
+                throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico);
+            }
+            var inicio = System.nanoTime();
+            unidad.conexion.commit();
+            CONFIRMACION_TRANSACCION.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            unidad.conexion.setAutoCommit(true);
+            unidad.transaccionEstaIniciada = false;
+            unidad.ejecutarAccionesAlConfirmar();
 
         } catch (BackEndException exception) {
             throw exception;
@@ -133,11 +201,15 @@ public class PostgreSQLDAOFactory extends DAOFactory {
     @Override
     public void cancelarTransaccion() throws BackEndException {
         try {
-            asegurarConexionAbierta();
-            asegurarTransaccionIniciada();
-            conexion.rollback();
-            conexion.setAutoCommit(true);
-            transaccionEstaIniciada = false;
+            var unidad = obtenerUnidadTrabajo();
+            asegurarTransaccionIniciada(unidad);
+            // La anidada no puede deshacer lo de la externa a medias: la marca para que no confirme
+            if (unidad.transaccionesAnidadas > 0) {
+                unidad.transaccionesAnidadas--;
+                unidad.soloDeshacer = true;
+                return;
+            }
+            deshacer(unidad);
 
         } catch (BackEndException exception) {
             throw exception;
@@ -159,9 +231,17 @@ public class PostgreSQLDAOFactory extends DAOFactory {
     @Override
     public void cerrarConexion() throws BackEndException {
         try {
-            asegurarConexionAbierta();
-            conexion.close();
-            connexionEstaAbierta = false;
+            var unidad = obtenerUnidadTrabajo();
+            if (--unidad.aperturas > 0) {
+                return;
+            }
+            UNIDAD_TRABAJO.remove();
+            // Con el pool, close() devuelve la conexión a HikariCP en lugar de cerrar el socket
+            if (unidad.desdePool) {
+                PoolConexionesPostgreSQL.getInstance().devolverConexion(unidad.conexion);
+            } else {
+                unidad.conexion.close();
+            }
 
         } catch (BackEndException exception) {
             throw exception;
@@ -180,8 +260,18 @@ public class PostgreSQLDAOFactory extends DAOFactory {
         }
     }
 
-    private void asegurarTransaccionIniciada() throws BackEndException {
-        if (!transaccionEstaIniciada) {
+    @Override
+    public void alConfirmarTransaccion(final Runnable accion) throws BackEndException {
+        var unidad = obtenerUnidadTrabajo();
+        if (unidad.transaccionEstaIniciada) {
+            unidad.accionesAlConfirmar.add(accion);
+        } else {
+            accion.run();
+        }
+    }
+
+    private void asegurarTransaccionIniciada(final UnidadTrabajo unidad) throws BackEndException {
+        if (!unidad.transaccionEstaIniciada) {
             var mensajeTecnico = "Se presentó una excepción tratando de gestionar(COMMIT,ROLLBACK) la conexión con la base de datos, para más detalles revise el log de errores";
             var mensajeUsuario = "Se ha presentado un problema inesperado tratando de gestionar la conexión con la fuente de datos luego de realizar la operación";
 
@@ -189,116 +279,165 @@ public class PostgreSQLDAOFactory extends DAOFactory {
         }
     }
 
-    private void asegurarConexionAbierta() throws BackEndException {
-        if (!connexionEstaAbierta) {
+    private void deshacer(final UnidadTrabajo unidad) throws SQLException {
+        unidad.conexion.rollback();
+        unidad.conexion.setAutoCommit(true);
+        unidad.transaccionEstaIniciada = false;
+        unidad.soloDeshacer = false;
+        unidad.accionesAlConfirmar.clear();
+    }
+
+    private UnidadTrabajo obtenerUnidadTrabajo() throws BackEndException {
+        var unidad = UNIDAD_TRABAJO.get();
+        if (unidad == null) {
             var mensajeTecnico = "Se intentó llevar a cabo una operación que requería una conexión abierta, pero al momento de validarla esta cerrada";
             var mensajeUsuario = "Se presentó una excepción tratando de llevar a cabo operación deseada con la conexión cerrada";
 
             throw DataBackEndException.reportar(mensajeUsuario, mensajeTecnico);
         }
+        return unidad;
+    }
+
+    // La conexión que se entrega a los DAO, con sus sentencias medidas por ConexionMedida
+    private Connection obtenerConexion() throws BackEndException {
+        return obtenerUnidadTrabajo().conexionDAO;
+    }
+
+    // Tablas que viajan dentro de una cancha: escribirlas cambia la versión de CANCHA (ver DAOVersionado)
+    private <T> T versionarCancha(final Class<T> interfaz, final T dao) {
+        return DAOVersionado.versionar(interfaz, dao, this, VersionesRecursos.Recurso.CANCHA);
     }
 
     @Override
     public DepartamentoDAO getDepartamentoDAO() throws BackEndException{
-        asegurarConexionAbierta();
-        return new DepartamentoPostgreSQLDAO(conexion);
+        return new DepartamentoCacheDAO(DAOInstrumentado.instrumentar(DepartamentoDAO.class, new DepartamentoPostgreSQLDAO(obtenerConexion())), this);
     }
 
     @Override
     public MunicipioDAO getMunicipioDAO() throws BackEndException{
-        asegurarConexionAbierta();
-        return new MunicipioPostgreSQLDAO(conexion);
+        return new MunicipioCacheDAO(DAOInstrumentado.instrumentar(MunicipioDAO.class, new MunicipioPostgreSQLDAO(obtenerConexion())), this);
     }
 
     @Override
     public UbicacionPrecisaDAO getUbicacionPrecisaDAO() throws BackEndException {
-        asegurarConexionAbierta();
-        return new UbicacionPrecisaPostgreSQLDAO(conexion);
+        var conexion = obtenerConexion();
+        return versionarCancha(UbicacionPrecisaDAO.class, new UbicacionPrecisaIndicesDAO(
+                DAOInstrumentado.instrumentar(UbicacionPrecisaDAO.class, new UbicacionPrecisaPostgreSQLDAO(conexion)),
+                DAOInstrumentado.instrumentar(CanchaDAO.class, new CanchaPostgreSQLDAO(conexion)), this));
     }
 
     @Override
     public TipoCanchaDAO getTipoCanchaDAO() throws BackEndException {
-        asegurarConexionAbierta();
-        return new TipoCanchaPostgreSQLDAO(conexion);
+        return versionarCancha(TipoCanchaDAO.class,
+                new TipoCanchaCacheDAO(DAOInstrumentado.instrumentar(TipoCanchaDAO.class, new TipoCanchaPostgreSQLDAO(obtenerConexion())), this));
     }
 
 
     @Override
     public HorarioDisponibleDAO getHorarioDisponibleDAO() throws BackEndException {
-        asegurarConexionAbierta();
-        return new HorarioDisponiblePostgreSQLDAO(conexion);
+        return versionarCancha(HorarioDisponibleDAO.class,
+                DAOInstrumentado.instrumentar(HorarioDisponibleDAO.class, new HorarioDisponiblePostgreSQLDAO(obtenerConexion())));
     }
 
     @Override
     public HorarioEspecialDAO getHorarioEspecialDAO() throws BackEndException {
-        asegurarConexionAbierta();
-        return new HorarioEspecialPostgreSQLDAO(conexion);
+        return versionarCancha(HorarioEspecialDAO.class,
+                DAOInstrumentado.instrumentar(HorarioEspecialDAO.class, new HorarioEspecialPostgreSQLDAO(obtenerConexion())));
     }
 
     @Override
     public EstadoVerificacionDAO getEstadoVerificacionDAO() throws BackEndException {
-        asegurarConexionAbierta();
-        return new EstadoVerificacionPostgreSQLDAO(conexion);
+        return DAOInstrumentado.instrumentar(EstadoVerificacionDAO.class, new EstadoVerificacionPostgreSQLDAO(obtenerConexion()));
     }
 
     @Override
     public OrganizacionDeportivaDAO getOrganizacionDeportivaDAO() throws BackEndException {
-        asegurarConexionAbierta();
-        return new OrganizacionDeportivaPostgreSQLDAO(conexion);
+        return versionarCancha(OrganizacionDeportivaDAO.class,
+                DAOInstrumentado.instrumentar(OrganizacionDeportivaDAO.class, new OrganizacionDeportivaPostgreSQLDAO(obtenerConexion())));
     }
 
     @Override
     public EncargadoDAO getEncargadoDAO() throws BackEndException {
-        asegurarConexionAbierta();
-        return new EncargadoPostgreSQLDAO(conexion);
+        return DAOInstrumentado.instrumentar(EncargadoDAO.class, new EncargadoPostgreSQLDAO(obtenerConexion()));
     }
 
     @Override
     public CanchaDAO getCanchaDAO() throws BackEndException {
-        asegurarConexionAbierta();
-        return new CanchaPostgreSQLDAO(conexion);
+        return new CanchaIndicesDAO(DAOInstrumentado.instrumentar(CanchaDAO.class, new CanchaPostgreSQLDAO(obtenerConexion())), this);
     }
 
     @Override
     public EstadoReservaDAO getEstadoReservaDAO() throws BackEndException {
-        asegurarConexionAbierta();
-        return new EstadoReservaPostgreSQLDAO(conexion);
+        return new EstadoReservaCacheDAO(DAOInstrumentado.instrumentar(EstadoReservaDAO.class, new EstadoReservaPostgreSQLDAO(obtenerConexion())), this);
     }
 
     @Override
     public ClienteDAO getClienteDAO() throws BackEndException {
-        asegurarConexionAbierta();
-        return new ClientePostgreSQLDAO(conexion);
+        return DAOInstrumentado.instrumentar(ClienteDAO.class, new ClientePostgreSQLDAO(obtenerConexion()));
     }
 
     @Override
     public ReservaDAO getReservaDAO() throws BackEndException {
-        asegurarConexionAbierta();
-        return new ReservaPostgreSQLDAO(conexion);
+        return DAOInstrumentado.instrumentar(ReservaDAO.class, new ReservaPostgreSQLDAO(obtenerConexion()));
     }
 
     @Override
     public ResenaDAO getResenaDAO() throws BackEndException {
-        asegurarConexionAbierta();
-        return new ResenaPostgreSQLDAO(conexion);
+        return DAOInstrumentado.instrumentar(ResenaDAO.class, new ResenaPostgreSQLDAO(obtenerConexion()));
     }
 
     @Override
     public FacturaDAO getFacturaDAO() throws BackEndException {
-        asegurarConexionAbierta();
-        return new FacturaPostgreSQLDAO(conexion);
+        return DAOInstrumentado.instrumentar(FacturaDAO.class, new FacturaPostgreSQLDAO(obtenerConexion()));
     }
 
     @Override
     public SuperficieDAO getSuperficieDAO() throws BackEndException {
-        asegurarConexionAbierta();
-        return new SuperficiePostgreSQLDAO(conexion);
+        return versionarCancha(SuperficieDAO.class,
+                new SuperficieCacheDAO(DAOInstrumentado.instrumentar(SuperficieDAO.class, new SuperficiePostgreSQLDAO(obtenerConexion())), this));
     }
 
     @Override
     public DimensionDAO getDimensionDAO() throws BackEndException {
-        asegurarConexionAbierta();
-        return new DimensionPostgreSQLDAO(conexion);
+        return versionarCancha(DimensionDAO.class,
+                new DimensionCacheDAO(DAOInstrumentado.instrumentar(DimensionDAO.class, new DimensionPostgreSQLDAO(obtenerConexion())), this));
     }
-}
 
+    @Override
+    public ResumenCalificacionDAO getResumenCalificacionCanchaDAO() throws BackEndException {
+        return DAOInstrumentado.instrumentar(ResumenCalificacionDAO.class, ResumenCalificacionPostgreSQLDAO.deCanchas(obtenerConexion()));
+    }
+
+    @Override
+    public ResumenCalificacionDAO getResumenCalificacionOrganizacionDAO() throws BackEndException {
+        return DAOInstrumentado.instrumentar(ResumenCalificacionDAO.class, ResumenCalificacionPostgreSQLDAO.deOrganizaciones(obtenerConexion()));
+    }
+
+    private static final class UnidadTrabajo {
+
+        private final Connection conexion;
+        private final Connection conexionDAO;
+        // Tomó un permiso de PoolConexionesPostgreSQL que se libera al cerrar
+        private final boolean desdePool;
+        private boolean transaccionEstaIniciada;
+        // abrirConexion/iniciarTransaccion de fachadas anidadas; se cierra y confirma al volver a cero
+        private int aperturas = 1;
+        private int transaccionesAnidadas;
+        private boolean soloDeshacer;
+        private final List<Runnable> accionesAlConfirmar = new ArrayList<>();
+
+        private UnidadTrabajo(final Connection conexion, final boolean desdePool) {
+            this.conexion = conexion;
+            this.desdePool = desdePool;
+            // Las sentencias se cuentan siempre; se cronometran solo con el registro de consultas lentas habilitado
+            this.conexionDAO = ConexionMedida.envolver(conexion);
+            this.transaccionEstaIniciada = false;
+        }
+
+        private void ejecutarAccionesAlConfirmar() {
+            var acciones = List.copyOf(accionesAlConfirmar);
+            accionesAlConfirmar.clear();
+            acciones.forEach(Runnable::run);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package co.edu.uco.backend.data.dao.geo;
+
+import java.util.UUID;
+
+/**
+ * Resultado de la búsqueda de canchas cercanas: lo necesario para pintar el punto en el mapa y la
+ * distancia en kilómetros al punto consultado.
+ */
+public record CanchaCercana(
+        UUID canchaId,
+        String nombre,
+        double latitud,
+        double longitud,
+        double distanciaKm
+) {
+}
@@ -0,0 +1,181 @@
+package co.edu.uco.backend.data.dao.geo;
+
+import co.edu.uco.backend.data.dao.entity.cancha.CanchaGeolocalizada;
+import co.edu.uco.backend.data.dao.indice.IndiceEnMemoria;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Índice en memoria de la ubicación de las canchas para la búsqueda "canchas cerca de mí". Las
+ * canchas se reparten en una rejilla de celdas de latitud/longitud; una consulta solo revisa las
+ * celdas que cubren el radio pedido y ordena por distancia haversine las que quedan dentro.
+ * Los DAO de cancha y de ubicación precisa le publican cada escritura después del COMMIT.
+ */
+public final class IndiceGeograficoCanchas extends IndiceEnMemoria<CanchaGeolocalizada, IndiceGeograficoCanchas.Rejilla> {
+
+    public static final double RADIO_DEFECTO_KM = 5.0;
+    public static final double RADIO_MAXIMO_KM = 100.0;
+
+    private static final double RADIO_TIERRA_KM = 6371.0088;
+    private static final double KM_POR_GRADO = Math.PI * RADIO_TIERRA_KM / 180.0;
+
+    // Celdas de 0.05° (unos 5.5 km de latitud): un radio de pocos km cae en un puñado de celdas
+    private static final double TAMANO_CELDA_GRADOS = 0.05;
+    private static final int COLUMNAS = (int) Math.round(360.0 / TAMANO_CELDA_GRADOS);
+
+    private static final Comparator<CanchaCercana> MAS_LEJANA_PRIMERO =
+            Comparator.comparingDouble(CanchaCercana::distanciaKm).reversed();
+
+    private static final IndiceGeograficoCanchas INSTANCE = new IndiceGeograficoCanchas();
+
+    private IndiceGeograficoCanchas() {
+        super(Rejilla::new);
+    }
+
+    public static IndiceGeograficoCanchas getInstance() {
+        return INSTANCE;
+    }
+
+    public int tamano() {
+        return leer(rejilla -> rejilla.canchas.size());
+    }
+
+    /**
+     * Hasta limite canchas a no más de radioKm del punto, de la más cercana a la más lejana.
+     */
+    public List<CanchaCercana> consultar(final double latitud, final double longitud, final double radioKm, final int limite) {
+        var candidatas = new PriorityQueue<CanchaCercana>(limite + 1, MAS_LEJANA_PRIMERO);
+        Consumer<CanchaGeolocalizada> evaluar = cancha -> {
+            var distancia = calcularDistanciaKm(latitud, longitud, cancha.latitud(), cancha.longitud());
+            if (distancia <= radioKm) {
+                candidatas.add(new CanchaCercana(cancha.canchaId(), cancha.nombre(), cancha.latitud(), cancha.longitud(), distancia));
+                if (candidatas.size() > limite) {
+                    candidatas.poll();
+                }
+            }
+        };
+
+        leer(rejilla -> {
+            rejilla.recorrerCercanas(latitud, longitud, radioKm, evaluar);
+            return null;
+        });
+
+        var resultado = new ArrayList<>(candidatas);
+        resultado.sort(Comparator.comparingDouble(CanchaCercana::distanciaKm));
+        return resultado;
+    }
+
+    public static double calcularDistanciaKm(final double latitudOrigen, final double longitudOrigen,
+                                             final double latitudDestino, final double longitudDestino) {
+        var phiOrigen = Math.toRadians(latitudOrigen);
+        var phiDestino = Math.toRadians(latitudDestino);
+        var senoMedioDeltaPhi = Math.sin((phiDestino - phiOrigen) / 2);
+        var senoMedioDeltaLambda = Math.sin(Math.toRadians(longitudDestino - longitudOrigen) / 2);
+        var a = senoMedioDeltaPhi * senoMedioDeltaPhi
+                + Math.cos(phiOrigen) * Math.cos(phiDestino) * senoMedioDeltaLambda * senoMedioDeltaLambda;
+        return 2 * RADIO_TIERRA_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    @Override
+    protected UUID obtenerId(final CanchaGeolocalizada cancha) {
+        return cancha.canchaId();
+    }
+
+    @Override
+    protected void registrar(final Rejilla rejilla, final CanchaGeolocalizada cancha) {
+        rejilla.registrar(cancha);
+    }
+
+    @Override
+    protected void eliminar(final Rejilla rejilla, final UUID canchaId) {
+        rejilla.eliminar(canchaId);
+    }
+
+    private static int calcularFila(final double latitud) {
+        return (int) Math.floor((latitud + 90.0) / TAMANO_CELDA_GRADOS);
+    }
+
+    private static int calcularColumna(final double longitud) {
+        return Math.floorMod((int) Math.floor((longitud + 180.0) / TAMANO_CELDA_GRADOS), COLUMNAS);
+    }
+
+    private static long calcularLlaveCelda(final int fila, final int columna) {
+        return (long) fila * COLUMNAS + columna;
+    }
+
+    static final class Rejilla {
+
+        private final Map<UUID, CanchaGeolocalizada> canchas = new HashMap<>();
+        private final Map<Long, List<CanchaGeolocalizada>> celdas = new HashMap<>();
+
+        private void registrar(final CanchaGeolocalizada cancha) {
+            eliminar(cancha.canchaId());
+            canchas.put(cancha.canchaId(), cancha);
+            celdas.computeIfAbsent(llaveCelda(cancha), llave -> new ArrayList<>()).add(cancha);
+        }
+
+        private void eliminar(final UUID canchaId) {
+            var anterior = canchas.remove(canchaId);
+            if (anterior == null) {
+                return;
+            }
+            var llave = llaveCelda(anterior);
+            var celda = celdas.get(llave);
+            celda.remove(anterior);
+            if (celda.isEmpty()) {
+                celdas.remove(llave);
+            }
+        }
+
+        private void recorrerCercanas(final double latitud, final double longitud, final double radioKm,
+                                      final Consumer<CanchaGeolocalizada> consumidor) {
+            var deltaLatitud = radioKm / KM_POR_GRADO;
+            var latitudMinima = Math.max(-90.0, latitud - deltaLatitud);
+            var latitudMaxima = Math.min(90.0, latitud + deltaLatitud);
+
+            // Un grado de longitud se encoge hacia los polos; se toma el paralelo más alejado del ecuador
+            var coseno = Math.cos(Math.toRadians(Math.max(Math.abs(latitudMinima), Math.abs(latitudMaxima))));
+            var deltaLongitud = coseno <= 0.0 ? 180.0 : deltaLatitud / coseno;
+
+            var filaMinima = calcularFila(latitudMinima);
+            var filaMaxima = calcularFila(latitudMaxima);
+            int columnaMinima;
+            int columnaMaxima;
+            if (deltaLongitud >= 180.0) {
+                columnaMinima = 0;
+                columnaMaxima = COLUMNAS - 1;
+            } else {
+                // Sin normalizar: si el rango cruza el antimeridiano se recorre con floorMod
+                columnaMinima = (int) Math.floor((longitud - deltaLongitud + 180.0) / TAMANO_CELDA_GRADOS);
+                columnaMaxima = (int) Math.floor((longitud + deltaLongitud + 180.0) / TAMANO_CELDA_GRADOS);
+            }
+
+            // Si hay más celdas por revisar que canchas indexadas, sale más barato recorrer las canchas
+            var celdasPorRevisar = (long) (filaMaxima - filaMinima + 1) * (columnaMaxima - columnaMinima + 1);
+            if (celdasPorRevisar >= canchas.size()) {
+                canchas.values().forEach(consumidor);
+                return;
+            }
+
+            for (var fila = filaMinima; fila <= filaMaxima; fila++) {
+                for (var columna = columnaMinima; columna <= columnaMaxima; columna++) {
+                    var celda = celdas.get(calcularLlaveCelda(fila, Math.floorMod(columna, COLUMNAS)));
+                    if (celda != null) {
+                        celda.forEach(consumidor);
+                    }
+                }
+            }
+        }
+
+        private static long llaveCelda(final CanchaGeolocalizada cancha) {
+            return calcularLlaveCelda(calcularFila(cancha.latitud()), calcularColumna(cancha.longitud()));
+        }
+    }
+}
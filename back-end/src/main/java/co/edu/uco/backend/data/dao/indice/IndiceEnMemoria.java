@@ -0,0 +1,150 @@
+package co.edu.uco.backend.data.dao.indice;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Base de los índices en memoria de canchas. Cada índice guarda una estructura E que se arma con
+ * las fichas F leídas de la fuente de datos y que después se mantiene con los cambios que los
+ * decoradores de DAO publican al confirmar la transacción. Las lecturas comparten el candado;
+ * los cambios lo toman en exclusiva.
+ */
+public abstract class IndiceEnMemoria<F, E> {
+
+    /**
+     * Origen de todas las fichas del índice; solo se recorre al cargarlo.
+     */
+    public interface Fuente<F> {
+
+        void recorrer(Consumer<F> consumidor) throws BackEndException;
+    }
+
+    private record Cambio<F>(UUID id, F ficha) {
+    }
+
+    private final Supplier<E> fabricaEstructura;
+    private final ReentrantReadWriteLock candado = new ReentrantReadWriteLock();
+    // Solo para cargarSiHaceFalta: la primera carga la hace un hilo y los demás la esperan
+    private final ReentrantLock candadoPrimeraCarga = new ReentrantLock();
+    private E estructura;
+    private boolean cargado;
+    private int cargasEnCurso;
+    private final List<Cambio<F>> cambiosDuranteCarga = new ArrayList<>();
+
+    protected IndiceEnMemoria(final Supplier<E> fabricaEstructura) {
+        this.fabricaEstructura = fabricaEstructura;
+        this.estructura = fabricaEstructura.get();
+    }
+
+    protected abstract UUID obtenerId(F ficha);
+
+    // Registra la ficha o reemplaza la que ya tenía el mismo id
+    protected abstract void registrar(E estructura, F ficha);
+
+    protected abstract void eliminar(E estructura, UUID id);
+
+    public boolean estaCargado() {
+        return leer(actual -> cargado);
+    }
+
+    /**
+     * Reconstruye el índice completo desde la fuente. Los cambios que se confirman mientras se
+     * recorre la fuente se guardan y se vuelven a aplicar sobre la estructura nueva antes de
+     * instalarla, así ninguno se pierde aunque la lectura haya empezado antes del COMMIT.
+     */
+    public void cargar(final Fuente<F> fuente) throws BackEndException {
+        candado.writeLock().lock();
+        try {
+            cargasEnCurso++;
+        } finally {
+            candado.writeLock().unlock();
+        }
+
+        try {
+            var nueva = fabricaEstructura.get();
+            fuente.recorrer(ficha -> registrar(nueva, ficha));
+
+            candado.writeLock().lock();
+            try {
+                cambiosDuranteCarga.forEach(cambio -> aplicar(nueva, cambio));
+                estructura = nueva;
+                cargado = true;
+            } finally {
+                candado.writeLock().unlock();
+            }
+        } finally {
+            candado.writeLock().lock();
+            try {
+                if (--cargasEnCurso == 0) {
+                    cambiosDuranteCarga.clear();
+                }
+            } finally {
+                candado.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Carga el índice si nadie lo ha cargado todavía. Si varias solicitudes llegan con el índice
+     * vacío, una sola recorre la fuente y las demás esperan a que termine; si esa carga falla, la
+     * siguiente que estaba esperando lo intenta de nuevo.
+     */
+    public void cargarSiHaceFalta(final Fuente<F> fuente) throws BackEndException {
+        if (estaCargado()) {
+            return;
+        }
+        candadoPrimeraCarga.lock();
+        try {
+            if (!estaCargado()) {
+                cargar(fuente);
+            }
+        } finally {
+            candadoPrimeraCarga.unlock();
+        }
+    }
+
+    public void actualizar(final F ficha) {
+        publicar(new Cambio<>(obtenerId(ficha), ficha));
+    }
+
+    public void eliminar(final UUID id) {
+        publicar(new Cambio<>(id, null));
+    }
+
+    protected final <R> R leer(final Function<E, R> lectura) {
+        candado.readLock().lock();
+        try {
+            return lectura.apply(estructura);
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    private void publicar(final Cambio<F> cambio) {
+        candado.writeLock().lock();
+        try {
+            aplicar(estructura, cambio);
+            if (cargasEnCurso > 0) {
+                cambiosDuranteCarga.add(cambio);
+            }
+        } finally {
+            candado.writeLock().unlock();
+        }
+    }
+
+    private void aplicar(final E destino, final Cambio<F> cambio) {
+        if (cambio.ficha() == null) {
+            eliminar(destino, cambio.id());
+        } else {
+            registrar(destino, cambio.ficha());
+        }
+    }
+}
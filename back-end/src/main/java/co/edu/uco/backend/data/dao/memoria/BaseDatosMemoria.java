@@ -0,0 +1,343 @@
+package co.edu.uco.backend.data.dao.memoria;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.data.dao.entity.resumencalificacion.ResumenCalificacion;
+import co.edu.uco.backend.entity.CanchaEntity;
+import co.edu.uco.backend.entity.ClienteEntity;
+import co.edu.uco.backend.entity.DepartamentoEntity;
+import co.edu.uco.backend.entity.DimensionEntity;
+import co.edu.uco.backend.entity.EncargadoEntity;
+import co.edu.uco.backend.entity.EstadoReservaEntity;
+import co.edu.uco.backend.entity.EstadoVerificacionEntity;
+import co.edu.uco.backend.entity.FacturaEntity;
+import co.edu.uco.backend.entity.HorarioDisponibleEntity;
+import co.edu.uco.backend.entity.HorarioEspecialEntity;
+import co.edu.uco.backend.entity.MunicipioEntity;
+import co.edu.uco.backend.entity.OrganizacionDeportivaEntity;
+import co.edu.uco.backend.entity.ResenaEntity;
+import co.edu.uco.backend.entity.ReservaEntity;
+import co.edu.uco.backend.entity.SuperficieEntity;
+import co.edu.uco.backend.entity.TipoCanchaEntity;
+import co.edu.uco.backend.entity.UbicacionPrecisaEntity;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Base de datos en memoria compartida por todas las MemoriaDAOFactory (Factory.IN_MEMORY), pensada
+ * para pruebas de carga e integración sin PostgreSQL. Las filas se guardan como las devolvería la
+ * base de datos: las relaciones solo con el ID de la entidad referenciada.
+ * Cada lectura toma el candado de lectura de su tabla y cada confirmación el de escritura de las
+ * tablas que modifica, siempre en el orden de la lista tablas para que dos confirmaciones no se esperen
+ * en cruz. Así una consulta ve de su tabla una transacción completa o nada de ella (como READ
+ * COMMITTED); dos consultas seguidas sobre tablas distintas pueden ver estados distintos, igual que
+ * dos sentencias en PostgreSQL.
+ * Las escrituras dentro de una transacción recuerdan la versión de la fila que modificaron: si al
+ * confirmar otra transacción ya la cambió, la confirmación falla en lugar de pisar ese cambio (el
+ * primero en confirmar gana, como en REPEATABLE READ). Quien necesite esperar en lugar de fallar
+ * bloquea la fila antes con SesionMemoria.bloquearFila.
+ * Las consultas por llave e índice secundario no recorren la tabla; las que filtran por otras
+ * columnas sí, como lo haría PostgreSQL sin un índice para ese filtro.
+ */
+public final class BaseDatosMemoria {
+
+    public static final String INDICE_CANCHA_POR_ORGANIZACION = "cancha_organizacion";
+    public static final String INDICE_ENCARGADO_POR_ORGANIZACION = "encargado_organizacion";
+    public static final String INDICE_HORARIO_DISPONIBLE_POR_CANCHA = "horariodisponible_cancha";
+    public static final String INDICE_HORARIO_ESPECIAL_POR_CANCHA = "horarioespecial_cancha";
+    public static final String INDICE_RESERVA_POR_CLIENTE = "reserva_cliente";
+    public static final String INDICE_RESERVA_POR_CANCHA = "reserva_cancha";
+    public static final String INDICE_RESENA_POR_RESERVA = "resena_reserva";
+    public static final String INDICE_FACTURA_POR_RESERVA = "factura_reserva";
+
+    private static final int NUMERO_CANDADOS_AGENDA = 256;
+
+    private static final BaseDatosMemoria INSTANCE = new BaseDatosMemoria();
+
+    private final ReentrantLock[] candadosAgenda = new ReentrantLock[NUMERO_CANDADOS_AGENDA];
+
+    private final TablaMemoria<DepartamentoEntity> departamentos = new TablaMemoria<>("departamento",
+            DepartamentoEntity::getId,
+            (fila, id) -> new DepartamentoEntity(id, fila.getNombre()), DepartamentoEntity::new);
+    private final TablaMemoria<MunicipioEntity> municipios = new TablaMemoria<>("municipio",
+            MunicipioEntity::getId,
+            (fila, id) -> new MunicipioEntity(id, fila.getNombre(), new DepartamentoEntity(fila.getDepartamento().getId())),
+            MunicipioEntity::new);
+    private final TablaMemoria<UbicacionPrecisaEntity> ubicaciones = new TablaMemoria<>("ubicacionprecisa",
+            UbicacionPrecisaEntity::getId,
+            (fila, id) -> new UbicacionPrecisaEntity(id, fila.getDireccion(), fila.getLatitud(), fila.getLongitud(),
+                    new MunicipioEntity(fila.getMunicipio().getId()), fila.getInformacionAdicional()),
+            UbicacionPrecisaEntity::new);
+    private final TablaMemoria<TipoCanchaEntity> tiposCancha = new TablaMemoria<>("tipocancha",
+            TipoCanchaEntity::getId,
+            (fila, id) -> new TipoCanchaEntity(id, fila.getNombre(), fila.getJugadoresRecomendados()),
+            TipoCanchaEntity::new);
+    private final TablaMemoria<SuperficieEntity> superficies = new TablaMemoria<>("superficie",
+            SuperficieEntity::getId,
+            (fila, id) -> new SuperficieEntity(id, fila.getNombre()), SuperficieEntity::new);
+    private final TablaMemoria<DimensionEntity> dimensiones = new TablaMemoria<>("dimension",
+            DimensionEntity::getId,
+            (fila, id) -> new DimensionEntity(id, fila.getLargo(), fila.getAncho()), DimensionEntity::new);
+    private final TablaMemoria<EstadoReservaEntity> estadosReserva = new TablaMemoria<>("estadoreserva",
+            EstadoReservaEntity::getId,
+            (fila, id) -> new EstadoReservaEntity(id, fila.getNombre()), EstadoReservaEntity::new);
+    private final TablaMemoria<EstadoVerificacionEntity> estadosVerificacion = new TablaMemoria<>("estadoverificacion",
+            EstadoVerificacionEntity::getId,
+            (fila, id) -> new EstadoVerificacionEntity(id, fila.getNombre()), EstadoVerificacionEntity::new);
+    private final TablaMemoria<OrganizacionDeportivaEntity> organizaciones = new TablaMemoria<>("organizaciondeportiva",
+            OrganizacionDeportivaEntity::getId,
+            (fila, id) -> new OrganizacionDeportivaEntity(id, fila.getNombre(), fila.getUsername(), fila.getContrasena(),
+                    fila.getPrefijoTelefono(), fila.getTelefono(), fila.getDocumentoExistencia(),
+                    fila.getCorreoAdministrativo(), fila.getPaginaWeb(), List.of(), List.of(),
+                    new EstadoVerificacionEntity(fila.getEstadoVerificacion().getId())),
+            OrganizacionDeportivaEntity::new);
+    private final TablaMemoria<EncargadoEntity> encargados = new TablaMemoria<>("encargado",
+            EncargadoEntity::getId,
+            (fila, id) -> new EncargadoEntity(id, fila.getNombre(), fila.getUsername(), fila.getContrasena(),
+                    fila.getPrefijoTelefono(), fila.getTelefono(), fila.getCorreo(), fila.getTipoDocumento(),
+                    fila.getDocumento(), new OrganizacionDeportivaEntity(fila.getOrganizacion().getId())),
+            EncargadoEntity::new)
+            .conIndice(INDICE_ENCARGADO_POR_ORGANIZACION, fila -> fila.getOrganizacion().getId());
+    private final TablaMemoria<CanchaEntity> canchas = new TablaMemoria<>("cancha",
+            CanchaEntity::getId,
+            (fila, id) -> new CanchaEntity(id, fila.getNombreCancha(), new TipoCanchaEntity(fila.getTipo().getId()),
+                    new DimensionEntity(fila.getDimensiones().getId()), new SuperficieEntity(fila.getSuperficie().getId()),
+                    fila.getCostoHora(), new UbicacionPrecisaEntity(fila.getUbicacion().getId()),
+                    new OrganizacionDeportivaEntity(fila.getOrganizacion().getId()), fila.isIluminacion(),
+                    fila.isCubierta(), List.of(), List.of()),
+            CanchaEntity::new)
+            .conIndice(INDICE_CANCHA_POR_ORGANIZACION, fila -> fila.getOrganizacion().getId());
+    private final TablaMemoria<HorarioDisponibleEntity> horariosDisponibles = new TablaMemoria<>("horariodisponible",
+            HorarioDisponibleEntity::getId,
+            (fila, id) -> new HorarioDisponibleEntity(id, new CanchaEntity(fila.getCancha().getId()), fila.getDia(),
+                    fila.getHoraApertura(), fila.getHoraCierre()),
+            HorarioDisponibleEntity::new)
+            .conIndice(INDICE_HORARIO_DISPONIBLE_POR_CANCHA, fila -> fila.getCancha().getId());
+    private final TablaMemoria<HorarioEspecialEntity> horariosEspeciales = new TablaMemoria<>("horarioespecial",
+            HorarioEspecialEntity::getId,
+            (fila, id) -> new HorarioEspecialEntity(id, new CanchaEntity(fila.getCancha().getId()),
+                    fila.getFechaInicio(), fila.getFechaFin(), fila.getHoraInicio(), fila.getHoraFin(), fila.getMotivo()),
+            HorarioEspecialEntity::new)
+            .conIndice(INDICE_HORARIO_ESPECIAL_POR_CANCHA, fila -> fila.getCancha().getId());
+    private final TablaMemoria<ClienteEntity> clientes = new TablaMemoria<>("cliente",
+            ClienteEntity::getId,
+            (fila, id) -> new ClienteEntity(id, fila.getNombre(), fila.getUsername(), fila.getContrasena(),
+                    fila.getPrefijoTelefono(), fila.getTelefono()),
+            ClienteEntity::new);
+    private final TablaMemoria<ReservaEntity> reservas = new TablaMemoria<>("reserva",
+            ReservaEntity::getId,
+            (fila, id) -> new ReservaEntity(id, referenciaCliente(fila.getCliente().getId()),
+                    new CanchaEntity(fila.getCancha().getId()), fila.getFechaReserva(), fila.getFechaUsoCancha(),
+                    fila.getHoraInicio(), fila.getHoraFin(), new EstadoReservaEntity(fila.getEstado().getId())),
+            ReservaEntity::new)
+            .conIndice(INDICE_RESERVA_POR_CLIENTE, fila -> fila.getCliente().getId())
+            .conIndice(INDICE_RESERVA_POR_CANCHA, fila -> fila.getCancha().getId());
+    private final TablaMemoria<ResenaEntity> resenas = new TablaMemoria<>("resena",
+            ResenaEntity::getId,
+            (fila, id) -> new ResenaEntity(id, new ReservaEntity(fila.getReserva().getId()), fila.getCalificacion(),
+                    fila.getComentario(), fila.getFecha()),
+            ResenaEntity::new)
+            .conIndice(INDICE_RESENA_POR_RESERVA, fila -> fila.getReserva().getId());
+    private final TablaMemoria<FacturaEntity> facturas = new TablaMemoria<>("factura",
+            FacturaEntity::getId,
+            (fila, id) -> new FacturaEntity(id, fila.getIdentificador(), new ReservaEntity(fila.getReserva().getId()),
+                    fila.getFechaGeneracion(), fila.getTotal()),
+            FacturaEntity::new)
+            .conIndice(INDICE_FACTURA_POR_RESERVA, fila -> fila.getReserva().getId());
+    private final TablaMemoria<ResumenCalificacion> resumenesCalificacionCancha = new TablaMemoria<>("resumencalificacioncancha",
+            ResumenCalificacion::id, ResumenCalificacion::conId,
+            () -> ResumenCalificacion.vacio(UtilUUID.obtenerValorDefecto()));
+    private final TablaMemoria<ResumenCalificacion> resumenesCalificacionOrganizacion = new TablaMemoria<>(
+            "resumencalificacionorganizacion", ResumenCalificacion::id, ResumenCalificacion::conId,
+            () -> ResumenCalificacion.vacio(UtilUUID.obtenerValorDefecto()));
+
+    private final List<TablaMemoria<?>> tablas = List.of(departamentos, municipios, ubicaciones, tiposCancha,
+            superficies, dimensiones, estadosReserva, estadosVerificacion, organizaciones, encargados, canchas,
+            horariosDisponibles, horariosEspeciales, clientes, reservas, resenas, facturas,
+            resumenesCalificacionCancha, resumenesCalificacionOrganizacion);
+
+    private BaseDatosMemoria() {
+        for (int i = 0; i < NUMERO_CANDADOS_AGENDA; i++) {
+            candadosAgenda[i] = new ReentrantLock();
+        }
+    }
+
+    public static BaseDatosMemoria getInstance() {
+        return INSTANCE;
+    }
+
+    public SesionMemoria abrirSesion() {
+        return new SesionMemoria(this);
+    }
+
+    /**
+     * Borra todas las filas; útil entre pruebas de integración.
+     */
+    public void vaciar() {
+        bloquearEscritura(tablas);
+        try {
+            for (TablaMemoria<?> tabla : tablas) {
+                tabla.vaciar();
+            }
+        } finally {
+            liberarEscritura(tablas);
+        }
+    }
+
+    <T> T leer(final TablaMemoria<?> tabla, final Supplier<T> lectura) {
+        tabla.candado().readLock().lock();
+        try {
+            return lectura.get();
+        } finally {
+            tabla.candado().readLock().unlock();
+        }
+    }
+
+    void confirmar(final Map<TablaMemoria<?>, Map<UUID, SesionMemoria.Cambio>> cambios) throws BackEndException {
+        var tablasModificadas = new ArrayList<TablaMemoria<?>>(cambios.keySet());
+        tablasModificadas.sort(Comparator.comparingInt(tablas::indexOf));
+        bloquearEscritura(tablasModificadas);
+        try {
+            // Primero se validan todos los cambios, así no queda nada aplicado a medias
+            for (var cambiosTabla : cambios.entrySet()) {
+                var tabla = cambiosTabla.getKey();
+                for (var cambio : cambiosTabla.getValue().entrySet()) {
+                    if (cambio.getValue().insercion()) {
+                        if (cambio.getValue().fila() != null && tabla.contiene(cambio.getKey())) {
+                            throw SesionMemoria.llaveDuplicada(tabla, cambio.getKey());
+                        }
+                    } else if (tabla.version(cambio.getKey()) != cambio.getValue().versionBase()) {
+                        throw SesionMemoria.conflictoEscritura(tabla, cambio.getKey());
+                    }
+                }
+            }
+            for (var cambiosTabla : cambios.entrySet()) {
+                for (var cambio : cambiosTabla.getValue().entrySet()) {
+                    aplicar(cambiosTabla.getKey(), cambio.getKey(), cambio.getValue().fila());
+                }
+            }
+        } finally {
+            liberarEscritura(tablasModificadas);
+        }
+    }
+
+    ReentrantLock obtenerCandadoAgenda(final UUID canchaId, final LocalDate fecha) {
+        return candadosAgenda[indiceCandadoAgenda(canchaId, fecha)];
+    }
+
+    ReentrantLock obtenerCandadoAgenda(final int indice) {
+        return candadosAgenda[indice];
+    }
+
+    int indiceCandadoAgenda(final UUID canchaId, final LocalDate fecha) {
+        var hash = 31 * canchaId.hashCode() + fecha.hashCode();
+        hash ^= (hash >>> 16);
+        return hash & (NUMERO_CANDADOS_AGENDA - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> void aplicar(final TablaMemoria<E> tabla, final UUID id, final Object fila) {
+        tabla.aplicar(id, (E) fila);
+    }
+
+    private static ClienteEntity referenciaCliente(final UUID id) {
+        var cliente = new ClienteEntity();
+        cliente.setId(id);
+        return cliente;
+    }
+
+    private static void bloquearEscritura(final List<TablaMemoria<?>> enOrden) {
+        for (TablaMemoria<?> tabla : enOrden) {
+            tabla.candado().writeLock().lock();
+        }
+    }
+
+    private static void liberarEscritura(final List<TablaMemoria<?>> enOrden) {
+        for (int i = enOrden.size() - 1; i >= 0; i--) {
+            enOrden.get(i).candado().writeLock().unlock();
+        }
+    }
+
+    public TablaMemoria<DepartamentoEntity> getDepartamentos() {
+        return departamentos;
+    }
+
+    public TablaMemoria<MunicipioEntity> getMunicipios() {
+        return municipios;
+    }
+
+    public TablaMemoria<UbicacionPrecisaEntity> getUbicaciones() {
+        return ubicaciones;
+    }
+
+    public TablaMemoria<TipoCanchaEntity> getTiposCancha() {
+        return tiposCancha;
+    }
+
+    public TablaMemoria<SuperficieEntity> getSuperficies() {
+        return superficies;
+    }
+
+    public TablaMemoria<DimensionEntity> getDimensiones() {
+        return dimensiones;
+    }
+
+    public TablaMemoria<EstadoReservaEntity> getEstadosReserva() {
+        return estadosReserva;
+    }
+
+    public TablaMemoria<EstadoVerificacionEntity> getEstadosVerificacion() {
+        return estadosVerificacion;
+    }
+
+    public TablaMemoria<OrganizacionDeportivaEntity> getOrganizaciones() {
+        return organizaciones;
+    }
+
+    public TablaMemoria<EncargadoEntity> getEncargados() {
+        return encargados;
+    }
+
+    public TablaMemoria<CanchaEntity> getCanchas() {
+        return canchas;
+    }
+
+    public TablaMemoria<HorarioDisponibleEntity> getHorariosDisponibles() {
+        return horariosDisponibles;
+    }
+
+    public TablaMemoria<HorarioEspecialEntity> getHorariosEspeciales() {
+        return horariosEspeciales;
+    }
+
+    public TablaMemoria<ClienteEntity> getClientes() {
+        return clientes;
+    }
+
+    public TablaMemoria<ReservaEntity> getReservas() {
+        return reservas;
+    }
+
+    public TablaMemoria<ResenaEntity> getResenas() {
+        return resenas;
+    }
+
+    public TablaMemoria<FacturaEntity> getFacturas() {
+        return facturas;
+    }
+
+    public TablaMemoria<ResumenCalificacion> getResumenesCalificacionCancha() {
+        return resumenesCalificacionCancha;
+    }
+
+    public TablaMemoria<ResumenCalificacion> getResumenesCalificacionOrganizacion() {
+        return resumenesCalificacionOrganizacion;
+    }
+}
@@ -0,0 +1,111 @@
+package co.edu.uco.backend.data.dao.memoria;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilObjeto;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilTexto;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.data.dao.cache.VersionesRecursos;
+import co.edu.uco.backend.data.dao.entity.CreateDAO;
+import co.edu.uco.backend.data.dao.entity.DeleteDAO;
+import co.edu.uco.backend.data.dao.entity.Pagina;
+import co.edu.uco.backend.data.dao.entity.RetrieveDAO;
+import co.edu.uco.backend.data.dao.entity.UpdateDAO;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Base de los DAO de memoria (impl/memoria): el CRUD por llave es igual para todas las tablas,
+ * cada DAO solo define qué filas cumplen el filtro de consultar, con la misma semántica que su
+ * consulta en PostgreSQL. Los catálogos indican además su recurso versionado: aquí no pasan por
+ * CatalogoCacheDAO, así que es la escritura misma la que incrementa la versión al confirmar.
+ */
+public abstract class MemoriaDAO<E> implements CreateDAO<E>, RetrieveDAO<E, UUID>, UpdateDAO<E, UUID>, DeleteDAO<UUID> {
+
+    protected final SesionMemoria sesion;
+    protected final TablaMemoria<E> tabla;
+    private final VersionesRecursos.Recurso recurso;
+
+    protected MemoriaDAO(final SesionMemoria sesion, final TablaMemoria<E> tabla) {
+        this(sesion, tabla, null);
+    }
+
+    protected MemoriaDAO(final SesionMemoria sesion, final TablaMemoria<E> tabla, final VersionesRecursos.Recurso recurso) {
+        this.sesion = sesion;
+        this.tabla = tabla;
+        this.recurso = recurso;
+    }
+
+    protected abstract boolean cumpleFiltro(E filtro, E fila);
+
+    @Override
+    public void crear(final E entity) throws BackEndException {
+        sesion.crear(tabla, entity);
+        registrarCambio();
+    }
+
+    @Override
+    public List<E> consultar(final E filtro) throws BackEndException {
+        if (UtilObjeto.getInstance().esNulo(filtro)) {
+            return sesion.consultar(tabla, fila -> true);
+        }
+        return sesion.consultar(tabla, fila -> cumpleFiltro(filtro, fila));
+    }
+
+    // Como en PostgreSQL, si la fila no existe se entrega una entidad con los valores por defecto
+    @Override
+    public E consultarPorId(final UUID id) throws BackEndException {
+        var fila = sesion.consultarPorId(tabla, id);
+        return fila == null ? tabla.vacia() : fila;
+    }
+
+    @Override
+    public void modificar(final UUID id, final E entity) throws BackEndException {
+        sesion.modificar(tabla, id, entity);
+        registrarCambio();
+    }
+
+    @Override
+    public void eliminar(final UUID id) throws BackEndException {
+        sesion.eliminar(tabla, id);
+        registrarCambio();
+    }
+
+    private void registrarCambio() {
+        if (recurso != null) {
+            sesion.alConfirmar(() -> VersionesRecursos.getInstance().incrementar(recurso));
+        }
+    }
+
+    protected Pagina<E> consultarPagina(final E filtro, final UUID despuesDe, final int limite) {
+        var cursor = UtilUUID.esValorDefecto(despuesDe) ? null : despuesDe;
+        var filas = sesion.consultarDespuesDe(tabla,
+                fila -> UtilObjeto.getInstance().esNulo(filtro) || cumpleFiltro(filtro, fila), cursor, limite + 1);
+        if (filas.size() <= limite) {
+            return new Pagina<>(filas, null);
+        }
+        filas.remove(limite);
+        return new Pagina<>(filas, tabla.llave(filas.get(limite - 1)));
+    }
+
+    // Equivalentes de las condiciones que arman los DAO de PostgreSQL; un filtro vacío no restringe
+
+    protected static boolean coincideId(final UUID filtro, final UUID valor) {
+        return UtilUUID.esValorDefecto(filtro) || filtro.equals(valor);
+    }
+
+    protected static boolean coincideTexto(final String filtro, final String valor) {
+        return UtilTexto.getInstance().estaVacia(filtro)
+                || UtilTexto.getInstance().quitarEspaciosEnBlancoInicioFin(filtro).equalsIgnoreCase(valor);
+    }
+
+    protected static boolean contieneTexto(final String filtro, final String valor) {
+        return UtilTexto.getInstance().estaVacia(filtro) || (valor != null
+                && valor.toLowerCase().contains(UtilTexto.getInstance().quitarEspaciosEnBlancoInicioFin(filtro).toLowerCase()));
+    }
+
+    protected static boolean coincideExacto(final String filtro, final String valor) {
+        return UtilTexto.getInstance().estaVacia(filtro)
+                || UtilTexto.getInstance().quitarEspaciosEnBlancoInicioFin(filtro).equals(valor);
+    }
+}
@@ -0,0 +1,286 @@
+package co.edu.uco.backend.data.dao.memoria;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Equivalente en memoria de una conexión: lo que abre abrirConexion() y usan los DAO de memoria.
+ * Fuera de una transacción cada escritura se confirma de inmediato (autocommit). Dentro de una
+ * transacción las escrituras van a una copia privada de las filas tocadas, que solo esta sesión
+ * ve, y al confirmar se instalan todas juntas en BaseDatosMemoria; al cancelar se descartan.
+ */
+public final class SesionMemoria {
+
+    // versionBase: versión confirmada de la fila cuando esta sesión la modificó por primera vez
+    record Cambio(Object fila, boolean insercion, long versionBase) {
+    }
+
+    // La fila solo existe como cambio pendiente de esta sesión; escribir conserva la versión del primero
+    private static final long VERSION_PENDIENTE = -1L;
+
+    private final BaseDatosMemoria baseDatos;
+    private Map<TablaMemoria<?>, Map<UUID, Cambio>> pendientes;
+    private final List<ReentrantLock> candadosTomados = new ArrayList<>();
+    private final List<Runnable> accionesAlConfirmar = new ArrayList<>();
+
+    SesionMemoria(final BaseDatosMemoria baseDatos) {
+        this.baseDatos = baseDatos;
+    }
+
+    public boolean transaccionEstaIniciada() {
+        return pendientes != null;
+    }
+
+    public void iniciarTransaccion() {
+        pendientes = new LinkedHashMap<>();
+    }
+
+    public void confirmarTransaccion() throws BackEndException {
+        // Si la confirmación falla la transacción sigue abierta, para que se pueda cancelar
+        baseDatos.confirmar(pendientes);
+        pendientes = null;
+        liberarCandados();
+        var acciones = List.copyOf(accionesAlConfirmar);
+        accionesAlConfirmar.clear();
+        acciones.forEach(Runnable::run);
+    }
+
+    public void cancelarTransaccion() {
+        pendientes = null;
+        liberarCandados();
+        accionesAlConfirmar.clear();
+    }
+
+    // Fuera de una transacción la escritura ya quedó confirmada, así que la acción corre de inmediato
+    public void alConfirmar(final Runnable accion) {
+        if (pendientes == null) {
+            accion.run();
+        } else {
+            accionesAlConfirmar.add(accion);
+        }
+    }
+
+    public void cerrar() {
+        // Igual que una conexión que se cierra con una transacción abierta: los cambios se pierden
+        cancelarTransaccion();
+    }
+
+    public <E> E consultarPorId(final TablaMemoria<E> tabla, final UUID id) {
+        var cambio = cambioPendiente(tabla, id);
+        if (cambio != null) {
+            return cambio.fila() == null ? null : tabla.copiar(convertir(cambio.fila()));
+        }
+        return baseDatos.leer(tabla, () -> {
+            var fila = tabla.leer(id);
+            return fila == null ? null : tabla.copiar(fila);
+        });
+    }
+
+    public <E> List<E> consultar(final TablaMemoria<E> tabla, final Predicate<E> condicion) {
+        var resultado = baseDatos.leer(tabla, () -> {
+            var filas = new ArrayList<E>();
+            for (E fila : tabla.todas()) {
+                if (cambioPendiente(tabla, tabla.llave(fila)) == null && condicion.test(fila)) {
+                    filas.add(tabla.copiar(fila));
+                }
+            }
+            return filas;
+        });
+        agregarPendientes(tabla, condicion, resultado);
+        return resultado;
+    }
+
+    public <E> List<E> consultarPorIndice(final TablaMemoria<E> tabla, final String indice, final UUID valor,
+                                          final Predicate<E> condicion) {
+        var resultado = baseDatos.leer(tabla, () -> {
+            var filas = new ArrayList<E>();
+            for (E fila : tabla.leerPorIndice(indice, valor)) {
+                if (cambioPendiente(tabla, tabla.llave(fila)) == null && condicion.test(fila)) {
+                    filas.add(tabla.copiar(fila));
+                }
+            }
+            return filas;
+        });
+        agregarPendientes(tabla, fila -> tabla.cumpleIndice(indice, fila, valor) && condicion.test(fila), resultado);
+        return resultado;
+    }
+
+    /**
+     * Hasta cantidad filas que cumplen la condición, en orden de llave y a partir de la siguiente a
+     * despuesDe (null = desde el inicio). Sin cambios pendientes en la tabla se recorre el mapa
+     * ordenado desde el cursor, como haría un índice.
+     */
+    public <E> List<E> consultarDespuesDe(final TablaMemoria<E> tabla, final Predicate<E> condicion,
+                                          final UUID despuesDe, final int cantidad) {
+        if (pendientes == null || !pendientes.containsKey(tabla)) {
+            return baseDatos.leer(tabla, () -> {
+                var filas = new ArrayList<E>(cantidad);
+                for (E fila : tabla.despuesDe(despuesDe)) {
+                    if (filas.size() == cantidad) {
+                        break;
+                    }
+                    if (condicion.test(fila)) {
+                        filas.add(tabla.copiar(fila));
+                    }
+                }
+                return filas;
+            });
+        }
+        var todas = consultar(tabla, fila -> (despuesDe == null
+                || TablaMemoria.ORDEN_LLAVE.compare(tabla.llave(fila), despuesDe) > 0) && condicion.test(fila));
+        todas.sort((a, b) -> TablaMemoria.ORDEN_LLAVE.compare(tabla.llave(a), tabla.llave(b)));
+        return new ArrayList<>(todas.subList(0, Math.min(cantidad, todas.size())));
+    }
+
+    public <E> void crear(final TablaMemoria<E> tabla, final E fila) throws BackEndException {
+        var id = tabla.llave(fila);
+        if (existe(tabla, id)) {
+            throw llaveDuplicada(tabla, id);
+        }
+        escribir(tabla, id, new Cambio(tabla.copiar(fila), true, TablaMemoria.VERSION_INEXISTENTE));
+    }
+
+    /**
+     * Igual que un UPDATE/DELETE por llave: si la fila no existe no se hace nada. Si otra transacción
+     * la modifica o la elimina antes de que esta confirme, la confirmación falla con
+     * conflictoEscritura en lugar de pisar ese cambio.
+     */
+    public <E> void modificar(final TablaMemoria<E> tabla, final UUID id, final E fila) throws BackEndException {
+        var version = versionParaEscribir(tabla, id);
+        if (version != TablaMemoria.VERSION_INEXISTENTE) {
+            escribir(tabla, id, new Cambio(tabla.copiarConLlave(fila, id), false, version));
+        }
+    }
+
+    public <E> void eliminar(final TablaMemoria<E> tabla, final UUID id) throws BackEndException {
+        var version = versionParaEscribir(tabla, id);
+        if (version != TablaMemoria.VERSION_INEXISTENTE) {
+            escribir(tabla, id, new Cambio(null, false, version));
+        }
+    }
+
+    /**
+     * Equivalente a pg_advisory_xact_lock: el candado se mantiene hasta confirmar o cancelar.
+     * Sin transacción se liberaría al terminar la sentencia, así que no se toma.
+     */
+    public void bloquear(final UUID canchaId, final LocalDate fecha) {
+        if (pendientes == null) {
+            return;
+        }
+        tomar(baseDatos.obtenerCandadoAgenda(canchaId, fecha));
+    }
+
+    // Varias fechas de una vez: los candados se toman en orden de índice para no esperarse en círculo
+    public void bloquear(final Map<UUID, ? extends Collection<LocalDate>> fechasPorCancha) {
+        if (pendientes == null) {
+            return;
+        }
+        var indices = new TreeSet<Integer>();
+        fechasPorCancha.forEach((canchaId, fechas) ->
+                fechas.forEach(fecha -> indices.add(baseDatos.indiceCandadoAgenda(canchaId, fecha))));
+        indices.forEach(indice -> tomar(baseDatos.obtenerCandadoAgenda(indice)));
+    }
+
+    /**
+     * Equivalente al bloqueo de fila de un UPDATE (exista la fila o no): otra transacción que
+     * bloquee la misma llave espera hasta que esta confirme o cancele. Sin transacción no se toma.
+     */
+    public <E> void bloquearFila(final TablaMemoria<E> tabla, final UUID id) {
+        if (pendientes == null) {
+            return;
+        }
+        tomar(tabla.candadoFila(id));
+    }
+
+    static BackEndException llaveDuplicada(final TablaMemoria<?> tabla, final UUID id) {
+        var mensajeUsuario = "Se ha presentado un problema tratando de registrar la información en la fuente de datos";
+        var mensajeTecnico = "Llave primaria duplicada en la tabla en memoria " + tabla.getNombre() + ": " + id;
+        return DataBackEndException.reportar(mensajeUsuario, mensajeTecnico);
+    }
+
+    static BackEndException conflictoEscritura(final TablaMemoria<?> tabla, final UUID id) {
+        var mensajeUsuario = "La información fue modificada por otra operación al mismo tiempo, por favor intenta nuevamente";
+        var mensajeTecnico = "Conflicto de escritura en la tabla en memoria " + tabla.getNombre() + ": la fila " + id
+                + " cambió después de que la transacción la leyera";
+        return DataBackEndException.reportar(mensajeUsuario, mensajeTecnico);
+    }
+
+    private <E> boolean existe(final TablaMemoria<E> tabla, final UUID id) {
+        var cambio = cambioPendiente(tabla, id);
+        if (cambio != null) {
+            return cambio.fila() != null;
+        }
+        return baseDatos.leer(tabla, () -> tabla.contiene(id));
+    }
+
+    private <E> long versionParaEscribir(final TablaMemoria<E> tabla, final UUID id) {
+        var cambio = cambioPendiente(tabla, id);
+        if (cambio != null) {
+            return cambio.fila() == null ? TablaMemoria.VERSION_INEXISTENTE : VERSION_PENDIENTE;
+        }
+        return baseDatos.leer(tabla, () -> tabla.version(id));
+    }
+
+    private <E> void escribir(final TablaMemoria<E> tabla, final UUID id, final Cambio cambio) throws BackEndException {
+        if (pendientes == null) {
+            baseDatos.confirmar(Map.of(tabla, Map.of(id, cambio)));
+            return;
+        }
+        // Una fila creada en esta misma transacción sigue contando como inserción al confirmar, y una
+        // modificada conserva la versión que tenía cuando se tocó por primera vez
+        pendientes.computeIfAbsent(tabla, t -> new LinkedHashMap<>())
+                .merge(id, cambio, (anterior, nuevo) -> new Cambio(nuevo.fila(), anterior.insercion(), anterior.versionBase()));
+    }
+
+    private Cambio cambioPendiente(final TablaMemoria<?> tabla, final UUID id) {
+        if (pendientes == null) {
+            return null;
+        }
+        var cambiosTabla = pendientes.get(tabla);
+        return cambiosTabla == null ? null : cambiosTabla.get(id);
+    }
+
+    private <E> void agregarPendientes(final TablaMemoria<E> tabla, final Predicate<E> condicion, final List<E> resultado) {
+        if (pendientes == null || !pendientes.containsKey(tabla)) {
+            return;
+        }
+        for (Cambio cambio : pendientes.get(tabla).values()) {
+            if (cambio.fila() != null) {
+                E fila = convertir(cambio.fila());
+                if (condicion.test(fila)) {
+                    resultado.add(tabla.copiar(fila));
+                }
+            }
+        }
+    }
+
+    private void tomar(final ReentrantLock candado) {
+        if (!candado.isHeldByCurrentThread()) {
+            candado.lock();
+            candadosTomados.add(candado);
+        }
+    }
+
+    private void liberarCandados() {
+        for (int i = candadosTomados.size() - 1; i >= 0; i--) {
+            candadosTomados.get(i).unlock();
+        }
+        candadosTomados.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E convertir(final Object fila) {
+        return (E) fila;
+    }
+}
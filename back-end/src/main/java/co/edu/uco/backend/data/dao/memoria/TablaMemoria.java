@@ -0,0 +1,183 @@
+package co.edu.uco.backend.data.dao.memoria;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Tabla de la base de datos en memoria: filas confirmadas ordenadas por llave primaria (mismo orden
+ * que el índice de PostgreSQL sobre uuid) y los índices secundarios declarados con conIndice.
+ * Cada tabla tiene su propio candado de lectura/escritura: una confirmación solo detiene a quienes
+ * leen las tablas que toca. Solo BaseDatosMemoria modifica las filas, siempre con el candado de
+ * escritura tomado; las filas se guardan y se entregan como copias para que nadie comparta
+ * instancias con la tabla. Cada fila lleva una versión que cambia con cada escritura, y con ella
+ * se detectan al confirmar los conflictos entre transacciones.
+ */
+public final class TablaMemoria<E> {
+
+    // PostgreSQL compara uuid byte a byte (sin signo); UUID.compareTo usa long con signo
+    public static final Comparator<UUID> ORDEN_LLAVE = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    static final long VERSION_INEXISTENTE = 0L;
+
+    private static final int NUMERO_CANDADOS_FILA = 64;
+
+    private final String nombre;
+    private final Function<E, UUID> llave;
+    private final BiFunction<E, UUID, E> copiarConLlave;
+    private final Supplier<E> vacia;
+    private final ConcurrentSkipListMap<UUID, E> filas = new ConcurrentSkipListMap<>(ORDEN_LLAVE);
+    private final Map<String, Indice<E>> indices = new LinkedHashMap<>();
+    private final ReentrantReadWriteLock candado = new ReentrantReadWriteLock();
+    // Una fila sin versión no existe; ultimaVersion solo crece, así que una fila borrada y vuelta a
+    // crear no recupera la versión que tenía
+    private final ConcurrentHashMap<UUID, Long> versiones = new ConcurrentHashMap<>();
+    private long ultimaVersion;
+    // Repartidos por llave y propios de cada tabla: bloquear filas de dos tablas en el mismo orden no cruza esperas
+    private final ReentrantLock[] candadosFila = new ReentrantLock[NUMERO_CANDADOS_FILA];
+
+    private record Indice<E>(Function<E, UUID> columna, ConcurrentHashMap<UUID, Set<UUID>> entradas) {
+    }
+
+    // copiarConLlave arma una copia de la fila con la llave indicada (no todas las entidades exponen setId)
+    TablaMemoria(final String nombre, final Function<E, UUID> llave, final BiFunction<E, UUID, E> copiarConLlave,
+                 final Supplier<E> vacia) {
+        this.nombre = nombre;
+        this.llave = llave;
+        this.copiarConLlave = copiarConLlave;
+        this.vacia = vacia;
+        for (int i = 0; i < NUMERO_CANDADOS_FILA; i++) {
+            candadosFila[i] = new ReentrantLock();
+        }
+    }
+
+    TablaMemoria<E> conIndice(final String nombreIndice, final Function<E, UUID> columna) {
+        indices.put(nombreIndice, new Indice<>(columna, new ConcurrentHashMap<>()));
+        return this;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public UUID llave(final E fila) {
+        return llave.apply(fila);
+    }
+
+    public E copiar(final E fila) {
+        return copiarConLlave.apply(fila, llave.apply(fila));
+    }
+
+    public E copiarConLlave(final E fila, final UUID id) {
+        return copiarConLlave.apply(fila, id);
+    }
+
+    public E vacia() {
+        return vacia.get();
+    }
+
+    E leer(final UUID id) {
+        return filas.get(id);
+    }
+
+    boolean contiene(final UUID id) {
+        return filas.containsKey(id);
+    }
+
+    long version(final UUID id) {
+        return versiones.getOrDefault(id, VERSION_INEXISTENTE);
+    }
+
+    Iterable<E> todas() {
+        return filas.values();
+    }
+
+    Iterable<E> despuesDe(final UUID id) {
+        return id == null ? filas.values() : filas.tailMap(id, false).values();
+    }
+
+    List<E> leerPorIndice(final String nombreIndice, final UUID valor) {
+        var indice = obtenerIndice(nombreIndice);
+        var resultado = new ArrayList<E>();
+        for (UUID id : indice.entradas().getOrDefault(valor, Set.of())) {
+            var fila = filas.get(id);
+            if (fila != null) {
+                resultado.add(fila);
+            }
+        }
+        return resultado;
+    }
+
+    boolean cumpleIndice(final String nombreIndice, final E fila, final UUID valor) {
+        return valor.equals(obtenerIndice(nombreIndice).columna().apply(fila));
+    }
+
+    /**
+     * Escribe la fila (o la elimina si es null), le asigna una versión nueva y mantiene los índices
+     * secundarios. Solo se invoca con el candado de escritura de la tabla tomado.
+     */
+    void aplicar(final UUID id, final E nueva) {
+        var anterior = nueva == null ? filas.remove(id) : filas.put(id, nueva);
+        if (nueva == null) {
+            versiones.remove(id);
+        } else {
+            versiones.put(id, ++ultimaVersion);
+        }
+        for (Indice<E> indice : indices.values()) {
+            if (anterior != null) {
+                var valorAnterior = indice.columna().apply(anterior);
+                var ids = indice.entradas().get(valorAnterior);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        indice.entradas().remove(valorAnterior, ids);
+                    }
+                }
+            }
+            if (nueva != null) {
+                indice.entradas().computeIfAbsent(indice.columna().apply(nueva), valor -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        }
+    }
+
+    ReentrantLock candadoFila(final UUID id) {
+        var hash = id.hashCode();
+        hash ^= (hash >>> 16);
+        return candadosFila[hash & (NUMERO_CANDADOS_FILA - 1)];
+    }
+
+    ReentrantReadWriteLock candado() {
+        return candado;
+    }
+
+    void vaciar() {
+        filas.clear();
+        versiones.clear();
+        indices.values().forEach(indice -> indice.entradas().clear());
+    }
+
+    int tamano() {
+        return filas.size();
+    }
+
+    private Indice<E> obtenerIndice(final String nombreIndice) {
+        var indice = indices.get(nombreIndice);
+        if (indice == null) {
+            throw new IllegalArgumentException("La tabla " + nombre + " no tiene el índice " + nombreIndice);
+        }
+        return indice;
+    }
+}
@@ -0,0 +1,153 @@
+package co.edu.uco.backend.data.dao.metricas;
+
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.data.dao.entity.Pagina;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Envuelve un DAO en un proxy de su interfaz que mide cada llamada: tiempo por (dao, método) con
+ * percentiles e histograma para Prometheus, errores por capa, causa y SQLState, y filas
+ * devueltas (tamaño de la lista o de la página, o elementos entregados al consumidor).
+ * Los medidores de cada método se crean una sola vez; una llamada solo suma el reloj y un registro.
+ */
+public final class DAOInstrumentado implements InvocationHandler {
+
+    private static final ConcurrentHashMap<Class<?>, ConcurrentHashMap<Method, Medidores>> MEDIDORES = new ConcurrentHashMap<>();
+
+    private final Object delegado;
+    private final ConcurrentHashMap<Method, Medidores> medidores;
+    private final String dao;
+
+    private DAOInstrumentado(final Class<?> interfaz, final Object delegado) {
+        this.delegado = delegado;
+        this.medidores = MEDIDORES.computeIfAbsent(interfaz, clave -> new ConcurrentHashMap<>());
+        this.dao = interfaz.getSimpleName();
+    }
+
+    public static <T> T instrumentar(final Class<T> interfaz, final T delegado) {
+        return interfaz.cast(Proxy.newProxyInstance(interfaz.getClassLoader(), new Class<?>[]{interfaz},
+                new DAOInstrumentado(interfaz, delegado)));
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method metodo, final Object[] argumentos) throws Throwable {
+        if (metodo.getDeclaringClass() == Object.class) {
+            return invocar(metodo, argumentos);
+        }
+
+        var medidor = medidores.computeIfAbsent(metodo, clave -> new Medidores(dao, clave.getName()));
+        var filasEntregadas = new int[1];
+        var argumentosMedidos = contarEntregas(argumentos, filasEntregadas);
+        var inicio = System.nanoTime();
+        try {
+            var resultado = invocar(metodo, argumentosMedidos);
+            medidor.exito.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            medidor.registrarFilas(resultado, filasEntregadas[0]);
+            return resultado;
+        } catch (Throwable excepcion) {
+            medidor.error.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            medidor.registrarError(excepcion);
+            throw excepcion;
+        }
+    }
+
+    private Object invocar(final Method metodo, final Object[] argumentos) throws Throwable {
+        try {
+            return metodo.invoke(delegado, argumentos);
+        } catch (InvocationTargetException excepcion) {
+            throw excepcion.getCause();
+        }
+    }
+
+    // Los métodos que entregan filas a un consumidor no devuelven nada; se cuentan las entregas
+    @SuppressWarnings("unchecked")
+    private static Object[] contarEntregas(final Object[] argumentos, final int[] filasEntregadas) {
+        if (argumentos == null) {
+            return null;
+        }
+        for (var i = 0; i < argumentos.length; i++) {
+            if (argumentos[i] instanceof Consumer<?> consumidor) {
+                var copia = argumentos.clone();
+                var original = (Consumer<Object>) consumidor;
+                copia[i] = (Consumer<Object>) fila -> {
+                    filasEntregadas[0]++;
+                    original.accept(fila);
+                };
+                return copia;
+            }
+        }
+        return argumentos;
+    }
+
+    private static final class Medidores {
+
+        private final String dao;
+        private final String metodo;
+        private final Timer exito;
+        private final Timer error;
+        private final DistributionSummary filas;
+        private final ConcurrentHashMap<String, Counter> errores = new ConcurrentHashMap<>();
+
+        private Medidores(final String dao, final String metodo) {
+            this.dao = dao;
+            this.metodo = metodo;
+            this.exito = temporizador("exito");
+            this.error = temporizador("error");
+            this.filas = DistributionSummary.builder("dao.filas")
+                    .description("Filas devueltas por una llamada al DAO")
+                    .tag("dao", dao)
+                    .tag("metodo", metodo)
+                    .publishPercentileHistogram()
+                    .register(Metrics.globalRegistry);
+        }
+
+        private Timer temporizador(final String resultado) {
+            return Timer.builder("dao.operacion")
+                    .description("Duración de cada llamada a un método de DAO")
+                    .tag("dao", dao)
+                    .tag("metodo", metodo)
+                    .tag("resultado", resultado)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(Metrics.globalRegistry);
+        }
+
+        private void registrarFilas(final Object resultado, final int filasEntregadas) {
+            if (resultado instanceof Collection<?> lista) {
+                filas.record(lista.size());
+            } else if (resultado instanceof Pagina<?> pagina) {
+                filas.record(pagina.elementos().size());
+            } else if (filasEntregadas > 0) {
+                filas.record(filasEntregadas);
+            }
+        }
+
+        private void registrarError(final Throwable excepcion) {
+            var capa = excepcion instanceof BackEndException backEnd ? backEnd.getCapa().name() : "GENERAL";
+            var causa = excepcion instanceof BackEndException && excepcion.getCause() != null ? excepcion.getCause() : excepcion;
+            var estadoSql = causa instanceof SQLException sql && sql.getSQLState() != null ? sql.getSQLState() : "ninguno";
+            var tipo = causa.getClass().getSimpleName();
+            errores.computeIfAbsent(capa + "|" + tipo + "|" + estadoSql, llave -> Counter.builder("dao.errores")
+                    .description("Llamadas a DAO que terminaron en excepción")
+                    .tag("dao", dao)
+                    .tag("metodo", metodo)
+                    .tag("capa", capa)
+                    .tag("causa", tipo)
+                    .tag("estadosql", estadoSql)
+                    .register(Metrics.globalRegistry)).increment();
+        }
+    }
+}
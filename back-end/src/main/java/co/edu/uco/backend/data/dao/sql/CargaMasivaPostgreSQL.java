@@ -0,0 +1,84 @@
+package co.edu.uco.backend.data.dao.sql;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Carga filas con COPY ... FROM STDIN (FORMAT csv) sobre la conexión de la unidad de trabajo, así
+ * quedan en la misma transacción que el resto de la operación. Las filas viajan al servidor en un
+ * solo flujo, sin una sentencia ni un viaje de ida y vuelta por fila; COPY no valida reglas de
+ * negocio, solo las restricciones de la tabla, por lo que las filas deben llegar ya validadas.
+ */
+public final class CargaMasivaPostgreSQL {
+
+    private static final int TAMANO_BUFFER = 64 * 1024;
+
+    private CargaMasivaPostgreSQL() {
+        super();
+    }
+
+    /**
+     * @param destino tabla y columnas, por ejemplo "HorarioDisponible (id, cancha, dia, horaapertura, horacierre)"
+     * @param valores valores de una fila en el orden de las columnas del destino; null se carga como NULL
+     * @return filas cargadas según el servidor
+     */
+    public static <T> long copiar(final Connection conexion, final String destino, final List<T> filas,
+                                  final Function<T, Object[]> valores) throws SQLException, IOException {
+        // La conexión de los DAO puede venir envuelta (pool, medición de consultas); COPY necesita la del driver
+        var conexionPostgreSQL = conexion.unwrap(PGConnection.class);
+        var salida = new PGCopyOutputStream(conexionPostgreSQL, "COPY " + destino + " FROM STDIN WITH (FORMAT csv)", TAMANO_BUFFER);
+        var escritor = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8), TAMANO_BUFFER);
+        try {
+            for (T fila : filas) {
+                var campos = valores.apply(fila);
+                for (var i = 0; i < campos.length; i++) {
+                    if (i > 0) {
+                        escritor.write(',');
+                    }
+                    escribirCampo(escritor, campos[i]);
+                }
+                escritor.write('\n');
+            }
+            escritor.flush();
+        } catch (IOException | RuntimeException exception) {
+            // Se cancela en vez de cerrar: cerrar el flujo confirmaría el COPY con las filas escritas hasta el error
+            if (salida.isActive()) {
+                salida.cancelCopy();
+            }
+            throw exception;
+        }
+        // Las violaciones de llaves o tipos las reporta el servidor aquí, como SQLException
+        return salida.endCopy();
+    }
+
+    // En el formato csv de COPY un campo vacío sin comillas es NULL y "" es el texto vacío
+    private static void escribirCampo(final Writer escritor, final Object valor) throws IOException {
+        if (valor == null) {
+            return;
+        }
+        if (valor instanceof Double numero) {
+            escritor.write(BigDecimal.valueOf(numero).toPlainString());
+            return;
+        }
+        var texto = valor instanceof Enum<?> constante ? constante.name() : valor.toString();
+        if (!texto.isEmpty() && texto.indexOf(',') < 0 && texto.indexOf('"') < 0
+                && texto.indexOf('\n') < 0 && texto.indexOf('\r') < 0) {
+            escritor.write(texto);
+            return;
+        }
+        escritor.write('"');
+        escritor.write(texto.replace("\"", "\"\""));
+        escritor.write('"');
+    }
+}
@@ -0,0 +1,113 @@
+package co.edu.uco.backend.data.dao.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Proxy de la conexión que reciben los DAO: todo pasa directo a la conexión real salvo
+ * prepareStatement, cuya sentencia se envuelve para contar si cada ejecución reutiliza la sentencia
+ * preparada en el servidor (siempre) y, con RegistroConsultasLentas habilitado, guardar los
+ * parámetros y cronometrarla.
+ */
+public final class ConexionMedida implements InvocationHandler {
+
+    private static final Set<String> EJECUCIONES = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final Connection conexion;
+    private final RegistroConsultasLentas registro;
+
+    private ConexionMedida(final Connection conexion, final RegistroConsultasLentas registro) {
+        this.conexion = conexion;
+        this.registro = registro;
+    }
+
+    public static Connection envolver(final Connection conexion) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                new ConexionMedida(conexion, RegistroConsultasLentas.getInstance()));
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method metodo, final Object[] argumentos) throws Throwable {
+        var resultado = invocar(conexion, metodo, argumentos);
+        if (resultado instanceof PreparedStatement sentencia && "prepareStatement".equals(metodo.getName())) {
+            return Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                    new SentenciaMedida(sentencia, (String) argumentos[0]));
+        }
+        return resultado;
+    }
+
+    private static Object invocar(final Object destino, final Method metodo, final Object[] argumentos) throws Throwable {
+        try {
+            return metodo.invoke(destino, argumentos);
+        } catch (InvocationTargetException excepcion) {
+            throw excepcion.getCause();
+        }
+    }
+
+    private final class SentenciaMedida implements InvocationHandler {
+
+        private final PreparedStatement sentencia;
+        private final String sql;
+        private Object[] parametros = new Object[8];
+        private int cantidadParametros;
+
+        private SentenciaMedida(final PreparedStatement sentencia, final String sql) {
+            this.sentencia = sentencia;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method metodo, final Object[] argumentos) throws Throwable {
+            var nombre = metodo.getName();
+            // Las ejecuciones con SQL propio (API de Statement) no son la sentencia preparada
+            if (EJECUCIONES.contains(nombre) && (argumentos == null || argumentos.length == 0)) {
+                return ejecutar(metodo);
+            }
+            if (!registro.estaHabilitado()) {
+                return invocar(sentencia, metodo, argumentos);
+            }
+            if (nombre.startsWith("set") && argumentos != null && argumentos.length >= 2
+                    && argumentos[0] instanceof Integer indice) {
+                guardarParametro(indice, "setNull".equals(nombre) ? null : argumentos[1]);
+            } else if ("clearParameters".equals(nombre)) {
+                Arrays.fill(parametros, null);
+                cantidadParametros = 0;
+            }
+            return invocar(sentencia, metodo, argumentos);
+        }
+
+        private Object ejecutar(final Method metodo) throws Throwable {
+            EstadisticaSentenciasPreparadas.getInstance().registrar(sentencia);
+            if (!registro.estaHabilitado()) {
+                return invocar(sentencia, metodo, null);
+            }
+            var inicio = System.nanoTime();
+            var error = true;
+            try {
+                var resultado = invocar(sentencia, metodo, null);
+                error = false;
+                return resultado;
+            } finally {
+                registro.registrar(conexion, sql, parametros, cantidadParametros, System.nanoTime() - inicio, error);
+            }
+        }
+
+        private void guardarParametro(final int indice, final Object valor) {
+            if (indice < 1) {
+                return;
+            }
+            if (indice > parametros.length) {
+                parametros = Arrays.copyOf(parametros, Math.max(indice, parametros.length * 2));
+            }
+            parametros[indice - 1] = valor;
+            cantidadParametros = Math.max(cantidadParametros, indice);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package co.edu.uco.backend.data.dao.sql;
+
+/**
+ * Acumulado de una huella de SQL desde el arranque (o el último reinicio). plan es la salida de
+ * EXPLAIN ANALYZE de la última ejecución lenta que se capturó, o null si no se ha capturado.
+ */
+public record EstadisticaConsulta(String huella, long ejecuciones, long lentas, long errores,
+                                  double tiempoTotalMs, double tiempoPromedioMs, double tiempoMaximoMs,
+                                  String plan) {
+}
@@ -0,0 +1,61 @@
+package co.edu.uco.backend.data.dao.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import org.postgresql.PGStatement;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Aciertos del caché de sentencias preparadas del driver. PostgreSQL guarda, por conexión física
+ * del pool, las últimas preparedStatementCacheQueries sentencias por su texto; a partir de la
+ * ejecución prepareThreshold la sentencia viaja con nombre y el servidor reutiliza el análisis y el
+ * plan en vez de rehacerlos. Cada ejecución que pasa por ConexionMedida, esté o no habilitado el
+ * registro de consultas lentas, se cuenta como servidor (con nombre) o sin_preparar; la primera con nombre de cada texto y conexión incluye todavía el Parse.
+ *
+ * dao.sentencias.ejecuciones{preparacion} y dao.sentencias.reutilizacion (proporción con nombre).
+ */
+public final class EstadisticaSentenciasPreparadas {
+
+    private static final EstadisticaSentenciasPreparadas INSTANCE = new EstadisticaSentenciasPreparadas();
+
+    private final Counter preparadasServidor;
+    private final Counter sinPreparar;
+
+    private EstadisticaSentenciasPreparadas() {
+        preparadasServidor = Counter.builder("dao.sentencias.ejecuciones").tag("preparacion", "servidor")
+                .register(Metrics.globalRegistry);
+        sinPreparar = Counter.builder("dao.sentencias.ejecuciones").tag("preparacion", "sin_preparar")
+                .register(Metrics.globalRegistry);
+        Gauge.builder("dao.sentencias.reutilizacion", this, EstadisticaSentenciasPreparadas::calcularReutilizacion)
+                .register(Metrics.globalRegistry);
+    }
+
+    public static EstadisticaSentenciasPreparadas getInstance() {
+        return INSTANCE;
+    }
+
+    public double calcularReutilizacion() {
+        var servidor = preparadasServidor.count();
+        var total = servidor + sinPreparar.count();
+        return total == 0 ? 0.0 : servidor / total;
+    }
+
+    // Antes de ejecutar: isUseServerPrepare dice cómo va a viajar esta ejecución
+    void registrar(final PreparedStatement sentencia) {
+        try {
+            if (!sentencia.isWrapperFor(PGStatement.class)) {
+                return;
+            }
+            if (sentencia.unwrap(PGStatement.class).isUseServerPrepare()) {
+                preparadasServidor.increment();
+            } else {
+                sinPreparar.increment();
+            }
+        } catch (SQLException exception) {
+            // Solo es una métrica: una sentencia que no deja consultarse no impide ejecutarla
+        }
+    }
+}
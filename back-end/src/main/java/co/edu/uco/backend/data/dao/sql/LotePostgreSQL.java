@@ -0,0 +1,53 @@
+package co.edu.uco.backend.data.dao.sql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Ejecuta una misma sentencia para varios elementos con addBatch/executeBatch: el driver los envía
+ * en un solo viaje por lote en vez de uno por fila y, con reWriteBatchedInserts, reescribe los
+ * INSERT de un lote como un único INSERT de varias filas. Corre en la conexión y la transacción de
+ * la unidad de trabajo; si una fila falla el lote lanza BatchUpdateException y la transacción se
+ * deshace completa.
+ *
+ * Los DAO le pasan la misma constante SQL y el mismo método de asignación de parámetros que usa su
+ * escritura de una fila, así ambas envían exactamente la misma sentencia.
+ */
+public final class LotePostgreSQL {
+
+    // Acota los parámetros acumulados en memoria y queda por debajo del límite de 32767 parámetros
+    // por sentencia que impone el protocolo al reescribir los INSERT
+    public static final int TAMANO_LOTE = 500;
+
+    private LotePostgreSQL() {
+        super();
+    }
+
+    @FunctionalInterface
+    public interface AsignacionParametros<T> {
+        void asignar(PreparedStatement sentencia, T elemento) throws SQLException;
+    }
+
+    public static <T> void ejecutar(final Connection conexion, final String sql, final Iterable<T> elementos,
+                                    final AsignacionParametros<T> asignacion) throws SQLException {
+        var iterador = elementos.iterator();
+        if (!iterador.hasNext()) {
+            return;
+        }
+        try (var sentencia = conexion.prepareStatement(sql)) {
+            var pendientes = 0;
+            while (iterador.hasNext()) {
+                asignacion.asignar(sentencia, iterador.next());
+                sentencia.addBatch();
+                if (++pendientes == TAMANO_LOTE) {
+                    sentencia.executeBatch();
+                    pendientes = 0;
+                }
+            }
+            if (pendientes > 0) {
+                sentencia.executeBatch();
+            }
+        }
+    }
+}
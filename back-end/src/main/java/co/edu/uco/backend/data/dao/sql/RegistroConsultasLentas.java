@@ -0,0 +1,303 @@
+package co.edu.uco.backend.data.dao.sql;
+
+import co.edu.uco.backend.crosscutting.registro.RegistroLimitado;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Detector de consultas lentas a nivel JDBC. PostgreSQLDAOFactory entrega a los DAO la conexión
+ * envuelta por ConexionMedida; mientras esté habilitado, cada sentencia preparada se cronometra y se acumula por huella (el SQL
+ * con los literales reemplazados por ?), así las variantes de una misma consulta suman juntas.
+ * Las que superan el umbral se registran con una muestra de sus parámetros y, si está activo,
+ * con el plan de EXPLAIN ANALYZE. Los acumulados se consultan en /actuator/consultaslentas.
+ * Una sentencia que toca columnas con datos personales o credenciales (contraseña, usuario,
+ * teléfono, correo, documento, dirección) nunca muestra sus parámetros de texto ni su plan, que
+ * con parámetros enlazados puede repetir los valores en las condiciones de filtro.
+ */
+public final class RegistroConsultasLentas {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RegistroConsultasLentas.class);
+
+    private static final RegistroConsultasLentas INSTANCE = new RegistroConsultasLentas();
+
+    private static final Pattern ESPACIOS = Pattern.compile("\\s+");
+    private static final Pattern LISTA_PARAMETROS = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final int LONGITUD_MAXIMA_PARAMETRO = 100;
+    private static final Pattern COLUMNAS_SENSIBLES = Pattern.compile(
+            "\\b(contrasena|username|usuario|prefijo(telefono)?|telefono|correo|documento\\w*|direccion)\\b");
+    private static final String PARAMETRO_OCULTO = "<oculto>";
+
+    private volatile boolean habilitado = true;
+    private volatile long umbralNanos = TimeUnit.MILLISECONDS.toNanos(200);
+    private volatile int maximoHuellas = 2000;
+    private volatile int muestreoParametros = 10;
+    private volatile boolean capturarPlan;
+
+    // Por SQL exacto para no recalcular la huella en cada ejecución; varias entradas comparten huella
+    private final ConcurrentHashMap<String, Acumulado> porSentencia = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Acumulado> porHuella = new ConcurrentHashMap<>();
+    private final LongAdder descartadas = new LongAdder();
+    private final AtomicLong contadorLentas = new AtomicLong();
+    private final RegistroLimitado registroLentas = new RegistroLimitado(5, TimeUnit.SECONDS.toNanos(10));
+    private final RegistroLimitado registroPlanes = new RegistroLimitado(1, TimeUnit.MINUTES.toNanos(1));
+
+    private RegistroConsultasLentas() {
+        super();
+    }
+
+    public static RegistroConsultasLentas getInstance() {
+        return INSTANCE;
+    }
+
+    public void configurar(final boolean habilitado, final long umbralNanos, final int maximoHuellas,
+                           final int muestreoParametros, final boolean capturarPlan) {
+        this.habilitado = habilitado;
+        this.umbralNanos = Math.max(0, umbralNanos);
+        this.maximoHuellas = Math.max(1, maximoHuellas);
+        this.muestreoParametros = Math.max(1, muestreoParametros);
+        this.capturarPlan = capturarPlan;
+    }
+
+    public boolean estaHabilitado() {
+        return habilitado;
+    }
+
+    /**
+     * Las huellas con más tiempo total, de mayor a menor.
+     */
+    public List<EstadisticaConsulta> consultarMasCostosas(final int limite) {
+        return porHuella.values().stream()
+                .map(Acumulado::aEstadistica)
+                .sorted(Comparator.comparingDouble(EstadisticaConsulta::tiempoTotalMs).reversed())
+                .limit(Math.max(0, limite))
+                .toList();
+    }
+
+    public int cantidadHuellas() {
+        return porHuella.size();
+    }
+
+    // Sentencias que no se acumularon porque ya había maximoHuellas huellas distintas
+    public long cantidadDescartadas() {
+        return descartadas.sum();
+    }
+
+    public long getUmbralNanos() {
+        return umbralNanos;
+    }
+
+    public void reiniciar() {
+        porSentencia.clear();
+        porHuella.clear();
+        descartadas.reset();
+    }
+
+    /**
+     * Reemplaza literales de texto y numéricos por ?, colapsa listas de parámetros "(?, ?, ?)" en
+     * "(?+)" y normaliza espacios y mayúsculas fuera de los identificadores entre comillas dobles.
+     */
+    public static String calcularHuella(final String sql) {
+        var huella = new StringBuilder(sql.length());
+        var i = 0;
+        while (i < sql.length()) {
+            var caracter = sql.charAt(i);
+            if (caracter == '\'') {
+                i = saltarHasta(sql, i + 1, '\'');
+                huella.append('?');
+            } else if (caracter == '"') {
+                var fin = saltarHasta(sql, i + 1, '"');
+                huella.append(sql, i, fin);
+                i = fin;
+            } else if (Character.isDigit(caracter) && !esParteDeIdentificador(huella)) {
+                while (i < sql.length() && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                huella.append('?');
+            } else {
+                huella.append(Character.toLowerCase(caracter));
+                i++;
+            }
+        }
+        var normalizada = ESPACIOS.matcher(huella).replaceAll(" ").trim();
+        return LISTA_PARAMETROS.matcher(normalizada).replaceAll("(?+)");
+    }
+
+    void registrar(final Connection conexion, final String sql, final Object[] parametros, final int cantidadParametros,
+                   final long nanos, final boolean error) {
+        var acumulado = porSentencia.get(sql);
+        if (acumulado == null) {
+            acumulado = ubicarAcumulado(sql);
+            if (acumulado == null) {
+                descartadas.increment();
+                return;
+            }
+        }
+
+        var lenta = nanos >= umbralNanos;
+        acumulado.sumar(nanos, lenta, error);
+        if (lenta) {
+            reportarLenta(conexion, sql, acumulado, Arrays.copyOf(parametros, cantidadParametros), nanos);
+        }
+    }
+
+    private Acumulado ubicarAcumulado(final String sql) {
+        if (porSentencia.size() >= maximoHuellas * 4) {
+            return null;
+        }
+        var huella = calcularHuella(sql);
+        var acumulado = porHuella.get(huella);
+        if (acumulado == null) {
+            if (porHuella.size() >= maximoHuellas) {
+                return null;
+            }
+            acumulado = porHuella.computeIfAbsent(huella, Acumulado::new);
+        }
+        var existente = porSentencia.putIfAbsent(sql, acumulado);
+        return existente == null ? acumulado : existente;
+    }
+
+    private void reportarLenta(final Connection conexion, final String sql, final Acumulado acumulado,
+                               final Object[] parametros, final long nanos) {
+        var omitidas = registroLentas.intentar(acumulado.huella);
+        var plan = capturarPlan && !acumulado.sensible && esConsulta(sql) && registroPlanes.intentar(acumulado.huella) != RegistroLimitado.OMITIR
+                ? capturarPlan(conexion, sql, parametros)
+                : null;
+        if (plan != null) {
+            acumulado.plan.set(plan);
+        }
+        if (omitidas == RegistroLimitado.OMITIR) {
+            return;
+        }
+
+        // Los parámetros pueden traer datos personales: solo se muestran en una de cada muestreoParametros
+        var conParametros = contadorLentas.incrementAndGet() % muestreoParametros == 0;
+        LOGGER.warn("evento=consulta_lenta duracion_ms={} umbral_ms={} huella=\"{}\" parametros={} omitidas={}{}",
+                String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0),
+                TimeUnit.NANOSECONDS.toMillis(umbralNanos), acumulado.huella,
+                conParametros ? describirParametros(parametros, acumulado.sensible) : "no_muestreados", omitidas,
+                plan == null ? "" : System.lineSeparator() + plan);
+    }
+
+    // EXPLAIN ANALYZE vuelve a ejecutar la consulta; dentro de una transacción se aísla con un
+    // savepoint para que un error del plan no deje abortada la transacción del DAO
+    private static String capturarPlan(final Connection conexion, final String sql, final Object[] parametros) {
+        try {
+            var savepoint = conexion.getAutoCommit() ? null : conexion.setSavepoint();
+            try (var sentencia = conexion.prepareStatement("EXPLAIN (ANALYZE, BUFFERS) " + sql)) {
+                for (var i = 0; i < parametros.length; i++) {
+                    sentencia.setObject(i + 1, parametros[i]);
+                }
+                var plan = new StringBuilder();
+                try (var resultados = sentencia.executeQuery()) {
+                    while (resultados.next()) {
+                        plan.append(resultados.getString(1)).append(System.lineSeparator());
+                    }
+                }
+                if (savepoint != null) {
+                    conexion.releaseSavepoint(savepoint);
+                }
+                return plan.toString().stripTrailing();
+            } catch (SQLException exception) {
+                if (savepoint != null) {
+                    conexion.rollback(savepoint);
+                }
+                throw exception;
+            }
+        } catch (SQLException exception) {
+            LOGGER.debug("No fue posible capturar el plan de la consulta lenta: {}", exception.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean esConsulta(final String sql) {
+        var inicio = sql.stripLeading();
+        return inicio.regionMatches(true, 0, "SELECT", 0, 6);
+    }
+
+    // En una sentencia sensible solo se muestran llaves, números, fechas y booleanos
+    private static String describirParametros(final Object[] parametros, final boolean sensible) {
+        return Arrays.stream(parametros)
+                .map(parametro -> {
+                    if (sensible && parametro instanceof CharSequence) {
+                        return PARAMETRO_OCULTO;
+                    }
+                    var texto = String.valueOf(parametro);
+                    return texto.length() > LONGITUD_MAXIMA_PARAMETRO ? texto.substring(0, LONGITUD_MAXIMA_PARAMETRO) + "…" : texto;
+                })
+                .toList()
+                .toString();
+    }
+
+    private static int saltarHasta(final String sql, final int desde, final char cierre) {
+        var i = desde;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == cierre) {
+                // Comilla duplicada: es un escape dentro del literal
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == cierre) {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean esParteDeIdentificador(final StringBuilder huella) {
+        if (huella.isEmpty()) {
+            return false;
+        }
+        var anterior = huella.charAt(huella.length() - 1);
+        return Character.isLetterOrDigit(anterior) || anterior == '_' || anterior == '$';
+    }
+
+    private static final class Acumulado {
+
+        private final String huella;
+        private final LongAdder ejecuciones = new LongAdder();
+        private final LongAdder lentas = new LongAdder();
+        private final LongAdder errores = new LongAdder();
+        private final LongAdder nanosTotales = new LongAdder();
+        private final AtomicLong nanosMaximo = new AtomicLong();
+        private final AtomicReference<String> plan = new AtomicReference<>();
+        private final boolean sensible;
+
+        private Acumulado(final String huella) {
+            this.huella = huella;
+            this.sensible = COLUMNAS_SENSIBLES.matcher(huella).find();
+        }
+
+        private void sumar(final long nanos, final boolean lenta, final boolean error) {
+            ejecuciones.increment();
+            nanosTotales.add(nanos);
+            nanosMaximo.accumulateAndGet(nanos, Math::max);
+            if (lenta) {
+                lentas.increment();
+            }
+            if (error) {
+                errores.increment();
+            }
+        }
+
+        private EstadisticaConsulta aEstadistica() {
+            var cantidad = ejecuciones.sum();
+            var totalMs = nanosTotales.sum() / 1_000_000.0;
+            return new EstadisticaConsulta(huella, cantidad, lentas.sum(), errores.sum(), totalMs,
+                    cantidad == 0 ? 0.0 : totalMs / cantidad, nanosMaximo.get() / 1_000_000.0, plan.get());
+        }
+    }
+}
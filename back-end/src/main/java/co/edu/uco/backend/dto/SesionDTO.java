@@ -0,0 +1,72 @@
+package co.edu.uco.backend.dto;
+
+import co.edu.uco.backend.crosscutting.utilitarios.UtilObjeto;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilTexto;
+
+import java.time.Instant;
+
+public final class SesionDTO {
+
+    private String token;
+    private String tipoUsuario;
+    private Instant expiraEn;
+    private UsuarioDTO usuario;
+
+    public SesionDTO() {
+        setToken(UtilTexto.getInstance().obtenerValorDefecto());
+        setTipoUsuario(UtilTexto.getInstance().obtenerValorDefecto());
+        setExpiraEn(Instant.EPOCH);
+        setUsuario(UsuarioDTO.obtenerUsuarioDefecto());
+    }
+
+    public SesionDTO(final String token, final String tipoUsuario, final Instant expiraEn, final UsuarioDTO usuario) {
+        setToken(token);
+        setTipoUsuario(tipoUsuario);
+        setExpiraEn(expiraEn);
+        setUsuario(usuario);
+    }
+
+    public static SesionDTO obtenerValorDefecto() {
+        return new SesionDTO();
+    }
+
+    public static SesionDTO obtenerValorDefecto(final SesionDTO dto) {
+        return UtilObjeto.getInstance().obtenerValorDefecto(dto, obtenerValorDefecto());
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public String getTipoUsuario() {
+        return tipoUsuario;
+    }
+
+    public Instant getExpiraEn() {
+        return expiraEn;
+    }
+
+    public UsuarioDTO getUsuario() {
+        return usuario;
+    }
+
+    public SesionDTO setToken(final String token) {
+        this.token = UtilTexto.getInstance().quitarEspaciosEnBlancoInicioFin(token);
+        return this;
+    }
+
+    public SesionDTO setTipoUsuario(final String tipoUsuario) {
+        this.tipoUsuario = UtilTexto.getInstance().quitarEspaciosEnBlancoInicioFin(tipoUsuario);
+        return this;
+    }
+
+    public SesionDTO setExpiraEn(final Instant expiraEn) {
+        this.expiraEn = UtilObjeto.getInstance().obtenerValorDefecto(expiraEn, Instant.EPOCH);
+        return this;
+    }
+
+    public SesionDTO setUsuario(final UsuarioDTO usuario) {
+        this.usuario = UsuarioDTO.obtenerValorDefecto(usuario);
+        return this;
+    }
+}
@@ -0,0 +1,29 @@
+-- Restricción de exclusión: dos reservas activas de la misma cancha no pueden cruzarse.
+-- Es la última barrera frente a reservas simultáneas (después del candado por cancha/fecha en la
+-- aplicación y de pg_advisory_xact_lock); si se viola, el INSERT falla con SQLState 23P01.
+-- Los intervalos son [horainicio, horafin) y una horafin 00:00 representa el fin del día.
+-- Las reservas en estado 'Cancelada' quedan por fuera, así su horario se puede volver a reservar.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+DO $$
+DECLARE
+    estado_cancelada doodb.estadoreserva.codigoestadores%TYPE;
+BEGIN
+    SELECT codigoestadores INTO estado_cancelada
+    FROM doodb.estadoreserva
+    WHERE LOWER(nombre) = 'cancelada';
+
+    EXECUTE format(
+        'ALTER TABLE doodb.reserva ADD CONSTRAINT reserva_sin_solapamiento EXCLUDE USING gist ('
+            || 'codigocancha WITH =, '
+            || 'tsrange('
+            ||     'fechausocancha + horainicio, '
+            ||     'CASE WHEN horafin = TIME ''00:00'' THEN (fechausocancha + 1) + TIME ''00:00'' '
+            ||     'ELSE fechausocancha + horafin END, '
+            ||     '''[)'') WITH &&'
+            || ') WHERE (codigoestadores IS DISTINCT FROM %L)',
+        estado_cancelada
+    );
+END
+$$;
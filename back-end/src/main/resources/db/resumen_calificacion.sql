@@ -0,0 +1,63 @@
+-- Resúmenes de calificación por cancha y por organización: cantidad de reseñas, suma de las
+-- calificaciones e histograma de 1 a 5 estrellas. La aplicación los mantiene en la misma
+-- transacción que la reseña con INSERT ... ON CONFLICT DO UPDATE sumando deltas, y version sube
+-- con cada cambio para que la caché en memoria descarte resúmenes viejos.
+-- Al final se llenan con las reseñas que ya existen.
+
+CREATE TABLE IF NOT EXISTS doodb.resumencalificacioncancha (
+    codigocancha UUID PRIMARY KEY REFERENCES doodb.cancha (codigocancha) ON DELETE CASCADE,
+    cantidad INTEGER NOT NULL DEFAULT 0,
+    suma BIGINT NOT NULL DEFAULT 0,
+    unaestrella INTEGER NOT NULL DEFAULT 0,
+    dosestrellas INTEGER NOT NULL DEFAULT 0,
+    tresestrellas INTEGER NOT NULL DEFAULT 0,
+    cuatroestrellas INTEGER NOT NULL DEFAULT 0,
+    cincoestrellas INTEGER NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS doodb.resumencalificacionorganizacion (
+    codigoorganizacion UUID PRIMARY KEY REFERENCES doodb.organizaciondeportiva (codigoorganizacion) ON DELETE CASCADE,
+    cantidad INTEGER NOT NULL DEFAULT 0,
+    suma BIGINT NOT NULL DEFAULT 0,
+    unaestrella INTEGER NOT NULL DEFAULT 0,
+    dosestrellas INTEGER NOT NULL DEFAULT 0,
+    tresestrellas INTEGER NOT NULL DEFAULT 0,
+    cuatroestrellas INTEGER NOT NULL DEFAULT 0,
+    cincoestrellas INTEGER NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO doodb.resumencalificacioncancha
+    (codigocancha, cantidad, suma, unaestrella, dosestrellas, tresestrellas, cuatroestrellas, cincoestrellas, version)
+SELECT r.codigocancha,
+       COUNT(*),
+       SUM(re.calificacion),
+       COUNT(*) FILTER (WHERE re.calificacion = 1),
+       COUNT(*) FILTER (WHERE re.calificacion = 2),
+       COUNT(*) FILTER (WHERE re.calificacion = 3),
+       COUNT(*) FILTER (WHERE re.calificacion = 4),
+       COUNT(*) FILTER (WHERE re.calificacion = 5),
+       1
+FROM doodb.resena re
+JOIN doodb.reserva r ON r.codigoreserva = re.codigoreserva
+GROUP BY r.codigocancha
+ON CONFLICT (codigocancha) DO NOTHING;
+
+INSERT INTO doodb.resumencalificacionorganizacion
+    (codigoorganizacion, cantidad, suma, unaestrella, dosestrellas, tresestrellas, cuatroestrellas, cincoestrellas, version)
+SELECT c.codigoorganizacion,
+       COUNT(*),
+       SUM(re.calificacion),
+       COUNT(*) FILTER (WHERE re.calificacion = 1),
+       COUNT(*) FILTER (WHERE re.calificacion = 2),
+       COUNT(*) FILTER (WHERE re.calificacion = 3),
+       COUNT(*) FILTER (WHERE re.calificacion = 4),
+       COUNT(*) FILTER (WHERE re.calificacion = 5),
+       1
+FROM doodb.resena re
+JOIN doodb.reserva r ON r.codigoreserva = re.codigoreserva
+JOIN doodb.cancha c ON c.codigocancha = r.codigocancha
+WHERE c.codigoorganizacion IS NOT NULL
+GROUP BY c.codigoorganizacion
+ON CONFLICT (codigoorganizacion) DO NOTHING;
@@ -0,0 +1,83 @@
+package co.edu.uco.backend.api;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.exceptions.BusinessLogicBackEndException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Los rechazos esperados y los fallos se registran con cupos separados, y un fallo sin excepción
+ * raíz sigue llevando su traza.
+ */
+class ControladorGlobalExcepcionesTest {
+
+    private final ListAppender<ILoggingEvent> eventos = new ListAppender<>();
+    private final Logger logger = (Logger) LoggerFactory.getLogger(ControladorGlobalExcepciones.class);
+
+    private ControladorGlobalExcepciones controlador;
+
+    @BeforeEach
+    void capturarRegistro() {
+        eventos.start();
+        logger.addAppender(eventos);
+        // Un solo registro por ventana, y una ventana que no alcanza a pasar durante la prueba
+        controlador = new ControladorGlobalExcepciones(1, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void soltarRegistro() {
+        logger.detachAppender(eventos);
+    }
+
+    @Test
+    void unaRafagaDeRechazosNoOcultaUnFallo() {
+        for (int i = 0; i < 5; i++) {
+            controlar(BusinessLogicBackEndException.reportar("La cancha no está disponible"));
+        }
+        controlar(BusinessLogicBackEndException.reportarFallo("No fue posible registrar la reserva",
+                "No existe el estado 'Pendiente'"));
+
+        assertEquals(1, contar(Level.INFO));
+        assertEquals(1, contar(Level.WARN));
+    }
+
+    @Test
+    void unFalloSinExcepcionRaizSeRegistraConTraza() {
+        var fallo = BusinessLogicBackEndException.reportarFallo("No fue posible registrar la reserva",
+                "No existe el estado 'Pendiente'");
+        var rechazo = BusinessLogicBackEndException.reportar("La cancha no está disponible");
+
+        assertFalse(fallo.isEsperada());
+        assertTrue(fallo.getStackTrace().length > 0);
+        assertTrue(rechazo.isEsperada());
+
+        controlar(fallo);
+        var registrado = eventos.list.stream().filter(evento -> evento.getLevel() == Level.WARN).findFirst();
+        assertTrue(registrado.isPresent());
+        assertNotNull(registrado.get().getThrowableProxy());
+    }
+
+    private void controlar(BackEndException excepcion) {
+        controlador.controlarBackendException(excepcion, mock(HttpServletRequest.class), mock(HttpServletResponse.class));
+    }
+
+    private long contar(Level nivel) {
+        return eventos.list.stream().filter(evento -> evento.getLevel() == nivel).count();
+    }
+}
@@ -0,0 +1,172 @@
+package co.edu.uco.backend.api;
+
+import co.edu.uco.backend.businesslogic.facade.Exportacion;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * El CSV se escribe según RFC 4180 sin dejar fórmulas evaluables, y el cupo de
+ * {@link LimiteExportaciones} se libera siempre: al terminar, al vencer la duración máxima y cuando
+ * el cliente deja de recibir.
+ */
+class RespuestaExportacionTest {
+
+    private static final List<RespuestaExportacion.Columna<List<Object>>> COLUMNAS = List.of(
+            new RespuestaExportacion.Columna<>("nombre", fila -> fila.get(0)),
+            new RespuestaExportacion.Columna<>("valor", fila -> fila.get(1)));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void unSoloCupo() {
+        LimiteExportaciones.getInstance().configurar(1, LimiteExportaciones.DURACION_MAXIMA_MS_DEFECTO);
+    }
+
+    @AfterEach
+    void restaurarLimite() {
+        LimiteExportaciones.getInstance().configurar(LimiteExportaciones.SIMULTANEAS_DEFECTO,
+                LimiteExportaciones.DURACION_MAXIMA_MS_DEFECTO);
+    }
+
+    @Test
+    void elCsvEntrecomillaLosCamposConSeparadorComillasOSaltos() throws Exception {
+        var csv = escribirCsv(List.of(
+                List.of("simple", 1),
+                List.of("con, coma", "dice \"hola\""),
+                List.of("dos\nlíneas", "retorno\rsolo"),
+                Arrays.asList(null, 2.5E-7)));
+
+        assertEquals("nombre,valor\r\n"
+                + "simple,1\r\n"
+                + "\"con, coma\",\"dice \"\"hola\"\"\"\r\n"
+                + "\"dos\nlíneas\",\"retorno\rsolo\"\r\n"
+                + ",0.00000025\r\n", csv);
+    }
+
+    @Test
+    void losTextosQueEmpiezanComoFormulaSePrefijanConApostrofo() throws Exception {
+        var csv = escribirCsv(List.of(
+                List.of("=HYPERLINK(\"http://x\")", "+57 300"),
+                List.of("-2+3", "@SUM(A1)"),
+                List.of("\tcmd", -5),
+                List.of("a=b", "")));
+
+        assertEquals("nombre,valor\r\n"
+                + "\"'=HYPERLINK(\"\"http://x\"\")\",'+57 300\r\n"
+                + "'-2+3,'@SUM(A1)\r\n"
+                + "'\tcmd,-5\r\n"
+                + "a=b,\r\n", csv);
+    }
+
+    @Test
+    void sinCupoSeResponde503SinRecorrerLaExportacion() throws Exception {
+        var recorridas = new AtomicInteger();
+        Exportacion<List<Object>> exportacion = consumidor -> {
+            recorridas.incrementAndGet();
+            consumidor.accept(List.of("a", 1));
+        };
+
+        var primera = construir(exportacion);
+        var rechazada = construir(exportacion);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rechazada.getStatusCode());
+        assertEquals("30", rechazada.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNull(rechazada.getBody());
+        assertEquals(0, recorridas.get());
+
+        primera.getBody().writeTo(new ByteArrayOutputStream());
+        assertEquals(1, recorridas.get());
+        assertEquals(HttpStatus.OK, construir(exportacion).getStatusCode());
+    }
+
+    @Test
+    void alVencerLaDuracionMaximaSeDejaDeLeerYSeLiberaElCupo() throws Exception {
+        LimiteExportaciones.getInstance().configurar(1, 1);
+        var entregadas = new AtomicInteger();
+        Exportacion<List<Object>> exportacion = consumidor -> {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(20));
+            for (var i = 0; i < 10; i++) {
+                consumidor.accept(List.of("fila", i));
+                entregadas.incrementAndGet();
+            }
+        };
+
+        var respuesta = construir(exportacion);
+        assertThrows(UncheckedIOException.class, () -> respuesta.getBody().writeTo(new ByteArrayOutputStream()));
+
+        assertEquals(0, entregadas.get());
+        assertCupoLibre();
+    }
+
+    @Test
+    void siElClienteDejaDeRecibirSeInterrumpeLaExportacionYSeLiberaElCupo() throws Exception {
+        var entregadas = new AtomicInteger();
+        Exportacion<List<Object>> exportacion = consumidor -> {
+            for (var i = 0; i < 100_000; i++) {
+                consumidor.accept(List.of("fila con algo de contenido", i));
+                entregadas.incrementAndGet();
+            }
+        };
+        OutputStream desconectado = new OutputStream() {
+            @Override
+            public void write(final int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void write(final byte[] b, final int desde, final int cantidad) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        var respuesta = construir(exportacion);
+        var excepcion = assertThrows(UncheckedIOException.class, () -> respuesta.getBody().writeTo(desconectado));
+
+        assertInstanceOf(IOException.class, excepcion.getCause());
+        assertTrue(entregadas.get() < 100_000);
+        assertCupoLibre();
+    }
+
+    private String escribirCsv(final List<List<Object>> filas) throws Exception {
+        var respuesta = construir(consumidor -> filas.forEach(consumidor));
+        var salida = new ByteArrayOutputStream();
+        respuesta.getBody().writeTo(salida);
+        assertCupoLibre();
+        return salida.toString(StandardCharsets.UTF_8);
+    }
+
+    private ResponseEntity<StreamingResponseBody> construir(final Exportacion<List<Object>> exportacion) throws Exception {
+        return RespuestaExportacion.construir("prueba", RespuestaExportacion.FORMATO_CSV, false, COLUMNAS,
+                exportacion, objectMapper);
+    }
+
+    private static void assertCupoLibre() {
+        var cupo = LimiteExportaciones.getInstance().tomar();
+        assertNotNull(cupo);
+        cupo.liberar();
+    }
+}
@@ -0,0 +1,91 @@
+package co.edu.uco.backend.businesslogic.businesslogic.impl;
+
+import co.edu.uco.backend.businesslogic.businesslogic.domain.ClienteDomain;
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilEncrypt;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class ClienteBusinessLogicImplTest {
+
+    private static final String CONTRASENA = "Secreta.123";
+
+    private DAOFactory factory;
+    private ClienteBusinessLogicImpl logica;
+
+    @BeforeEach
+    void crearLogica() {
+        // Pocas iteraciones para que la prueba no dependa del costo real de PBKDF2
+        UtilEncrypt.configurarIteraciones(1_000);
+        factory = mock(DAOFactory.class);
+        logica = new ClienteBusinessLogicImpl(factory);
+    }
+
+    @AfterEach
+    void restaurarIteraciones() {
+        UtilEncrypt.configurarIteraciones(65_536);
+    }
+
+    @Test
+    void cifrarContrasenaNoUsaLaFactoriaNiRecifraSiNoHayContrasenaNueva() throws Exception {
+        var sinContrasena = cliente("");
+        assertSame(sinContrasena, logica.cifrarContrasena(sinContrasena));
+
+        var cifrado = logica.cifrarContrasena(cliente(CONTRASENA));
+        assertTrue(UtilEncrypt.esHash(cifrado.getContrasena()));
+        verifyNoInteractions(factory);
+    }
+
+    @Test
+    void verificarCredencialesComparaSinUsarLaFactoriaYNoDevuelveElHash() throws Exception {
+        var credenciales = cliente(UtilEncrypt.hash(CONTRASENA));
+
+        var usuario = logica.verificarCredenciales(credenciales, CONTRASENA);
+
+        assertEquals(credenciales.getId(), usuario.getId());
+        assertEquals("", usuario.getContrasena());
+        verifyNoInteractions(factory);
+    }
+
+    @Test
+    void usuarioInexistenteYContrasenaErradaSeRechazanIgual() throws Exception {
+        var inexistente = assertThrows(BackEndException.class, () -> logica.verificarCredenciales(null, CONTRASENA));
+        var errada = assertThrows(BackEndException.class,
+                () -> logica.verificarCredenciales(cliente(UtilEncrypt.hash(CONTRASENA)), "Otra.12345"));
+
+        assertEquals(errada.getMensajeUsuario(), inexistente.getMensajeUsuario());
+    }
+
+    @Test
+    void contrasenaHeredadaEnTextoPlanoSeAceptaUnaVezYSeRecifra() throws Exception {
+        var credenciales = cliente(CONTRASENA);
+
+        assertNotNull(logica.verificarCredenciales(credenciales, CONTRASENA));
+        var recifrada = logica.recifrarContrasena(credenciales, CONTRASENA);
+
+        assertTrue(UtilEncrypt.esHash(recifrada));
+        assertTrue(UtilEncrypt.matches(CONTRASENA, recifrada));
+    }
+
+    @Test
+    void hashConLasIteracionesConfiguradasNoSeRecifra() throws Exception {
+        assertNull(logica.recifrarContrasena(cliente(UtilEncrypt.hash(CONTRASENA)), CONTRASENA));
+    }
+
+    private static ClienteDomain cliente(final String contrasena) {
+        return new ClienteDomain(UUID.randomUUID(), "Ana Pérez", "anaperez", contrasena, "+57", "3001234567");
+    }
+}
@@ -0,0 +1,235 @@
+package co.edu.uco.backend.businesslogic.businesslogic.impl;
+
+import co.edu.uco.backend.businesslogic.businesslogic.domain.CanchaDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.domain.HorarioEspecialDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.domain.ReservaDomain;
+import co.edu.uco.backend.businesslogic.businesslogic.importacion.FilaImportacion;
+import co.edu.uco.backend.crosscutting.constants.DiaSemana;
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.data.dao.factory.memoria.MemoriaDAOFactory;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.entity.CanchaEntity;
+import co.edu.uco.backend.entity.ClienteEntity;
+import co.edu.uco.backend.entity.EstadoReservaEntity;
+import co.edu.uco.backend.entity.HorarioDisponibleEntity;
+import co.edu.uco.backend.entity.OrganizacionDeportivaEntity;
+import co.edu.uco.backend.entity.ReservaEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Un cierre especial cancela, en la misma transacción, las reservas activas de la cancha que caen
+ * dentro de sus fechas y se cruzan con su franja horaria; las demás quedan como estaban. Una reserva
+ * que se registra mientras el cierre está abierto espera su bloqueo y no queda activa dentro de él.
+ */
+class HorarioEspecialBusinessLogicImplTest {
+
+    private final BaseDatosMemoria baseDatos = BaseDatosMemoria.getInstance();
+    private final UUID canchaId = UtilUUID.generarNuevoUUIDOrdenado();
+    private final UUID pendienteId = UtilUUID.generarNuevoUUIDOrdenado();
+    private final UUID canceladaId = UtilUUID.generarNuevoUUIDOrdenado();
+    private final UUID clienteId = UtilUUID.generarNuevoUUIDOrdenado();
+    private final UUID organizacionId = UtilUUID.generarNuevoUUIDOrdenado();
+    private final LocalDate manana = LocalDate.now().plusDays(1);
+
+    @BeforeEach
+    void registrarCanchaYEstados() throws Exception {
+        var sesion = baseDatos.abrirSesion();
+        sesion.crear(baseDatos.getEstadosReserva(), new EstadoReservaEntity(pendienteId, "Pendiente"));
+        sesion.crear(baseDatos.getEstadosReserva(), new EstadoReservaEntity(canceladaId, "Cancelada"));
+
+        var cancha = new CanchaEntity();
+        cancha.setId(canchaId);
+        sesion.crear(baseDatos.getOrganizaciones(), new OrganizacionDeportivaEntity(organizacionId));
+        cancha.setOrganizacion(new OrganizacionDeportivaEntity(organizacionId));
+        sesion.crear(baseDatos.getCanchas(), cancha);
+
+        var cliente = new ClienteEntity();
+        cliente.setId(clienteId);
+        sesion.crear(baseDatos.getClientes(), cliente);
+        for (DiaSemana dia : DiaSemana.values()) {
+            sesion.crear(baseDatos.getHorariosDisponibles(), new HorarioDisponibleEntity(UtilUUID.generarNuevoUUIDOrdenado(),
+                    new CanchaEntity(canchaId), dia, LocalTime.of(6, 0), LocalTime.of(22, 0)));
+        }
+    }
+
+    @AfterEach
+    void vaciar() {
+        baseDatos.vaciar();
+    }
+
+    @Test
+    void cancelaSoloLasReservasQueSeCruzanConElCierre() throws Exception {
+        var dentro = reservar(manana, LocalTime.of(10, 0), LocalTime.of(11, 0));
+        var borde = reservar(manana, LocalTime.of(13, 30), LocalTime.of(15, 0));
+        var antes = reservar(manana, LocalTime.of(8, 0), LocalTime.of(9, 0));
+        var otroDia = reservar(manana.plusDays(5), LocalTime.of(10, 0), LocalTime.of(11, 0));
+
+        var factory = new MemoriaDAOFactory();
+        factory.abrirConexion();
+        try {
+            factory.iniciarTransaccion();
+            new HorarioEspecialBusinessLogicImpl(factory).registrarNuevoHorarioEspecial(canchaId,
+                    new HorarioEspecialDomain(UtilUUID.obtenerValorDefecto(), null, manana, manana.plusDays(1),
+                            LocalTime.of(9, 0), LocalTime.of(14, 0), "Mantenimiento de la grama"));
+            factory.confirmarTransaccion();
+        } finally {
+            factory.cerrarConexion();
+        }
+
+        assertEquals(canceladaId, estadoDe(dentro));
+        assertEquals(canceladaId, estadoDe(borde));
+        assertEquals(pendienteId, estadoDe(antes));
+        assertEquals(pendienteId, estadoDe(otroDia));
+    }
+
+    @Test
+    void losCierresImportadosTambienCancelanLasReservas() throws Exception {
+        var dentro = reservar(manana, LocalTime.of(10, 0), LocalTime.of(11, 0));
+        var despues = reservar(manana, LocalTime.of(15, 0), LocalTime.of(16, 0));
+
+        var factory = new MemoriaDAOFactory();
+        factory.abrirConexion();
+        try {
+            factory.iniciarTransaccion();
+            var resultado = new ImportacionBusinessLogicImpl(factory).importarHorariosEspeciales(organizacionId,
+                    List.of(new FilaImportacion(2, Map.of(
+                            "cancha", canchaId.toString(),
+                            "fechainicio", manana.toString(),
+                            "fechafin", manana.toString(),
+                            "horainicio", "09:00",
+                            "horafin", "14:00",
+                            "motivo", "Torneo"))));
+            assertTrue(resultado.esExitoso());
+            factory.confirmarTransaccion();
+        } finally {
+            factory.cerrarConexion();
+        }
+
+        assertEquals(canceladaId, estadoDe(dentro));
+        assertEquals(pendienteId, estadoDe(despues));
+    }
+
+    @Test
+    void unaReservaQueLlegaDuranteElCierreLoEsperaYSeRechaza() throws Exception {
+        // La agenda en memoria queda calculada sin el cierre, como la tendría otra instancia
+        var lectura = new MemoriaDAOFactory();
+        lectura.abrirConexion();
+        new CanchaBusinessLogicImpl(lectura).consultarDisponibilidad(canchaId, manana, manana);
+        lectura.cerrarConexion();
+
+        var cierre = new MemoriaDAOFactory();
+        cierre.abrirConexion();
+        cierre.iniciarTransaccion();
+        new HorarioEspecialBusinessLogicImpl(cierre).registrarNuevoHorarioEspecial(canchaId, cierreDeManana());
+
+        var fallo = new AtomicReference<Exception>();
+        var reserva = enTransaccion(fallo, factory -> new ReservaBusinessLogicImpl(factory).registrarNuevaReserva(clienteId,
+                new ReservaDomain(UtilUUID.obtenerValorDefecto(), null, new CanchaDomain(canchaId), null, manana,
+                        LocalTime.of(10, 0), LocalTime.of(11, 0), null)));
+        esperarBloqueo(reserva);
+
+        cierre.confirmarTransaccion();
+        cierre.cerrarConexion();
+        reserva.join();
+
+        assertInstanceOf(BackEndException.class, fallo.get());
+        assertTrue(reservasDeLaCancha().isEmpty());
+    }
+
+    @Test
+    void unCierreQueLlegaDuranteUnaReservaLaEsperaYLaCancela() throws Exception {
+        var registro = new MemoriaDAOFactory();
+        registro.abrirConexion();
+        registro.iniciarTransaccion();
+        new ReservaBusinessLogicImpl(registro).registrarNuevaReserva(clienteId, new ReservaDomain(UtilUUID.obtenerValorDefecto(),
+                null, new CanchaDomain(canchaId), null, manana, LocalTime.of(10, 0), LocalTime.of(11, 0), null));
+
+        var fallo = new AtomicReference<Exception>();
+        var cierre = enTransaccion(fallo, factory ->
+                new HorarioEspecialBusinessLogicImpl(factory).registrarNuevoHorarioEspecial(canchaId, cierreDeManana()));
+        esperarBloqueo(cierre);
+
+        registro.confirmarTransaccion();
+        registro.cerrarConexion();
+        cierre.join();
+
+        assertNull(fallo.get());
+        var reservas = reservasDeLaCancha();
+        assertEquals(1, reservas.size());
+        assertEquals(canceladaId, reservas.get(0).getEstado().getId());
+    }
+
+    private HorarioEspecialDomain cierreDeManana() {
+        return new HorarioEspecialDomain(UtilUUID.obtenerValorDefecto(), null, manana, manana,
+                LocalTime.of(9, 0), LocalTime.of(14, 0), "Torneo");
+    }
+
+    private interface Operacion {
+        void ejecutar(MemoriaDAOFactory factory) throws Exception;
+    }
+
+    private static Thread enTransaccion(final AtomicReference<Exception> fallo, final Operacion operacion) {
+        var hilo = new Thread(() -> {
+            try {
+                var factory = new MemoriaDAOFactory();
+                factory.abrirConexion();
+                try {
+                    factory.iniciarTransaccion();
+                    operacion.ejecutar(factory);
+                    factory.confirmarTransaccion();
+                } catch (Exception exception) {
+                    factory.cancelarTransaccion();
+                    throw exception;
+                } finally {
+                    factory.cerrarConexion();
+                }
+            } catch (Exception exception) {
+                fallo.set(exception);
+            }
+        });
+        hilo.start();
+        return hilo;
+    }
+
+    // El hilo queda esperando el candado de la agenda que la otra transacción tiene tomado
+    private static void esperarBloqueo(final Thread hilo) throws InterruptedException {
+        while (hilo.getState() != Thread.State.WAITING) {
+            if (!hilo.isAlive()) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private List<ReservaEntity> reservasDeLaCancha() {
+        return baseDatos.abrirSesion().consultar(baseDatos.getReservas(), fila -> canchaId.equals(fila.getCancha().getId()));
+    }
+
+    private UUID reservar(final LocalDate fecha, final LocalTime horaInicio, final LocalTime horaFin) throws Exception {
+        var id = UtilUUID.generarNuevoUUIDOrdenado();
+        var cliente = new ClienteEntity();
+        cliente.setId(UtilUUID.generarNuevoUUIDOrdenado());
+        baseDatos.abrirSesion().crear(baseDatos.getReservas(), new ReservaEntity(id, cliente, new CanchaEntity(canchaId),
+                LocalDate.now(), fecha, horaInicio, horaFin, new EstadoReservaEntity(pendienteId)));
+        return id;
+    }
+
+    private UUID estadoDe(final UUID reservaId) {
+        return baseDatos.abrirSesion().consultarPorId(baseDatos.getReservas(), reservaId).getEstado().getId();
+    }
+}
@@ -0,0 +1,140 @@
+package co.edu.uco.backend.businesslogic.businesslogic.impl;
+
+import co.edu.uco.backend.businesslogic.businesslogic.importacion.FilaImportacion;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.data.dao.busqueda.IndiceFacetasCanchas;
+import co.edu.uco.backend.data.dao.entity.cancha.CanchaDAO;
+import co.edu.uco.backend.data.dao.entity.cancha.FichaCancha;
+import co.edu.uco.backend.data.dao.entity.cancha.impl.indice.CanchaIndicesDAO;
+import co.edu.uco.backend.data.dao.entity.organizaciondeportiva.OrganizacionDeportivaDAO;
+import co.edu.uco.backend.data.dao.entity.superficie.SuperficieDAO;
+import co.edu.uco.backend.data.dao.entity.tipocancha.TipoCanchaDAO;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.entity.CanchaEntity;
+import co.edu.uco.backend.entity.OrganizacionDeportivaEntity;
+import co.edu.uco.backend.entity.SuperficieEntity;
+import co.edu.uco.backend.entity.TipoCanchaEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * La importación de canchas consulta la base de datos una cantidad fija de veces, no una por fila:
+ * una sola consulta para los nombres ya registrados y, al cargar, una sola relectura de las fichas
+ * y otra de las posiciones para los índices.
+ */
+class ImportacionBusinessLogicImplTest {
+
+    private static final int FILAS = 50;
+
+    private final UUID organizacionId = UtilUUID.generarNuevoUUIDOrdenado();
+    private final UUID tipoId = UtilUUID.generarNuevoUUIDOrdenado();
+    private final UUID superficieId = UtilUUID.generarNuevoUUIDOrdenado();
+    private final List<Runnable> alConfirmar = new ArrayList<>();
+
+    private DAOFactory factory;
+    private CanchaDAO canchas;
+
+    @BeforeEach
+    void configurarFactoria() throws Exception {
+        factory = mock(DAOFactory.class);
+        canchas = mock(CanchaDAO.class);
+
+        var organizaciones = mock(OrganizacionDeportivaDAO.class);
+        when(organizaciones.consultarPorId(organizacionId)).thenReturn(new OrganizacionDeportivaEntity(organizacionId));
+        var tipos = mock(TipoCanchaDAO.class);
+        when(tipos.consultarPorId(tipoId)).thenReturn(new TipoCanchaEntity(tipoId));
+        var superficies = mock(SuperficieDAO.class);
+        when(superficies.consultarPorId(superficieId)).thenReturn(new SuperficieEntity(superficieId));
+
+        when(factory.getOrganizacionDeportivaDAO()).thenReturn(organizaciones);
+        when(factory.getTipoCanchaDAO()).thenReturn(tipos);
+        when(factory.getSuperficieDAO()).thenReturn(superficies);
+        when(factory.getCanchaDAO()).thenAnswer(invocacion -> new CanchaIndicesDAO(canchas, factory));
+        doAnswer(invocacion -> alConfirmar.add(invocacion.getArgument(0))).when(factory).alConfirmarTransaccion(any());
+    }
+
+    @AfterEach
+    void vaciarIndice() throws Exception {
+        IndiceFacetasCanchas.getInstance().cargar(consumidor -> { });
+    }
+
+    @Test
+    void losNombresRegistradosSeConsultanUnaSolaVezParaTodoElArchivo() throws Exception {
+        when(canchas.consultarNombresExistentes(anyCollection())).thenReturn(List.of("Cancha 7"));
+
+        var resultado = new ImportacionBusinessLogicImpl(factory).importarCanchas(organizacionId, filas());
+
+        assertFalse(resultado.esExitoso());
+        assertEquals(1, resultado.errores().size());
+        assertEquals(9, resultado.errores().get(0).linea());
+        assertEquals("Ya existe una cancha con ese nombre", resultado.errores().get(0).mensaje());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> nombres = ArgumentCaptor.forClass(Collection.class);
+        verify(canchas, times(1)).consultarNombresExistentes(nombres.capture());
+        assertEquals(FILAS, nombres.getValue().size());
+        verify(canchas, never()).consultar(any(CanchaEntity.class));
+        verify(canchas, never()).importarTodos(any());
+    }
+
+    @Test
+    void losIndicesSeActualizanConUnaSolaRelecturaDeLasCanchasImportadas() throws Exception {
+        when(canchas.consultarNombresExistentes(anyCollection())).thenReturn(List.of());
+        when(canchas.consultarFichasPorIds(anyCollection())).thenAnswer(invocacion -> {
+            Collection<UUID> ids = invocacion.getArgument(0);
+            return ids.stream()
+                    .map(id -> new FichaCancha(id, "Cancha", tipoId, superficieId, null, 50_000, true, false))
+                    .toList();
+        });
+        when(canchas.consultarGeolocalizadasPorIds(anyCollection())).thenReturn(List.of());
+
+        var resultado = new ImportacionBusinessLogicImpl(factory).importarCanchas(organizacionId, filas());
+
+        assertTrue(resultado.esExitoso());
+        verify(canchas, times(1)).importarTodos(any());
+        verify(canchas, times(1)).consultarFichasPorIds(anyCollection());
+        verify(canchas, times(1)).consultarGeolocalizadasPorIds(anyCollection());
+        verify(canchas, never()).consultarFichaPorId(any());
+        verify(canchas, never()).consultarGeolocalizadaPorId(any());
+
+        // Los índices solo cambian cuando la transacción confirma
+        assertEquals(0, IndiceFacetasCanchas.getInstance().tamano());
+        alConfirmar.forEach(Runnable::run);
+        assertEquals(FILAS, IndiceFacetasCanchas.getInstance().tamano());
+    }
+
+    private List<FilaImportacion> filas() {
+        var filas = new ArrayList<FilaImportacion>(FILAS);
+        for (var i = 0; i < FILAS; i++) {
+            // La línea 1 del archivo es el encabezado
+            filas.add(new FilaImportacion(i + 2, Map.of(
+                    "nombre", "cancha " + i,
+                    "tipo", tipoId.toString(),
+                    "superficie", superficieId.toString(),
+                    "costohora", "50000",
+                    "iluminacion", "SI",
+                    "cubierta", "NO")));
+        }
+        return filas;
+    }
+}
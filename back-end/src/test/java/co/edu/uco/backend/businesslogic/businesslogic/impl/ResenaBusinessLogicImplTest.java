@@ -0,0 +1,160 @@
+package co.edu.uco.backend.businesslogic.businesslogic.impl;
+
+import co.edu.uco.backend.businesslogic.businesslogic.domain.ResenaDomain;
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.data.dao.entity.resumencalificacion.ResumenCalificacion;
+import co.edu.uco.backend.data.dao.factory.memoria.MemoriaDAOFactory;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.entity.CanchaEntity;
+import co.edu.uco.backend.entity.EstadoReservaEntity;
+import co.edu.uco.backend.entity.OrganizacionDeportivaEntity;
+import co.edu.uco.backend.entity.ResenaEntity;
+import co.edu.uco.backend.entity.ReservaEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Dos transacciones sobre la misma reseña: la segunda tiene que esperar a la primera y partir de
+ * la calificación que esta confirmó, o los resúmenes se desvían.
+ */
+class ResenaBusinessLogicImplTest {
+
+    private static final String COMENTARIO = "La cancha estaba en buen estado y bien iluminada";
+
+    private final BaseDatosMemoria baseDatos = BaseDatosMemoria.getInstance();
+    private final UUID canchaId = UtilUUID.generarNuevoUUIDOrdenado();
+    private final UUID organizacionId = UtilUUID.generarNuevoUUIDOrdenado();
+    private final UUID reservaId = UtilUUID.generarNuevoUUIDOrdenado();
+    private final UUID resenaId = UtilUUID.generarNuevoUUIDOrdenado();
+
+    @BeforeEach
+    void registrarResenaDeCincoEstrellas() throws Exception {
+        var sesion = baseDatos.abrirSesion();
+        var estado = new EstadoReservaEntity(UtilUUID.generarNuevoUUIDOrdenado(), "finalizada");
+        sesion.crear(baseDatos.getEstadosReserva(), estado);
+
+        var cancha = new CanchaEntity();
+        cancha.setId(canchaId);
+        cancha.setOrganizacion(new OrganizacionDeportivaEntity(organizacionId));
+        sesion.crear(baseDatos.getCanchas(), cancha);
+
+        var reserva = new ReservaEntity(reservaId);
+        reserva.setCancha(new CanchaEntity(canchaId));
+        reserva.setEstado(new EstadoReservaEntity(estado.getId()));
+        sesion.crear(baseDatos.getReservas(), reserva);
+
+        sesion.crear(baseDatos.getResenas(), new ResenaEntity(resenaId, new ReservaEntity(reservaId), 5, COMENTARIO, LocalDate.now()));
+        sesion.crear(baseDatos.getResumenesCalificacionCancha(), ResumenCalificacion.vacio(canchaId).aplicar(0, 5));
+        sesion.crear(baseDatos.getResumenesCalificacionOrganizacion(), ResumenCalificacion.vacio(organizacionId).aplicar(0, 5));
+    }
+
+    @AfterEach
+    void vaciar() {
+        baseDatos.vaciar();
+    }
+
+    @Test
+    void edicionesConcurrentesPartenDeLaCalificacionConfirmada() throws Exception {
+        var primera = new MemoriaDAOFactory();
+        primera.abrirConexion();
+        primera.iniciarTransaccion();
+        new ResenaBusinessLogicImpl(primera).modificarResenaExistente(reservaId, resenaId, cambio(4));
+
+        var fallo = new AtomicReference<Exception>();
+        var segunda = enTransaccion(fallo, logica -> logica.modificarResenaExistente(reservaId, resenaId, cambio(3)));
+        esperarBloqueo(segunda);
+
+        primera.confirmarTransaccion();
+        primera.cerrarConexion();
+        segunda.join();
+
+        assertNull(fallo.get());
+        var resumen = resumenCancha();
+        assertEquals(1, resumen.cantidad());
+        assertEquals(3, resumen.suma());
+        assertEquals(1, resumen.tresEstrellas());
+        assertEquals(0, resumen.cuatroEstrellas());
+        assertEquals(0, resumen.cincoEstrellas());
+        assertEquals(3, resumenOrganizacion().suma());
+    }
+
+    @Test
+    void unSegundoBorradoConcurrenteNoRestaDosVeces() throws Exception {
+        var primera = new MemoriaDAOFactory();
+        primera.abrirConexion();
+        primera.iniciarTransaccion();
+        new ResenaBusinessLogicImpl(primera).darBajaDefinitivamenteResenaExistente(reservaId, resenaId);
+
+        var fallo = new AtomicReference<Exception>();
+        var segunda = enTransaccion(fallo, logica -> logica.darBajaDefinitivamenteResenaExistente(reservaId, resenaId));
+        esperarBloqueo(segunda);
+
+        primera.confirmarTransaccion();
+        primera.cerrarConexion();
+        segunda.join();
+
+        assertInstanceOf(BackEndException.class, fallo.get());
+        assertEquals(0, resumenCancha().cantidad());
+        assertEquals(0, resumenCancha().suma());
+        assertEquals(0, resumenOrganizacion().cantidad());
+    }
+
+    private interface Operacion {
+        void ejecutar(ResenaBusinessLogicImpl logica) throws Exception;
+    }
+
+    private static Thread enTransaccion(final AtomicReference<Exception> fallo, final Operacion operacion) {
+        var hilo = new Thread(() -> {
+            try {
+                var factory = new MemoriaDAOFactory();
+                factory.abrirConexion();
+                try {
+                    factory.iniciarTransaccion();
+                    operacion.ejecutar(new ResenaBusinessLogicImpl(factory));
+                    factory.confirmarTransaccion();
+                } catch (Exception exception) {
+                    factory.cancelarTransaccion();
+                    throw exception;
+                } finally {
+                    factory.cerrarConexion();
+                }
+            } catch (Exception exception) {
+                fallo.set(exception);
+            }
+        });
+        hilo.start();
+        return hilo;
+    }
+
+    // El hilo queda esperando el candado de la fila de la reseña que la primera transacción tiene tomado
+    private static void esperarBloqueo(final Thread hilo) throws InterruptedException {
+        while (hilo.getState() != Thread.State.WAITING) {
+            if (!hilo.isAlive()) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static ResenaDomain cambio(final int calificacion) {
+        return new ResenaDomain(UtilUUID.obtenerValorDefecto(), null, calificacion, COMENTARIO, null);
+    }
+
+    private ResumenCalificacion resumenCancha() {
+        return baseDatos.abrirSesion().consultarPorId(baseDatos.getResumenesCalificacionCancha(), canchaId);
+    }
+
+    private ResumenCalificacion resumenOrganizacion() {
+        return baseDatos.abrirSesion().consultarPorId(baseDatos.getResumenesCalificacionOrganizacion(), organizacionId);
+    }
+}
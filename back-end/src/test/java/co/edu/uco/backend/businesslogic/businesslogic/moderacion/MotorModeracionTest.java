@@ -0,0 +1,111 @@
+package co.edu.uco.backend.businesslogic.businesslogic.moderacion;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.text.Normalizer;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * El motor tiene que dar el mismo veredicto que las políticas anteriores, que pasaban el comentario
+ * por toLowerCase, lo normalizaban en NFD y buscaban cada palabra con contains.
+ */
+class MotorModeracionTest {
+
+    private static final Pattern URL_CON_PROTOCOLO_ANTERIOR = Pattern.compile("(https?://\\S+)");
+    private static final Pattern URL_WWW_ANTERIOR = Pattern.compile("(www\\.\\S+)");
+    private static final Pattern DOMINIO_ANTERIOR = Pattern.compile("\\b\\w+\\.(com|net|org|info|io|es|co)(/[^\\s]*)?\\b");
+    private static final Pattern ETIQUETA_HTML_ANTERIOR = Pattern.compile("<[^>]+>");
+
+    private final MotorModeracion motor = MotorModeracion.getInstance();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            // Tildes y mayúsculas
+            "El servicio fue PÉSIMO y la cancha estaba SUCIA",
+            "Pésimo, pésimo y PÉSIMO",
+            "Un árbitro IMBÉCIL y un vestuario lamentable",
+            "ESTÚPIDO el que dejó la reja abierta",
+            "Muy buena atención, volveremos",
+            "Cabrón, cabron, CABRÓN",
+            // Palabras que se cruzan o aparecen dentro de otras
+            "Malparidas las luces, mal todo",
+            "mierdas y mierda",
+            "zorrazorras",
+            "malo no es mal",
+            "pobremente iluminada",
+            "incompetentes y negligentes",
+            "idiotas",
+            // Letras precompuestas fuera de Latin-1 y marcas sueltas
+            "Un servicio pệsimo",
+            "ḿierda de iluminación",
+            "pễsimo",
+            "İDİOTA",
+            // URLs, dominios y HTML en mayúsculas
+            "Reserven en HTTPS://CANCHAS.EXAMPLE/PROMO",
+            "Visiten WWW.Canchas.Co",
+            "Escriban a Canchas.COM/contacto",
+            "precios en ñandú.co y no más",
+            "Todo bien <B>negrita</B>",
+            "3 < 4 pero 5 > 2",
+            "Nos vemos a las 5.30 en la cancha"
+    })
+    void elVeredictoEsElMismoQueElDeLasPoliticasAnteriores(String comentario) {
+        var analisis = motor.analizarVocabulario(comentario);
+
+        assertEquals(contieneNegativoAnterior(comentario), analisis.contieneAspectoNegativo(), comentario);
+        assertEquals(contieneProhibidaAnterior(comentario), analisis.contienePalabraProhibida(), comentario);
+        assertEquals(contenidoNoPermitidoAnterior(comentario), motor.buscarContenidoNoPermitido(comentario), comentario);
+    }
+
+    // Cada carácter se pliega igual que el comentario completo en las políticas anteriores. El 0 se
+    // reserva para "se omite", así que U+0000 queda fuera: ninguna palabra del vocabulario lo contiene
+    @Test
+    void elPlegadoDeCadaCaracterCoincideConToLowerCaseYNFD() {
+        for (int codigo = 1; codigo <= Character.MAX_VALUE; codigo++) {
+            var caracter = (char) codigo;
+            if (Character.isSurrogate(caracter)) {
+                continue;
+            }
+            var esperado = plegarAnterior(String.valueOf(caracter));
+            if (esperado.length() <= 1) {
+                var plegado = MotorModeracion.plegar(caracter);
+                assertEquals(esperado, plegado == 0 ? "" : String.valueOf(plegado), "U+" + Integer.toHexString(codigo));
+            }
+        }
+    }
+
+    private static String plegarAnterior(final String texto) {
+        return Normalizer.normalize(texto.toLowerCase(), Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+    }
+
+    private static boolean contieneNegativoAnterior(final String comentario) {
+        var texto = plegarAnterior(comentario);
+        return MotorModeracion.PALABRAS_NEGATIVAS_DEFECTO.stream().anyMatch(texto::contains);
+    }
+
+    private static boolean contieneProhibidaAnterior(final String comentario) {
+        var texto = plegarAnterior(comentario);
+        return MotorModeracion.PALABRAS_PROHIBIDAS_DEFECTO.stream().anyMatch(texto::contains);
+    }
+
+    private static ContenidoNoPermitido contenidoNoPermitidoAnterior(final String comentario) {
+        var textoLower = comentario.toLowerCase();
+        if (URL_CON_PROTOCOLO_ANTERIOR.matcher(textoLower).find()) {
+            return ContenidoNoPermitido.URL_CON_PROTOCOLO;
+        }
+        if (URL_WWW_ANTERIOR.matcher(textoLower).find()) {
+            return ContenidoNoPermitido.URL_WWW;
+        }
+        if (DOMINIO_ANTERIOR.matcher(textoLower).find()) {
+            return ContenidoNoPermitido.DOMINIO;
+        }
+        if (ETIQUETA_HTML_ANTERIOR.matcher(comentario).find()) {
+            return ContenidoNoPermitido.ETIQUETA_HTML;
+        }
+        return ContenidoNoPermitido.NINGUNO;
+    }
+}
@@ -0,0 +1,160 @@
+package co.edu.uco.backend.businesslogic.facade.impl;
+
+import co.edu.uco.backend.businesslogic.businesslogic.impl.CanchaBusinessLogicImpl;
+import co.edu.uco.backend.crosscutting.constants.DiaSemana;
+import co.edu.uco.backend.crosscutting.exceptions.BackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.data.dao.factory.Factory;
+import co.edu.uco.backend.data.dao.factory.memoria.MemoriaDAOFactory;
+import co.edu.uco.backend.data.dao.memoria.BaseDatosMemoria;
+import co.edu.uco.backend.dto.CanchaDTO;
+import co.edu.uco.backend.dto.ReservaDTO;
+import co.edu.uco.backend.entity.CanchaEntity;
+import co.edu.uco.backend.entity.ClienteEntity;
+import co.edu.uco.backend.entity.EstadoReservaEntity;
+import co.edu.uco.backend.entity.HorarioDisponibleEntity;
+import co.edu.uco.backend.entity.OrganizacionDeportivaEntity;
+import co.edu.uco.backend.entity.ReservaEntity;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Varias solicitudes simultáneas por el mismo horario de la misma cancha: solo una queda registrada
+ * y las demás se rechazan como horario ocupado, no como fallas del servicio.
+ */
+class ReservaFacadeImplTest {
+
+    private static final int SOLICITUDES = 16;
+    private static final int CARRERAS = 12;
+
+    private final BaseDatosMemoria baseDatos = BaseDatosMemoria.getInstance();
+    private final UUID canchaId = UtilUUID.generarNuevoUUIDOrdenado();
+    private final UUID clienteId = UtilUUID.generarNuevoUUIDOrdenado();
+    private final LocalDate manana = LocalDate.now().plusDays(1);
+    private final SimpleMeterRegistry metricas = new SimpleMeterRegistry();
+    private Factory factoriaAnterior;
+
+    @BeforeEach
+    void registrarCanchaAbierta() throws Exception {
+        factoriaAnterior = DAOFactory.getFactoriaPorDefecto();
+        DAOFactory.configurarFactoriaPorDefecto(Factory.IN_MEMORY);
+        Metrics.addRegistry(metricas);
+
+        var sesion = baseDatos.abrirSesion();
+        sesion.crear(baseDatos.getEstadosReserva(), new EstadoReservaEntity(UtilUUID.generarNuevoUUIDOrdenado(), "Pendiente"));
+
+        var organizacionId = UtilUUID.generarNuevoUUIDOrdenado();
+        sesion.crear(baseDatos.getOrganizaciones(), new OrganizacionDeportivaEntity(organizacionId));
+        var cancha = new CanchaEntity();
+        cancha.setId(canchaId);
+        cancha.setOrganizacion(new OrganizacionDeportivaEntity(organizacionId));
+        sesion.crear(baseDatos.getCanchas(), cancha);
+
+        var cliente = new ClienteEntity();
+        cliente.setId(clienteId);
+        sesion.crear(baseDatos.getClientes(), cliente);
+        for (DiaSemana dia : DiaSemana.values()) {
+            sesion.crear(baseDatos.getHorariosDisponibles(), new HorarioDisponibleEntity(UtilUUID.generarNuevoUUIDOrdenado(),
+                    new CanchaEntity(canchaId), dia, LocalTime.of(6, 0), LocalTime.of(22, 0)));
+        }
+
+        // Con la agenda ya calculada, todas las solicitudes llegan a la vez a la validación de solapamiento
+        var lectura = new MemoriaDAOFactory();
+        lectura.abrirConexion();
+        new CanchaBusinessLogicImpl(lectura).consultarDisponibilidad(canchaId, manana, manana);
+        lectura.cerrarConexion();
+    }
+
+    @AfterEach
+    void restaurar() {
+        Metrics.removeRegistry(metricas);
+        DAOFactory.configurarFactoriaPorDefecto(factoriaAnterior);
+        baseDatos.vaciar();
+    }
+
+    // Una sola carrera puede salir bien por azar: se repite en varias franjas del día
+    @Test
+    void deVariasReservasIdenticasSimultaneasSoloUnaSeRegistra() throws Exception {
+        for (int hora = 8; hora < 8 + CARRERAS; hora++) {
+            var fallos = reservarEnParalelo(LocalTime.of(hora, 0), LocalTime.of(hora + 1, 0), SOLICITUDES);
+
+            assertEquals(SOLICITUDES - 1, fallos.size(), "franja de las " + hora);
+            for (Exception fallo : fallos) {
+                assertInstanceOf(BackEndException.class, fallo);
+                assertTrue(((BackEndException) fallo).isEsperada());
+            }
+        }
+        assertEquals(CARRERAS, reservasDeLaCancha().size());
+        assertEquals(CARRERAS, registros("exitosa"));
+        assertEquals(CARRERAS * (SOLICITUDES - 1), registros("rechazada"));
+        assertEquals(0, registros("error"));
+    }
+
+    @Test
+    void unaReservaQueSeCruzaSeRechazaYUnaContiguaNo() throws Exception {
+        var fachada = new ReservaFacadeImpl();
+        fachada.registrarNuevaReserva(clienteId, reserva(LocalTime.of(10, 0), LocalTime.of(11, 0)));
+
+        var cruce = reservarEnParalelo(LocalTime.of(10, 30), LocalTime.of(11, 30), 1);
+        fachada.registrarNuevaReserva(clienteId, reserva(LocalTime.of(11, 0), LocalTime.of(12, 0)));
+
+        assertEquals(1, cruce.size());
+        assertEquals(2, reservasDeLaCancha().size());
+    }
+
+    // Todas las solicitudes arrancan a la vez, cada una en su hilo y con su propia fachada
+    private List<Exception> reservarEnParalelo(final LocalTime horaInicio, final LocalTime horaFin, final int solicitudes)
+            throws Exception {
+        var salida = new CountDownLatch(1);
+        var fallos = new ConcurrentLinkedQueue<Exception>();
+        var hilos = new ArrayList<Thread>();
+        for (int i = 0; i < solicitudes; i++) {
+            var fachada = new ReservaFacadeImpl();
+            var hilo = new Thread(() -> {
+                try {
+                    salida.await();
+                    fachada.registrarNuevaReserva(clienteId, reserva(horaInicio, horaFin));
+                } catch (Exception exception) {
+                    fallos.add(exception);
+                }
+            });
+            hilo.start();
+            hilos.add(hilo);
+        }
+        salida.countDown();
+        for (Thread hilo : hilos) {
+            hilo.join();
+        }
+        return new ArrayList<>(fallos);
+    }
+
+    private ReservaDTO reserva(final LocalTime horaInicio, final LocalTime horaFin) {
+        return new ReservaDTO(UtilUUID.obtenerValorDefecto(), null, new CanchaDTO(canchaId), null, manana,
+                horaInicio, horaFin, null);
+    }
+
+    private List<ReservaEntity> reservasDeLaCancha() {
+        return baseDatos.abrirSesion().consultar(baseDatos.getReservas(), fila -> canchaId.equals(fila.getCancha().getId()));
+    }
+
+    private long registros(final String resultado) {
+        var timer = metricas.find("reservas.registro").tag("resultado", resultado).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
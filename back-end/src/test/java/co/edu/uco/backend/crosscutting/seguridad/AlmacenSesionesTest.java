@@ -0,0 +1,104 @@
+package co.edu.uco.backend.crosscutting.seguridad;
+
+import co.edu.uco.backend.crosscutting.constants.TipoUsuario;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Las sesiones vencen al consultarlas, cada segmento descarta su sesión más antigua al llenarse y
+ * cerrar las sesiones de un usuario no toca las de los demás.
+ */
+class AlmacenSesionesTest {
+
+    private final AlmacenSesiones almacen = AlmacenSesiones.getInstance();
+    private final SimpleMeterRegistry metricas = new SimpleMeterRegistry();
+    private final List<UUID> usuarios = new ArrayList<>();
+
+    @BeforeEach
+    void registrarMetricas() {
+        Metrics.addRegistry(metricas);
+    }
+
+    @AfterEach
+    void restaurar() {
+        usuarios.forEach(almacen::cerrarSesionesUsuario);
+        almacen.configurar(AlmacenSesiones.CAPACIDAD_DEFECTO, AlmacenSesiones.DURACION_DEFECTO);
+        Metrics.removeRegistry(metricas);
+    }
+
+    @Test
+    void unaSesionVencidaSeEliminaAlConsultarla() throws Exception {
+        almacen.configurar(AlmacenSesiones.CAPACIDAD_DEFECTO, Duration.ofMillis(50));
+        var sesion = crear(nuevoUsuario());
+        assertNotNull(almacen.validar(sesion.token()));
+        var activas = sesionesActivas();
+
+        Thread.sleep(60);
+
+        assertNull(almacen.validar(sesion.token()));
+        assertEquals(activas - 1, sesionesActivas());
+    }
+
+    @Test
+    void unSegmentoLlenoDescartaSuSesionMasAntiguaSinTocarLosDemas() {
+        // Dos sesiones por segmento
+        almacen.configurar(2 * AlmacenSesiones.NUMERO_SEGMENTOS, AlmacenSesiones.DURACION_DEFECTO);
+        var usuario = nuevoUsuario();
+        var porSegmento = new HashMap<Integer, List<SesionUsuario>>();
+        List<SesionUsuario> lleno;
+        do {
+            var sesion = crear(usuario);
+            lleno = porSegmento.computeIfAbsent(AlmacenSesiones.indiceSegmento(sesion.token()), indice -> new ArrayList<>());
+            lleno.add(sesion);
+        } while (lleno.size() < 3);
+
+        assertNull(almacen.validar(lleno.get(0).token()));
+        assertNotNull(almacen.validar(lleno.get(1).token()));
+        assertNotNull(almacen.validar(lleno.get(2).token()));
+        for (List<SesionUsuario> segmento : porSegmento.values()) {
+            if (segmento != lleno) {
+                segmento.forEach(sesion -> assertNotNull(almacen.validar(sesion.token())));
+            }
+        }
+    }
+
+    @Test
+    void cerrarLasSesionesDeUnUsuarioSoloCierraLasSuyas() {
+        var usuario = nuevoUsuario();
+        var otro = nuevoUsuario();
+        var propias = List.of(crear(usuario), crear(usuario), crear(usuario));
+        var ajena = crear(otro);
+
+        almacen.cerrarSesionesUsuario(usuario);
+
+        propias.forEach(sesion -> assertNull(almacen.validar(sesion.token())));
+        assertNotNull(almacen.validar(ajena.token()));
+    }
+
+    private UUID nuevoUsuario() {
+        var usuario = UUID.randomUUID();
+        usuarios.add(usuario);
+        return usuario;
+    }
+
+    private SesionUsuario crear(final UUID usuario) {
+        return almacen.crear(usuario, TipoUsuario.CLIENTE, "127.0.0.1", "JUnit");
+    }
+
+    private double sesionesActivas() {
+        return metricas.get("sesiones.activas").gauge().value();
+    }
+}
@@ -0,0 +1,69 @@
+package co.edu.uco.backend.crosscutting.utilitarios;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Los validadores recorren el texto a mano; cada uno tiene que aceptar exactamente lo mismo que el
+ * patrón con el que se validaba antes (sobre el valor sin espacios al inicio y al final).
+ */
+class UtilTextoTest {
+
+    private static final String PATRON_SOLO_LETRAS_ESPACIOS = "^[a-zA-ZáÁéÉíÍóÓúÚñÑ ]+$";
+    private static final String PATRON_ALFANUMERICO_ESPACIOS = "^[a-zA-ZáÁéÉíÍóÓúÚñÑ0-9 ]+$";
+    private static final String PATRON_ALFANUMERICO_ESPACIOS_ESPECIALES = "^[\\p{L}\\p{N}\\p{Punct}\\s]+$";
+    private static final String PATRON_SOLO_NUMEROS = "^[0-9]+$";
+    private static final String PATRON_PREFIJO_TELEFONO = "^\\+?[0-9]+$";
+
+    private static final List<String> VALORES = List.of(
+            "", " ", "  \t ", "Cancha Norte", "  José Núñez  ", "Ñandú 5", "Estadio 2 de Mayo", "Zoë",
+            "Coliseo-Sur", "¡Excelente!", "Precio: $20.000 (IVA incluido)", "3124567890", " 57 ", "+57", "+",
+            "++57", "57+", "+ 57", "١٢٣", "Ⅻ", "½", "日本語 12", "línea\nnueva", "tab\tinterno", "emoji ⚽",
+            "𝔸𝔹", "𝟙𝟚", " espacio duro");
+
+    private final UtilTexto utilTexto = UtilTexto.getInstance();
+
+    @Test
+    void soloLetrasEspaciosEquivaleASuPatron() {
+        comparar(PATRON_SOLO_LETRAS_ESPACIOS, utilTexto::contieneSoloLetrasEspacios);
+    }
+
+    @Test
+    void soloLetrasNumerosEspaciosEquivaleASuPatron() {
+        comparar(PATRON_ALFANUMERICO_ESPACIOS, utilTexto::contieneSoloLetrasNumerosEspacios);
+    }
+
+    @Test
+    void alfanumericoEspaciosEspecialesEquivaleASuPatron() {
+        comparar(PATRON_ALFANUMERICO_ESPACIOS_ESPECIALES, utilTexto::contieneSoloAlfanumericoEspaciosEspeciales);
+    }
+
+    @Test
+    void soloNumerosEquivaleASuPatron() {
+        comparar(PATRON_SOLO_NUMEROS, utilTexto::contieneSoloNumeros);
+    }
+
+    @Test
+    void prefijoTelefonoEquivaleASuPatron() {
+        comparar(PATRON_PREFIJO_TELEFONO, utilTexto::contieneSoloNumerosYMas);
+    }
+
+    // Cada carácter del BMP solo, más una muestra de valores de varios caracteres y fuera del BMP
+    private static void comparar(final String patron, final Predicate<String> validador) {
+        var compilado = Pattern.compile(patron);
+        for (int codigo = 0; codigo <= Character.MAX_VALUE; codigo++) {
+            if (!Character.isSurrogate((char) codigo)) {
+                var valor = String.valueOf((char) codigo);
+                assertEquals(compilado.matcher(valor.trim()).matches(), validador.test(valor), "U+" + Integer.toHexString(codigo));
+            }
+        }
+        for (String valor : VALORES) {
+            assertEquals(compilado.matcher(valor.trim()).matches(), validador.test(valor), valor);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package co.edu.uco.backend.data.dao.busqueda;
+
+import co.edu.uco.backend.data.dao.entity.cancha.FichaCancha;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IndiceFacetasCanchasTest {
+
+    private static final FiltroBusquedaCanchas SIN_FILTROS = new FiltroBusquedaCanchas(null, null, null, null, null, null, null);
+
+    private final IndiceFacetasCanchas indice = IndiceFacetasCanchas.getInstance();
+
+    @AfterEach
+    void vaciar() throws Exception {
+        indice.cargar(consumidor -> { });
+    }
+
+    @Test
+    void recorrePorPaginasTodasLasCanchasEnOrdenDeLlave() throws Exception {
+        var fichas = fichas(10, false);
+        cargar(fichas);
+
+        assertEquals(llavesOrdenadas(fichas), recorrer(SIN_FILTROS, null, 3));
+    }
+
+    @Test
+    void unCursorQueNoEstaEnElIndiceContinuaDesdeLaLlaveSiguiente() throws Exception {
+        var fichas = fichas(10, false);
+        cargar(fichas);
+        var llaves = llavesOrdenadas(fichas);
+        // Entre la cuarta y la quinta llave, pero no es ninguna cancha del índice
+        var cursor = new UUID(llaves.get(3).getMostSignificantBits(), llaves.get(3).getLeastSignificantBits() + 1);
+
+        assertEquals(llaves.subList(4, 10), recorrer(SIN_FILTROS, cursor, 3));
+    }
+
+    @Test
+    void elCursorSigueSiendoValidoDespuesDeRecargarEnOtroOrden() throws Exception {
+        var fichas = fichas(10, false);
+        cargar(fichas);
+        var primera = indice.buscar(SIN_FILTROS, null, 4);
+
+        var desordenadas = new ArrayList<>(fichas);
+        Collections.reverse(desordenadas);
+        cargar(desordenadas);
+
+        var llaves = llavesOrdenadas(fichas);
+        assertEquals(llaves.subList(4, 10), recorrer(SIN_FILTROS, primera.siguienteCursor(), 4));
+    }
+
+    @Test
+    void unFiltroSelectivoTambienPaginaPorLlave() throws Exception {
+        var fichas = fichas(40, true);
+        cargar(fichas);
+        var cubiertas = fichas.stream().filter(FichaCancha::cubierta).toList();
+        var filtro = new FiltroBusquedaCanchas(null, null, null, null, true, null, null);
+
+        assertEquals(llavesOrdenadas(cubiertas), recorrer(filtro, null, 1));
+    }
+
+    private List<UUID> recorrer(final FiltroBusquedaCanchas filtro, final UUID desde, final int limite) {
+        var llaves = new ArrayList<UUID>();
+        var cursor = desde;
+        do {
+            var resultado = indice.buscar(filtro, cursor, limite);
+            resultado.canchas().forEach(ficha -> llaves.add(ficha.canchaId()));
+            cursor = resultado.siguienteCursor();
+        } while (cursor != null);
+        return llaves;
+    }
+
+    private void cargar(final List<FichaCancha> fichas) throws Exception {
+        indice.cargar(consumidor -> fichas.forEach(consumidor));
+    }
+
+    // Con pocasCubiertas solo una de cada diez es cubierta
+    private static List<FichaCancha> fichas(final int cantidad, final boolean pocasCubiertas) {
+        var fichas = new ArrayList<FichaCancha>();
+        for (int i = 0; i < cantidad; i++) {
+            var cubierta = pocasCubiertas ? i % 10 == 0 : i % 2 == 0;
+            fichas.add(new FichaCancha(UUID.randomUUID(), "Cancha " + i, null, null, null, 50_000, false, cubierta));
+        }
+        return fichas;
+    }
+
+    private static List<UUID> llavesOrdenadas(final List<FichaCancha> fichas) {
+        return fichas.stream().map(FichaCancha::canchaId).sorted(Comparator.naturalOrder()).toList();
+    }
+}
@@ -0,0 +1,87 @@
+package co.edu.uco.backend.data.dao.cache;
+
+import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
+import co.edu.uco.backend.data.dao.entity.tipocancha.TipoCanchaDAO;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.entity.TipoCanchaEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Escribir una tabla que viaja dentro de una cancha cambia la versión de CANCHA, y con ella su ETag,
+ * solo cuando la transacción confirma.
+ */
+class DAOVersionadoTest {
+
+    private static final VersionesRecursos.Recurso CANCHA = VersionesRecursos.Recurso.CANCHA;
+
+    private TipoCanchaDAO delegado;
+    private TipoCanchaDAO dao;
+    // Acciones que la factoría ejecutaría al confirmar la transacción
+    private final List<Runnable> alConfirmar = new ArrayList<>();
+
+    @BeforeEach
+    void crearDAO() throws Exception {
+        delegado = mock(TipoCanchaDAO.class);
+        var factory = mock(DAOFactory.class);
+        doAnswer(invocacion -> alConfirmar.add(invocacion.getArgument(0)))
+                .when(factory).alConfirmarTransaccion(any());
+        dao = DAOVersionado.versionar(TipoCanchaDAO.class, delegado, factory, CANCHA);
+    }
+
+    @AfterEach
+    void restaurarVigencia() {
+        VersionesRecursos.getInstance().configurar(CANCHA, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void modificarCambiaLaVersionDeCanchaSoloAlConfirmar() throws Exception {
+        var antes = VersionesRecursos.getInstance().consultar(CANCHA);
+        var id = UUID.randomUUID();
+
+        dao.modificar(id, new TipoCanchaEntity(id, "Fútbol 5", "10"));
+        assertEquals(antes, VersionesRecursos.getInstance().consultar(CANCHA));
+
+        alConfirmar.forEach(Runnable::run);
+        assertNotEquals(antes, VersionesRecursos.getInstance().consultar(CANCHA));
+    }
+
+    @Test
+    void lasConsultasYLasEscriturasFallidasNoCambianLaVersion() throws Exception {
+        var id = UUID.randomUUID();
+        doThrow(DataBackEndException.reportar("error", "error")).when(delegado).eliminar(eq(id));
+
+        dao.consultarPorId(id);
+        dao.consultar(new TipoCanchaEntity());
+        assertThrows(DataBackEndException.class, () -> dao.eliminar(id));
+
+        assertTrue(alConfirmar.isEmpty());
+    }
+
+    // Otra instancia no avisa de sus escrituras: la versión local se renueva sola al pasar su vigencia
+    @Test
+    void laVersionDeCanchaSeRenuevaTrasSuVigencia() throws Exception {
+        VersionesRecursos.getInstance().configurar(CANCHA, Duration.ofMillis(5));
+        var antes = VersionesRecursos.getInstance().consultar(CANCHA);
+
+        Thread.sleep(10);
+
+        assertNotEquals(antes, VersionesRecursos.getInstance().consultar(CANCHA));
+    }
+}
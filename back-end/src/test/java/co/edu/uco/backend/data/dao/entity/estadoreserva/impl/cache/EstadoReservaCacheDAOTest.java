@@ -0,0 +1,79 @@
+package co.edu.uco.backend.data.dao.entity.estadoreserva.impl.cache;
+
+import co.edu.uco.backend.data.dao.entity.estadoreserva.EstadoReservaDAO;
+import co.edu.uco.backend.data.dao.factory.DAOFactory;
+import co.edu.uco.backend.entity.EstadoReservaEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EstadoReservaCacheDAOTest {
+
+    private EstadoReservaDAO delegado;
+    private EstadoReservaCacheDAO dao;
+    // Acciones que la factoría ejecutaría al confirmar la transacción
+    private final List<Runnable> alConfirmar = new ArrayList<>();
+
+    @BeforeEach
+    void crearDAO() throws Exception {
+        delegado = mock(EstadoReservaDAO.class);
+        var factory = mock(DAOFactory.class);
+        doAnswer(invocacion -> alConfirmar.add(invocacion.getArgument(0)))
+                .when(factory).alConfirmarTransaccion(any());
+        dao = new EstadoReservaCacheDAO(delegado, factory);
+    }
+
+    @Test
+    void modificarInvalidaLaEntradaSoloAlConfirmar() throws Exception {
+        var id = UUID.randomUUID();
+        when(delegado.consultarPorId(id)).thenReturn(new EstadoReservaEntity(id, "Pendiente"));
+
+        dao.consultarPorId(id);
+        dao.modificar(id, new EstadoReservaEntity(id, "Confirmada"));
+        // Antes del COMMIT el valor confirmado sigue siendo el anterior y se sirve desde la caché
+        dao.consultarPorId(id);
+        verify(delegado, times(1)).consultarPorId(id);
+
+        alConfirmar.forEach(Runnable::run);
+        dao.consultarPorId(id);
+        verify(delegado, times(2)).consultarPorId(id);
+    }
+
+    @Test
+    void consultaPorNombreSinResultadosNoSeGuarda() throws Exception {
+        var filtro = new EstadoReservaEntity();
+        filtro.setNombre("inexistente-" + UUID.randomUUID());
+        when(delegado.consultar(filtro)).thenReturn(List.of());
+
+        dao.consultar(filtro);
+        dao.consultar(filtro);
+
+        verify(delegado, times(2)).consultar(filtro);
+    }
+
+    @Test
+    void escrituraEnLoteDescartaLasConsultasPorNombreAlConfirmar() throws Exception {
+        var filtro = new EstadoReservaEntity();
+        filtro.setNombre("lote-" + UUID.randomUUID());
+        when(delegado.consultar(filtro)).thenReturn(List.of(new EstadoReservaEntity(UUID.randomUUID(), filtro.getNombre())));
+
+        dao.consultar(filtro);
+        dao.crearTodos(List.of(new EstadoReservaEntity(UUID.randomUUID(), "Nuevo")));
+        dao.consultar(filtro);
+        verify(delegado, times(1)).consultar(filtro);
+
+        alConfirmar.forEach(Runnable::run);
+        dao.consultar(filtro);
+        verify(delegado, times(2)).consultar(filtro);
+    }
+}
@@ -0,0 +1,69 @@
+package co.edu.uco.backend.data.dao.entity.reserva.impl.postgresql;
+
+import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.entity.CanchaEntity;
+import co.edu.uco.backend.entity.ClienteEntity;
+import co.edu.uco.backend.entity.EstadoReservaEntity;
+import co.edu.uco.backend.entity.ReservaEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * La restricción reserva_sin_solapamiento es la última defensa entre instancias: su violación
+ * llega al cliente como horario ocupado y no como falla de la base de datos.
+ */
+class ReservaPostgreSQLDAOTest {
+
+    private PreparedStatement sentencia;
+    private ReservaPostgreSQLDAO dao;
+
+    @BeforeEach
+    void crearDAO() throws Exception {
+        var conexion = mock(Connection.class);
+        sentencia = mock(PreparedStatement.class);
+        when(conexion.prepareStatement(anyString())).thenReturn(sentencia);
+        dao = new ReservaPostgreSQLDAO(conexion);
+    }
+
+    @Test
+    void laViolacionDeExclusionEsUnRechazoDeHorarioOcupado() throws Exception {
+        when(sentencia.executeUpdate()).thenThrow(new SQLException("conflicting key value", "23P01"));
+
+        var excepcion = assertThrows(DataBackEndException.class, () -> dao.crear(reserva()));
+
+        assertTrue(excepcion.isEsperada());
+        assertEquals("El horario seleccionado ya fue reservado, por favor elija otro", excepcion.getMensajeUsuario());
+    }
+
+    @Test
+    void otraSQLExceptionSigueSiendoUnaFalla() throws Exception {
+        when(sentencia.executeUpdate()).thenThrow(new SQLException("connection reset", "08006"));
+
+        var excepcion = assertThrows(DataBackEndException.class, () -> dao.crear(reserva()));
+
+        assertFalse(excepcion.isEsperada());
+    }
+
+    private static ReservaEntity reserva() {
+        var cliente = new ClienteEntity();
+        cliente.setId(UtilUUID.generarNuevoUUIDOrdenado());
+        return new ReservaEntity(UtilUUID.generarNuevoUUIDOrdenado(), cliente, new CanchaEntity(UtilUUID.generarNuevoUUIDOrdenado()),
+                LocalDate.now(), LocalDate.now().plusDays(1), LocalTime.of(10, 0), LocalTime.of(11, 0),
+                new EstadoReservaEntity(UtilUUID.generarNuevoUUIDOrdenado()));
+    }
+}
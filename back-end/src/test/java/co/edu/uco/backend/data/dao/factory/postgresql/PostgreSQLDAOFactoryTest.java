@@ -0,0 +1,101 @@
+package co.edu.uco.backend.data.dao.factory.postgresql;
+
+import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostgreSQLDAOFactoryTest {
+
+    private DataSource dataSource;
+    private Connection conexion;
+
+    @BeforeEach
+    void configurarPool() throws Exception {
+        dataSource = mock(DataSource.class);
+        conexion = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(conexion);
+        // Un solo permiso: si la apertura anidada tomara otro, la prueba se bloquearía y fallaría
+        PoolConexionesPostgreSQL.getInstance().configurar(dataSource, 1, 100);
+    }
+
+    @AfterEach
+    void restaurarPool() {
+        PoolConexionesPostgreSQL.getInstance().configurar(null, PoolConexionesPostgreSQL.PERMISOS_DEFECTO,
+                PoolConexionesPostgreSQL.ESPERA_MAXIMA_MS_DEFECTO);
+    }
+
+    @Test
+    void fachadaAnidadaReutilizaLaConexionYDevuelveElPermisoAlCerrarLaExterna() throws Exception {
+        var externa = new PostgreSQLDAOFactory();
+        var anidada = new PostgreSQLDAOFactory();
+
+        externa.abrirConexion();
+        anidada.abrirConexion();
+        anidada.cerrarConexion();
+        verify(conexion, never()).close();
+
+        externa.cerrarConexion();
+        verify(dataSource, times(1)).getConnection();
+        verify(conexion, times(1)).close();
+
+        // El permiso quedó libre para la siguiente solicitud del hilo
+        externa.abrirConexion();
+        externa.cerrarConexion();
+        verify(dataSource, times(2)).getConnection();
+    }
+
+    @Test
+    void transaccionAnidadaSoloSeConfirmaConLaExterna() throws Exception {
+        var externa = new PostgreSQLDAOFactory();
+        var anidada = new PostgreSQLDAOFactory();
+
+        externa.abrirConexion();
+        try {
+            externa.iniciarTransaccion();
+            anidada.abrirConexion();
+            anidada.iniciarTransaccion();
+            anidada.confirmarTransaccion();
+            anidada.cerrarConexion();
+            verify(conexion, never()).commit();
+
+            externa.confirmarTransaccion();
+            verify(conexion, times(1)).commit();
+        } finally {
+            externa.cerrarConexion();
+        }
+    }
+
+    @Test
+    void cancelacionAnidadaImpideConfirmarLaExterna() throws Exception {
+        var externa = new PostgreSQLDAOFactory();
+        var anidada = new PostgreSQLDAOFactory();
+
+        externa.abrirConexion();
+        try {
+            externa.iniciarTransaccion();
+            anidada.abrirConexion();
+            anidada.iniciarTransaccion();
+            anidada.cancelarTransaccion();
+            anidada.cerrarConexion();
+            verify(conexion, never()).rollback();
+
+            assertThrows(DataBackEndException.class, externa::confirmarTransaccion);
+            externa.cancelarTransaccion();
+            verify(conexion, never()).commit();
+            verify(conexion, times(1)).rollback();
+        } finally {
+            externa.cerrarConexion();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package co.edu.uco.backend.data.dao.geo;
+
+import co.edu.uco.backend.data.dao.entity.cancha.CanchaGeolocalizada;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * La rejilla solo decide qué canchas se miden: el resultado tiene que ser el mismo que medir todas,
+ * también en los bordes de celda, cerca del antimeridiano y cuando conviene recorrer todo el índice.
+ */
+class IndiceGeograficoCanchasTest {
+
+    private static final double KM_POR_GRADO = Math.PI * 6371.0088 / 180.0;
+    // Las celdas miden 0.05°: 6.25 es un borde entre filas
+    private static final double BORDE_CELDA = 6.25;
+
+    private final IndiceGeograficoCanchas indice = IndiceGeograficoCanchas.getInstance();
+
+    @AfterEach
+    void vaciar() throws Exception {
+        indice.cargar(consumidor -> { });
+    }
+
+    @Test
+    void laDistanciaHaversineCoincideConLaGeometriaDeLaEsfera() {
+        assertEquals(KM_POR_GRADO, IndiceGeograficoCanchas.calcularDistanciaKm(0, 0, 1, 0), 1e-9);
+        assertEquals(KM_POR_GRADO, IndiceGeograficoCanchas.calcularDistanciaKm(0, 0, 0, 1), 1e-9);
+        assertEquals(180 * KM_POR_GRADO, IndiceGeograficoCanchas.calcularDistanciaKm(0, 0, 0, 180), 1e-6);
+        assertEquals(0.0, IndiceGeograficoCanchas.calcularDistanciaKm(6.2442, -75.5812, 6.2442, -75.5812), 0.0);
+        // Bogotá - Medellín, unos 240 km en línea recta
+        assertEquals(240, IndiceGeograficoCanchas.calcularDistanciaKm(4.7110, -74.0721, 6.2442, -75.5812), 5);
+    }
+
+    @Test
+    void encuentraLasCanchasDeLaCeldaVecinaAlOtroLadoDelBorde() throws Exception {
+        var sur = cancha("sur", BORDE_CELDA - 0.0001, -75.5);
+        var norte = cancha("norte", BORDE_CELDA + 0.0001, -75.5);
+        var lejana = cancha("lejana", BORDE_CELDA + 0.02, -75.5);
+        cargar(sur, norte, lejana);
+
+        var cercanas = indice.consultar(BORDE_CELDA - 0.0001, -75.5, 0.5, 10);
+
+        assertEquals(List.of(sur.canchaId(), norte.canchaId()), ids(cercanas));
+    }
+
+    @Test
+    void encuentraLasCanchasAlOtroLadoDelAntimeridiano() throws Exception {
+        var oeste = cancha("oeste", -16.5, -179.999);
+        var este = cancha("este", -16.5, 179.999);
+        cargar(oeste, este);
+
+        assertEquals(List.of(este.canchaId(), oeste.canchaId()), ids(indice.consultar(-16.5, 179.9995, 1, 10)));
+    }
+
+    @Test
+    void elRadioIncluyeLoQueEstaDentroYExcluyeLoQueQuedaFuera() throws Exception {
+        var dentro = cancha("dentro", 6.0 + 4.9 / KM_POR_GRADO, -75.5);
+        var fuera = cancha("fuera", 6.0 + 5.1 / KM_POR_GRADO, -75.5);
+        cargar(dentro, fuera);
+
+        assertEquals(List.of(dentro.canchaId()), ids(indice.consultar(6.0, -75.5, 5.0, 10)));
+    }
+
+    @Test
+    void conLimiteDevuelveLasMasCercanasEnOrden() throws Exception {
+        var canchas = new ArrayList<CanchaGeolocalizada>();
+        for (int i = 10; i >= 1; i--) {
+            canchas.add(cancha("a " + i + " km", 6.0 + i / KM_POR_GRADO, -75.5));
+        }
+        cargar(canchas.toArray(CanchaGeolocalizada[]::new));
+
+        var cercanas = indice.consultar(6.0, -75.5, 20, 3);
+
+        assertEquals(List.of("a 1 km", "a 2 km", "a 3 km"), cercanas.stream().map(CanchaCercana::nombre).toList());
+    }
+
+    // Con muchas canchas se recorren celdas; con pocas o con radio grande, todo el índice
+    @Test
+    void elResultadoEsElMismoQueMedirTodasLasCanchas() throws Exception {
+        var aleatorio = new Random(7);
+        var canchas = new ArrayList<CanchaGeolocalizada>();
+        for (int i = 0; i < 2_000; i++) {
+            canchas.add(cancha("cancha " + i, 6.0 + aleatorio.nextDouble() * 0.6, -75.8 + aleatorio.nextDouble() * 0.6));
+        }
+
+        for (int cantidad : new int[]{3, 2_000}) {
+            var cargadas = canchas.subList(0, cantidad);
+            cargar(cargadas.toArray(CanchaGeolocalizada[]::new));
+            for (double radio : new double[]{0.5, 2, 5, 30, 100}) {
+                for (int consulta = 0; consulta < 20; consulta++) {
+                    var latitud = 6.0 + aleatorio.nextDouble() * 0.6;
+                    var longitud = -75.8 + aleatorio.nextDouble() * 0.6;
+                    assertEquals(medirTodas(cargadas, latitud, longitud, radio, 25),
+                            ids(indice.consultar(latitud, longitud, radio, 25)), "radio " + radio + " con " + cantidad);
+                }
+            }
+        }
+    }
+
+    private static List<UUID> medirTodas(final List<CanchaGeolocalizada> canchas, final double latitud,
+                                         final double longitud, final double radioKm, final int limite) {
+        return canchas.stream()
+                .filter(cancha -> distancia(cancha, latitud, longitud) <= radioKm)
+                .sorted(Comparator.comparingDouble(cancha -> distancia(cancha, latitud, longitud)))
+                .limit(limite)
+                .map(CanchaGeolocalizada::canchaId)
+                .toList();
+    }
+
+    private static double distancia(final CanchaGeolocalizada cancha, final double latitud, final double longitud) {
+        return IndiceGeograficoCanchas.calcularDistanciaKm(latitud, longitud, cancha.latitud(), cancha.longitud());
+    }
+
+    private void cargar(final CanchaGeolocalizada... canchas) throws Exception {
+        indice.cargar(consumidor -> List.of(canchas).forEach(consumidor));
+    }
+
+    private static CanchaGeolocalizada cancha(final String nombre, final double latitud, final double longitud) {
+        return new CanchaGeolocalizada(UUID.randomUUID(), nombre, UUID.randomUUID(), latitud, longitud);
+    }
+
+    private static List<UUID> ids(final List<CanchaCercana> cercanas) {
+        return cercanas.stream().map(CanchaCercana::canchaId).toList();
+    }
+}
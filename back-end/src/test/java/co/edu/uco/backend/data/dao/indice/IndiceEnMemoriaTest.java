@@ -0,0 +1,79 @@
+package co.edu.uco.backend.data.dao.indice;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Varias solicitudes que encuentran el índice sin cargar disparan una sola lectura de la fuente.
+ */
+class IndiceEnMemoriaTest {
+
+    private static final class IndicePrueba extends IndiceEnMemoria<UUID, Map<UUID, UUID>> {
+
+        private IndicePrueba() {
+            super(HashMap::new);
+        }
+
+        private int tamano() {
+            return leer(Map::size);
+        }
+
+        @Override
+        protected UUID obtenerId(final UUID ficha) {
+            return ficha;
+        }
+
+        @Override
+        protected void registrar(final Map<UUID, UUID> estructura, final UUID ficha) {
+            estructura.put(ficha, ficha);
+        }
+
+        @Override
+        protected void eliminar(final Map<UUID, UUID> estructura, final UUID id) {
+            estructura.remove(id);
+        }
+    }
+
+    @Test
+    void lasPrimerasConsultasSimultaneasCarganElIndiceUnaSolaVez() throws Exception {
+        var indice = new IndicePrueba();
+        var recorridos = new AtomicInteger();
+        var salida = new CountDownLatch(1);
+        var hilos = new ArrayList<Thread>();
+        for (int i = 0; i < 16; i++) {
+            var hilo = new Thread(() -> {
+                try {
+                    salida.await();
+                    indice.cargarSiHaceFalta(consumidor -> {
+                        recorridos.incrementAndGet();
+                        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(20));
+                        consumidor.accept(UUID.randomUUID());
+                    });
+                } catch (Exception exception) {
+                    throw new IllegalStateException(exception);
+                }
+            });
+            hilo.start();
+            hilos.add(hilo);
+        }
+        salida.countDown();
+        for (Thread hilo : hilos) {
+            hilo.join();
+        }
+
+        assertEquals(1, recorridos.get());
+        assertTrue(indice.estaCargado());
+        assertEquals(1, indice.tamano());
+    }
+}
@@ -0,0 +1,84 @@
+package co.edu.uco.backend.data.dao.memoria;
+
+import co.edu.uco.backend.crosscutting.exceptions.DataBackEndException;
+import co.edu.uco.backend.crosscutting.utilitarios.UtilUUID;
+import co.edu.uco.backend.entity.ClienteEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SesionMemoriaTest {
+
+    private final BaseDatosMemoria baseDatos = BaseDatosMemoria.getInstance();
+    private final TablaMemoria<ClienteEntity> clientes = baseDatos.getClientes();
+
+    @AfterEach
+    void vaciar() {
+        baseDatos.vaciar();
+    }
+
+    @Test
+    void laSegundaTransaccionQueModificaLaMismaFilaNoPisaLaPrimera() throws Exception {
+        var id = registrar("Ana");
+        var primera = baseDatos.abrirSesion();
+        var segunda = baseDatos.abrirSesion();
+        primera.iniciarTransaccion();
+        segunda.iniciarTransaccion();
+
+        primera.modificar(clientes, id, cliente(id, "Primera"));
+        segunda.modificar(clientes, id, cliente(id, "Segunda"));
+        primera.confirmarTransaccion();
+
+        assertThrows(DataBackEndException.class, segunda::confirmarTransaccion);
+        segunda.cancelarTransaccion();
+        assertEquals("Primera", baseDatos.abrirSesion().consultarPorId(clientes, id).getNombre());
+    }
+
+    @Test
+    void modificarUnaFilaBorradaPorOtraTransaccionNoLaVuelveACrear() throws Exception {
+        var id = registrar("Ana");
+        var modifica = baseDatos.abrirSesion();
+        modifica.iniciarTransaccion();
+        modifica.modificar(clientes, id, cliente(id, "Modificada"));
+
+        baseDatos.abrirSesion().eliminar(clientes, id);
+
+        assertThrows(DataBackEndException.class, modifica::confirmarTransaccion);
+        modifica.cancelarTransaccion();
+        assertNull(baseDatos.abrirSesion().consultarPorId(clientes, id));
+    }
+
+    @Test
+    void transaccionesSobreFilasDistintasConfirmanAmbas() throws Exception {
+        var ana = registrar("Ana");
+        var luis = registrar("Luis");
+        var primera = baseDatos.abrirSesion();
+        var segunda = baseDatos.abrirSesion();
+        primera.iniciarTransaccion();
+        segunda.iniciarTransaccion();
+
+        primera.modificar(clientes, ana, cliente(ana, "Ana María"));
+        segunda.modificar(clientes, luis, cliente(luis, "Luis Carlos"));
+        primera.confirmarTransaccion();
+        segunda.confirmarTransaccion();
+
+        var lectura = baseDatos.abrirSesion();
+        assertEquals("Ana María", lectura.consultarPorId(clientes, ana).getNombre());
+        assertEquals("Luis Carlos", lectura.consultarPorId(clientes, luis).getNombre());
+    }
+
+    private UUID registrar(final String nombre) throws Exception {
+        var id = UtilUUID.generarNuevoUUIDOrdenado();
+        baseDatos.abrirSesion().crear(clientes, cliente(id, nombre));
+        return id;
+    }
+
+    private static ClienteEntity cliente(final UUID id, final String nombre) {
+        return new ClienteEntity(id, nombre, nombre.toLowerCase(), "", "+57", "3000000000");
+    }
+}
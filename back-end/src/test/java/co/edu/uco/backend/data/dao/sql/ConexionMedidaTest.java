@@ -0,0 +1,91 @@
+package co.edu.uco.backend.data.dao.sql;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGStatement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Las métricas del caché de sentencias no dependen del registro de consultas lentas: con el
+ * registro deshabilitado las ejecuciones se siguen contando, pero no se cronometran.
+ */
+class ConexionMedidaTest {
+
+    private static final String SQL = "SELECT codigocancha FROM doodb.cancha WHERE nombre = ?";
+
+    private final SimpleMeterRegistry metricas = new SimpleMeterRegistry();
+    private Connection conexion;
+
+    @BeforeEach
+    void prepararConexion() throws Exception {
+        Metrics.addRegistry(metricas);
+        EstadisticaSentenciasPreparadas.getInstance();
+
+        var sentencia = mock(PreparedStatement.class);
+        var sentenciaPostgreSQL = mock(PGStatement.class);
+        when(sentencia.isWrapperFor(PGStatement.class)).thenReturn(true);
+        when(sentencia.unwrap(PGStatement.class)).thenReturn(sentenciaPostgreSQL);
+        when(sentenciaPostgreSQL.isUseServerPrepare()).thenReturn(true);
+        conexion = mock(Connection.class);
+        when(conexion.prepareStatement(anyString())).thenReturn(sentencia);
+    }
+
+    @AfterEach
+    void restaurar() {
+        RegistroConsultasLentas.getInstance().configurar(true, Duration.ofMillis(200).toNanos(), 2000, 10, false);
+        Metrics.removeRegistry(metricas);
+    }
+
+    @Test
+    void sinRegistroDeConsultasLentasLasEjecucionesSeSiguenContando() throws Exception {
+        RegistroConsultasLentas.getInstance().configurar(false, Duration.ofMillis(200).toNanos(), 2000, 10, false);
+        var antes = ejecucionesEnServidor();
+        var cronometradasAntes = ejecucionesCronometradas();
+
+        try (var sentencia = ConexionMedida.envolver(conexion).prepareStatement(SQL)) {
+            sentencia.setString(1, "Cancha Norte");
+            sentencia.executeQuery();
+            sentencia.executeQuery();
+        }
+
+        assertEquals(antes + 2, ejecucionesEnServidor());
+        assertEquals(cronometradasAntes, ejecucionesCronometradas());
+    }
+
+    @Test
+    void conRegistroDeConsultasLentasSeCuentanYSeCronometran() throws Exception {
+        var antes = ejecucionesEnServidor();
+        var cronometradasAntes = ejecucionesCronometradas();
+
+        try (var sentencia = ConexionMedida.envolver(conexion).prepareStatement(SQL)) {
+            sentencia.setString(1, "Cancha Norte");
+            sentencia.executeQuery();
+        }
+
+        assertEquals(antes + 1, ejecucionesEnServidor());
+        assertEquals(cronometradasAntes + 1, ejecucionesCronometradas());
+    }
+
+    private static long ejecucionesCronometradas() {
+        return RegistroConsultasLentas.getInstance().consultarMasCostosas(Integer.MAX_VALUE).stream()
+                .filter(estadistica -> estadistica.huella().contains("doodb.cancha where nombre"))
+                .mapToLong(EstadisticaConsulta::ejecuciones)
+                .sum();
+    }
+
+    private double ejecucionesEnServidor() {
+        var contador = metricas.find("dao.sentencias.ejecuciones").tag("preparacion", "servidor").counter();
+        return contador == null ? 0 : contador.count();
+    }
+}